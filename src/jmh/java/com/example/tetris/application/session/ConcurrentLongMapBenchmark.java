@@ -0,0 +1,93 @@
+package com.example.tetris.application.session;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ConcurrentLongMap}と{@code ConcurrentHashMap<Long, String>}を比較するJMHベンチマーク。
+ *
+ * <p>多数のセッショントークンを登録した状態で、検索（操作ごとのトークンの解決）、
+ * 削除と再追加（セッションの入れ替わり）、全件の走査（ティックのスケジューラー）を計測します。
+ * キーのボックス化とノードの割り当ては{@code -prof gc}で比較します。</p>
+ *
+ * <pre>{@code
+ * ./gradlew jmh -Pjmh.includes=ConcurrentLongMapBenchmark
+ * }</pre>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class ConcurrentLongMapBenchmark {
+
+    @Param({"long-map", "chm"})
+    public String map;
+
+    @Param({"100000"})
+    public int sessions;
+
+    private ConcurrentLongMap<String> longMap;
+    private ConcurrentHashMap<Long, String> hashMap;
+    private long[] keys;
+    private String[] values;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        longMap = new ConcurrentLongMap<>();
+        hashMap = new ConcurrentHashMap<>();
+        keys = new long[sessions];
+        values = new String[sessions];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < sessions; i++) {
+            keys[i] = SessionToken.of(i, random.nextLong()).value();
+            values[i] = "session-" + i;
+            longMap.put(keys[i], values[i]);
+            hashMap.put(keys[i], values[i]);
+        }
+    }
+
+    @Benchmark
+    public String get() {
+        long key = keys[ThreadLocalRandom.current().nextInt(keys.length)];
+        return "chm".equals(map) ? hashMap.get(key) : longMap.get(key);
+    }
+
+    @Benchmark
+    public String removeAndPut() {
+        int i = ThreadLocalRandom.current().nextInt(keys.length);
+        if ("chm".equals(map)) {
+            hashMap.remove(keys[i]);
+            return hashMap.put(keys[i], values[i]);
+        }
+        longMap.remove(keys[i]);
+        return longMap.put(keys[i], values[i]);
+    }
+
+    @Benchmark
+    @Threads(1)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void iterate(Blackhole blackhole) {
+        if ("chm".equals(map)) {
+            hashMap.forEach((key, value) -> blackhole.consume(value));
+        } else {
+            longMap.forEach((key, value) -> blackhole.consume(value));
+        }
+    }
+}
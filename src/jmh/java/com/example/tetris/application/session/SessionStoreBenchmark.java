@@ -0,0 +1,69 @@
+package com.example.tetris.application.session;
+
+import com.example.tetris.domain.GameCommand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ヒープ上のマップ（{@link HeapSessionStore}）とダイレクトメモリ上のスロット
+ * （{@link OffHeapSessionStore}）のセッションストアを比較するJMHベンチマーク。
+ *
+ * <p>多数のセッションを常駐させた状態で、ランダムなセッションにランダムな操作を適用します。
+ * GCの停止時間は{@code -prof gc}の割り当て量と、GCログ（{@code -Xlog:gc}）で比較します。</p>
+ *
+ * <pre>{@code
+ * ./gradlew jmh -Pjmh.includes=SessionStoreBenchmark
+ * }</pre>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class SessionStoreBenchmark {
+
+    private static final GameCommand[] COMMANDS = GameCommand.values();
+
+    @Param({"heap", "off-heap"})
+    public String store;
+
+    @Param({"100000"})
+    public int sessions;
+
+    private SessionStore sessionStore;
+    private String[] sessionIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionStore = "heap".equals(store)
+                ? new HeapSessionStore(sessions)
+                : new OffHeapSessionStore(sessions);
+        sessionIds = new String[sessions];
+        for (int i = 0; i < sessions; i++) {
+            sessionIds[i] = "session-" + i;
+            sessionStore.execute(sessionIds[i], GameSession::state);
+        }
+    }
+
+    @Benchmark
+    public Object applyCommand() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String sessionId = sessionIds[random.nextInt(sessionIds.length)];
+        GameCommand command = COMMANDS[random.nextInt(COMMANDS.length)];
+        return sessionStore.execute(sessionId, session -> session.apply(command));
+    }
+}
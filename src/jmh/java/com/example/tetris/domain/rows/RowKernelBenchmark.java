@@ -0,0 +1,92 @@
+package com.example.tetris.domain.rows;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * スカラー版とベクトル版の{@link RowKernel}を比較するJMHベンチマーク。
+ *
+ * <p>ボットの一括評価を想定し、10×20の盤面を連続して格納した配列に対して、
+ * 全盤面の埋まった行の計数、盤面ごとの列の高さと衝突判定を測定します。</p>
+ *
+ * <pre>{@code
+ * ./gradlew jmh
+ * }</pre>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RowKernelBenchmark {
+
+    private static final int WIDTH = 10;
+    private static final int HEIGHT = 20;
+    private static final int FULL_ROW = (1 << WIDTH) - 1;
+
+    @Param({"scalar", "vector"})
+    public String kernel;
+
+    @Param({"1000"})
+    public int boards;
+
+    private RowKernel rowKernel;
+    private int[] rows;
+    private int[] pieces;
+    private int[] heights;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        rowKernel = "vector".equals(kernel)
+                ? RowKernels.vector().orElseThrow(() -> new IllegalStateException("jdk.incubator.vector is not available"))
+                : ScalarRowKernel.INSTANCE;
+
+        Random random = new Random(42);
+        rows = new int[boards * HEIGHT];
+        pieces = new int[boards * HEIGHT];
+        heights = new int[boards * WIDTH];
+        for (int board = 0; board < boards; board++) {
+            int top = random.nextInt(HEIGHT);
+            for (int y = top; y < HEIGHT; y++) {
+                rows[board * HEIGHT + y] = random.nextInt(8) == 0 ? FULL_ROW : random.nextInt(FULL_ROW);
+            }
+            pieces[board * HEIGHT + Math.max(0, top - 1)] = 0b111 << 3;
+        }
+    }
+
+    @Benchmark
+    public int countFullRows() {
+        return rowKernel.countFullRows(rows, 0, rows.length, FULL_ROW);
+    }
+
+    @Benchmark
+    public int[] columnHeights() {
+        for (int board = 0; board < boards; board++) {
+            rowKernel.columnHeights(rows, board * HEIGHT, HEIGHT, WIDTH, heights, board * WIDTH);
+        }
+        return heights;
+    }
+
+    @Benchmark
+    public int overlaps() {
+        int collisions = 0;
+        for (int board = 0; board < boards; board++) {
+            if (rowKernel.overlaps(rows, board * HEIGHT, pieces, board * HEIGHT, HEIGHT)) {
+                collisions++;
+            }
+        }
+        return collisions;
+    }
+}
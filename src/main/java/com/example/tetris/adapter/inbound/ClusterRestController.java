@@ -0,0 +1,333 @@
+package com.example.tetris.adapter.inbound;
+
+import com.example.tetris.adapter.outbound.HttpSessionForwardingAdapter;
+import com.example.tetris.application.cluster.ClusterNode;
+import com.example.tetris.application.cluster.MigrationResult;
+import com.example.tetris.application.cluster.RebalanceResult;
+import com.example.tetris.application.cluster.SessionMigrator;
+import com.example.tetris.application.cluster.SessionRouter;
+import com.example.tetris.application.dto.CommandBatchRequestDTO;
+import com.example.tetris.application.dto.CommandBatchResultDTO;
+import com.example.tetris.application.dto.SessionTokenDTO;
+import com.example.tetris.application.session.ReplayUnavailableException;
+import com.example.tetris.application.session.SessionMovedException;
+import com.example.tetris.application.usecase.ApplyCommandsUseCaseImpl;
+import com.example.tetris.domain.replay.Replay;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+/**
+ * ノード間の内部REST APIコントローラー。
+ *
+ * <p>ヘキサゴナルアーキテクチャにおける「Inbound Adapter」として、
+ * 他のノードから転送されたセッションの操作を自ノードのApplyCommandsUseCaseImplで処理します。
+ * 転送された操作はさらに転送しないため、ノード間でリングの構成が一時的に食い違っても
+ * 転送がループすることはありません。</p>
+ *
+ * <p>転送されたセッションが自ノードに存在せず、自ノードの割り当てでもない場合（送信元のリングや
+ * 移動先の記録が古い場合）は、リングの切り替え中を除いて409 Conflictと割り当て先のノードIDを返し、
+ * 送信元が割り当て先に送り直します。</p>
+ *
+ * <h3>エンドポイント（ノード間）:</h3>
+ * <ul>
+ *   <li>POST /internal/cluster/sessions/{sessionId} - セッションの開始とセッショントークンの発行</li>
+ *   <li>POST /internal/cluster/commands - 操作列の一括適用</li>
+ *   <li>GET /internal/cluster/replays/{sessionId} - セッションの入力ログ（{@link Replay#toBytes()}の形式）</li>
+ *   <li>DELETE /internal/cluster/sessions/{sessionId} - セッションの削除</li>
+ *   <li>POST /internal/cluster/handoffs/{sessionId} - 他のノードから移動するセッションの受け入れ（本文は入力ログ）</li>
+ *   <li>PUT /internal/cluster/placements/{sessionId}?owner= - セッションの移動先の記録</li>
+ *   <li>POST /internal/cluster/members/{nodeId}?uri= - ノードの参加（参加するノードの担当分の移動後に応答）</li>
+ *   <li>DELETE /internal/cluster/members/{nodeId} - ノードの離脱</li>
+ * </ul>
+ *
+ * <h3>エンドポイント（運用）:</h3>
+ * <ul>
+ *   <li>POST /internal/cluster/migrations/{sessionId}?target= - 自ノードのセッションを指定したノードに移動</li>
+ *   <li>POST /internal/cluster/drain - 自ノードのすべてのセッションを移動してクラスタから離脱</li>
+ *   <li>POST /internal/cluster/join - クラスタに参加し、自ノードの担当分を他のノードから移動</li>
+ * </ul>
+ *
+ * <p>応答のステータスコードは公開APIと同じです（{@link GameCommandRestController}を参照）。
+ * 内部APIへの要求は{@link ClusterSecretFilter}がクラスタの共有シークレットで認証し、一致しない要求は
+ * このコントローラーに届く前に401 Unauthorizedで拒否されます。加えて、内部APIはクラスタ内のネットワークからのみ
+ * 到達できるように公開範囲を制限してください。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+@RestController
+@RequestMapping(HttpSessionForwardingAdapter.INTERNAL_PATH)
+@ConditionalOnProperty(name = "tetris.cluster.nodes")
+public class ClusterRestController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterRestController.class);
+
+    private final ApplyCommandsUseCaseImpl applyCommandsUseCase;
+    private final SessionRouter sessionRouter;
+    private final SessionMigrator sessionMigrator;
+
+    /**
+     * 公開APIと同じ変換で自ノードのユースケースを呼び出すコントローラー。
+     */
+    private final GameCommandRestController local;
+
+    /**
+     * コンストラクタインジェクション。
+     *
+     * @param applyCommandsUseCase 自ノードのセッションを処理する操作列一括適用ユースケース
+     * @param sessionRouter セッションの所有ノードを求めるルーター
+     * @param sessionMigrator セッションを他のノードに移動させるサービス
+     */
+    public ClusterRestController(ApplyCommandsUseCaseImpl applyCommandsUseCase, SessionRouter sessionRouter,
+                                 SessionMigrator sessionMigrator) {
+        this.applyCommandsUseCase = applyCommandsUseCase;
+        this.sessionRouter = sessionRouter;
+        this.sessionMigrator = sessionMigrator;
+        this.local = new GameCommandRestController(applyCommandsUseCase);
+    }
+
+    /**
+     * 転送されたセッション開始要求を処理します。
+     *
+     * @param sessionId セッションID
+     * @return セッショントークン
+     */
+    @PostMapping("/sessions/{sessionId}")
+    public ResponseEntity<SessionTokenDTO> openSession(@PathVariable String sessionId) {
+        SessionMovedException misrouted = misrouted(sessionId);
+        return (misrouted != null) ? GameCommandRestController.moved(misrouted) : local.openSession(sessionId);
+    }
+
+    /**
+     * 転送された操作列を一括で適用します（セッショントークンのない要求はセッションIDで適用）。
+     *
+     * @param request セッションIDと操作列
+     * @return 一括適用結果
+     */
+    @PostMapping("/commands")
+    public ResponseEntity<CommandBatchResultDTO> applyCommands(@RequestBody CommandBatchRequestDTO request) {
+        SessionMovedException misrouted = misrouted(request.sessionId());
+        return (misrouted != null) ? GameCommandRestController.moved(misrouted) : local.apply(request, false);
+    }
+
+    /**
+     * セッションの入力ログを返します。
+     *
+     * <h3>レスポンス:</h3>
+     * <ul>
+     *   <li>200 OK: 入力ログ（application/octet-stream）</li>
+     *   <li>404 Not Found: セッションが存在しない</li>
+     *   <li>409 Conflict: セッションが他のノードに移動した</li>
+     *   <li>410 Gone: セッションはスナップショットから復元したため入力ログがない</li>
+     * </ul>
+     *
+     * @param sessionId セッションID
+     * @return 入力ログ
+     */
+    @GetMapping("/replays/{sessionId}")
+    public ResponseEntity<byte[]> findReplay(@PathVariable String sessionId) {
+        SessionMovedException misrouted = misrouted(sessionId);
+        if (misrouted != null) {
+            return GameCommandRestController.moved(misrouted);
+        }
+        try {
+            return applyCommandsUseCase.findReplay(sessionId)
+                    .map(replay -> ResponseEntity.ok().contentType(MediaType.APPLICATION_OCTET_STREAM).body(replay.toBytes()))
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (SessionMovedException e) {
+            return GameCommandRestController.moved(e);
+        } catch (ReplayUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.GONE).build();
+        }
+    }
+
+    /**
+     * セッションを削除します（存在しない場合も成功）。
+     *
+     * <h3>レスポンス:</h3>
+     * <ul>
+     *   <li>204 No Content: 削除した</li>
+     *   <li>409 Conflict: セッションが他のノードに移動した</li>
+     * </ul>
+     *
+     * @param sessionId セッションID
+     * @return 204 No Content
+     */
+    @DeleteMapping("/sessions/{sessionId}")
+    public ResponseEntity<Void> removeSession(@PathVariable String sessionId) {
+        SessionMovedException misrouted = misrouted(sessionId);
+        if (misrouted != null) {
+            return GameCommandRestController.moved(misrouted);
+        }
+        try {
+            applyCommandsUseCase.removeSession(sessionId);
+        } catch (SessionMovedException e) {
+            return GameCommandRestController.moved(e);
+        }
+        logger.debug("転送されたセッションを削除しました: {}", sessionId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 他のノードから移動するセッションを、入力ログを再生して受け入れます。
+     *
+     * <h3>レスポンス:</h3>
+     * <ul>
+     *   <li>204 No Content: 受け入れた（同じ入力ログのセッションを既に受け入れている場合を含む）</li>
+     *   <li>400 Bad Request: セッションIDまたは入力ログが不正</li>
+     *   <li>503 Service Unavailable: 異なる入力ログのセッションが既に存在する、空きがない、または受け入れ制御で受け入れられない</li>
+     * </ul>
+     *
+     * @param sessionId セッションID
+     * @param body 入力ログ（{@link Replay#toBytes()}の形式）
+     * @return 204 No Content
+     */
+    @PostMapping(path = "/handoffs/{sessionId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<Void> adopt(@PathVariable String sessionId, @RequestBody byte[] body) {
+        try {
+            applyCommandsUseCase.adopt(sessionId, Replay.fromBytes(body));
+        } catch (NullPointerException | IllegalArgumentException e) {
+            logger.warn("不正なセッションの引き渡しを受信しました: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            logger.warn("引き渡されたセッションを受け入れられません: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        logger.debug("引き渡されたセッションを受け入れました: {}", sessionId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 他のノードが移動させたセッションの移動先を記録します。
+     *
+     * @param sessionId セッションID
+     * @param owner 移動先のノードID
+     * @return 204 No Content（ノードIDが不明な場合は400 Bad Request）
+     */
+    @PutMapping("/placements/{sessionId}")
+    public ResponseEntity<Void> place(@PathVariable String sessionId, @RequestParam String owner) {
+        return sessionRouter.place(sessionId, owner)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.badRequest().build();
+    }
+
+    /**
+     * ノードの参加を受けてリングを切り替え、参加するノードに割り当てられたセッションを移動させます。
+     *
+     * @param nodeId 参加するノードのノードID
+     * @param uri 参加するノードのベースURI
+     * @return 204 No Content（ノードが不正な場合は400 Bad Request）
+     */
+    @PostMapping("/members/{nodeId}")
+    public ResponseEntity<Void> onJoin(@PathVariable String nodeId, @RequestParam String uri) {
+        ClusterNode node;
+        try {
+            node = new ClusterNode(nodeId, URI.create(uri));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        RebalanceResult result = sessionMigrator.onJoin(node);
+        logger.info("ノード {} が参加しました（移動 {}件、失敗 {}件）", nodeId, result.migrated(), result.failed());
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * ノードの離脱を受けてリングを切り替えます。
+     *
+     * @param nodeId 離脱するノードのノードID
+     * @return 204 No Content（自ノードの場合は400 Bad Request）
+     */
+    @DeleteMapping("/members/{nodeId}")
+    public ResponseEntity<Void> onLeave(@PathVariable String nodeId) {
+        try {
+            sessionMigrator.onLeave(nodeId);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        logger.info("ノード {} が離脱しました", nodeId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 自ノードのセッションを指定したノードに移動します。
+     *
+     * <h3>レスポンス:</h3>
+     * <ul>
+     *   <li>200 OK: 移動結果（セッションが存在しない場合はmigrated=false）</li>
+     *   <li>400 Bad Request: 移動先のノードが不明、または自ノード</li>
+     *   <li>410 Gone: セッションはスナップショットから復元したため入力ログがなく、移動できない</li>
+     *   <li>503 Service Unavailable: 移動先が受け入れられない（セッションは自ノードに残る）</li>
+     * </ul>
+     *
+     * @param sessionId セッションID
+     * @param target 移動先のノードID
+     * @return 移動結果
+     */
+    @PostMapping("/migrations/{sessionId}")
+    public ResponseEntity<MigrationResult> migrate(@PathVariable String sessionId, @RequestParam String target) {
+        try {
+            return ResponseEntity.ok(sessionMigrator.migrate(sessionId, target));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (ReplayUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.GONE).build();
+        } catch (IllegalStateException e) {
+            logger.warn("セッション {} を {} に移動できません: {}", sessionId, target, e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    /**
+     * 自ノードのすべてのセッションを他のノードに移動し、クラスタから離脱します。
+     *
+     * <p>移動に失敗したセッションがある場合（{@code failed > 0}）は離脱を通知しないため、再度要求してください。</p>
+     *
+     * @return 切り替えの結果（他のノードがない場合は400 Bad Request）
+     */
+    @PostMapping("/drain")
+    public ResponseEntity<RebalanceResult> drain() {
+        try {
+            return ResponseEntity.ok(sessionMigrator.drain());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * クラスタに参加し、他のノードから自ノードに割り当てられたセッションを移動させます。
+     *
+     * @return 204 No Content（他のノードに到達できない場合は503 Service Unavailable）
+     */
+    @PostMapping("/join")
+    public ResponseEntity<Void> join() {
+        try {
+            sessionMigrator.join();
+        } catch (IllegalStateException e) {
+            logger.warn("クラスタに参加できません: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 転送されたセッションが自ノードに存在せず、自ノードの割り当てでもない場合に、割り当て先を示す例外を返します。
+     *
+     * @param sessionId セッションID（nullの場合は判定しない）
+     * @return 割り当て先を示す例外（自ノードで処理する場合はnull）
+     */
+    private SessionMovedException misrouted(String sessionId) {
+        if (sessionId == null || sessionRouter.inTransition() || applyCommandsUseCase.hasSession(sessionId)) {
+            return null;
+        }
+        ClusterNode owner = sessionRouter.assignedOwner(sessionId);
+        return owner.equals(sessionRouter.self()) ? null : new SessionMovedException(sessionId, owner.id());
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.tetris.adapter.inbound;
+
+import com.example.tetris.adapter.outbound.HttpSessionForwardingAdapter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Objects;
+
+/**
+ * ノード間の内部API（{@code /internal/**}）への要求を、クラスタの共有シークレットで認証するフィルター。
+ *
+ * <p>内部APIはセッションの受け入れ（入力ログの引き渡し）やドレインなど、クライアントに公開しない操作を
+ * 公開APIと同じポートで受け付けます。{@value HttpSessionForwardingAdapter#SECRET_HEADER}ヘッダーの値が
+ * 共有シークレットと一致しない要求は401 Unauthorizedで拒否し、コントローラーに渡しません。
+ * 比較は一致しない位置によらず一定時間で行います。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see HttpSessionForwardingAdapter
+ */
+public class ClusterSecretFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterSecretFilter.class);
+
+    /**
+     * 共有シークレットの最小長（文字数）。
+     */
+    public static final int MIN_SECRET_LENGTH = 16;
+
+    private final byte[] secret;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param secret クラスタの共有シークレット（{@value #MIN_SECRET_LENGTH}文字以上）
+     * @throws NullPointerException secretがnullの場合
+     * @throws IllegalArgumentException secretが短すぎる場合
+     */
+    public ClusterSecretFilter(String secret) {
+        Objects.requireNonNull(secret, "secret must not be null");
+        if (secret.length() < MIN_SECRET_LENGTH) {
+            throw new IllegalArgumentException(
+                    "cluster secret must be at least " + MIN_SECRET_LENGTH + " characters");
+        }
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String presented = request.getHeader(HttpSessionForwardingAdapter.SECRET_HEADER);
+        if (presented == null || !MessageDigest.isEqual(secret, presented.getBytes(StandardCharsets.UTF_8))) {
+            logger.warn("内部APIへの認証されていない要求を拒否しました: {} {} from {}",
+                    request.getMethod(), request.getRequestURI(), request.getRemoteAddr());
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.tetris.adapter.inbound;
+
+import com.example.tetris.adapter.outbound.HttpSessionForwardingAdapter;
+import com.example.tetris.application.dto.CommandBatchRequestDTO;
+import com.example.tetris.application.dto.CommandBatchResultDTO;
+import com.example.tetris.application.dto.SessionTokenDTO;
+import com.example.tetris.application.session.SessionAdmission;
+import com.example.tetris.application.session.SessionExpiredException;
+import com.example.tetris.application.session.SessionMovedException;
+import com.example.tetris.application.session.SessionNotAdmittedException;
+import com.example.tetris.application.session.SessionToken;
+import com.example.tetris.application.usecase.ApplyCommandsUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * ゲーム操作REST APIコントローラー。
+ *
+ * <p>ヘキサゴナルアーキテクチャにおける「Inbound Adapter」として、
+ * クライアントがバッファリングした操作列をApplyCommandsUseCaseに橋渡しします。</p>
+ *
+ * <h3>エンドポイント:</h3>
+ * <ul>
+ *   <li>POST /api/game/sessions/{sessionId} - セッションの開始とセッショントークンの発行</li>
+ *   <li>POST /api/game/commands - 操作列の一括適用</li>
+ * </ul>
+ *
+ * <p>クライアントはハンドシェイクで発行されたトークンを操作列の要求に必ず指定します（操作ごとの
+ * セッションIDの検証は行いません）。複数のノードでセッションを分担する場合は、
+ * トークンを発行したノードに転送するため、トークンと合わせてセッションIDも指定します。
+ * セッションが他のノードから移動してきた後など、トークンがそのセッションに対して有効でなくなった場合は
+ * X-Session-Ownerヘッダーのない409 Conflictを返すので、クライアントはハンドシェイクからやり直します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+@RestController
+@CrossOrigin(origins = "*") // フロントエンド接続許可（本番環境では適切なオリジンに制限）
+public class GameCommandRestController {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameCommandRestController.class);
+
+    /**
+     * 受け入れられなかったセッションに再要求を促すまでの秒数（Retry-Afterヘッダー）。
+     */
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final ApplyCommandsUseCase applyCommandsUseCase;
+
+    /**
+     * コンストラクタインジェクション。
+     *
+     * @param applyCommandsUseCase 操作列一括適用ユースケース
+     */
+    public GameCommandRestController(ApplyCommandsUseCase applyCommandsUseCase) {
+        this.applyCommandsUseCase = applyCommandsUseCase;
+    }
+
+    /**
+     * セッション開始（ハンドシェイク）エンドポイント。
+     *
+     * <h3>HTTPメソッド: POST</h3>
+     * <h3>パス: /api/game/sessions/{sessionId}</h3>
+     *
+     * <h3>レスポンス:</h3>
+     * <ul>
+     *   <li>200 OK: セッションIDとセッショントークン</li>
+     *   <li>202 Accepted: 空きがないため待機ロビーで待機中（待機順位を返すので、同じセッションIDで再度要求する）</li>
+     *   <li>400 Bad Request: セッションIDが不正</li>
+     *   <li>409 Conflict: セッションが他のノードに移動した（X-Session-Ownerヘッダーに移動先のノードID）、
+     *       またはハンドシェイク中にセッションが破棄された（ヘッダーなし、再度要求する）</li>
+     *   <li>503 Service Unavailable: 待機ロビーが満員、または最大セッション数に達している</li>
+     * </ul>
+     *
+     * @param sessionId セッションID
+     * @return セッショントークン
+     */
+    @PostMapping("/api/game/sessions/{sessionId}")
+    public ResponseEntity<SessionTokenDTO> openSession(@PathVariable String sessionId) {
+        try {
+            SessionToken token = applyCommandsUseCase.openSession(sessionId);
+            return ResponseEntity.ok(SessionTokenDTO.admitted(sessionId, token.toString()));
+        } catch (NullPointerException | IllegalArgumentException e) {
+            logger.debug("不正なセッションIDを受信しました: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (SessionNotAdmittedException e) {
+            if (e.admission().status() == SessionAdmission.Status.QUEUED) {
+                return ResponseEntity.status(HttpStatus.ACCEPTED)
+                        .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                        .body(SessionTokenDTO.queued(sessionId, e.admission().lobbyPosition()));
+            }
+            logger.warn("待機ロビーが満員のためセッションを受け入れられません: {}", sessionId);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS).build();
+        } catch (SessionMovedException e) {
+            logger.debug("セッションは移動済みです: {}", e.getMessage());
+            return moved(e);
+        } catch (SessionExpiredException e) {
+            logger.debug("セッションは無効になりました: {}", e.getMessage());
+            return expired();
+        } catch (IllegalStateException e) {
+            logger.warn("セッションを作成できません: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    /**
+     * 操作列一括適用エンドポイント。
+     *
+     * <h3>HTTPメソッド: POST</h3>
+     * <h3>パス: /api/game/commands</h3>
+     *
+     * <h3>レスポンス:</h3>
+     * <ul>
+     *   <li>200 OK: 最終状態と操作ごとの受理フラグ</li>
+     *   <li>400 Bad Request: セッショントークンがない、またはセッションID、セッショントークン、操作列が不正</li>
+     *   <li>409 Conflict: セッションが他のノードに移動した（X-Session-Ownerヘッダーに移動先のノードID）、
+     *       またはトークンがセッションに対して有効でない（ヘッダーなし、ハンドシェイクからやり直す）</li>
+     *   <li>429 Too Many Requests: セッションの待機中の操作数が上限に達している</li>
+     *   <li>503 Service Unavailable: 新しいセッションを受け入れられない（ハンドシェイクで待機ロビーに入る）</li>
+     *   <li>500 Internal Server Error: サーバー内部エラー</li>
+     * </ul>
+     *
+     * @param request セッショントークン、セッションID、操作列
+     * @return 一括適用結果
+     */
+    @PostMapping("/api/game/commands")
+    public ResponseEntity<CommandBatchResultDTO> applyCommands(@RequestBody CommandBatchRequestDTO request) {
+        return apply(request, true);
+    }
+
+    /**
+     * 操作列を一括で適用します。
+     *
+     * <p>セッショントークンのない要求は、ノード間の転送（{@link ClusterRestController}）でのみ
+     * セッションIDで適用します。</p>
+     *
+     * @param request セッショントークン、セッションID、操作列
+     * @param tokenRequired セッショントークンのない要求を400 Bad Requestとする場合true
+     * @return 一括適用結果
+     */
+    ResponseEntity<CommandBatchResultDTO> apply(CommandBatchRequestDTO request, boolean tokenRequired) {
+        if (tokenRequired && request.token() == null) {
+            logger.debug("セッショントークンのない操作列を受信しました: {}", request.sessionId());
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            CommandBatchResultDTO result = (request.token() != null)
+                    ? applyCommandsUseCase.executeWithToken(
+                            request.sessionId(), SessionToken.parse(request.token()), request.commands())
+                    : applyCommandsUseCase.execute(request.sessionId(), request.commands());
+            return ResponseEntity.ok(result);
+        } catch (NullPointerException | IllegalArgumentException e) {
+            logger.debug("不正な操作列を受信しました: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (RejectedExecutionException e) {
+            logger.debug("セッションの操作が混雑しています: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        } catch (SessionNotAdmittedException e) {
+            logger.debug("新しいセッションを受け入れられません: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS).build();
+        } catch (SessionMovedException e) {
+            logger.debug("セッションは移動済みです: {}", e.getMessage());
+            return moved(e);
+        } catch (SessionExpiredException e) {
+            logger.debug("セッショントークンは無効になりました: {}", e.getMessage());
+            return expired();
+        } catch (IllegalStateException e) {
+            logger.warn("セッションを作成できません: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        } catch (Exception e) {
+            logger.error("操作列の適用中にエラーが発生しました", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * 移動したセッションへの要求に、移動先のノードIDを付けて409 Conflictを返します。
+     *
+     * @param <T> 応答の本文の型
+     * @param e セッションが移動したことを示す例外
+     * @return 409 Conflict
+     */
+    static <T> ResponseEntity<T> moved(SessionMovedException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .header(HttpSessionForwardingAdapter.OWNER_HEADER, e.target()).build();
+    }
+
+    /**
+     * トークンが有効でなくなったセッションへの要求に、移動先のノードIDを付けずに409 Conflictを返します。
+     *
+     * @param <T> 応答の本文の型
+     * @return 409 Conflict（クライアントはハンドシェイクからやり直す）
+     */
+    static <T> ResponseEntity<T> expired() {
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.tetris.adapter.inbound;
+
+import com.example.tetris.application.dto.CommandBatchRequestDTO;
+import com.example.tetris.application.dto.CommandBatchResultDTO;
+import com.example.tetris.application.session.SessionToken;
+import com.example.tetris.application.usecase.ApplyCommandsUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Controller;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * ゲーム操作WebSocket(STOMP)コントローラー。
+ *
+ * <p>ヘキサゴナルアーキテクチャにおける「Inbound Adapter」として、
+ * STOMPで受信した操作列をApplyCommandsUseCaseに橋渡しします。
+ * 複数のノードでセッションを分担する場合は、WebSocketを接続したノードがセッションの所有ノードに
+ * 操作を転送し、結果を接続中のセッションに応答します。</p>
+ *
+ * <h3>送信先:</h3>
+ * <ul>
+ *   <li>受信: {@code /app/game/commands}（ペイロードはCommandBatchRequestDTO）</li>
+ *   <li>応答: {@code /topic/game/commands/{WebSocketセッションID}}（ペイロードはCommandBatchResultDTO）</li>
+ * </ul>
+ *
+ * <p>操作列にはハンドシェイク（{@code POST /api/game/sessions/{sessionId}}）で発行された
+ * セッショントークンが必要です。トークンのない操作列、不正な操作列、受け入れられなかった操作には
+ * 応答しません（クライアントは次の操作列で状態を再取得し、応答が続かない場合はハンドシェイクからやり直します）。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+@Controller
+public class GameCommandWebSocketController {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameCommandWebSocketController.class);
+
+    /**
+     * 操作列の一括適用結果の応答先プレフィックス。
+     */
+    private static final String RESULT_DESTINATION_PREFIX = "/topic/game/commands/";
+
+    private final ApplyCommandsUseCase applyCommandsUseCase;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    /**
+     * コンストラクタインジェクション。
+     *
+     * @param applyCommandsUseCase 操作列一括適用ユースケース
+     * @param messagingTemplate STOMPメッセージ送信テンプレート
+     */
+    public GameCommandWebSocketController(ApplyCommandsUseCase applyCommandsUseCase,
+                                          SimpMessagingTemplate messagingTemplate) {
+        this.applyCommandsUseCase = applyCommandsUseCase;
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    /**
+     * 操作列を受信して一括で適用し、要求元のセッションへ結果を応答します。
+     *
+     * @param request セッショントークン、セッションID、操作列
+     * @param wsSessionId WebSocketセッションID
+     */
+    @MessageMapping("/game/commands")
+    public void applyCommands(CommandBatchRequestDTO request,
+                              @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String wsSessionId) {
+        if (request.token() == null) {
+            logger.debug("セッショントークンのない操作列を受信しました: wsSessionId={}", wsSessionId);
+            return;
+        }
+        try {
+            CommandBatchResultDTO result = applyCommandsUseCase.executeWithToken(
+                    request.sessionId(), SessionToken.parse(request.token()), request.commands());
+            messagingTemplate.convertAndSend(RESULT_DESTINATION_PREFIX + wsSessionId, result);
+        } catch (NullPointerException | IllegalArgumentException e) {
+            logger.debug("不正な操作列を受信しました: wsSessionId={}, reason={}", wsSessionId, e.getMessage());
+        } catch (RejectedExecutionException | IllegalStateException e) {
+            logger.debug("操作列を適用できません: wsSessionId={}, reason={}", wsSessionId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.tetris.adapter.inbound;
+
+import com.example.tetris.application.dto.HintDTO;
+import com.example.tetris.application.dto.HintMetricsDTO;
+import com.example.tetris.application.dto.HintRequestDTO;
+import com.example.tetris.application.session.SessionExpiredException;
+import com.example.tetris.application.usecase.HintUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * ヒントREST APIコントローラー。
+ *
+ * <p>ヘキサゴナルアーキテクチャにおける「Inbound Adapter」として、
+ * ヒント要求をHintUseCaseに橋渡しします。探索は非同期に行われ、
+ * リクエストスレッドは探索完了まで占有されません。</p>
+ *
+ * <h3>エンドポイント:</h3>
+ * <ul>
+ *   <li>POST /api/game/hint - 現在のテトリミノの推奨配置を取得</li>
+ *   <li>GET /api/game/hint/metrics - ヒントサービスの統計情報取得</li>
+ * </ul>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+@RestController
+@CrossOrigin(origins = "*") // フロントエンド接続許可（本番環境では適切なオリジンに制限）
+public class HintRestController {
+
+    private static final Logger logger = LoggerFactory.getLogger(HintRestController.class);
+
+    private final HintUseCase hintUseCase;
+
+    /**
+     * コンストラクタインジェクション。
+     *
+     * @param hintUseCase ヒントユースケース
+     */
+    public HintRestController(HintUseCase hintUseCase) {
+        this.hintUseCase = hintUseCase;
+    }
+
+    /**
+     * ヒント取得エンドポイント。
+     *
+     * <h3>HTTPメソッド: POST</h3>
+     * <h3>パス: /api/game/hint</h3>
+     *
+     * <h3>レスポンス:</h3>
+     * <ul>
+     *   <li>200 OK: 推奨配置のHintDTO</li>
+     *   <li>204 No Content: ゲームオーバー、または配置が存在しない</li>
+     *   <li>400 Bad Request: セッションIDが指定されていない</li>
+     *   <li>404 Not Found: セッションがこのノードに存在しない</li>
+     *   <li>409 Conflict: 同じセッションの新しい要求により取り消された</li>
+     *   <li>503 Service Unavailable: 探索キューが満杯</li>
+     *   <li>500 Internal Server Error: サーバー内部エラー</li>
+     * </ul>
+     *
+     * @param request ヒントを求めるゲームのセッションID
+     * @return ヒント
+     */
+    @PostMapping("/api/game/hint")
+    public CompletableFuture<ResponseEntity<HintDTO>> getHint(@RequestBody HintRequestDTO request) {
+        CompletableFuture<ResponseEntity<HintDTO>> hint;
+        try {
+            hint = hintUseCase.requestHint(request.sessionId(), request.sessionId())
+                    .thenApply(result -> result
+                            .map(ResponseEntity::ok)
+                            .orElseGet(() -> ResponseEntity.noContent().build()));
+        } catch (NullPointerException e) {
+            logger.debug("不正なヒント要求を受信しました: {}", e.getMessage());
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        } catch (SessionExpiredException e) {
+            logger.debug("存在しないセッションのヒント要求を受信しました: {}", e.getMessage());
+            return CompletableFuture.completedFuture(ResponseEntity.notFound().build());
+        }
+
+        return hint.exceptionally(e -> {
+            Throwable cause = (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
+            if (cause instanceof CancellationException) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).build();
+            }
+            if (cause instanceof RejectedExecutionException) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+            }
+            logger.error("ヒントの探索中にエラーが発生しました", cause);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        });
+    }
+
+    /**
+     * ヒントサービスの統計情報取得エンドポイント。
+     *
+     * <h3>HTTPメソッド: GET</h3>
+     * <h3>パス: /api/game/hint/metrics</h3>
+     *
+     * @return ヒントサービスの統計情報
+     */
+    @GetMapping("/api/game/hint/metrics")
+    public ResponseEntity<HintMetricsDTO> getMetrics() {
+        return ResponseEntity.ok(hintUseCase.metrics());
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.tetris.adapter.inbound;
+
+import com.example.tetris.application.dto.HintRequestDTO;
+import com.example.tetris.application.session.SessionExpiredException;
+import com.example.tetris.application.usecase.HintUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+
+/**
+ * ヒントWebSocket(STOMP)コントローラー。
+ *
+ * <p>ヘキサゴナルアーキテクチャにおける「Inbound Adapter」として、
+ * STOMPで受信したヒント要求をHintUseCaseに橋渡しします。</p>
+ *
+ * <h3>送信先:</h3>
+ * <ul>
+ *   <li>受信: {@code /app/game/hint}（ペイロードはHintRequestDTO）</li>
+ *   <li>応答: {@code /topic/game/hint/{WebSocketセッションID}}（ペイロードはHintDTO）</li>
+ * </ul>
+ *
+ * <p>局面はペイロードのセッションIDが指すゲームの、セッションストア上の現在のゲーム状態です。
+ * 要求元はWebSocketセッションIDで識別され、新しい局面の要求が届くと
+ * 未完了のヒントは取り消されて応答されません。切断時には未完了のヒントを取り消します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+@Controller
+public class HintWebSocketController {
+
+    private static final Logger logger = LoggerFactory.getLogger(HintWebSocketController.class);
+
+    /**
+     * ヒントの応答先プレフィックス。
+     */
+    private static final String HINT_DESTINATION_PREFIX = "/topic/game/hint/";
+
+    private final HintUseCase hintUseCase;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    /**
+     * コンストラクタインジェクション。
+     *
+     * @param hintUseCase ヒントユースケース
+     * @param messagingTemplate STOMPメッセージ送信テンプレート
+     */
+    public HintWebSocketController(HintUseCase hintUseCase, SimpMessagingTemplate messagingTemplate) {
+        this.hintUseCase = hintUseCase;
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    /**
+     * ヒント要求を受信し、探索完了後に要求元のセッションへ応答します。
+     *
+     * @param request ヒントを求めるゲームのセッションID
+     * @param sessionId WebSocketセッションID
+     */
+    @MessageMapping("/game/hint")
+    public void requestHint(HintRequestDTO request, @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId) {
+        try {
+            hintUseCase.requestHint(sessionId, request.sessionId())
+                    .thenAccept(hint -> hint.ifPresent(
+                            h -> messagingTemplate.convertAndSend(HINT_DESTINATION_PREFIX + sessionId, h)))
+                    .exceptionally(e -> {
+                        Throwable cause = (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
+                        // 取り消されたヒントは新しい局面のヒントで置き換えられるため応答しない
+                        if (!(cause instanceof CancellationException)) {
+                            logger.warn("ヒントの探索に失敗しました: sessionId={}", sessionId, cause);
+                        }
+                        return null;
+                    });
+        } catch (NullPointerException | SessionExpiredException e) {
+            logger.debug("不正なヒント要求を受信しました: sessionId={}, reason={}", sessionId, e.getMessage());
+        }
+    }
+
+    /**
+     * WebSocketセッション切断時に未完了のヒントを取り消します。
+     *
+     * @param event セッション切断イベント
+     */
+    @EventListener
+    public void onSessionDisconnect(SessionDisconnectEvent event) {
+        hintUseCase.cancel(event.getSessionId());
+    }
+}
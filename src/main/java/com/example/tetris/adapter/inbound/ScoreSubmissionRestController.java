@@ -0,0 +1,109 @@
+package com.example.tetris.adapter.inbound;
+
+import com.example.tetris.application.dto.ScoreSubmissionDTO;
+import com.example.tetris.application.dto.ScoreVerificationMetricsDTO;
+import com.example.tetris.application.dto.ScoreVerificationResultDTO;
+import com.example.tetris.application.usecase.SubmitScoreUseCase;
+import com.example.tetris.application.verification.ScoreRejectionReason;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * リプレイ検証付きスコア提出REST APIコントローラー。
+ *
+ * <p>ヘキサゴナルアーキテクチャにおける「Inbound Adapter」として、
+ * スコア提出リクエストをSubmitScoreUseCaseに橋渡しします。
+ * 検証は非同期に行われ、リクエストスレッドは検証完了まで占有されません。</p>
+ *
+ * <h3>エンドポイント:</h3>
+ * <ul>
+ *   <li>POST /api/scores/submissions - リプレイ付きスコア提出</li>
+ *   <li>GET /api/scores/submissions/metrics - 検証の統計情報取得</li>
+ * </ul>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+@RestController
+@CrossOrigin(origins = "*") // フロントエンド接続許可（本番環境では適切なオリジンに制限）
+public class ScoreSubmissionRestController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScoreSubmissionRestController.class);
+
+    private final SubmitScoreUseCase submitScoreUseCase;
+
+    /**
+     * コンストラクタインジェクション。
+     *
+     * @param submitScoreUseCase スコア提出ユースケース
+     */
+    public ScoreSubmissionRestController(SubmitScoreUseCase submitScoreUseCase) {
+        this.submitScoreUseCase = submitScoreUseCase;
+    }
+
+    /**
+     * スコア提出エンドポイント。
+     *
+     * <p>提出されたセッションでサーバーが記録した入力ログを再シミュレーションし、申告値と一致した場合のみ
+     * スコアを保存します。受理したセッションは破棄されるため、同じゲームは1回だけ提出できます。</p>
+     *
+     * <p>サーバーの再起動時にスナップショットから復元したセッションは、ゲーム開始からの入力ログを持たないため
+     * スコアを提出できません。このようなセッションは検証せずに{@code REPLAY_UNAVAILABLE}で拒否されます
+     * （入力ログを保存するジャーナリングを有効にしたサーバーでは発生しません）。</p>
+     *
+     * <h3>HTTPメソッド: POST</h3>
+     * <h3>パス: /api/scores/submissions</h3>
+     *
+     * <h3>レスポンス:</h3>
+     * <ul>
+     *   <li>201 Created: 検証に成功し保存された</li>
+     *   <li>422 Unprocessable Entity: 検証により拒否された、または入力ログがなく検証できない（拒否理由を含む）</li>
+     *   <li>503 Service Unavailable: 検証キューが満杯</li>
+     *   <li>500 Internal Server Error: サーバー内部エラー</li>
+     * </ul>
+     *
+     * @param submission リプレイ付きのスコア提出
+     * @return 検証結果
+     */
+    @PostMapping("/api/scores/submissions")
+    public CompletableFuture<ResponseEntity<ScoreVerificationResultDTO>> submitScore(
+            @RequestBody ScoreSubmissionDTO submission
+    ) {
+        logger.info("スコア提出リクエストを受信しました: sessionId={}, score={}", submission.sessionId(), submission.score());
+        return submitScoreUseCase.submit(submission)
+                .thenApply(result -> {
+                    if (result.accepted()) {
+                        logger.debug("スコア提出を受理しました: id={}", result.score().id());
+                        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+                    }
+                    logger.info("スコア提出を拒否しました: reason={}", result.rejectionReason());
+                    HttpStatus status = (result.rejectionReason() == ScoreRejectionReason.QUEUE_FULL)
+                            ? HttpStatus.SERVICE_UNAVAILABLE
+                            : HttpStatus.UNPROCESSABLE_ENTITY;
+                    return ResponseEntity.status(status).body(result);
+                })
+                .exceptionally(e -> {
+                    logger.error("スコア提出の検証中にエラーが発生しました", e);
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+                });
+    }
+
+    /**
+     * 検証の統計情報取得エンドポイント。
+     *
+     * <h3>HTTPメソッド: GET</h3>
+     * <h3>パス: /api/scores/submissions/metrics</h3>
+     *
+     * @return 検証の統計情報
+     */
+    @GetMapping("/api/scores/submissions/metrics")
+    public ResponseEntity<ScoreVerificationMetricsDTO> getMetrics() {
+        return ResponseEntity.ok(submitScoreUseCase.metrics());
+    }
+}
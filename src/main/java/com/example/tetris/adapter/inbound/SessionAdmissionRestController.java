@@ -0,0 +1,55 @@
+package com.example.tetris.adapter.inbound;
+
+import com.example.tetris.application.session.CapacityEstimate;
+import com.example.tetris.application.session.SessionAdmission;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * セッションの受け入れ状況REST APIコントローラー。
+ *
+ * <p>ヘキサゴナルアーキテクチャにおける「Inbound Adapter」として、
+ * SessionAdmissionが推定した受け入れ可能なセッション数を公開します。</p>
+ *
+ * <h3>エンドポイント:</h3>
+ * <ul>
+ *   <li>GET /api/game/capacity - 受け入れ可能なセッション数の推定と、その根拠となる負荷の計測値</li>
+ * </ul>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+@RestController
+@CrossOrigin(origins = "*") // フロントエンド接続許可（本番環境では適切なオリジンに制限）
+public class SessionAdmissionRestController {
+
+    private final SessionAdmission sessionAdmission;
+
+    /**
+     * コンストラクタインジェクション。
+     *
+     * @param sessionAdmission セッションの受け入れ制御
+     */
+    public SessionAdmissionRestController(SessionAdmission sessionAdmission) {
+        this.sessionAdmission = sessionAdmission;
+    }
+
+    /**
+     * 受け入れ可能なセッション数の推定取得エンドポイント。
+     *
+     * <h3>HTTPメソッド: GET</h3>
+     * <h3>パス: /api/game/capacity</h3>
+     *
+     * <h3>レスポンス:</h3>
+     * <ul>
+     *   <li>200 OK: 推定値（現在のセッション数、上限とその内訳、待機ロビーの人数）</li>
+     * </ul>
+     *
+     * @return 推定値
+     */
+    @GetMapping("/api/game/capacity")
+    public ResponseEntity<CapacityEstimate> getCapacity() {
+        return ResponseEntity.ok(sessionAdmission.estimate());
+    }
+}
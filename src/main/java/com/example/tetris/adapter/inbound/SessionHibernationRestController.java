@@ -0,0 +1,55 @@
+package com.example.tetris.adapter.inbound;
+
+import com.example.tetris.application.session.HibernationStats;
+import com.example.tetris.application.session.OffHeapSessionStore;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * セッションの休止状況REST APIコントローラー。
+ *
+ * <p>ヘキサゴナルアーキテクチャにおける「Inbound Adapter」として、
+ * OffHeapSessionStoreの休止中のセッション数と休止からの復元時間を公開します。</p>
+ *
+ * <h3>エンドポイント:</h3>
+ * <ul>
+ *   <li>GET /api/game/hibernation - 休止中・常駐中のセッション数、休止形式のサイズ、復元時間の平均と最大</li>
+ * </ul>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+@RestController
+@CrossOrigin(origins = "*") // フロントエンド接続許可（本番環境では適切なオリジンに制限）
+public class SessionHibernationRestController {
+
+    private final OffHeapSessionStore sessionStore;
+
+    /**
+     * コンストラクタインジェクション。
+     *
+     * @param sessionStore セッションを保持するセッションストア
+     */
+    public SessionHibernationRestController(OffHeapSessionStore sessionStore) {
+        this.sessionStore = sessionStore;
+    }
+
+    /**
+     * 休止の統計情報の取得エンドポイント。
+     *
+     * <h3>HTTPメソッド: GET</h3>
+     * <h3>パス: /api/game/hibernation</h3>
+     *
+     * <h3>レスポンス:</h3>
+     * <ul>
+     *   <li>200 OK: 休止の統計情報</li>
+     * </ul>
+     *
+     * @return 休止の統計情報
+     */
+    @GetMapping("/api/game/hibernation")
+    public ResponseEntity<HibernationStats> getHibernation() {
+        return ResponseEntity.ok(sessionStore.hibernationStats());
+    }
+}
@@ -0,0 +1,283 @@
+package com.example.tetris.adapter.outbound;
+
+import com.example.tetris.application.cluster.ClusterNode;
+import com.example.tetris.application.dto.CommandBatchRequestDTO;
+import com.example.tetris.application.dto.CommandBatchResultDTO;
+import com.example.tetris.application.dto.SessionTokenDTO;
+import com.example.tetris.application.port.SessionForwardingPort;
+import com.example.tetris.application.session.ReplayUnavailableException;
+import com.example.tetris.application.session.SessionAdmission;
+import com.example.tetris.application.session.SessionExpiredException;
+import com.example.tetris.application.session.SessionMovedException;
+import com.example.tetris.application.session.SessionNotAdmittedException;
+import com.example.tetris.application.session.SessionToken;
+import com.example.tetris.domain.GameCommand;
+import com.example.tetris.domain.replay.Replay;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * SessionForwardingPortの実装クラス（アダプター）。
+ *
+ * <p>このクラスは、ヘキサゴナルアーキテクチャにおける「アダプター」として、
+ * セッションの操作を所有ノードの内部API（{@code /internal/cluster/**}）にHTTPで転送し、
+ * 応答のステータスコードを所有ノードで発生した例外に戻します。</p>
+ *
+ * <h3>ステータスコードと例外の対応:</h3>
+ * <ul>
+ *   <li>400 Bad Request: {@link IllegalArgumentException}</li>
+ *   <li>409 Conflict（{@value #OWNER_HEADER}あり）: セッションが移動した{@link SessionMovedException}</li>
+ *   <li>409 Conflict（{@value #OWNER_HEADER}なし）: トークンが有効でない{@link SessionExpiredException}（ハンドシェイクからやり直す）</li>
+ *   <li>429 Too Many Requests: {@link RejectedExecutionException}</li>
+ *   <li>202 Accepted: 待機順位を持つ{@link SessionNotAdmittedException}</li>
+ *   <li>503 Service Unavailable（Retry-Afterあり）: ロビーが満員の{@link SessionNotAdmittedException}</li>
+ *   <li>503（Retry-Afterなし）・401 Unauthorized（共有シークレットの不一致）・その他・通信エラー: {@link IllegalStateException}</li>
+ * </ul>
+ *
+ * <p>すべての要求に{@value #SECRET_HEADER}ヘッダーでクラスタの共有シークレットを付けます
+ * （受信側は{@link com.example.tetris.adapter.inbound.ClusterSecretFilter}で検証します）。
+ * {@link HttpClient}はノードごとのコネクションを保持して再利用します。
+ * ノードの参加・離脱の通知は、通知先のノードがセッションを移動し終えるまで待つため、
+ * 転送とは別の待ち時間を使用します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see SessionForwardingPort
+ */
+public class HttpSessionForwardingAdapter implements SessionForwardingPort {
+
+    /**
+     * 内部APIのパスのプレフィックス。
+     */
+    public static final String INTERNAL_PATH = "/internal/cluster";
+
+    /**
+     * セッションの移動先のノードIDを示す応答ヘッダー（409 Conflictの応答に付与）。
+     */
+    public static final String OWNER_HEADER = "X-Session-Owner";
+
+    /**
+     * クラスタの共有シークレットを示す要求ヘッダー（内部APIへのすべての要求に付与）。
+     */
+    public static final String SECRET_HEADER = "X-Cluster-Secret";
+
+    /**
+     * ノードの参加・離脱の通知の応答を待つ時間の既定値。
+     */
+    private static final Duration DEFAULT_REBALANCE_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final String APPLICATION_JSON = "application/json";
+    private static final String APPLICATION_OCTET_STREAM = "application/octet-stream";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String secret;
+    private final Duration timeout;
+    private final Duration rebalanceTimeout;
+
+    /**
+     * ノードの参加・離脱の通知の待ち時間を既定値（30秒）とするコンストラクタ。
+     *
+     * @param httpClient HTTPクライアント
+     * @param objectMapper 要求と応答のJSON変換に使用するObjectMapper
+     * @param secret クラスタの共有シークレット
+     * @param timeout 1回の転送の応答を待つ時間
+     * @throws NullPointerException いずれかの引数がnullの場合
+     */
+    public HttpSessionForwardingAdapter(HttpClient httpClient, ObjectMapper objectMapper, String secret,
+                                        Duration timeout) {
+        this(httpClient, objectMapper, secret, timeout, DEFAULT_REBALANCE_TIMEOUT);
+    }
+
+    /**
+     * コンストラクタ。
+     *
+     * @param httpClient HTTPクライアント
+     * @param objectMapper 要求と応答のJSON変換に使用するObjectMapper
+     * @param secret クラスタの共有シークレット
+     * @param timeout 1回の転送の応答を待つ時間
+     * @param rebalanceTimeout ノードの参加・離脱の通知の応答を待つ時間
+     * @throws NullPointerException いずれかの引数がnullの場合
+     */
+    public HttpSessionForwardingAdapter(HttpClient httpClient, ObjectMapper objectMapper, String secret,
+                                        Duration timeout, Duration rebalanceTimeout) {
+        this.httpClient = Objects.requireNonNull(httpClient, "httpClient must not be null");
+        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper must not be null");
+        this.secret = Objects.requireNonNull(secret, "secret must not be null");
+        this.timeout = Objects.requireNonNull(timeout, "timeout must not be null");
+        this.rebalanceTimeout = Objects.requireNonNull(rebalanceTimeout, "rebalanceTimeout must not be null");
+    }
+
+    @Override
+    public CommandBatchResultDTO execute(ClusterNode owner, String sessionId, List<GameCommand> commands) {
+        return applyCommands(owner, new CommandBatchRequestDTO(sessionId, commands));
+    }
+
+    @Override
+    public SessionToken openSession(ClusterNode owner, String sessionId) {
+        HttpResponse<byte[]> response = send(owner,
+                request(owner, "/sessions/" + encode(sessionId)).POST(HttpRequest.BodyPublishers.noBody()));
+        int status = response.statusCode();
+        if (status == 200) {
+            return SessionToken.parse(read(response, SessionTokenDTO.class).token());
+        }
+        if (status == 202) {
+            int position = read(response, SessionTokenDTO.class).lobbyPosition();
+            throw new SessionNotAdmittedException(
+                    new SessionAdmission.Admission(SessionAdmission.Status.QUEUED, position));
+        }
+        throw failure(owner, sessionId, response);
+    }
+
+    @Override
+    public CommandBatchResultDTO executeWithToken(ClusterNode owner, String sessionId, SessionToken token,
+                                                  List<GameCommand> commands) {
+        return applyCommands(owner, new CommandBatchRequestDTO(sessionId, commands, token.toString()));
+    }
+
+    @Override
+    public Optional<Replay> findReplay(ClusterNode owner, String sessionId) {
+        HttpResponse<byte[]> response = send(owner, request(owner, "/replays/" + encode(sessionId)).GET());
+        if (response.statusCode() == 404) {
+            return Optional.empty();
+        }
+        if (response.statusCode() != 200) {
+            throw failure(owner, sessionId, response);
+        }
+        return Optional.of(Replay.fromBytes(response.body()));
+    }
+
+    @Override
+    public void removeSession(ClusterNode owner, String sessionId) {
+        HttpResponse<byte[]> response = send(owner, request(owner, "/sessions/" + encode(sessionId)).DELETE());
+        if (response.statusCode() != 204) {
+            throw failure(owner, sessionId, response);
+        }
+    }
+
+    @Override
+    public void transfer(ClusterNode target, String sessionId, Replay replay) {
+        HttpResponse<byte[]> response = send(target, request(target, "/handoffs/" + encode(sessionId))
+                .header("Content-Type", APPLICATION_OCTET_STREAM)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(replay.toBytes())));
+        if (response.statusCode() != 204) {
+            throw failure(target, sessionId, response);
+        }
+    }
+
+    @Override
+    public void place(ClusterNode node, String sessionId, String ownerId) {
+        HttpResponse<byte[]> response = send(node, request(node,
+                "/placements/" + encode(sessionId) + "?owner=" + encode(ownerId))
+                .PUT(HttpRequest.BodyPublishers.noBody()));
+        if (response.statusCode() != 204) {
+            throw failure(node, sessionId, response);
+        }
+    }
+
+    @Override
+    public void join(ClusterNode node, ClusterNode joining) {
+        HttpResponse<byte[]> response = send(node, request(node,
+                "/members/" + encode(joining.id()) + "?uri=" + encode(joining.baseUri().toString()))
+                .timeout(rebalanceTimeout)
+                .POST(HttpRequest.BodyPublishers.noBody()));
+        if (response.statusCode() != 204) {
+            throw failure(node, null, response);
+        }
+    }
+
+    @Override
+    public void leave(ClusterNode node, String leavingId) {
+        HttpResponse<byte[]> response = send(node, request(node, "/members/" + encode(leavingId))
+                .timeout(rebalanceTimeout)
+                .DELETE());
+        if (response.statusCode() != 204) {
+            throw failure(node, null, response);
+        }
+    }
+
+    private CommandBatchResultDTO applyCommands(ClusterNode owner, CommandBatchRequestDTO body) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize commands", e);
+        }
+        HttpResponse<byte[]> response = send(owner, request(owner, "/commands")
+                .header("Content-Type", APPLICATION_JSON)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(json)));
+        if (response.statusCode() == 200) {
+            return read(response, CommandBatchResultDTO.class);
+        }
+        throw failure(owner, body.sessionId(), response);
+    }
+
+    private HttpRequest.Builder request(ClusterNode owner, String path) {
+        String base = owner.baseUri().toString();
+        if (base.endsWith("/")) {
+            base = base.substring(0, base.length() - 1);
+        }
+        return HttpRequest.newBuilder(URI.create(base + INTERNAL_PATH + path))
+                .timeout(timeout)
+                .header(SECRET_HEADER, secret)
+                .header("Accept", APPLICATION_JSON);
+    }
+
+    private HttpResponse<byte[]> send(ClusterNode owner, HttpRequest.Builder request) {
+        try {
+            return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            throw new IllegalStateException("Owner node unavailable: " + owner.id(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while forwarding to " + owner.id(), e);
+        }
+    }
+
+    private <T> T read(HttpResponse<byte[]> response, Class<T> type) {
+        try {
+            return objectMapper.readValue(response.body(), type);
+        } catch (IOException e) {
+            throw new IllegalStateException("Malformed response from owner node", e);
+        }
+    }
+
+    /**
+     * 成功以外の応答を、所有ノードで発生した例外に戻します。
+     */
+    private static RuntimeException failure(ClusterNode owner, String sessionId, HttpResponse<byte[]> response) {
+        int status = response.statusCode();
+        Optional<String> movedTo = response.headers().firstValue(OWNER_HEADER);
+        return switch (status) {
+            case 400 -> new IllegalArgumentException("Rejected by owner node " + owner.id());
+            case 409 -> (sessionId != null && movedTo.isPresent())
+                    ? new SessionMovedException(sessionId, movedTo.get())
+                    : new SessionExpiredException("Session must be reopened on node " + owner.id());
+            case 410 -> new ReplayUnavailableException("Session has no input log on node " + owner.id());
+            case 429 -> new RejectedExecutionException("Session is busy on owner node " + owner.id());
+            case 503 -> response.headers().firstValue("Retry-After").isPresent()
+                    ? new SessionNotAdmittedException(
+                            new SessionAdmission.Admission(SessionAdmission.Status.REJECTED, 0))
+                    : new IllegalStateException("Owner node cannot accept sessions: " + owner.id());
+            default -> new IllegalStateException("Owner node " + owner.id() + " responded with " + status);
+        };
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.tetris.application.cluster;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * クラスタを構成するゲームノード。
+ *
+ * <p>ノードIDはコンシステントハッシュのリング上の位置を決めるため、ノードを再起動しても
+ * 同じIDを使用する必要があります（ベースURIが変わってもセッションの所有者は変わりません）。</p>
+ *
+ * @param id ノードID（非空）
+ * @param baseUri ノード間の転送に使用するベースURI（例: {@code http://10.0.0.1:8080}）
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public record ClusterNode(String id, URI baseUri) {
+
+    /**
+     * コンストラクタ。
+     *
+     * @throws NullPointerException id、またはbaseUriがnullの場合
+     * @throws IllegalArgumentException idが空、またはbaseUriが絶対URIでない場合
+     */
+    public ClusterNode {
+        Objects.requireNonNull(id, "id must not be null");
+        Objects.requireNonNull(baseUri, "baseUri must not be null");
+        if (id.isBlank()) {
+            throw new IllegalArgumentException("id must not be empty");
+        }
+        if (!baseUri.isAbsolute()) {
+            throw new IllegalArgumentException("baseUri must be absolute: " + baseUri);
+        }
+    }
+
+    /**
+     * {@code id=baseUri}をカンマで区切った文字列からノードの一覧を解析します。
+     *
+     * <p>例: {@code node-1=http://127.0.0.1:8081,node-2=http://127.0.0.1:8082}</p>
+     *
+     * @param spec ノードの一覧
+     * @return 記述された順のノード（1件以上）
+     * @throws NullPointerException specがnullの場合
+     * @throws IllegalArgumentException 書式が不正、またはノードIDが重複している場合
+     */
+    public static List<ClusterNode> parseList(String spec) {
+        Objects.requireNonNull(spec, "spec must not be null");
+        List<ClusterNode> nodes = new ArrayList<>();
+        Set<String> ids = new HashSet<>();
+        for (String entry : spec.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int separator = trimmed.indexOf('=');
+            if (separator <= 0 || separator == trimmed.length() - 1) {
+                throw new IllegalArgumentException("node must be id=uri: " + trimmed);
+            }
+            ClusterNode node = new ClusterNode(trimmed.substring(0, separator).trim(),
+                    URI.create(trimmed.substring(separator + 1).trim()));
+            if (!ids.add(node.id())) {
+                throw new IllegalArgumentException("duplicate node id: " + node.id());
+            }
+            nodes.add(node);
+        }
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("at least one node is required");
+        }
+        return List.copyOf(nodes);
+    }
+}
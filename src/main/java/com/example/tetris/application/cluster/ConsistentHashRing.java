@@ -0,0 +1,231 @@
+package com.example.tetris.application.cluster;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * セッションIDを所有ノードに割り当てるコンシステントハッシュのリング（不変）。
+ *
+ * <p>各ノードはノードIDから求めた{@code virtualNodes}個の仮想ノードとしてリング上に配置され、
+ * セッションIDのハッシュ値から時計回りに最初に現れる仮想ノードのノードがセッションを所有します。
+ * ノードの追加・削除で所有者が変わるのは、そのノードの仮想ノードに隣接する区間のセッション
+ * （およそ全体の1/ノード数）だけです。</p>
+ *
+ * <h3>実装：</h3>
+ * <ul>
+ *   <li>仮想ノードの位置はソート済みの{@code long}配列に保持し、二分探索で所有者を求める（割り当てなし）</li>
+ *   <li>ハッシュ関数はFNV-1a（64ビット）の結果をMurmurHash3のfmix64で攪拌したもので、
+ *       JVMやノードをまたいで同じ値になる（{@link String#hashCode()}には依存しない）</li>
+ * </ul>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class ConsistentHashRing {
+
+    /**
+     * ノードあたりの仮想ノード数の既定値（10ノードで所有区間の偏りが数％程度）。
+     */
+    public static final int DEFAULT_VIRTUAL_NODES = 160;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final List<ClusterNode> nodes;
+    private final int virtualNodes;
+
+    /**
+     * 仮想ノードのハッシュ値（昇順）。
+     */
+    private final long[] points;
+
+    /**
+     * {@link #points}と同じ位置の仮想ノードが属するノードの{@link #nodes}での位置。
+     */
+    private final int[] owners;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param nodes クラスタのノード（1件以上、ノードIDは一意）
+     * @param virtualNodes ノードあたりの仮想ノード数（1以上）
+     * @throws NullPointerException nodes、またはその要素がnullの場合
+     * @throws IllegalArgumentException nodesが空、ノードIDが重複、またはvirtualNodesが1未満の場合
+     */
+    public ConsistentHashRing(List<ClusterNode> nodes, int virtualNodes) {
+        Objects.requireNonNull(nodes, "nodes must not be null");
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("at least one node is required");
+        }
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("virtualNodes must be positive: " + virtualNodes);
+        }
+        Set<String> ids = new HashSet<>();
+        for (ClusterNode node : nodes) {
+            if (!ids.add(Objects.requireNonNull(node, "node must not be null").id())) {
+                throw new IllegalArgumentException("duplicate node id: " + node.id());
+            }
+        }
+        this.nodes = List.copyOf(nodes);
+        this.virtualNodes = virtualNodes;
+
+        // 仮想ノードのインデックスを位置の順に並べ替える
+        int total = nodes.size() * virtualNodes;
+        long[] hashes = new long[total];
+        Integer[] order = new Integer[total];
+        for (int n = 0; n < nodes.size(); n++) {
+            for (int v = 0; v < virtualNodes; v++) {
+                int i = n * virtualNodes + v;
+                hashes[i] = hash(nodes.get(n).id() + '#' + v);
+                order[i] = i;
+            }
+        }
+        // 位置が衝突した場合はノードIDの順で決める（どのノードでも同じリングになる）
+        Arrays.sort(order, (a, b) -> {
+            int c = Long.compare(hashes[a], hashes[b]);
+            return (c != 0) ? c : this.nodes.get(a / virtualNodes).id().compareTo(this.nodes.get(b / virtualNodes).id());
+        });
+        this.points = new long[total];
+        this.owners = new int[total];
+        for (int i = 0; i < total; i++) {
+            points[i] = hashes[order[i]];
+            owners[i] = order[i] / virtualNodes;
+        }
+    }
+
+    /**
+     * 既定の仮想ノード数でリングを生成します。
+     *
+     * @param nodes クラスタのノード
+     * @return リング
+     */
+    public static ConsistentHashRing of(List<ClusterNode> nodes) {
+        return new ConsistentHashRing(nodes, DEFAULT_VIRTUAL_NODES);
+    }
+
+    /**
+     * キーを所有するノードを返します。
+     *
+     * @param key セッションIDなどのキー
+     * @return 所有ノード
+     * @throws NullPointerException keyがnullの場合
+     */
+    public ClusterNode ownerOf(String key) {
+        Objects.requireNonNull(key, "key must not be null");
+        long h = hash(key);
+        int i = Arrays.binarySearch(points, h);
+        if (i < 0) {
+            i = -i - 1;
+            if (i == points.length) {
+                i = 0;
+            }
+        } else {
+            // 同じ位置に複数の仮想ノードがある場合は先頭を使う
+            while (i > 0 && points[i - 1] == h) {
+                i--;
+            }
+        }
+        return nodes.get(owners[i]);
+    }
+
+    /**
+     * クラスタのノードを返します。
+     *
+     * @return ノード（構築時の順序）
+     */
+    public List<ClusterNode> nodes() {
+        return nodes;
+    }
+
+    /**
+     * ノードIDに一致するノードを返します。
+     *
+     * @param id ノードID
+     * @return ノード（存在しない場合はnull）
+     */
+    public ClusterNode node(String id) {
+        for (ClusterNode node : nodes) {
+            if (node.id().equals(id)) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * ノードを追加したリングを返します（同じノードIDのノードは置き換えます）。
+     *
+     * @param node 追加するノード
+     * @return 新しいリング
+     * @throws NullPointerException nodeがnullの場合
+     */
+    public ConsistentHashRing with(ClusterNode node) {
+        Objects.requireNonNull(node, "node must not be null");
+        List<ClusterNode> next = new ArrayList<>(nodes.size() + 1);
+        for (ClusterNode existing : nodes) {
+            if (!existing.id().equals(node.id())) {
+                next.add(existing);
+            }
+        }
+        next.add(node);
+        return new ConsistentHashRing(next, virtualNodes);
+    }
+
+    /**
+     * ノードを除いたリングを返します（含まれない場合はこのリング）。
+     *
+     * @param id 除くノードのノードID
+     * @return 新しいリング
+     * @throws IllegalArgumentException 最後のノードを除こうとした場合
+     */
+    public ConsistentHashRing without(String id) {
+        if (node(id) == null) {
+            return this;
+        }
+        if (nodes.size() == 1) {
+            throw new IllegalArgumentException("cannot remove the last node: " + id);
+        }
+        List<ClusterNode> next = new ArrayList<>(nodes.size() - 1);
+        for (ClusterNode existing : nodes) {
+            if (!existing.id().equals(id)) {
+                next.add(existing);
+            }
+        }
+        return new ConsistentHashRing(next, virtualNodes);
+    }
+
+    /**
+     * ノードあたりの仮想ノード数を返します。
+     *
+     * @return 仮想ノード数
+     */
+    public int virtualNodes() {
+        return virtualNodes;
+    }
+
+    /**
+     * 文字列の64ビットハッシュ値を計算します（UTF-16のコード単位ごとにFNV-1a、最後にfmix64）。
+     *
+     * @param key キー
+     * @return ハッシュ値
+     */
+    static long hash(String key) {
+        long h = FNV_OFFSET_BASIS;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            h = (h ^ (c & 0xFF)) * FNV_PRIME;
+            h = (h ^ (c >>> 8)) * FNV_PRIME;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
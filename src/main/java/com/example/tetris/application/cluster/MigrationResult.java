@@ -0,0 +1,15 @@
+package com.example.tetris.application.cluster;
+
+/**
+ * {@link SessionMigrator}による1セッションの移動結果。
+ *
+ * @param sessionId セッションID
+ * @param target 移動先のノードID
+ * @param migrated 移動した場合true（セッションが存在しなかった場合はfalse）
+ * @param pauseNanos セッションを止めていた時間（入力ログの送信と移動先の記録、ナノ秒）
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public record MigrationResult(String sessionId, String target, boolean migrated, long pauseNanos) {
+}
@@ -0,0 +1,15 @@
+package com.example.tetris.application.cluster;
+
+/**
+ * {@link SessionMigrator}によるリングの切り替えの結果。
+ *
+ * @param migrated 他のノードに移動したセッション数
+ * @param failed 移動に失敗し、自ノードに留めたセッション数
+ * @param maxPauseNanos セッションを止めていた時間の最大値（ナノ秒）
+ * @param elapsedNanos 切り替えの所要時間（ナノ秒）
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public record RebalanceResult(int migrated, int failed, long maxPauseNanos, long elapsedNanos) {
+}
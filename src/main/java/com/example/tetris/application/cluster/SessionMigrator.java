@@ -0,0 +1,295 @@
+package com.example.tetris.application.cluster;
+
+import com.example.tetris.application.port.SessionForwardingPort;
+import com.example.tetris.application.usecase.ApplyCommandsUseCaseImpl;
+import com.example.tetris.domain.replay.Replay;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 自ノードのセッションを稼働中のまま他のノードに移動させるサービス。
+ *
+ * <h3>1セッションの移動：</h3>
+ * <ol>
+ *   <li>セッションのメールボックスに引き渡しを投入し、先に投入された操作の実行後にセッションを止める</li>
+ *   <li>入力ログを移動先に送り、移動先で再生してセッションを受け入れる</li>
+ *   <li>自ノードの{@link SessionRouter}に移動先を記録し、自ノードのセッションを破棄する</li>
+ *   <li>止めている間に投入された操作は{@link com.example.tetris.application.session.SessionMovedException}で
+ *       完了し、{@link ShardedApplyCommandsUseCase}が移動先に送り直す</li>
+ * </ol>
+ *
+ * <p>セッションを止めるのは入力ログの送信と移動先の記録の間だけです（同じマシンのノード間で数ミリ秒）。
+ * 移動先が受け入れられなかった場合、セッションは自ノードに残り、止めていた間の操作は自ノードで実行されます。
+ * 送信が失敗しても、応答が届かなかっただけで移動先が受け入れている場合があるため、移動先に入力ログを
+ * 照会し、同じ入力ログを保持していれば移動は成功として扱います（取り消すと両方のノードにセッションが残る）。
+ * 照会もできずに取り消した場合は、再度の移動で同じ入力ログを送り直すと移動先の受け入れは冪等に完了します。</p>
+ *
+ * <h3>リングの切り替え：</h3>
+ * <ul>
+ *   <li>{@link #drain()}：自ノードを除いたリングに切り替え、すべてのセッションを移動してから他のノードに離脱を通知</li>
+ *   <li>{@link #join()}：自ノードを加えたリングに切り替え、他のノードに参加を通知して自ノードの担当分を移動させる</li>
+ *   <li>{@link #onJoin(ClusterNode)}・{@link #onLeave(String)}：他のノードの参加・離脱の通知を受けて切り替える</li>
+ * </ul>
+ *
+ * <p>切り替え中は、自ノードに存在するセッションは移動が済むまで自ノードで処理され、それ以外は新しいリングの
+ * 所有ノードに送られます。切り替えは同時に1つだけ実行されます。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class SessionMigrator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionMigrator.class);
+
+    /**
+     * 切り替え中に自ノードのセッションを走査する回数の上限（走査中に開始されたセッションを拾うため）。
+     */
+    static final int MAX_PASSES = 3;
+
+    private final ApplyCommandsUseCaseImpl local;
+    private final Supplier<? extends Collection<String>> localSessions;
+    private final SessionRouter router;
+    private final SessionForwardingPort forwarding;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param local 自ノードのセッションを処理するユースケース
+     * @param localSessions 自ノードに存在するセッションIDの一覧
+     * @param router セッションの所有ノードを求めるルーター
+     * @param forwarding 他のノードへの転送ポート
+     * @throws NullPointerException いずれかの引数がnullの場合
+     */
+    public SessionMigrator(ApplyCommandsUseCaseImpl local, Supplier<? extends Collection<String>> localSessions,
+                           SessionRouter router, SessionForwardingPort forwarding) {
+        this.local = Objects.requireNonNull(local, "local must not be null");
+        this.localSessions = Objects.requireNonNull(localSessions, "localSessions must not be null");
+        this.router = Objects.requireNonNull(router, "router must not be null");
+        this.forwarding = Objects.requireNonNull(forwarding, "forwarding must not be null");
+    }
+
+    /**
+     * セッションを指定したノードに移動し、他のノードに移動先を通知します（通知の失敗は無視）。
+     *
+     * @param sessionId セッションID
+     * @param targetId 移動先のノードID
+     * @return 移動結果
+     * @throws NullPointerException いずれかの引数がnullの場合
+     * @throws IllegalArgumentException 移動先のノードが不明、または自ノードの場合
+     * @throws IllegalStateException 移動先が受け入れられない、移動先に到達できない、またはセッションに入力ログがない場合
+     */
+    public MigrationResult migrate(String sessionId, String targetId) {
+        Objects.requireNonNull(sessionId, "sessionId must not be null");
+        Objects.requireNonNull(targetId, "targetId must not be null");
+        ClusterNode target = router.member(targetId)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown node: " + targetId));
+        if (target.equals(router.self())) {
+            throw new IllegalArgumentException("Cannot migrate a session to its own node: " + targetId);
+        }
+        MigrationResult result = handOff(sessionId, target);
+        if (result.migrated()) {
+            for (ClusterNode node : router.ring().nodes()) {
+                if (node.equals(router.self()) || node.equals(target)) {
+                    continue;
+                }
+                try {
+                    forwarding.place(node, sessionId, targetId);
+                } catch (IllegalStateException e) {
+                    // 通知できなかったノードは、移動元から移動先を教えられる
+                    logger.debug("Failed to notify {} of the placement of {}", node.id(), sessionId, e);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 新しいリングに切り替え、自ノードが所有しなくなったセッションを新しい所有ノードに移動します。
+     *
+     * <p>移動先が個別に記録されているセッションは、記録された移動先が新しいリングに含まれる限りその移動先に
+     * 留まります。移動に失敗したセッション（入力ログがなく移動先で再生できない、スナップショットから
+     * 復元したセッションを含む）は、移動先として自ノードを記録して自ノードに留めます。</p>
+     *
+     * @param next 新しいリング
+     * @return 切り替えの結果
+     * @throws NullPointerException nextがnullの場合
+     */
+    public synchronized RebalanceResult rebalance(ConsistentHashRing next) {
+        Objects.requireNonNull(next, "next must not be null");
+        long start = System.nanoTime();
+        ClusterNode self = router.self();
+        int migrated = 0;
+        long maxPause = 0;
+        Set<String> failures = new HashSet<>();
+        router.beginTransition(next, local::hasSession);
+        try {
+            for (int pass = 0; pass < MAX_PASSES; pass++) {
+                int moved = 0;
+                for (String sessionId : List.copyOf(localSessions.get())) {
+                    ClusterNode target = targetOf(sessionId, next);
+                    if (target.equals(self) || failures.contains(sessionId)) {
+                        continue;
+                    }
+                    try {
+                        MigrationResult result = handOff(sessionId, target);
+                        if (result.migrated()) {
+                            moved++;
+                            maxPause = Math.max(maxPause, result.pauseNanos());
+                        }
+                    } catch (RuntimeException e) {
+                        failures.add(sessionId);
+                        router.place(sessionId, self.id());
+                        logger.warn("Failed to migrate session {} to {}", sessionId, target.id(), e);
+                    }
+                }
+                migrated += moved;
+                if (moved == 0) {
+                    break;
+                }
+            }
+        } finally {
+            router.endTransition();
+        }
+        RebalanceResult result = new RebalanceResult(migrated, failures.size(), maxPause, System.nanoTime() - start);
+        logger.info("Rebalanced to {} nodes: {} migrated, {} failed, max pause {} us",
+                next.nodes().size(), migrated, result.failed(), maxPause / 1_000);
+        return result;
+    }
+
+    /**
+     * 自ノードのすべてのセッションを他のノードに移動し、他のノードに自ノードの離脱を通知します。
+     *
+     * <p>移動に失敗したセッションがある場合は離脱を通知しません。失敗したセッションは自ノードに留まり、
+     * 再度呼び出すと移動を再試行します。</p>
+     *
+     * @return 切り替えの結果
+     * @throws IllegalArgumentException リングに自ノード以外のノードがない場合
+     */
+    public synchronized RebalanceResult drain() {
+        ConsistentHashRing current = router.ring();
+        String selfId = router.self().id();
+        RebalanceResult result = rebalance(current.without(selfId));
+        if (result.failed() > 0) {
+            return result;
+        }
+        for (ClusterNode node : current.nodes()) {
+            if (node.id().equals(selfId)) {
+                continue;
+            }
+            try {
+                forwarding.leave(node, selfId);
+            } catch (IllegalStateException e) {
+                // 通知できなかったノードからの操作は、移動元から移動先を教えられる
+                logger.warn("Failed to notify {} that {} left", node.id(), selfId, e);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 自ノードをリングに加え、他のノードに参加を通知します。各ノードは自ノードに割り当てられた
+     * セッションを移動させてから応答します。
+     *
+     * @throws IllegalStateException リングに自ノード以外のノードがない、または他のノードに到達できない場合
+     */
+    public synchronized void join() {
+        ClusterNode self = router.self();
+        router.beginJoin(local::hasSession);
+        try {
+            for (ClusterNode node : router.ring().nodes()) {
+                if (!node.equals(self)) {
+                    forwarding.join(node, self);
+                }
+            }
+        } finally {
+            router.endTransition();
+        }
+    }
+
+    /**
+     * 他のノードの参加を受けて、そのノードを加えたリングに切り替えます。
+     *
+     * @param node 参加するノード
+     * @return 切り替えの結果
+     * @throws NullPointerException nodeがnullの場合
+     */
+    public synchronized RebalanceResult onJoin(ClusterNode node) {
+        return rebalance(router.ring().with(node));
+    }
+
+    /**
+     * 他のノードの離脱を受けて、そのノードを除いたリングに切り替えます。
+     *
+     * @param nodeId 離脱するノードのノードID
+     * @return 切り替えの結果
+     * @throws NullPointerException nodeIdがnullの場合
+     * @throws IllegalArgumentException nodeIdが自ノードの場合
+     */
+    public synchronized RebalanceResult onLeave(String nodeId) {
+        Objects.requireNonNull(nodeId, "nodeId must not be null");
+        if (nodeId.equals(router.self().id())) {
+            throw new IllegalArgumentException("Use drain() to remove this node: " + nodeId);
+        }
+        return rebalance(router.ring().without(nodeId));
+    }
+
+    /**
+     * 新しいリングでのセッションの所有ノードを返します（個別の移動先が新しいリングに含まれる場合はその移動先）。
+     */
+    private ClusterNode targetOf(String sessionId, ConsistentHashRing next) {
+        ClusterNode assigned = router.assignedOwner(sessionId);
+        return (next.node(assigned.id()) != null) ? assigned : next.ownerOf(sessionId);
+    }
+
+    /**
+     * セッションを止めて移動先に送り、移動先を記録します。
+     */
+    private MigrationResult handOff(String sessionId, ClusterNode target) {
+        long[] pause = new long[1];
+        boolean migrated = local.handOff(sessionId, target.id(), replay -> {
+            long start = System.nanoTime();
+            transfer(target, sessionId, replay);
+            router.place(sessionId, target.id());
+            pause[0] = System.nanoTime() - start;
+        });
+        return new MigrationResult(sessionId, target.id(), migrated, pause[0]);
+    }
+
+    /**
+     * 入力ログを移動先に送ります。送信が失敗した場合は、移動先が既に受け入れていないかを照会します。
+     *
+     * @throws IllegalStateException 送信が失敗し、移動先が同じ入力ログを保持していない（または照会できない）場合
+     */
+    private void transfer(ClusterNode target, String sessionId, Replay replay) {
+        try {
+            forwarding.transfer(target, sessionId, replay);
+        } catch (IllegalStateException e) {
+            if (!adopted(target, sessionId, replay)) {
+                throw e;
+            }
+            logger.info("Session {} was adopted by {} although the transfer failed", sessionId, target.id(), e);
+        }
+    }
+
+    /**
+     * 移動先がセッションを同じ入力ログで保持しているかを照会します。
+     *
+     * @return 保持している場合true（照会できない場合はfalse）
+     */
+    private boolean adopted(ClusterNode target, String sessionId, Replay replay) {
+        try {
+            return forwarding.findReplay(target, sessionId).filter(replay::equals).isPresent();
+        } catch (IllegalStateException e) {
+            logger.debug("Failed to query {} for session {}", target.id(), sessionId, e);
+            return false;
+        }
+    }
+}
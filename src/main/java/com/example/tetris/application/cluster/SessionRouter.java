@@ -0,0 +1,236 @@
+package com.example.tetris.application.cluster;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * セッションIDから所有ノードを求め、自ノードで処理するか転送するかを判定するルーター。
+ *
+ * <p>セッションは常に1つのノードだけに存在するため（スティッキー）、ドメインのエンジンは
+ * ノードをまたぐロックを必要としません。同じセッションへの操作の直列化は所有ノードのセッションストアが行います。</p>
+ *
+ * <h3>所有ノードの決定：</h3>
+ * <ol>
+ *   <li>個別に移動したセッション（配置）は、移動先のノード</li>
+ *   <li>リングの切り替え中は、自ノードに存在するセッションは自ノード（移動が済むまで留まる）</li>
+ *   <li>それ以外は{@link ConsistentHashRing}が割り当てたノード
+ *       （自ノードの参加中は、自ノードに割り当てられたセッションを参加前の所有ノードに送る）</li>
+ * </ol>
+ *
+ * <p>リングと切り替えの状態は1つの不変オブジェクトとして差し替えるため、ルーティングは常に
+ * どちらか一方の状態で行われます。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class SessionRouter {
+
+    private final ClusterNode self;
+
+    /**
+     * これまでにクラスタに参加したノード（ノードIDから）。リングを離れたノードへの配置の解決に使用します。
+     */
+    private final Map<String, ClusterNode> members = new ConcurrentHashMap<>();
+
+    /**
+     * 個別に移動したセッションの移動先（リングの所有ノードと異なるもののみ）。
+     */
+    private final Map<String, ClusterNode> placements = new ConcurrentHashMap<>();
+
+    private volatile Routing routing;
+
+    /**
+     * ルーティングの状態。
+     *
+     * @param ring 現在のリング
+     * @param resident 切り替え中に自ノードに留めるセッションの判定（切り替え中でない場合はnull）
+     * @param previous 自ノードの参加前のリング（参加中でない場合はnull）
+     */
+    private record Routing(ConsistentHashRing ring, Predicate<String> resident, ConsistentHashRing previous) {
+    }
+
+    /**
+     * コンストラクタ。
+     *
+     * @param selfId 自ノードのノードID
+     * @param ring クラスタのリング（自ノードを含むこと）
+     * @throws NullPointerException いずれかの引数がnullの場合
+     * @throws IllegalArgumentException リングに自ノードが含まれない場合
+     */
+    public SessionRouter(String selfId, ConsistentHashRing ring) {
+        Objects.requireNonNull(selfId, "selfId must not be null");
+        Objects.requireNonNull(ring, "ring must not be null");
+        this.self = ring.node(selfId);
+        if (self == null) {
+            throw new IllegalArgumentException("ring does not contain self: " + selfId);
+        }
+        ring.nodes().forEach(node -> members.put(node.id(), node));
+        this.routing = new Routing(ring, null, null);
+    }
+
+    /**
+     * 自ノードを返します。
+     *
+     * @return 自ノード
+     */
+    public ClusterNode self() {
+        return self;
+    }
+
+    /**
+     * 現在のリングを返します。
+     *
+     * @return リング
+     */
+    public ConsistentHashRing ring() {
+        return routing.ring();
+    }
+
+    /**
+     * ノードIDに一致するノードを返します（リングを離れたノードを含む）。
+     *
+     * @param id ノードID
+     * @return ノード（存在しない場合は空）
+     */
+    public Optional<ClusterNode> member(String id) {
+        return Optional.ofNullable(members.get(id));
+    }
+
+    /**
+     * リングの切り替え中であるかを判定します。
+     *
+     * @return 切り替え中の場合true
+     */
+    public boolean inTransition() {
+        return routing.resident() != null;
+    }
+
+    /**
+     * セッションの所有ノードを返します。
+     *
+     * @param sessionId セッションID
+     * @return 所有ノード
+     * @throws NullPointerException sessionIdがnullの場合
+     */
+    public ClusterNode ownerOf(String sessionId) {
+        Objects.requireNonNull(sessionId, "sessionId must not be null");
+        ClusterNode placed = placements.get(sessionId);
+        if (placed != null) {
+            return placed;
+        }
+        Routing current = routing;
+        if (current.resident() != null && current.resident().test(sessionId)) {
+            return self;
+        }
+        ClusterNode owner = current.ring().ownerOf(sessionId);
+        if (current.previous() != null && owner.equals(self)) {
+            return current.previous().ownerOf(sessionId);
+        }
+        return owner;
+    }
+
+    /**
+     * 切り替え中の例外を除いた、移動先の記録とリングによる所有ノードを返します。
+     *
+     * <p>他のノードから転送された操作が、このノードで処理すべきものかの判定に使用します。</p>
+     *
+     * @param sessionId セッションID
+     * @return 所有ノード
+     * @throws NullPointerException sessionIdがnullの場合
+     */
+    public ClusterNode assignedOwner(String sessionId) {
+        Objects.requireNonNull(sessionId, "sessionId must not be null");
+        ClusterNode placed = placements.get(sessionId);
+        return (placed != null) ? placed : routing.ring().ownerOf(sessionId);
+    }
+
+    /**
+     * セッションを他のノードが所有する場合に、転送先のノードを返します。
+     *
+     * @param sessionId セッションID
+     * @return 転送先のノード（自ノードが所有する場合は空）
+     * @throws NullPointerException sessionIdがnullの場合
+     */
+    public Optional<ClusterNode> remoteOwner(String sessionId) {
+        ClusterNode owner = ownerOf(sessionId);
+        return owner.equals(self) ? Optional.empty() : Optional.of(owner);
+    }
+
+    /**
+     * 個別に移動したセッションの移動先を記録します（リングの所有ノードと同じ場合は記録を消します）。
+     *
+     * @param sessionId セッションID
+     * @param nodeId 移動先のノードID
+     * @return 移動先を記録した場合true（ノードIDが不明な場合はfalse）
+     * @throws NullPointerException いずれかの引数がnullの場合
+     */
+    public boolean place(String sessionId, String nodeId) {
+        Objects.requireNonNull(sessionId, "sessionId must not be null");
+        ClusterNode node = members.get(Objects.requireNonNull(nodeId, "nodeId must not be null"));
+        if (node == null) {
+            return false;
+        }
+        if (node.equals(routing.ring().ownerOf(sessionId))) {
+            placements.remove(sessionId);
+        } else {
+            placements.put(sessionId, node);
+        }
+        return true;
+    }
+
+    /**
+     * 個別に移動したセッション数を返します。
+     *
+     * @return 移動先を記録しているセッション数
+     */
+    public int placements() {
+        return placements.size();
+    }
+
+    /**
+     * 新しいリングに切り替えます。自ノードに存在するセッションは、{@link #endTransition()}まで
+     * 自ノードに留まります（その間に新しい所有ノードへ移動させます）。
+     *
+     * @param next 新しいリング
+     * @param resident 自ノードに存在するセッションの判定
+     * @throws NullPointerException いずれかの引数がnullの場合
+     */
+    public void beginTransition(ConsistentHashRing next, Predicate<String> resident) {
+        Objects.requireNonNull(next, "next must not be null");
+        Objects.requireNonNull(resident, "resident must not be null");
+        next.nodes().forEach(node -> members.put(node.id(), node));
+        routing = new Routing(next, resident, null);
+    }
+
+    /**
+     * 自ノードの参加を開始します。自ノードに割り当てられたセッションのうち自ノードに存在しないものは、
+     * {@link #endTransition()}まで参加前の所有ノードに送ります（他のノードがセッションを移動させます）。
+     *
+     * @param resident 自ノードに存在するセッションの判定
+     * @throws NullPointerException residentがnullの場合
+     * @throws IllegalStateException リングに自ノード以外のノードがない場合
+     */
+    public void beginJoin(Predicate<String> resident) {
+        Objects.requireNonNull(resident, "resident must not be null");
+        ConsistentHashRing ring = routing.ring().with(self);
+        if (ring.nodes().size() == 1) {
+            throw new IllegalStateException("no other node to join");
+        }
+        routing = new Routing(ring, resident, ring.without(self.id()));
+    }
+
+    /**
+     * リングの切り替え（または参加）を終了し、リングの所有ノードと同じになった移動先と、
+     * リングを離れた他のノードへの移動先の記録を消します（自ノードに留めたセッションの記録は残します）。
+     */
+    public void endTransition() {
+        ConsistentHashRing ring = routing.ring();
+        routing = new Routing(ring, null, null);
+        placements.entrySet().removeIf(entry -> (ring.node(entry.getValue().id()) == null && !entry.getValue().equals(self))
+                || entry.getValue().equals(ring.ownerOf(entry.getKey())));
+    }
+}
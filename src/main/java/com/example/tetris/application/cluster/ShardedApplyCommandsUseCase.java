@@ -0,0 +1,146 @@
+package com.example.tetris.application.cluster;
+
+import com.example.tetris.application.dto.CommandBatchResultDTO;
+import com.example.tetris.application.port.SessionForwardingPort;
+import com.example.tetris.application.session.SessionMovedException;
+import com.example.tetris.application.session.SessionToken;
+import com.example.tetris.application.usecase.ApplyCommandsUseCase;
+import com.example.tetris.domain.GameCommand;
+import com.example.tetris.domain.replay.Replay;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * セッションを所有ノードで処理する{@link ApplyCommandsUseCase}（デコレーター）。
+ *
+ * <h3>処理フロー:</h3>
+ * <ol>
+ *   <li>{@link SessionRouter}でセッションIDから所有ノードを求める</li>
+ *   <li>自ノードが所有する場合は、ローカルのユースケースで処理</li>
+ *   <li>他のノードが所有する場合は、{@link SessionForwardingPort}で所有ノードに転送</li>
+ * </ol>
+ *
+ * <p>セッショントークンは発行したノードでのみ有効なため、トークンを指定する操作は
+ * セッションIDも指定して{@link #executeWithToken(String, SessionToken, List)}を呼び出す必要があります
+ * （セッションIDを省略した場合は自ノードで処理し、他のノードが発行したトークンは無効になります）。</p>
+ *
+ * <h3>セッションの移動：</h3>
+ * <p>処理したノード（自ノードを含む）からセッションが移動していた場合（{@link SessionMovedException}）は、
+ * 移動先を{@link SessionRouter}に記録して移動先で処理し直します（最大{@value #MAX_REDIRECTS}回）。
+ * 移動中にメールボックスで待機していた操作も、この方法で移動先に送られます。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class ShardedApplyCommandsUseCase implements ApplyCommandsUseCase {
+
+    /**
+     * 移動したセッションを移動先で処理し直す回数の上限。
+     */
+    static final int MAX_REDIRECTS = 3;
+
+    private final ApplyCommandsUseCase local;
+    private final SessionRouter router;
+    private final SessionForwardingPort forwarding;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param local 自ノードが所有するセッションを処理するユースケース
+     * @param router セッションの所有ノードを求めるルーター
+     * @param forwarding 所有ノードへの転送ポート
+     * @throws NullPointerException いずれかの引数がnullの場合
+     */
+    public ShardedApplyCommandsUseCase(ApplyCommandsUseCase local, SessionRouter router,
+                                       SessionForwardingPort forwarding) {
+        this.local = Objects.requireNonNull(local, "local must not be null");
+        this.router = Objects.requireNonNull(router, "router must not be null");
+        this.forwarding = Objects.requireNonNull(forwarding, "forwarding must not be null");
+    }
+
+    @Override
+    public CommandBatchResultDTO execute(String sessionId, List<GameCommand> commands) {
+        return route(sessionId,
+                owner -> forwarding.execute(owner, sessionId, commands),
+                () -> local.execute(sessionId, commands));
+    }
+
+    @Override
+    public SessionToken openSession(String sessionId) {
+        return route(sessionId,
+                owner -> forwarding.openSession(owner, sessionId),
+                () -> local.openSession(sessionId));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>セッションIDがないため自ノードで処理します。</p>
+     */
+    @Override
+    public CommandBatchResultDTO executeWithToken(SessionToken token, List<GameCommand> commands) {
+        return local.executeWithToken(token, commands);
+    }
+
+    @Override
+    public CommandBatchResultDTO executeWithToken(String sessionId, SessionToken token, List<GameCommand> commands) {
+        if (sessionId == null) {
+            return local.executeWithToken(token, commands);
+        }
+        return route(sessionId,
+                owner -> forwarding.executeWithToken(owner, sessionId, token, commands),
+                () -> local.executeWithToken(sessionId, token, commands));
+    }
+
+    @Override
+    public Optional<Replay> findReplay(String sessionId) {
+        return route(sessionId,
+                owner -> forwarding.findReplay(owner, sessionId),
+                () -> local.findReplay(sessionId));
+    }
+
+    @Override
+    public void removeSession(String sessionId) {
+        route(sessionId,
+                owner -> {
+                    forwarding.removeSession(owner, sessionId);
+                    return null;
+                },
+                () -> {
+                    local.removeSession(sessionId);
+                    return null;
+                });
+    }
+
+    /**
+     * 所有ノードで操作を実行します。セッションが移動していた場合は、移動先で実行し直します。
+     *
+     * @param <R> 操作の戻り値の型
+     * @param sessionId セッションID
+     * @param remote 他のノードが所有する場合の操作
+     * @param self 自ノードが所有する場合の操作
+     * @return 操作の戻り値
+     * @throws NullPointerException sessionIdがnullの場合
+     * @throws SessionMovedException 移動先で処理し直す回数が上限に達した場合、または移動先のノードが不明な場合
+     */
+    private <R> R route(String sessionId, Function<ClusterNode, R> remote, Supplier<R> self) {
+        if (sessionId == null) {
+            throw new NullPointerException("sessionId must not be null");
+        }
+        for (int redirects = 0; ; redirects++) {
+            Optional<ClusterNode> owner = router.remoteOwner(sessionId);
+            try {
+                return owner.isPresent() ? remote.apply(owner.get()) : self.get();
+            } catch (SessionMovedException e) {
+                if (redirects == MAX_REDIRECTS || !router.place(sessionId, e.target())) {
+                    throw e;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.tetris.application.dto;
+
+import com.example.tetris.domain.GameCommand;
+
+import java.util.List;
+
+/**
+ * 操作列の一括適用要求を表すDTO(Data Transfer Object)。
+ *
+ * <h3>フィールド:</h3>
+ * <ul>
+ *   <li>sessionId: セッションID（tokenを指定する場合は所有ノードへの転送にのみ使用）</li>
+ *   <li>commands: 適用順に並んだ操作列</li>
+ *   <li>token: ハンドシェイクで発行されたセッショントークン（指定した場合はsessionIdより優先）</li>
+ * </ul>
+ *
+ * @param sessionId セッションID
+ * @param commands 適用順に並んだ操作列
+ * @param token セッショントークン（省略可）
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public record CommandBatchRequestDTO(
+        String sessionId,
+        List<GameCommand> commands,
+        String token
+) {
+
+    /**
+     * セッションIDで指定する要求のコンストラクタ。
+     *
+     * @param sessionId セッションID
+     * @param commands 適用順に並んだ操作列
+     */
+    public CommandBatchRequestDTO(String sessionId, List<GameCommand> commands) {
+        this(sessionId, commands, null);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.tetris.application.dto;
+
+import java.util.List;
+
+/**
+ * 操作列の一括適用結果を表すDTO(Data Transfer Object)。
+ *
+ * <h3>フィールド:</h3>
+ * <ul>
+ *   <li>state: すべての操作を適用した後のゲーム状態</li>
+ *   <li>accepted: 操作ごとの受理フラグ（要求の操作列と同じ順序）</li>
+ * </ul>
+ *
+ * @param state すべての操作を適用した後のゲーム状態
+ * @param accepted 操作ごとの受理フラグ
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public record CommandBatchResultDTO(
+        GameStateDTO state,
+        List<Boolean> accepted
+) {
+}
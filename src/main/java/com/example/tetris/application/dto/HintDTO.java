@@ -0,0 +1,27 @@
+package com.example.tetris.application.dto;
+
+import java.util.List;
+
+/**
+ * 現在のテトリミノの推奨配置（ヒント）を表すDTO(Data Transfer Object)。
+ *
+ * <h3>フィールド:</h3>
+ * <ul>
+ *   <li>landing: 推奨される着地位置・回転状態のテトリミノ</li>
+ *   <li>commands: 現在位置から着地までの操作列（GameCommandの名前、末尾はHARD_DROP）</li>
+ *   <li>cached: キャッシュされたヒントの場合true</li>
+ * </ul>
+ *
+ * @param landing 推奨される着地位置・回転状態のテトリミノ
+ * @param commands 現在位置から着地までの操作列
+ * @param cached キャッシュされたヒントの場合true
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public record HintDTO(
+        TetrominoDTO landing,
+        List<String> commands,
+        boolean cached
+) {
+}
@@ -0,0 +1,26 @@
+package com.example.tetris.application.dto;
+
+/**
+ * ヒントサービスの統計情報を表すDTO(Data Transfer Object)。
+ *
+ * @param requests ヒント要求数
+ * @param cacheHits キャッシュから即座に応答した要求数
+ * @param computed ワーカーで探索した要求数
+ * @param cancelled 後続の要求や切断により取り消された要求数
+ * @param pending 探索待ち・探索中の要求数
+ * @param cacheHitRate キャッシュヒット率（0.0-1.0）
+ * @param cacheReplacements キャッシュで異なる局面のエントリが置き換えられた回数
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public record HintMetricsDTO(
+        long requests,
+        long cacheHits,
+        long computed,
+        long cancelled,
+        int pending,
+        double cacheHitRate,
+        long cacheReplacements
+) {
+}
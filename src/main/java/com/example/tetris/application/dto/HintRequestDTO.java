@@ -0,0 +1,19 @@
+package com.example.tetris.application.dto;
+
+/**
+ * ヒント要求を表すDTO(Data Transfer Object)。
+ *
+ * <h3>フィールド:</h3>
+ * <ul>
+ *   <li>sessionId: ヒントを求めるゲームのセッションID（局面はセッションストアの現在のゲーム状態）</li>
+ * </ul>
+ *
+ * @param sessionId ヒントを求めるゲームのセッションID
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public record HintRequestDTO(
+        String sessionId
+) {
+}
@@ -0,0 +1,36 @@
+package com.example.tetris.application.dto;
+
+/**
+ * リプレイ付きのスコア提出を表すDTO(Data Transfer Object)。
+ *
+ * <p>クライアントはゲームオーバー時に、プレイしたセッションのIDと申告スコアを提出します。
+ * サーバーはそのセッションでサーバーが記録した入力ログ（乱数シードはサーバーが決定）を再シミュレーションし、
+ * 申告値と一致した場合のみスコアを保存します。</p>
+ *
+ * <h3>フィールド:</h3>
+ * <ul>
+ *   <li>sessionId: プレイしたセッションのID</li>
+ *   <li>score: 申告スコア</li>
+ *   <li>level: 申告レベル</li>
+ *   <li>totalLinesCleared: 申告累計クリア済みライン数</li>
+ *   <li>replay: クライアントが記録したリプレイのバイナリ形式をBase64エンコードした文字列（任意）</li>
+ * </ul>
+ *
+ * @param sessionId プレイしたセッションのID
+ * @param score 申告スコア
+ * @param level 申告レベル
+ * @param totalLinesCleared 申告累計クリア済みライン数
+ * @param replay Base64エンコードされたリプレイ（{@code Replay.toBytes()}の形式、省略可。
+ *               指定した場合はサーバーが記録した入力ログと一致すること）
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public record ScoreSubmissionDTO(
+        String sessionId,
+        int score,
+        int level,
+        int totalLinesCleared,
+        String replay
+) {
+}
@@ -0,0 +1,45 @@
+package com.example.tetris.application.dto;
+
+import java.util.Map;
+
+/**
+ * スコア検証ワーカープールの統計情報を表すDTO(Data Transfer Object)。
+ *
+ * <h3>フィールド:</h3>
+ * <ul>
+ *   <li>submitted: 提出された件数</li>
+ *   <li>accepted: 受理された件数</li>
+ *   <li>rejected: 拒否された件数</li>
+ *   <li>rejectionsByReason: 拒否理由ごとの件数</li>
+ *   <li>queueDepth: 検証待ちの件数</li>
+ *   <li>workers: ワーカースレッド数</li>
+ *   <li>averageVerificationMicros: 1件あたりの平均再シミュレーション時間（マイクロ秒）</li>
+ *   <li>verificationsPerSecond: 起動からの平均検証スループット（件/秒）</li>
+ *   <li>simulatedCommandsPerSecond: 再シミュレーションした操作数のスループット（操作/秒・ワーカー時間）</li>
+ * </ul>
+ *
+ * @param submitted 提出された件数
+ * @param accepted 受理された件数
+ * @param rejected 拒否された件数
+ * @param rejectionsByReason 拒否理由名ごとの件数
+ * @param queueDepth 検証待ちの件数
+ * @param workers ワーカースレッド数
+ * @param averageVerificationMicros 1件あたりの平均再シミュレーション時間（マイクロ秒）
+ * @param verificationsPerSecond 起動からの平均検証スループット（件/秒）
+ * @param simulatedCommandsPerSecond ワーカー稼働時間あたりの再シミュレーション操作数（操作/秒）
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public record ScoreVerificationMetricsDTO(
+        long submitted,
+        long accepted,
+        long rejected,
+        Map<String, Long> rejectionsByReason,
+        int queueDepth,
+        int workers,
+        double averageVerificationMicros,
+        double verificationsPerSecond,
+        double simulatedCommandsPerSecond
+) {
+}
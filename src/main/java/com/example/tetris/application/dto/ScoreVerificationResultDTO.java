@@ -0,0 +1,46 @@
+package com.example.tetris.application.dto;
+
+import com.example.tetris.application.verification.ScoreRejectionReason;
+
+/**
+ * スコア提出の検証結果を表すDTO(Data Transfer Object)。
+ *
+ * <h3>フィールド:</h3>
+ * <ul>
+ *   <li>accepted: 検証に成功し保存された場合true</li>
+ *   <li>score: 保存されたスコア（拒否された場合はnull）</li>
+ *   <li>rejectionReason: 拒否理由（受理された場合はnull）</li>
+ * </ul>
+ *
+ * @param accepted 検証に成功し保存された場合true
+ * @param score 保存されたスコア
+ * @param rejectionReason 拒否理由
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public record ScoreVerificationResultDTO(
+        boolean accepted,
+        ScoreDTO score,
+        ScoreRejectionReason rejectionReason
+) {
+    /**
+     * 受理された検証結果を生成します。
+     *
+     * @param score 保存されたスコア
+     * @return 受理された検証結果
+     */
+    public static ScoreVerificationResultDTO accepted(ScoreDTO score) {
+        return new ScoreVerificationResultDTO(true, score, null);
+    }
+
+    /**
+     * 拒否された検証結果を生成します。
+     *
+     * @param reason 拒否理由
+     * @return 拒否された検証結果
+     */
+    public static ScoreVerificationResultDTO rejected(ScoreRejectionReason reason) {
+        return new ScoreVerificationResultDTO(false, null, reason);
+    }
+}
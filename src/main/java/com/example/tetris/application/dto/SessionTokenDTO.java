@@ -0,0 +1,47 @@
+package com.example.tetris.application.dto;
+
+/**
+ * セッションの開始（ハンドシェイク）結果を表すDTO(Data Transfer Object)。
+ *
+ * <h3>フィールド:</h3>
+ * <ul>
+ *   <li>sessionId: セッションID</li>
+ *   <li>token: 以降の操作で使用するセッショントークン（16桁の16進数、待機中の場合はnull）</li>
+ *   <li>lobbyPosition: 待機ロビーでの待機順位（1始まり、受け入れ済みの場合は0）</li>
+ * </ul>
+ *
+ * @param sessionId セッションID
+ * @param token セッショントークン
+ * @param lobbyPosition 待機順位
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public record SessionTokenDTO(
+        String sessionId,
+        String token,
+        int lobbyPosition
+) {
+
+    /**
+     * 受け入れ済みのセッションの結果を生成します。
+     *
+     * @param sessionId セッションID
+     * @param token セッショントークン
+     * @return 待機順位が0のDTO
+     */
+    public static SessionTokenDTO admitted(String sessionId, String token) {
+        return new SessionTokenDTO(sessionId, token, 0);
+    }
+
+    /**
+     * 待機ロビーで待機中のセッションの結果を生成します。
+     *
+     * @param sessionId セッションID
+     * @param lobbyPosition 待機順位
+     * @return トークンがnullのDTO
+     */
+    public static SessionTokenDTO queued(String sessionId, int lobbyPosition) {
+        return new SessionTokenDTO(sessionId, null, lobbyPosition);
+    }
+}
@@ -0,0 +1,554 @@
+package com.example.tetris.application.engine;
+
+import com.example.tetris.domain.Block;
+import com.example.tetris.domain.GameCommand;
+import com.example.tetris.domain.GameField;
+import com.example.tetris.domain.GameState;
+import com.example.tetris.domain.GameStatus;
+import com.example.tetris.domain.LevelManager;
+import com.example.tetris.domain.PieceDraw;
+import com.example.tetris.domain.PieceGenerator;
+import com.example.tetris.domain.Position;
+import com.example.tetris.domain.Rotation;
+import com.example.tetris.domain.ScoreCalculator;
+import com.example.tetris.domain.Tetromino;
+import com.example.tetris.domain.TetrominoType;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 多数のセッションの自動落下を1回の走査でまとめて進めるティックエンジン。
+ *
+ * <p>セッションごとのGameStateオブジェクトグラフ（フィールドの2次元配列、Block、Tetromino）は
+ * ヒープ上に散らばるため、全セッションのティックはキャッシュミスが支配的になります。
+ * SessionTickEngineは、盤面・テトリミノの位置・落下タイマーをセッションを添字とする
+ * プリミティブ配列（struct-of-arrays）に保持し、期限の来たセッションを連続したメモリの
+ * 走査で進めます。走査はスロットの範囲ごとに分割され、fork/joinプールで並列に実行されます。</p>
+ *
+ * <h3>状態の表現:</h3>
+ * <ul>
+ *   <li>盤面: 行ごとの10ビットの占有マスク（衝突判定用）と、セルごとのテトリミノ型（表示用）</li>
+ *   <li>テトリミノ: 型・向き・x・yをそれぞれ別の配列に保持</li>
+ *   <li>タイマー: 次の自動落下の期限（単調増加クロックのミリ秒値）</li>
+ *   <li>ピースジェネレーター: 固定時にのみ参照するため、参照の配列に保持</li>
+ * </ul>
+ * <p>GameStateは引き続きAPI上の表現であり、{@link #view(int)}で必要な時にのみ生成されます。</p>
+ *
+ * <h3>ティックの意味:</h3>
+ * <p>1ティックは{@link GameState#processAutoDropTick()}と同一です（下に移動できなければ固定）。
+ * 期限ごとに1ティックを適用し、次の期限は適用後のレベルの落下間隔だけ進みます。
+ * ゲームオーバーになったセッションは以降ティックされません。</p>
+ *
+ * <h3>スレッドセーフ性:</h3>
+ * <p>スロットは{@value #SLOTS_PER_TASK}個ずつのパーティションに分けられ、セッションの状態は
+ * パーティションごとのロックで保護されます。{@link #apply(int, GameCommand)}・{@link #view(int)}は
+ * 対象のスロットのパーティションのみを、{@link #sweep(long)}の各ワーカーは担当するパーティションのみを
+ * ロックするため、走査中も他のパーティションのセッションへの操作は待たされません。
+ * 空きスロットの割り当てと解放のみが全体で1つのロック（freeSlots）で同期されます。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class SessionTickEngine {
+
+    /**
+     * 1つの走査タスクが担当するスロット数。
+     */
+    static final int SLOTS_PER_TASK = 256;
+
+    /**
+     * 1回の走査で1セッションに適用するティック数の上限（超えた分の遅延は破棄）。
+     */
+    static final int MAX_TICKS_PER_SWEEP = 1024;
+
+    private static final int WIDTH = GameField.WIDTH;
+    private static final int HEIGHT = GameField.HEIGHT;
+    private static final int CELLS = WIDTH * HEIGHT;
+    private static final int FULL_ROW = (1 << WIDTH) - 1;
+    private static final byte PLAYING = 0;
+    private static final byte GAME_OVER = 1;
+
+    private static final TetrominoType[] TYPES = TetrominoType.values();
+    private static final Rotation[] ROTATIONS = Rotation.values();
+
+    /**
+     * テトリミノ型×向きごとのセル相対座標（x0, y0, x1, y1, ...）。
+     */
+    private static final int[][][] SHAPES = new int[TYPES.length][ROTATIONS.length][];
+
+    /**
+     * テトリミノ型ごとの出現時のテトリミノ。
+     */
+    private static final Tetromino[] SPAWNS = new Tetromino[TYPES.length];
+
+    static {
+        for (TetrominoType type : TYPES) {
+            for (Rotation rotation : ROTATIONS) {
+                // 形状定義はTetrominoを唯一の情報源とする
+                List<Position> cells = new Tetromino(type, new Position(0, 0), rotation).getBlockPositions();
+                int[] offsets = new int[cells.size() * 2];
+                for (int i = 0; i < cells.size(); i++) {
+                    offsets[i * 2] = cells.get(i).x();
+                    offsets[i * 2 + 1] = cells.get(i).y();
+                }
+                SHAPES[type.ordinal()][rotation.ordinal()] = offsets;
+            }
+            SPAWNS[type.ordinal()] = GameState.spawnTetromino(type);
+        }
+    }
+
+    private final int capacity;
+    private final ForkJoinPool pool;
+
+    // 盤面
+    private final int[] rowMasks;
+    private final byte[] cells;
+
+    // 現在のテトリミノ
+    private final byte[] pieceType;
+    private final byte[] pieceRotation;
+    private final int[] pieceX;
+    private final int[] pieceY;
+
+    // 次のテトリミノ
+    private final byte[] nextType;
+    private final byte[] nextRotation;
+    private final int[] nextX;
+    private final int[] nextY;
+
+    // 進行状況
+    private final byte[] status;
+    private final int[] score;
+    private final int[] level;
+    private final int[] lines;
+    private final long[] dueMillis;
+    private final PieceGenerator[] generators;
+
+    // スロット管理
+    private final boolean[] active;
+    private final int[] freeSlots;
+
+    /**
+     * 空きスロットの数（freeSlotsで同期）。
+     */
+    private int freeCount;
+
+    /**
+     * パーティション（{@value #SLOTS_PER_TASK}スロット）ごとのロック。
+     */
+    private final Object[] partitionLocks;
+
+    /**
+     * 共通fork/joinプールで走査するエンジンを生成します。
+     *
+     * @param capacity 保持できる最大セッション数（1以上）
+     * @throws IllegalArgumentException capacityが1未満の場合
+     */
+    public SessionTickEngine(int capacity) {
+        this(capacity, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 指定されたfork/joinプールで走査するエンジンを生成します。
+     *
+     * @param capacity 保持できる最大セッション数（1以上）
+     * @param pool 走査に使用するfork/joinプール
+     * @throws IllegalArgumentException capacityが1未満の場合
+     * @throws NullPointerException poolがnullの場合
+     */
+    public SessionTickEngine(int capacity, ForkJoinPool pool) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        if (pool == null) {
+            throw new NullPointerException("pool must not be null");
+        }
+        this.capacity = capacity;
+        this.pool = pool;
+        this.rowMasks = new int[capacity * HEIGHT];
+        this.cells = new byte[capacity * CELLS];
+        this.pieceType = new byte[capacity];
+        this.pieceRotation = new byte[capacity];
+        this.pieceX = new int[capacity];
+        this.pieceY = new int[capacity];
+        this.nextType = new byte[capacity];
+        this.nextRotation = new byte[capacity];
+        this.nextX = new int[capacity];
+        this.nextY = new int[capacity];
+        this.status = new byte[capacity];
+        this.score = new int[capacity];
+        this.level = new int[capacity];
+        this.lines = new int[capacity];
+        this.dueMillis = new long[capacity];
+        this.generators = new PieceGenerator[capacity];
+        this.active = new boolean[capacity];
+        this.freeSlots = new int[capacity];
+        for (int i = 0; i < capacity; i++) {
+            freeSlots[i] = capacity - 1 - i;  // 小さいスロットから割り当てる
+        }
+        this.freeCount = capacity;
+        this.partitionLocks = new Object[(capacity + SLOTS_PER_TASK - 1) / SLOTS_PER_TASK];
+        for (int i = 0; i < partitionLocks.length; i++) {
+            partitionLocks[i] = new Object();
+        }
+    }
+
+    /**
+     * セッションを追加します。
+     *
+     * @param state セッションの現在の状態
+     * @param nowMillis 現在時刻（単調増加するクロックのミリ秒値）
+     * @return 割り当てられたスロット番号
+     * @throws NullPointerException stateがnullの場合
+     * @throws IllegalStateException 空きスロットがない場合
+     */
+    public int add(GameState state, long nowMillis) {
+        if (state == null) {
+            throw new NullPointerException("state must not be null");
+        }
+        int slot;
+        synchronized (freeSlots) {
+            if (freeCount == 0) {
+                throw new IllegalStateException("Maximum session limit reached: " + capacity);
+            }
+            slot = freeSlots[--freeCount];
+        }
+        synchronized (partitionLock(slot)) {
+            store(slot, state);
+            dueMillis[slot] = nowMillis + LevelManager.calculateDropInterval(level[slot]);
+            active[slot] = true;
+        }
+        return slot;
+    }
+
+    /**
+     * セッションを削除し、スロットを解放します。
+     *
+     * @param slot スロット番号
+     * @throws IllegalArgumentException スロットが使用中でない場合
+     */
+    public void remove(int slot) {
+        checkRange(slot);
+        synchronized (partitionLock(slot)) {
+            checkActive(slot);
+            active[slot] = false;
+            generators[slot] = null;
+        }
+        synchronized (freeSlots) {
+            freeSlots[freeCount++] = slot;
+        }
+    }
+
+    /**
+     * セッションの現在の状態をGameStateとして生成します。
+     *
+     * @param slot スロット番号
+     * @return 現在の状態
+     * @throws IllegalArgumentException スロットが使用中でない場合
+     */
+    public GameState view(int slot) {
+        checkRange(slot);
+        synchronized (partitionLock(slot)) {
+            checkActive(slot);
+            return materialize(slot);
+        }
+    }
+
+    /**
+     * セッションにプレイヤーの操作を適用します。
+     *
+     * <p>操作はGameState上で適用され、結果が配列に書き戻されます。落下タイマーは変更されません。</p>
+     *
+     * @param slot スロット番号
+     * @param command 適用する操作
+     * @return 操作適用後の状態
+     * @throws NullPointerException commandがnullの場合
+     * @throws IllegalArgumentException スロットが使用中でない場合
+     */
+    public GameState apply(int slot, GameCommand command) {
+        if (command == null) {
+            throw new NullPointerException("command must not be null");
+        }
+        checkRange(slot);
+        synchronized (partitionLock(slot)) {
+            checkActive(slot);
+            GameState state = command.apply(materialize(slot));
+            store(slot, state);
+            return state;
+        }
+    }
+
+    /**
+     * 使用中のセッション数を返します。
+     *
+     * @return 使用中のセッション数
+     */
+    public int size() {
+        synchronized (freeSlots) {
+            return capacity - freeCount;
+        }
+    }
+
+    /**
+     * 期限の来たすべてのセッションの自動落下を進めます。
+     *
+     * <p>パーティションごとにロックを取得して走査するため、走査全体を通した一貫したスナップショットではありません。
+     * 並行して追加されたセッションは、そのパーティションの走査の前後によって今回の走査に含まれない場合があります。</p>
+     *
+     * @param nowMillis 現在時刻（単調増加するクロックのミリ秒値）
+     * @return 適用したティックの総数
+     */
+    public long sweep(long nowMillis) {
+        if (partitionLocks.length == 1 || pool.getParallelism() == 1) {
+            long ticks = 0;
+            for (int partition = 0; partition < partitionLocks.length; partition++) {
+                ticks += sweepPartition(partition, nowMillis);
+            }
+            return ticks;
+        }
+        return pool.invoke(new SweepTask(0, partitionLocks.length, nowMillis));
+    }
+
+    /**
+     * パーティションのロックを取得して走査します。
+     */
+    private long sweepPartition(int partition, long nowMillis) {
+        int from = partition * SLOTS_PER_TASK;
+        synchronized (partitionLocks[partition]) {
+            return sweepRange(from, Math.min(from + SLOTS_PER_TASK, capacity), nowMillis);
+        }
+    }
+
+    /**
+     * スロット範囲を走査し、期限の来たセッションにティックを適用します（呼び出し側がパーティションのロックを保持）。
+     */
+    private long sweepRange(int from, int to, long nowMillis) {
+        long ticks = 0;
+        for (int slot = from; slot < to; slot++) {
+            if (!active[slot] || status[slot] != PLAYING || dueMillis[slot] > nowMillis) {
+                continue;
+            }
+            long due = dueMillis[slot];
+            int applied = 0;
+            while (due <= nowMillis && status[slot] == PLAYING && applied < MAX_TICKS_PER_SWEEP) {
+                tick(slot);
+                applied++;
+                due += LevelManager.calculateDropInterval(level[slot]);
+            }
+            dueMillis[slot] = (due <= nowMillis) ? nowMillis + LevelManager.calculateDropInterval(level[slot]) : due;
+            ticks += applied;
+        }
+        return ticks;
+    }
+
+    /**
+     * 1ティック分の自動落下を適用します（下に移動できなければ固定）。
+     */
+    private void tick(int slot) {
+        int type = pieceType[slot];
+        int rotation = pieceRotation[slot];
+        if (fits(slot, type, rotation, pieceX[slot], pieceY[slot] + 1)) {
+            pieceY[slot]++;
+        } else {
+            lock(slot);
+        }
+    }
+
+    /**
+     * 現在のテトリミノを固定し、ライン消去・スコア計算・次のテトリミノの生成を行います。
+     *
+     * <p>{@link GameState#hardDrop()}と同じ規則で状態を更新します。</p>
+     */
+    private void lock(int slot) {
+        int rowBase = slot * HEIGHT;
+        int cellBase = slot * CELLS;
+        int[] shape = SHAPES[pieceType[slot]][pieceRotation[slot]];
+        byte cellValue = (byte) (pieceType[slot] + 1);
+
+        // 1. 固定
+        for (int i = 0; i < shape.length; i += 2) {
+            int x = pieceX[slot] + shape[i];
+            int y = pieceY[slot] + shape[i + 1];
+            rowMasks[rowBase + y] |= 1 << x;
+            cells[cellBase + y * WIDTH + x] = cellValue;
+        }
+
+        // 2. ライン消去（下の行から詰め直す）
+        int write = HEIGHT - 1;
+        for (int read = HEIGHT - 1; read >= 0; read--) {
+            if (rowMasks[rowBase + read] == FULL_ROW) {
+                continue;
+            }
+            if (write != read) {
+                rowMasks[rowBase + write] = rowMasks[rowBase + read];
+                System.arraycopy(cells, cellBase + read * WIDTH, cells, cellBase + write * WIDTH, WIDTH);
+            }
+            write--;
+        }
+        int cleared = write + 1;
+        for (int y = 0; y < cleared; y++) {
+            rowMasks[rowBase + y] = 0;
+            Arrays.fill(cells, cellBase + y * WIDTH, cellBase + (y + 1) * WIDTH, (byte) 0);
+        }
+
+        // 3. スコア・ライン数・レベル
+        score[slot] += ScoreCalculator.calculateScore(cleared);
+        lines[slot] += cleared;
+        level[slot] = LevelManager.calculateLevel(lines[slot]);
+
+        // 4. 次のテトリミノを現在のテトリミノにし、ゲームオーバーを判定
+        pieceType[slot] = nextType[slot];
+        pieceRotation[slot] = nextRotation[slot];
+        pieceX[slot] = nextX[slot];
+        pieceY[slot] = nextY[slot];
+        if (!fits(slot, pieceType[slot], pieceRotation[slot], pieceX[slot], pieceY[slot])) {
+            status[slot] = GAME_OVER;
+        }
+
+        // 5. ピースジェネレーターから新しい次のテトリミノを取り出す
+        PieceDraw draw = generators[slot].next();
+        generators[slot] = draw.generator();
+        storeNext(slot, SPAWNS[draw.type().ordinal()]);
+    }
+
+    /**
+     * テトリミノを指定位置に配置できるかを行マスクで判定します。
+     */
+    private boolean fits(int slot, int type, int rotation, int x, int y) {
+        int[] shape = SHAPES[type][rotation];
+        int rowBase = slot * HEIGHT;
+        for (int i = 0; i < shape.length; i += 2) {
+            int cx = x + shape[i];
+            int cy = y + shape[i + 1];
+            if (cx < 0 || cx >= WIDTH || cy < 0 || cy >= HEIGHT || (rowMasks[rowBase + cy] & (1 << cx)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * GameStateを配列に書き込みます。
+     */
+    private void store(int slot, GameState state) {
+        int rowBase = slot * HEIGHT;
+        int cellBase = slot * CELLS;
+        GameField field = state.field();
+        System.arraycopy(field.rowMasks(), 0, rowMasks, rowBase, HEIGHT);
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                Block block = field.blockAt(x, y);
+                cells[cellBase + y * WIDTH + x] = (block == null) ? 0 : (byte) (block.type().ordinal() + 1);
+            }
+        }
+
+        Tetromino current = state.currentTetromino();
+        pieceType[slot] = (byte) current.type().ordinal();
+        pieceRotation[slot] = (byte) current.rotation().ordinal();
+        pieceX[slot] = current.position().x();
+        pieceY[slot] = current.position().y();
+        storeNext(slot, state.nextTetromino());
+
+        status[slot] = (state.status() == GameStatus.PLAYING) ? PLAYING : GAME_OVER;
+        score[slot] = state.score();
+        level[slot] = state.level();
+        lines[slot] = state.totalLinesCleared();
+        generators[slot] = state.pieceGenerator();
+    }
+
+    /**
+     * 次のテトリミノを配列に書き込みます。
+     */
+    private void storeNext(int slot, Tetromino next) {
+        nextType[slot] = (byte) next.type().ordinal();
+        nextRotation[slot] = (byte) next.rotation().ordinal();
+        nextX[slot] = next.position().x();
+        nextY[slot] = next.position().y();
+    }
+
+    /**
+     * 配列からGameStateを生成します。
+     */
+    private GameState materialize(int slot) {
+        int cellBase = slot * CELLS;
+        Block[][] grid = new Block[HEIGHT][WIDTH];
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                byte value = cells[cellBase + y * WIDTH + x];
+                if (value != 0) {
+                    grid[y][x] = Block.of(TYPES[value - 1]);
+                }
+            }
+        }
+
+        return new GameState(
+                (status[slot] == PLAYING) ? GameStatus.PLAYING : GameStatus.GAME_OVER,
+                new Tetromino(TYPES[pieceType[slot]], new Position(pieceX[slot], pieceY[slot]),
+                        ROTATIONS[pieceRotation[slot]]),
+                new Tetromino(TYPES[nextType[slot]], new Position(nextX[slot], nextY[slot]),
+                        ROTATIONS[nextRotation[slot]]),
+                new GameField(grid),
+                score[slot],
+                level[slot],
+                lines[slot],
+                generators[slot]
+        );
+    }
+
+    /**
+     * スロットのパーティションのロックを返します。
+     */
+    private Object partitionLock(int slot) {
+        return partitionLocks[slot / SLOTS_PER_TASK];
+    }
+
+    /**
+     * スロット番号が範囲内であることを検証します。
+     */
+    private void checkRange(int slot) {
+        if (slot < 0 || slot >= capacity) {
+            throw new IllegalArgumentException("slot is not active: " + slot);
+        }
+    }
+
+    /**
+     * スロットが使用中であることを検証します（呼び出し側がパーティションのロックを保持）。
+     */
+    private void checkActive(int slot) {
+        if (!active[slot]) {
+            throw new IllegalArgumentException("slot is not active: " + slot);
+        }
+    }
+
+    /**
+     * パーティションの範囲を分割して走査するfork/joinタスク（1タスクが1パーティションを担当）。
+     */
+    private final class SweepTask extends RecursiveTask<Long> {
+
+        private final int from;
+        private final int to;
+        private final long nowMillis;
+
+        SweepTask(int from, int to, long nowMillis) {
+            this.from = from;
+            this.to = to;
+            this.nowMillis = nowMillis;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from == 1) {
+                return sweepPartition(from, nowMillis);
+            }
+            int mid = (from + to) >>> 1;
+            SweepTask left = new SweepTask(from, mid, nowMillis);
+            left.fork();
+            long right = new SweepTask(mid, to, nowMillis).compute();
+            return right + left.join();
+        }
+    }
+}
@@ -5,6 +5,8 @@ import com.example.tetris.application.dto.TetrominoDTO;
 import com.example.tetris.domain.Block;
 import com.example.tetris.domain.GameField;
 import com.example.tetris.domain.GameState;
+import com.example.tetris.domain.PieceGenerator;
+import com.example.tetris.domain.TetrominoType;
 
 /**
  * GameStateドメインオブジェクトと GameStateDTO の変換を行うマッパークラス。
@@ -66,6 +68,36 @@ public final class GameStateMapper {
         );
     }
 
+    /**
+     * GameStateDTOをGameStateドメインオブジェクトに変換します。
+     *
+     * <p>GameStateDTOはピースジェネレーターを含まないため、変換後のGameStateが
+     * 使用するピースジェネレーターを呼び出し元が指定します。クライアントから受信した
+     * 盤面を評価する用途（ヒントなど）を想定しています。</p>
+     *
+     * @param dto 変換元のGameStateDTO
+     * @param pieceGenerator 変換後のGameStateが使用するピースジェネレーター
+     * @return 変換されたGameState
+     * @throws NullPointerException dto、またはその必須項目がnullの場合
+     * @throws IllegalArgumentException フィールドのサイズやセルの値が不正な場合
+     */
+    public static GameState toDomain(GameStateDTO dto, PieceGenerator pieceGenerator) {
+        if (dto == null) {
+            throw new NullPointerException("gameState must not be null");
+        }
+
+        return new GameState(
+                dto.status(),
+                TetrominoMapper.toDomain(dto.currentTetromino()),
+                TetrominoMapper.toDomain(dto.nextTetromino()),
+                convertArrayToField(dto.field()),
+                dto.score(),
+                dto.level(),
+                dto.totalLinesCleared(),
+                pieceGenerator
+        );
+    }
+
     /**
      * GameFieldをString[][]に変換します。
      *
@@ -79,16 +111,45 @@ public final class GameStateMapper {
      * @return 変換されたString[][] (20行×10列)
      */
     private static String[][] convertFieldToArray(GameField field) {
-        Block[][] grid = field.grid();
         String[][] result = new String[GameField.HEIGHT][GameField.WIDTH];
 
         for (int y = 0; y < GameField.HEIGHT; y++) {
             for (int x = 0; x < GameField.WIDTH; x++) {
-                Block block = grid[y][x];
+                Block block = field.blockAt(x, y);
                 result[y][x] = (block != null) ? block.type().name() : null;
             }
         }
 
         return result;
     }
+
+    /**
+     * String[][]をGameFieldに変換します（{@link #convertFieldToArray(GameField)}の逆変換）。
+     *
+     * @param fieldArray 変換元のString[][] (20行×10列)
+     * @return 変換されたGameField
+     * @throws NullPointerException fieldArrayがnullの場合
+     * @throws IllegalArgumentException サイズが20行×10列でない、またはセルの値が不正な場合
+     */
+    private static GameField convertArrayToField(String[][] fieldArray) {
+        if (fieldArray == null) {
+            throw new NullPointerException("field must not be null");
+        }
+        if (fieldArray.length != GameField.HEIGHT) {
+            throw new IllegalArgumentException("field must have " + GameField.HEIGHT + " rows: " + fieldArray.length);
+        }
+
+        Block[][] grid = new Block[GameField.HEIGHT][GameField.WIDTH];
+        for (int y = 0; y < GameField.HEIGHT; y++) {
+            if (fieldArray[y] == null || fieldArray[y].length != GameField.WIDTH) {
+                throw new IllegalArgumentException("field row " + y + " must have " + GameField.WIDTH + " columns");
+            }
+            for (int x = 0; x < GameField.WIDTH; x++) {
+                String cell = fieldArray[y][x];
+                grid[y][x] = (cell != null) ? Block.of(TetrominoType.valueOf(cell)) : null;
+            }
+        }
+
+        return new GameField(grid);
+    }
 }
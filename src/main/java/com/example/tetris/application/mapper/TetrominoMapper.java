@@ -1,8 +1,10 @@
 package com.example.tetris.application.mapper;
 
 import com.example.tetris.application.dto.TetrominoDTO;
+import com.example.tetris.domain.Position;
 import com.example.tetris.domain.Rotation;
 import com.example.tetris.domain.Tetromino;
+import com.example.tetris.domain.TetrominoType;
 
 /**
  * Tetrominoドメインオブジェクトと TetrominoDTO の変換を行うマッパークラス。
@@ -51,6 +53,29 @@ public final class TetrominoMapper {
         );
     }
 
+    /**
+     * TetrominoDTOをTetrominoドメインオブジェクトに変換します。
+     *
+     * @param dto 変換元のTetrominoDTO
+     * @return 変換されたTetromino
+     * @throws NullPointerException dtoまたはtypeがnullの場合
+     * @throws IllegalArgumentException typeまたはrotationが不正な値の場合
+     */
+    public static Tetromino toDomain(TetrominoDTO dto) {
+        if (dto == null) {
+            throw new NullPointerException("tetromino must not be null");
+        }
+        if (dto.type() == null) {
+            throw new NullPointerException("tetromino type must not be null");
+        }
+
+        return new Tetromino(
+                TetrominoType.valueOf(dto.type()),
+                new Position(dto.x(), dto.y()),
+                degreesToRotation(dto.rotation())
+        );
+    }
+
     /**
      * Rotation列挙型を度数（int）に変換します。
      *
@@ -65,4 +90,21 @@ public final class TetrominoMapper {
             case DEG_270 -> 270;
         };
     }
+
+    /**
+     * 度数（int）をRotation列挙型に変換します。
+     *
+     * @param degrees 度数（0, 90, 180, 270）
+     * @return 変換されたRotation
+     * @throws IllegalArgumentException 度数が不正な値の場合
+     */
+    private static Rotation degreesToRotation(int degrees) {
+        return switch (degrees) {
+            case 0 -> Rotation.DEG_0;
+            case 90 -> Rotation.DEG_90;
+            case 180 -> Rotation.DEG_180;
+            case 270 -> Rotation.DEG_270;
+            default -> throw new IllegalArgumentException("Invalid rotation degrees: " + degrees);
+        };
+    }
 }
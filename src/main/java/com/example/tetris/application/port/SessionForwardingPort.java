@@ -0,0 +1,138 @@
+package com.example.tetris.application.port;
+
+import com.example.tetris.application.cluster.ClusterNode;
+import com.example.tetris.application.dto.CommandBatchResultDTO;
+import com.example.tetris.application.session.SessionToken;
+import com.example.tetris.domain.GameCommand;
+import com.example.tetris.domain.replay.Replay;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * セッションの操作を所有ノードに転送するポートインターフェース。
+ *
+ * <p>ヘキサゴナルアーキテクチャにおける「ポート」として、
+ * アプリケーション層がノード間の通信手段（HTTPなど）に依存しないようにするためのインターフェースです。</p>
+ *
+ * <h3>責務:</h3>
+ * <ul>
+ *   <li>所有ノードの{@link com.example.tetris.application.usecase.ApplyCommandsUseCase}と同じ操作を呼び出す</li>
+ *   <li>所有ノードで発生した例外を、ローカルで呼び出した場合と同じ例外として送出する</li>
+ * </ul>
+ *
+ * <p>所有ノードに到達できない場合は{@link IllegalStateException}を送出します
+ * （新しいセッションを受け入れられない場合と同じく、呼び出し元は再試行できます）。
+ * 転送先のノードは受け取った操作をさらに転送しません。セッションが転送先のノードから移動していた場合は
+ * {@link com.example.tetris.application.session.SessionMovedException}を送出し、呼び出し元が移動先に送り直します。</p>
+ *
+ * <h3>実装:</h3>
+ * <p>このインターフェースは、{@code adapter.outbound}パッケージの
+ * HttpSessionForwardingAdapterによって実装されます。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public interface SessionForwardingPort {
+
+    /**
+     * 所有ノードで操作列を一括で適用します。
+     *
+     * @param owner 所有ノード
+     * @param sessionId セッションID
+     * @param commands 適用する操作列
+     * @return 最終状態と操作ごとの受理フラグ
+     * @throws IllegalArgumentException sessionIdまたはcommandsが不正な場合
+     * @throws java.util.concurrent.RejectedExecutionException セッションの待機中の操作数が上限に達している場合
+     * @throws IllegalStateException 新しいセッションを受け入れられない、または所有ノードに到達できない場合
+     */
+    CommandBatchResultDTO execute(ClusterNode owner, String sessionId, List<GameCommand> commands);
+
+    /**
+     * 所有ノードでセッションを開始し、セッショントークンを発行します。
+     *
+     * @param owner 所有ノード
+     * @param sessionId セッションID
+     * @return 所有ノードが発行したセッショントークン
+     * @throws IllegalArgumentException sessionIdが不正な場合
+     * @throws com.example.tetris.application.session.SessionNotAdmittedException 所有ノードの待機ロビーで待機中、
+     *         またはロビーが満員の場合
+     * @throws IllegalStateException 新しいセッションを受け入れられない、または所有ノードに到達できない場合
+     */
+    SessionToken openSession(ClusterNode owner, String sessionId);
+
+    /**
+     * 所有ノードでセッショントークンを指定して操作列を一括で適用します。
+     *
+     * @param owner 所有ノード
+     * @param sessionId セッションID（所有ノードの決定に使用）
+     * @param token 所有ノードが発行したセッショントークン
+     * @param commands 適用する操作列
+     * @return 最終状態と操作ごとの受理フラグ
+     * @throws IllegalArgumentException トークンが無効、またはcommandsが不正な場合
+     * @throws java.util.concurrent.RejectedExecutionException セッションの待機中の操作数が上限に達している場合
+     * @throws IllegalStateException 所有ノードに到達できない場合
+     */
+    CommandBatchResultDTO executeWithToken(ClusterNode owner, String sessionId, SessionToken token,
+                                           List<GameCommand> commands);
+
+    /**
+     * 所有ノードからセッションの入力ログを取得します。
+     *
+     * @param owner 所有ノード
+     * @param sessionId セッションID
+     * @return セッションのReplay（セッションが存在しない場合は空）
+     * @throws com.example.tetris.application.session.ReplayUnavailableException 所有ノードのセッションが
+     *         スナップショットから復元したため入力ログがない場合
+     * @throws IllegalStateException 所有ノードに到達できない場合
+     */
+    Optional<Replay> findReplay(ClusterNode owner, String sessionId);
+
+    /**
+     * 所有ノードのセッションを削除します。
+     *
+     * @param owner 所有ノード
+     * @param sessionId セッションID
+     * @throws IllegalStateException 所有ノードに到達できない場合
+     */
+    void removeSession(ClusterNode owner, String sessionId);
+
+    /**
+     * 移動先のノードにセッションの入力ログを送り、セッションを受け入れさせます。
+     *
+     * @param target 移動先のノード
+     * @param sessionId セッションID
+     * @param replay ゲーム開始からの入力ログ
+     * @throws IllegalStateException 移動先が受け入れられない、または移動先に到達できない場合
+     */
+    void transfer(ClusterNode target, String sessionId, Replay replay);
+
+    /**
+     * ノードにセッションの移動先を通知します。
+     *
+     * @param node 通知先のノード
+     * @param sessionId セッションID
+     * @param ownerId 移動先のノードID
+     * @throws IllegalStateException 通知先に到達できない場合
+     */
+    void place(ClusterNode node, String sessionId, String ownerId);
+
+    /**
+     * ノードにノードの参加を通知し、参加するノードに割り当てられたセッションの移動が終わるまで待ちます。
+     *
+     * @param node 通知先のノード
+     * @param joining 参加するノード
+     * @throws IllegalStateException 通知先に到達できない場合
+     */
+    void join(ClusterNode node, ClusterNode joining);
+
+    /**
+     * ノードにノードの離脱を通知します（離脱するノードのセッションは移動済みであること）。
+     *
+     * @param node 通知先のノード
+     * @param leavingId 離脱するノードのノードID
+     * @throws IllegalStateException 通知先に到達できない場合
+     */
+    void leave(ClusterNode node, String leavingId);
+}
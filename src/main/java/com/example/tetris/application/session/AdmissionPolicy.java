@@ -0,0 +1,60 @@
+package com.example.tetris.application.session;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * {@link SessionAdmission}が新しいセッションを受け入れる条件。
+ *
+ * @param heapReserveBytes セッション以外の処理のために常に残しておくヒープ（バイト）
+ * @param minBytesPerSession 1セッションあたりのヒープ使用量の見積もりの下限（バイト）
+ * @param commandsPerSecond 1セッションあたりの毎秒の操作数（入力と重力のティック）の想定値
+ * @param targetUtilization 操作の実行に使用するCPU時間の割合の目標（0より大きく1以下）
+ * @param maxTickLag 操作の投入から実行開始までの平均待ち時間の上限（超えている間は受け入れない）
+ * @param lobbyCapacity 待機ロビーの最大人数（0の場合は待機させずに拒否）
+ * @param lobbyTimeout 待機ロビーで再確認がないまま経過すると退出させるまでの時間
+ * @param sampleInterval 負荷を再計測する間隔
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public record AdmissionPolicy(long heapReserveBytes, long minBytesPerSession, double commandsPerSecond,
+                              double targetUtilization, Duration maxTickLag, int lobbyCapacity,
+                              Duration lobbyTimeout, Duration sampleInterval) {
+
+    /**
+     * 既定の受け入れ条件。
+     *
+     * <p>ヒープの予備は64MiB、1セッションあたり最低1KiB、毎秒10操作、CPUの目標使用率75%、
+     * 待ち時間の上限50ミリ秒、ロビーは1000人・30秒、計測間隔は1秒です。</p>
+     */
+    public static final AdmissionPolicy DEFAULT = new AdmissionPolicy(64L << 20, 1024, 10.0, 0.75,
+            Duration.ofMillis(50), 1000, Duration.ofSeconds(30), Duration.ofSeconds(1));
+
+    /**
+     * コンパクトコンストラクタ。
+     *
+     * @throws NullPointerException Durationの引数がnullの場合
+     * @throws IllegalArgumentException 数値の引数が範囲外の場合
+     */
+    public AdmissionPolicy {
+        Objects.requireNonNull(maxTickLag, "maxTickLag must not be null");
+        Objects.requireNonNull(lobbyTimeout, "lobbyTimeout must not be null");
+        Objects.requireNonNull(sampleInterval, "sampleInterval must not be null");
+        if (heapReserveBytes < 0) {
+            throw new IllegalArgumentException("heapReserveBytes must not be negative");
+        }
+        if (minBytesPerSession < 1) {
+            throw new IllegalArgumentException("minBytesPerSession must be at least 1");
+        }
+        if (!(commandsPerSecond > 0)) {
+            throw new IllegalArgumentException("commandsPerSecond must be positive");
+        }
+        if (!(targetUtilization > 0 && targetUtilization <= 1)) {
+            throw new IllegalArgumentException("targetUtilization must be in (0, 1]");
+        }
+        if (lobbyCapacity < 0) {
+            throw new IllegalArgumentException("lobbyCapacity must not be negative");
+        }
+    }
+}
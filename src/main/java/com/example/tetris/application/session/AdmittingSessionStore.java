@@ -0,0 +1,129 @@
+package com.example.tetris.application.session;
+
+import com.example.tetris.domain.replay.Replay;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 新しいセッションの作成前に{@link SessionAdmission}で受け入れを判定する{@link SessionStore}。
+ *
+ * <p>存在しないセッションを開く場合（{@link #open(String)}）と他のノードから受け入れる場合
+ * （{@link #adopt(String, Replay)}）は、委譲先のストアに渡す前に受け入れを判定し、
+ * 受け入れられなかった場合は{@link SessionNotAdmittedException}を送出します。
+ * 既存のセッションやセッションキーによる操作は判定せずにそのまま委譲します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class AdmittingSessionStore implements SessionStore {
+
+    private final SessionStore delegate;
+    private final SessionAdmission admission;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param delegate 操作を実行するセッションストア
+     * @param admission 受け入れ制御
+     * @throws NullPointerException delegateまたはadmissionがnullの場合
+     */
+    public AdmittingSessionStore(SessionStore delegate, SessionAdmission admission) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        this.admission = Objects.requireNonNull(admission, "admission must not be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws SessionNotAdmittedException 新しいセッションが受け入れられなかった場合
+     */
+    @Override
+    public long open(String sessionId) {
+        OptionalLong existing = delegate.keyOf(sessionId);
+        if (existing.isPresent()) {
+            return existing.getAsLong();
+        }
+        SessionAdmission.Admission result = admission.tryAdmit(sessionId);
+        if (!result.admitted()) {
+            throw new SessionNotAdmittedException(result);
+        }
+        try {
+            return delegate.open(sessionId);
+        } finally {
+            admission.settle();
+        }
+    }
+
+    @Override
+    public OptionalLong keyOf(String sessionId) {
+        return delegate.keyOf(sessionId);
+    }
+
+    @Override
+    public <R> R execute(long key, Function<GameSession, R> command) {
+        return delegate.execute(key, command);
+    }
+
+    @Override
+    public boolean contains(String sessionId) {
+        return delegate.contains(sessionId);
+    }
+
+    @Override
+    public Optional<Replay> findReplay(String sessionId) {
+        return delegate.findReplay(sessionId);
+    }
+
+    /**
+     * セッションを破棄し、待機ロビーからも退出させます。
+     */
+    @Override
+    public void remove(String sessionId) {
+        Objects.requireNonNull(sessionId, "sessionId must not be null");
+        admission.leave(sessionId);
+        delegate.remove(sessionId);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public boolean handOff(String sessionId, String target, Consumer<Replay> transfer) {
+        return delegate.handOff(sessionId, target, transfer);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>既に存在するセッション（応答が届かずに送り直された引き渡し）は判定せずに委譲します。
+     * 新しいセッションは{@link #open(String)}と同じく受け入れを判定しますが、待機ロビーには入れません。
+     * 移動元は受け入れられなかった引き渡しを移動の失敗として扱い、セッションを保持し続けます。</p>
+     *
+     * @throws SessionNotAdmittedException 新しいセッションが受け入れられなかった場合
+     */
+    @Override
+    public void adopt(String sessionId, Replay replay) {
+        Objects.requireNonNull(replay, "replay must not be null");
+        if (delegate.keyOf(sessionId).isPresent()) {
+            delegate.adopt(sessionId, replay);
+            return;
+        }
+        SessionAdmission.Admission result = admission.tryAdmit(sessionId);
+        if (!result.admitted()) {
+            admission.leave(sessionId);
+            throw new SessionNotAdmittedException(result);
+        }
+        try {
+            delegate.adopt(sessionId, replay);
+        } finally {
+            admission.settle();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.tetris.application.session;
+
+/**
+ * {@link SessionAdmission}が推定した、同時に受け入れられるセッション数。
+ *
+ * <p>{@code capacity}はセッションストアの容量、ヒープの空き、CPU時間の3つの上限のうち最小の値です。</p>
+ *
+ * @param sessions 現在のセッション数
+ * @param capacity 推定したセッション数の上限
+ * @param storeLimit セッションストアの容量による上限
+ * @param memoryLimit ヒープの空きによる上限
+ * @param cpuLimit 操作あたりの実行時間による上限
+ * @param bytesPerSession 1セッションあたりのヒープ使用量の見積もり（バイト）
+ * @param heapHeadroomBytes ヒープの空き（バイト）
+ * @param tickCostNanos 直近の操作あたりの平均実行時間（ナノ秒）
+ * @param tickLagNanos 直近の操作の、投入から実行開始までの平均待ち時間（ナノ秒）
+ * @param saturated 待ち時間が上限を超えているため受け入れを停止している場合true
+ * @param lobby 待機ロビーの人数
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public record CapacityEstimate(int sessions, int capacity, int storeLimit, int memoryLimit, int cpuLimit,
+                               long bytesPerSession, long heapHeadroomBytes, long tickCostNanos,
+                               long tickLagNanos, boolean saturated, int lobby) {
+
+    /**
+     * 新しいセッションを受け入れられる空き数を返します。
+     *
+     * @return 空き数（受け入れを停止している場合は0）
+     */
+    public int available() {
+        return saturated ? 0 : Math.max(0, capacity - sessions);
+    }
+}
@@ -0,0 +1,415 @@
+package com.example.tetris.application.session;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.function.LongFunction;
+
+/**
+ * キーを{@code long}に特化した、オープンアドレス法の並行ハッシュマップ。
+ *
+ * <p>{@code ConcurrentHashMap<Long, V>}はキーのボックス化とエントリごとのノードの割り当てを
+ * 伴います。ConcurrentLongMapはキーと値をストライプ（セグメント）ごとの2つの配列に直接格納し、
+ * 要素の追加・検索でオブジェクトを割り当てません。</p>
+ *
+ * <h3>並行性：</h3>
+ * <ul>
+ *   <li>検索（{@link #get(long)}）はロックを取得しません</li>
+ *   <li>更新はキーのハッシュで選択したストライプのロックで直列化され、拡張もストライプごとに行います</li>
+ *   <li>削除したエントリは墓標として残し、拡張時にのみ取り除きます（スロットを再利用しないため、
+ *       ロックなしの検索が別のキーの値を読むことはありません）</li>
+ * </ul>
+ *
+ * <h3>走査：</h3>
+ * <p>{@link #forEach(EntryConsumer)}は弱一貫性の走査であり、走査中の更新は反映される場合と
+ * されない場合があります（{@link OffHeapSessionStore#hibernateIdle(java.time.Duration)}のように、
+ * 全セッションを定期的に巡回する用途を想定）。</p>
+ *
+ * @param <V> 値の型
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class ConcurrentLongMap<V> {
+
+    /**
+     * エントリを受け取る関数。
+     *
+     * @param <V> 値の型
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+
+        /**
+         * エントリを処理します。
+         *
+         * @param key キー
+         * @param value 値
+         */
+        void accept(long key, V value);
+    }
+
+    /**
+     * 削除済みのスロットを表す値。
+     */
+    private static final Object TOMBSTONE = new Object();
+
+    private static final VarHandle VALUES = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    private static final int MIN_TABLE_SIZE = 16;
+
+    private final Segment<V>[] segments;
+    private final int segmentShift;
+
+    /**
+     * CPUコア数の4倍（2の累乗）のストライプで生成します。
+     */
+    public ConcurrentLongMap() {
+        this(Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    /**
+     * ストライプ数を指定して生成します。
+     *
+     * @param stripes ストライプ数（2の累乗に切り上げ、1以上65536以下）
+     * @throws IllegalArgumentException stripesが範囲外の場合
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentLongMap(int stripes) {
+        if (stripes < 1 || stripes > (1 << 16)) {
+            throw new IllegalArgumentException("stripes must be between 1 and 65536");
+        }
+        int count = Integer.highestOneBit(stripes);
+        if (count < stripes) {
+            count <<= 1;
+        }
+        this.segments = (Segment<V>[]) new Segment<?>[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment<>();
+        }
+        this.segmentShift = Long.SIZE - Integer.numberOfTrailingZeros(count);
+    }
+
+    /**
+     * キーに対応する値を返します。
+     *
+     * @param key キー
+     * @return 値（存在しない場合はnull）
+     */
+    public V get(long key) {
+        long hash = mix(key);
+        return segmentFor(hash).get(key, hash);
+    }
+
+    /**
+     * キーが存在するかを判定します。
+     *
+     * @param key キー
+     * @return 存在する場合true
+     */
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * キーに値を対応付けます。
+     *
+     * @param key キー
+     * @param value 値
+     * @return 以前の値（存在しない場合はnull）
+     * @throws NullPointerException valueがnullの場合
+     */
+    public V put(long key, V value) {
+        Objects.requireNonNull(value, "value must not be null");
+        long hash = mix(key);
+        return segmentFor(hash).put(key, hash, value, false);
+    }
+
+    /**
+     * キーが存在しない場合のみ値を対応付けます。
+     *
+     * @param key キー
+     * @param value 値
+     * @return 既存の値（対応付けた場合はnull）
+     * @throws NullPointerException valueがnullの場合
+     */
+    public V putIfAbsent(long key, V value) {
+        Objects.requireNonNull(value, "value must not be null");
+        long hash = mix(key);
+        return segmentFor(hash).put(key, hash, value, true);
+    }
+
+    /**
+     * キーが存在しない場合は関数で値を生成して対応付けます。
+     *
+     * <p>関数はストライプのロックを保持したまま呼び出されるため、このマップを更新してはいけません。</p>
+     *
+     * @param key キー
+     * @param function 値を生成する関数（nullを返した場合は対応付けない）
+     * @return 既存の値または生成した値
+     * @throws NullPointerException functionがnullの場合
+     */
+    public V computeIfAbsent(long key, LongFunction<? extends V> function) {
+        Objects.requireNonNull(function, "function must not be null");
+        long hash = mix(key);
+        V value = segmentFor(hash).get(key, hash);
+        return (value != null) ? value : segmentFor(hash).computeIfAbsent(key, hash, function);
+    }
+
+    /**
+     * キーを削除します。
+     *
+     * @param key キー
+     * @return 削除した値（存在しない場合はnull）
+     */
+    public V remove(long key) {
+        long hash = mix(key);
+        return segmentFor(hash).remove(key, hash, null);
+    }
+
+    /**
+     * キーが指定された値に対応付けられている場合のみ削除します。
+     *
+     * @param key キー
+     * @param value 期待する値
+     * @return 削除した場合true
+     * @throws NullPointerException valueがnullの場合
+     */
+    public boolean remove(long key, V value) {
+        Objects.requireNonNull(value, "value must not be null");
+        long hash = mix(key);
+        return segmentFor(hash).remove(key, hash, value) != null;
+    }
+
+    /**
+     * エントリ数を返します。
+     *
+     * @return エントリ数
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<V> segment : segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    /**
+     * すべてのエントリを弱一貫性で走査します。
+     *
+     * @param consumer エントリを受け取る関数
+     * @throws NullPointerException consumerがnullの場合
+     */
+    public void forEach(EntryConsumer<? super V> consumer) {
+        Objects.requireNonNull(consumer, "consumer must not be null");
+        for (Segment<V> segment : segments) {
+            segment.forEach(consumer);
+        }
+    }
+
+    private Segment<V> segmentFor(long hash) {
+        return segments[(int) (hash >>> segmentShift) & (segments.length - 1)];
+    }
+
+    /**
+     * キーのハッシュ値を求めます（MurmurHash3のfmix64）。
+     */
+    private static long mix(long key) {
+        long h = key;
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+
+    /**
+     * キーと値の配列。拡張時は新しいテーブルに置き換えられ、古いテーブルは{@link #moved}になります。
+     */
+    private static final class Table {
+
+        private final long[] keys;
+        private final Object[] values;
+        private final int mask;
+
+        /**
+         * 新しいテーブルに置き換えられた場合true（古いテーブルで検索したスレッドは再試行する）。
+         */
+        private volatile boolean moved;
+
+        private Table(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new Object[capacity];
+            this.mask = capacity - 1;
+        }
+    }
+
+    /**
+     * ストライプ。更新はこのインスタンスで同期されます。
+     */
+    private static final class Segment<V> {
+
+        private volatile Table table = new Table(MIN_TABLE_SIZE);
+
+        /**
+         * 有効なエントリ数。
+         */
+        private volatile int size;
+
+        /**
+         * 使用済みのスロット数（有効なエントリと墓標）。
+         */
+        private int used;
+
+        @SuppressWarnings("unchecked")
+        V get(long key, long hash) {
+            while (true) {
+                Table t = table;
+                Object value = find(t, key, hash);
+                // 拡張前のテーブルで見つけた値は、拡張後に更新されている可能性がある
+                if (!t.moved) {
+                    return (value == null || value == TOMBSTONE) ? null : (V) value;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized V put(long key, long hash, V value, boolean onlyIfAbsent) {
+            Table t = table;
+            int index = indexOf(t, key, hash);
+            if (index >= 0) {
+                V previous = (V) VALUES.getAcquire(t.values, index);
+                if (!onlyIfAbsent) {
+                    VALUES.setRelease(t.values, index, value);
+                }
+                return previous;
+            }
+            insert(key, hash, value);
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized V computeIfAbsent(long key, long hash, LongFunction<? extends V> function) {
+            int index = indexOf(table, key, hash);
+            if (index >= 0) {
+                return (V) VALUES.getAcquire(table.values, index);
+            }
+            V value = function.apply(key);
+            if (value != null) {
+                insert(key, hash, value);
+            }
+            return value;
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized V remove(long key, long hash, V expected) {
+            Table t = table;
+            int index = indexOf(t, key, hash);
+            if (index < 0) {
+                return null;
+            }
+            V previous = (V) VALUES.getAcquire(t.values, index);
+            if (expected != null && !expected.equals(previous)) {
+                return null;
+            }
+            VALUES.setRelease(t.values, index, TOMBSTONE);
+            size = size - 1;
+            return previous;
+        }
+
+        @SuppressWarnings("unchecked")
+        void forEach(EntryConsumer<? super V> consumer) {
+            Table t = table;
+            for (int i = 0; i < t.values.length; i++) {
+                Object value = VALUES.getAcquire(t.values, i);
+                if (value != null && value != TOMBSTONE) {
+                    consumer.accept(t.keys[i], (V) value);
+                }
+            }
+        }
+
+        /**
+         * 空きスロットにエントリを追加します（必要であれば先に拡張）。
+         */
+        private void insert(long key, long hash, V value) {
+            Table t = table;
+            if ((used + 1) * 2 > t.keys.length) {
+                t = resize();
+            }
+            int index = (int) hash & t.mask;
+            while (VALUES.getAcquire(t.values, index) != null) {
+                index = (index + 1) & t.mask;
+            }
+            // キーを書いてから値を公開する（値の読み取りでキーも可視になる）
+            t.keys[index] = key;
+            VALUES.setRelease(t.values, index, value);
+            used++;
+            size = size + 1;
+        }
+
+        /**
+         * 有効なエントリのみを新しいテーブルに再配置します。
+         */
+        private Table resize() {
+            Table old = table;
+            int capacity = MIN_TABLE_SIZE;
+            while (capacity < (size + 1) * 4) {
+                capacity <<= 1;
+            }
+            Table next = new Table(capacity);
+            int count = 0;
+            for (int i = 0; i < old.values.length; i++) {
+                Object value = old.values[i];
+                if (value != null && value != TOMBSTONE) {
+                    long key = old.keys[i];
+                    int index = (int) mix(key) & next.mask;
+                    while (next.values[index] != null) {
+                        index = (index + 1) & next.mask;
+                    }
+                    next.keys[index] = key;
+                    next.values[index] = value;
+                    count++;
+                }
+            }
+            used = count;
+            table = next;
+            old.moved = true;
+            return next;
+        }
+
+        /**
+         * 有効なエントリのスロット番号を返します（存在しない場合は-1）。ロックを保持して呼び出します。
+         */
+        private static int indexOf(Table t, long key, long hash) {
+            int index = (int) hash & t.mask;
+            while (true) {
+                Object value = t.values[index];
+                if (value == null) {
+                    return -1;
+                }
+                if (value != TOMBSTONE && t.keys[index] == key) {
+                    return index;
+                }
+                index = (index + 1) & t.mask;
+            }
+        }
+
+        /**
+         * ロックを取得せずにキーの値（または墓標）を探します。
+         */
+        private static Object find(Table t, long key, long hash) {
+            int index = (int) hash & t.mask;
+            while (true) {
+                Object value = VALUES.getAcquire(t.values, index);
+                if (value == null) {
+                    return null;
+                }
+                if (t.keys[index] == key) {
+                    if (value != TOMBSTONE) {
+                        return value;
+                    }
+                    // 削除済みのエントリ。同じキーはこれより後ろに再追加されている可能性がある
+                }
+                index = (index + 1) & t.mask;
+            }
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package com.example.tetris.application.session;
+
+import com.example.tetris.domain.CommandBatchResult;
+import com.example.tetris.domain.GameCommand;
+import com.example.tetris.domain.GameState;
+import com.example.tetris.domain.GameStatus;
+import com.example.tetris.domain.GravityModel;
+import com.example.tetris.domain.GravityStep;
+import com.example.tetris.domain.GravityTimer;
+import com.example.tetris.domain.PieceGenerator;
+import com.example.tetris.domain.replay.Replay;
+import com.example.tetris.domain.replay.ReplayCursor;
+import com.example.tetris.domain.replay.ReplayEngine;
+import com.example.tetris.domain.replay.ReplayRecorder;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 1セッション分のゲーム状態と入力ログを保持するクラス。
+ *
+ * <p>GameSessionは、現在のGameStateと、ゲーム開始からの全操作を記録する
+ * {@link ReplayRecorder}を組にして管理します。操作は{@link #apply(GameCommand)}で
+ * 適用され、同時にゲーム開始からの経過ミリ秒をティックとして記録されます。</p>
+ *
+ * <h3>重力：</h3>
+ * <p>{@link #advanceGravity()}は、セッション開始からの経過ミリ秒（単調増加）を
+ * {@link GravityModel}に渡して、前回からの経過時間分の落下と固定猶予付きの固定を適用します。
+ * 重力による状態変化は{@link GameCommand#AUTO_DROP}として入力ログに記録されるため、
+ * リプレイの再シミュレーション結果は変わりません。</p>
+ *
+ * <h3>スレッドセーフ性：</h3>
+ * <p>すべての公開メソッドはこのインスタンスで同期されます。同一セッションへの
+ * 同時操作は直列化され、記録される操作順と状態遷移の順序が一致します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class GameSession {
+
+    /**
+     * 現在のゲーム状態。
+     */
+    private GameState state;
+
+    /**
+     * 入力ログのレコーダー。
+     */
+    private final ReplayRecorder recorder;
+
+    /**
+     * セッション開始時刻（{@link System#nanoTime()}）。
+     */
+    private final long startNanos;
+
+    /**
+     * 重力モデル。
+     */
+    private final GravityModel gravityModel;
+
+    /**
+     * 現在のテトリミノに対する重力と固定猶予の進行状況。
+     */
+    private GravityTimer gravityTimer;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param pieceGenerator このセッションで使用するピースジェネレーター
+     * @param gravityModel このセッションで使用する重力モデル
+     */
+    private GameSession(PieceGenerator pieceGenerator, GravityModel gravityModel) {
+        this.state = GameState.initialize(pieceGenerator);
+        this.recorder = new ReplayRecorder(pieceGenerator);
+        this.startNanos = System.nanoTime();
+        this.gravityModel = gravityModel;
+        this.gravityTimer = GravityTimer.start(state, 0L);
+    }
+
+    /**
+     * 保存された状態からセッションを復元するコンストラクタ。
+     *
+     * @param state 現在のゲーム状態
+     * @param recorder 入力ログのレコーダー（共有される）
+     * @param startNanos セッション開始時刻（{@link System#nanoTime()}）
+     * @param gravityModel 重力モデル
+     * @param gravityTimer 重力と固定猶予の進行状況
+     */
+    private GameSession(GameState state, ReplayRecorder recorder, long startNanos,
+                        GravityModel gravityModel, GravityTimer gravityTimer) {
+        this.state = state;
+        this.recorder = recorder;
+        this.startNanos = startNanos;
+        this.gravityModel = gravityModel;
+        this.gravityTimer = gravityTimer;
+    }
+
+    /**
+     * ランダムなシードで新しいセッションを開始します。
+     *
+     * @return 新しいGameSession
+     */
+    public static GameSession start() {
+        return start(PieceGenerator.sevenBag(ThreadLocalRandom.current().nextLong()));
+    }
+
+    /**
+     * 指定されたピースジェネレーターで新しいセッションを開始します。
+     *
+     * @param pieceGenerator 使用するピースジェネレーター
+     * @return 新しいGameSession
+     * @throws NullPointerException pieceGeneratorがnullの場合
+     */
+    public static GameSession start(PieceGenerator pieceGenerator) {
+        return start(pieceGenerator, GravityModel.DEFAULT);
+    }
+
+    /**
+     * 指定されたピースジェネレーターと重力モデルで新しいセッションを開始します。
+     *
+     * @param pieceGenerator 使用するピースジェネレーター
+     * @param gravityModel 使用する重力モデル
+     * @return 新しいGameSession
+     * @throws NullPointerException pieceGeneratorまたはgravityModelがnullの場合
+     */
+    public static GameSession start(PieceGenerator pieceGenerator, GravityModel gravityModel) {
+        if (pieceGenerator == null) {
+            throw new NullPointerException("pieceGenerator must not be null");
+        }
+        if (gravityModel == null) {
+            throw new NullPointerException("gravityModel must not be null");
+        }
+        return new GameSession(pieceGenerator, gravityModel);
+    }
+
+    /**
+     * {@link SessionStore}に保存された状態からセッションを復元します。
+     *
+     * <p>入力ログのレコーダーは復元したセッションと共有され、操作の記録は保存元に反映されます。</p>
+     *
+     * @param state 現在のゲーム状態
+     * @param recorder 入力ログのレコーダー
+     * @param startNanos セッション開始時刻（{@link System#nanoTime()}）
+     * @param gravityModel 重力モデル
+     * @param gravityTimer 重力と固定猶予の進行状況
+     * @return 復元されたGameSession
+     */
+    static GameSession restore(GameState state, ReplayRecorder recorder, long startNanos,
+                               GravityModel gravityModel, GravityTimer gravityTimer) {
+        return new GameSession(state, recorder, startNanos, gravityModel, gravityTimer);
+    }
+
+    /**
+     * 入力ログをドメインのエンジンで再生して、セッションを再開します。
+     *
+     * <p>操作は記録されたティックのまま新しいレコーダーに記録されるため、再開したセッションの
+     * 入力ログは元のセッションと同一です。経過時間は最後の操作のティックから再開します
+     * （停止中の時間は経過しません）。</p>
+     *
+     * @param replay 再生する入力ログ
+     * @param gravityModel 重力モデル
+     * @return 再開したGameSession
+     * @throws IllegalStateException 入力ログが破損している場合
+     */
+    static GameSession resume(Replay replay, GravityModel gravityModel) {
+        GameState state = ReplayEngine.initialState(replay);
+        ReplayRecorder recorder = new ReplayRecorder(replay.initialGenerator());
+        ReplayCursor cursor = replay.cursor();
+        while (cursor.advance()) {
+            state = cursor.command().apply(state);
+            recorder.record(cursor.tick(), cursor.command());
+        }
+        long lastTick = recorder.lastTick();
+        return new GameSession(state, recorder, System.nanoTime() - lastTick * 1_000_000L,
+                gravityModel, GravityTimer.start(state, lastTick));
+    }
+
+    /**
+     * 操作を適用し、入力ログに記録します。
+     *
+     * @param command 適用する操作
+     * @return 操作適用後のGameState
+     * @throws NullPointerException commandがnullの場合
+     */
+    public synchronized GameState apply(GameCommand command) {
+        if (command == null) {
+            throw new NullPointerException("command must not be null");
+        }
+        GameState before = state;
+        long tick = elapsedMillis();
+        state = command.apply(state);
+        recorder.record(tick, command);
+        gravityTimer = gravityModel.onInput(before, state, gravityTimer, tick);
+        return state;
+    }
+
+    /**
+     * 操作列を一括で適用し、受理された操作のみを入力ログに記録します。
+     *
+     * <p>拒否された操作は状態を変化させないため、記録しなくてもリプレイの
+     * 再シミュレーション結果は変わりません。一括で受信した操作は同じティックで記録されます。</p>
+     *
+     * @param commands 適用する操作列
+     * @return 最終状態と操作ごとの受理フラグ
+     * @throws NullPointerException commandsまたはその要素がnullの場合
+     * @see GameState#applyAll(List)
+     */
+    public synchronized CommandBatchResult applyAll(List<GameCommand> commands) {
+        CommandBatchResult result = state.applyAll(commands);
+        long tick = elapsedMillis();
+        for (int i = 0; i < commands.size(); i++) {
+            if (result.accepted().get(i)) {
+                recorder.record(tick, commands.get(i));
+            }
+        }
+        gravityTimer = gravityModel.onInput(state, result.state(), gravityTimer, tick);
+        state = result.state();
+        return result;
+    }
+
+    /**
+     * 自動落下をn回分まとめて適用し、入力ログに{@link GameCommand#AUTO_DROP}をn件記録します。
+     *
+     * <p>状態の計算は{@link GameState#processAutoDropTicks(int)}で固定されるテトリミノの数に
+     * 比例する処理量で行います。途中でゲームオーバーに到達する場合は、リプレイと状態を
+     * 一致させるため、ゲームオーバーまで1ティックずつ適用して記録します。</p>
+     *
+     * @param ticks 適用する自動落下のティック数（0以上）
+     * @return 適用後のGameState
+     * @throws IllegalArgumentException ticksが負の場合
+     */
+    public synchronized GameState applyAutoDropTicks(int ticks) {
+        GameState next = state.processAutoDropTicks(ticks);
+        if (next.status() == GameStatus.GAME_OVER && state.status() != GameStatus.GAME_OVER) {
+            for (int i = 0; i < ticks && state.status() != GameStatus.GAME_OVER; i++) {
+                apply(GameCommand.AUTO_DROP);
+            }
+            return state;
+        }
+
+        long tick = elapsedMillis();
+        for (int i = 0; i < ticks; i++) {
+            recorder.record(tick, GameCommand.AUTO_DROP);
+        }
+        gravityTimer = gravityModel.onInput(state, next, gravityTimer, tick);
+        state = next;
+        return state;
+    }
+
+    /**
+     * 前回の重力更新から現在までの経過時間分の重力を適用します。
+     *
+     * <p>落下と固定猶予付きの固定は{@link GravityModel#advance(GameState, GravityTimer, long)}で
+     * 計算され、等価な{@link GameCommand#AUTO_DROP}が入力ログに記録されます。</p>
+     *
+     * @return 重力適用後のGameState
+     */
+    public synchronized GameState advanceGravity() {
+        long tick = elapsedMillis();
+        GravityStep step = gravityModel.advance(state, gravityTimer, Math.max(tick, gravityTimer.lastMillis()));
+        for (int i = 0; i < step.autoDropTicks(); i++) {
+            recorder.record(tick, GameCommand.AUTO_DROP);
+        }
+        gravityTimer = step.timer();
+        state = step.state();
+        return state;
+    }
+
+    /**
+     * 現在のGameStateを返します。
+     *
+     * @return 現在のGameState
+     */
+    public synchronized GameState state() {
+        return state;
+    }
+
+    /**
+     * ゲーム開始から現在までの入力ログを返します。
+     *
+     * @return 現在までのReplay
+     */
+    public synchronized Replay replay() {
+        return recorder.toReplay();
+    }
+
+    /**
+     * 入力ログのレコーダーを返します（{@link SessionStore}の保存用）。
+     *
+     * @return 入力ログのレコーダー
+     */
+    ReplayRecorder recorder() {
+        return recorder;
+    }
+
+    /**
+     * セッション開始時刻を返します（{@link SessionStore}の保存用）。
+     *
+     * @return セッション開始時刻（{@link System#nanoTime()}）
+     */
+    long startNanos() {
+        return startNanos;
+    }
+
+    /**
+     * 重力と固定猶予の進行状況を返します（{@link SessionStore}の保存用）。
+     *
+     * @return 重力と固定猶予の進行状況
+     */
+    synchronized GravityTimer gravityTimer() {
+        return gravityTimer;
+    }
+
+    /**
+     * セッション開始からの経過ミリ秒を返します。
+     *
+     * <p>{@link ReplayRecorder}はティックの単調性を要求するため、
+     * 壁時計ではなく{@link System#nanoTime()}を使用します。</p>
+     *
+     * @return 経過ミリ秒
+     */
+    private long elapsedMillis() {
+        return Math.max(recorder.lastTick(), (System.nanoTime() - startNanos) / 1_000_000L);
+    }
+}
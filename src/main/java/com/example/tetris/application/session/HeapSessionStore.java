@@ -0,0 +1,209 @@
+package com.example.tetris.application.session;
+
+import com.example.tetris.domain.GravityModel;
+import com.example.tetris.domain.replay.Replay;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * GameSessionをヒープ上のConcurrentHashMapで保持する{@link SessionStore}。
+ *
+ * <p>セッションごとにGameStateのオブジェクトグラフを常駐させるため、セッション数が
+ * 多い場合はGCの対象となるオブジェクトが増えます。大量のセッションを保持する場合は
+ * {@link OffHeapSessionStore}を使用してください。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class HeapSessionStore implements SessionStore {
+
+    /**
+     * セッションIDをキー、保持しているセッションを値とするマップ。
+     */
+    private final Map<String, Held> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * セッションキーから保持しているセッションへの索引。
+     */
+    private final ConcurrentLongMap<Held> keys = new ConcurrentLongMap<>();
+
+    /**
+     * 最後に割り当てたセッションキー。
+     */
+    private final AtomicLong lastKey = new AtomicLong();
+
+    /**
+     * セッションの最大数。
+     */
+    private final int capacity;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param capacity セッションの最大数（1以上）
+     * @throws IllegalArgumentException capacityが1未満の場合
+     */
+    public HeapSessionStore(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        this.capacity = capacity;
+    }
+
+    @Override
+    public long open(String sessionId) {
+        Objects.requireNonNull(sessionId, "sessionId must not be null");
+
+        // computeIfAbsent内でセッション数チェックを行うことで、アトミックな操作を実現
+        return sessions.computeIfAbsent(sessionId, id -> {
+            if (sessions.size() >= capacity) {
+                throw new IllegalStateException("Maximum session limit reached: " + capacity);
+            }
+            return register(GameSession.start());
+        }).key;
+    }
+
+    @Override
+    public OptionalLong keyOf(String sessionId) {
+        Objects.requireNonNull(sessionId, "sessionId must not be null");
+        Held held = sessions.get(sessionId);
+        return (held != null) ? OptionalLong.of(held.key) : OptionalLong.empty();
+    }
+
+    @Override
+    public <R> R execute(long key, Function<GameSession, R> command) {
+        Objects.requireNonNull(command, "command must not be null");
+        Held held = keys.get(key);
+        if (held == null) {
+            throw new SessionExpiredException("Unknown session key: " + key);
+        }
+        return command.apply(held.session);
+    }
+
+    @Override
+    public boolean contains(String sessionId) {
+        Objects.requireNonNull(sessionId, "sessionId must not be null");
+        return sessions.containsKey(sessionId);
+    }
+
+    @Override
+    public Optional<Replay> findReplay(String sessionId) {
+        Objects.requireNonNull(sessionId, "sessionId must not be null");
+        Held held = sessions.get(sessionId);
+        return (held != null) ? Optional.of(held.session.replay()) : Optional.empty();
+    }
+
+    @Override
+    public void remove(String sessionId) {
+        Objects.requireNonNull(sessionId, "sessionId must not be null");
+        Held held = sessions.remove(sessionId);
+        if (held != null) {
+            keys.remove(held.key, held);
+        }
+    }
+
+    @Override
+    public int size() {
+        return sessions.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>入力ログはGameSessionのロックの中で複製し、{@code transfer}はロックを解放してから実行します
+     * （送信中に同じセッションへの操作が実行されないことは呼び出し元が保証します）。</p>
+     */
+    @Override
+    public boolean handOff(String sessionId, String target, Consumer<Replay> transfer) {
+        Objects.requireNonNull(sessionId, "sessionId must not be null");
+        Objects.requireNonNull(target, "target must not be null");
+        Objects.requireNonNull(transfer, "transfer must not be null");
+        Held held = sessions.get(sessionId);
+        if (held == null) {
+            return false;
+        }
+        Replay replay;
+        synchronized (held.session) {
+            if (sessions.get(sessionId) != held) {
+                return false;
+            }
+            replay = held.session.replay();
+        }
+        transfer.accept(replay);
+        if (sessions.remove(sessionId, held)) {
+            keys.remove(held.key, held);
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>同じ入力ログのセッションが既に存在する場合は何もしません。</p>
+     */
+    @Override
+    public void adopt(String sessionId, Replay replay) {
+        Objects.requireNonNull(sessionId, "sessionId must not be null");
+        Objects.requireNonNull(replay, "replay must not be null");
+        GameSession session = GameSession.resume(replay, GravityModel.DEFAULT);
+        sessions.compute(sessionId, (id, existing) -> {
+            if (existing != null) {
+                synchronized (existing.session) {
+                    if (existing.session.replay().equals(replay)) {
+                        // 応答が届かずに送り直された引き渡し
+                        return existing;
+                    }
+                }
+                throw new IllegalStateException("Session already exists: " + id);
+            }
+            if (sessions.size() >= capacity) {
+                throw new IllegalStateException("Maximum session limit reached: " + capacity);
+            }
+            return register(session);
+        });
+    }
+
+    /**
+     * 保持しているセッションIDを返します。
+     *
+     * @return セッションIDのコピー
+     */
+    public Set<String> sessionIds() {
+        return Set.copyOf(sessions.keySet());
+    }
+
+    /**
+     * 新しいセッションにセッションキーを割り当て、キーの索引に登録します。
+     *
+     * @param session セッション
+     * @return 保持するセッション
+     */
+    private Held register(GameSession session) {
+        Held held = new Held(lastKey.incrementAndGet(), session);
+        keys.put(held.key, held);
+        return held;
+    }
+
+    /**
+     * 保持しているセッションとそのセッションキー。
+     */
+    private static final class Held {
+
+        private final long key;
+        private final GameSession session;
+
+        private Held(long key, GameSession session) {
+            this.key = key;
+            this.session = session;
+        }
+    }
+}
@@ -0,0 +1,402 @@
+package com.example.tetris.application.session;
+
+import com.example.tetris.domain.GameField;
+import com.example.tetris.domain.GameState;
+import com.example.tetris.domain.GameStatus;
+import com.example.tetris.domain.GravityModel;
+import com.example.tetris.domain.GravityTimer;
+import com.example.tetris.domain.PieceGenerator;
+import com.example.tetris.domain.Position;
+import com.example.tetris.domain.Rotation;
+import com.example.tetris.domain.SevenBagPieceGenerator;
+import com.example.tetris.domain.Tetromino;
+import com.example.tetris.domain.TetrominoType;
+import com.example.tetris.domain.UniformPieceGenerator;
+import com.example.tetris.domain.replay.Replay;
+import com.example.tetris.domain.replay.ReplayRecorder;
+
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 休止中のセッションのコンパクトなバイト形式への変換。
+ *
+ * <p>{@link OffHeapSessionStore}は一定時間操作のないセッションをスロットから外し、この形式の
+ * バイト配列として保持します（次の操作で透過的にスロットへ戻します）。</p>
+ *
+ * <h3>レイアウト：</h3>
+ * <ol>
+ *   <li>セッションのフラグ、入力ログ（操作数・最後のティック・初期ジェネレーター・元の長さ、
+ *       長い入力ログはDeflateで圧縮）</li>
+ *   <li>状態、現在・次のテトリミノ（型と向きを1バイト、座標を可変長整数）</li>
+ *   <li>フィールド（空でない行の20ビットのマスクと、空でない行ごとに30ビットの型コードをビット単位で詰めた列）</li>
+ *   <li>スコア・レベル・消去ライン数、ピースジェネレーター、重力の進行状況、セッション開始時刻</li>
+ * </ol>
+ * <p>入力ログを先頭に置くため、{@link #replay(byte[])}は状態を復元せずに入力ログのみを取り出せます。
+ * 整数は符号なしの可変長整数（負になり得る値はジグザグ符号化）で書き込みます。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+final class HibernatedSession {
+
+    /**
+     * このバイト数未満の入力ログは圧縮しません（Deflateのブロックヘッダーの方が大きくなるため）。
+     */
+    private static final int COMPRESSION_THRESHOLD = 64;
+
+    private static final byte LOG_RAW = 0;
+    private static final byte LOG_DEFLATE = 1;
+
+    private static final byte GENERATOR_UNIFORM = 0;
+    private static final byte GENERATOR_SEVEN_BAG = 1;
+
+    private static final int BITS_PER_ROW = GameField.WIDTH * 3;
+
+    private static final GameStatus[] STATUSES = GameStatus.values();
+    private static final TetrominoType[] TYPES = TetrominoType.values();
+    private static final Rotation[] ROTATIONS = Rotation.values();
+
+    private HibernatedSession() {
+    }
+
+    /**
+     * セッションを休止形式に変換します。
+     *
+     * @param session 変換するセッション
+     * @param flags セッションのフラグ（{@link #flags(byte[])}でそのまま取り出せます）
+     * @return 休止形式のバイト列
+     * @throws IllegalStateException 未対応のピースジェネレーターの場合
+     */
+    static byte[] pack(GameSession session, byte flags) {
+        GameState state = session.state();
+        GravityTimer timer = session.gravityTimer();
+        ReplayRecorder recorder = session.recorder();
+        Replay replay = recorder.toReplay();
+        byte[] log = replay.inputLog();
+
+        Writer out = new Writer(128 + log.length);
+        out.put(flags);
+        out.putVarLong(replay.commandCount());
+        out.putVarLong(recorder.lastTick());
+        putGenerator(out, replay.initialGenerator());
+        out.putVarLong(log.length);
+        if (log.length < COMPRESSION_THRESHOLD) {
+            out.put(LOG_RAW);
+            out.put(log, log.length);
+        } else {
+            out.put(LOG_DEFLATE);
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+            try {
+                deflater.setInput(log);
+                deflater.finish();
+                while (!deflater.finished()) {
+                    out.ensureCapacity(log.length / 2 + 16);
+                    out.position += deflater.deflate(out.bytes, out.position, out.bytes.length - out.position);
+                }
+            } finally {
+                deflater.end();
+            }
+        }
+
+        out.put((byte) state.status().ordinal());
+        putTetromino(out, state.currentTetromino());
+        putTetromino(out, state.nextTetromino());
+        putField(out, state.field().encodedRows());
+        out.putVarLong(state.score());
+        out.putVarLong(state.level());
+        out.putVarLong(state.totalLinesCleared());
+        putGenerator(out, state.pieceGenerator());
+
+        out.putVarLong(zigZag(timer.lastMillis()));
+        out.putVarLong(zigZag(timer.fallProgressMillis()));
+        out.putVarLong(zigZag(timer.groundedSinceMillis()));
+        out.putVarLong(timer.lockResets());
+        boolean samePiece = timer.piece() == state.pieceGenerator();
+        out.put((byte) (samePiece ? 1 : 0));
+        if (!samePiece) {
+            putGenerator(out, timer.piece());
+        }
+        out.putLong(session.startNanos());
+        return Arrays.copyOf(out.bytes, out.position);
+    }
+
+    /**
+     * 休止形式からセッションを復元します。
+     *
+     * @param packed 休止形式のバイト列
+     * @param gravityModel 重力モデル
+     * @return 復元したセッション（入力ログとセッション開始時刻も休止前と同一）
+     * @throws IllegalArgumentException 形式が不正な場合
+     */
+    static GameSession unpack(byte[] packed, GravityModel gravityModel) {
+        Reader in = new Reader(packed);
+        in.get();  // フラグ
+        ReplayRecorder recorder = readRecorder(in);
+
+        GameStatus status = STATUSES[in.get()];
+        Tetromino current = readTetromino(in);
+        Tetromino next = readTetromino(in);
+        GameField field = GameField.fromEncodedRows(readField(in));
+        int score = (int) in.getVarLong();
+        int level = (int) in.getVarLong();
+        int lines = (int) in.getVarLong();
+        PieceGenerator generator = readGenerator(in);
+        GameState state = new GameState(status, current, next, field, score, level, lines, generator);
+
+        // GravityModelはテトリミノの切り替わりをジェネレーターの参照で判定するため、参照の一致を復元する
+        long lastMillis = unZigZag(in.getVarLong());
+        long fallProgress = unZigZag(in.getVarLong());
+        long groundedSince = unZigZag(in.getVarLong());
+        int lockResets = (int) in.getVarLong();
+        PieceGenerator piece = (in.get() != 0) ? generator : readGenerator(in);
+        GravityTimer timer = new GravityTimer(lastMillis, fallProgress, groundedSince, lockResets, piece);
+        return GameSession.restore(state, recorder, in.getLong(), gravityModel, timer);
+    }
+
+    /**
+     * 休止形式から入力ログのみを取り出します。
+     *
+     * @param packed 休止形式のバイト列
+     * @return 入力ログ
+     * @throws IllegalArgumentException 形式が不正な場合
+     */
+    static Replay replay(byte[] packed) {
+        Reader in = new Reader(packed);
+        in.get();
+        return readRecorder(in).toReplay();
+    }
+
+    /**
+     * 休止形式からセッションのフラグを取り出します。
+     *
+     * @param packed 休止形式のバイト列
+     * @return セッションのフラグ
+     */
+    static byte flags(byte[] packed) {
+        return packed[0];
+    }
+
+    private static ReplayRecorder readRecorder(Reader in) {
+        int commandCount = (int) in.getVarLong();
+        long lastTick = in.getVarLong();
+        PieceGenerator initialGenerator = readGenerator(in);
+        int length = (int) in.getVarLong();
+        byte[] log = new byte[length];
+        if (in.get() == LOG_RAW) {
+            in.get(log);
+        } else {
+            Inflater inflater = new Inflater(true);
+            try {
+                inflater.setInput(in.bytes, in.position, in.bytes.length - in.position);
+                int read = 0;
+                while (read < length) {
+                    int n = inflater.inflate(log, read, length - read);
+                    if (n == 0 && (inflater.finished() || inflater.needsInput())) {
+                        throw new IllegalArgumentException("Hibernated input log is truncated");
+                    }
+                    read += n;
+                }
+                // 圧縮データの末尾まで読み進めるため、終端ブロックを消費する
+                inflater.inflate(new byte[1]);
+                in.position = in.bytes.length - inflater.getRemaining();
+            } catch (DataFormatException e) {
+                throw new IllegalArgumentException("Hibernated input log is corrupted", e);
+            } finally {
+                inflater.end();
+            }
+        }
+        return ReplayRecorder.resume(new Replay(initialGenerator, log, commandCount), lastTick);
+    }
+
+    private static void putTetromino(Writer out, Tetromino tetromino) {
+        out.put((byte) ((tetromino.type().ordinal() << 2) | tetromino.rotation().ordinal()));
+        out.putVarLong(zigZag(tetromino.position().x()));
+        out.putVarLong(zigZag(tetromino.position().y()));
+    }
+
+    private static Tetromino readTetromino(Reader in) {
+        int code = in.get();
+        int x = (int) unZigZag(in.getVarLong());
+        int y = (int) unZigZag(in.getVarLong());
+        return new Tetromino(TYPES[code >>> 2], new Position(x, y), ROTATIONS[code & 0x03]);
+    }
+
+    /**
+     * 空でない行のマスク（3バイト）に続けて、空でない行の型コードを30ビットずつ詰めて書き込みます。
+     */
+    private static void putField(Writer out, int[] rows) {
+        int mask = 0;
+        for (int y = 0; y < GameField.HEIGHT; y++) {
+            if (rows[y] != 0) {
+                mask |= 1 << y;
+            }
+        }
+        out.put((byte) mask);
+        out.put((byte) (mask >>> 8));
+        out.put((byte) (mask >>> 16));
+
+        long bits = 0;
+        int count = 0;
+        for (int y = 0; y < GameField.HEIGHT; y++) {
+            if (rows[y] == 0) {
+                continue;
+            }
+            bits |= (long) rows[y] << count;
+            count += BITS_PER_ROW;
+            while (count >= Byte.SIZE) {
+                out.put((byte) bits);
+                bits >>>= Byte.SIZE;
+                count -= Byte.SIZE;
+            }
+        }
+        if (count > 0) {
+            out.put((byte) bits);
+        }
+    }
+
+    private static int[] readField(Reader in) {
+        int mask = in.get() | (in.get() << 8) | (in.get() << 16);
+        int[] rows = new int[GameField.HEIGHT];
+        long bits = 0;
+        int count = 0;
+        for (int y = 0; y < GameField.HEIGHT; y++) {
+            if ((mask & (1 << y)) == 0) {
+                continue;
+            }
+            while (count < BITS_PER_ROW) {
+                bits |= (long) in.get() << count;
+                count += Byte.SIZE;
+            }
+            rows[y] = (int) (bits & ((1L << BITS_PER_ROW) - 1));
+            bits >>>= BITS_PER_ROW;
+            count -= BITS_PER_ROW;
+        }
+        return rows;
+    }
+
+    /**
+     * @throws IllegalStateException 未対応のピースジェネレーターの場合
+     */
+    private static void putGenerator(Writer out, PieceGenerator generator) {
+        if (generator instanceof SevenBagPieceGenerator bag) {
+            out.put(GENERATOR_SEVEN_BAG);
+            out.putLong(bag.state());
+            out.put((byte) bag.remainingMask());
+        } else if (generator instanceof UniformPieceGenerator uniform) {
+            out.put(GENERATOR_UNIFORM);
+            out.putLong(uniform.state());
+        } else {
+            throw new IllegalStateException("Unsupported piece generator: " + generator);
+        }
+    }
+
+    private static PieceGenerator readGenerator(Reader in) {
+        byte kind = (byte) in.get();
+        long state = in.getLong();
+        return (kind == GENERATOR_SEVEN_BAG)
+                ? new SevenBagPieceGenerator(state, in.get())
+                : new UniformPieceGenerator(state);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * 拡張可能なバイト列への書き込み。
+     */
+    private static final class Writer {
+        private byte[] bytes;
+        private int position;
+
+        Writer(int capacity) {
+            this.bytes = new byte[capacity];
+        }
+
+        void ensureCapacity(int additional) {
+            if (position + additional > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, position + additional));
+            }
+        }
+
+        void put(byte value) {
+            ensureCapacity(1);
+            bytes[position++] = value;
+        }
+
+        void put(byte[] values, int length) {
+            ensureCapacity(length);
+            System.arraycopy(values, 0, bytes, position, length);
+            position += length;
+        }
+
+        void putLong(long value) {
+            for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+                put((byte) (value >>> shift));
+            }
+        }
+
+        void putVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                put((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            put((byte) value);
+        }
+    }
+
+    /**
+     * バイト列からの読み出し。
+     */
+    private static final class Reader {
+        private final byte[] bytes;
+        private int position;
+
+        Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        int get() {
+            if (position >= bytes.length) {
+                throw new IllegalArgumentException("Hibernated session is truncated");
+            }
+            return bytes[position++] & 0xFF;
+        }
+
+        void get(byte[] values) {
+            if (position + values.length > bytes.length) {
+                throw new IllegalArgumentException("Hibernated session is truncated");
+            }
+            System.arraycopy(bytes, position, values, 0, values.length);
+            position += values.length;
+        }
+
+        long getLong() {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+                value |= (long) get() << shift;
+            }
+            return value;
+        }
+
+        long getVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                int b = get();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed variable-length integer");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.tetris.application.session;
+
+/**
+ * {@link OffHeapSessionStore}のセッションの休止の統計情報。
+ *
+ * @param hibernated 休止中のセッション数
+ * @param hibernatedBytes 休止中のセッションの休止形式の合計バイト数
+ * @param resident スロットに常駐しているセッション数
+ * @param hibernations 休止させたセッション数の累計
+ * @param rehydrations 休止から復元したセッション数の累計
+ * @param rehydrationNanos 休止からの復元にかかった時間の累計（ナノ秒）
+ * @param maxRehydrationNanos 休止からの復元にかかった時間の最大値（ナノ秒）
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public record HibernationStats(int hibernated, long hibernatedBytes, int resident, long hibernations,
+                               long rehydrations, long rehydrationNanos, long maxRehydrationNanos) {
+
+    /**
+     * 休止からの復元にかかった時間の平均を返します。
+     *
+     * @return 平均（ナノ秒、復元していない場合は0）
+     */
+    public long meanRehydrationNanos() {
+        return (rehydrations > 0) ? rehydrationNanos / rehydrations : 0;
+    }
+}
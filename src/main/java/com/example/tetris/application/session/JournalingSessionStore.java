@@ -0,0 +1,350 @@
+package com.example.tetris.application.session;
+
+import com.example.tetris.domain.replay.Replay;
+import com.example.tetris.domain.replay.ReplayRecorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * {@link OffHeapSessionStore}への操作を{@link SessionJournal}に記録する{@link SessionStore}。
+ *
+ * <h3>ライフサイクル：</h3>
+ * <ol>
+ *   <li>生成時にジャーナルを開き、復旧したセッションの入力ログを再生してストアに復元</li>
+ *   <li>操作ごとに、セッションのロック内で入力ログの差分をジャーナルに追記し、
+ *       ロックの外でグループコミットによる永続化を待ってから結果を返す</li>
+ *   <li>指定された間隔でチェックポイント（全セッションのスナップショットと古いセグメントの削除）を実行</li>
+ *   <li>{@link #close()}で未書き込みのレコードを書き込んでジャーナルを閉じる</li>
+ * </ol>
+ *
+ * <p>操作の結果は永続化された後に返されるため、プロセスが異常終了しても応答済みの操作は失われません。
+ * 同じセッションへの操作と破棄は{@link MailboxSessionStore}などで直列に実行されることを前提とします。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class JournalingSessionStore implements SessionStore, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(JournalingSessionStore.class);
+
+    private final OffHeapSessionStore delegate;
+    private final SessionJournal journal;
+    private final ScheduledExecutorService scheduler;
+    private final int recovered;
+
+    /**
+     * ジャーナルに記録済みのセッション（セッションキーから記録位置へ）。
+     */
+    private final ConcurrentLongMap<Cursor> cursors = new ConcurrentLongMap<>();
+
+    /**
+     * 新しいセッションのSTARTの追記と記録位置の登録（読み取りロック）を、チェックポイントのセグメントの切り替えと
+     * 記録済みセッションの取得（書き込みロック）に対して不可分にするロック。
+     *
+     * <p>切り替え前のセグメントにSTARTを書いたセッションは必ずチェックポイントの対象になり、
+     * 対象にならないセッションのSTARTは切り替え後のセグメントに書かれます。</p>
+     */
+    private final ReadWriteLock registration = new ReentrantReadWriteLock();
+
+    /**
+     * セッションの世代と、ジャーナルに追記済みの入力ログのバイト数（セッションのロック内でのみ更新）。
+     */
+    private static final class Cursor {
+        private final long key;
+        private final String sessionId;
+        private final long incarnation;
+        private int offset;
+
+        Cursor(long key, String sessionId, long incarnation, int offset) {
+            this.key = key;
+            this.sessionId = sessionId;
+            this.incarnation = incarnation;
+            this.offset = offset;
+        }
+    }
+
+    /**
+     * コンストラクタ。
+     *
+     * @param delegate 操作を実行するセッションストア（空であること）
+     * @param directory ジャーナルのディレクトリ
+     * @param maxSegmentBytes セグメントを切り替えるバイト数
+     * @param checkpointInterval チェックポイントの間隔
+     * @throws IOException ジャーナルを開けない場合
+     * @throws NullPointerException いずれかの引数がnullの場合
+     * @throws IllegalArgumentException checkpointIntervalが正でない場合
+     * @throws IllegalStateException delegateにセッションが存在する場合
+     */
+    public JournalingSessionStore(OffHeapSessionStore delegate, Path directory, long maxSegmentBytes,
+                                  Duration checkpointInterval) throws IOException {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        Objects.requireNonNull(directory, "directory must not be null");
+        if (checkpointInterval.isNegative() || checkpointInterval.isZero()) {
+            throw new IllegalArgumentException("checkpointInterval must be positive");
+        }
+        if (delegate.size() > 0) {
+            throw new IllegalStateException("Session store must be empty before recovery");
+        }
+
+        this.journal = SessionJournal.open(directory, maxSegmentBytes);
+        try {
+            long start = System.nanoTime();
+            this.recovered = recover();
+            logger.info("Recovered {} sessions from {} in {} ms",
+                    recovered, directory, (System.nanoTime() - start) / 1_000_000L);
+            checkpoint();
+        } catch (IOException | RuntimeException e) {
+            journal.close();
+            throw e;
+        }
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-journal-checkpoint");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = checkpointInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::scheduledCheckpoint, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * ジャーナルから復旧したセッションをストアに復元します（入力ログを再生できないセッションは破棄）。
+     */
+    private int recover() {
+        int count = 0;
+        for (Map.Entry<String, SessionJournal.Entry> entry : journal.recovered().entrySet()) {
+            Replay replay = entry.getValue().replay();
+            long key;
+            try {
+                key = delegate.recover(entry.getKey(), replay);
+            } catch (IllegalStateException e) {
+                logger.warn("Discarding unrecoverable session {}", entry.getKey(), e);
+                continue;
+            }
+            cursors.put(key, new Cursor(key, entry.getKey(), entry.getValue().incarnation(), replay.inputLog().length));
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * 起動時に復旧したセッション数を返します。
+     *
+     * @return 復旧したセッション数
+     */
+    public int recovered() {
+        return recovered;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException 新しいセッションのセッションIDをジャーナルに記録できない場合
+     *                                  （セッションは作成されません）
+     */
+    @Override
+    public long open(String sessionId) {
+        Objects.requireNonNull(sessionId, "sessionId must not be null");
+        if (delegate.keyOf(sessionId).isEmpty()) {
+            SessionJournal.checkSessionId(sessionId);
+        }
+        return delegate.open(sessionId);
+    }
+
+    @Override
+    public OptionalLong keyOf(String sessionId) {
+        return delegate.keyOf(sessionId);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>最初の操作ではSTART、以降は操作で増えた入力ログの差分をジャーナルに追記し、
+     * 永続化されてから結果を返します。</p>
+     *
+     * @throws UncheckedIOException ジャーナルへの書き込みに失敗した場合（メモリ上の状態は更新済み）
+     */
+    @Override
+    public <R> R execute(long key, Function<GameSession, R> command) {
+        Objects.requireNonNull(command, "command must not be null");
+        long[] sequence = new long[1];
+        R result = delegate.execute(key, session -> {
+            ReplayRecorder recorder = session.recorder();
+            Cursor cursor = cursors.get(key);
+            if (cursor == null) {
+                cursor = new Cursor(key, delegate.sessionIdOf(key), journal.nextIncarnation(), recorder.sizeInBytes());
+                registration.readLock().lock();
+                try {
+                    sequence[0] = journal.appendStart(cursor.sessionId, cursor.incarnation, recorder.toReplay());
+                    cursors.put(key, cursor);
+                } finally {
+                    registration.readLock().unlock();
+                }
+            }
+            try {
+                return command.apply(session);
+            } finally {
+                if (recorder.sizeInBytes() > cursor.offset) {
+                    sequence[0] = journal.appendCommands(cursor.sessionId, cursor.incarnation, cursor.offset,
+                            recorder.commandCount(), recorder.inputLogFrom(cursor.offset));
+                    cursor.offset = recorder.sizeInBytes();
+                }
+            }
+        });
+        if (sequence[0] > 0) {
+            journal.awaitDurable(sequence[0]);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean contains(String sessionId) {
+        return delegate.contains(sessionId);
+    }
+
+    @Override
+    public Optional<Replay> findReplay(String sessionId) {
+        return delegate.findReplay(sessionId);
+    }
+
+    /**
+     * セッションを破棄し、破棄をジャーナルに記録します。
+     */
+    @Override
+    public void remove(String sessionId) {
+        OptionalLong key = delegate.keyOf(sessionId);
+        delegate.remove(sessionId);
+        if (key.isPresent()) {
+            end(key.getAsLong());
+        }
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    /**
+     * セッションを引き渡し、引き渡した場合は破棄をジャーナルに記録します。
+     */
+    @Override
+    public boolean handOff(String sessionId, String target, Consumer<Replay> transfer) {
+        OptionalLong key = delegate.keyOf(sessionId);
+        boolean moved = delegate.handOff(sessionId, target, transfer);
+        if (moved && key.isPresent()) {
+            end(key.getAsLong());
+        }
+        return moved;
+    }
+
+    /**
+     * 引き渡されたセッションを受け入れ、新しい世代のSTARTとしてジャーナルに記録します
+     * （同じ入力ログのセッションが既に存在する場合は何もしません）。
+     */
+    @Override
+    public void adopt(String sessionId, Replay replay) {
+        SessionJournal.checkSessionId(sessionId);
+        Objects.requireNonNull(replay, "replay must not be null");
+        if (delegate.findReplay(sessionId).filter(replay::equals).isPresent()) {
+            return;
+        }
+        execute(delegate.recover(sessionId, replay), session -> null);
+    }
+
+    /**
+     * 破棄・引き渡したセッションの記録位置を外し、ENDをジャーナルに記録します（未記録の場合は何もしません）。
+     *
+     * @param key セッションキー
+     */
+    private void end(long key) {
+        Cursor cursor = cursors.remove(key);
+        if (cursor != null) {
+            journal.awaitDurable(journal.appendEnd(cursor.sessionId, cursor.incarnation));
+        }
+    }
+
+    /**
+     * チェックポイントを実行します（コンパクション）。
+     *
+     * <p>新しいセグメントに切り替えてから全セッションの入力ログ全体をSTARTとして書き込み、
+     * 永続化された後に切り替え前のセグメントを削除します。スナップショットの取得中に進んだ操作は
+     * 新しいセグメントに差分として記録されるため、操作を止める必要はありません。
+     * 止めるのは、切り替えと記録済みセッションの取得の間の新しいセッションの登録だけです。</p>
+     *
+     * @return スナップショットを書き込んだセッション数
+     * @throws IOException 古いセグメントを削除できない場合
+     * @throws UncheckedIOException ジャーナルへの書き込みに失敗した場合
+     */
+    public synchronized int checkpoint() throws IOException {
+        long firstSegment;
+        List<Cursor> registered = new ArrayList<>();
+        registration.writeLock().lock();
+        try {
+            firstSegment = journal.roll();
+            cursors.forEach((key, cursor) -> registered.add(cursor));
+        } finally {
+            registration.writeLock().unlock();
+        }
+        int written = 0;
+        long sequence = 0;
+        for (Cursor cursor : registered) {
+            Optional<Replay> replay = delegate.findReplay(cursor.key);
+            if (replay.isEmpty() || cursors.get(cursor.key) != cursor) {
+                continue;
+            }
+            sequence = journal.appendStart(cursor.sessionId, cursor.incarnation, replay.get());
+            written++;
+        }
+        journal.awaitDurable(sequence);
+        journal.deleteSegmentsBefore(firstSegment);
+        return written;
+    }
+
+    /**
+     * スケジュールされたチェックポイント。タスクを継続させるため、例外はログに記録して抑止します。
+     */
+    private void scheduledCheckpoint() {
+        try {
+            checkpoint();
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Session journal checkpoint failed", e);
+        }
+    }
+
+    /**
+     * 定期的なチェックポイントを停止し、未書き込みのレコードを書き込んでジャーナルを閉じます。
+     *
+     * @throws IOException ジャーナルを閉じられない場合
+     */
+    @Override
+    public void close() throws IOException {
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(10, TimeUnit.SECONDS)) {
+                logger.warn("Session journal checkpoint did not terminate in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        journal.close();
+    }
+}
@@ -0,0 +1,643 @@
+package com.example.tetris.application.session;
+
+import com.example.tetris.domain.replay.Replay;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * セッションごとのメールボックスで操作を直列に実行する{@link SessionStore}。
+ *
+ * <p>操作はセッションごとのメールボックス（アクター）に投入され、メールボックスは
+ * 一度に1つのスレッドでのみ処理されます。同一セッションへの操作（入力と重力のティックなど）は
+ * 到着順に1つずつ委譲先のストアで実行され、異なるセッションの操作は並列に実行されます。
+ * メールボックスは委譲先のセッションキーで検索するため、セッションIDによる操作は
+ * {@link #open(String)}でキーを得てから投入されます。</p>
+ *
+ * <h3>実行スレッド：</h3>
+ * <p>実行環境が仮想スレッドをサポートする場合（Java 21以降）はメールボックスの処理ごとに
+ * 仮想スレッドを使用し、それ以外は利用可能なCPUコア数のデーモンスレッドのプールを使用します。
+ * 1回の処理で実行する操作は{@value #DRAIN_BATCH}件までで、残りは再度スケジュールされるため、
+ * 操作の多いセッションがスレッドを占有しません。</p>
+ *
+ * <h3>背圧：</h3>
+ * <p>メールボックスの待機中（実行中を含む）の操作数が上限に達している場合、{@link #submit(long, Function)}は
+ * {@link RejectedExecutionException}で完了したFutureを返します。空になったメールボックスは
+ * 破棄されるため、常駐するメールボックスは操作が待機中のセッションのみです。</p>
+ *
+ * <h3>計測：</h3>
+ * <p>操作ごとに投入から実行開始までの待ち時間と実行時間を累計し、{@link #stats()}で公開します。
+ * {@link SessionAdmission}はこれらの差分から操作あたりのコストと実行の遅れを推定します。</p>
+ *
+ * <h3>引き渡し：</h3>
+ * <p>{@link #handOff(String, String, Consumer)}はメールボックスに投入され、先に投入された操作の実行後に
+ * セッションを止めたまま入力ログを移動先に送ります。引き渡し後に実行される操作（引き渡し中に投入された
+ * 操作を含む）は{@link SessionMovedException}で完了し、呼び出し元が移動先に送り直します。
+ * 移動先はセッションIDとセッションキーの両方で記録し、{@value #MOVED_TTL_SECONDS}秒後に破棄されます。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class MailboxSessionStore implements SessionStore, AutoCloseable {
+
+    /**
+     * 1回の処理で実行する操作数の上限。
+     */
+    private static final int DRAIN_BATCH = 64;
+
+    /**
+     * 引き渡したセッションの移動先を保持する秒数。
+     */
+    private static final long MOVED_TTL_SECONDS = 60;
+
+    /**
+     * 現在のスレッドが処理中のメールボックス（同一セッションからの再入を検出するため）。
+     */
+    private static final ThreadLocal<Mailbox> CURRENT = new ThreadLocal<>();
+
+    /**
+     * 実行環境が仮想スレッドをサポートする場合true。
+     */
+    private static final boolean VIRTUAL_THREADS_SUPPORTED = virtualThreadFactory().isPresent();
+
+    private final SessionStore delegate;
+    private final int mailboxCapacity;
+    private final Executor executor;
+    private final boolean ownsExecutor;
+    private final boolean virtualThreads;
+    private final ConcurrentLongMap<Mailbox> mailboxes = new ConcurrentLongMap<>();
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder queueNanos = new LongAdder();
+    private final LongAdder serviceNanos = new LongAdder();
+
+    /**
+     * 他のノードに引き渡したセッション（セッションIDから移動先へ）。
+     */
+    private final Map<String, Moved> moved = new ConcurrentHashMap<>();
+
+    /**
+     * 他のノードに引き渡したセッション（引き渡し前のセッションキーから移動先へ）。
+     */
+    private final ConcurrentLongMap<Moved> movedKeys = new ConcurrentLongMap<>();
+
+    /**
+     * 次に期限切れの移動先を破棄する時刻（{@link System#nanoTime()}）。
+     */
+    private volatile long nextPurgeNanos = System.nanoTime();
+
+    /**
+     * 仮想スレッド（利用できない場合はCPUコア数のスレッドプール）で実行するコンストラクタ。
+     *
+     * @param delegate 操作を実行するセッションストア
+     * @param mailboxCapacity メールボックスあたりの待機中の操作数の上限（1以上）
+     * @throws NullPointerException delegateがnullの場合
+     * @throws IllegalArgumentException mailboxCapacityが1未満の場合
+     */
+    public MailboxSessionStore(SessionStore delegate, int mailboxCapacity) {
+        this(delegate, mailboxCapacity, defaultExecutor(), true);
+    }
+
+    /**
+     * 実行スレッドを指定するコンストラクタ（テスト用）。
+     *
+     * <p>指定されたExecutorはこのストアでは終了しません。</p>
+     *
+     * @param delegate 操作を実行するセッションストア
+     * @param mailboxCapacity メールボックスあたりの待機中の操作数の上限（1以上）
+     * @param executor メールボックスを処理するExecutor
+     * @throws NullPointerException delegateまたはexecutorがnullの場合
+     * @throws IllegalArgumentException mailboxCapacityが1未満の場合
+     */
+    MailboxSessionStore(SessionStore delegate, int mailboxCapacity, Executor executor) {
+        this(delegate, mailboxCapacity, Objects.requireNonNull(executor, "executor must not be null"), false);
+    }
+
+    private MailboxSessionStore(SessionStore delegate, int mailboxCapacity, Executor executor, boolean ownsExecutor) {
+        if (mailboxCapacity < 1) {
+            throw new IllegalArgumentException("mailboxCapacity must be at least 1");
+        }
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        this.mailboxCapacity = mailboxCapacity;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        this.virtualThreads = ownsExecutor && VIRTUAL_THREADS_SUPPORTED;
+    }
+
+    /**
+     * セッションのメールボックスに操作を投入します（存在しない場合は新しいセッションを開始）。
+     *
+     * @param <R> 操作の戻り値の型
+     * @param sessionId セッションID
+     * @param command GameSessionに対する操作
+     * @return 操作の戻り値で完了するFuture
+     *         （メールボックスが満杯の場合は{@link RejectedExecutionException}、
+     *         セッションを開始できない場合はその例外で完了）
+     * @throws NullPointerException sessionIdまたはcommandがnullの場合
+     */
+    public <R> CompletableFuture<R> submit(String sessionId, Function<GameSession, R> command) {
+        Objects.requireNonNull(command, "command must not be null");
+        long key;
+        try {
+            key = open(sessionId);
+        } catch (IllegalStateException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return submit(key, command);
+    }
+
+    /**
+     * セッションキーで指定されたセッションのメールボックスに操作を投入します。
+     *
+     * @param <R> 操作の戻り値の型
+     * @param key セッションキー
+     * @param command GameSessionに対する操作
+     * @return 操作の戻り値で完了するFuture
+     *         （メールボックスが満杯の場合は{@link RejectedExecutionException}で完了）
+     * @throws NullPointerException commandがnullの場合
+     */
+    public <R> CompletableFuture<R> submit(long key, Function<GameSession, R> command) {
+        Objects.requireNonNull(command, "command must not be null");
+        return enqueue(key, () -> {
+            checkMoved(key);
+            return delegate.execute(key, command);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>他のノードに引き渡したセッションIDの新しいセッションは開始しません。引き渡しの完了と並行して
+     * 開始してしまったセッションは破棄します。</p>
+     *
+     * @throws SessionMovedException セッションを他のノードに引き渡した場合
+     */
+    @Override
+    public long open(String sessionId) {
+        OptionalLong existing = delegate.keyOf(sessionId);
+        if (existing.isPresent()) {
+            // 引き渡し中のセッションへの操作は、メールボックスで引き渡しの後に実行される
+            return existing.getAsLong();
+        }
+        checkMoved(sessionId);
+        long key = delegate.open(sessionId);
+        Moved target = moved.get(sessionId);
+        if (target != null && target.key != key) {
+            delegate.remove(sessionId);
+            throw new SessionMovedException(sessionId, target.target);
+        }
+        return key;
+    }
+
+    @Override
+    public OptionalLong keyOf(String sessionId) {
+        return delegate.keyOf(sessionId);
+    }
+
+    /**
+     * セッションのメールボックスに操作を投入し、完了を待ちます。
+     *
+     * <p>同じセッションの操作の実行中に呼び出された場合は、待機せずにその場で実行します。</p>
+     *
+     * @throws RejectedExecutionException メールボックスが満杯の場合
+     * @throws SessionMovedException セッションを他のノードに引き渡した場合
+     */
+    @Override
+    public <R> R execute(long key, Function<GameSession, R> command) {
+        Objects.requireNonNull(command, "command must not be null");
+        if (isProcessing(key)) {
+            checkMoved(key);
+            return delegate.execute(key, command);
+        }
+        return join(submit(key, command));
+    }
+
+    @Override
+    public boolean contains(String sessionId) {
+        return delegate.contains(sessionId);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws SessionMovedException セッションを他のノードに引き渡した場合
+     */
+    @Override
+    public Optional<Replay> findReplay(String sessionId) {
+        Optional<Replay> replay = delegate.findReplay(sessionId);
+        if (replay.isEmpty()) {
+            checkMoved(sessionId);
+        }
+        return replay;
+    }
+
+    /**
+     * セッションを破棄します。
+     *
+     * <p>破棄はメールボックスを経由して、先に投入された操作の実行後に行われます。</p>
+     *
+     * @throws RejectedExecutionException メールボックスが満杯の場合
+     * @throws SessionMovedException セッションを他のノードに引き渡した場合
+     */
+    @Override
+    public void remove(String sessionId) {
+        OptionalLong key = delegate.keyOf(sessionId);
+        if (key.isEmpty()) {
+            checkMoved(sessionId);
+            return;
+        }
+        if (isProcessing(key.getAsLong())) {
+            checkMoved(key.getAsLong());
+            delegate.remove(sessionId);
+            return;
+        }
+        join(enqueue(key.getAsLong(), () -> {
+            checkMoved(key.getAsLong());
+            delegate.remove(sessionId);
+            return null;
+        }));
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>引き渡しはメールボックスを経由して、先に投入された操作の実行後に行われます。
+     * {@code transfer}の実行中に投入された操作は、引き渡しに成功した場合は
+     * {@link SessionMovedException}で、失敗した場合はこのストアで実行されます。</p>
+     *
+     * @throws RejectedExecutionException メールボックスが満杯の場合
+     * @throws IllegalStateException 同じセッションの操作の実行中に呼び出された場合、または
+     *                               セッションの入力ログがない場合（スナップショットから復元したセッション）
+     */
+    @Override
+    public boolean handOff(String sessionId, String target, Consumer<Replay> transfer) {
+        Objects.requireNonNull(sessionId, "sessionId must not be null");
+        Objects.requireNonNull(target, "target must not be null");
+        Objects.requireNonNull(transfer, "transfer must not be null");
+        OptionalLong key = delegate.keyOf(sessionId);
+        if (key.isEmpty()) {
+            checkMoved(sessionId);
+            return false;
+        }
+        if (isProcessing(key.getAsLong())) {
+            throw new IllegalStateException("Cannot hand off a session from its own command");
+        }
+        purgeMoved();
+        Moved entry = new Moved(sessionId, key.getAsLong(), target, System.nanoTime());
+        return join(enqueue(entry.key, () -> {
+            checkMoved(entry.key);
+            // 委譲先から消えた時点で、メールボックスを経由しない参照も移動先を得られるよう先に記録する
+            moved.put(sessionId, entry);
+            movedKeys.put(entry.key, entry);
+            boolean handedOff = false;
+            try {
+                handedOff = delegate.handOff(sessionId, target, transfer);
+                return handedOff;
+            } finally {
+                if (!handedOff) {
+                    moved.remove(sessionId, entry);
+                    movedKeys.remove(entry.key, entry);
+                }
+            }
+        }));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>受け入れたセッションには新しいセッションキーが割り当てられるため、メールボックスを経由せずに
+     * 委譲します。このノードから引き渡した記録があれば破棄します。</p>
+     */
+    @Override
+    public void adopt(String sessionId, Replay replay) {
+        Objects.requireNonNull(sessionId, "sessionId must not be null");
+        Objects.requireNonNull(replay, "replay must not be null");
+        delegate.adopt(sessionId, replay);
+        Moved entry = moved.remove(sessionId);
+        if (entry != null) {
+            movedKeys.remove(entry.key, entry);
+        }
+    }
+
+    /**
+     * メールボックスの統計情報を返します。
+     *
+     * @return 統計情報
+     */
+    public MailboxStats stats() {
+        int[] count = new int[1];
+        long[] queued = new long[1];
+        int[] maxDepth = new int[1];
+        mailboxes.forEach((key, mailbox) -> {
+            int depth = Math.max(0, mailbox.depth.get());
+            count[0]++;
+            queued[0] += depth;
+            maxDepth[0] = Math.max(maxDepth[0], depth);
+        });
+        return new MailboxStats(count[0], queued[0], maxDepth[0], processed.sum(), rejected.sum(),
+                queueNanos.sum(), serviceNanos.sum(), mailboxCapacity, virtualThreads);
+    }
+
+    /**
+     * このストアが生成した実行スレッドを終了します（待機中の操作の完了を最大10秒待ちます）。
+     */
+    @Override
+    public void close() {
+        if (ownsExecutor && executor instanceof ExecutorService service) {
+            service.shutdown();
+            try {
+                service.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 操作をメールボックスに投入します。
+     */
+    private <R> CompletableFuture<R> enqueue(long key, Supplier<R> action) {
+        Envelope<R> envelope = new Envelope<>(action);
+        while (true) {
+            Mailbox mailbox = mailboxes.computeIfAbsent(key, Mailbox::new);
+            int reserved = mailbox.reserve(mailboxCapacity);
+            if (reserved < 0) {
+                // 破棄されたメールボックスを取得した場合は、新しいメールボックスで再試行する
+                mailboxes.remove(key, mailbox);
+                continue;
+            }
+            if (reserved == 0) {
+                rejected.increment();
+                return CompletableFuture.failedFuture(new RejectedExecutionException(
+                        "Mailbox is full: " + mailboxCapacity + " pending commands"));
+            }
+            mailbox.tasks.add(envelope);
+            schedule(mailbox);
+            return envelope.future;
+        }
+    }
+
+    /**
+     * メールボックスが処理待ちでなければ、処理をスケジュールします。
+     */
+    private void schedule(Mailbox mailbox) {
+        if (!mailbox.scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> drain(mailbox));
+        } catch (RejectedExecutionException e) {
+            Envelope<?> envelope;
+            while ((envelope = mailbox.tasks.poll()) != null) {
+                mailbox.depth.decrementAndGet();
+                envelope.future.completeExceptionally(e);
+            }
+            mailbox.scheduled.set(false);
+        }
+    }
+
+    /**
+     * メールボックスの操作を最大{@value #DRAIN_BATCH}件実行します。
+     */
+    private void drain(Mailbox mailbox) {
+        CURRENT.set(mailbox);
+        try {
+            long now = System.nanoTime();
+            for (int i = 0; i < DRAIN_BATCH; i++) {
+                Envelope<?> envelope = mailbox.tasks.poll();
+                if (envelope == null) {
+                    break;
+                }
+                processed.increment();
+                queueNanos.add(now - envelope.enqueuedNanos);
+                envelope.run();
+                // 実行後に枠を解放する（実行中の操作がある間は、前回の処理がメールボックスを破棄できない）
+                mailbox.depth.decrementAndGet();
+                long end = System.nanoTime();
+                serviceNanos.add(end - now);
+                now = end;
+            }
+        } finally {
+            CURRENT.remove();
+        }
+
+        mailbox.scheduled.set(false);
+        if (!mailbox.tasks.isEmpty()) {
+            schedule(mailbox);
+        } else if (mailbox.depth.compareAndSet(0, -1)) {
+            mailboxes.remove(mailbox.key, mailbox);
+        }
+        // 予約済みで未投入の操作がある場合は、投入したスレッドがスケジュールする
+    }
+
+    /**
+     * セッションを他のノードに引き渡した場合に{@link SessionMovedException}を送出します。
+     */
+    private void checkMoved(String sessionId) {
+        Moved target = moved.get(sessionId);
+        if (target != null) {
+            throw new SessionMovedException(sessionId, target.target);
+        }
+    }
+
+    /**
+     * セッションキーのセッションを他のノードに引き渡した場合に{@link SessionMovedException}を送出します。
+     */
+    private void checkMoved(long key) {
+        Moved target = movedKeys.get(key);
+        if (target != null) {
+            throw new SessionMovedException(target.sessionId, target.target);
+        }
+    }
+
+    /**
+     * 期限切れの移動先を破棄します（{@value #MOVED_TTL_SECONDS}秒に1回まで）。
+     */
+    private void purgeMoved() {
+        long now = System.nanoTime();
+        if (now - nextPurgeNanos < 0) {
+            return;
+        }
+        nextPurgeNanos = now + TimeUnit.SECONDS.toNanos(MOVED_TTL_SECONDS);
+        long expiry = now - TimeUnit.SECONDS.toNanos(MOVED_TTL_SECONDS);
+        moved.values().removeIf(entry -> {
+            if (entry.movedNanos - expiry >= 0) {
+                return false;
+            }
+            movedKeys.remove(entry.key, entry);
+            return true;
+        });
+    }
+
+    /**
+     * 現在のスレッドが指定されたセッションのメールボックスを処理中かを判定します。
+     */
+    private static boolean isProcessing(long key) {
+        Mailbox current = CURRENT.get();
+        return current != null && current.key == key;
+    }
+
+    /**
+     * Futureの完了を待ち、操作が送出した例外をそのまま再送出します。
+     */
+    private static <R> R join(CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 仮想スレッドが利用可能であれば仮想スレッド、それ以外はデーモンスレッドのプールのExecutorを生成します。
+     */
+    private static ExecutorService defaultExecutor() {
+        Optional<MethodHandle> factory = virtualThreadFactory();
+        if (factory.isPresent()) {
+            try {
+                return (ExecutorService) factory.get().invoke();
+            } catch (Throwable e) {
+                // 生成に失敗した場合はプラットフォームスレッドにフォールバックする
+            }
+        }
+        return platformExecutor();
+    }
+
+    /**
+     * 仮想スレッドのExecutorのファクトリーメソッドを反射的に取得します
+     * （Java 17でもコンパイル・実行できるよう、メソッドを直接参照しない）。
+     *
+     * @return {@code Executors.newVirtualThreadPerTaskExecutor()}（実行環境がサポートしない場合は空）
+     */
+    private static Optional<MethodHandle> virtualThreadFactory() {
+        try {
+            return Optional.of(MethodHandles.publicLookup().findStatic(Executors.class,
+                    "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class)));
+        } catch (ReflectiveOperationException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 仮想スレッドを利用できない場合の、CPUコア数のデーモンスレッドのプールを生成します。
+     */
+    private static ExecutorService platformExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "session-mailbox-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * セッションごとのメールボックス。
+     */
+    private static final class Mailbox {
+
+        private final long key;
+        private final Queue<Envelope<?>> tasks = new ConcurrentLinkedQueue<>();
+
+        /**
+         * 予約済み（待機中または実行中）の操作数。破棄されたメールボックスは-1。
+         */
+        private final AtomicInteger depth = new AtomicInteger();
+
+        /**
+         * 処理がスケジュール済み（または実行中）の場合true。
+         */
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Mailbox(long key) {
+            this.key = key;
+        }
+
+        /**
+         * 操作1件分の枠を予約します。
+         *
+         * @param capacity 待機中の操作数の上限
+         * @return 予約した場合は1、満杯の場合は0、破棄されたメールボックスの場合は-1
+         */
+        private int reserve(int capacity) {
+            while (true) {
+                int current = depth.get();
+                if (current < 0) {
+                    return -1;
+                }
+                if (current >= capacity) {
+                    return 0;
+                }
+                if (depth.compareAndSet(current, current + 1)) {
+                    return 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * 引き渡したセッションの移動先。
+     *
+     * @param sessionId セッションID
+     * @param key 引き渡し前のセッションキー
+     * @param target 移動先のノードID
+     * @param movedNanos 引き渡した時刻（{@link System#nanoTime()}）
+     */
+    private record Moved(String sessionId, long key, String target, long movedNanos) {
+    }
+
+    /**
+     * メールボックスに投入された操作と、その結果のFuture。
+     */
+    private static final class Envelope<R> {
+
+        private final Supplier<R> action;
+        private final CompletableFuture<R> future = new CompletableFuture<>();
+        private final long enqueuedNanos = System.nanoTime();
+
+        private Envelope(Supplier<R> action) {
+            this.action = action;
+        }
+
+        private void run() {
+            try {
+                future.complete(action.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
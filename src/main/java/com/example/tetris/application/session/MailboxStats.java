@@ -0,0 +1,21 @@
+package com.example.tetris.application.session;
+
+/**
+ * {@link MailboxSessionStore}の統計情報。
+ *
+ * @param mailboxes 操作が待機中または実行中のメールボックス数
+ * @param queued 待機中の操作の総数
+ * @param maxDepth メールボックスあたりの待機中の操作数の最大値
+ * @param processed 実行した操作の累計
+ * @param rejected メールボックスが満杯のため拒否した操作の累計
+ * @param queueNanos 実行した操作の、投入から実行開始までの待ち時間の累計（ナノ秒）
+ * @param serviceNanos 実行した操作の実行時間の累計（ナノ秒）
+ * @param mailboxCapacity メールボックスあたりの待機中の操作数の上限
+ * @param virtualThreads 仮想スレッドで実行している場合true
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public record MailboxStats(int mailboxes, long queued, int maxDepth, long processed, long rejected,
+                           long queueNanos, long serviceNanos, int mailboxCapacity, boolean virtualThreads) {
+}
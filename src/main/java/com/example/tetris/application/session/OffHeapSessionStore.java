@@ -0,0 +1,1108 @@
+package com.example.tetris.application.session;
+
+import com.example.tetris.domain.GameField;
+import com.example.tetris.domain.GameState;
+import com.example.tetris.domain.GameStatus;
+import com.example.tetris.domain.GravityModel;
+import com.example.tetris.domain.GravityTimer;
+import com.example.tetris.domain.PieceGenerator;
+import com.example.tetris.domain.Position;
+import com.example.tetris.domain.Rotation;
+import com.example.tetris.domain.SevenBagPieceGenerator;
+import com.example.tetris.domain.Tetromino;
+import com.example.tetris.domain.TetrominoType;
+import com.example.tetris.domain.UniformPieceGenerator;
+import com.example.tetris.domain.replay.Replay;
+import com.example.tetris.domain.replay.ReplayRecorder;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * ゲーム状態をダイレクトメモリ上の固定長スロットで保持する{@link SessionStore}。
+ *
+ * <p>セッションごとのGameState（フィールド、テトリミノ、スコア、ピースジェネレーター）と
+ * 重力の進行状況は、{@value #SLOT_SIZE}バイトのバイナリスロットとしてヒープ外の
+ * ダイレクトバッファに保持されます。{@link #execute(long, Function)}は操作の実行中にのみ
+ * スロットをGameSessionに復元し、操作後にスロットへ書き戻します。そのため、常駐する
+ * ヒープ上のオブジェクトはセッションIDの索引と入力ログのみで、GCが走査するオブジェクト数は
+ * セッション数に対してほぼ一定になります。</p>
+ *
+ * <h3>スロットのレイアウト（ネイティブバイトオーダー）：</h3>
+ * <ul>
+ *   <li>0-7: 状態、現在・次のテトリミノの型と向き、ジェネレーター種別、重力の対象ピースフラグ、
+ *       セッションのフラグ（各1バイト）</li>
+ *   <li>8-39: 現在・次のテトリミノの座標、スコア、レベル、消去ライン数、7-bagの残りマスク（各int）</li>
+ *   <li>40-87: ジェネレーター状態、セッション開始時刻、重力の進行状況（各long）、固定猶予のリセット回数</li>
+ *   <li>88-167: フィールドの型コード（{@link GameField#encodedRows()}、20行×int）</li>
+ * </ul>
+ *
+ * <h3>索引：</h3>
+ * <p>セッションはセッションIDの索引と、セッションキーの{@link ConcurrentLongMap}の索引から同じエントリで
+ * 参照されます。エントリは常駐中のスロット番号または休止形式を保持するため、セッションキーによる操作は
+ * 文字列の検索を伴わず、休止・復元してもセッションキーは変わりません。</p>
+ *
+ * <h3>入力ログ：</h3>
+ * <p>入力ログ（{@link ReplayRecorder}）は長さが可変のため、スロットとは別にヒープ上に保持します。
+ * 入力ログはセッションあたり1つのバイト配列であり、オブジェクトグラフを持ちません。</p>
+ *
+ * <h3>休止：</h3>
+ * <p>{@link #hibernateIdle(Duration)}は一定時間操作のないセッションをスロットから外し、
+ * {@link HibernatedSession}のコンパクトなバイト配列（ビット単位で詰めたフィールド、ピースの型コード、
+ * 可変長整数のカウンター、圧縮した入力ログ）としてヒープ上に保持します。空いたスロットは
+ * 他のセッションに再利用されるため、同時に保持できるセッション数はスロット数を超えられます。
+ * 休止中のセッションへの次の操作は、スロットを割り当てて復元してから実行されます（呼び出し側からは透過的）。
+ * {@link #hibernateWhenFull()}を呼び出したストアは、空きスロットがない場合に最も長く操作のない
+ * セッションを休止させてスロットを空けるため、休止中を含むセッション数はスロット数に制限されません。
+ * 休止中のセッションはスナップショットの対象外です。</p>
+ *
+ * <h3>スナップショット：</h3>
+ * <p>書き込んだスロットはビット集合で変更済みとして記録され、{@link #snapshotTo(SessionSnapshotFile)}は
+ * 前回のスナップショット以降に変更されたスロットのみを{@link SessionSnapshotFile}にコピーします。
+ * {@link #restoreFrom(SessionSnapshotFile)}で復元したセッションは途中の状態から再開するため、
+ * 入力ログは提供されません（{@link #findReplay(String)}は空を返します）。</p>
+ *
+ * <h3>スレッドセーフ性：</h3>
+ * <p>スロットへのアクセスはスロット番号で分割したロックで直列化されます。
+ * 異なるスロットはバッファの重ならない領域であり、絶対位置指定でのみ読み書きします。
+ * 休止中のセッションの復元と破棄はエントリごとのモニターで直列化します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class OffHeapSessionStore implements SessionStore {
+
+    private static final int STATUS = 0;
+    private static final int CURRENT_TYPE = 1;
+    private static final int CURRENT_ROTATION = 2;
+    private static final int NEXT_TYPE = 3;
+    private static final int NEXT_ROTATION = 4;
+    private static final int GENERATOR_KIND = 5;
+    private static final int TIMER_SAME_PIECE = 6;
+    private static final int FLAGS = 7;
+    private static final int CURRENT_X = 8;
+    private static final int CURRENT_Y = 12;
+    private static final int NEXT_X = 16;
+    private static final int NEXT_Y = 20;
+    private static final int SCORE = 24;
+    private static final int LEVEL = 28;
+    private static final int LINES = 32;
+    private static final int BAG_MASK = 36;
+    private static final int GENERATOR_STATE = 40;
+    private static final int START_NANOS = 48;
+    private static final int TIMER_LAST = 56;
+    private static final int TIMER_PROGRESS = 64;
+    private static final int TIMER_GROUNDED = 72;
+    private static final int TIMER_RESETS = 80;
+    private static final int FIELD = 88;
+
+    /**
+     * 1セッションあたりのスロットのバイト数。
+     */
+    public static final int SLOT_SIZE = FIELD + Integer.BYTES * GameField.HEIGHT;
+
+    /**
+     * セッションの最大数の既定値。
+     */
+    public static final int DEFAULT_CAPACITY = 10000;
+
+    /**
+     * 入力ログの内容を除く、1セッションあたりのヒープ使用量の見積もり（バイト）。
+     *
+     * <p>セッションID、索引のエントリ、ReplayRecorderとその初期バッファの合計です。</p>
+     */
+    private static final int SESSION_HEAP_OVERHEAD = 512;
+
+    /**
+     * 休止形式のバイト列を除く、休止中の1セッションあたりのヒープ使用量の見積もり（バイト）。
+     *
+     * <p>セッションID、索引のエントリ、バイト配列のヘッダーの合計です。</p>
+     */
+    private static final int HIBERNATED_HEAP_OVERHEAD = 160;
+
+    private static final byte GENERATOR_UNIFORM = 0;
+    private static final byte GENERATOR_SEVEN_BAG = 1;
+
+    /**
+     * スナップショットから復元したセッションであることを示すフラグ（入力ログは途中から記録される）。
+     */
+    private static final byte FLAG_RESTORED = 1;
+
+    /**
+     * スロットのロックの分割数（2の累乗）。
+     */
+    private static final int LOCK_STRIPES = 1024;
+
+    private static final GameStatus[] STATUSES = GameStatus.values();
+    private static final TetrominoType[] TYPES = TetrominoType.values();
+    private static final Rotation[] ROTATIONS = Rotation.values();
+
+    /**
+     * セッションの状態を保持するダイレクトバッファ。
+     */
+    private final ByteBuffer slots;
+
+    /**
+     * セッションIDからエントリへの索引（休止中のセッションを含む）。
+     */
+    private final Map<String, Entry> index = new ConcurrentHashMap<>();
+
+    /**
+     * セッションキーからエントリへの索引。
+     */
+    private final ConcurrentLongMap<Entry> entries = new ConcurrentLongMap<>();
+
+    /**
+     * 最後に割り当てたセッションキー。
+     */
+    private final AtomicLong lastKey = new AtomicLong();
+
+    /**
+     * スロットごとの最後の操作の時刻（{@link System#nanoTime()}、スロットのロックで保護）。
+     */
+    private final long[] lastAccess;
+
+    /**
+     * 空きスロットがない場合に最も長く操作のないセッションを休止させる場合true。
+     */
+    private volatile boolean hibernateWhenFull;
+
+    private final LongAdder hibernations = new LongAdder();
+    private final LongAdder rehydrations = new LongAdder();
+    private final LongAdder rehydrationNanos = new LongAdder();
+    private final LongAccumulator maxRehydrationNanos = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * スロットごとの入力ログ。
+     */
+    private final ReplayRecorder[] recorders;
+
+    /**
+     * スロットごとの常駐中のエントリ（スロットのロックで更新）。
+     */
+    private final Entry[] residents;
+
+    /**
+     * 前回のスナップショット以降に変更されたスロットのビット集合。
+     */
+    private final AtomicLongArray dirty;
+
+    /**
+     * 空きスロットのスタック。
+     */
+    private final int[] freeSlots;
+
+    /**
+     * 空きスロットの数（freeSlotsで同期）。
+     */
+    private int freeCount;
+
+    /**
+     * スロット番号で分割したロック。
+     */
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    /**
+     * すべてのセッションで使用する重力モデル。
+     */
+    private final GravityModel gravityModel;
+
+    /**
+     * 標準の重力モデルを使用するコンストラクタ。
+     *
+     * @param capacity セッションの最大数（1以上）
+     * @throws IllegalArgumentException capacityが範囲外の場合
+     */
+    public OffHeapSessionStore(int capacity) {
+        this(capacity, GravityModel.DEFAULT);
+    }
+
+    /**
+     * コンストラクタ。
+     *
+     * <p>capacity×{@value #SLOT_SIZE}バイトのダイレクトメモリを確保します。</p>
+     *
+     * @param capacity セッションの最大数（1以上）
+     * @param gravityModel すべてのセッションで使用する重力モデル
+     * @throws IllegalArgumentException capacityが範囲外の場合
+     * @throws NullPointerException gravityModelがnullの場合
+     */
+    public OffHeapSessionStore(int capacity, GravityModel gravityModel) {
+        if (capacity < 1 || capacity > Integer.MAX_VALUE / SLOT_SIZE) {
+            throw new IllegalArgumentException("capacity must be between 1 and " + Integer.MAX_VALUE / SLOT_SIZE);
+        }
+        this.gravityModel = Objects.requireNonNull(gravityModel, "gravityModel must not be null");
+        this.slots = ByteBuffer.allocateDirect(capacity * SLOT_SIZE).order(ByteOrder.nativeOrder());
+        this.recorders = new ReplayRecorder[capacity];
+        this.residents = new Entry[capacity];
+        this.lastAccess = new long[capacity];
+        this.dirty = new AtomicLongArray((capacity + Long.SIZE - 1) / Long.SIZE);
+        this.freeSlots = new int[capacity];
+        for (int i = 0; i < capacity; i++) {
+            freeSlots[i] = capacity - 1 - i;
+        }
+        this.freeCount = capacity;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    @Override
+    public long open(String sessionId) {
+        Objects.requireNonNull(sessionId, "sessionId must not be null");
+        Entry entry = index.get(sessionId);
+        if (entry == null) {
+            entry = register(sessionId, GameSession.start(
+                    PieceGenerator.sevenBag(ThreadLocalRandom.current().nextLong()), gravityModel), false);
+        }
+        return entry.key;
+    }
+
+    @Override
+    public OptionalLong keyOf(String sessionId) {
+        Objects.requireNonNull(sessionId, "sessionId must not be null");
+        Entry entry = index.get(sessionId);
+        return (entry != null) ? OptionalLong.of(entry.key) : OptionalLong.empty();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>休止中のセッションは、スロットを割り当てて復元してから実行します。</p>
+     *
+     * @throws IllegalStateException 休止中のセッションを復元する空きスロットがない場合
+     */
+    @Override
+    public <R> R execute(long key, Function<GameSession, R> command) {
+        Objects.requireNonNull(command, "command must not be null");
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            throw new SessionExpiredException("Unknown session key: " + key);
+        }
+        while (true) {
+            int slot = entry.slot;
+            if (slot < 0) {
+                slot = rehydrate(entry);
+            }
+            synchronized (lock(slot)) {
+                // ロック取得前に休止・破棄（・再利用）されたスロットの場合はやり直す
+                if (residents[slot] != entry) {
+                    continue;
+                }
+                GameSession session = read(slot);
+                lastAccess[slot] = System.nanoTime();
+                try {
+                    return command.apply(session);
+                } finally {
+                    write(slot, session);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean contains(String sessionId) {
+        Objects.requireNonNull(sessionId, "sessionId must not be null");
+        return index.containsKey(sessionId);
+    }
+
+    @Override
+    public Optional<Replay> findReplay(String sessionId) {
+        Objects.requireNonNull(sessionId, "sessionId must not be null");
+        Entry entry = index.get(sessionId);
+        return (entry != null) ? findReplay(entry) : Optional.empty();
+    }
+
+    /**
+     * セッションキーで指定されたセッションの入力ログを取得します。
+     *
+     * @param key セッションキー
+     * @return Replay（セッションが存在しない場合、またはスナップショットから復元したセッションの場合は空）
+     */
+    public Optional<Replay> findReplay(long key) {
+        Entry entry = entries.get(key);
+        return (entry != null) ? findReplay(entry) : Optional.empty();
+    }
+
+    @Override
+    public void remove(String sessionId) {
+        Objects.requireNonNull(sessionId, "sessionId must not be null");
+        Entry entry = index.get(sessionId);
+        if (entry != null) {
+            remove(entry);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>休止中のセッションを含みます。</p>
+     */
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * 指定された時間以上操作のないセッションを休止させ、スロットを空けます。
+     *
+     * <p>セッションキーの索引を弱一貫性で走査し、常駐中のセッションのスロットだけを判定するため、
+     * 空きスロットや休止中のセッションのスロットは調べません。スロットはそれぞれのロックを取得して
+     * 変換されるため、実行中の操作と並行して呼び出せます。</p>
+     *
+     * @param idle 休止させるまでの操作のない時間
+     * @return 休止させたセッション数
+     * @throws NullPointerException idleがnullの場合
+     */
+    public int hibernateIdle(Duration idle) {
+        long idleNanos = idle.toNanos();
+        int[] count = new int[1];
+        entries.forEach((key, entry) -> {
+            int slot = entry.slot;
+            if (slot < 0) {
+                return;
+            }
+            synchronized (lock(slot)) {
+                // ロックを取得するまでに休止・破棄されたエントリは、別のセッションのスロットを休止させない
+                if (residents[slot] == entry && System.nanoTime() - lastAccess[slot] >= idleNanos && hibernate(slot)) {
+                    count[0]++;
+                }
+            }
+        });
+        return count[0];
+    }
+
+    /**
+     * 空きスロットがない場合に、最も長く操作のないセッションを休止させてスロットを空けるようにします。
+     *
+     * <p>{@link SessionHibernator}が呼び出します。休止中のセッションはスナップショットの対象外のため、
+     * スナップショットと併用しないでください。</p>
+     */
+    public void hibernateWhenFull() {
+        this.hibernateWhenFull = true;
+    }
+
+    /**
+     * 休止の統計情報を返します。
+     *
+     * @return 休止の統計情報
+     */
+    public HibernationStats hibernationStats() {
+        long bytes = 0;
+        int count = 0;
+        int resident = 0;
+        for (Entry entry : index.values()) {
+            byte[] packed = entry.packed;
+            if (packed != null) {
+                bytes += packed.length;
+                count++;
+            } else if (entry.slot >= 0) {
+                resident++;
+            }
+        }
+        return new HibernationStats(count, bytes, resident, hibernations.sum(),
+                rehydrations.sum(), rehydrationNanos.sum(), maxRehydrationNanos.get());
+    }
+
+    /**
+     * セッションの最大数を返します。
+     *
+     * @return セッションの最大数
+     */
+    public int capacity() {
+        return recorders.length;
+    }
+
+    /**
+     * セッションが使用しているヒープの見積もりを返します。
+     *
+     * <p>ゲーム状態はダイレクトメモリ上の確保済みのスロットにあるため、セッションごとに増えるのは
+     * 入力ログとセッションIDなどの管理情報のみです（休止中のセッションは休止形式のバイト列）。ロックを取得せずに集計するため、
+     * 集計中に開始・破棄されたセッションは含まれる場合と含まれない場合があります。</p>
+     *
+     * @return ヒープ使用量の見積もり（バイト）
+     */
+    public long heapBytes() {
+        long bytes = 0;
+        for (ReplayRecorder recorder : recorders) {
+            if (recorder != null) {
+                bytes += SESSION_HEAP_OVERHEAD + recorder.sizeInBytes();
+            }
+        }
+        for (Entry entry : index.values()) {
+            byte[] packed = entry.packed;
+            if (packed != null) {
+                bytes += HIBERNATED_HEAP_OVERHEAD + packed.length;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * 前回のスナップショット以降に変更されたスロットをスナップショットファイルに書き込みます。
+     *
+     * <p>スロットはそれぞれのロックを取得してコピーされるため、実行中の操作と並行して呼び出せます。
+     * 破棄されたスロットのレコードは未使用になります。書き込み後に{@link SessionSnapshotFile#force()}を
+     * 呼び出します。このメソッドは同時に1つのスレッドから呼び出してください。</p>
+     *
+     * @param file 書き込み先のスナップショットファイル
+     * @return 書き込んだレコード数
+     * @throws NullPointerException fileがnullの場合
+     * @throws IllegalArgumentException fileのレコード数がこのストアの容量と異なる場合
+     */
+    public int snapshotTo(SessionSnapshotFile file) {
+        checkCapacity(file);
+        int written = 0;
+        for (int word = 0; word < dirty.length(); word++) {
+            long bits = dirty.getAndSet(word, 0L);
+            while (bits != 0) {
+                int slot = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                synchronized (lock(slot)) {
+                    // 割り当て中（常駐前）のスロットは割り当て完了時に再度変更済みになる
+                    Entry entry = residents[slot];
+                    if (entry != null) {
+                        file.write(slot, entry.sessionId, slots, slot * SLOT_SIZE);
+                    } else {
+                        file.clear(slot);
+                    }
+                }
+                written++;
+            }
+        }
+        file.force();
+        return written;
+    }
+
+    /**
+     * 入力ログを再生してセッションを復元します（{@link SessionJournal}からの復旧に使用）。
+     *
+     * <p>スナップショットからの復元と異なり、入力ログはゲーム開始から完全な状態で復元されます。</p>
+     *
+     * @param sessionId セッションID
+     * @param replay ゲーム開始からの入力ログ
+     * @return 復元したセッションのセッションキー
+     * @throws NullPointerException sessionIdまたはreplayがnullの場合
+     * @throws IllegalStateException セッションが既に存在する場合、空きスロットがない場合、
+     *                               または入力ログが破損している場合
+     */
+    public long recover(String sessionId, Replay replay) {
+        Objects.requireNonNull(sessionId, "sessionId must not be null");
+        Objects.requireNonNull(replay, "replay must not be null");
+        return register(sessionId, GameSession.resume(replay, gravityModel), true).key;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>入力ログはスロットのロック（休止中のセッションはエントリのモニター）の中で複製し、
+     * {@code transfer}はロックを解放してから実行します（移動先への送信の間、同じロックを共有する
+     * 他のセッションを待たせず、仮想スレッドのキャリアも固定しないため）。送信中に同じセッションへの
+     * 操作が実行されないことは呼び出し元が保証します（{@link MailboxSessionStore}はセッションの
+     * メールボックスで引き渡しを実行して止めます）。休止中のセッションはスロットに復元せずに引き渡します。
+     * スナップショットから復元したセッションは入力ログが途中からのため引き渡せません。</p>
+     *
+     * @throws ReplayUnavailableException スナップショットから復元したセッションの場合
+     */
+    @Override
+    public boolean handOff(String sessionId, String target, Consumer<Replay> transfer) {
+        Objects.requireNonNull(sessionId, "sessionId must not be null");
+        Objects.requireNonNull(target, "target must not be null");
+        Objects.requireNonNull(transfer, "transfer must not be null");
+        Entry entry = index.get(sessionId);
+        if (entry == null) {
+            return false;
+        }
+        Replay replay = null;
+        while (replay == null) {
+            int slot = entry.slot;
+            if (slot >= 0) {
+                synchronized (lock(slot)) {
+                    if (residents[slot] == entry) {
+                        if (isRestored(slot)) {
+                            throw new ReplayUnavailableException("Session has no input log to hand off: " + sessionId);
+                        }
+                        replay = recorders[slot].toReplay();
+                    }
+                }
+                continue;
+            }
+            synchronized (entry) {
+                if (entry.removed) {
+                    return false;
+                }
+                if (entry.slot < 0) {
+                    if ((HibernatedSession.flags(entry.packed) & FLAG_RESTORED) != 0) {
+                        throw new ReplayUnavailableException("Session has no input log to hand off: " + sessionId);
+                    }
+                    replay = HibernatedSession.replay(entry.packed);
+                }
+            }
+        }
+        transfer.accept(replay);
+        remove(entry);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>{@link #recover(String, Replay)}と同じく入力ログを再生して復元します。同じ入力ログの
+     * セッションが既に存在する場合は何もしません（移動元に応答が届かずに送り直された引き渡しを受け入れるため）。</p>
+     */
+    @Override
+    public void adopt(String sessionId, Replay replay) {
+        Objects.requireNonNull(sessionId, "sessionId must not be null");
+        Objects.requireNonNull(replay, "replay must not be null");
+        Entry existing = index.get(sessionId);
+        if (existing != null && findReplay(existing).filter(replay::equals).isPresent()) {
+            return;
+        }
+        recover(sessionId, replay);
+    }
+
+    /**
+     * 保持しているセッションID（休止中を含む）を返します。
+     *
+     * @return セッションIDのコピー
+     */
+    public Set<String> sessionIds() {
+        return new HashSet<>(index.keySet());
+    }
+
+    /**
+     * セッションキーに対応するセッションIDを返します。
+     *
+     * @param key セッションキー
+     * @return セッションID（セッションが存在しない場合はnull）
+     */
+    String sessionIdOf(long key) {
+        Entry entry = entries.get(key);
+        return (entry != null) ? entry.sessionId : null;
+    }
+
+    /**
+     * スナップショットファイルのセッションをこのストアに復元します。
+     *
+     * <p>各セッションはスナップショット時と同じスロットに復元され、重力の経過時間は
+     * スナップショット時点から再開します（停止中の時間は経過しません）。チェックサムが一致しない
+     * レコードは読み飛ばします。復元後はすべてのスロットが変更済みとなり、次回の
+     * {@link #snapshotTo(SessionSnapshotFile)}でファイル全体が書き直されます。</p>
+     *
+     * @param file 読み込むスナップショットファイル
+     * @return 復元したセッション数
+     * @throws NullPointerException fileがnullの場合
+     * @throws IllegalArgumentException fileのレコード数がこのストアの容量と異なる場合
+     * @throws IllegalStateException このストアにセッションが存在する場合
+     */
+    public int restoreFrom(SessionSnapshotFile file) {
+        checkCapacity(file);
+        synchronized (freeSlots) {
+            if (freeCount != recorders.length || !index.isEmpty()) {
+                throw new IllegalStateException("sessions can only be restored into an empty store");
+            }
+            int restored = 0;
+            freeCount = 0;
+            for (int slot = recorders.length - 1; slot >= 0; slot--) {
+                String sessionId = file.sessionId(slot);
+                if (sessionId == null || index.containsKey(sessionId)) {
+                    freeSlots[freeCount++] = slot;
+                    continue;
+                }
+                int base = slot * SLOT_SIZE;
+                file.readSlot(slot, slots, base);
+                recorders[slot] = new ReplayRecorder(readGenerator(base));
+                slots.putLong(base + START_NANOS,
+                        System.nanoTime() - slots.getLong(base + TIMER_LAST) * 1_000_000L);
+                slots.put(base + FLAGS, FLAG_RESTORED);
+                Entry entry = new Entry(sessionId, lastKey.incrementAndGet());
+                synchronized (lock(slot)) {
+                    residents[slot] = entry;
+                    entry.slot = slot;
+                }
+                index.put(sessionId, entry);
+                entries.put(entry.key, entry);
+                restored++;
+            }
+            for (int word = 0; word < dirty.length(); word++) {
+                dirty.set(word, -1L);
+            }
+            return restored;
+        }
+    }
+
+    /**
+     * スナップショットファイルのレコード数がこのストアの容量と一致することを確認します。
+     */
+    private void checkCapacity(SessionSnapshotFile file) {
+        if (file.capacity() != recorders.length) {
+            throw new IllegalArgumentException(
+                    "snapshot capacity " + file.capacity() + " does not match store capacity " + recorders.length);
+        }
+    }
+
+    /**
+     * 新しいセッションにスロットとセッションキーを割り当て、索引に登録します。
+     *
+     * <p>スロットは索引の更新の外で確保します（休止による空きスロットの確保は他のセッションのスロットの
+     * ロックを取得するため）。索引への登録からスロットへの書き込みの完了まではエントリのモニターを保持するため、
+     * 並行して同じセッションを開いた操作は書き込みの完了を待ちます。</p>
+     *
+     * @param sessionId セッションID
+     * @param session 書き込むセッション
+     * @param exclusive セッションが既に存在する場合に例外を送出する場合true（falseの場合は既存のエントリを返す）
+     * @return 登録したエントリ（既に存在する場合は既存のエントリ）
+     * @throws IllegalStateException 空きスロットがない場合、またはexclusiveでセッションが既に存在する場合
+     */
+    private Entry register(String sessionId, GameSession session, boolean exclusive) {
+        int reserved = takeSlot();
+        Entry created = new Entry(sessionId, lastKey.incrementAndGet());
+        synchronized (created) {
+            Entry existing = index.putIfAbsent(sessionId, created);
+            if (existing != null) {
+                release(reserved);
+                if (exclusive) {
+                    throw new IllegalStateException("Session already exists: " + sessionId);
+                }
+                return existing;
+            }
+            try {
+                install(created, session, (byte) 0, reserved);
+            } catch (RuntimeException e) {
+                created.removed = true;
+                index.remove(sessionId, created);
+                discard(reserved);
+                throw e;
+            }
+            entries.put(created.key, created);
+            return created;
+        }
+    }
+
+    /**
+     * 休止中のセッションをスロットに復元します（常駐中の場合は何もしません）。
+     *
+     * @param entry セッションのエントリ
+     * @return 常駐しているスロット番号
+     * @throws SessionExpiredException セッションが破棄・引き渡し済みの場合
+     * @throws IllegalStateException 空きスロットがない場合
+     */
+    private int rehydrate(Entry entry) {
+        synchronized (entry) {
+            if (entry.removed) {
+                throw new SessionExpiredException("Session has been removed: " + entry.sessionId);
+            }
+            int slot = entry.slot;
+            if (slot >= 0) {
+                return slot;
+            }
+            long start = System.nanoTime();
+            byte[] packed = entry.packed;
+            int reserved = takeSlot();
+            try {
+                install(entry, HibernatedSession.unpack(packed, gravityModel), HibernatedSession.flags(packed), reserved);
+            } catch (RuntimeException e) {
+                discard(reserved);
+                throw e;
+            }
+            long elapsed = System.nanoTime() - start;
+            rehydrations.increment();
+            rehydrationNanos.add(elapsed);
+            maxRehydrationNanos.accumulate(elapsed);
+            return reserved;
+        }
+    }
+
+    /**
+     * セッションを破棄します（破棄・引き渡し済みの場合は何もしません）。
+     *
+     * @param entry セッションのエントリ
+     */
+    private void remove(Entry entry) {
+        synchronized (entry) {
+            if (entry.removed) {
+                return;
+            }
+            entry.removed = true;
+            int slot = entry.slot;
+            if (slot >= 0) {
+                synchronized (lock(slot)) {
+                    // ロックの取得中に休止した場合、スロットは既に空いている
+                    if (residents[slot] == entry) {
+                        evict(entry, slot);
+                    }
+                }
+            }
+            entry.packed = null;
+        }
+        unregister(entry);
+    }
+
+    /**
+     * 破棄・引き渡したセッションのエントリを索引から外します。
+     *
+     * @param entry セッションのエントリ
+     */
+    private void unregister(Entry entry) {
+        index.remove(entry.sessionId, entry);
+        entries.remove(entry.key, entry);
+    }
+
+    /**
+     * セッションの入力ログを取得します。
+     *
+     * @param entry セッションのエントリ
+     * @return Replay（破棄済み、またはスナップショットから復元したセッションの場合は空）
+     */
+    private Optional<Replay> findReplay(Entry entry) {
+        while (true) {
+            int slot = entry.slot;
+            if (slot >= 0) {
+                synchronized (lock(slot)) {
+                    if (residents[slot] == entry) {
+                        return isRestored(slot) ? Optional.empty() : Optional.of(recorders[slot].toReplay());
+                    }
+                }
+                continue;
+            }
+            // 休止中のセッションはエントリのモニターの中では常駐に切り替わらない
+            synchronized (entry) {
+                if (entry.removed) {
+                    return Optional.empty();
+                }
+                if (entry.slot < 0) {
+                    byte[] packed = entry.packed;
+                    return ((HibernatedSession.flags(packed) & FLAG_RESTORED) == 0)
+                            ? Optional.of(HibernatedSession.replay(packed))
+                            : Optional.empty();
+                }
+            }
+        }
+    }
+
+    /**
+     * 空きスロットを1つ確保します。
+     *
+     * <p>空きスロットがなく{@link #hibernateWhenFull()}が有効な場合は、最も長く操作のないセッションを
+     * 休止させてから再試行します。</p>
+     *
+     * @return 確保したスロット番号
+     * @throws IllegalStateException 空きスロットがない場合
+     */
+    private int takeSlot() {
+        while (true) {
+            synchronized (freeSlots) {
+                if (freeCount > 0) {
+                    return freeSlots[--freeCount];
+                }
+            }
+            if (!hibernateWhenFull || !hibernateLeastRecent()) {
+                throw new IllegalStateException("Maximum session limit reached: " + recorders.length);
+            }
+        }
+    }
+
+    /**
+     * 最も長く操作のないセッションを休止させます。
+     *
+     * <p>最後の操作の時刻はロックを取得せずに比較するため、選ぶセッションは近似です。</p>
+     *
+     * @return 休止させる候補があった場合true（候補が他のスレッドに破棄・休止された場合を含む）
+     */
+    private boolean hibernateLeastRecent() {
+        long now = System.nanoTime();
+        int oldest = -1;
+        long oldestAge = -1;
+        for (int slot = 0; slot < recorders.length; slot++) {
+            long age = now - lastAccess[slot];
+            if (residents[slot] != null && age > oldestAge) {
+                oldest = slot;
+                oldestAge = age;
+            }
+        }
+        if (oldest < 0) {
+            return false;
+        }
+        synchronized (lock(oldest)) {
+            hibernate(oldest);
+        }
+        return true;
+    }
+
+    /**
+     * スロットのセッションを休止形式に変換し、スロットを空けます（スロットのロックを取得して呼び出すこと）。
+     *
+     * @param slot スロット番号
+     * @return 休止させた場合true（スロットが割り当て中または空の場合はfalse）
+     */
+    private boolean hibernate(int slot) {
+        Entry entry = residents[slot];
+        if (entry == null) {
+            return false;
+        }
+        // 休止形式を先に設定するため、エントリはスロットと休止形式のどちらも持たない状態を経由しない
+        entry.packed = HibernatedSession.pack(read(slot), slots.get(slot * SLOT_SIZE + FLAGS));
+        evict(entry, slot);
+        hibernations.increment();
+        return true;
+    }
+
+    /**
+     * 確保したスロットにセッションを書き込み、エントリを常駐させます。
+     *
+     * <p>書き込みは常駐させる前のスロット（他のスレッドから参照されない）に行い、スロットのロックの中で
+     * エントリとスロットを結び付けて公開します。</p>
+     *
+     * @param entry セッションのエントリ
+     * @param session 書き込むセッション
+     * @param flags セッションのフラグ
+     * @param slot 確保したスロット番号
+     */
+    private void install(Entry entry, GameSession session, byte flags, int slot) {
+        recorders[slot] = session.recorder();
+        slots.putLong(slot * SLOT_SIZE + START_NANOS, session.startNanos());
+        slots.put(slot * SLOT_SIZE + FLAGS, flags);
+        lastAccess[slot] = System.nanoTime();
+        write(slot, session);
+        synchronized (lock(slot)) {
+            residents[slot] = entry;
+            entry.packed = null;
+            entry.slot = slot;
+            markDirty(slot);
+        }
+    }
+
+    /**
+     * 常駐中のエントリをスロットから外し、スロットを空けます（スロットのロックを取得して呼び出すこと）。
+     *
+     * @param entry セッションのエントリ
+     * @param slot スロット番号
+     */
+    private void evict(Entry entry, int slot) {
+        entry.slot = -1;
+        residents[slot] = null;
+        recorders[slot] = null;
+        markDirty(slot);
+        release(slot);
+    }
+
+    /**
+     * スロットをスナップショットの対象として記録します。
+     *
+     * @param slot スロット番号
+     */
+    private void markDirty(int slot) {
+        int word = slot >>> 6;
+        long bit = 1L << slot;
+        if ((dirty.get(word) & bit) == 0) {
+            dirty.accumulateAndGet(word, bit, OffHeapSessionStore::or);
+        }
+    }
+
+    private static long or(long left, long right) {
+        return left | right;
+    }
+
+    /**
+     * スナップショットから復元したセッションのスロットかを判定します。
+     *
+     * @param slot スロット番号
+     * @return 復元したセッションの場合true
+     */
+    private boolean isRestored(int slot) {
+        return (slots.get(slot * SLOT_SIZE + FLAGS) & FLAG_RESTORED) != 0;
+    }
+
+    /**
+     * スロットを空きスロットに戻します。
+     *
+     * @param slot スロット番号
+     */
+    private void release(int slot) {
+        synchronized (freeSlots) {
+            freeSlots[freeCount++] = slot;
+        }
+    }
+
+    /**
+     * 常駐させられなかった確保済みのスロットを、書き込み途中の内容を消して空きスロットに戻します。
+     *
+     * @param slot スロット番号
+     */
+    private void discard(int slot) {
+        recorders[slot] = null;
+        release(slot);
+    }
+
+    /**
+     * スロット番号に対応するロックを返します。
+     *
+     * @param slot スロット番号
+     * @return ロック
+     */
+    private Object lock(int slot) {
+        return locks[slot & (LOCK_STRIPES - 1)];
+    }
+
+    /**
+     * スロットからGameSessionを復元します。
+     *
+     * @param slot スロット番号
+     * @return 復元されたGameSession
+     */
+    private GameSession read(int slot) {
+        int base = slot * SLOT_SIZE;
+        int[] rows = new int[GameField.HEIGHT];
+        for (int y = 0; y < GameField.HEIGHT; y++) {
+            rows[y] = slots.getInt(base + FIELD + y * Integer.BYTES);
+        }
+
+        PieceGenerator generator = readGenerator(base);
+        GameState state = new GameState(
+                STATUSES[slots.get(base + STATUS)],
+                new Tetromino(TYPES[slots.get(base + CURRENT_TYPE)],
+                        new Position(slots.getInt(base + CURRENT_X), slots.getInt(base + CURRENT_Y)),
+                        ROTATIONS[slots.get(base + CURRENT_ROTATION)]),
+                new Tetromino(TYPES[slots.get(base + NEXT_TYPE)],
+                        new Position(slots.getInt(base + NEXT_X), slots.getInt(base + NEXT_Y)),
+                        ROTATIONS[slots.get(base + NEXT_ROTATION)]),
+                GameField.fromEncodedRows(rows),
+                slots.getInt(base + SCORE),
+                slots.getInt(base + LEVEL),
+                slots.getInt(base + LINES),
+                generator
+        );
+
+        // GravityModelはテトリミノの切り替わりをジェネレーターの参照で判定するため、参照の一致を復元する
+        GravityTimer timer = new GravityTimer(
+                slots.getLong(base + TIMER_LAST),
+                slots.getLong(base + TIMER_PROGRESS),
+                slots.getLong(base + TIMER_GROUNDED),
+                slots.getInt(base + TIMER_RESETS),
+                (slots.get(base + TIMER_SAME_PIECE) != 0) ? generator : readGenerator(base)
+        );
+        return GameSession.restore(state, recorders[slot], slots.getLong(base + START_NANOS), gravityModel, timer);
+    }
+
+    /**
+     * GameSessionの状態をスロットに書き込み、変更済みとして記録します（入力ログ、開始時刻、フラグを除く）。
+     *
+     * @param slot スロット番号
+     * @param session 書き込むGameSession
+     */
+    private void write(int slot, GameSession session) {
+        int base = slot * SLOT_SIZE;
+        GameState state = session.state();
+        GravityTimer timer = session.gravityTimer();
+
+        slots.put(base + STATUS, (byte) state.status().ordinal());
+        writeTetromino(base + CURRENT_TYPE, base + CURRENT_ROTATION, base + CURRENT_X, base + CURRENT_Y,
+                state.currentTetromino());
+        writeTetromino(base + NEXT_TYPE, base + NEXT_ROTATION, base + NEXT_X, base + NEXT_Y,
+                state.nextTetromino());
+        slots.putInt(base + SCORE, state.score());
+        slots.putInt(base + LEVEL, state.level());
+        slots.putInt(base + LINES, state.totalLinesCleared());
+        writeGenerator(base, state.pieceGenerator());
+
+        slots.put(base + TIMER_SAME_PIECE, (byte) (timer.piece() == state.pieceGenerator() ? 1 : 0));
+        slots.putLong(base + TIMER_LAST, timer.lastMillis());
+        slots.putLong(base + TIMER_PROGRESS, timer.fallProgressMillis());
+        slots.putLong(base + TIMER_GROUNDED, timer.groundedSinceMillis());
+        slots.putInt(base + TIMER_RESETS, timer.lockResets());
+
+        int[] rows = state.field().encodedRows();
+        for (int y = 0; y < GameField.HEIGHT; y++) {
+            slots.putInt(base + FIELD + y * Integer.BYTES, rows[y]);
+        }
+        markDirty(slot);
+    }
+
+    /**
+     * テトリミノをスロットに書き込みます。
+     */
+    private void writeTetromino(int typeOffset, int rotationOffset, int xOffset, int yOffset, Tetromino tetromino) {
+        slots.put(typeOffset, (byte) tetromino.type().ordinal());
+        slots.put(rotationOffset, (byte) tetromino.rotation().ordinal());
+        slots.putInt(xOffset, tetromino.position().x());
+        slots.putInt(yOffset, tetromino.position().y());
+    }
+
+    /**
+     * ピースジェネレーターをスロットに書き込みます。
+     *
+     * @throws IllegalStateException 未対応のピースジェネレーターの場合
+     */
+    private void writeGenerator(int base, PieceGenerator generator) {
+        if (generator instanceof SevenBagPieceGenerator bag) {
+            slots.put(base + GENERATOR_KIND, GENERATOR_SEVEN_BAG);
+            slots.putLong(base + GENERATOR_STATE, bag.state());
+            slots.putInt(base + BAG_MASK, bag.remainingMask());
+        } else if (generator instanceof UniformPieceGenerator uniform) {
+            slots.put(base + GENERATOR_KIND, GENERATOR_UNIFORM);
+            slots.putLong(base + GENERATOR_STATE, uniform.state());
+            slots.putInt(base + BAG_MASK, 0);
+        } else {
+            throw new IllegalStateException("Unsupported piece generator: " + generator);
+        }
+    }
+
+    /**
+     * スロットからピースジェネレーターを復元します。
+     */
+    private PieceGenerator readGenerator(int base) {
+        long state = slots.getLong(base + GENERATOR_STATE);
+        return (slots.get(base + GENERATOR_KIND) == GENERATOR_SEVEN_BAG)
+                ? new SevenBagPieceGenerator(state, slots.getInt(base + BAG_MASK))
+                : new UniformPieceGenerator(state);
+    }
+
+    /**
+     * セッションの索引のエントリ。
+     *
+     * <p>セッションキーはエントリの生成時に割り当て、休止・復元をまたいで変わりません。常駐中はスロット番号を、
+     * 休止中は休止形式を保持します。常駐への切り替えと破棄はエントリのモニターで、休止への切り替えは
+     * スロットのロックで直列化します（両方を取得する場合はエントリ、スロットの順）。</p>
+     */
+    private static final class Entry {
+
+        private final String sessionId;
+        private final long key;
+
+        /**
+         * 常駐しているスロット番号（休止中・常駐前・破棄後は-1）。
+         */
+        private volatile int slot = -1;
+
+        /**
+         * 休止形式のバイト列（常駐中・常駐前・破棄後はnull）。
+         */
+        private volatile byte[] packed;
+
+        /**
+         * 破棄または引き渡した場合true。
+         */
+        private volatile boolean removed;
+
+        private Entry(String sessionId, long key) {
+            this.sessionId = sessionId;
+            this.key = key;
+        }
+    }
+}
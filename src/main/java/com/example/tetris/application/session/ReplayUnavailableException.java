@@ -0,0 +1,27 @@
+package com.example.tetris.application.session;
+
+/**
+ * セッションは存在するが、ゲーム開始からの入力ログを提供できないことを示す例外。
+ *
+ * <p>{@link OffHeapSessionStore#restoreFrom(SessionSnapshotFile)}で復元したセッションは途中の状態から
+ * 再開するため、開始からの入力ログを持ちません。このようなセッションはスコアをリプレイで検証できず、
+ * 入力ログを再生する他のノードにも移動できません。{@link SessionExpiredException}と同じく
+ * {@link IllegalStateException}のサブクラスです。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class ReplayUnavailableException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param message 詳細メッセージ
+     */
+    public ReplayUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,329 @@
+package com.example.tetris.application.session;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 新しいセッションの受け入れ制御。
+ *
+ * <p>セッション数の上限を固定値ではなく、実測した負荷から推定します（{@link CapacityEstimate}）。</p>
+ * <ul>
+ *   <li>メモリ：ヒープの空きから予備（{@link AdmissionPolicy#heapReserveBytes()}）を除いた量を、
+ *       1セッションあたりのヒープ使用量の見積もりで割った数</li>
+ *   <li>CPU：利用可能なCPU時間を、操作あたりの平均実行時間×1セッションあたりの毎秒の操作数で割った数</li>
+ *   <li>遅れ：操作の投入から実行開始までの平均待ち時間が上限を超えている間は、空きがあっても受け入れない</li>
+ * </ul>
+ * <p>負荷は{@link AdmissionPolicy#sampleInterval()}ごとに{@link LoadSample}として計測し、
+ * 累計値の差分から直近の操作あたりのコストと待ち時間を求めます。</p>
+ *
+ * <h3>待機ロビー：</h3>
+ * <p>空きがない場合、新しいセッションは例外で拒否せずに待機ロビーに入り、待機順位を返します。
+ * 待機中のプレイヤーは同じセッションIDで再度{@link #tryAdmit(String)}を呼び出して順位を確認し、
+ * 空きが順位に達した時点で受け入れられます（先着順）。{@link AdmissionPolicy#lobbyTimeout()}の間
+ * 再確認がないプレイヤーはロビーから退出させます。ロビーが満員の場合のみ拒否します。</p>
+ *
+ * <h3>スレッドセーフ性：</h3>
+ * <p>すべての公開メソッドは同期されます。受け入れてからセッションストアにセッションが作成されるまでの
+ * 間は{@link #settle()}が呼び出されるまで受け入れ済みの数として数えるため、同時に受け入れ判定が
+ * 行われても推定した上限を超えて受け入れません。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class SessionAdmission {
+
+    /**
+     * 受け入れ判定の結果の種類。
+     */
+    public enum Status {
+        /** 受け入れた */
+        ADMITTED,
+        /** 待機ロビーで待機中 */
+        QUEUED,
+        /** 待機ロビーが満員のため拒否した */
+        REJECTED
+    }
+
+    /**
+     * 受け入れ判定の結果。
+     *
+     * @param status 結果の種類
+     * @param lobbyPosition 待機順位（1始まり、待機中でない場合は0）
+     */
+    public record Admission(Status status, int lobbyPosition) {
+
+        private static final Admission ADMITTED = new Admission(Status.ADMITTED, 0);
+        private static final Admission REJECTED = new Admission(Status.REJECTED, 0);
+
+        /**
+         * 受け入れたかを判定します。
+         *
+         * @return 受け入れた場合true
+         */
+        public boolean admitted() {
+            return status == Status.ADMITTED;
+        }
+    }
+
+    /**
+     * 負荷の計測値。
+     *
+     * @param heapHeadroomBytes ヒープの空き（バイト）
+     * @param sessionHeapBytes セッションが使用しているヒープの見積もり（バイト）
+     * @param processedCommands 実行した操作の累計
+     * @param queueNanos 操作の投入から実行開始までの待ち時間の累計（ナノ秒）
+     * @param serviceNanos 操作の実行時間の累計（ナノ秒）
+     */
+    public record LoadSample(long heapHeadroomBytes, long sessionHeapBytes, long processedCommands,
+                             long queueNanos, long serviceNanos) {
+    }
+
+    private final SessionStore store;
+    private final int storeLimit;
+    private final AdmissionPolicy policy;
+    private final Supplier<LoadSample> probe;
+    private final LongSupplier clock;
+    private final int processors;
+
+    /**
+     * 待機ロビー（セッションIDから最後に確認した時刻へ、待機順）。
+     */
+    private final Map<String, Long> lobby = new LinkedHashMap<>();
+
+    /**
+     * 受け入れたがまだセッションストアに作成されていないセッション数。
+     */
+    private int inFlight;
+
+    private LoadSample lastSample;
+    private long lastSampleNanos;
+    private long tickCostNanos;
+    private long tickLagNanos;
+    private long bytesPerSession;
+    private long heapHeadroomBytes;
+    private int memoryLimit;
+    private int cpuLimit;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param store 受け入れたセッションを保持するセッションストア
+     * @param storeLimit セッションストアの容量
+     * @param policy 受け入れ条件
+     * @param probe 負荷の計測
+     * @throws NullPointerException store、policy、probeがnullの場合
+     * @throws IllegalArgumentException storeLimitが1未満の場合
+     */
+    public SessionAdmission(SessionStore store, int storeLimit, AdmissionPolicy policy, Supplier<LoadSample> probe) {
+        this(store, storeLimit, policy, probe, System::nanoTime, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * 時計とCPUコア数を指定するコンストラクタ（テスト用）。
+     */
+    SessionAdmission(SessionStore store, int storeLimit, AdmissionPolicy policy, Supplier<LoadSample> probe,
+                     LongSupplier clock, int processors) {
+        if (storeLimit < 1) {
+            throw new IllegalArgumentException("storeLimit must be at least 1");
+        }
+        this.store = Objects.requireNonNull(store, "store must not be null");
+        this.storeLimit = storeLimit;
+        this.policy = Objects.requireNonNull(policy, "policy must not be null");
+        this.probe = Objects.requireNonNull(probe, "probe must not be null");
+        this.clock = clock;
+        this.processors = processors;
+    }
+
+    /**
+     * ヒープの空き、{@link OffHeapSessionStore}のヒープ使用量、{@link MailboxSessionStore}の
+     * 操作の待ち時間と実行時間を計測する{@link LoadSample}の取得関数を返します。
+     *
+     * @param store セッションストア
+     * @param mailbox 操作を実行するメールボックス
+     * @return 負荷の計測
+     * @throws NullPointerException storeまたはmailboxがnullの場合
+     */
+    public static Supplier<LoadSample> probe(OffHeapSessionStore store, MailboxSessionStore mailbox) {
+        Objects.requireNonNull(store, "store must not be null");
+        Objects.requireNonNull(mailbox, "mailbox must not be null");
+        return () -> {
+            MailboxStats stats = mailbox.stats();
+            return new LoadSample(heapHeadroomBytes(), store.heapBytes(),
+                    stats.processed(), stats.queueNanos(), stats.serviceNanos());
+        };
+    }
+
+    /**
+     * 新しいセッションを受け入れるかを判定します。
+     *
+     * <p>受け入れた場合、呼び出し側はセッションを作成した後（失敗した場合も）{@link #settle()}を
+     * 呼び出す必要があります。</p>
+     *
+     * @param sessionId セッションID
+     * @return 判定結果（空きがない場合は待機順位、ロビーが満員の場合は拒否）
+     * @throws NullPointerException sessionIdがnullの場合
+     */
+    public synchronized Admission tryAdmit(String sessionId) {
+        Objects.requireNonNull(sessionId, "sessionId must not be null");
+        long now = clock.getAsLong();
+        refresh(now);
+        expireLobby(now);
+        int available = available();
+
+        if (lobby.containsKey(sessionId)) {
+            int position = positionOf(sessionId);
+            if (position <= available) {
+                lobby.remove(sessionId);
+                inFlight++;
+                return Admission.ADMITTED;
+            }
+            lobby.put(sessionId, now);
+            return new Admission(Status.QUEUED, position);
+        }
+        if (available > lobby.size()) {
+            inFlight++;
+            return Admission.ADMITTED;
+        }
+        if (lobby.size() >= policy.lobbyCapacity()) {
+            return Admission.REJECTED;
+        }
+        lobby.put(sessionId, now);
+        return new Admission(Status.QUEUED, lobby.size());
+    }
+
+    /**
+     * {@link #tryAdmit(String)}で受け入れたセッションの作成が完了したことを通知します。
+     */
+    public synchronized void settle() {
+        if (inFlight > 0) {
+            inFlight--;
+        }
+    }
+
+    /**
+     * 待機ロビーから退出させます（待機していない場合は何もしません）。
+     *
+     * @param sessionId セッションID
+     * @throws NullPointerException sessionIdがnullの場合
+     */
+    public synchronized void leave(String sessionId) {
+        Objects.requireNonNull(sessionId, "sessionId must not be null");
+        lobby.remove(sessionId);
+    }
+
+    /**
+     * 現在の受け入れ可能なセッション数の推定を返します。
+     *
+     * @return 推定値
+     */
+    public synchronized CapacityEstimate estimate() {
+        long now = clock.getAsLong();
+        refresh(now);
+        expireLobby(now);
+        return new CapacityEstimate(store.size() + inFlight, capacity(), storeLimit, memoryLimit, cpuLimit,
+                bytesPerSession, heapHeadroomBytes, tickCostNanos, tickLagNanos, isSaturated(), lobby.size());
+    }
+
+    /**
+     * 前回の計測から{@link AdmissionPolicy#sampleInterval()}以上経過していれば負荷を再計測し、
+     * 上限を再計算します。
+     */
+    private void refresh(long now) {
+        if (lastSample != null && now - lastSampleNanos < policy.sampleInterval().toNanos()) {
+            return;
+        }
+        LoadSample sample = probe.get();
+        int sessions = store.size();
+
+        bytesPerSession = Math.max(policy.minBytesPerSession(),
+                (sessions > 0) ? sample.sessionHeapBytes() / sessions : 0);
+        heapHeadroomBytes = sample.heapHeadroomBytes();
+        long spare = Math.max(0, heapHeadroomBytes - policy.heapReserveBytes());
+        memoryLimit = saturatedCast(sessions + spare / bytesPerSession);
+
+        if (lastSample != null) {
+            long processed = sample.processedCommands() - lastSample.processedCommands();
+            if (processed > 0) {
+                tickCostNanos = (sample.serviceNanos() - lastSample.serviceNanos()) / processed;
+                tickLagNanos = (sample.queueNanos() - lastSample.queueNanos()) / processed;
+            } else {
+                tickLagNanos = 0;
+            }
+        }
+        cpuLimit = (tickCostNanos > 0)
+                ? saturatedCast((long) (processors * 1e9 * policy.targetUtilization()
+                        / (tickCostNanos * policy.commandsPerSecond())))
+                : Integer.MAX_VALUE;
+
+        lastSample = sample;
+        lastSampleNanos = now;
+    }
+
+    /**
+     * 再確認がないまま{@link AdmissionPolicy#lobbyTimeout()}が経過したプレイヤーを退出させます。
+     */
+    private void expireLobby(long now) {
+        long timeout = policy.lobbyTimeout().toNanos();
+        Iterator<Long> seen = lobby.values().iterator();
+        while (seen.hasNext()) {
+            if (now - seen.next() > timeout) {
+                seen.remove();
+            }
+        }
+    }
+
+    private int positionOf(String sessionId) {
+        int position = 1;
+        for (String waiting : lobby.keySet()) {
+            if (waiting.equals(sessionId)) {
+                return position;
+            }
+            position++;
+        }
+        throw new IllegalStateException("not in lobby: " + sessionId);
+    }
+
+    private int capacity() {
+        return Math.min(storeLimit, Math.min(memoryLimit, cpuLimit));
+    }
+
+    private boolean isSaturated() {
+        return tickLagNanos > policy.maxTickLag().toNanos();
+    }
+
+    private int available() {
+        return isSaturated() ? 0 : Math.max(0, capacity() - store.size() - inFlight);
+    }
+
+    private static int saturatedCast(long value) {
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(0, value));
+    }
+
+    /**
+     * ヒープの空きを返します。
+     *
+     * <p>若い世代（Eden・Survivor）は直近のGC後の使用量、それ以外の領域は現在の使用量で数えます
+     * （回収前の短命なオブジェクトで空きを過小評価しないため）。</p>
+     */
+    private static long heapHeadroomBytes() {
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() != MemoryType.HEAP) {
+                continue;
+            }
+            MemoryUsage afterGc = pool.getCollectionUsage();
+            boolean young = pool.getName().contains("Eden") || pool.getName().contains("Survivor");
+            used += (young && afterGc != null) ? afterGc.getUsed() : pool.getUsage().getUsed();
+        }
+        return Math.max(0, Runtime.getRuntime().maxMemory() - used);
+    }
+}
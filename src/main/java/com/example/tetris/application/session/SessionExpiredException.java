@@ -0,0 +1,27 @@
+package com.example.tetris.application.session;
+
+/**
+ * セッションキーまたはセッショントークンが指すセッションが、このノードで有効でないことを示す例外。
+ *
+ * <p>セッションが破棄された後のセッションキーへの操作（{@link SessionStore#execute(long, java.util.function.Function)}）や、
+ * 他のノードから移動してきたセッションへの移動前のトークンによる操作で送出されます。
+ * 呼び出し元はセッションを開き直し（ハンドシェイクをやり直し）、発行されたトークンで操作を送り直します。
+ * {@link SessionMovedException}と同じく{@link IllegalStateException}のサブクラスです。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class SessionExpiredException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param message 詳細メッセージ
+     */
+    public SessionExpiredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.tetris.application.session;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link OffHeapSessionStore}の操作のないセッションを定期的に休止させるクラス。
+ *
+ * <p>指定された間隔でスロットを走査し、{@code idleAfter}以上操作のないセッションを
+ * {@link OffHeapSessionStore#hibernateIdle(Duration)}で休止形式に変換します。
+ * 休止したセッションは次の操作で自動的に復元されるため、呼び出し側の対応は不要です。</p>
+ *
+ * <p>休止を有効にすると受け入れるセッション数がスロット数を超えるため、生成時にストアの
+ * {@link OffHeapSessionStore#hibernateWhenFull()}を有効にし、空きスロットがない場合は
+ * 走査を待たずに最も長く操作のないセッションを休止させます。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class SessionHibernator implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionHibernator.class);
+
+    private final OffHeapSessionStore store;
+    private final Duration idleAfter;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param store 休止させるセッションを保持するセッションストア
+     * @param idleAfter 休止させるまでの操作のない時間
+     * @param sweepInterval 走査の間隔
+     * @throws NullPointerException いずれかの引数がnullの場合
+     * @throws IllegalArgumentException idleAfterが負、またはsweepIntervalが正でない場合
+     */
+    public SessionHibernator(OffHeapSessionStore store, Duration idleAfter, Duration sweepInterval) {
+        this.store = Objects.requireNonNull(store, "store must not be null");
+        this.idleAfter = Objects.requireNonNull(idleAfter, "idleAfter must not be null");
+        if (idleAfter.isNegative()) {
+            throw new IllegalArgumentException("idleAfter must not be negative");
+        }
+        if (sweepInterval.isNegative() || sweepInterval.isZero()) {
+            throw new IllegalArgumentException("sweepInterval must be positive");
+        }
+        store.hibernateWhenFull();
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-hibernator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = sweepInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::sweep, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 操作のないセッションを休止させます。
+     *
+     * <p>スケジュールされたタスクを継続させるため、例外はログに記録して抑止します。</p>
+     */
+    private void sweep() {
+        try {
+            int count = store.hibernateIdle(idleAfter);
+            if (count > 0) {
+                logger.debug("Hibernated {} idle sessions", count);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Session hibernation failed", e);
+        }
+    }
+
+    /**
+     * 定期的な休止を停止します（休止中のセッションはそのまま保持されます）。
+     */
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(10, TimeUnit.SECONDS)) {
+                logger.warn("Session hibernator did not terminate in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
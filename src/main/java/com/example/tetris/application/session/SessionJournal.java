@@ -0,0 +1,693 @@
+package com.example.tetris.application.session;
+
+import com.example.tetris.domain.PieceGenerator;
+import com.example.tetris.domain.replay.Replay;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.zip.CRC32C;
+
+/**
+ * セッションの入力ログを追記するジャーナル（イベントソーシング）。
+ *
+ * <p>GameStateを操作ごとに書き込む代わりに、{@link com.example.tetris.domain.replay.ReplayRecorder}が
+ * エンコードした入力ログ（移動・回転・ドロップ・自動落下などの操作とティック）の差分のみを追記し、
+ * 復旧時はゲーム開始時の乱数シードから入力ログをドメインのエンジンで再生します。</p>
+ *
+ * <h3>レコードの種類：</h3>
+ * <ul>
+ *   <li>START：セッションの開始（または定期的なスナップショット）。乱数シードを含むゲーム開始からの入力ログ全体</li>
+ *   <li>APPEND：入力ログの差分（開始位置と追記後の操作数）</li>
+ *   <li>END：セッションの破棄</li>
+ * </ul>
+ * <p>各レコードはセッションの世代（インカネーション）を持ち、同じセッションIDで作り直された
+ * セッションの古いレコードは復旧時に無視されます。APPENDは入力ログ上の位置で適用するため、
+ * 重複したレコードは読み飛ばされ、欠落がある場合はその直前の状態まで復旧します。</p>
+ *
+ * <h3>グループコミット：</h3>
+ * <p>追記はメモリ上のバッファへのコピーのみで、シーケンス番号を返します。単一の書き込みスレッドが
+ * バッファを入れ替え、すべてのセッションの未書き込みのレコードをまとめて書き込んでから1回だけ
+ * fsyncします。呼び出し側は{@link #awaitDurable(long)}でシーケンス番号までの永続化を待ちます。</p>
+ *
+ * <h3>セグメント：</h3>
+ * <p>レコードは{@code journal-<番号>.log}というセグメントファイルに書き込まれ、
+ * セグメントが{@code maxSegmentBytes}を超えると次のセグメントに切り替えます。
+ * 起動時は既存のセグメントを読み込んで復旧した後、新しいセグメントから書き込みを開始します
+ * （途中で途切れた末尾には追記しません）。{@link #roll()}で切り替えた後に全セッションのSTARTを
+ * 書き込めば、それより前のセグメントは{@link #deleteSegmentsBefore(long)}で削除できます（コンパクション）。</p>
+ *
+ * <h3>レイアウト（ビッグエンディアン）：</h3>
+ * <ul>
+ *   <li>セグメントヘッダー（{@value #SEGMENT_HEADER_SIZE}バイト）: マジックナンバー、バージョン、セグメント番号</li>
+ *   <li>レコード: 本体の長さ（int）、本体のCRC32C（int）、本体（種類、世代、セッションIDの長さ（short）とUTF-8のセッションID、内容）</li>
+ * </ul>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class SessionJournal implements AutoCloseable {
+
+    private static final int MAGIC = 0x54534A4C;  // "TSJL"
+    private static final int VERSION = 2;
+
+    /**
+     * セグメントヘッダーのバイト数。
+     */
+    public static final int SEGMENT_HEADER_SIZE = 16;
+
+    /**
+     * セッションIDの最大バイト数（UTF-8）。
+     *
+     * <p>ユースケースが受け付ける最大256文字のセッションIDは、UTF-16の1文字あたりUTF-8で3バイト以下のため
+     * 常にこの長さに収まります。</p>
+     */
+    public static final int MAX_SESSION_ID_BYTES = 256 * 3;
+
+    private static final byte START = 1;
+    private static final byte APPEND = 2;
+    private static final byte END = 3;
+
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final int MIN_BODY_SIZE = 1 + 8 + 2;
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 復旧したセッション。
+     *
+     * @param incarnation セッションの世代
+     * @param replay ゲーム開始からの入力ログ
+     */
+    public record Entry(long incarnation, Replay replay) {
+    }
+
+    private final Path directory;
+    private final long maxSegmentBytes;
+    private final Map<String, Entry> recovered;
+    private final Thread writer;
+    private final CRC32C crc = new CRC32C();
+
+    /**
+     * 追記・書き込み状態のロック（以下のフィールドを保護）。
+     */
+    private final Object lock = new Object();
+    private ByteBuffer pending = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private ByteBuffer spare = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private long appended;
+    private long durable;
+    private long nextIncarnation;
+    private int recordStart;
+    private int rollAt = -1;
+    private long rollsRequested;
+    private long rollsCompleted;
+    private long rolledSegment;
+    private long records;
+    private long syncs;
+    private IOException failure;
+    private boolean closed;
+
+    /**
+     * 書き込みスレッドのみが使用する現在のセグメント。
+     */
+    private FileChannel segment;
+    private long segmentNumber;
+    private long segmentSize;
+
+    private SessionJournal(Path directory, long maxSegmentBytes, Map<String, Entry> recovered,
+                           long nextIncarnation, long lastSegment) throws IOException {
+        this.directory = directory;
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.recovered = recovered;
+        this.nextIncarnation = nextIncarnation;
+        openSegment(lastSegment + 1);
+        this.writer = new Thread(this::writeLoop, "session-journal");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * ジャーナルを開きます（ディレクトリが存在しない場合は作成）。
+     *
+     * <p>既存のセグメントを番号順に読み込んでセッションを復旧し、{@link #recovered()}で取得できるようにします。
+     * チェックサムが一致しないレコード（書き込み途中で途切れた末尾）以降は、そのセグメントでは読み飛ばします。</p>
+     *
+     * @param directory セグメントファイルを置くディレクトリ
+     * @param maxSegmentBytes セグメントを切り替えるバイト数
+     * @return ジャーナル
+     * @throws IOException ディレクトリやセグメントを読み書きできない場合、またはセグメントの形式が不正な場合
+     * @throws NullPointerException directoryがnullの場合
+     * @throws IllegalArgumentException maxSegmentBytesがセグメントヘッダーより小さい場合
+     */
+    public static SessionJournal open(Path directory, long maxSegmentBytes) throws IOException {
+        Objects.requireNonNull(directory, "directory must not be null");
+        if (maxSegmentBytes <= SEGMENT_HEADER_SIZE) {
+            throw new IllegalArgumentException("maxSegmentBytes must be greater than " + SEGMENT_HEADER_SIZE);
+        }
+        Files.createDirectories(directory);
+
+        Recovery recovery = new Recovery();
+        long lastSegment = 0;
+        for (long number : segmentNumbers(directory)) {
+            recovery.read(segmentPath(directory, number), number);
+            lastSegment = number;
+        }
+        return new SessionJournal(directory, maxSegmentBytes, recovery.result(),
+                recovery.maxIncarnation + 1, lastSegment);
+    }
+
+    /**
+     * 起動時に復旧したセッションを返します。
+     *
+     * @return セッションIDから復旧したセッションへの変更不可のマップ
+     */
+    public Map<String, Entry> recovered() {
+        return recovered;
+    }
+
+    /**
+     * 新しいセッションの世代を払い出します。
+     *
+     * @return 既存のレコードのどの世代よりも大きい世代
+     */
+    public long nextIncarnation() {
+        synchronized (lock) {
+            return nextIncarnation++;
+        }
+    }
+
+    /**
+     * セッションの開始（またはスナップショット）を追記します。
+     *
+     * <p>同じ世代で入力ログがより長いSTARTは、それまでのレコードを置き換えます。</p>
+     *
+     * @param sessionId セッションID
+     * @param incarnation セッションの世代
+     * @param replay ゲーム開始からの入力ログ
+     * @return 永続化を待つためのシーケンス番号
+     * @throws IllegalStateException ジャーナルが閉じられている場合
+     * @throws UncheckedIOException 書き込みスレッドが失敗している場合
+     */
+    public long appendStart(String sessionId, long incarnation, Replay replay) {
+        byte[] bytes = replay.toBytes();
+        synchronized (lock) {
+            ByteBuffer body = beginRecord(START, incarnation, sessionId, bytes.length);
+            body.put(bytes);
+            return endRecord();
+        }
+    }
+
+    /**
+     * 入力ログの差分を追記します。
+     *
+     * @param sessionId セッションID
+     * @param incarnation セッションの世代
+     * @param offset 差分の入力ログ上の開始位置
+     * @param commandCount 差分を追記した後の操作数
+     * @param inputLog 入力ログの差分
+     * @return 永続化を待つためのシーケンス番号
+     * @throws IllegalStateException ジャーナルが閉じられている場合
+     * @throws UncheckedIOException 書き込みスレッドが失敗している場合
+     */
+    public long appendCommands(String sessionId, long incarnation, int offset, int commandCount, byte[] inputLog) {
+        synchronized (lock) {
+            ByteBuffer body = beginRecord(APPEND, incarnation, sessionId, 4 + 4 + inputLog.length);
+            body.putInt(offset);
+            body.putInt(commandCount);
+            body.put(inputLog);
+            return endRecord();
+        }
+    }
+
+    /**
+     * セッションの破棄を追記します。
+     *
+     * @param sessionId セッションID
+     * @param incarnation セッションの世代
+     * @return 永続化を待つためのシーケンス番号
+     * @throws IllegalStateException ジャーナルが閉じられている場合
+     * @throws UncheckedIOException 書き込みスレッドが失敗している場合
+     */
+    public long appendEnd(String sessionId, long incarnation) {
+        synchronized (lock) {
+            beginRecord(END, incarnation, sessionId, 0);
+            return endRecord();
+        }
+    }
+
+    /**
+     * 指定されたシーケンス番号までのレコードがfsyncされるまで待ちます。
+     *
+     * @param sequence 追記時に返されたシーケンス番号
+     * @throws UncheckedIOException 書き込みに失敗した場合
+     * @throws IllegalStateException 待機中に割り込まれた場合
+     */
+    public void awaitDurable(long sequence) {
+        synchronized (lock) {
+            while (durable < sequence) {
+                checkFailure();
+                awaitSignal();
+            }
+        }
+    }
+
+    /**
+     * 次のセグメントに切り替え、切り替えが完了するまで待ちます。
+     *
+     * <p>この呼び出しより前に追記されたレコードは以前のセグメントに、以降に追記されたレコードは
+     * 返されたセグメント以降に書き込まれます。同時に呼び出せるのは1スレッドのみです。</p>
+     *
+     * @return 新しいセグメントの番号
+     * @throws IllegalStateException ジャーナルが閉じられている場合
+     * @throws UncheckedIOException 書き込みスレッドが失敗している場合
+     */
+    public long roll() {
+        synchronized (lock) {
+            checkOpen();
+            rollAt = pending.position();
+            long request = ++rollsRequested;
+            lock.notifyAll();
+            while (rollsCompleted < request) {
+                checkFailure();
+                awaitSignal();
+            }
+            return rolledSegment;
+        }
+    }
+
+    /**
+     * 指定された番号より前のセグメントを削除します。
+     *
+     * @param number 残す最初のセグメントの番号
+     * @return 削除したセグメント数
+     * @throws IOException セグメントを削除できない場合
+     */
+    public int deleteSegmentsBefore(long number) throws IOException {
+        int deleted = 0;
+        for (long existing : segmentNumbers(directory)) {
+            if (existing < number && Files.deleteIfExists(segmentPath(directory, existing))) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * 追記したレコード数を返します。
+     *
+     * @return レコード数
+     */
+    public long records() {
+        synchronized (lock) {
+            return records;
+        }
+    }
+
+    /**
+     * fsyncの回数を返します（{@link #records()}との比がグループコミットでまとめたレコード数）。
+     *
+     * @return fsyncの回数
+     */
+    public long syncs() {
+        synchronized (lock) {
+            return syncs;
+        }
+    }
+
+    /**
+     * 未書き込みのレコードをすべて書き込んでから、ジャーナルを閉じます。
+     *
+     * @throws IOException 書き込みに失敗していた場合、またはセグメントを閉じられない場合
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            lock.notifyAll();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        segment.close();
+        synchronized (lock) {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * 書き込みスレッドの処理。追記されたレコードをまとめて書き込み、1回のfsyncで永続化します。
+     */
+    private void writeLoop() {
+        while (true) {
+            ByteBuffer batch;
+            long upTo;
+            int split;
+            synchronized (lock) {
+                while (pending.position() == 0 && rollAt < 0 && !closed) {
+                    awaitSignalUninterruptibly();
+                }
+                if (pending.position() == 0 && rollAt < 0) {
+                    return;
+                }
+                batch = pending;
+                pending = spare;
+                spare = batch;
+                upTo = appended;
+                split = rollAt;
+                rollAt = -1;
+            }
+            batch.flip();
+            try {
+                if (split >= 0) {
+                    write(batch.slice(0, split));
+                    segment.force(false);
+                    openSegment(segmentNumber + 1);
+                    batch.position(split);
+                } else if (segmentSize > SEGMENT_HEADER_SIZE && segmentSize + batch.remaining() > maxSegmentBytes) {
+                    openSegment(segmentNumber + 1);
+                }
+                write(batch);
+                segment.force(false);
+            } catch (IOException e) {
+                synchronized (lock) {
+                    failure = e;
+                    lock.notifyAll();
+                }
+                return;
+            }
+            batch.clear();
+            synchronized (lock) {
+                durable = upTo;
+                syncs++;
+                if (split >= 0) {
+                    rolledSegment = segmentNumber;
+                    rollsCompleted = rollsRequested;
+                }
+                lock.notifyAll();
+            }
+        }
+    }
+
+    private void write(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            segmentSize += segment.write(buffer);
+        }
+    }
+
+    /**
+     * 新しいセグメントを作成してヘッダーを書き込みます（現在のセグメントは閉じます）。
+     */
+    private void openSegment(long number) throws IOException {
+        if (segment != null) {
+            segment.close();
+        }
+        segment = FileChannel.open(segmentPath(directory, number),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        segmentNumber = number;
+        segmentSize = 0;
+        ByteBuffer header = ByteBuffer.allocate(SEGMENT_HEADER_SIZE);
+        header.putInt(MAGIC);
+        header.putInt(VERSION);
+        header.putLong(number);
+        header.flip();
+        write(header);
+    }
+
+    /**
+     * レコードのヘッダーと本体の共通部分を書き込み、内容を書き込むバッファを返します。
+     */
+    private ByteBuffer beginRecord(byte type, long incarnation, String sessionId, int payloadSize) {
+        checkOpen();
+        checkFailure();
+        byte[] id = encodeSessionId(sessionId);
+        int size = RECORD_HEADER_SIZE + MIN_BODY_SIZE + id.length + payloadSize;
+        if (pending.remaining() < size) {
+            int capacity = pending.capacity();
+            while (capacity - pending.position() < size) {
+                capacity *= 2;
+            }
+            pending = ByteBuffer.allocate(capacity).put(pending.flip());
+        }
+        recordStart = pending.position();
+        pending.putInt(MIN_BODY_SIZE + id.length + payloadSize);
+        pending.putInt(0);
+        pending.put(type);
+        pending.putLong(incarnation);
+        pending.putShort((short) id.length);
+        pending.put(id);
+        return pending;
+    }
+
+    /**
+     * 最後のレコードのチェックサムを書き込み、シーケンス番号を払い出します。
+     */
+    private long endRecord() {
+        int start = recordStart;
+        int end = pending.position();
+        crc.reset();
+        crc.update(pending.slice(start + RECORD_HEADER_SIZE, end - start - RECORD_HEADER_SIZE));
+        pending.putInt(start + 4, (int) crc.getValue());
+        records++;
+        lock.notifyAll();
+        return ++appended;
+    }
+
+    /**
+     * セッションIDをジャーナルに記録できることを確認します。
+     *
+     * <p>セッションを作成する前に呼び出すことで、記録できないセッションがストアに残ることを防ぎます。</p>
+     *
+     * @param sessionId セッションID
+     * @throws NullPointerException sessionIdがnullの場合
+     * @throws IllegalArgumentException sessionIdがUTF-8で{@value #MAX_SESSION_ID_BYTES}バイトを超える場合
+     */
+    public static void checkSessionId(String sessionId) {
+        encodeSessionId(sessionId);
+    }
+
+    /**
+     * セッションIDをUTF-8にエンコードします。
+     *
+     * @throws IllegalArgumentException {@value #MAX_SESSION_ID_BYTES}バイトを超える場合
+     */
+    private static byte[] encodeSessionId(String sessionId) {
+        byte[] id = sessionId.getBytes(StandardCharsets.UTF_8);
+        if (id.length > MAX_SESSION_ID_BYTES) {
+            throw new IllegalArgumentException(
+                    "sessionId exceeds " + MAX_SESSION_ID_BYTES + " UTF-8 bytes: " + id.length);
+        }
+        return id;
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Session journal is closed");
+        }
+    }
+
+    private void checkFailure() {
+        if (failure != null) {
+            throw new UncheckedIOException("Session journal write failed", failure);
+        }
+    }
+
+    private void awaitSignal() {
+        try {
+            lock.wait();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the session journal", e);
+        }
+    }
+
+    private void awaitSignalUninterruptibly() {
+        try {
+            lock.wait();
+        } catch (InterruptedException e) {
+            // 書き込みスレッドは閉じられるまで終了しない
+        }
+    }
+
+    private static Path segmentPath(Path directory, long number) {
+        return directory.resolve(String.format("journal-%016d.log", number));
+    }
+
+    /**
+     * ディレクトリ内のセグメント番号を昇順で返します。
+     */
+    private static List<Long> segmentNumbers(Path directory) throws IOException {
+        List<Long> numbers = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "journal-*.log")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    numbers.add(Long.parseLong(name.substring("journal-".length(), name.length() - ".log".length())));
+                } catch (NumberFormatException e) {
+                    // セグメントではないファイルは無視する
+                }
+            }
+        }
+        Collections.sort(numbers);
+        return numbers;
+    }
+
+    /**
+     * セグメントを読み込んでセッションごとの入力ログを組み立てる復旧処理。
+     */
+    private static final class Recovery {
+
+        private final Map<String, Recovering> sessions = new HashMap<>();
+        private final Set<Long> ended = new HashSet<>();
+        private final CRC32C crc = new CRC32C();
+        private long maxIncarnation;
+
+        void read(Path path, long number) throws IOException {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+            if (buffer.remaining() < SEGMENT_HEADER_SIZE) {
+                return;  // ヘッダーの書き込み前に終了したセグメント
+            }
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION || buffer.getLong() != number) {
+                throw new IOException("Not a session journal segment: " + path);
+            }
+            while (buffer.remaining() >= RECORD_HEADER_SIZE + MIN_BODY_SIZE) {
+                int length = buffer.getInt();
+                int checksum = buffer.getInt();
+                if (length < MIN_BODY_SIZE || length > buffer.remaining()) {
+                    return;
+                }
+                ByteBuffer body = buffer.slice(buffer.position(), length);
+                crc.reset();
+                crc.update(body.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    return;
+                }
+                buffer.position(buffer.position() + length);
+                try {
+                    apply(body);
+                } catch (BufferUnderflowException | IllegalArgumentException e) {
+                    return;
+                }
+            }
+        }
+
+        private void apply(ByteBuffer body) {
+            byte type = body.get();
+            long incarnation = body.getLong();
+            byte[] id = new byte[Short.toUnsignedInt(body.getShort())];
+            body.get(id);
+            String sessionId = new String(id, StandardCharsets.UTF_8);
+            maxIncarnation = Math.max(maxIncarnation, incarnation);
+            Recovering current = sessions.get(sessionId);
+
+            switch (type) {
+                case START -> {
+                    byte[] bytes = new byte[body.remaining()];
+                    body.get(bytes);
+                    Replay replay = Replay.fromBytes(bytes);
+                    if (ended.contains(incarnation) || (current != null && current.incarnation > incarnation)) {
+                        return;
+                    }
+                    if (current == null || current.incarnation < incarnation) {
+                        sessions.put(sessionId, new Recovering(incarnation, replay));
+                    } else if (replay.inputLog().length >= current.length) {
+                        current.replace(replay);
+                    }
+                }
+                case APPEND -> {
+                    int offset = body.getInt();
+                    int commandCount = body.getInt();
+                    if (current != null && current.incarnation == incarnation) {
+                        current.append(offset, commandCount, body);
+                    }
+                }
+                case END -> {
+                    ended.add(incarnation);
+                    if (current != null && current.incarnation == incarnation) {
+                        sessions.remove(sessionId);
+                    }
+                }
+                default -> throw new IllegalArgumentException("Unknown journal record type: " + type);
+            }
+        }
+
+        Map<String, Entry> result() {
+            Map<String, Entry> result = new HashMap<>();
+            sessions.forEach((sessionId, session) -> result.put(sessionId, session.toEntry()));
+            return Collections.unmodifiableMap(result);
+        }
+    }
+
+    /**
+     * 復旧中のセッションの入力ログ。
+     */
+    private static final class Recovering {
+
+        private final long incarnation;
+        private PieceGenerator generator;
+        private byte[] log;
+        private int length;
+        private int commandCount;
+
+        /**
+         * 途中のレコードが欠落しており、以降の差分を適用できない状態。
+         */
+        private boolean broken;
+
+        Recovering(long incarnation, Replay replay) {
+            this.incarnation = incarnation;
+            replace(replay);
+        }
+
+        void replace(Replay replay) {
+            generator = replay.initialGenerator();
+            log = replay.inputLog();
+            length = log.length;
+            commandCount = replay.commandCount();
+            broken = false;
+        }
+
+        void append(int offset, int countAfter, ByteBuffer bytes) {
+            int end = offset + bytes.remaining();
+            if (broken || end <= length) {
+                return;
+            }
+            if (offset > length) {
+                broken = true;
+                return;
+            }
+            if (end > log.length) {
+                log = Arrays.copyOf(log, Math.max(end, log.length * 2));
+            }
+            bytes.position(bytes.position() + (length - offset)).get(log, length, end - length);
+            length = end;
+            commandCount = countAfter;
+        }
+
+        Entry toEntry() {
+            return new Entry(incarnation, new Replay(generator, Arrays.copyOf(log, length), commandCount));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.tetris.application.session;
+
+import java.util.Objects;
+
+/**
+ * セッションが他のノードに移動したことを示す例外。
+ *
+ * <p>{@link SessionStore#handOff(String, String, java.util.function.Consumer)}で引き渡したセッションへの操作は、
+ * 移動前にメールボックスで待機していたものも含めてこの例外で完了します。呼び出し元は
+ * {@link #target()}のノードに操作を送り直します。新しいセッションを受け入れられない場合と同じく
+ * {@link IllegalStateException}のサブクラスです。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class SessionMovedException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String sessionId;
+    private final String target;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param sessionId 移動したセッションID
+     * @param target 移動先のノードID
+     * @throws NullPointerException いずれかの引数がnullの場合
+     */
+    public SessionMovedException(String sessionId, String target) {
+        super("Session " + Objects.requireNonNull(sessionId, "sessionId must not be null")
+                + " moved to " + Objects.requireNonNull(target, "target must not be null"));
+        this.sessionId = sessionId;
+        this.target = target;
+    }
+
+    /**
+     * 移動したセッションIDを返します。
+     *
+     * @return セッションID
+     */
+    public String sessionId() {
+        return sessionId;
+    }
+
+    /**
+     * 移動先のノードIDを返します。
+     *
+     * @return ノードID
+     */
+    public String target() {
+        return target;
+    }
+}
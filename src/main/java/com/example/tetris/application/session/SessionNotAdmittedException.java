@@ -0,0 +1,46 @@
+package com.example.tetris.application.session;
+
+import java.util.Objects;
+
+/**
+ * 新しいセッションが受け入れられなかった（待機ロビーで待機中、またはロビーが満員）ことを示す例外。
+ *
+ * <p>セッションストアの上限に達した場合と同じく{@link IllegalStateException}のサブクラスですが、
+ * セッションの作成前（ストアのロックの外）で送出され、待機順位を{@link #admission()}で取得できます。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class SessionNotAdmittedException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient SessionAdmission.Admission admission;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param admission 受け入れ判定の結果
+     * @throws NullPointerException admissionがnullの場合
+     */
+    public SessionNotAdmittedException(SessionAdmission.Admission admission) {
+        super(message(Objects.requireNonNull(admission, "admission must not be null")));
+        this.admission = admission;
+    }
+
+    /**
+     * 受け入れ判定の結果を返します。
+     *
+     * @return 受け入れ判定の結果
+     */
+    public SessionAdmission.Admission admission() {
+        return admission;
+    }
+
+    private static String message(SessionAdmission.Admission admission) {
+        return (admission.status() == SessionAdmission.Status.QUEUED)
+                ? "Waiting in lobby at position " + admission.lobbyPosition()
+                : "Lobby is full";
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.tetris.application.session;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * セッションのスナップショットを保持するメモリマップドファイル。
+ *
+ * <p>ファイルはヘッダーと固定長のレコードの列で構成され、レコード番号は
+ * {@link OffHeapSessionStore}のスロット番号に対応します。各レコードはセッションIDと
+ * スロットのバイト列をそのまま保持し、CRC32Cチェックサムで保護されます。
+ * 書き込み途中でプロセスが終了したレコードはチェックサムが一致せず、復元時に読み飛ばされます。</p>
+ *
+ * <h3>レイアウト（ネイティブバイトオーダー）：</h3>
+ * <ul>
+ *   <li>ヘッダー（{@value #HEADER_SIZE}バイト）: マジックナンバー、バージョン、レコード数、レコード長、スロット長</li>
+ *   <li>レコード（{@value #RECORD_SIZE}バイト）: チェックサム（int）、使用中フラグ、セッションIDの長さ（short）、
+ *       スロットのバイト列、UTF-8のセッションID（最大{@value #MAX_SESSION_ID_BYTES}バイト）</li>
+ * </ul>
+ *
+ * <h3>スレッドセーフ性：</h3>
+ * <p>このクラスはスレッドセーフではありません。書き込みは{@link OffHeapSessionStore#snapshotTo(SessionSnapshotFile)}
+ * を呼び出す単一のスレッドから行ってください。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class SessionSnapshotFile implements AutoCloseable {
+
+    private static final int MAGIC = 0x54534E50;  // "TSNP"
+    private static final int VERSION = 2;
+
+    /**
+     * ヘッダーのバイト数。
+     */
+    public static final int HEADER_SIZE = 64;
+
+    /**
+     * レコードに保持できるセッションIDの最大バイト数（UTF-8）。
+     *
+     * <p>ユースケースが受け付ける最大256文字のセッションIDが常に収まる長さです（1文字あたり3バイト以下）。</p>
+     */
+    public static final int MAX_SESSION_ID_BYTES = 256 * 3;
+
+    private static final int CHECKSUM = 0;
+    private static final int USED = 4;
+    private static final int ID_LENGTH = 6;
+    private static final int SLOT = 8;
+    private static final int SESSION_ID = SLOT + OffHeapSessionStore.SLOT_SIZE;
+
+    /**
+     * 1レコードのバイト数。
+     */
+    public static final int RECORD_SIZE = SESSION_ID + MAX_SESSION_ID_BYTES;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final CRC32C crc = new CRC32C();
+
+    /**
+     * セッションIDが長すぎて書き込めなかったセッション数（累計）。
+     */
+    private long skipped;
+
+    private SessionSnapshotFile(FileChannel channel, MappedByteBuffer buffer, int capacity) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = capacity;
+    }
+
+    /**
+     * スナップショットファイルを開きます（存在しない場合は空のファイルを作成）。
+     *
+     * @param path ファイルのパス
+     * @param capacity レコード数（{@link OffHeapSessionStore}の容量以上）
+     * @return スナップショットファイル
+     * @throws IOException ファイルを開けない場合、または既存のファイルの形式・レコード数が一致しない場合
+     * @throws IllegalArgumentException capacityが範囲外の場合
+     */
+    public static SessionSnapshotFile open(Path path, int capacity) throws IOException {
+        if (capacity < 1 || capacity > (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE) {
+            throw new IllegalArgumentException(
+                    "capacity must be between 1 and " + (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE);
+        }
+
+        boolean created = !Files.exists(path) || Files.size(path) == 0;
+        long size = HEADER_SIZE + (long) capacity * RECORD_SIZE;
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (!created && channel.size() != size) {
+                throw new IOException("incompatible snapshot file size: " + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.order(ByteOrder.nativeOrder());
+            if (created) {
+                buffer.putInt(0, MAGIC);
+                buffer.putInt(4, VERSION);
+                buffer.putInt(8, capacity);
+                buffer.putInt(12, RECORD_SIZE);
+                buffer.putInt(16, OffHeapSessionStore.SLOT_SIZE);
+                buffer.force();
+            } else if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || buffer.getInt(8) != capacity
+                    || buffer.getInt(12) != RECORD_SIZE || buffer.getInt(16) != OffHeapSessionStore.SLOT_SIZE) {
+                throw new IOException("incompatible snapshot file header: " + path);
+            }
+            return new SessionSnapshotFile(channel, buffer, capacity);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * レコード数を返します。
+     *
+     * @return レコード数
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * セッションIDが長すぎて書き込めなかったセッション数（ファイルを開いてからの累計）を返します。
+     *
+     * @return 書き込めなかったセッション数
+     */
+    public long skipped() {
+        return skipped;
+    }
+
+    /**
+     * ファイルへの変更をストレージに書き出します。
+     */
+    public void force() {
+        buffer.force();
+    }
+
+    /**
+     * 変更をストレージに書き出してファイルを閉じます。
+     *
+     * @throws IOException ファイルを閉じられない場合
+     */
+    @Override
+    public void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    /**
+     * レコードにセッションのスロットを書き込みます。
+     *
+     * @param record レコード番号
+     * @param sessionId セッションID（UTF-8で{@value #MAX_SESSION_ID_BYTES}バイト以下）
+     * @param slots スロットを保持するバッファ
+     * @param slotOffset バッファ内のスロットの位置
+     * @return 書き込んだ場合true、セッションIDが長すぎて書き込めない場合false
+     *         （レコードは未使用になり、{@link #skipped()}に計上される）
+     */
+    boolean write(int record, String sessionId, ByteBuffer slots, int slotOffset) {
+        byte[] id = sessionId.getBytes(StandardCharsets.UTF_8);
+        if (id.length > MAX_SESSION_ID_BYTES) {
+            clear(record);
+            skipped++;
+            return false;
+        }
+        int base = offset(record);
+        buffer.put(base + USED, (byte) 1);
+        buffer.putShort(base + ID_LENGTH, (short) id.length);
+        buffer.put(base + SLOT, slots, slotOffset, OffHeapSessionStore.SLOT_SIZE);
+        buffer.put(base + SESSION_ID, id);
+        buffer.putInt(base + CHECKSUM, checksum(base));
+        return true;
+    }
+
+    /**
+     * レコードを未使用にします。
+     *
+     * @param record レコード番号
+     */
+    void clear(int record) {
+        int base = offset(record);
+        buffer.put(base + USED, (byte) 0);
+        buffer.putShort(base + ID_LENGTH, (short) 0);
+        buffer.putInt(base + CHECKSUM, checksum(base));
+    }
+
+    /**
+     * 有効なレコードのセッションIDを返します。
+     *
+     * @param record レコード番号
+     * @return セッションID（未使用、またはチェックサムが一致しない場合はnull）
+     */
+    String sessionId(int record) {
+        int base = offset(record);
+        if (buffer.get(base + USED) == 0 || buffer.getInt(base + CHECKSUM) != checksum(base)) {
+            return null;
+        }
+        byte[] id = new byte[Short.toUnsignedInt(buffer.getShort(base + ID_LENGTH))];
+        buffer.get(base + SESSION_ID, id);
+        return new String(id, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * レコードのスロットのバイト列をバッファにコピーします。
+     *
+     * @param record レコード番号
+     * @param slots コピー先のバッファ
+     * @param slotOffset コピー先のスロットの位置
+     */
+    void readSlot(int record, ByteBuffer slots, int slotOffset) {
+        slots.put(slotOffset, buffer, offset(record) + SLOT, OffHeapSessionStore.SLOT_SIZE);
+    }
+
+    /**
+     * レコードの先頭位置を返します。
+     */
+    private int offset(int record) {
+        return HEADER_SIZE + java.util.Objects.checkIndex(record, capacity) * RECORD_SIZE;
+    }
+
+    /**
+     * レコードのチェックサム（チェックサム欄を除く全体のCRC32C）を求めます。
+     */
+    private int checksum(int base) {
+        crc.reset();
+        crc.update(buffer.slice(base + USED, RECORD_SIZE - USED));
+        return (int) crc.getValue();
+    }
+}
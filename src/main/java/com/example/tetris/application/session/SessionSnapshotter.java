@@ -0,0 +1,127 @@
+package com.example.tetris.application.session;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link OffHeapSessionStore}のセッションを定期的に{@link SessionSnapshotFile}へ書き込むクラス。
+ *
+ * <h3>ライフサイクル：</h3>
+ * <ol>
+ *   <li>生成時にスナップショットファイルを開き、保存されているセッションをストアに復元</li>
+ *   <li>指定された間隔で、前回以降に変更されたスロットのみをファイルに書き込み</li>
+ *   <li>{@link #close()}で最後のスナップショットを書き込んでファイルを閉じる</li>
+ * </ol>
+ *
+ * <p>プロセスが異常終了した場合も、最後に完了したスナップショットまでの状態から再開できます。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class SessionSnapshotter implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionSnapshotter.class);
+
+    private final OffHeapSessionStore store;
+    private final SessionSnapshotFile file;
+    private final ScheduledExecutorService scheduler;
+    private final int restored;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param store スナップショットの対象となるセッションストア（空であること）
+     * @param path スナップショットファイルのパス（レコード数はストアの容量）
+     * @param interval スナップショットの間隔
+     * @throws IOException スナップショットファイルを開けない場合、または既存のファイルのレコード数がストアの容量と一致しない場合
+     * @throws NullPointerException いずれかの引数がnullの場合
+     * @throws IllegalArgumentException intervalが正でない場合
+     * @throws IllegalStateException storeにセッションが存在する場合
+     */
+    public SessionSnapshotter(OffHeapSessionStore store, Path path, Duration interval)
+            throws IOException {
+        this.store = Objects.requireNonNull(store, "store must not be null");
+        Objects.requireNonNull(path, "path must not be null");
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("interval must be positive");
+        }
+
+        this.file = SessionSnapshotFile.open(path, store.capacity());
+        try {
+            long start = System.nanoTime();
+            this.restored = store.restoreFrom(file);
+            logger.info("Restored {} sessions from {} in {} ms",
+                    restored, path, (System.nanoTime() - start) / 1_000_000L);
+        } catch (RuntimeException e) {
+            file.close();
+            throw e;
+        }
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-snapshotter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::snapshot, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 起動時に復元したセッション数を返します。
+     *
+     * @return 復元したセッション数
+     */
+    public int restored() {
+        return restored;
+    }
+
+    /**
+     * 変更されたスロットをスナップショットファイルに書き込みます。
+     *
+     * <p>スケジュールされたタスクを継続させるため、例外はログに記録して抑止します。
+     * セッションIDが長すぎて書き込めなかったセッションは、再起動時に復元されないため警告を記録します。</p>
+     */
+    private void snapshot() {
+        try {
+            long skipped = file.skipped();
+            store.snapshotTo(file);
+            if (file.skipped() > skipped) {
+                logger.warn("Skipped {} sessions with ids over {} UTF-8 bytes in the snapshot ({} in total)",
+                        file.skipped() - skipped, SessionSnapshotFile.MAX_SESSION_ID_BYTES, file.skipped());
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Session snapshot failed", e);
+        }
+    }
+
+    /**
+     * 定期的なスナップショットを停止し、最後のスナップショットを書き込んでファイルを閉じます。
+     *
+     * @throws IOException ファイルを閉じられない場合
+     */
+    @Override
+    public void close() throws IOException {
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(10, TimeUnit.SECONDS)) {
+                logger.warn("Session snapshotter did not terminate in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            store.snapshotTo(file);
+        } finally {
+            file.close();
+        }
+    }
+}
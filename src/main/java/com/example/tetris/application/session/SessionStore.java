@@ -0,0 +1,163 @@
+package com.example.tetris.application.session;
+
+import com.example.tetris.domain.replay.Replay;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * セッションIDに紐づく{@link GameSession}を保持するストア。
+ *
+ * <p>ユースケースはセッションを直接保持せず、{@link #execute(String, Function)}に
+ * 操作を渡して実行します。ストアの実装によっては、セッションは操作の実行中にのみ
+ * GameSessionとして復元され、操作後に保存形式に書き戻されます。そのため、
+ * 渡された操作の外でGameSessionの参照を保持してはいけません。</p>
+ *
+ * <h3>セッションキー：</h3>
+ * <p>{@link #open(String)}はセッションごとに一意な{@code long}のセッションキーを返します。キーは休止・復元を
+ * またいで変わらず、破棄・引き渡したセッションのキーは再利用されません。
+ * {@link #execute(long, Function)}はキーでセッションを検索するため、操作ごとにセッションIDの文字列の
+ * ハッシュと比較を行いません（{@link SessionTokens}はトークンをキーに解決します）。</p>
+ *
+ * <h3>実装：</h3>
+ * <ul>
+ *   <li>{@link HeapSessionStore}: GameSessionをヒープ上のConcurrentHashMapで保持</li>
+ *   <li>{@link OffHeapSessionStore}: ゲーム状態をダイレクトメモリ上の固定長スロットで保持</li>
+ *   <li>{@link MailboxSessionStore}: 操作をセッションごとのメールボックスで直列に実行（委譲）</li>
+ *   <li>{@link AdmittingSessionStore}: 新しいセッションの作成前に受け入れを判定（委譲）</li>
+ * </ul>
+ *
+ * <h3>スレッドセーフ性：</h3>
+ * <p>実装はスレッドセーフであり、同一セッションへの操作は直列化されます。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public interface SessionStore {
+
+    /**
+     * セッションを開始し（開始済みの場合は何もしません）、セッションキーを返します。
+     *
+     * @param sessionId セッションID
+     * @return セッションキー
+     * @throws NullPointerException sessionIdがnullの場合
+     * @throws IllegalStateException 新しいセッションを開始する際にセッション数が上限に達している場合
+     */
+    long open(String sessionId);
+
+    /**
+     * 既存のセッションのセッションキーを返します（新しいセッションは開始しません）。
+     *
+     * @param sessionId セッションID
+     * @return セッションキー（セッションが存在しない場合は空）
+     * @throws NullPointerException sessionIdがnullの場合
+     */
+    OptionalLong keyOf(String sessionId);
+
+    /**
+     * セッションキーで指定されたセッションに対して操作を実行します（新しいセッションは開始しません）。
+     *
+     * @param <R> 操作の戻り値の型
+     * @param key {@link #open(String)}が返したセッションキー
+     * @param command GameSessionに対する操作
+     * @return 操作の戻り値
+     * @throws NullPointerException commandがnullの場合
+     * @throws SessionExpiredException セッションが破棄・引き渡し済みの場合
+     */
+    <R> R execute(long key, Function<GameSession, R> command);
+
+    /**
+     * セッションに対して操作を実行します（存在しない場合は新しいセッションを開始）。
+     *
+     * <p>{@link #open(String)}で得たキーで{@link #execute(long, Function)}を呼び出します。
+     * その間にセッションが破棄された場合は、開き直して実行します。</p>
+     *
+     * @param <R> 操作の戻り値の型
+     * @param sessionId セッションID
+     * @param command GameSessionに対する操作
+     * @return 操作の戻り値
+     * @throws NullPointerException sessionIdまたはcommandがnullの場合
+     * @throws IllegalStateException 新しいセッションを開始する際にセッション数が上限に達している場合
+     */
+    default <R> R execute(String sessionId, Function<GameSession, R> command) {
+        Objects.requireNonNull(command, "command must not be null");
+        while (true) {
+            long key = open(sessionId);
+            try {
+                return execute(key, command);
+            } catch (SessionExpiredException e) {
+                // 開いてから実行するまでの間に破棄されたセッション
+            }
+        }
+    }
+
+    /**
+     * セッションが存在するかを判定します。
+     *
+     * @param sessionId セッションID
+     * @return セッションが存在する場合true
+     * @throws NullPointerException sessionIdがnullの場合
+     */
+    boolean contains(String sessionId);
+
+    /**
+     * セッションの開始から現在までの入力ログを取得します。
+     *
+     * @param sessionId セッションID
+     * @return Replay（セッションが存在しない場合は空）
+     * @throws NullPointerException sessionIdがnullの場合
+     */
+    Optional<Replay> findReplay(String sessionId);
+
+    /**
+     * セッションを破棄します（存在しない場合は何もしません）。
+     *
+     * @param sessionId セッションID
+     * @throws NullPointerException sessionIdがnullの場合
+     */
+    void remove(String sessionId);
+
+    /**
+     * 保持しているセッション数を返します。
+     *
+     * @return セッション数
+     */
+    int size();
+
+    /**
+     * セッションを止めて入力ログを引き渡し、引き渡しに成功した場合はこのストアから削除します。
+     *
+     * <p>入力ログはセッションのロックの中で複製し、{@code transfer}はロックを保持せずに実行します
+     * （移動先への送信は時間がかかるため）。{@code transfer}の実行中に同じセッションへの操作を実行させない
+     * のは呼び出し元の責任で、{@link MailboxSessionStore}はセッションのメールボックスで引き渡しを実行して
+     * セッションを止めます。{@code transfer}が例外を送出した
+     * 場合、セッションはそのまま残り、例外が呼び出し元に送出されます。引き渡し後に届いた操作を
+     * 移動先に送り直すのは{@link MailboxSessionStore}です（他の実装では新しいセッションとして開始されます）。</p>
+     *
+     * @param sessionId セッションID
+     * @param target 移動先のノードID（以降の操作の{@link SessionMovedException}に含める）
+     * @param transfer 入力ログを移動先に送る処理
+     * @return 引き渡した場合true（セッションが存在しない場合はfalse）
+     * @throws NullPointerException いずれかの引数がnullの場合
+     * @throws IllegalStateException セッションは存在するが入力ログがない場合（セッションはそのまま残る）
+     */
+    boolean handOff(String sessionId, String target, Consumer<Replay> transfer);
+
+    /**
+     * 他のノードから引き渡された入力ログを再生して、セッションを受け入れます。
+     *
+     * <p>同じ入力ログのセッションが既に存在する場合は何もしません（冪等）。移動元は応答が届かなかった
+     * 引き渡しを送り直せます。</p>
+     *
+     * @param sessionId セッションID
+     * @param replay ゲーム開始からの入力ログ
+     * @throws NullPointerException いずれかの引数がnullの場合
+     * @throws IllegalStateException 異なる入力ログのセッションが既に存在する場合、空きがない場合、
+     *                               または入力ログが破損している場合
+     */
+    void adopt(String sessionId, Replay replay);
+}
@@ -0,0 +1,115 @@
+package com.example.tetris.application.session;
+
+/**
+ * サーバーが発行するセッショントークン。
+ *
+ * <p>トークンは1つのlong値で、下位{@value #SLOT_BITS}ビットが{@link SessionTokens}の
+ * スロット番号、上位{@value #CHECK_BITS}ビットが発行時に生成した乱数の検査値です。
+ * 検査値はスロットの再利用ごとに変わるため、スロット番号を推測しても有効なトークンは得られません。</p>
+ *
+ * <p>文字列表現は16桁の16進数（小文字）で、{@link #parse(CharSequence)}は
+ * 固定長の文字列を走査するだけで復元します（ハッシュ計算を伴いません）。</p>
+ *
+ * @param value トークンの値
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public record SessionToken(long value) {
+
+    /**
+     * スロット番号のビット数。
+     */
+    public static final int SLOT_BITS = 24;
+
+    /**
+     * 検査値のビット数。
+     */
+    public static final int CHECK_BITS = Long.SIZE - SLOT_BITS;
+
+    /**
+     * スロット番号の最大数。
+     */
+    public static final int MAX_SLOTS = 1 << SLOT_BITS;
+
+    /**
+     * 文字列表現の長さ。
+     */
+    public static final int TEXT_LENGTH = Long.SIZE / 4;
+
+    private static final long SLOT_MASK = MAX_SLOTS - 1;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * スロット番号と検査値からトークンを生成します。
+     *
+     * @param slot スロット番号（0以上{@value #MAX_SLOTS}未満）
+     * @param check 検査値（下位{@value #CHECK_BITS}ビットのみ使用）
+     * @return トークン
+     * @throws IllegalArgumentException slotが範囲外の場合
+     */
+    public static SessionToken of(int slot, long check) {
+        if (slot < 0 || slot >= MAX_SLOTS) {
+            throw new IllegalArgumentException("slot out of range: " + slot);
+        }
+        return new SessionToken((check << SLOT_BITS) | slot);
+    }
+
+    /**
+     * トークンの文字列表現を解析します。
+     *
+     * @param text 16桁の16進数
+     * @return トークン
+     * @throws NullPointerException textがnullの場合
+     * @throws IllegalArgumentException textが16桁の16進数でない場合
+     */
+    public static SessionToken parse(CharSequence text) {
+        if (text == null) {
+            throw new NullPointerException("token must not be null");
+        }
+        if (text.length() != TEXT_LENGTH) {
+            throw new IllegalArgumentException("token must be " + TEXT_LENGTH + " hex digits");
+        }
+        long value = 0;
+        for (int i = 0; i < TEXT_LENGTH; i++) {
+            int digit = Character.digit(text.charAt(i), 16);
+            if (digit < 0) {
+                throw new IllegalArgumentException("token must be " + TEXT_LENGTH + " hex digits");
+            }
+            value = (value << 4) | digit;
+        }
+        return new SessionToken(value);
+    }
+
+    /**
+     * スロット番号を返します。
+     *
+     * @return スロット番号
+     */
+    public int slot() {
+        return (int) (value & SLOT_MASK);
+    }
+
+    /**
+     * 検査値を返します。
+     *
+     * @return 検査値
+     */
+    public long check() {
+        return value >>> SLOT_BITS;
+    }
+
+    /**
+     * 16桁の16進数（小文字）の文字列表現を返します。
+     *
+     * @return 文字列表現
+     */
+    @Override
+    public String toString() {
+        char[] text = new char[TEXT_LENGTH];
+        for (int i = TEXT_LENGTH - 1, shift = 0; i >= 0; i--, shift += 4) {
+            text[i] = HEX[(int) (value >>> shift) & 0xF];
+        }
+        return new String(text);
+    }
+}
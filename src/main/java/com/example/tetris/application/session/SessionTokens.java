@@ -0,0 +1,189 @@
+package com.example.tetris.application.session;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * セッションに対して{@link SessionToken}を発行し、トークンからセッションキーを解決するレジストリ。
+ *
+ * <p>セッションIDの検証（空文字列・長さ）は{@link #issue(String, long)}（ハンドシェイク時）に1回だけ行い、
+ * 操作ごとの{@link #resolve(SessionToken)}はトークンの値をキーとする{@link ConcurrentLongMap}の
+ * 検索のみで{@link Binding}を返します（キーのボックス化やノードの割り当てを伴いません）。
+ * 操作は束縛された{@link SessionStore}のセッションキーで実行するため、セッションIDの文字列で
+ * ストアの索引を検索し直すことはありません。</p>
+ *
+ * <h3>スレッドセーフ性：</h3>
+ * <p>発行と失効は同期されます。解決はロックを取得しません。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class SessionTokens {
+
+    /**
+     * セッションIDの最大長（文字数）。
+     */
+    public static final int MAX_SESSION_ID_LENGTH = 256;
+
+    /**
+     * 検査値の乱数源。
+     */
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * 同時に発行できるトークンの最大数。
+     */
+    private final int capacity;
+
+    /**
+     * 有効なトークンの値から束縛への索引。
+     */
+    private final ConcurrentLongMap<Binding> bindings = new ConcurrentLongMap<>();
+
+    /**
+     * セッションIDから発行済みのトークンへの索引（発行・失効時のみ使用、thisで同期）。
+     */
+    private final Map<String, SessionToken> index = new HashMap<>();
+
+    /**
+     * 再利用できる空きスロットのスタック（thisで同期）。
+     */
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+
+    /**
+     * まだ使用していない最小のスロット番号（thisで同期）。
+     */
+    private int nextSlot;
+
+    /**
+     * コンストラクタ。
+     *
+     * <p>スロットは発行時に必要な分だけ割り当てるため、capacityに比例したメモリは確保しません。</p>
+     *
+     * @param capacity 同時に発行できるトークンの最大数（1以上{@value SessionToken#MAX_SLOTS}以下）
+     * @throws IllegalArgumentException capacityが範囲外の場合
+     */
+    public SessionTokens(int capacity) {
+        if (capacity < 1 || capacity > SessionToken.MAX_SLOTS) {
+            throw new IllegalArgumentException("capacity must be between 1 and " + SessionToken.MAX_SLOTS);
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * トークンが束縛するセッション。
+     *
+     * @param sessionId セッションID
+     * @param key 発行時の{@link SessionStore}のセッションキー
+     */
+    public record Binding(String sessionId, long key) {
+    }
+
+    /**
+     * セッションIDを検証し、セッションキーに束縛したトークンを発行します。
+     *
+     * <p>同じセッションキーに発行済みの場合は同じトークンを返します。セッションが作り直されて
+     * セッションキーが変わった場合は、以前のトークンを失効させて新しいトークンを発行します。</p>
+     *
+     * @param sessionId セッションID（非null、非空、最大{@value #MAX_SESSION_ID_LENGTH}文字）
+     * @param key {@link SessionStore#open(String)}が返したセッションキー
+     * @return トークン
+     * @throws NullPointerException sessionIdがnullの場合
+     * @throws IllegalArgumentException sessionIdが空文字列、または最大長を超える場合
+     * @throws IllegalStateException 発行済みのトークン数が上限に達している場合
+     */
+    public synchronized SessionToken issue(String sessionId, long key) {
+        validateSessionId(sessionId);
+        SessionToken existing = index.get(sessionId);
+        if (existing != null) {
+            if (bindings.get(existing.value()).key() == key) {
+                return existing;
+            }
+            revoke(sessionId);
+        }
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else if (nextSlot < capacity) {
+            slot = nextSlot++;
+        } else {
+            throw new IllegalStateException("Maximum session limit reached: " + capacity);
+        }
+        SessionToken token;
+        do {
+            token = SessionToken.of(slot, random.nextLong());
+        } while (token.check() == 0);  // 検査値0は推測しやすいため使用しない
+        bindings.put(token.value(), new Binding(sessionId, key));
+        index.put(sessionId, token);
+        return token;
+    }
+
+    /**
+     * トークンが束縛するセッションを返します。
+     *
+     * @param token トークン
+     * @return 発行時に束縛したセッションIDとセッションキー
+     * @throws NullPointerException tokenがnullの場合
+     * @throws IllegalArgumentException トークンが発行されていない、または失効している場合
+     */
+    public Binding resolve(SessionToken token) {
+        Objects.requireNonNull(token, "token must not be null");
+        Binding binding = bindings.get(token.value());
+        if (binding == null) {
+            throw new IllegalArgumentException("Unknown session token");
+        }
+        return binding;
+    }
+
+    /**
+     * セッションIDに発行したトークンを失効させます（発行されていない場合は何もしません）。
+     *
+     * @param sessionId セッションID
+     * @throws NullPointerException sessionIdがnullの場合
+     */
+    public synchronized void revoke(String sessionId) {
+        Objects.requireNonNull(sessionId, "sessionId must not be null");
+        SessionToken token = index.remove(sessionId);
+        if (token != null) {
+            bindings.remove(token.value());
+            if (freeCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+            }
+            freeSlots[freeCount++] = token.slot();
+        }
+    }
+
+    /**
+     * 発行済みのトークン数を返します。
+     *
+     * @return 発行済みのトークン数
+     */
+    public synchronized int size() {
+        return index.size();
+    }
+
+    /**
+     * セッションIDのバリデーションを行います。
+     *
+     * @param sessionId 検証するセッションID
+     * @throws NullPointerException sessionIdがnullの場合
+     * @throws IllegalArgumentException sessionIdが空文字列、または最大長を超える場合
+     */
+    private static void validateSessionId(String sessionId) {
+        if (sessionId == null) {
+            throw new NullPointerException("sessionId must not be null");
+        }
+        if (sessionId.trim().isEmpty()) {
+            throw new IllegalArgumentException("sessionId must not be empty");
+        }
+        if (sessionId.length() > MAX_SESSION_ID_LENGTH) {
+            throw new IllegalArgumentException(
+                    "sessionId exceeds maximum length (" + MAX_SESSION_ID_LENGTH + "): " + sessionId.length());
+        }
+    }
+}
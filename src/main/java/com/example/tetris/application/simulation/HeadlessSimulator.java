@@ -0,0 +1,301 @@
+package com.example.tetris.application.simulation;
+
+import com.example.tetris.domain.GameCommand;
+import com.example.tetris.domain.GameState;
+import com.example.tetris.domain.GameStatus;
+import com.example.tetris.domain.PieceGenerator;
+import com.example.tetris.domain.ai.PlacementPlanner;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.LongFunction;
+
+/**
+ * ボットにプレイさせたゲームを大量に並列実行するヘッドレスシミュレーター。
+ *
+ * <p>HeadlessSimulatorは、Spring・永続化層を介さずにドメインモデル（{@link GameState}）を
+ * 直接操作し、ゲームバランス（レベル・落下間隔とゲーム長の関係）やティック処理性能の
+ * 測定に使用します。</p>
+ *
+ * <h3>実行モデル：</h3>
+ * <ul>
+ *   <li>ゲーム番号の範囲を{@link ForkJoinPool}で再帰的に分割し、各タスクが
+ *       {@link SimulationConfig#gamesPerTask()}件ずつ逐次実行</li>
+ *   <li>各ゲームのシードは基準シードとゲーム番号から導出され、並列度に依存せず再現可能</li>
+ *   <li>テトリミノ出現時にボットの操作列を適用し、固定されるまで自動落下ティックを進める</li>
+ *   <li>ゲームごとの統計情報はタスク単位でまとめてCSVに追記（行の順序は不定）</li>
+ * </ul>
+ *
+ * <h3>コマンドライン実行：</h3>
+ * <pre>
+ * ./gradlew simulate -PsimArgs="games seed output.csv [parallelism] [random|search]"
+ * </pre>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class HeadlessSimulator {
+
+    /**
+     * ゲーム番号からシードを導出する際の増分（黄金比定数）。
+     */
+    private static final long SEED_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     * ボットのシードをピースジェネレーターのシードと無相関にするための定数。
+     */
+    private static final long BOT_SEED_SALT = 0xD1B54A32D192ED03L;
+
+    /**
+     * ゲームごとのボットを生成するファクトリー（引数はボット用シード）。
+     */
+    private final LongFunction<SimulationBot> botFactory;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param botFactory ゲームごとのボットを生成するファクトリー
+     * @throws NullPointerException botFactoryがnullの場合
+     */
+    public HeadlessSimulator(LongFunction<SimulationBot> botFactory) {
+        this.botFactory = Objects.requireNonNull(botFactory, "botFactory must not be null");
+    }
+
+    /**
+     * シミュレーションを実行し、ゲームごとの統計情報をCSVとして書き出します。
+     *
+     * <p>ヘッダー行を書き出した後、完了したタスクから順に行を追記します。
+     * 書き出し先は呼び出し元が閉じる必要があります。</p>
+     *
+     * @param config 実行設定
+     * @param csv CSVの書き出し先（nullの場合は書き出さない）
+     * @return 集計結果
+     * @throws NullPointerException configがnullの場合
+     * @throws UncheckedIOException CSVの書き出しに失敗した場合
+     */
+    public SimulationReport run(SimulationConfig config, Writer csv) {
+        Objects.requireNonNull(config, "config must not be null");
+        CsvSink sink = new CsvSink(csv);
+        sink.write(SimulatedGame.CSV_HEADER + "\n");
+
+        ForkJoinPool pool = new ForkJoinPool(config.parallelism());
+        try {
+            long startNanos = System.nanoTime();
+            Totals totals = pool.invoke(new SimulationTask(config, sink, 0, config.games()));
+            long elapsedNanos = System.nanoTime() - startNanos;
+            sink.flush();
+
+            return new SimulationReport(
+                    config.games(),
+                    totals.gameOvers,
+                    totals.pieces,
+                    totals.ticks,
+                    totals.simulatedMillis,
+                    elapsedNanos,
+                    config.parallelism()
+            );
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * 1ゲームをシミュレーションします。
+     *
+     * @param config 実行設定
+     * @param gameIndex ゲーム番号
+     * @return ゲームの統計情報
+     */
+    public SimulatedGame simulateGame(SimulationConfig config, long gameIndex) {
+        long seed = config.seed() + gameIndex * SEED_GAMMA;
+        SimulationBot bot = botFactory.apply(seed ^ BOT_SEED_SALT);
+        GameState state = GameState.initialize(seed);
+
+        int pieces = 0;
+        long ticks = 0;
+        long simulatedMillis = 0;
+        while (state.status() == GameStatus.PLAYING && pieces < config.maxPiecesPerGame()) {
+            PieceGenerator generator = state.pieceGenerator();
+
+            // 1. 出現直後にボットの操作を適用
+            for (GameCommand command : bot.plan(state)) {
+                state = command.apply(state);
+            }
+
+            // 2. 固定されるまで自動落下（ボットがハードドロップした場合は固定済み）
+            //    落下距離+1ティック目で固定されるため、着地までのティックをまとめて適用
+            if (state.pieceGenerator() == generator) {
+                int lockTicks = state.field().dropDistance(state.currentTetromino()) + 1;
+                simulatedMillis += (long) state.getDropInterval() * lockTicks;
+                state = state.processAutoDropTicks(lockTicks);
+                ticks += lockTicks;
+            }
+            pieces++;
+        }
+
+        return new SimulatedGame(
+                gameIndex,
+                seed,
+                state.score(),
+                state.level(),
+                state.totalLinesCleared(),
+                pieces,
+                ticks,
+                simulatedMillis,
+                state.status() == GameStatus.GAME_OVER
+        );
+    }
+
+    /**
+     * コマンドラインからシミュレーションを実行します。
+     *
+     * <p>引数: ゲーム数 シード 出力CSVパス [並列度] [ボット（random: ランダム配置、search: 配置探索AI）]</p>
+     *
+     * @param args コマンドライン引数
+     * @throws IOException CSVの書き出しに失敗した場合
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("usage: HeadlessSimulator <games> <seed> <output.csv> [parallelism] [random|search]");
+            System.exit(2);
+        }
+        long games = Long.parseLong(args[0]);
+        long seed = Long.parseLong(args[1]);
+        Path output = Path.of(args[2]);
+        int parallelism = args.length > 3
+                ? Integer.parseInt(args[3])
+                : Runtime.getRuntime().availableProcessors();
+        LongFunction<SimulationBot> botFactory = (args.length > 4 && args[4].equals("search"))
+                ? botSeed -> new PlacementSearchBot(new PlacementPlanner())
+                : RandomSimulationBot::new;
+
+        SimulationConfig config = new SimulationConfig(
+                games,
+                seed,
+                SimulationConfig.DEFAULT_MAX_PIECES_PER_GAME,
+                parallelism,
+                SimulationConfig.DEFAULT_GAMES_PER_TASK
+        );
+        try (BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            SimulationReport report = new HeadlessSimulator(botFactory).run(config, writer);
+            System.out.println(report);
+        }
+    }
+
+    /**
+     * ゲーム番号の範囲を分割して実行するfork/joinタスク。
+     */
+    private final class SimulationTask extends RecursiveTask<Totals> {
+
+        private final SimulationConfig config;
+        private final CsvSink sink;
+        private final long from;
+        private final long to;
+
+        SimulationTask(SimulationConfig config, CsvSink sink, long from, long to) {
+            this.config = config;
+            this.sink = sink;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Totals compute() {
+            if (to - from <= config.gamesPerTask()) {
+                return simulateRange();
+            }
+            long mid = (from + to) >>> 1;
+            SimulationTask left = new SimulationTask(config, sink, from, mid);
+            left.fork();
+            Totals right = new SimulationTask(config, sink, mid, to).compute();
+            return right.add(left.join());
+        }
+
+        private Totals simulateRange() {
+            Totals totals = new Totals();
+            StringBuilder rows = sink.enabled() ? new StringBuilder((int) (to - from) * 64) : null;
+            for (long gameIndex = from; gameIndex < to; gameIndex++) {
+                SimulatedGame game = simulateGame(config, gameIndex);
+                totals.add(game);
+                if (rows != null) {
+                    game.appendCsvRow(rows);
+                }
+            }
+            if (rows != null) {
+                sink.write(rows);
+            }
+            return totals;
+        }
+    }
+
+    /**
+     * タスクごとの集計値（タスク内でのみ更新されるため同期不要）。
+     */
+    private static final class Totals {
+        long gameOvers;
+        long pieces;
+        long ticks;
+        long simulatedMillis;
+
+        void add(SimulatedGame game) {
+            gameOvers += game.gameOver() ? 1 : 0;
+            pieces += game.pieces();
+            ticks += game.ticks();
+            simulatedMillis += game.simulatedMillis();
+        }
+
+        Totals add(Totals other) {
+            gameOvers += other.gameOvers;
+            pieces += other.pieces;
+            ticks += other.ticks;
+            simulatedMillis += other.simulatedMillis;
+            return this;
+        }
+    }
+
+    /**
+     * 複数タスクからの追記を直列化するCSV書き出し先。
+     */
+    private static final class CsvSink {
+        private final Writer writer;
+
+        CsvSink(Writer writer) {
+            this.writer = writer;
+        }
+
+        boolean enabled() {
+            return writer != null;
+        }
+
+        synchronized void write(CharSequence text) {
+            if (writer == null) {
+                return;
+            }
+            try {
+                writer.append(text);
+            } catch (IOException e) {
+                throw new UncheckedIOException("failed to write simulation CSV", e);
+            }
+        }
+
+        synchronized void flush() {
+            if (writer == null) {
+                return;
+            }
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("failed to flush simulation CSV", e);
+            }
+        }
+    }
+}
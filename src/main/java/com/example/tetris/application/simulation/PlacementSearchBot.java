@@ -0,0 +1,39 @@
+package com.example.tetris.application.simulation;
+
+import com.example.tetris.domain.GameCommand;
+import com.example.tetris.domain.GameState;
+import com.example.tetris.domain.ai.Placement;
+import com.example.tetris.domain.ai.PlacementPlanner;
+
+import java.util.List;
+
+/**
+ * {@link PlacementPlanner}で配置を決定するボット。
+ *
+ * <p>配置が存在しない場合（ゲームオーバー直前）は空の操作列を返し、
+ * テトリミノは自動落下で固定されます。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class PlacementSearchBot implements SimulationBot {
+
+    private final PlacementPlanner planner;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param planner 配置を決定するプランナー（このボット専用のインスタンス）
+     */
+    public PlacementSearchBot(PlacementPlanner planner) {
+        this.planner = planner;
+    }
+
+    @Override
+    public List<GameCommand> plan(GameState state) {
+        return planner.plan(state)
+                .map(Placement::commands)
+                .orElse(List.of());
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.tetris.application.simulation;
+
+import com.example.tetris.domain.GameCommand;
+import com.example.tetris.domain.GameField;
+import com.example.tetris.domain.GameState;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * ランダムな回転数と横移動量でテトリミノを配置するボット。
+ *
+ * <p>シードが同じであれば常に同じ操作列を返すため、シミュレーション結果を再現できます。
+ * 盤面を評価しないため、ゲームは短時間で終了します。ゲーム長やティック処理性能の
+ * 基準値を測定する用途を想定しています。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class RandomSimulationBot implements SimulationBot {
+
+    /**
+     * 乱数生成器。
+     */
+    private final SplittableRandom random;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param seed 乱数シード
+     */
+    public RandomSimulationBot(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public List<GameCommand> plan(GameState state) {
+        int rotations = random.nextInt(4);
+        int shift = random.nextInt(-GameField.WIDTH / 2, GameField.WIDTH / 2 + 1);
+
+        List<GameCommand> commands = new ArrayList<>(rotations + Math.abs(shift));
+        for (int i = 0; i < rotations; i++) {
+            commands.add(GameCommand.ROTATE);
+        }
+        GameCommand move = shift < 0 ? GameCommand.MOVE_LEFT : GameCommand.MOVE_RIGHT;
+        for (int i = 0; i < Math.abs(shift); i++) {
+            commands.add(move);
+        }
+        return commands;
+    }
+}
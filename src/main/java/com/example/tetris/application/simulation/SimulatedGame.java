@@ -0,0 +1,53 @@
+package com.example.tetris.application.simulation;
+
+/**
+ * シミュレーションした1ゲームの統計情報を表すRecord。
+ *
+ * @param gameIndex ゲーム番号（0始まり）
+ * @param seed このゲームのシード（{@link com.example.tetris.domain.GameState#initialize(long)}で再現可能）
+ * @param score 最終スコア
+ * @param level 最終レベル
+ * @param linesCleared 累計クリア済みライン数
+ * @param pieces 固定されたテトリミノ数
+ * @param ticks 自動落下ティック数
+ * @param simulatedMillis ゲーム内経過時間（各ティックの落下間隔の合計、ミリ秒）
+ * @param gameOver ゲームオーバーで終了した場合true（最大テトリミノ数で打ち切った場合false）
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public record SimulatedGame(
+        long gameIndex,
+        long seed,
+        int score,
+        int level,
+        int linesCleared,
+        int pieces,
+        long ticks,
+        long simulatedMillis,
+        boolean gameOver
+) {
+    /**
+     * CSV出力のヘッダー行。
+     */
+    public static final String CSV_HEADER =
+            "game_index,seed,score,level,lines_cleared,pieces,ticks,simulated_millis,game_over";
+
+    /**
+     * CSVの1行を追加します（改行を含む）。
+     *
+     * @param out 追加先
+     */
+    public void appendCsvRow(StringBuilder out) {
+        out.append(gameIndex).append(',')
+                .append(seed).append(',')
+                .append(score).append(',')
+                .append(level).append(',')
+                .append(linesCleared).append(',')
+                .append(pieces).append(',')
+                .append(ticks).append(',')
+                .append(simulatedMillis).append(',')
+                .append(gameOver).append('\n');
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.tetris.application.simulation;
+
+import com.example.tetris.domain.GameCommand;
+import com.example.tetris.domain.GameState;
+
+import java.util.List;
+
+/**
+ * ヘッドレスシミュレーションでゲームをプレイするボットのインターフェース。
+ *
+ * <p>ボットは新しいテトリミノが出現するたびに呼び出され、そのテトリミノに対する
+ * 操作列を返します。返された操作を適用した後、テトリミノは固定されるまで
+ * 自動落下（{@link GameCommand#AUTO_DROP}）で落下します。</p>
+ *
+ * <p>ボットのインスタンスは1ゲームにつき1つ生成され、複数スレッドから同時に
+ * 呼び出されることはありません。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+@FunctionalInterface
+public interface SimulationBot {
+
+    /**
+     * 現在のテトリミノに対する操作列を決定します。
+     *
+     * @param state 新しいテトリミノが出現した時点のGameState
+     * @return 適用する操作列（空の場合は自動落下のみ）
+     */
+    List<GameCommand> plan(GameState state);
+}
@@ -0,0 +1,69 @@
+package com.example.tetris.application.simulation;
+
+/**
+ * ヘッドレスシミュレーションの実行設定を表すRecord。
+ *
+ * @param games シミュレーションするゲーム数（1以上）
+ * @param seed 全ゲームのシードを導出する基準シード
+ * @param maxPiecesPerGame 1ゲームあたりの最大テトリミノ数（到達したゲームは打ち切り、1以上）
+ * @param parallelism 並列度（1以上）
+ * @param gamesPerTask 1タスクで逐次実行するゲーム数（fork/joinの分割閾値、1以上）
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public record SimulationConfig(
+        long games,
+        long seed,
+        int maxPiecesPerGame,
+        int parallelism,
+        int gamesPerTask
+) {
+    /**
+     * 1ゲームあたりの最大テトリミノ数のデフォルト値。
+     */
+    public static final int DEFAULT_MAX_PIECES_PER_GAME = 100_000;
+
+    /**
+     * 1タスクで逐次実行するゲーム数のデフォルト値。
+     */
+    public static final int DEFAULT_GAMES_PER_TASK = 64;
+
+    /**
+     * コンパクトコンストラクタ。
+     *
+     * @throws IllegalArgumentException いずれかの値が1未満の場合
+     */
+    public SimulationConfig {
+        if (games < 1) {
+            throw new IllegalArgumentException("games must be at least 1");
+        }
+        if (maxPiecesPerGame < 1) {
+            throw new IllegalArgumentException("maxPiecesPerGame must be at least 1");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        if (gamesPerTask < 1) {
+            throw new IllegalArgumentException("gamesPerTask must be at least 1");
+        }
+    }
+
+    /**
+     * 利用可能なCPUコア数を並列度とするデフォルト設定を生成します。
+     *
+     * @param games シミュレーションするゲーム数
+     * @param seed 基準シード
+     * @return SimulationConfig
+     */
+    public static SimulationConfig of(long games, long seed) {
+        return new SimulationConfig(
+                games,
+                seed,
+                DEFAULT_MAX_PIECES_PER_GAME,
+                Runtime.getRuntime().availableProcessors(),
+                DEFAULT_GAMES_PER_TASK
+        );
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.tetris.application.simulation;
+
+/**
+ * ヘッドレスシミュレーション全体の集計結果を表すRecord。
+ *
+ * @param games シミュレーションしたゲーム数
+ * @param gameOvers ゲームオーバーで終了したゲーム数
+ * @param totalPieces 固定されたテトリミノの総数
+ * @param totalTicks 自動落下ティックの総数
+ * @param totalSimulatedMillis ゲーム内経過時間の総和（ミリ秒）
+ * @param elapsedNanos 実行時間（ナノ秒）
+ * @param parallelism 並列度
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public record SimulationReport(
+        long games,
+        long gameOvers,
+        long totalPieces,
+        long totalTicks,
+        long totalSimulatedMillis,
+        long elapsedNanos,
+        int parallelism
+) {
+    /**
+     * 1秒あたりのシミュレーションゲーム数を返します。
+     *
+     * @return games/sec
+     */
+    public double gamesPerSecond() {
+        return perSecond(games);
+    }
+
+    /**
+     * 1秒あたりの自動落下ティック数を返します。
+     *
+     * @return ticks/sec
+     */
+    public double ticksPerSecond() {
+        return perSecond(totalTicks);
+    }
+
+    /**
+     * 1コアあたりの1秒間の自動落下ティック数を返します。
+     *
+     * @return ticks/sec/core
+     */
+    public double ticksPerSecondPerCore() {
+        return ticksPerSecond() / parallelism;
+    }
+
+    /**
+     * 1ゲームあたりの平均テトリミノ数を返します。
+     *
+     * @return 平均テトリミノ数
+     */
+    public double averagePieces() {
+        return (double) totalPieces / games;
+    }
+
+    /**
+     * 1ゲームあたりの平均ゲーム内経過時間（秒）を返します。
+     *
+     * @return 平均ゲーム時間（秒）
+     */
+    public double averageSimulatedSeconds() {
+        return totalSimulatedMillis / 1000.0 / games;
+    }
+
+    /**
+     * 実行時間あたりの件数を求めます。
+     *
+     * @param count 件数
+     * @return 1秒あたりの件数
+     */
+    private double perSecond(long count) {
+        return elapsedNanos == 0 ? 0.0 : count * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "games=%d gameOvers=%d pieces=%d ticks=%d elapsed=%.3fs parallelism=%d "
+                        + "games/sec=%.1f ticks/sec=%.1f ticks/sec/core=%.1f avgPieces=%.2f avgGameSeconds=%.2f",
+                games, gameOvers, totalPieces, totalTicks, elapsedNanos / 1_000_000_000.0, parallelism,
+                gamesPerSecond(), ticksPerSecond(), ticksPerSecondPerCore(), averagePieces(), averageSimulatedSeconds());
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.tetris.application.usecase;
+
+import com.example.tetris.application.dto.CommandBatchResultDTO;
+import com.example.tetris.application.session.SessionToken;
+import com.example.tetris.domain.GameCommand;
+import com.example.tetris.domain.replay.Replay;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 操作列一括適用ユースケースのインターフェース。
+ *
+ * <p>このユースケースは、クライアントがバッファリングした複数の操作（移動・回転・ドロップ）を
+ * 1回の呼び出しで適用し、最終状態と操作ごとの受理フラグのみを返します。
+ * 操作ごとにMoveTetrominoUseCase等を呼び出す場合と比べて、セッションIDの検証・
+ * セッションの検索・DTO変換が1回で済みます。</p>
+ *
+ * <h3>セッション管理ポリシー:</h3>
+ * <ul>
+ *   <li>セッション作成: openSession()またはexecute()呼び出し時に自動作成</li>
+ *   <li>セッショントークン: openSession()で発行し、以降の操作ではセッションIDの検証を省略
+ *       （公開エンドポイントはトークンによる操作のみを受け付け、execute()はノード間の転送で使用）</li>
+ *   <li>トークンの失効: 発行元でないノードのトークンはSessionExpiredExceptionとなり、openSession()で発行し直す</li>
+ *   <li>セッション削除: WebSocketセッション切断時にremoveSession()を呼び出す</li>
+ *   <li>最大セッション数: セッションストアの容量と受け入れ制御による（受け入れられない場合はIllegalStateExceptionをスロー）</li>
+ *   <li>1回の操作数の上限: 64</li>
+ * </ul>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public interface ApplyCommandsUseCase {
+
+    /**
+     * 操作列を先頭から順に一括で適用します。
+     *
+     * @param sessionId セッションID（非null、非空、最大256文字）
+     * @param commands 適用する操作列（非null、1件以上64件以下）
+     * @return 最終状態と操作ごとの受理フラグ
+     * @throws NullPointerException sessionId、commands、またはその要素がnullの場合
+     * @throws IllegalArgumentException sessionIdまたはcommandsの件数が不正な場合
+     * @throws IllegalStateException 新しいセッションを受け入れられない場合
+     */
+    CommandBatchResultDTO execute(String sessionId, List<GameCommand> commands);
+
+    /**
+     * セッションを開始し（開始済みの場合は何もしません）、セッショントークンを発行します。
+     *
+     * <p>セッションIDの検証はこのハンドシェイクで1回だけ行われます。新しいセッションを受け入れる
+     * 空きがない場合は待機ロビーに入り、待機順位を持つ
+     * {@link com.example.tetris.application.session.SessionNotAdmittedException}が送出されます
+     * （同じセッションIDで再度呼び出して順位を確認します）。</p>
+     *
+     * @param sessionId セッションID（非null、非空、最大256文字）
+     * @return セッショントークン
+     * @throws NullPointerException sessionIdがnullの場合
+     * @throws IllegalArgumentException sessionIdが不正な場合
+     * @throws IllegalStateException 新しいセッションを受け入れられない場合
+     */
+    SessionToken openSession(String sessionId);
+
+    /**
+     * セッショントークンで指定されたセッションに操作列を一括で適用します。
+     *
+     * @param token {@link #openSession(String)}で発行されたセッショントークン
+     * @param commands 適用する操作列（非null、1件以上64件以下）
+     * @return 最終状態と操作ごとの受理フラグ
+     * @throws NullPointerException token、commands、またはその要素がnullの場合
+     * @throws IllegalArgumentException トークンが無効、またはcommandsの件数が不正な場合
+     */
+    CommandBatchResultDTO executeWithToken(SessionToken token, List<GameCommand> commands);
+
+    /**
+     * セッショントークンで指定されたセッションに操作列を一括で適用します（セッションIDは経路の決定に使用）。
+     *
+     * <p>セッショントークンは発行したノードでのみ有効なため、複数のノードでセッションを分担する場合は
+     * セッションIDから所有ノードを求めて転送します。他のノードから移動してきたセッションへの移動前の
+     * トークンによる操作は、セッションIDで黙って適用せず
+     * {@link com.example.tetris.application.session.SessionExpiredException}を送出します
+     * （呼び出し元は{@link #openSession(String)}からやり直します）。単一ノードの実装はセッションIDを使用せず、
+     * {@link #executeWithToken(SessionToken, List)}と同じ処理を行います。</p>
+     *
+     * @param sessionId セッションID（省略可、nullの場合は自ノードで処理）
+     * @param token {@link #openSession(String)}で発行されたセッショントークン
+     * @param commands 適用する操作列（非null、1件以上64件以下）
+     * @return 最終状態と操作ごとの受理フラグ
+     * @throws NullPointerException token、commands、またはその要素がnullの場合
+     * @throws IllegalArgumentException トークンが無効、またはcommandsの件数が不正な場合
+     * @throws com.example.tetris.application.session.SessionExpiredException トークンの発行後にセッションが
+     *         移動または作り直された場合
+     */
+    default CommandBatchResultDTO executeWithToken(String sessionId, SessionToken token, List<GameCommand> commands) {
+        return executeWithToken(token, commands);
+    }
+
+    /**
+     * セッションの入力ログ（ゲーム開始からの全操作）を取得します。
+     *
+     * @param sessionId セッションID（非null）
+     * @return セッションのReplay（セッションが存在しない場合は空）
+     * @throws NullPointerException sessionIdがnullの場合
+     * @throws com.example.tetris.application.session.ReplayUnavailableException セッションは存在するが
+     *         スナップショットから復元したため入力ログがない場合
+     */
+    Optional<Replay> findReplay(String sessionId);
+
+    /**
+     * セッションを削除し、発行したセッショントークンを失効させます。
+     *
+     * @param sessionId 削除するセッションID（非null）
+     * @throws NullPointerException sessionIdがnullの場合
+     */
+    void removeSession(String sessionId);
+}
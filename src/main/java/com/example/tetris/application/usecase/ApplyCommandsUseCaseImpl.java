@@ -0,0 +1,248 @@
+package com.example.tetris.application.usecase;
+
+import com.example.tetris.application.dto.CommandBatchResultDTO;
+import com.example.tetris.application.mapper.GameStateMapper;
+import com.example.tetris.application.session.OffHeapSessionStore;
+import com.example.tetris.application.session.ReplayUnavailableException;
+import com.example.tetris.application.session.SessionExpiredException;
+import com.example.tetris.application.session.SessionStore;
+import com.example.tetris.application.session.SessionToken;
+import com.example.tetris.application.session.SessionTokens;
+import com.example.tetris.domain.CommandBatchResult;
+import com.example.tetris.domain.GameCommand;
+import com.example.tetris.domain.replay.Replay;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * ApplyCommandsUseCaseの実装クラス。
+ *
+ * <h3>処理フロー:</h3>
+ * <ol>
+ *   <li>セッションIDと操作数を1回だけ検証（セッショントークンの場合はトークンからセッションキーを解決）</li>
+ *   <li>セッションIDまたはセッションキーに紐づくGameSessionを取得（セッションIDの場合、存在しなければ初期化）</li>
+ *   <li>GameSession.applyAll()で操作列を一括適用し、受理された操作を入力ログに記録</li>
+ *   <li>最終状態のみをGameStateMapperでDTOに変換して返却</li>
+ * </ol>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+@Component
+public class ApplyCommandsUseCaseImpl implements ApplyCommandsUseCase {
+
+    /**
+     * セッションIDに紐づくGameSession（GameStateと入力ログ）のストア。
+     */
+    private final SessionStore sessions;
+
+    /**
+     * 発行したセッショントークン（セッション数の上限はセッションストアで管理）。
+     */
+    private final SessionTokens tokens = new SessionTokens(SessionToken.MAX_SLOTS);
+
+    /**
+     * セッションIDの最大長（文字数）。
+     */
+    private static final int MAX_SESSION_ID_LENGTH = 256;
+
+    /**
+     * セッションをダイレクトメモリ上に保持する{@link OffHeapSessionStore}を使用するコンストラクタ。
+     */
+    public ApplyCommandsUseCaseImpl() {
+        this(new OffHeapSessionStore(OffHeapSessionStore.DEFAULT_CAPACITY));
+    }
+
+    /**
+     * セッションストアを指定するコンストラクタ。
+     *
+     * @param sessions セッションストア
+     * @throws NullPointerException sessionsがnullの場合
+     */
+    @Autowired
+    public ApplyCommandsUseCaseImpl(SessionStore sessions) {
+        if (sessions == null) {
+            throw new NullPointerException("sessions must not be null");
+        }
+        this.sessions = sessions;
+    }
+
+    /**
+     * 1回の呼び出しで適用できる操作数の上限。
+     */
+    private static final int MAX_COMMANDS_PER_BATCH = 64;
+
+    @Override
+    public CommandBatchResultDTO execute(String sessionId, List<GameCommand> commands) {
+        // 1. バリデーション（操作列全体で1回のみ）
+        validateSessionId(sessionId);
+        validateCommands(commands);
+
+        // 2. セッションIDに紐づくGameSessionを取得（存在しない場合は初期化）
+        // 3. 操作列を一括適用
+        CommandBatchResult result = sessions.execute(sessionId, session -> session.applyAll(commands));
+
+        // 4. 最終状態のみDTOに変換して返却
+        return new CommandBatchResultDTO(GameStateMapper.toDTO(result.state()), result.accepted());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>発行したトークンは{@link SessionStore#open(String)}が返したセッションキーに束縛されます。</p>
+     */
+    @Override
+    public SessionToken openSession(String sessionId) {
+        validateSessionId(sessionId);
+        long key = sessions.open(sessionId);
+        return tokens.issue(sessionId, key);
+    }
+
+    @Override
+    public CommandBatchResultDTO executeWithToken(SessionToken token, List<GameCommand> commands) {
+        // 1. トークンからセッションキーを解決（セッションIDはハンドシェイク時に検証済み）
+        SessionTokens.Binding binding = tokens.resolve(token);
+        validateCommands(commands);
+
+        // 2. セッションキーで操作列を一括適用（セッションIDによる索引の検索を行わない）
+        CommandBatchResult result = sessions.execute(binding.key(), session -> session.applyAll(commands));
+        return new CommandBatchResultDTO(GameStateMapper.toDTO(result.state()), result.accepted());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>トークンがこのノードで発行したものでなく、セッションIDのセッションがこのノードに存在する場合
+     * （他のノードから移動してきたセッション）は、操作を適用せずに{@link SessionExpiredException}を
+     * 送出します。呼び出し元は{@link #openSession(String)}でトークンを発行し直してから送り直します。</p>
+     *
+     * @throws IllegalArgumentException トークンが束縛するセッションIDとsessionIdが異なる場合
+     */
+    @Override
+    public CommandBatchResultDTO executeWithToken(String sessionId, SessionToken token, List<GameCommand> commands) {
+        SessionTokens.Binding binding;
+        try {
+            binding = tokens.resolve(token);
+        } catch (IllegalArgumentException e) {
+            if (sessionId != null && sessions.contains(sessionId)) {
+                throw new SessionExpiredException("Session token was not issued by this node: " + sessionId);
+            }
+            throw e;
+        }
+        if (sessionId != null && !sessionId.equals(binding.sessionId())) {
+            throw new IllegalArgumentException("Session token does not belong to session: " + sessionId);
+        }
+        return executeWithToken(token, commands);
+    }
+
+    @Override
+    public Optional<Replay> findReplay(String sessionId) {
+        if (sessionId == null) {
+            throw new NullPointerException("sessionId must not be null");
+        }
+        Optional<Replay> replay = sessions.findReplay(sessionId);
+        if (replay.isEmpty() && sessions.contains(sessionId)) {
+            // スナップショットから復元したセッションは入力ログを途中からしか持たない
+            throw new ReplayUnavailableException("Session has no input log: " + sessionId);
+        }
+        return replay;
+    }
+
+    @Override
+    public void removeSession(String sessionId) {
+        if (sessionId == null) {
+            throw new NullPointerException("sessionId must not be null");
+        }
+        tokens.revoke(sessionId);
+        sessions.remove(sessionId);
+    }
+
+    /**
+     * セッションがこのノードに存在するかを判定します。
+     *
+     * @param sessionId セッションID（非null）
+     * @return セッションが存在する場合true
+     * @throws NullPointerException sessionIdがnullの場合
+     */
+    public boolean hasSession(String sessionId) {
+        if (sessionId == null) {
+            throw new NullPointerException("sessionId must not be null");
+        }
+        return sessions.contains(sessionId);
+    }
+
+    /**
+     * セッションを止めて入力ログを他のノードに引き渡し、このノードのセッションとトークンを破棄します。
+     *
+     * @param sessionId セッションID（非null）
+     * @param target 移動先のノードID（非null）
+     * @param transfer 入力ログを移動先に送る処理（実行中はセッションへの操作を実行しない）
+     * @return 引き渡した場合true（セッションが存在しない場合はfalse）
+     * @throws NullPointerException いずれかの引数がnullの場合
+     * @throws IllegalStateException セッションは存在するが入力ログがない場合（スナップショットから復元したセッション）
+     * @see SessionStore#handOff(String, String, Consumer)
+     */
+    public boolean handOff(String sessionId, String target, Consumer<Replay> transfer) {
+        boolean moved = sessions.handOff(sessionId, target, transfer);
+        if (moved) {
+            tokens.revoke(sessionId);
+        }
+        return moved;
+    }
+
+    /**
+     * 他のノードから引き渡された入力ログを再生して、セッションを受け入れます（同じ入力ログの場合は冪等）。
+     *
+     * @param sessionId セッションID（非null）
+     * @param replay ゲーム開始からの入力ログ（非null）
+     * @throws NullPointerException いずれかの引数がnullの場合
+     * @throws IllegalStateException 異なる入力ログのセッションが既に存在する場合、空きがない場合、または入力ログが破損している場合
+     * @see SessionStore#adopt(String, Replay)
+     */
+    public void adopt(String sessionId, Replay replay) {
+        validateSessionId(sessionId);
+        sessions.adopt(sessionId, replay);
+    }
+
+    /**
+     * 操作列のバリデーションを行います。
+     *
+     * @param commands 検証する操作列
+     * @throws NullPointerException commandsがnullの場合
+     * @throws IllegalArgumentException 操作数が1件未満、または上限を超える場合
+     */
+    private void validateCommands(List<GameCommand> commands) {
+        if (commands == null) {
+            throw new NullPointerException("commands must not be null");
+        }
+        if (commands.isEmpty() || commands.size() > MAX_COMMANDS_PER_BATCH) {
+            throw new IllegalArgumentException(
+                    "commands size must be between 1 and " + MAX_COMMANDS_PER_BATCH + ": " + commands.size());
+        }
+    }
+
+    /**
+     * sessionIdのバリデーションを行います。
+     *
+     * @param sessionId 検証するセッションID
+     * @throws NullPointerException sessionIdがnullの場合
+     * @throws IllegalArgumentException sessionIdが空文字列、または最大長を超える場合
+     */
+    private void validateSessionId(String sessionId) {
+        if (sessionId == null) {
+            throw new NullPointerException("sessionId must not be null");
+        }
+        if (sessionId.trim().isEmpty()) {
+            throw new IllegalArgumentException("sessionId must not be empty");
+        }
+        if (sessionId.length() > MAX_SESSION_ID_LENGTH) {
+            throw new IllegalArgumentException(
+                    "sessionId exceeds maximum length (" + MAX_SESSION_ID_LENGTH + "): " + sessionId.length());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.tetris.application.usecase;
+
+import com.example.tetris.application.dto.HintDTO;
+import com.example.tetris.application.dto.HintMetricsDTO;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * ヒント（現在のテトリミノの推奨配置）ユースケースのインターフェース。
+ *
+ * <p>このユースケースは、セッションストアが保持するセッションの現在のゲーム状態に対して、
+ * 配置探索AIによる推奨配置を非同期に返します。クライアントが送信したゲーム状態は信用しません。</p>
+ *
+ * <h3>責務:</h3>
+ * <ul>
+ *   <li>同じ局面（フィールド・現在のテトリミノ・次のテトリミノ）のヒントのメモ化</li>
+ *   <li>キャッシュにない局面の専用ワーカープールでの探索</li>
+ *   <li>同じ要求元から別の局面の要求が届いた場合の、未完了のヒントの取り消し</li>
+ * </ul>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public interface HintUseCase {
+
+    /**
+     * ヒントを要求します。
+     *
+     * <p>探索する局面はセッションの現在のゲーム状態です（ヒントのためにセッションを開始することはありません）。
+     * キャッシュされた局面の場合は完了済みのFutureを返します。同じ要求元の
+     * 未完了のヒントが別の局面のものであれば、そのFutureは取り消されます
+     * （{@link java.util.concurrent.CancellationException}で完了）。</p>
+     *
+     * @param requesterId 要求元の識別子（WebSocketセッションIDなど、非null）
+     * @param sessionId ヒントを求めるゲームのセッションID（非null）
+     * @return ヒント（ゲームオーバー、または配置が存在しない場合は空）。
+     *         ワーカーの探索キューが満杯の場合は{@link java.util.concurrent.RejectedExecutionException}で完了
+     * @throws NullPointerException requesterIdまたはsessionIdがnullの場合
+     * @throws com.example.tetris.application.session.SessionExpiredException セッションがこのノードに存在しない場合
+     */
+    CompletableFuture<Optional<HintDTO>> requestHint(String requesterId, String sessionId);
+
+    /**
+     * 要求元の未完了のヒントを取り消します（切断時などに呼び出します）。
+     *
+     * @param requesterId 要求元の識別子（非null）
+     * @throws NullPointerException requesterIdがnullの場合
+     */
+    void cancel(String requesterId);
+
+    /**
+     * ヒントサービスの統計情報を取得します。
+     *
+     * @return 統計情報
+     */
+    HintMetricsDTO metrics();
+}
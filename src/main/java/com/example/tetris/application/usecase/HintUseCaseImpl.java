@@ -0,0 +1,316 @@
+package com.example.tetris.application.usecase;
+
+import com.example.tetris.application.dto.HintDTO;
+import com.example.tetris.application.dto.HintMetricsDTO;
+import com.example.tetris.application.mapper.TetrominoMapper;
+import com.example.tetris.application.session.GameSession;
+import com.example.tetris.application.session.SessionExpiredException;
+import com.example.tetris.application.session.SessionStore;
+import com.example.tetris.domain.GameCommand;
+import com.example.tetris.domain.GameState;
+import com.example.tetris.domain.GameStatus;
+import com.example.tetris.domain.ai.BoardEvaluator;
+import com.example.tetris.domain.ai.Placement;
+import com.example.tetris.domain.ai.PlacementPlanner;
+import com.example.tetris.domain.ai.TranspositionCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HintUseCaseの実装クラス。
+ *
+ * <p>このクラスは、配置探索AI（{@link PlacementPlanner}）の結果を局面ごとに
+ * {@link TranspositionCache}でメモ化し、キャッシュにない局面のみを専用のワーカープールで
+ * 探索します。</p>
+ *
+ * <h3>処理フロー:</h3>
+ * <ol>
+ *   <li>{@link SessionStore}からセッションの現在のGameStateを取得し、局面のZobristキーを求める</li>
+ *   <li>キャッシュにある場合は呼び出し元のスレッドで即座に応答</li>
+ *   <li>同じ要求元の未完了のヒントが別の局面のものであれば取り消す（プレイヤーが操作を進めた）</li>
+ *   <li>ワーカーで探索し、結果をキャッシュに格納して応答</li>
+ * </ol>
+ *
+ * <h3>取り消し:</h3>
+ * <p>取り消されたヒントのFutureは即座に完了し、ワーカーは探索開始前に取り消しを検出して
+ * 探索を省略します。探索中に取り消された場合も、探索結果はキャッシュに格納されます。</p>
+ *
+ * <h3>スレッドセーフ性:</h3>
+ * <p>PlacementPlannerはスレッドセーフではないため、ワーカースレッドごとに1つ生成し、
+ * キャッシュのみを全ワーカーで共有します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+@Component
+public class HintUseCaseImpl implements HintUseCase, AutoCloseable {
+
+    /**
+     * 探索キューのデフォルト容量。
+     */
+    private static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    /**
+     * キャッシュのデフォルト容量（局面数）。
+     */
+    private static final int DEFAULT_CACHE_CAPACITY = 1 << 16;
+
+    /**
+     * 1ヒントあたりの先読みの時間予算（先読みを完了した結果のみキャッシュされるため、通常の探索時間より十分長くする）。
+     */
+    private static final Duration HINT_TIME_BUDGET = Duration.ofMillis(50);
+
+    /**
+     * 要求元ごとの未完了のヒント。
+     *
+     * @param key 局面のキー
+     * @param future ヒントのFuture
+     */
+    private record PendingHint(long key, CompletableFuture<Optional<HintDTO>> future) {
+    }
+
+    private final SessionStore sessions;
+    private final ThreadPoolExecutor executor;
+    private final TranspositionCache<Placement> cache;
+    private final ThreadLocal<PlacementPlanner> planners;
+    private final Map<String, PendingHint> pending = new ConcurrentHashMap<>();
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder computed = new LongAdder();
+    private final LongAdder cancelled = new LongAdder();
+
+    /**
+     * デフォルト設定のコンストラクタ。
+     *
+     * <p>ワーカー数は利用可能なCPUコア数の半分（最低1）、探索キュー容量は{@value #DEFAULT_QUEUE_CAPACITY}件です。</p>
+     *
+     * @param sessions ゲーム状態を取得するセッションストア
+     * @throws NullPointerException sessionsがnullの場合
+     */
+    @Autowired
+    public HintUseCaseImpl(SessionStore sessions) {
+        this(sessions, Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+                DEFAULT_QUEUE_CAPACITY, DEFAULT_CACHE_CAPACITY);
+    }
+
+    /**
+     * ワーカー数・探索キュー容量・キャッシュ容量を指定するコンストラクタ。
+     *
+     * @param sessions ゲーム状態を取得するセッションストア
+     * @param workers ワーカースレッド数（1以上）
+     * @param queueCapacity 探索キュー容量（1以上）
+     * @param cacheCapacity キャッシュ容量（1以上）
+     * @throws NullPointerException sessionsがnullの場合
+     * @throws IllegalArgumentException いずれかの値が1未満の場合
+     */
+    public HintUseCaseImpl(SessionStore sessions, int workers, int queueCapacity, int cacheCapacity) {
+        this(sessions, createExecutor(workers, queueCapacity), cacheCapacity);
+    }
+
+    /**
+     * ワーカープールを指定するコンストラクタ（テスト用）。
+     *
+     * @param sessions ゲーム状態を取得するセッションストア
+     * @param executor ワーカープール
+     * @param cacheCapacity キャッシュ容量（1以上）
+     */
+    HintUseCaseImpl(SessionStore sessions, ThreadPoolExecutor executor, int cacheCapacity) {
+        this.sessions = Objects.requireNonNull(sessions, "sessions must not be null");
+        this.executor = Objects.requireNonNull(executor, "executor must not be null");
+        this.cache = new TranspositionCache<>(cacheCapacity);
+        this.planners = ThreadLocal.withInitial(
+                () -> new PlacementPlanner(BoardEvaluator.DEFAULT, HINT_TIME_BUDGET, cache));
+    }
+
+    @Override
+    public CompletableFuture<Optional<HintDTO>> requestHint(String requesterId, String sessionId) {
+        if (requesterId == null) {
+            throw new NullPointerException("requesterId must not be null");
+        }
+        if (sessionId == null) {
+            throw new NullPointerException("sessionId must not be null");
+        }
+        // ヒントのためにセッションを開始しない
+        OptionalLong sessionKey = sessions.keyOf(sessionId);
+        if (sessionKey.isEmpty()) {
+            throw new SessionExpiredException("Session does not exist: " + sessionId);
+        }
+        GameState state = sessions.execute(sessionKey.getAsLong(), GameSession::state);
+        requests.increment();
+
+        if (state.status() != GameStatus.PLAYING) {
+            cancel(requesterId);
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+
+        // 1. キャッシュにある局面は呼び出し元のスレッドで即座に応答
+        long key = TranspositionCache.key(state.field(), state.currentTetromino(), state.nextTetromino().type());
+        Optional<Placement> cached = cache.get(key);
+        if (cached.isPresent()) {
+            cacheHits.increment();
+            cancelIfStale(requesterId, key);
+            return CompletableFuture.completedFuture(Optional.of(toDTO(cached.get(), true)));
+        }
+
+        // 2. 同じ局面が探索中であれば共有し、別の局面であれば古いヒントを取り消す
+        PendingHint[] created = new PendingHint[1];
+        PendingHint hint = pending.compute(requesterId, (id, previous) -> {
+            if (previous != null && !previous.future().isDone()) {
+                if (previous.key() == key) {
+                    return previous;
+                }
+                if (previous.future().cancel(false)) {
+                    cancelled.increment();
+                }
+            }
+            created[0] = new PendingHint(key, new CompletableFuture<>());
+            return created[0];
+        });
+        if (hint != created[0]) {
+            return hint.future();
+        }
+
+        // 3. ワーカーで探索
+        try {
+            executor.execute(() -> compute(requesterId, hint, state));
+        } catch (RejectedExecutionException e) {
+            pending.remove(requesterId, hint);
+            hint.future().completeExceptionally(e);
+        }
+        return hint.future();
+    }
+
+    @Override
+    public void cancel(String requesterId) {
+        if (requesterId == null) {
+            throw new NullPointerException("requesterId must not be null");
+        }
+        PendingHint hint = pending.remove(requesterId);
+        if (hint != null && hint.future().cancel(false)) {
+            cancelled.increment();
+        }
+    }
+
+    @Override
+    public HintMetricsDTO metrics() {
+        long totalRequests = requests.sum();
+        long hits = cacheHits.sum();
+        return new HintMetricsDTO(
+                totalRequests,
+                hits,
+                computed.sum(),
+                cancelled.sum(),
+                pending.size(),
+                totalRequests == 0 ? 0.0 : (double) hits / totalRequests,
+                cache.stats().replacements()
+        );
+    }
+
+    /**
+     * ワーカープールを停止します。
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * ワーカースレッド上でヒントを探索します。
+     *
+     * @param requesterId 要求元の識別子
+     * @param hint 未完了のヒント
+     * @param state 探索する局面
+     */
+    private void compute(String requesterId, PendingHint hint, GameState state) {
+        try {
+            // 探索開始前に取り消されていれば省略
+            if (hint.future().isDone()) {
+                return;
+            }
+            Optional<Placement> placement = planners.get().plan(state);
+            computed.increment();
+            hint.future().complete(placement.map(p -> toDTO(p, false)));
+        } catch (RuntimeException e) {
+            hint.future().completeExceptionally(e);
+        } finally {
+            pending.remove(requesterId, hint);
+        }
+    }
+
+    /**
+     * 要求元の未完了のヒントが別の局面のものであれば取り消します。
+     *
+     * @param requesterId 要求元の識別子
+     * @param key 最新の局面のキー
+     */
+    private void cancelIfStale(String requesterId, long key) {
+        PendingHint previous = pending.get(requesterId);
+        if (previous != null && previous.key() != key && pending.remove(requesterId, previous)
+                && previous.future().cancel(false)) {
+            cancelled.increment();
+        }
+    }
+
+    /**
+     * 配置をHintDTOに変換します。
+     *
+     * @param placement 配置
+     * @param cached キャッシュされた配置の場合true
+     * @return HintDTO
+     */
+    private static HintDTO toDTO(Placement placement, boolean cached) {
+        return new HintDTO(
+                TetrominoMapper.toDTO(placement.tetromino()),
+                placement.commands().stream().map(GameCommand::name).toList(),
+                cached
+        );
+    }
+
+    /**
+     * ワーカープールを生成します。
+     *
+     * @param workers ワーカースレッド数（1以上）
+     * @param queueCapacity 探索キュー容量（1以上）
+     * @return ワーカープール
+     * @throws IllegalArgumentException workersまたはqueueCapacityが1未満の場合
+     */
+    private static ThreadPoolExecutor createExecutor(int workers, int queueCapacity) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("workers must be at least 1");
+        }
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("queueCapacity must be at least 1");
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                workers,
+                workers,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "hint-worker-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+}
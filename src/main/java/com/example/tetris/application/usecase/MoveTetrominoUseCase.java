@@ -2,6 +2,9 @@ package com.example.tetris.application.usecase;
 
 import com.example.tetris.application.dto.GameStateDTO;
 import com.example.tetris.domain.Direction;
+import com.example.tetris.domain.replay.Replay;
+
+import java.util.Optional;
 
 /**
  * テトリミノ移動ユースケースのインターフェース。
@@ -21,7 +24,7 @@ import com.example.tetris.domain.Direction;
  * <ul>
  *   <li>セッション作成: execute()呼び出し時に自動作成</li>
  *   <li>セッション削除: WebSocketセッション切断時にremoveSession()を呼び出す</li>
- *   <li>最大セッション数: 10000（上限に達した場合はIllegalStateExceptionをスロー）</li>
+ *   <li>最大セッション数: セッションストアの容量と受け入れ制御による（受け入れられない場合はIllegalStateExceptionをスロー）</li>
  * </ul>
  *
  * <h3>メモリ管理の注意:</h3>
@@ -56,10 +59,22 @@ public interface MoveTetrominoUseCase {
      * @return 移動後のゲーム状態のDTO
      * @throws NullPointerException sessionIdまたはdirectionがnullの場合
      * @throws IllegalArgumentException sessionIdが空文字列、または256文字を超える場合
-     * @throws IllegalStateException 最大セッション数（10000）に達している場合
+     * @throws IllegalStateException 新しいセッションを受け入れられない場合
      */
     GameStateDTO execute(String sessionId, Direction direction);
 
+    /**
+     * セッションの入力ログ（ゲーム開始からの全操作）を取得します。
+     *
+     * <p>返されたReplayを{@link com.example.tetris.domain.replay.ReplayEngine}で
+     * 再シミュレーションすると、現在のゲーム状態を再現できます。</p>
+     *
+     * @param sessionId セッションID（非null）
+     * @return セッションのReplay（セッションが存在しない場合は空）
+     * @throws NullPointerException sessionIdがnullの場合
+     */
+    Optional<Replay> findReplay(String sessionId);
+
     /**
      * セッションを削除します。
      *
@@ -2,11 +2,14 @@ package com.example.tetris.application.usecase;
 
 import com.example.tetris.application.dto.GameStateDTO;
 import com.example.tetris.application.mapper.GameStateMapper;
+import com.example.tetris.application.session.OffHeapSessionStore;
+import com.example.tetris.application.session.SessionStore;
 import com.example.tetris.domain.Direction;
+import com.example.tetris.domain.GameCommand;
 import com.example.tetris.domain.GameState;
+import com.example.tetris.domain.replay.Replay;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
 
 /**
  * MoveTetrominoUseCaseの実装クラス。
@@ -16,7 +19,7 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * <h3>処理フロー:</h3>
  * <ol>
- *   <li>セッションIDに紐づくGameStateを取得（存在しない場合は初期化）</li>
+ *   <li>セッションIDに紐づくGameSessionを取得（存在しない場合は初期化）</li>
  *   <li>GameState.moveTetromino(direction)を呼び出してテトリミノを移動</li>
  *   <li>移動後のGameStateをセッション管理領域に保存</li>
  *   <li>GameStateMapperでドメインモデルをDTOに変換</li>
@@ -25,9 +28,10 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * <h3>セッション管理:</h3>
  * <ul>
- *   <li>セッションIDをキー、GameStateを値とするMapで管理</li>
- *   <li>スレッドセーフ性を確保するためConcurrentHashMapを使用</li>
- *   <li>セッションが存在しない場合は自動的にGameState.initialize()を実行</li>
+ *   <li>セッションIDに紐づくGameSession（GameStateと入力ログ）を{@link SessionStore}で管理</li>
+ *   <li>既定では{@link OffHeapSessionStore}でゲーム状態をヒープ外に保持し、操作の実行中にのみ復元</li>
+ *   <li>セッションが存在しない場合はSessionStoreが自動的に新しいセッションを開始</li>
+ *   <li>すべての操作はティック付きで入力ログに記録され、findReplay()でReplayとして取得可能</li>
  * </ul>
  *
  * <h3>衝突判定:</h3>
@@ -44,12 +48,9 @@ import java.util.concurrent.ConcurrentHashMap;
 public class MoveTetrominoUseCaseImpl implements MoveTetrominoUseCase {
 
     /**
-     * セッションIDをキー、GameStateを値とするマップ。
-     *
-     * <p>複数のWebSocketセッションを同時にサポートするため、
-     * スレッドセーフなConcurrentHashMapを使用します。</p>
+     * セッションIDに紐づくGameSession（GameStateと入力ログ）のストア。
      */
-    private final Map<String, GameState> sessionStates = new ConcurrentHashMap<>();
+    private final SessionStore sessions;
 
     /**
      * セッションIDの最大長（文字数）。
@@ -57,9 +58,24 @@ public class MoveTetrominoUseCaseImpl implements MoveTetrominoUseCase {
     private static final int MAX_SESSION_ID_LENGTH = 256;
 
     /**
-     * セッションの最大数。
+     * セッションをダイレクトメモリ上に保持する{@link OffHeapSessionStore}を使用するコンストラクタ。
+     */
+    public MoveTetrominoUseCaseImpl() {
+        this(new OffHeapSessionStore(OffHeapSessionStore.DEFAULT_CAPACITY));
+    }
+
+    /**
+     * セッションストアを指定するコンストラクタ。
+     *
+     * @param sessions セッションストア
+     * @throws NullPointerException sessionsがnullの場合
      */
-    private static final int MAX_SESSIONS = 10000;
+    public MoveTetrominoUseCaseImpl(SessionStore sessions) {
+        if (sessions == null) {
+            throw new NullPointerException("sessions must not be null");
+        }
+        this.sessions = sessions;
+    }
 
     /**
      * テトリミノを指定された方向に移動します。
@@ -81,32 +97,29 @@ public class MoveTetrominoUseCaseImpl implements MoveTetrominoUseCase {
             throw new NullPointerException("direction must not be null");
         }
 
-        // 2. セッションIDに紐づくGameStateを取得（存在しない場合は初期化）
-        // computeIfAbsent内でセッション数チェックを行うことで、アトミックな操作を実現
-        GameState currentState = sessionStates.computeIfAbsent(sessionId, k -> {
-            // 新規セッション作成時のみサイズチェック
-            if (sessionStates.size() >= MAX_SESSIONS) {
-                throw new IllegalStateException("Maximum session limit reached: " + MAX_SESSIONS);
-            }
-            return GameState.initialize();
-        });
-
+        // 2. セッションIDに紐づくGameSessionを取得（存在しない場合は初期化）
         // 3. テトリミノを移動（衝突判定結果は GameState.moveTetromino() 内でハンドリング）
-        GameState newState = currentState.moveTetromino(direction);
-
-        // 4. 移動後のGameStateをセッション管理領域に保存
-        sessionStates.put(sessionId, newState);
+        // 4. 移動後のGameStateはセッションに保存され、操作は入力ログに記録される
+        GameState newState = sessions.execute(sessionId, session -> session.apply(GameCommand.move(direction)));
 
         // 5. DTOに変換して返却
         return GameStateMapper.toDTO(newState);
     }
 
+    @Override
+    public Optional<Replay> findReplay(String sessionId) {
+        if (sessionId == null) {
+            throw new NullPointerException("sessionId must not be null");
+        }
+        return sessions.findReplay(sessionId);
+    }
+
     @Override
     public void removeSession(String sessionId) {
         if (sessionId == null) {
             throw new NullPointerException("sessionId must not be null");
         }
-        sessionStates.remove(sessionId);
+        sessions.remove(sessionId);
     }
 
     /**
@@ -1,6 +1,9 @@
 package com.example.tetris.application.usecase;
 
 import com.example.tetris.application.dto.GameStateDTO;
+import com.example.tetris.domain.replay.Replay;
+
+import java.util.Optional;
 
 /**
  * 自動落下処理ユースケースのインターフェース。
@@ -28,7 +31,7 @@ import com.example.tetris.application.dto.GameStateDTO;
  * <ul>
  *   <li>セッション作成: execute()呼び出し時に自動作成</li>
  *   <li>セッション削除: WebSocketセッション切断時にremoveSession()を呼び出す</li>
- *   <li>最大セッション数: 10000（上限に達した場合はIllegalStateExceptionをスロー）</li>
+ *   <li>最大セッション数: セッションストアの容量と受け入れ制御による（受け入れられない場合はIllegalStateExceptionをスロー）</li>
  * </ul>
  *
  * <h3>メモリ管理の注意:</h3>
@@ -72,10 +75,55 @@ public interface ProcessAutoDropUseCase {
      * @return 自動落下処理後のゲーム状態のDTO
      * @throws NullPointerException sessionIdがnullの場合
      * @throws IllegalArgumentException sessionIdが空文字列、または256文字を超える場合
-     * @throws IllegalStateException 最大セッション数（10000）に達している場合
+     * @throws IllegalStateException 新しいセッションを受け入れられない場合
      */
     GameStateDTO execute(String sessionId);
 
+    /**
+     * 遅延したティックを含め、自動落下処理を指定回数分まとめて実行します。
+     *
+     * <p>GC停止や過負荷でスケジューラーが遅延した場合に、溜まったティックを1回の呼び出しで
+     * 消化するために使用します。結果は{@link #execute(String)}をticks回呼び出した場合と同一で、
+     * 入力ログにもticks件の自動落下が記録されます。</p>
+     *
+     * @param sessionId WebSocketセッションID（非null、非空、最大256文字）
+     * @param ticks 実行する自動落下のティック数（1以上10000以下）
+     * @return 自動落下処理後のゲーム状態のDTO
+     * @throws NullPointerException sessionIdがnullの場合
+     * @throws IllegalArgumentException sessionIdまたはticksが不正な場合
+     * @throws IllegalStateException 新しいセッションを受け入れられない場合
+     * @see com.example.tetris.domain.GameState#processAutoDropTicks(int)
+     */
+    GameStateDTO execute(String sessionId, int ticks);
+
+    /**
+     * 前回の呼び出しからの経過時間に基づいて重力を適用します。
+     *
+     * <p>落下は経過時間とレベルごとの落下間隔から計算され、接地したテトリミノは固定猶予
+     * （ロックディレイ）の満了時に固定されます。呼び出し間隔に依存せず正確な固定タイミングが
+     * 得られるため、サーバーは粗い固定周期でこのメソッドを呼び出せます。</p>
+     *
+     * @param sessionId WebSocketセッションID（非null、非空、最大256文字）
+     * @return 重力適用後のゲーム状態のDTO
+     * @throws NullPointerException sessionIdがnullの場合
+     * @throws IllegalArgumentException sessionIdが空文字列、または256文字を超える場合
+     * @throws IllegalStateException 新しいセッションを受け入れられない場合
+     * @see com.example.tetris.domain.GravityModel
+     */
+    GameStateDTO advanceGravity(String sessionId);
+
+    /**
+     * セッションの入力ログ（ゲーム開始からの全操作）を取得します。
+     *
+     * <p>返されたReplayを{@link com.example.tetris.domain.replay.ReplayEngine}で
+     * 再シミュレーションすると、現在のゲーム状態を再現できます。</p>
+     *
+     * @param sessionId セッションID（非null）
+     * @return セッションのReplay（セッションが存在しない場合は空）
+     * @throws NullPointerException sessionIdがnullの場合
+     */
+    Optional<Replay> findReplay(String sessionId);
+
     /**
      * セッションを削除します。
      *
@@ -2,10 +2,13 @@ package com.example.tetris.application.usecase;
 
 import com.example.tetris.application.dto.GameStateDTO;
 import com.example.tetris.application.mapper.GameStateMapper;
+import com.example.tetris.application.session.OffHeapSessionStore;
+import com.example.tetris.application.session.SessionStore;
+import com.example.tetris.domain.GameCommand;
 import com.example.tetris.domain.GameState;
+import com.example.tetris.domain.replay.Replay;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
 
 /**
  * ProcessAutoDropUseCaseの実装クラス。
@@ -15,7 +18,7 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * <h3>処理フロー:</h3>
  * <ol>
- *   <li>セッションIDに紐づくGameStateを取得（存在しない場合は初期化）</li>
+ *   <li>セッションIDに紐づくGameSessionを取得（存在しない場合は初期化）</li>
  *   <li>GameState.processAutoDropTick()を呼び出してテトリミノを自動落下</li>
  *   <li>自動落下処理後のGameStateをセッション管理領域に保存</li>
  *   <li>GameStateMapperでドメインモデルをDTOに変換</li>
@@ -24,9 +27,10 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * <h3>セッション管理:</h3>
  * <ul>
- *   <li>セッションIDをキー、GameStateを値とするMapで管理</li>
- *   <li>スレッドセーフ性を確保するためConcurrentHashMapを使用</li>
- *   <li>セッションが存在しない場合は自動的にGameState.initialize()を実行</li>
+ *   <li>セッションIDに紐づくGameSession（GameStateと入力ログ）を{@link SessionStore}で管理</li>
+ *   <li>既定では{@link OffHeapSessionStore}でゲーム状態をヒープ外に保持し、操作の実行中にのみ復元</li>
+ *   <li>セッションが存在しない場合はSessionStoreが自動的に新しいセッションを開始</li>
+ *   <li>すべての操作はティック付きで入力ログに記録され、findReplay()でReplayとして取得可能</li>
  * </ul>
  *
  * <h3>自動落下の動作:</h3>
@@ -51,12 +55,9 @@ import java.util.concurrent.ConcurrentHashMap;
 public class ProcessAutoDropUseCaseImpl implements ProcessAutoDropUseCase {
 
     /**
-     * セッションIDをキー、GameStateを値とするマップ。
-     *
-     * <p>複数のWebSocketセッションを同時にサポートするため、
-     * スレッドセーフなConcurrentHashMapを使用します。</p>
+     * セッションIDに紐づくGameSession（GameStateと入力ログ）のストア。
      */
-    private final Map<String, GameState> sessionStates = new ConcurrentHashMap<>();
+    private final SessionStore sessions;
 
     /**
      * セッションIDの最大長（文字数）。
@@ -64,9 +65,29 @@ public class ProcessAutoDropUseCaseImpl implements ProcessAutoDropUseCase {
     private static final int MAX_SESSION_ID_LENGTH = 256;
 
     /**
-     * セッションの最大数。
+     * 1回の呼び出しでまとめて実行できる自動落下ティック数の上限。
+     */
+    private static final int MAX_TICKS_PER_CALL = 10000;
+
+    /**
+     * セッションをダイレクトメモリ上に保持する{@link OffHeapSessionStore}を使用するコンストラクタ。
+     */
+    public ProcessAutoDropUseCaseImpl() {
+        this(new OffHeapSessionStore(OffHeapSessionStore.DEFAULT_CAPACITY));
+    }
+
+    /**
+     * セッションストアを指定するコンストラクタ。
+     *
+     * @param sessions セッションストア
+     * @throws NullPointerException sessionsがnullの場合
      */
-    private static final int MAX_SESSIONS = 10000;
+    public ProcessAutoDropUseCaseImpl(SessionStore sessions) {
+        if (sessions == null) {
+            throw new NullPointerException("sessions must not be null");
+        }
+        this.sessions = sessions;
+    }
 
     /**
      * 自動落下処理を実行します。
@@ -100,35 +121,62 @@ public class ProcessAutoDropUseCaseImpl implements ProcessAutoDropUseCase {
         // 1. sessionIdのバリデーション
         validateSessionId(sessionId);
 
-        // 2. セッションIDに紐づくGameStateを取得（存在しない場合は初期化）
-        // computeIfAbsent内でセッション数チェックを行うことで、アトミックな操作を実現
-        GameState currentState = sessionStates.computeIfAbsent(sessionId, k -> {
-            // 新規セッション作成時のみサイズチェック
-            if (sessionStates.size() >= MAX_SESSIONS) {
-                throw new IllegalStateException("Maximum session limit reached: " + MAX_SESSIONS);
-            }
-            return GameState.initialize();
-        });
-
+        // 2. セッションIDに紐づくGameSessionを取得（存在しない場合は初期化）
         // 3. 自動落下処理を実行
         // processAutoDropTick()は以下を内部で実行します：
         // - テトリミノを1マス下に移動を試みる
         // - 移動不可能な場合は固定→ライン消去→スコア加算→レベル更新→次テトリミノ生成
-        GameState newState = currentState.processAutoDropTick();
-
-        // 4. 処理後のGameStateをセッション管理領域に保存
-        sessionStates.put(sessionId, newState);
+        // 4. 処理後のGameStateはセッションに保存され、操作は入力ログに記録される
+        GameState newState = sessions.execute(sessionId, session -> session.apply(GameCommand.AUTO_DROP));
 
         // 5. DTOに変換して返却
         return GameStateMapper.toDTO(newState);
     }
 
+    @Override
+    public GameStateDTO execute(String sessionId, int ticks) {
+        // 1. バリデーション
+        validateSessionId(sessionId);
+        if (ticks < 1 || ticks > MAX_TICKS_PER_CALL) {
+            throw new IllegalArgumentException(
+                    "ticks must be between 1 and " + MAX_TICKS_PER_CALL + ": " + ticks);
+        }
+
+        // 2. セッションIDに紐づくGameSessionを取得（存在しない場合は初期化）
+        // 3. 溜まったティックを落下距離からまとめて適用（固定されるテトリミノ数に比例する処理量）
+        GameState newState = sessions.execute(sessionId, session -> session.applyAutoDropTicks(ticks));
+
+        // 4. DTOに変換して返却
+        return GameStateMapper.toDTO(newState);
+    }
+
+    @Override
+    public GameStateDTO advanceGravity(String sessionId) {
+        // 1. sessionIdのバリデーション
+        validateSessionId(sessionId);
+
+        // 2. セッションIDに紐づくGameSessionを取得（存在しない場合は初期化）
+        // 3. 前回からの経過時間分の落下と固定猶予付きの固定を適用
+        GameState newState = sessions.execute(sessionId, session -> session.advanceGravity());
+
+        // 4. DTOに変換して返却
+        return GameStateMapper.toDTO(newState);
+    }
+
+    @Override
+    public Optional<Replay> findReplay(String sessionId) {
+        if (sessionId == null) {
+            throw new NullPointerException("sessionId must not be null");
+        }
+        return sessions.findReplay(sessionId);
+    }
+
     @Override
     public void removeSession(String sessionId) {
         if (sessionId == null) {
             throw new NullPointerException("sessionId must not be null");
         }
-        sessionStates.remove(sessionId);
+        sessions.remove(sessionId);
     }
 
     /**
@@ -1,6 +1,9 @@
 package com.example.tetris.application.usecase;
 
 import com.example.tetris.application.dto.GameStateDTO;
+import com.example.tetris.domain.replay.Replay;
+
+import java.util.Optional;
 
 /**
  * テトリミノ回転ユースケースのインターフェース。
@@ -20,7 +23,7 @@ import com.example.tetris.application.dto.GameStateDTO;
  * <ul>
  *   <li>セッション作成: execute()呼び出し時に自動作成</li>
  *   <li>セッション削除: WebSocketセッション切断時にremoveSession()を呼び出す</li>
- *   <li>最大セッション数: 10000（上限に達した場合はIllegalStateExceptionをスロー）</li>
+ *   <li>最大セッション数: セッションストアの容量と受け入れ制御による（受け入れられない場合はIllegalStateExceptionをスロー）</li>
  * </ul>
  *
  * <h3>メモリ管理の注意:</h3>
@@ -47,17 +50,43 @@ public interface RotateTetrominoUseCase {
      * <p><strong>回転可否の判定:</strong></p>
      * <ul>
      *   <li>回転可能な場合：回転後の向きのテトリミノを持つGameStateを返す</li>
-     *   <li>回転不可能な場合（境界外、衝突）：元のGameStateをそのまま返す</li>
+     *   <li>その場で回転できない場合：SRSの壁蹴りオフセットを順に試す</li>
+     *   <li>回転不可能な場合（すべてのオフセットで境界外、衝突）：元のGameStateをそのまま返す</li>
      * </ul>
      *
      * @param sessionId WebSocketセッションID（非null、非空、最大256文字）
      * @return 回転後のゲーム状態のDTO
      * @throws NullPointerException sessionIdがnullの場合
      * @throws IllegalArgumentException sessionIdが空文字列、または256文字を超える場合
-     * @throws IllegalStateException 最大セッション数（10000）に達している場合
+     * @throws IllegalStateException 新しいセッションを受け入れられない場合
      */
     GameStateDTO execute(String sessionId);
 
+    /**
+     * テトリミノを反時計回りに90度回転します。
+     *
+     * <p>セッション管理・壁蹴り（SRS）・入力ログへの記録は{@link #execute(String)}と同じです。</p>
+     *
+     * @param sessionId WebSocketセッションID（非null、非空、最大256文字）
+     * @return 回転後のゲーム状態のDTO
+     * @throws NullPointerException sessionIdがnullの場合
+     * @throws IllegalArgumentException sessionIdが空文字列、または256文字を超える場合
+     * @throws IllegalStateException 新しいセッションを受け入れられない場合
+     */
+    GameStateDTO executeCounterclockwise(String sessionId);
+
+    /**
+     * セッションの入力ログ（ゲーム開始からの全操作）を取得します。
+     *
+     * <p>返されたReplayを{@link com.example.tetris.domain.replay.ReplayEngine}で
+     * 再シミュレーションすると、現在のゲーム状態を再現できます。</p>
+     *
+     * @param sessionId セッションID（非null）
+     * @return セッションのReplay（セッションが存在しない場合は空）
+     * @throws NullPointerException sessionIdがnullの場合
+     */
+    Optional<Replay> findReplay(String sessionId);
+
     /**
      * セッションを削除します。
      *
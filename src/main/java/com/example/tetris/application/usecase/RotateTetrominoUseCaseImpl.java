@@ -2,10 +2,13 @@ package com.example.tetris.application.usecase;
 
 import com.example.tetris.application.dto.GameStateDTO;
 import com.example.tetris.application.mapper.GameStateMapper;
+import com.example.tetris.application.session.OffHeapSessionStore;
+import com.example.tetris.application.session.SessionStore;
+import com.example.tetris.domain.GameCommand;
 import com.example.tetris.domain.GameState;
+import com.example.tetris.domain.replay.Replay;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
 
 /**
  * RotateTetrominoUseCaseの実装クラス。
@@ -15,7 +18,7 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * <h3>処理フロー:</h3>
  * <ol>
- *   <li>セッションIDに紐づくGameStateを取得（存在しない場合は初期化）</li>
+ *   <li>セッションIDに紐づくGameSessionを取得（存在しない場合は初期化）</li>
  *   <li>GameState.rotateTetromino()を呼び出してテトリミノを回転</li>
  *   <li>回転後のGameStateをセッション管理領域に保存</li>
  *   <li>GameStateMapperでドメインモデルをDTOに変換</li>
@@ -24,9 +27,10 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * <h3>セッション管理:</h3>
  * <ul>
- *   <li>セッションIDをキー、GameStateを値とするMapで管理</li>
- *   <li>スレッドセーフ性を確保するためConcurrentHashMapを使用</li>
- *   <li>セッションが存在しない場合は自動的にGameState.initialize()を実行</li>
+ *   <li>セッションIDに紐づくGameSession（GameStateと入力ログ）を{@link SessionStore}で管理</li>
+ *   <li>既定では{@link OffHeapSessionStore}でゲーム状態をヒープ外に保持し、操作の実行中にのみ復元</li>
+ *   <li>セッションが存在しない場合はSessionStoreが自動的に新しいセッションを開始</li>
+ *   <li>すべての操作はティック付きで入力ログに記録され、findReplay()でReplayとして取得可能</li>
  * </ul>
  *
  * <h3>衝突判定:</h3>
@@ -43,12 +47,9 @@ import java.util.concurrent.ConcurrentHashMap;
 public class RotateTetrominoUseCaseImpl implements RotateTetrominoUseCase {
 
     /**
-     * セッションIDをキー、GameStateを値とするマップ。
-     *
-     * <p>複数のWebSocketセッションを同時にサポートするため、
-     * スレッドセーフなConcurrentHashMapを使用します。</p>
+     * セッションIDに紐づくGameSession（GameStateと入力ログ）のストア。
      */
-    private final Map<String, GameState> sessionStates = new ConcurrentHashMap<>();
+    private final SessionStore sessions;
 
     /**
      * セッションIDの最大長（文字数）。
@@ -56,9 +57,24 @@ public class RotateTetrominoUseCaseImpl implements RotateTetrominoUseCase {
     private static final int MAX_SESSION_ID_LENGTH = 256;
 
     /**
-     * セッションの最大数。
+     * セッションをダイレクトメモリ上に保持する{@link OffHeapSessionStore}を使用するコンストラクタ。
      */
-    private static final int MAX_SESSIONS = 10000;
+    public RotateTetrominoUseCaseImpl() {
+        this(new OffHeapSessionStore(OffHeapSessionStore.DEFAULT_CAPACITY));
+    }
+
+    /**
+     * セッションストアを指定するコンストラクタ。
+     *
+     * @param sessions セッションストア
+     * @throws NullPointerException sessionsがnullの場合
+     */
+    public RotateTetrominoUseCaseImpl(SessionStore sessions) {
+        if (sessions == null) {
+            throw new NullPointerException("sessions must not be null");
+        }
+        this.sessions = sessions;
+    }
 
     /**
      * テトリミノを時計回りに90度回転します。
@@ -73,35 +89,48 @@ public class RotateTetrominoUseCaseImpl implements RotateTetrominoUseCase {
      */
     @Override
     public GameStateDTO execute(String sessionId) {
-        // 1. sessionIdのバリデーション
-        validateSessionId(sessionId);
+        return rotate(sessionId, GameCommand.ROTATE);
+    }
 
-        // 2. セッションIDに紐づくGameStateを取得（存在しない場合は初期化）
-        // computeIfAbsent内でセッション数チェックを行うことで、アトミックな操作を実現
-        GameState currentState = sessionStates.computeIfAbsent(sessionId, k -> {
-            // 新規セッション作成時のみサイズチェック
-            if (sessionStates.size() >= MAX_SESSIONS) {
-                throw new IllegalStateException("Maximum session limit reached: " + MAX_SESSIONS);
-            }
-            return GameState.initialize();
-        });
+    @Override
+    public GameStateDTO executeCounterclockwise(String sessionId) {
+        return rotate(sessionId, GameCommand.ROTATE_CCW);
+    }
 
-        // 3. テトリミノを回転（衝突判定結果は GameState.rotateTetromino() 内でハンドリング）
-        GameState newState = currentState.rotateTetromino();
+    /**
+     * 指定された回転操作をセッションに適用します。
+     *
+     * @param sessionId WebSocketセッションID
+     * @param command 回転操作（ROTATEまたはROTATE_CCW）
+     * @return 回転後のゲーム状態のDTO
+     */
+    private GameStateDTO rotate(String sessionId, GameCommand command) {
+        // 1. sessionIdのバリデーション
+        validateSessionId(sessionId);
 
-        // 4. 回転後のGameStateをセッション管理領域に保存
-        sessionStates.put(sessionId, newState);
+        // 2. セッションIDに紐づくGameSessionを取得（存在しない場合は初期化）
+        // 3. テトリミノを回転（壁蹴りと衝突判定は GameState 内でハンドリング）
+        // 4. 回転後のGameStateはセッションに保存され、操作は入力ログに記録される
+        GameState newState = sessions.execute(sessionId, session -> session.apply(command));
 
         // 5. DTOに変換して返却
         return GameStateMapper.toDTO(newState);
     }
 
+    @Override
+    public Optional<Replay> findReplay(String sessionId) {
+        if (sessionId == null) {
+            throw new NullPointerException("sessionId must not be null");
+        }
+        return sessions.findReplay(sessionId);
+    }
+
     @Override
     public void removeSession(String sessionId) {
         if (sessionId == null) {
             throw new NullPointerException("sessionId must not be null");
         }
-        sessionStates.remove(sessionId);
+        sessions.remove(sessionId);
     }
 
     /**
@@ -0,0 +1,52 @@
+package com.example.tetris.application.usecase;
+
+import com.example.tetris.application.dto.ScoreSubmissionDTO;
+import com.example.tetris.application.dto.ScoreVerificationMetricsDTO;
+import com.example.tetris.application.dto.ScoreVerificationResultDTO;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * リプレイ検証付きスコア提出ユースケースのインターフェース。
+ *
+ * <p>このユースケースは、クライアントから提出されたリプレイをサーバー上で
+ * 再シミュレーションし、申告されたスコア・レベル・クリアライン数が
+ * 再シミュレーション結果と一致した場合のみスコアを保存します。</p>
+ *
+ * <h3>責務:</h3>
+ * <ul>
+ *   <li>提出を検証キューに投入し、呼び出しスレッドをブロックしない</li>
+ *   <li>ワーカープールでリプレイを並列に再シミュレーション</li>
+ *   <li>検証に成功したスコアをScoreRepositoryPortに保存</li>
+ *   <li>拒否理由とスループットの統計情報を提供</li>
+ * </ul>
+ *
+ * <h3>SaveScoreUseCaseとの違い:</h3>
+ * <p>{@link SaveScoreUseCase}は申告値をそのまま保存します。ランキングに掲載される
+ * スコアは、このユースケースを経由して保存してください。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public interface SubmitScoreUseCase {
+
+    /**
+     * スコアを提出します。
+     *
+     * <p>検証は非同期に行われ、結果は返却されたCompletableFutureで通知されます。
+     * 検証キューが満杯の場合は、{@code QUEUE_FULL}で拒否された結果が即座に返されます。</p>
+     *
+     * @param submission リプレイ付きのスコア提出
+     * @return 検証結果（受理された場合は保存済みスコアを含む）
+     * @throws NullPointerException submissionがnullの場合
+     */
+    CompletableFuture<ScoreVerificationResultDTO> submit(ScoreSubmissionDTO submission);
+
+    /**
+     * 検証の統計情報を取得します。
+     *
+     * @return 統計情報
+     */
+    ScoreVerificationMetricsDTO metrics();
+}
@@ -0,0 +1,287 @@
+package com.example.tetris.application.usecase;
+
+import com.example.tetris.application.dto.ScoreDTO;
+import com.example.tetris.application.dto.ScoreSubmissionDTO;
+import com.example.tetris.application.dto.ScoreVerificationMetricsDTO;
+import com.example.tetris.application.dto.ScoreVerificationResultDTO;
+import com.example.tetris.application.port.ScoreRepositoryPort;
+import com.example.tetris.application.session.ReplayUnavailableException;
+import com.example.tetris.application.verification.ReplayScoreVerifier;
+import com.example.tetris.application.verification.ScoreRejectionReason;
+import com.example.tetris.application.verification.ScoreVerificationMetrics;
+import com.example.tetris.domain.Score;
+import com.example.tetris.domain.replay.Replay;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SubmitScoreUseCaseの実装クラス。
+ *
+ * <p>このクラスは、固定サイズのワーカープールと有界の検証キューを持ち、
+ * 提出されたセッションの入力ログを並列に再シミュレーションします。</p>
+ *
+ * <h3>処理フロー:</h3>
+ * <ol>
+ *   <li>同じセッションの提出が検証中の場合は即座にDUPLICATE_SUBMISSIONで拒否</li>
+ *   <li>提出を検証キューに投入（満杯の場合は即座にQUEUE_FULLで拒否）</li>
+ *   <li>ワーカーがサーバーの記録したセッションの入力ログを取得（クライアントのリプレイは照合のみに使用）。
+ *       スナップショットから復元したセッションは入力ログがないため、検証せずにREPLAY_UNAVAILABLEで拒否</li>
+ *   <li>ReplayScoreVerifierで再シミュレーションし、申告値と照合</li>
+ *   <li>一致した場合のみセッションを破棄し（同じゲームの再提出を防ぐ）、
+ *       Scoreドメインモデルを生成してScoreRepositoryPortに保存</li>
+ *   <li>検証結果をCompletableFutureで通知</li>
+ * </ol>
+ *
+ * <p>入力ログの乱数シードと各操作はサーバーが記録したものであるため、クライアントが有利なシードを
+ * 探したり、オフラインでプレイしたリプレイを提出したりすることはできません。</p>
+ *
+ * <h3>スループット:</h3>
+ * <ul>
+ *   <li>ワーカー数はデフォルトで利用可能なCPUコア数</li>
+ *   <li>再シミュレーションはドメインモデルのみを使用し、ワーカー間で共有状態を持たない</li>
+ *   <li>統計情報のカウンターはLongAdderで競合なく加算</li>
+ * </ul>
+ *
+ * <h3>ライフサイクル:</h3>
+ * <p>{@link #close()}でワーカープールを停止します。Springコンテナ終了時には
+ * 自動的に呼び出されます。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+@Component
+public class SubmitScoreUseCaseImpl implements SubmitScoreUseCase, AutoCloseable {
+
+    /**
+     * 検証キューのデフォルト容量。
+     */
+    private static final int DEFAULT_QUEUE_CAPACITY = 4096;
+
+    /**
+     * 1リプレイあたりの最大操作数（1時間のプレイで想定される操作数の十分な上限）。
+     */
+    private static final int MAX_REPLAY_COMMANDS = 1_000_000;
+
+    /**
+     * Base64エンコードされたリプレイの最大文字数。
+     */
+    private static final int MAX_REPLAY_BASE64_LENGTH = 4 * 1024 * 1024;
+
+    private final ScoreRepositoryPort scoreRepositoryPort;
+    private final ApplyCommandsUseCase sessions;
+
+    /**
+     * 検証中の提出のセッションID。
+     */
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final ReplayScoreVerifier verifier = new ReplayScoreVerifier(MAX_REPLAY_COMMANDS);
+    private final ScoreVerificationMetrics metrics = new ScoreVerificationMetrics();
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * コンストラクタインジェクション。
+     *
+     * <p>ワーカー数は利用可能なCPUコア数、検証キュー容量は{@value #DEFAULT_QUEUE_CAPACITY}件です。</p>
+     *
+     * @param scoreRepositoryPort スコアリポジトリポート
+     * @param sessions 提出されたセッションの入力ログを記録しているユースケース
+     */
+    @Autowired
+    public SubmitScoreUseCaseImpl(ScoreRepositoryPort scoreRepositoryPort, ApplyCommandsUseCase sessions) {
+        this(scoreRepositoryPort, sessions, Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * ワーカー数と検証キュー容量を指定するコンストラクタ。
+     *
+     * @param scoreRepositoryPort スコアリポジトリポート
+     * @param sessions 提出されたセッションの入力ログを記録しているユースケース
+     * @param workers ワーカースレッド数（1以上）
+     * @param queueCapacity 検証キュー容量（1以上）
+     * @throws IllegalArgumentException workersまたはqueueCapacityが1未満の場合
+     */
+    public SubmitScoreUseCaseImpl(ScoreRepositoryPort scoreRepositoryPort, ApplyCommandsUseCase sessions,
+                                  int workers, int queueCapacity) {
+        this.scoreRepositoryPort = Objects.requireNonNull(scoreRepositoryPort, "scoreRepositoryPort must not be null");
+        this.sessions = Objects.requireNonNull(sessions, "sessions must not be null");
+        if (workers < 1) {
+            throw new IllegalArgumentException("workers must be at least 1");
+        }
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("queueCapacity must be at least 1");
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workers,
+                workers,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "score-verifier-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Override
+    public CompletableFuture<ScoreVerificationResultDTO> submit(ScoreSubmissionDTO submission) {
+        Objects.requireNonNull(submission, "submission must not be null");
+        metrics.recordSubmitted();
+        String sessionId = submission.sessionId();
+        if (sessionId == null || sessionId.isEmpty()) {
+            return CompletableFuture.completedFuture(reject(ScoreRejectionReason.UNKNOWN_SESSION));
+        }
+        if (!inFlight.add(sessionId)) {
+            return CompletableFuture.completedFuture(reject(ScoreRejectionReason.DUPLICATE_SUBMISSION));
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(() -> verifyAndSave(submission), executor)
+                    .whenComplete((result, error) -> inFlight.remove(sessionId));
+        } catch (RejectedExecutionException e) {
+            // 検証キューが満杯（またはシャットダウン済み）の場合は呼び出し元をブロックせずに拒否
+            inFlight.remove(sessionId);
+            return CompletableFuture.completedFuture(reject(ScoreRejectionReason.QUEUE_FULL));
+        }
+    }
+
+    @Override
+    public ScoreVerificationMetricsDTO metrics() {
+        return metrics.snapshot(executor.getQueue().size(), executor.getMaximumPoolSize());
+    }
+
+    /**
+     * ワーカープールを停止します。
+     *
+     * <p>検証キューに残っている提出は処理されず、新規の提出はQUEUE_FULLで拒否されます。</p>
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * ワーカースレッド上で提出を検証し、成功した場合はスコアを保存します。
+     *
+     * @param submission リプレイ付きのスコア提出
+     * @return 検証結果
+     */
+    private ScoreVerificationResultDTO verifyAndSave(ScoreSubmissionDTO submission) {
+        // 1. サーバーが記録した入力ログの取得と、クライアントのリプレイとの照合
+        Replay replay;
+        try {
+            replay = findReplay(submission.sessionId());
+        } catch (ReplayUnavailableException e) {
+            // スナップショットから復元したセッションは開始からの入力ログがなく、再シミュレーションできない
+            return reject(ScoreRejectionReason.REPLAY_UNAVAILABLE);
+        }
+        if (replay == null) {
+            return reject(ScoreRejectionReason.UNKNOWN_SESSION);
+        }
+        if (submission.replay() != null) {
+            if (submission.replay().length() > MAX_REPLAY_BASE64_LENGTH) {
+                return reject(ScoreRejectionReason.REPLAY_TOO_LARGE);
+            }
+            Replay submitted = decodeReplay(submission.replay());
+            if (submitted == null) {
+                return reject(ScoreRejectionReason.MALFORMED_REPLAY);
+            }
+            if (!submitted.equals(replay)) {
+                return reject(ScoreRejectionReason.REPLAY_MISMATCH);
+            }
+        }
+
+        // 2. 再シミュレーションと申告値の照合
+        long startNanos = System.nanoTime();
+        Optional<ScoreRejectionReason> rejection = verifier.verify(
+                replay,
+                submission.score(),
+                submission.level(),
+                submission.totalLinesCleared()
+        );
+        metrics.recordVerification(System.nanoTime() - startNanos, replay.commandCount());
+        if (rejection.isPresent()) {
+            return reject(rejection.get());
+        }
+
+        // 3. 同じゲームを再提出できないようにセッションを破棄し、検証済みスコアを保存
+        sessions.removeSession(submission.sessionId());
+        Score savedScore = scoreRepositoryPort.save(Score.create(
+                submission.score(),
+                submission.level(),
+                submission.totalLinesCleared(),
+                LocalDateTime.now()
+        ));
+        metrics.recordAccepted();
+
+        return ScoreVerificationResultDTO.accepted(new ScoreDTO(
+                savedScore.id(),
+                savedScore.score(),
+                savedScore.level(),
+                savedScore.totalLinesCleared(),
+                savedScore.timestamp()
+        ));
+    }
+
+    /**
+     * サーバーが記録したセッションの入力ログを取得します。
+     *
+     * @param sessionId セッションID
+     * @return 入力ログ（セッションが存在しない、またはセッションIDが不正な場合はnull）
+     * @throws ReplayUnavailableException セッションはスナップショットから復元したため入力ログがない場合
+     */
+    private Replay findReplay(String sessionId) {
+        try {
+            return sessions.findReplay(sessionId).orElse(null);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Base64エンコードされたリプレイを復元します。
+     *
+     * @param encoded Base64エンコードされたリプレイ
+     * @return 復元されたReplay（不正な形式の場合はnull）
+     */
+    private Replay decodeReplay(String encoded) {
+        if (encoded == null || encoded.isEmpty()) {
+            return null;
+        }
+        try {
+            return Replay.fromBytes(Base64.getDecoder().decode(encoded));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 拒否を記録し、拒否された検証結果を返します。
+     *
+     * @param reason 拒否理由
+     * @return 拒否された検証結果
+     */
+    private ScoreVerificationResultDTO reject(ScoreRejectionReason reason) {
+        metrics.recordRejected(reason);
+        return ScoreVerificationResultDTO.rejected(reason);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.tetris.application.verification;
+
+import com.example.tetris.domain.GameState;
+import com.example.tetris.domain.GameStatus;
+import com.example.tetris.domain.replay.Replay;
+import com.example.tetris.domain.replay.ReplayCursor;
+import com.example.tetris.domain.replay.ReplayEngine;
+
+import java.util.Optional;
+
+/**
+ * リプレイを再シミュレーションして申告スコアを検証するクラス。
+ *
+ * <p>ReplayScoreVerifierは状態を持たず、複数のワーカースレッドから同時に使用できます。
+ * 再シミュレーションはドメインモデル（{@link GameState}）をそのまま使用するため、
+ * サーバー上のゲームと同一のルールで判定されます。</p>
+ *
+ * <h3>検証内容（この順で判定）：</h3>
+ * <ol>
+ *   <li>操作数が上限以下であること</li>
+ *   <li>入力ログが最後までデコードできること</li>
+ *   <li>最終状態がゲームオーバーであること</li>
+ *   <li>スコア・レベル・クリアライン数が申告値と一致すること</li>
+ * </ol>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class ReplayScoreVerifier {
+
+    /**
+     * 1リプレイあたりの最大操作数。
+     */
+    private final int maxCommands;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param maxCommands 1リプレイあたりの最大操作数（1以上）
+     * @throws IllegalArgumentException maxCommandsが1未満の場合
+     */
+    public ReplayScoreVerifier(int maxCommands) {
+        if (maxCommands < 1) {
+            throw new IllegalArgumentException("maxCommands must be at least 1");
+        }
+        this.maxCommands = maxCommands;
+    }
+
+    /**
+     * リプレイを再シミュレーションし、申告値と照合します。
+     *
+     * @param replay 検証するリプレイ
+     * @param score 申告スコア
+     * @param level 申告レベル
+     * @param totalLinesCleared 申告累計クリア済みライン数
+     * @return 拒否理由（検証に成功した場合は空）
+     * @throws NullPointerException replayがnullの場合
+     */
+    public Optional<ScoreRejectionReason> verify(Replay replay, int score, int level, int totalLinesCleared) {
+        if (replay == null) {
+            throw new NullPointerException("replay must not be null");
+        }
+        if (replay.commandCount() > maxCommands) {
+            return Optional.of(ScoreRejectionReason.REPLAY_TOO_LARGE);
+        }
+
+        GameState state;
+        try {
+            state = ReplayEngine.initialState(replay);
+            ReplayCursor cursor = replay.cursor();
+            while (cursor.advance()) {
+                // ゲームオーバー後の操作はGameState自体が何もしない
+                state = cursor.command().apply(state);
+            }
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            return Optional.of(ScoreRejectionReason.MALFORMED_REPLAY);
+        }
+
+        if (state.status() != GameStatus.GAME_OVER) {
+            return Optional.of(ScoreRejectionReason.GAME_NOT_OVER);
+        }
+        if (state.score() != score) {
+            return Optional.of(ScoreRejectionReason.SCORE_MISMATCH);
+        }
+        if (state.level() != level) {
+            return Optional.of(ScoreRejectionReason.LEVEL_MISMATCH);
+        }
+        if (state.totalLinesCleared() != totalLinesCleared) {
+            return Optional.of(ScoreRejectionReason.LINES_MISMATCH);
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.tetris.application.verification;
+
+/**
+ * スコア提出が拒否された理由を表す列挙型。
+ *
+ * <p>リプレイの再シミュレーション結果と申告値の不一致だけでなく、
+ * 検証キューの飽和など検証を実行できなかった理由も含みます。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public enum ScoreRejectionReason {
+    /**
+     * 提出されたセッションにサーバーが記録した入力ログがない（存在しない、または提出済み）。
+     */
+    UNKNOWN_SESSION,
+
+    /**
+     * 提出されたセッションはスナップショットから復元したため、ゲーム開始からの入力ログがなく検証できない。
+     */
+    REPLAY_UNAVAILABLE,
+
+    /**
+     * 同じセッションの提出が検証中である。
+     */
+    DUPLICATE_SUBMISSION,
+
+    /**
+     * 提出されたリプレイがサーバーが記録した入力ログと一致しない。
+     */
+    REPLAY_MISMATCH,
+
+    /**
+     * リプレイがデコードできない、または入力ログが破損している。
+     */
+    MALFORMED_REPLAY,
+
+    /**
+     * リプレイのサイズまたは操作数が上限を超えている。
+     */
+    REPLAY_TOO_LARGE,
+
+    /**
+     * リプレイの再シミュレーション結果がゲームオーバーに到達していない。
+     */
+    GAME_NOT_OVER,
+
+    /**
+     * 申告スコアが再シミュレーション結果と一致しない。
+     */
+    SCORE_MISMATCH,
+
+    /**
+     * 申告レベルが再シミュレーション結果と一致しない。
+     */
+    LEVEL_MISMATCH,
+
+    /**
+     * 申告クリアライン数が再シミュレーション結果と一致しない。
+     */
+    LINES_MISMATCH,
+
+    /**
+     * 検証キューが満杯のため受け付けられなかった。
+     */
+    QUEUE_FULL
+}
@@ -0,0 +1,133 @@
+package com.example.tetris.application.verification;
+
+import com.example.tetris.application.dto.ScoreVerificationMetricsDTO;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * スコア検証の統計情報を集計するクラス。
+ *
+ * <p>カウンターには{@link LongAdder}を使用するため、複数のワーカースレッドから
+ * 競合なく加算できます。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class ScoreVerificationMetrics {
+
+    /**
+     * 集計開始時刻（{@link System#nanoTime()}）。
+     */
+    private final long startNanos = System.nanoTime();
+
+    /**
+     * 提出件数。
+     */
+    private final LongAdder submitted = new LongAdder();
+
+    /**
+     * 受理件数。
+     */
+    private final LongAdder accepted = new LongAdder();
+
+    /**
+     * 拒否理由ごとの件数。
+     */
+    private final Map<ScoreRejectionReason, LongAdder> rejections = new EnumMap<>(ScoreRejectionReason.class);
+
+    /**
+     * 再シミュレーションに要した累計時間（ナノ秒）。
+     */
+    private final LongAdder verificationNanos = new LongAdder();
+
+    /**
+     * 再シミュレーションの実行件数。
+     */
+    private final LongAdder verifications = new LongAdder();
+
+    /**
+     * 再シミュレーションした累計操作数。
+     */
+    private final LongAdder simulatedCommands = new LongAdder();
+
+    /**
+     * コンストラクタ。
+     */
+    public ScoreVerificationMetrics() {
+        for (ScoreRejectionReason reason : ScoreRejectionReason.values()) {
+            rejections.put(reason, new LongAdder());
+        }
+    }
+
+    /**
+     * 提出を記録します。
+     */
+    public void recordSubmitted() {
+        submitted.increment();
+    }
+
+    /**
+     * 再シミュレーションの実行を記録します。
+     *
+     * @param elapsedNanos 再シミュレーションに要した時間（ナノ秒）
+     * @param commandCount 再シミュレーションした操作数
+     */
+    public void recordVerification(long elapsedNanos, int commandCount) {
+        verifications.increment();
+        verificationNanos.add(elapsedNanos);
+        simulatedCommands.add(commandCount);
+    }
+
+    /**
+     * 受理を記録します。
+     */
+    public void recordAccepted() {
+        accepted.increment();
+    }
+
+    /**
+     * 拒否を記録します。
+     *
+     * @param reason 拒否理由
+     */
+    public void recordRejected(ScoreRejectionReason reason) {
+        rejections.get(reason).increment();
+    }
+
+    /**
+     * 現在の統計情報のスナップショットを返します。
+     *
+     * @param queueDepth 検証待ちの件数
+     * @param workers ワーカースレッド数
+     * @return 統計情報
+     */
+    public ScoreVerificationMetricsDTO snapshot(int queueDepth, int workers) {
+        Map<String, Long> byReason = new LinkedHashMap<>();
+        long rejectedTotal = 0;
+        for (Map.Entry<ScoreRejectionReason, LongAdder> entry : rejections.entrySet()) {
+            long count = entry.getValue().sum();
+            byReason.put(entry.getKey().name(), count);
+            rejectedTotal += count;
+        }
+
+        long verified = verifications.sum();
+        long busyNanos = verificationNanos.sum();
+        double elapsedSeconds = Math.max(1L, System.nanoTime() - startNanos) / 1_000_000_000.0;
+
+        return new ScoreVerificationMetricsDTO(
+                submitted.sum(),
+                accepted.sum(),
+                rejectedTotal,
+                byReason,
+                queueDepth,
+                workers,
+                verified == 0 ? 0.0 : busyNanos / 1_000.0 / verified,
+                verified / elapsedSeconds,
+                busyNanos == 0 ? 0.0 : simulatedCommands.sum() / (busyNanos / 1_000_000_000.0)
+        );
+    }
+}
@@ -9,10 +9,15 @@ package com.example.tetris.domain;
  * <h3>不変性（Immutability）：</h3>
  * <p>Blockは不変オブジェクトです。一度作成されたら変更できません。</p>
  *
+ * <h3>共有インスタンス：</h3>
+ * <p>Blockは型のみを保持するため、{@link #of(TetrominoType)}は型ごとに共有された
+ * インスタンスを返します。{@link GameField}はセルを型コードとして保持し、
+ * Blockが必要な場合にのみ共有インスタンスを返します。</p>
+ *
  * <h3>使用例：</h3>
  * <pre>{@code
- * // I型テトリミノのブロックを生成
- * Block block = new Block(TetrominoType.I);
+ * // I型テトリミノのブロックを取得
+ * Block block = Block.of(TetrominoType.I);
  *
  * // ブロックの型を取得（色情報として使用）
  * TetrominoType type = block.type();
@@ -30,4 +35,34 @@ public record Block(TetrominoType type) {
     // - public boolean equals(Object o)
     // - public int hashCode()
     // - public String toString()
+
+    /**
+     * 型ごとの共有インスタンス（インデックスはTetrominoTypeのordinal）。
+     */
+    private static final Block[] INSTANCES = createInstances();
+
+    /**
+     * 指定された型の共有インスタンスを返します。
+     *
+     * @param type テトリミノの種類
+     * @return 型ごとに共有されたBlock
+     * @throws NullPointerException typeがnullの場合
+     */
+    public static Block of(TetrominoType type) {
+        return INSTANCES[type.ordinal()];
+    }
+
+    /**
+     * 型ごとの共有インスタンスを生成します。
+     *
+     * @return 型ごとのBlock
+     */
+    private static Block[] createInstances() {
+        TetrominoType[] types = TetrominoType.values();
+        Block[] instances = new Block[types.length];
+        for (TetrominoType type : types) {
+            instances[type.ordinal()] = new Block(type);
+        }
+        return instances;
+    }
 }
@@ -0,0 +1,44 @@
+package com.example.tetris.domain;
+
+import java.util.List;
+
+/**
+ * 操作列を一括適用した結果を表す不変レコードクラス。
+ *
+ * @param state すべての操作を適用した後のGameState
+ * @param accepted 操作ごとの受理フラグ（操作列と同じ順序、状態を変化させた操作はtrue）
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see GameState#applyAll(List)
+ */
+public record CommandBatchResult(GameState state, List<Boolean> accepted) {
+
+    /**
+     * コンパクトコンストラクタ。
+     *
+     * @throws NullPointerException stateまたはacceptedがnullの場合
+     */
+    public CommandBatchResult {
+        if (state == null) {
+            throw new NullPointerException("state must not be null");
+        }
+        accepted = List.copyOf(accepted);
+    }
+
+    /**
+     * 受理された操作の数を返します。
+     *
+     * @return 受理された操作の数
+     */
+    public int acceptedCount() {
+        int count = 0;
+        for (Boolean flag : accepted) {
+            if (flag) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
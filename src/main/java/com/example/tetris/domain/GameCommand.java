@@ -0,0 +1,143 @@
+package com.example.tetris.domain;
+
+/**
+ * GameStateに適用できるプレイヤー操作・システム操作を表す列挙型。
+ *
+ * <p>GameCommandは、入力ログの記録とリプレイ再生で使用される操作の単位です。
+ * 各操作は{@link #apply(GameState)}で対応するGameStateのメソッドを呼び出します。</p>
+ *
+ * <h3>操作の種類：</h3>
+ * <ul>
+ *   <li>MOVE_LEFT: 左移動</li>
+ *   <li>MOVE_RIGHT: 右移動</li>
+ *   <li>MOVE_DOWN: 下移動（ソフトドロップ）</li>
+ *   <li>ROTATE: 時計回り回転</li>
+ *   <li>HARD_DROP: ハードドロップ</li>
+ *   <li>AUTO_DROP: 自動落下（重力）</li>
+ *   <li>ROTATE_CCW: 反時計回り回転</li>
+ * </ul>
+ *
+ * <h3>コード値：</h3>
+ * <p>各操作は3ビットに収まる固定のコード値を持ちます。コード値はリプレイの
+ * バイナリ形式で使用されるため、既存の値を変更してはいけません。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public enum GameCommand {
+    /**
+     * 左移動。
+     */
+    MOVE_LEFT(0),
+
+    /**
+     * 右移動。
+     */
+    MOVE_RIGHT(1),
+
+    /**
+     * 下移動（ソフトドロップ）。
+     */
+    MOVE_DOWN(2),
+
+    /**
+     * 時計回り回転。
+     */
+    ROTATE(3),
+
+    /**
+     * ハードドロップ。
+     */
+    HARD_DROP(4),
+
+    /**
+     * 自動落下（重力による1ティック分の落下）。
+     */
+    AUTO_DROP(5),
+
+    /**
+     * 反時計回り回転。
+     */
+    ROTATE_CCW(6);
+
+    /**
+     * コード値からGameCommandへの変換表。
+     */
+    private static final GameCommand[] BY_CODE = new GameCommand[8];
+
+    static {
+        for (GameCommand command : values()) {
+            BY_CODE[command.code] = command;
+        }
+    }
+
+    /**
+     * バイナリ形式で使用するコード値（0-7）。
+     */
+    private final int code;
+
+    GameCommand(int code) {
+        this.code = code;
+    }
+
+    /**
+     * バイナリ形式で使用するコード値を返します。
+     *
+     * @return コード値（0-7）
+     */
+    public int code() {
+        return code;
+    }
+
+    /**
+     * コード値に対応するGameCommandを返します。
+     *
+     * @param code コード値
+     * @return 対応するGameCommand
+     * @throws IllegalArgumentException 対応するGameCommandが存在しない場合
+     */
+    public static GameCommand fromCode(int code) {
+        GameCommand command = (code >= 0 && code < BY_CODE.length) ? BY_CODE[code] : null;
+        if (command == null) {
+            throw new IllegalArgumentException("Unknown command code: " + code);
+        }
+        return command;
+    }
+
+    /**
+     * 移動方向に対応するGameCommandを返します。
+     *
+     * @param direction 移動方向
+     * @return 対応する移動操作
+     * @throws NullPointerException directionがnullの場合
+     */
+    public static GameCommand move(Direction direction) {
+        if (direction == null) {
+            throw new NullPointerException("direction must not be null");
+        }
+        return switch (direction) {
+            case LEFT -> MOVE_LEFT;
+            case RIGHT -> MOVE_RIGHT;
+            case DOWN -> MOVE_DOWN;
+        };
+    }
+
+    /**
+     * この操作をGameStateに適用します。
+     *
+     * @param state 操作を適用するGameState
+     * @return 操作適用後のGameState（操作が無効な場合は元のGameState）
+     */
+    public GameState apply(GameState state) {
+        return switch (this) {
+            case MOVE_LEFT -> state.moveTetromino(Direction.LEFT);
+            case MOVE_RIGHT -> state.moveTetromino(Direction.RIGHT);
+            case MOVE_DOWN -> state.moveTetromino(Direction.DOWN);
+            case ROTATE -> state.rotateTetromino();
+            case HARD_DROP -> state.hardDrop();
+            case AUTO_DROP -> state.processAutoDropTick();
+            case ROTATE_CCW -> state.rotateTetrominoCounterclockwise();
+        };
+    }
+}
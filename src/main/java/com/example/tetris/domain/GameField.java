@@ -1,7 +1,12 @@
 package com.example.tetris.domain;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
 /**
- * 10×20のゲームフィールドを表す不変レコードクラス。
+ * 10×20のゲームフィールドを表す不変クラス。
  *
  * <p>GameFieldは、テトリスゲームのプレイフィールドの状態を管理します。
  * フィールドの各セルは、{@link Block}または null（空）の状態を持ちます。</p>
@@ -15,29 +20,25 @@ package com.example.tetris.domain;
  *   <li>Block: 占有されたセル</li>
  * </ul>
  *
+ * <h3>セルの表現：</h3>
+ * <p>各セルは3ビットの型コード（0=空、1-7={@link TetrominoType}のordinal+1）として、
+ * 1行10セルを1つのintに詰めて保持します（セルxはビット3x〜3x+2）。盤面全体はint 20個で、
+ * Blockオブジェクトを保持しません。{@link #grid()}・{@link #blockAt(int, int)}が返すBlockは
+ * 型ごとに共有されたインスタンス（{@link Block#of(TetrominoType)}）です。</p>
+ *
  * <h3>不変性（Immutability）：</h3>
  * <p>GameFieldは不変オブジェクトです。フィールドの変更は新しいGameFieldインスタンスを返します。</p>
  *
- * @param grid 10×20のブロック配列（null=空、Block=占有）
+ * <h3>Zobristハッシュ：</h3>
+ * <p>GameFieldはセルの占有状態の{@link Zobrist}ハッシュ値を保持します。ハッシュ値は
+ * {@link #place(Tetromino)}と{@link #clearLines()}で変化したセル・行の分だけ差分更新されます。
+ * {@link #equals(Object)}はハッシュ値が異なる場合にセルを比較せずにfalseを返します。</p>
+ *
  * @author AI-DLC Development Team
  * @version 1.0.0
  * @since 2025-11-27
  */
-public record GameField(Block[][] grid) {
-    /**
-     * Compact constructor: 防御的コピーを行い、不変性を保証します。
-     *
-     * <p>外部から渡された配列を直接使用せず、ディープコピーを作成します。
-     * これにより、外部からの配列変更が内部状態に影響を与えないことを保証します。</p>
-     */
-    public GameField {
-        // ディープコピー: 各行を個別にコピー
-        Block[][] defensiveCopy = new Block[grid.length][];
-        for (int i = 0; i < grid.length; i++) {
-            defensiveCopy[i] = grid[i].clone();
-        }
-        grid = defensiveCopy;
-    }
+public final class GameField {
 
     /**
      * フィールドの幅（列数）。
@@ -49,6 +50,79 @@ public record GameField(Block[][] grid) {
      */
     public static final int HEIGHT = 20;
 
+    /**
+     * 1セルあたりのビット数。
+     */
+    private static final int CELL_BITS = 3;
+
+    /**
+     * 1セル分のビットマスク。
+     */
+    private static final int CELL_MASK = (1 << CELL_BITS) - 1;
+
+    /**
+     * 各セルの最下位ビット（セルの型コードの論理和をこのマスクで取ると占有セルのビットが残る）。
+     */
+    private static final int CELL_LOW_BITS = 0b001_001_001_001_001_001_001_001_001_001;
+
+    /**
+     * 1行分の有効なビット。
+     */
+    private static final int ROW_BITS = (1 << (CELL_BITS * WIDTH)) - 1;
+
+    /**
+     * 型コードからテトリミノ型への変換表。
+     */
+    private static final TetrominoType[] TYPES = TetrominoType.values();
+
+    /**
+     * 空のフィールド（不変のため共有）。
+     */
+    private static final GameField EMPTY = new GameField(new int[HEIGHT], 0L);
+
+    /**
+     * 行ごとのセルの型コード。
+     */
+    private final int[] rows;
+
+    /**
+     * セルの占有状態のZobristハッシュ値。
+     */
+    private final long zobristHash;
+
+    /**
+     * グリッドからハッシュ値を計算してGameFieldを生成します。
+     *
+     * <p>グリッドは型コードに変換されるため、外部からの配列変更は内部状態に影響しません。</p>
+     *
+     * @param grid 10×20のブロック配列（null=空、Block=占有）
+     * @throws IllegalArgumentException gridが20行×10列でない場合
+     */
+    public GameField(Block[][] grid) {
+        this(encode(grid));
+    }
+
+    /**
+     * 型コードの行からハッシュ値を計算してGameFieldを生成します。
+     *
+     * @param rows 行ごとのセルの型コード（所有権を受け取る）
+     */
+    private GameField(int[] rows) {
+        this(rows, hash(rows));
+    }
+
+    /**
+     * 型コードの行とハッシュ値からGameFieldを生成します。
+     *
+     * @param rows 行ごとのセルの型コード（所有権を受け取る）
+     * @param zobristHash セルの占有状態のZobristハッシュ値
+     */
+    private GameField(int[] rows, long zobristHash) {
+        this.rows = rows;
+        this.zobristHash = zobristHash;
+        assert zobristHash == hash(rows) : "zobristHash does not match grid";
+    }
+
     /**
      * 空のGameFieldを生成します。
      *
@@ -57,8 +131,82 @@ public record GameField(Block[][] grid) {
      * @return 空のGameFieldインスタンス
      */
     public static GameField createEmpty() {
-        Block[][] emptyGrid = new Block[HEIGHT][WIDTH];
-        return new GameField(emptyGrid);
+        return EMPTY;
+    }
+
+    /**
+     * 行ごとのセルの型コードからGameFieldを生成します（{@link #encodedRows()}の逆変換）。
+     *
+     * @param encodedRows 行ごとのセルの型コード（長さ{@link #HEIGHT}）
+     * @return 生成されたGameField
+     * @throws NullPointerException encodedRowsがnullの場合
+     * @throws IllegalArgumentException 長さが不正、またはフィールド外のビットがある場合
+     */
+    public static GameField fromEncodedRows(int[] encodedRows) {
+        if (encodedRows == null) {
+            throw new NullPointerException("encodedRows must not be null");
+        }
+        if (encodedRows.length != HEIGHT) {
+            throw new IllegalArgumentException("encodedRows must have " + HEIGHT + " rows: " + encodedRows.length);
+        }
+        // 3ビットの型コード1-7はすべてテトリミノ型に対応するため、フィールド外のビットのみ検証する
+        int[] copy = encodedRows.clone();
+        for (int y = 0; y < HEIGHT; y++) {
+            if ((copy[y] & ~ROW_BITS) != 0) {
+                throw new IllegalArgumentException("encoded row " + y + " has bits outside the field");
+            }
+        }
+        return new GameField(copy);
+    }
+
+    /**
+     * グリッド（ブロックの2次元配列）を返します。
+     *
+     * <p>呼び出しごとに新しい配列を生成します。戻り値を変更してもこのGameFieldには影響しません。</p>
+     *
+     * @return 10×20のブロック配列（null=空、Block=占有）
+     */
+    public Block[][] grid() {
+        Block[][] grid = new Block[HEIGHT][WIDTH];
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                grid[y][x] = block(code(rows[y], x));
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * セルの占有状態のZobristハッシュ値を返します。
+     *
+     * @return Zobristハッシュ値
+     */
+    public long zobristHash() {
+        return zobristHash;
+    }
+
+    /**
+     * 指定された座標のブロックを返します。
+     *
+     * @param x x座標（0-9）
+     * @param y y座標（0-19）
+     * @return ブロック（空のセルはnull）
+     * @throws IndexOutOfBoundsException 座標がフィールド外の場合
+     */
+    public Block blockAt(int x, int y) {
+        Objects.checkIndex(x, WIDTH);
+        return block(code(rows[y], x));
+    }
+
+    /**
+     * 行ごとのセルの型コードを返します。
+     *
+     * <p>セルxの型コードはビット3x〜3x+2にあり、0は空、1-7は{@link TetrominoType}のordinal+1です。</p>
+     *
+     * @return 行ごとのセルの型コード（長さ{@link #HEIGHT}、コピー）
+     */
+    public int[] encodedRows() {
+        return rows.clone();
     }
 
     /**
@@ -74,7 +222,7 @@ public record GameField(Block[][] grid) {
             return false;
         }
         // セルが占有されているかチェック
-        return grid[y][x] != null;
+        return code(rows[y], x) != 0;
     }
 
     /**
@@ -103,6 +251,133 @@ public record GameField(Block[][] grid) {
         return true;
     }
 
+    /**
+     * テトリミノが現在の位置から落下できる行数（落下距離）を求めます。
+     *
+     * <p>テトリミノの各ブロックについて、同じ列で直下にある最初の占有セル（または床）までの
+     * 空きセル数を求め、その最小値を返します。1行ずつ{@link #canPlace(Tetromino)}を
+     * 試す場合と同じ結果を、落下距離に依存しない回数の判定で求められます。</p>
+     *
+     * <p>現在の位置で配置できないテトリミノ（ゲームオーバー時など）は、
+     * 1行ずつ判定した場合と結果を一致させるため、1行ずつ判定します。</p>
+     *
+     * @param tetromino 対象のテトリミノ
+     * @return 落下できる行数
+     */
+    public int dropDistance(Tetromino tetromino) {
+        if (!canPlace(tetromino)) {
+            int distance = 0;
+            for (Tetromino moved = tetromino.moveDown(); canPlace(moved); moved = moved.moveDown()) {
+                distance++;
+            }
+            return distance;
+        }
+
+        int distance = HEIGHT;
+        for (Position blockPos : tetromino.getBlockPositions()) {
+            int x = blockPos.x();
+            int y = blockPos.y() + 1;
+            while (y < HEIGHT && code(rows[y], x) == 0 && y - blockPos.y() <= distance) {
+                y++;
+            }
+            distance = Math.min(distance, y - blockPos.y() - 1);
+        }
+        return distance;
+    }
+
+    /**
+     * 各列の高さ（最上段の占有セルから床までの行数）を求めます。
+     *
+     * @return 列ごとの高さ（長さ{@link #WIDTH}、空の列は0）
+     */
+    public int[] columnHeights() {
+        int[] heights = columnTops();
+        for (int x = 0; x < WIDTH; x++) {
+            heights[x] = HEIGHT - heights[x];
+        }
+        return heights;
+    }
+
+    /**
+     * 各行の占有状態をビットマスクに変換します。
+     *
+     * <p>戻り値は{@link com.example.tetris.domain.rows.RowKernel}の入力として使用できます。</p>
+     *
+     * @return 行ごとの占有マスク（長さ{@link #HEIGHT}、ビットxが1の場合x列が占有）
+     */
+    public int[] rowMasks() {
+        int[] masks = new int[HEIGHT];
+        for (int y = 0; y < HEIGHT; y++) {
+            masks[y] = occupancy(rows[y]);
+        }
+        return masks;
+    }
+
+    /**
+     * テトリミノを真上から落としたときのすべての着地位置を求めます。
+     *
+     * <p>向き×x座標ごとに{@link #canPlace(Tetromino)}と{@link #dropDistance(Tetromino)}を試す代わりに、
+     * 事前計算した型×向きごとの列の底（{@link LandingTable}）と各列の最上段の占有行から、
+     * 着地位置を列ごとの最小値として一度に求めます。内側のループはx座標について
+     * 分岐のない最小値計算のため、JITによるベクトル化の対象になります。</p>
+     *
+     * <p>段差の下への差し込み（タック）や壁蹴りでしか到達できない位置は含みません。
+     * 占有セルが同一になる向き（O型の回転違いなど）は1つにまとめられます。
+     * フィールドの上端からはみ出す位置は含みません。</p>
+     *
+     * @param type テトリミノ型
+     * @return 着地位置のテトリミノのリスト（向き、x座標の昇順）
+     * @throws NullPointerException typeがnullの場合
+     */
+    public List<Tetromino> landingPlacements(TetrominoType type) {
+        if (type == null) {
+            throw new NullPointerException("type must not be null");
+        }
+
+        int[] tops = columnTops();
+        int[] landing = new int[WIDTH];
+        List<Tetromino> placements = new ArrayList<>(WIDTH * Rotation.values().length);
+        for (Rotation rotation : LandingTable.distinctRotations(type)) {
+            int[] bottoms = LandingTable.bottoms(type, rotation);
+            int positions = WIDTH - bottoms.length + 1;
+
+            // 着地位置 = 列ごとの（最上段の占有行 - 1 - 列の底）の最小値
+            Arrays.fill(landing, 0, positions, Integer.MAX_VALUE);
+            for (int column = 0; column < bottoms.length; column++) {
+                int bottom = bottoms[column];
+                for (int p = 0; p < positions; p++) {
+                    landing[p] = Math.min(landing[p], tops[p + column] - 1 - bottom);
+                }
+            }
+
+            int minDx = LandingTable.minDx(type, rotation);
+            int minDy = LandingTable.minDy(type, rotation);
+            for (int p = 0; p < positions; p++) {
+                if (landing[p] + minDy >= 0) {
+                    placements.add(new Tetromino(type, new Position(p - minDx, landing[p]), rotation));
+                }
+            }
+        }
+        return placements;
+    }
+
+    /**
+     * 各列の最上段の占有行を求めます。
+     *
+     * @return 列ごとの最上段の占有行（空の列は{@link #HEIGHT}）
+     */
+    private int[] columnTops() {
+        int[] tops = new int[WIDTH];
+        for (int x = 0; x < WIDTH; x++) {
+            int y = 0;
+            while (y < HEIGHT && code(rows[y], x) == 0) {
+                y++;
+            }
+            tops[x] = y;
+        }
+        return tops;
+    }
+
     /**
      * テトリミノをフィールドに固定します。
      *
@@ -110,20 +385,23 @@ public record GameField(Block[][] grid) {
      * @return テトリミノが固定された新しいGameField
      */
     public GameField place(Tetromino tetromino) {
-        // 新しいグリッドを作成（ディープコピー）
-        Block[][] newGrid = new Block[HEIGHT][WIDTH];
-        for (int y = 0; y < HEIGHT; y++) {
-            System.arraycopy(grid[y], 0, newGrid[y], 0, WIDTH);
-        }
+        int[] newRows = rows.clone();
+        int typeCode = tetromino.type().ordinal() + 1;
 
-        // テトリミノの各ブロックを新しいグリッドに配置
+        // テトリミノの各ブロックを配置（ハッシュ値は空きセルが埋まった分だけ更新）
+        long newHash = zobristHash;
         for (Position blockPos : tetromino.getBlockPositions()) {
             int x = blockPos.x();
             int y = blockPos.y();
-            newGrid[y][x] = new Block(tetromino.type());
+            Objects.checkIndex(x, WIDTH);
+            if (code(newRows[y], x) == 0) {
+                newHash ^= Zobrist.cellKey(x, y);
+            }
+            int shift = CELL_BITS * x;
+            newRows[y] = (newRows[y] & ~(CELL_MASK << shift)) | (typeCode << shift);
         }
 
-        return new GameField(newGrid);
+        return new GameField(newRows, newHash);
     }
 
     /**
@@ -132,52 +410,174 @@ public record GameField(Block[][] grid) {
      * @return ライン消去後のGameFieldと消去ライン数を含むClearResult
      */
     public ClearResult clearLines() {
-        // 完全に埋まっているラインを検出
-        java.util.List<Integer> linesToClear = new java.util.ArrayList<>();
-        for (int y = 0; y < HEIGHT; y++) {
-            if (isLineFull(y)) {
-                linesToClear.add(y);
+        int[] newRows = null;
+        long newHash = zobristHash;
+        int cleared = 0;
+
+        // 下の行から順に、埋まった行を除いて下に詰める（ハッシュ値は消去・移動した行の分だけ更新）
+        int newY = HEIGHT - 1;
+        for (int oldY = HEIGHT - 1; oldY >= 0; oldY--) {
+            int row = rows[oldY];
+            if (isLineFull(row)) {
+                if (newRows == null) {
+                    newRows = new int[HEIGHT];
+                    System.arraycopy(rows, oldY + 1, newRows, oldY + 1, HEIGHT - oldY - 1);
+                }
+                newHash ^= Zobrist.row(occupancy(row), oldY);
+                cleared++;
+                continue;
+            }
+            if (newRows != null) {
+                newRows[newY] = row;
+                if (newY != oldY) {
+                    int mask = occupancy(row);
+                    newHash ^= Zobrist.row(mask, oldY) ^ Zobrist.row(mask, newY);
+                }
             }
+            newY--;
         }
 
         // ライン消去がない場合は元のフィールドをそのまま返す
-        if (linesToClear.isEmpty()) {
+        if (cleared == 0) {
             return new ClearResult(this, 0);
         }
 
-        // 新しいグリッドを作成
-        Block[][] newGrid = new Block[HEIGHT][WIDTH];
-
-        // ライン消去後のブロック配置を計算
-        int newY = HEIGHT - 1;
-        for (int oldY = HEIGHT - 1; oldY >= 0; oldY--) {
-            // 消去されるラインはスキップ
-            if (linesToClear.contains(oldY)) {
-                continue;
-            }
+        // 残りの上部ラインは空のまま
+        return new ClearResult(new GameField(newRows, newHash), cleared);
+    }
 
-            // 消去されないラインを新しいグリッドにコピー
-            System.arraycopy(grid[oldY], 0, newGrid[newY], 0, WIDTH);
-            newY--;
+    /**
+     * 同じセル配置（ブロックの種類を含む）を持つGameFieldを等価と判定します。
+     *
+     * <p>ハッシュ値が異なる場合はセルを比較しません。</p>
+     *
+     * @param o 比較対象
+     * @return 等価な場合true
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
         }
+        if (!(o instanceof GameField other)) {
+            return false;
+        }
+        return zobristHash == other.zobristHash && Arrays.equals(rows, other.rows);
+    }
 
-        // 残りの上部ラインは空（null）のまま
+    /**
+     * Zobristハッシュ値から導出したハッシュコードを返します。
+     *
+     * @return ハッシュコード
+     */
+    @Override
+    public int hashCode() {
+        return Long.hashCode(zobristHash);
+    }
 
-        return new ClearResult(new GameField(newGrid), linesToClear.size());
+    /**
+     * 行ごとの占有状態を含む文字列表現を返します。
+     *
+     * @return 文字列表現
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("GameField[rows=");
+        for (int y = 0; y < HEIGHT; y++) {
+            sb.append(y == 0 ? "" : "/");
+            for (int x = 0; x < WIDTH; x++) {
+                int code = code(rows[y], x);
+                sb.append(code == 0 ? "." : TYPES[code - 1].name());
+            }
+        }
+        return sb.append(", zobristHash=").append(zobristHash).append(']').toString();
     }
 
     /**
      * 指定された行が完全に埋まっているかを確認します。
      *
-     * @param y 行番号（0-19）
+     * @param row 1行分のセルの型コード
      * @return 行が完全に埋まっている場合true
      */
-    private boolean isLineFull(int y) {
+    private static boolean isLineFull(int row) {
+        return ((row | row >>> 1 | row >>> 2) & CELL_LOW_BITS) == CELL_LOW_BITS;
+    }
+
+    /**
+     * 1行分のセルの型コードから指定列の型コードを取り出します。
+     *
+     * @param row 1行分のセルの型コード
+     * @param x x座標（0-9）
+     * @return 型コード（0=空）
+     */
+    private static int code(int row, int x) {
+        return (row >>> (CELL_BITS * x)) & CELL_MASK;
+    }
+
+    /**
+     * 型コードに対応する共有Blockを返します。
+     *
+     * @param code 型コード
+     * @return Block（0の場合はnull）
+     */
+    private static Block block(int code) {
+        return (code == 0) ? null : Block.of(TYPES[code - 1]);
+    }
+
+    /**
+     * 1行分のセルの型コードを占有マスク（ビットxが1の場合x列が占有）に変換します。
+     *
+     * @param row 1行分のセルの型コード
+     * @return 占有マスク
+     */
+    private static int occupancy(int row) {
+        int mask = 0;
         for (int x = 0; x < WIDTH; x++) {
-            if (grid[y][x] == null) {
-                return false;
+            if (code(row, x) != 0) {
+                mask |= 1 << x;
             }
         }
-        return true;
+        return mask;
+    }
+
+    /**
+     * 行ごとの型コードからハッシュ値を求めます。
+     *
+     * @param rows 行ごとのセルの型コード
+     * @return Zobristハッシュ値
+     */
+    private static long hash(int[] rows) {
+        long hash = 0L;
+        for (int y = 0; y < HEIGHT; y++) {
+            hash ^= Zobrist.row(occupancy(rows[y]), y);
+        }
+        return hash;
+    }
+
+    /**
+     * グリッドを行ごとの型コードに変換します。
+     *
+     * @param grid 10×20のブロック配列
+     * @return 行ごとのセルの型コード
+     * @throws IllegalArgumentException gridが20行×10列でない場合
+     */
+    private static int[] encode(Block[][] grid) {
+        if (grid.length != HEIGHT) {
+            throw new IllegalArgumentException("grid must have " + HEIGHT + " rows: " + grid.length);
+        }
+        int[] rows = new int[HEIGHT];
+        for (int y = 0; y < HEIGHT; y++) {
+            if (grid[y].length != WIDTH) {
+                throw new IllegalArgumentException("grid row " + y + " must have " + WIDTH + " columns");
+            }
+            int row = 0;
+            for (int x = 0; x < WIDTH; x++) {
+                if (grid[y][x] != null) {
+                    row |= (grid[y][x].type().ordinal() + 1) << (CELL_BITS * x);
+                }
+            }
+            rows[y] = row;
+        }
+        return rows;
     }
 }
@@ -1,6 +1,8 @@
 package com.example.tetris.domain;
 
-import java.util.Random;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * ゲームの状態全体を管理するアグリゲートルート。
@@ -18,11 +20,16 @@ import java.util.Random;
  *   <li>score: 現在のスコア</li>
  *   <li>level: 現在のレベル</li>
  *   <li>totalLinesCleared: 累計クリア済みライン数</li>
+ *   <li>pieceGenerator: このセッション専用のピースジェネレーター</li>
  * </ul>
  *
  * <h3>不変性（Immutability）：</h3>
  * <p>GameStateは不変オブジェクトです。状態の変更は新しいGameStateインスタンスを返します。</p>
  *
+ * <h3>再現性：</h3>
+ * <p>テトリミノの出現順序はセッションごとの{@link PieceGenerator}によって決定されます。
+ * 同じシードで初期化し、同じ操作を同じ順序で適用すれば、常に同じGameStateが得られます。</p>
+ *
  * @param status ゲームの進行状態
  * @param currentTetromino 現在操作中のテトリミノ
  * @param nextTetromino 次に落下するテトリミノ
@@ -30,6 +37,7 @@ import java.util.Random;
  * @param score 現在のスコア
  * @param level 現在のレベル
  * @param totalLinesCleared 累計クリア済みライン数
+ * @param pieceGenerator 次に出現するテトリミノを決定するピースジェネレーター
  * @author AI-DLC Development Team
  * @version 1.0.0
  * @since 2025-11-27
@@ -41,7 +49,8 @@ public record GameState(
         GameField field,
         int score,
         int level,
-        int totalLinesCleared
+        int totalLinesCleared,
+        PieceGenerator pieceGenerator
 ) {
     /**
      * テトリミノの初期出現位置（x座標）。
@@ -53,10 +62,6 @@ public record GameState(
      */
     private static final int TETROMINO_SPAWN_Y = 0;
 
-    /**
-     * 乱数生成器。
-     */
-    private static final Random RANDOM = new Random();
     /**
      * Compact constructor: 入力値の検証を行います。
      *
@@ -88,6 +93,36 @@ public record GameState(
         if (totalLinesCleared < 0) {
             throw new IllegalArgumentException("totalLinesCleared must be non-negative");
         }
+        if (pieceGenerator == null) {
+            throw new NullPointerException("pieceGenerator must not be null");
+        }
+    }
+
+    /**
+     * ピースジェネレーターを指定せずにGameStateを生成します。
+     *
+     * <p>ピースジェネレーターには、スレッドローカルな乱数から得たシードを持つ
+     * 一様ランダムなジェネレーターが使用されます。</p>
+     *
+     * @param status ゲームの進行状態
+     * @param currentTetromino 現在操作中のテトリミノ
+     * @param nextTetromino 次に落下するテトリミノ
+     * @param field ゲームフィールド
+     * @param score 現在のスコア
+     * @param level 現在のレベル
+     * @param totalLinesCleared 累計クリア済みライン数
+     */
+    public GameState(
+            GameStatus status,
+            Tetromino currentTetromino,
+            Tetromino nextTetromino,
+            GameField field,
+            int score,
+            int level,
+            int totalLinesCleared
+    ) {
+        this(status, currentTetromino, nextTetromino, field, score, level, totalLinesCleared,
+                PieceGenerator.uniform(ThreadLocalRandom.current().nextLong()));
     }
 
     /**
@@ -104,33 +139,65 @@ public record GameState(
      *   <li>totalLinesCleared: 0</li>
      * </ul>
      *
+     * <p>シードはスレッドローカルな乱数から取得し、7-bag方式のジェネレーターを使用します。
+     * 再現可能なゲームが必要な場合は{@link #initialize(long)}を使用してください。</p>
+     *
      * @return 初期化されたGameState
      */
     public static GameState initialize() {
+        return initialize(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * 指定されたシードの7-bag方式ジェネレーターで新しいゲームを初期化します。
+     *
+     * @param seed ピースジェネレーターのシード値
+     * @return 初期化されたGameState
+     * @see PieceGenerator#sevenBag(long)
+     */
+    public static GameState initialize(long seed) {
+        return initialize(PieceGenerator.sevenBag(seed));
+    }
+
+    /**
+     * 指定されたピースジェネレーターで新しいゲームを初期化します。
+     *
+     * <p>最初のテトリミノと次のテトリミノは、ジェネレーターから順に取り出されます。</p>
+     *
+     * @param pieceGenerator 使用するピースジェネレーター
+     * @return 初期化されたGameState
+     * @throws NullPointerException pieceGeneratorがnullの場合
+     */
+    public static GameState initialize(PieceGenerator pieceGenerator) {
+        if (pieceGenerator == null) {
+            throw new NullPointerException("pieceGenerator must not be null");
+        }
+
+        PieceDraw first = pieceGenerator.next();
+        PieceDraw second = first.generator().next();
         return new GameState(
                 GameStatus.PLAYING,
-                generateRandomTetromino(),
-                generateRandomTetromino(),
+                spawnTetromino(first.type()),
+                spawnTetromino(second.type()),
                 GameField.createEmpty(),
                 0,
                 1,
-                0
+                0,
+                second.generator()
         );
     }
 
     /**
-     * ランダムなテトリミノを生成します。
+     * 指定された種類のテトリミノを出現位置に生成します。
      *
-     * <p>7種類のテトリミノタイプからランダムに選択し、
-     * 初期位置（x=4, y=0）、初期回転（DEG_0）で生成します。</p>
+     * <p>初期位置（x=4, y=0）、初期回転（DEG_0）で生成します。</p>
      *
-     * @return ランダムに生成されたテトリミノ
+     * @param type テトリミノの種類
+     * @return 出現位置に生成されたテトリミノ
      */
-    private static Tetromino generateRandomTetromino() {
-        TetrominoType[] types = TetrominoType.values();
-        TetrominoType randomType = types[RANDOM.nextInt(types.length)];
+    public static Tetromino spawnTetromino(TetrominoType type) {
         return new Tetromino(
-                randomType,
+                type,
                 new Position(TETROMINO_SPAWN_X, TETROMINO_SPAWN_Y),
                 Rotation.DEG_0
         );
@@ -140,7 +207,7 @@ public record GameState(
      * 現在のテトリミノを指定された方向に移動します。
      *
      * <p>移動可能な場合は、新しい位置のテトリミノを持つGameStateを返します。
-     * 移動不可能な場合（境界外、衝突）は、元のGameStateをそのまま返します。</p>
+     * 移動不可能な場合（境界外、衝突、ゲームオーバー後）は、元のGameStateをそのまま返します。</p>
      *
      * @param direction 移動方向（LEFT, RIGHT, DOWN）
      * @return 移動後のGameState（移動不可能な場合は元のGameState）
@@ -150,6 +217,9 @@ public record GameState(
         if (direction == null) {
             throw new NullPointerException("direction must not be null");
         }
+        if (status == GameStatus.GAME_OVER) {
+            return this;
+        }
 
         // 現在のテトリミノの位置を取得
         Position currentPos = currentTetromino.position();
@@ -178,7 +248,8 @@ public record GameState(
                     field,
                     score,
                     level,
-                    totalLinesCleared
+                    totalLinesCleared,
+                    pieceGenerator
             );
         } else {
             // 配置不可能な場合は元の GameState を返す
@@ -190,16 +261,43 @@ public record GameState(
      * 現在のテトリミノを時計回りに90度回転します。
      *
      * <p>回転可能な場合は、回転後のテトリミノを持つGameStateを返します。
-     * 回転不可能な場合（境界外、衝突）は、元のGameStateをそのまま返します。</p>
+     * その場で回転できない場合は、SRSの壁蹴りオフセットを順に試します
+     * （{@link SuperRotationSystem}）。すべてのオフセットで回転不可能な場合（境界外、衝突）と
+     * ゲームオーバー後は、元のGameStateをそのまま返します。</p>
      *
      * @return 回転後のGameState（回転不可能な場合は元のGameState）
      */
     public GameState rotateTetromino() {
-        // テトリミノを時計回りに回転
-        Tetromino rotatedTetromino = currentTetromino.rotateClockwise();
+        return rotate(true);
+    }
+
+    /**
+     * 現在のテトリミノを反時計回りに90度回転します。
+     *
+     * <p>壁蹴りの扱いは{@link #rotateTetromino()}と同じです。</p>
+     *
+     * @return 回転後のGameState（回転不可能な場合は元のGameState）
+     */
+    public GameState rotateTetrominoCounterclockwise() {
+        return rotate(false);
+    }
+
+    /**
+     * 壁蹴りを考慮して現在のテトリミノを回転します。
+     *
+     * @param clockwise 時計回りの場合true、反時計回りの場合false
+     * @return 回転後のGameState（回転不可能な場合は元のGameState）
+     */
+    private GameState rotate(boolean clockwise) {
+        if (status == GameStatus.GAME_OVER) {
+            return this;
+        }
+
+        // テトリミノを回転（その場で配置できない場合は壁蹴りオフセットを順に試す）
+        Tetromino rotatedTetromino = SuperRotationSystem.rotate(field, currentTetromino, clockwise);
 
         // フィールドに配置可能かチェック
-        if (field.canPlace(rotatedTetromino)) {
+        if (rotatedTetromino != null) {
             // 配置可能な場合は回転後のテトリミノで GameState を作成
             return new GameState(
                     status,
@@ -208,7 +306,8 @@ public record GameState(
                     field,
                     score,
                     level,
-                    totalLinesCleared
+                    totalLinesCleared,
+                    pieceGenerator
             );
         } else {
             // 配置不可能な場合は元の GameState を返す
@@ -228,29 +327,18 @@ public record GameState(
      *   <li>スコア計算</li>
      * </ul>
      *
+     * <p>ゲームオーバー後は何もせず、元のGameStateをそのまま返します。</p>
+     *
      * @return ハードドロップ後のGameState
      */
     public GameState hardDrop() {
-        // 1. テトリミノを最下部まで落下
-        Tetromino droppingTetromino = currentTetromino;
-        while (true) {
-            Position nextPos = new Position(
-                    droppingTetromino.position().x(),
-                    droppingTetromino.position().y() + 1
-            );
-            Tetromino nextTetrominoCandidate = new Tetromino(
-                    droppingTetromino.type(),
-                    nextPos,
-                    droppingTetromino.rotation()
-            );
-
-            if (field.canPlace(nextTetrominoCandidate)) {
-                droppingTetromino = nextTetrominoCandidate;
-            } else {
-                break;  // これ以上落下できない
-            }
+        if (status == GameStatus.GAME_OVER) {
+            return this;
         }
 
+        // 1. テトリミノを最下部まで落下
+        Tetromino droppingTetromino = moveDown(currentTetromino, field.dropDistance(currentTetromino));
+
         // 2. フィールドに固定
         GameField fixedField = field.place(droppingTetromino);
 
@@ -271,14 +359,18 @@ public record GameState(
                 ? status  // 配置可能ならステータス維持
                 : GameStatus.GAME_OVER;  // 配置不可能ならゲームオーバー
 
+        // 6. ピースジェネレーターから新しい nextTetromino を取り出す
+        PieceDraw draw = pieceGenerator.next();
+
         return new GameState(
                 newStatus,
                 nextTetromino,  // nextTetromino が currentTetromino になる
-                generateRandomTetromino(),  // 新しい nextTetromino を生成
+                spawnTetromino(draw.type()),  // 新しい nextTetromino を生成
                 clearResult.updatedField(),
                 newScore,
                 newLevel,  // レベルを更新
-                newTotalLinesCleared
+                newTotalLinesCleared,
+                draw.generator()
         );
     }
 
@@ -299,11 +391,15 @@ public record GameState(
      * 自動落下処理を実行します。
      *
      * <p>テトリミノを1マス下に移動します。移動不可能な場合は、
-     * ハードドロップを実行します。</p>
+     * ハードドロップを実行します。ゲームオーバー後は何もしません。</p>
      *
      * @return 自動落下後のGameState
      */
     public GameState processAutoDropTick() {
+        if (status == GameStatus.GAME_OVER) {
+            return this;
+        }
+
         // DOWN方向に移動を試みる
         GameState movedState = moveTetromino(Direction.DOWN);
 
@@ -316,6 +412,152 @@ public record GameState(
         return hardDrop();
     }
 
+    /**
+     * 自動落下処理をn回分まとめて実行します。
+     *
+     * <p>結果は{@link #processAutoDropTick()}をn回呼び出した場合と同一です。テトリミノの
+     * 落下距離（{@link GameField#dropDistance(Tetromino)}）から着地までのティック数を求め、
+     * 途中で着地する場合は固定と次のテトリミノの生成を行ってから残りのティックを適用します。
+     * 処理量はティック数ではなく固定されるテトリミノの数に比例するため、
+     * 遅延したスケジューラーが溜まったティックを一度に消化できます。</p>
+     *
+     * <p>ゲームオーバーに到達した時点で残りのティックは破棄されます。</p>
+     *
+     * @param ticks 実行する自動落下のティック数（0以上）
+     * @return 自動落下後のGameState
+     * @throws IllegalArgumentException ticksが負の場合
+     */
+    public GameState processAutoDropTicks(int ticks) {
+        if (ticks < 0) {
+            throw new IllegalArgumentException("ticks must not be negative: " + ticks);
+        }
+
+        GameState state = this;
+        int remaining = ticks;
+        while (remaining > 0 && state.status == GameStatus.PLAYING) {
+            int distance = state.field.dropDistance(state.currentTetromino);
+            if (remaining <= distance) {
+                // 残りのティックでは着地しない: 落下のみ
+                return state.withCurrentTetromino(moveDown(state.currentTetromino, remaining));
+            }
+            // distance回の落下と、落下できないティック1回での固定
+            remaining -= distance + 1;
+            state = state.hardDrop();
+        }
+        return state;
+    }
+
+    /**
+     * 操作列を先頭から順に一括で適用します。
+     *
+     * <p>結果は各操作を{@link GameCommand#apply(GameState)}で順に適用した場合と同一です。
+     * 移動・回転はテトリミノの位置のみを更新し、GameStateはハードドロップ・自動落下の
+     * 直前と最後にのみ生成するため、キー入力の自動リピートのような連続した操作を
+     * 少ない生成コストで適用できます。</p>
+     *
+     * <h3>受理フラグ：</h3>
+     * <ul>
+     *   <li>移動・回転: 配置可能で位置が変化した場合true</li>
+     *   <li>ハードドロップ・自動落下: 常にtrue</li>
+     *   <li>ゲームオーバー後の操作: 適用せずfalse</li>
+     * </ul>
+     *
+     * @param commands 適用する操作列
+     * @return 最終状態と操作ごとの受理フラグ
+     * @throws NullPointerException commandsまたはその要素がnullの場合
+     */
+    public CommandBatchResult applyAll(List<GameCommand> commands) {
+        if (commands == null) {
+            throw new NullPointerException("commands must not be null");
+        }
+
+        List<Boolean> accepted = new ArrayList<>(commands.size());
+        GameState state = this;
+        Tetromino piece = currentTetromino;
+        for (GameCommand command : commands) {
+            if (command == null) {
+                throw new NullPointerException("command must not be null");
+            }
+            if (state.status == GameStatus.GAME_OVER) {
+                accepted.add(Boolean.FALSE);
+                continue;
+            }
+
+            Tetromino moved = switch (command) {
+                case MOVE_LEFT -> piece.moveLeft();
+                case MOVE_RIGHT -> piece.moveRight();
+                case MOVE_DOWN -> piece.moveDown();
+                case ROTATE -> SuperRotationSystem.rotate(state.field, piece, true);
+                case ROTATE_CCW -> SuperRotationSystem.rotate(state.field, piece, false);
+                case HARD_DROP, AUTO_DROP -> null;
+            };
+
+            if (command == GameCommand.HARD_DROP || command == GameCommand.AUTO_DROP) {
+                // 固定を伴う操作の直前にのみ、移動済みのテトリミノでGameStateを生成
+                state = command.apply(state.withCurrentTetromino(piece));
+                piece = state.currentTetromino;
+                accepted.add(Boolean.TRUE);
+            } else if (moved != null && (isRotation(command) || state.field.canPlace(moved))) {
+                piece = moved;
+                accepted.add(Boolean.TRUE);
+            } else {
+                accepted.add(Boolean.FALSE);
+            }
+        }
+
+        return new CommandBatchResult(state.withCurrentTetromino(piece), accepted);
+    }
+
+    /**
+     * 現在のテトリミノを差し替えたGameStateを返します（同一の場合はこのインスタンス）。
+     *
+     * @param tetromino 新しい現在のテトリミノ
+     * @return GameState
+     */
+    private GameState withCurrentTetromino(Tetromino tetromino) {
+        if (tetromino == currentTetromino) {
+            return this;
+        }
+        return new GameState(
+                status,
+                tetromino,
+                nextTetromino,
+                field,
+                score,
+                level,
+                totalLinesCleared,
+                pieceGenerator
+        );
+    }
+
+    /**
+     * テトリミノを指定された行数だけ下に移動した結果を求めます。
+     *
+     * @param tetromino 移動するテトリミノ
+     * @param rows 移動する行数
+     * @return 移動後のテトリミノ（rowsが0の場合は同じインスタンス）
+     */
+    private static Tetromino moveDown(Tetromino tetromino, int rows) {
+        if (rows == 0) {
+            return tetromino;
+        }
+        return new Tetromino(
+                tetromino.type(),
+                new Position(tetromino.position().x(), tetromino.position().y() + rows),
+                tetromino.rotation()
+        );
+    }
+
+    /**
+     * 操作が回転（壁蹴りを含めて配置可能性を判定済み）かを返します。
+     *
+     * @param command 操作
+     * @return 回転の場合true
+     */
+    private static boolean isRotation(GameCommand command) {
+        return command == GameCommand.ROTATE || command == GameCommand.ROTATE_CCW;
+    }
+
     /**
      * 現在のレベルに応じた自動落下間隔（ミリ秒）を返します。
      *
@@ -0,0 +1,186 @@
+package com.example.tetris.domain;
+
+/**
+ * 時間ベースの重力と固定猶予（ロックディレイ）を計算する不変レコードクラス。
+ *
+ * <p>{@link GameState#processAutoDropTick()}は1回目の落下失敗で即座に固定するため、
+ * 操作感を保つにはクライアントが落下間隔より細かくティックを送る必要があります。
+ * GravityModelは呼び出し側から渡される単調増加クロックの時刻をもとに、前回からの経過時間で
+ * 落下と固定を計算するため、サーバーは粗い固定周期でティックしても正確な固定タイミングを得られます。</p>
+ *
+ * <h3>重力ルール:</h3>
+ * <ul>
+ *   <li>落下速度: レベルごとの落下間隔（{@link LevelManager#calculateDropInterval(int)}）ごとに1マス</li>
+ *   <li>接地すると固定猶予が始まり、{@code lockDelayMillis}経過した時点で固定される</li>
+ *   <li>接地中に移動・回転に成功すると固定猶予がリセットされる（最大{@code maxLockResets}回）</li>
+ *   <li>リセット回数を使い切った後は、進行中の固定猶予が満了した時点で固定される</li>
+ * </ul>
+ *
+ * @param lockDelayMillis 固定猶予（ミリ秒、0以上）
+ * @param maxLockResets 1つのテトリミノで固定猶予をリセットできる最大回数（0以上）
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see GravityTimer
+ */
+public record GravityModel(int lockDelayMillis, int maxLockResets) {
+
+    /**
+     * 標準の重力モデル（固定猶予500ms、リセット最大15回）。
+     */
+    public static final GravityModel DEFAULT = new GravityModel(500, 15);
+
+    /**
+     * コンパクトコンストラクタ。
+     *
+     * @throws IllegalArgumentException lockDelayMillisまたはmaxLockResetsが負の場合
+     */
+    public GravityModel {
+        if (lockDelayMillis < 0) {
+            throw new IllegalArgumentException("lockDelayMillis must not be negative");
+        }
+        if (maxLockResets < 0) {
+            throw new IllegalArgumentException("maxLockResets must not be negative");
+        }
+    }
+
+    /**
+     * 指定された周期でティックした場合の、1ティックあたりの落下マス数を返します。
+     *
+     * @param level 現在のレベル
+     * @param tickMillis ティック周期（ミリ秒）
+     * @return 1ティックあたりの落下マス数
+     * @throws IllegalArgumentException levelが1未満の場合
+     */
+    public double cellsPerTick(int level, long tickMillis) {
+        return (double) tickMillis / LevelManager.calculateDropInterval(level);
+    }
+
+    /**
+     * 前回の更新から現在時刻までの重力を適用します。
+     *
+     * <p>経過時間の途中でテトリミノが接地・固定された場合は、固定された時刻から
+     * 次のテトリミノの落下を続けて計算します。処理量は経過時間ではなく
+     * 固定されるテトリミノの数に比例します。ゲームオーバー以降は状態を変化させません。</p>
+     *
+     * @param state 現在のGameState
+     * @param timer 現在のGravityTimer
+     * @param nowMillis 現在時刻（単調増加するクロックのミリ秒値）
+     * @return 重力を適用した結果
+     * @throws NullPointerException stateまたはtimerがnullの場合
+     * @throws IllegalArgumentException nowMillisがtimerの最終更新時刻より前の場合
+     */
+    public GravityStep advance(GameState state, GravityTimer timer, long nowMillis) {
+        if (state == null) {
+            throw new NullPointerException("state must not be null");
+        }
+        if (timer == null) {
+            throw new NullPointerException("timer must not be null");
+        }
+        if (nowMillis < timer.lastMillis()) {
+            throw new IllegalArgumentException(
+                    "clock must be monotonic: " + nowMillis + " < " + timer.lastMillis());
+        }
+        if (timer.piece() != state.pieceGenerator()) {
+            // タイマー外でテトリミノが固定された場合は、新しいテトリミノを現在時刻から開始
+            timer = GravityTimer.start(state, nowMillis);
+        }
+
+        long time = timer.lastMillis();
+        long progress = timer.fallProgressMillis();
+        long groundedSince = timer.groundedSinceMillis();
+        int resets = timer.lockResets();
+        int ticks = 0;
+
+        while (state.status() == GameStatus.PLAYING) {
+            int distance = state.field().dropDistance(state.currentTetromino());
+            if (distance > 0) {
+                // 1. 空中: 落下間隔ごとに1マス落下
+                groundedSince = GravityTimer.NOT_GROUNDED;
+                long interval = LevelManager.calculateDropInterval(state.level());
+                long available = progress + (nowMillis - time);
+                long cells = available / interval;
+                if (cells < distance) {
+                    state = state.processAutoDropTicks((int) cells);
+                    ticks += (int) cells;
+                    progress = available - cells * interval;
+                    break;
+                }
+                // 途中で接地: 接地した時刻から固定猶予を開始
+                time += distance * interval - progress;
+                state = state.processAutoDropTicks(distance);
+                ticks += distance;
+                progress = 0;
+                groundedSince = time;
+            }
+
+            // 2. 接地中: 固定猶予が満了していれば固定
+            if (groundedSince == GravityTimer.NOT_GROUNDED) {
+                groundedSince = time;
+            }
+            long lockAt = groundedSince + lockDelayMillis;
+            if (lockAt > nowMillis) {
+                break;
+            }
+            state = state.processAutoDropTick();
+            ticks++;
+
+            // 3. 固定された時刻から次のテトリミノを開始
+            time = lockAt;
+            progress = 0;
+            groundedSince = GravityTimer.NOT_GROUNDED;
+            resets = 0;
+        }
+
+        GravityTimer next = new GravityTimer(nowMillis, progress, groundedSince, resets, state.pieceGenerator());
+        return new GravityStep(state, next, ticks);
+    }
+
+    /**
+     * プレイヤーの操作を適用した後に、GravityTimerを更新します。
+     *
+     * <ul>
+     *   <li>テトリミノが固定された場合: 新しいテトリミノのタイマーを現在時刻から開始</li>
+     *   <li>操作が拒否された場合: 変更なし</li>
+     *   <li>下に移動した場合: 次の1マス落下までの経過時間をリセット</li>
+     *   <li>操作によって接地した場合: 固定猶予を現在時刻から開始</li>
+     *   <li>接地中に移動・回転した場合: リセット回数の上限まで固定猶予を現在時刻から再開</li>
+     * </ul>
+     *
+     * @param before 操作を適用する前のGameState
+     * @param after 操作を適用した後のGameState
+     * @param timer 現在のGravityTimer
+     * @param nowMillis 現在時刻（単調増加するクロックのミリ秒値）
+     * @return 更新後のGravityTimer
+     * @throws NullPointerException before、after、timerのいずれかがnullの場合
+     */
+    public GravityTimer onInput(GameState before, GameState after, GravityTimer timer, long nowMillis) {
+        if (before == null || after == null || timer == null) {
+            throw new NullPointerException("before, after and timer must not be null");
+        }
+        if (after.pieceGenerator() != timer.piece()) {
+            return GravityTimer.start(after, Math.max(nowMillis, timer.lastMillis()));
+        }
+
+        Tetromino previous = before.currentTetromino();
+        Tetromino current = after.currentTetromino();
+        if (current.equals(previous)) {
+            return timer;
+        }
+
+        long now = Math.max(nowMillis, timer.lastMillis());
+        long progress = (current.position().y() > previous.position().y()) ? 0L : timer.fallProgressMillis();
+        long groundedSince = timer.groundedSinceMillis();
+        int resets = timer.lockResets();
+        if (after.field().dropDistance(current) > 0) {
+            groundedSince = GravityTimer.NOT_GROUNDED;
+        } else if (!timer.grounded()) {
+            groundedSince = now;  // 操作によって接地: 固定猶予を開始
+        } else if (resets < maxLockResets) {
+            groundedSince = now;  // 接地中の操作: 固定猶予をリセット
+            resets++;
+        }
+        return new GravityTimer(timer.lastMillis(), progress, groundedSince, resets, timer.piece());
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.tetris.domain;
+
+/**
+ * 重力を進めた結果を表す不変レコードクラス。
+ *
+ * <p>重力によるすべての状態変化（1マスの落下、接地後の固定）は
+ * {@link GameCommand#AUTO_DROP}1回分と等価です。そのため、
+ * 元のGameStateに{@link GameState#processAutoDropTicks(int)}で{@code autoDropTicks}回の
+ * 自動落下を適用すると{@code state}と同じ状態になり、入力ログにはAUTO_DROPを
+ * {@code autoDropTicks}件記録すれば再シミュレーションで再現できます。</p>
+ *
+ * @param state 重力を進めた後のGameState
+ * @param timer 更新後のGravityTimer
+ * @param autoDropTicks 重力による状態変化と等価なAUTO_DROPの回数
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see GravityModel#advance(GameState, GravityTimer, long)
+ */
+public record GravityStep(GameState state, GravityTimer timer, int autoDropTicks) {
+
+    /**
+     * コンパクトコンストラクタ。
+     *
+     * @throws NullPointerException stateまたはtimerがnullの場合
+     * @throws IllegalArgumentException autoDropTicksが負の場合
+     */
+    public GravityStep {
+        if (state == null) {
+            throw new NullPointerException("state must not be null");
+        }
+        if (timer == null) {
+            throw new NullPointerException("timer must not be null");
+        }
+        if (autoDropTicks < 0) {
+            throw new IllegalArgumentException("autoDropTicks must not be negative");
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.tetris.domain;
+
+/**
+ * 現在のテトリミノに対する重力と固定猶予（ロックディレイ）の進行状況を表す不変レコードクラス。
+ *
+ * <p>時刻はすべて単調増加するクロックのミリ秒値です（壁時計ではありません）。
+ * GravityTimerはGameStateとは独立して保持され、{@link GravityModel}によって更新されます。</p>
+ *
+ * @param lastMillis 最後に重力を進めた時刻
+ * @param fallProgressMillis 次の1マス落下までに蓄積された経過時間（ミリ秒）
+ * @param groundedSinceMillis 固定猶予の開始時刻（接地していない場合は-1）
+ * @param lockResets 現在のテトリミノで固定猶予をリセットした回数
+ * @param piece 対象のテトリミノを識別するピースジェネレーター（固定ごとに別のインスタンスになる）
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public record GravityTimer(
+        long lastMillis,
+        long fallProgressMillis,
+        long groundedSinceMillis,
+        int lockResets,
+        PieceGenerator piece
+) {
+
+    /**
+     * 接地していないことを表すgroundedSinceMillisの値。
+     */
+    public static final long NOT_GROUNDED = -1L;
+
+    /**
+     * コンパクトコンストラクタ。
+     *
+     * @throws NullPointerException pieceがnullの場合
+     * @throws IllegalArgumentException fallProgressMillisまたはlockResetsが負の場合
+     */
+    public GravityTimer {
+        if (piece == null) {
+            throw new NullPointerException("piece must not be null");
+        }
+        if (fallProgressMillis < 0) {
+            throw new IllegalArgumentException("fallProgressMillis must not be negative");
+        }
+        if (lockResets < 0) {
+            throw new IllegalArgumentException("lockResets must not be negative");
+        }
+    }
+
+    /**
+     * 現在のテトリミノの出現時点のGravityTimerを生成します。
+     *
+     * @param state 対象のGameState
+     * @param nowMillis 現在時刻（単調増加するクロックのミリ秒値）
+     * @return 新しいGravityTimer
+     * @throws NullPointerException stateがnullの場合
+     */
+    public static GravityTimer start(GameState state, long nowMillis) {
+        return new GravityTimer(nowMillis, 0L, NOT_GROUNDED, 0, state.pieceGenerator());
+    }
+
+    /**
+     * 接地して固定猶予が進行中かを返します。
+     *
+     * @return 固定猶予が進行中の場合true
+     */
+    public boolean grounded() {
+        return groundedSinceMillis != NOT_GROUNDED;
+    }
+}
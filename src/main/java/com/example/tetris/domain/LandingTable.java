@@ -0,0 +1,121 @@
+package com.example.tetris.domain;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * テトリミノ型×向きごとの列プロファイルを事前計算したテーブル。
+ *
+ * <p>各向きについて、テトリミノが占有する列ごとの最下段のブロックの相対y座標（列の底）を保持します。
+ * フィールドの各列の最上段の占有行がわかれば、真上から落としたときの着地位置は
+ * 「列ごとの（最上段の占有行 - 1 - 列の底）の最小値」で求まり、{@link GameField#canPlace(Tetromino)}を
+ * 1マスずつ試す必要がありません。</p>
+ *
+ * <p>占有セルが同一になる向き（O型のすべての向き、I・S・Z型の180度回転）は重複として除外します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+final class LandingTable {
+
+    /**
+     * テトリミノ型ごとの、重複を除いた向き。
+     */
+    private static final Rotation[][] DISTINCT_ROTATIONS = new Rotation[TetrominoType.values().length][];
+
+    /**
+     * テトリミノ型×向きごとの最も左の列の相対x座標。
+     */
+    private static final int[][] MIN_DX = new int[TetrominoType.values().length][Rotation.values().length];
+
+    /**
+     * テトリミノ型×向きごとの、左の列から順に並べた列の底の相対y座標。
+     */
+    private static final int[][][] BOTTOMS = new int[TetrominoType.values().length][Rotation.values().length][];
+
+    /**
+     * テトリミノ型×向きごとの最上段のブロックの相対y座標。
+     */
+    private static final int[][] MIN_DY = new int[TetrominoType.values().length][Rotation.values().length];
+
+    static {
+        for (TetrominoType type : TetrominoType.values()) {
+            int t = type.ordinal();
+            Rotation[] distinct = new Rotation[Rotation.values().length];
+            int distinctCount = 0;
+            long[] seenCells = new long[Rotation.values().length];
+
+            for (Rotation rotation : Rotation.values()) {
+                int r = rotation.ordinal();
+                // 形状定義はTetrominoを唯一の情報源とする
+                List<Position> cells = new Tetromino(type, new Position(0, 0), rotation).getBlockPositions();
+
+                int minDx = Integer.MAX_VALUE;
+                int maxDx = Integer.MIN_VALUE;
+                int minDy = Integer.MAX_VALUE;
+                for (Position cell : cells) {
+                    minDx = Math.min(minDx, cell.x());
+                    maxDx = Math.max(maxDx, cell.x());
+                    minDy = Math.min(minDy, cell.y());
+                }
+                int[] bottoms = new int[maxDx - minDx + 1];
+                Arrays.fill(bottoms, Integer.MIN_VALUE);
+                long cellKey = 0L;
+                for (Position cell : cells) {
+                    int column = cell.x() - minDx;
+                    bottoms[column] = Math.max(bottoms[column], cell.y());
+                    cellKey |= 1L << ((cell.y() + 4) * 8 + (cell.x() + 4));
+                }
+                MIN_DX[t][r] = minDx;
+                MIN_DY[t][r] = minDy;
+                BOTTOMS[t][r] = bottoms;
+
+                boolean duplicate = false;
+                for (int i = 0; i < distinctCount; i++) {
+                    duplicate |= seenCells[i] == cellKey;
+                }
+                if (!duplicate) {
+                    seenCells[distinctCount] = cellKey;
+                    distinct[distinctCount++] = rotation;
+                }
+            }
+            DISTINCT_ROTATIONS[t] = Arrays.copyOf(distinct, distinctCount);
+        }
+    }
+
+    /**
+     * ユーティリティクラスのため、インスタンス化を禁止。
+     */
+    private LandingTable() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * 占有セルの重複を除いた向きを返します。
+     */
+    static Rotation[] distinctRotations(TetrominoType type) {
+        return DISTINCT_ROTATIONS[type.ordinal()];
+    }
+
+    /**
+     * 最も左の列の相対x座標を返します。
+     */
+    static int minDx(TetrominoType type, Rotation rotation) {
+        return MIN_DX[type.ordinal()][rotation.ordinal()];
+    }
+
+    /**
+     * 最上段のブロックの相対y座標を返します。
+     */
+    static int minDy(TetrominoType type, Rotation rotation) {
+        return MIN_DY[type.ordinal()][rotation.ordinal()];
+    }
+
+    /**
+     * 左の列から順に並べた列の底の相対y座標を返します（呼び出し側で変更しないこと）。
+     */
+    static int[] bottoms(TetrominoType type, Rotation rotation) {
+        return BOTTOMS[type.ordinal()][rotation.ordinal()];
+    }
+}
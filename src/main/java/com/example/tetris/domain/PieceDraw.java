@@ -0,0 +1,23 @@
+package com.example.tetris.domain;
+
+/**
+ * {@link PieceGenerator#next()}の結果を表す不変レコードクラス。
+ *
+ * <p>選択されたテトリミノの種類と、次の選択に使用するジェネレーターの状態を保持します。</p>
+ *
+ * @param type 選択されたテトリミノの種類
+ * @param generator 次の選択に使用するジェネレーター
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public record PieceDraw(TetrominoType type, PieceGenerator generator) {
+    // Record宣言により、以下が自動生成されます：
+    // - private final TetrominoType type;
+    // - private final PieceGenerator generator;
+    // - public TetrominoType type()
+    // - public PieceGenerator generator()
+    // - public boolean equals(Object o)
+    // - public int hashCode()
+    // - public String toString()
+}
@@ -0,0 +1,72 @@
+package com.example.tetris.domain;
+
+/**
+ * テトリミノの出現順序を決定するピースジェネレーターのインターフェース。
+ *
+ * <p>PieceGeneratorはセッションごとに{@link GameState}内に保持され、
+ * 次に出現するテトリミノの種類を決定します。全セッションで共有される乱数生成器を
+ * 使用しないため、スレッド間の競合が発生しません。</p>
+ *
+ * <h3>実装：</h3>
+ * <ul>
+ *   <li>{@link UniformPieceGenerator}: 7種類から一様ランダムに選択</li>
+ *   <li>{@link SevenBagPieceGenerator}: 7種類を1セット（バッグ）としてシャッフルして順に出現</li>
+ * </ul>
+ *
+ * <h3>不変性（Immutability）：</h3>
+ * <p>PieceGeneratorは不変オブジェクトです。{@link #next()}は選択された種類と
+ * 次の状態のジェネレーターを{@link PieceDraw}として返します。同じシードから生成された
+ * ジェネレーターは常に同じ出現順序を返すため、シードと入力ログからゲームを完全に再現できます。</p>
+ *
+ * <h3>使用例：</h3>
+ * <pre>{@code
+ * PieceGenerator generator = PieceGenerator.sevenBag(42L);
+ *
+ * PieceDraw draw = generator.next();
+ * TetrominoType type = draw.type();        // 出現する種類
+ * generator = draw.generator();            // 次の状態のジェネレーター
+ * }</pre>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public sealed interface PieceGenerator permits UniformPieceGenerator, SevenBagPieceGenerator {
+
+    /**
+     * 次のテトリミノの種類を選択します。
+     *
+     * @return 選択された種類と次の状態のジェネレーター
+     */
+    PieceDraw next();
+
+    /**
+     * このジェネレーターから独立した出現順序を持つ子ジェネレーターを派生させます。
+     *
+     * <p>シミュレーション等で1つのマスターシードから複数ゲーム分のジェネレーターを
+     * 決定的に生成するために使用します。このジェネレーター自体の状態は変化しません。</p>
+     *
+     * @return 派生した新しいジェネレーター（同じ実装種別）
+     */
+    PieceGenerator split();
+
+    /**
+     * 一様ランダムなジェネレーターを生成します。
+     *
+     * @param seed シード値
+     * @return 一様ランダムなジェネレーター
+     */
+    static PieceGenerator uniform(long seed) {
+        return new UniformPieceGenerator(seed);
+    }
+
+    /**
+     * 7-bag方式のジェネレーターを生成します。
+     *
+     * @param seed シード値
+     * @return 7-bag方式のジェネレーター（空のバッグから開始）
+     */
+    static PieceGenerator sevenBag(long seed) {
+        return new SevenBagPieceGenerator(seed, 0);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.tetris.domain;
+
+/**
+ * SplitMix64アルゴリズムによる状態遷移と値の生成を行うPure Functionクラス。
+ *
+ * <p>{@link java.util.SplittableRandom}と同じアルゴリズムを、状態を{@code long}値として
+ * 外部に保持できる形で提供します。これにより、ジェネレーターを不変レコードとして表現できます。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+final class SplitMix64 {
+
+    /**
+     * 状態の増分（黄金比から導出される奇数定数）。
+     */
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    /**
+     * ユーティリティクラスのため、インスタンス化を禁止。
+     */
+    private SplitMix64() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * 次の状態を返します。
+     *
+     * @param state 現在の状態
+     * @return 次の状態
+     */
+    static long nextState(long state) {
+        return state + GOLDEN_GAMMA;
+    }
+
+    /**
+     * 状態から64ビットの乱数値を生成します。
+     *
+     * @param state 状態
+     * @return 乱数値
+     */
+    static long mix(long state) {
+        long z = state;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * 乱数値を0以上bound未満の整数に変換します。
+     *
+     * <p>上位32ビットとboundの積の上位32ビットを使用するため、除算を行いません。</p>
+     *
+     * @param value 乱数値
+     * @param bound 上限（排他的、正の値）
+     * @return 0以上bound未満の整数
+     */
+    static int bounded(long value, int bound) {
+        return (int) (((value >>> 32) * bound) >>> 32);
+    }
+}
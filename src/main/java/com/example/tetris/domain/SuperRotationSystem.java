@@ -0,0 +1,348 @@
+package com.example.tetris.domain;
+
+import java.util.List;
+
+/**
+ * Super Rotation System（SRS）の壁蹴り（ウォールキック）による回転を計算するPure Functionクラス。
+ *
+ * <p>回転先の向きで配置できない場合、テトリミノ型と回転の遷移（開始向き×回転方向）ごとに
+ * 定められたオフセットを順に試し、最初に配置できた位置に回転します。壁際や積み上げた
+ * ブロックの隣でも、1回の回転操作で最大5回の判定により回転先が確定します。</p>
+ *
+ * <h3>キックテーブル:</h3>
+ * <ul>
+ *   <li>J, L, S, T, Z型: SRS標準のJLSTZテーブル</li>
+ *   <li>I型: SRS標準のIテーブル</li>
+ *   <li>O型: キックなし（回転しても形状が変わらない）</li>
+ * </ul>
+ * <p>SRSのテーブルはy軸が上向きのため、y軸が下向きのフィールド座標に変換して保持します。
+ * 衝突判定は、クラス初期化時に{@link Tetromino#getBlockPositions()}から求めた
+ * 型×向きごとのセル相対座標の配列とフィールドの行ごとの占有マスク（{@link GameField#rowMasks()}）を用い、
+ * 判定ごとのオブジェクト生成を行いません。</p>
+ *
+ * <h3>SRSの状態との対応:</h3>
+ * <p>{@link Tetromino}の形状はSRSの回転枠と基準位置が異なり、T型の{@link Rotation#DEG_0}は突起が下向き
+ * （SRSの状態2）、I・S・Z型は0度と180度で同じセルを占有します。そのため{@link Rotation}のordinalを
+ * そのままSRSの状態とせず、型ごとに{@link Rotation#DEG_0}に対応するSRSの状態から時計回りに数えた
+ * 状態を対応させます。さらに、SRSの出現形状を回転枠の中心で回転させたセルと{@link Tetromino}のセルの
+ * ずれ（向きごとの平行移動量）を初期化時に求め、キックのオフセットに回転前後のずれの差を加えます。
+ * これにより、回転後のセルはSRSの回転（その場での回転を含む）と一致します。
+ * 形状がSRSの向きと平行移動で一致しない場合は、クラス初期化時に{@link IllegalStateException}を送出します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class SuperRotationSystem {
+
+    /**
+     * 1回の回転で試すオフセットの最大数。
+     */
+    public static final int MAX_KICK_TESTS = 5;
+
+    /**
+     * JLSTZ型の時計回り回転のキックテーブル（SRSの開始状態ごと、y上向き座標で (dx, dy) の順）。
+     */
+    private static final int[][] JLSTZ_CLOCKWISE = {
+            {0, 0, -1, 0, -1, 1, 0, -2, -1, -2},   // 0 -> R
+            {0, 0, 1, 0, 1, -1, 0, 2, 1, 2},       // R -> 2
+            {0, 0, 1, 0, 1, 1, 0, -2, 1, -2},      // 2 -> L
+            {0, 0, -1, 0, -1, -1, 0, 2, -1, 2}     // L -> 0
+    };
+
+    /**
+     * JLSTZ型の反時計回り回転のキックテーブル（SRSの開始状態ごと、y上向き座標で (dx, dy) の順）。
+     */
+    private static final int[][] JLSTZ_COUNTERCLOCKWISE = {
+            {0, 0, 1, 0, 1, 1, 0, -2, 1, -2},      // 0 -> L
+            {0, 0, 1, 0, 1, -1, 0, 2, 1, 2},       // R -> 0
+            {0, 0, -1, 0, -1, 1, 0, -2, -1, -2},   // 2 -> R
+            {0, 0, -1, 0, -1, -1, 0, 2, -1, 2}     // L -> 2
+    };
+
+    /**
+     * I型の時計回り回転のキックテーブル（SRSの開始状態ごと、y上向き座標で (dx, dy) の順）。
+     */
+    private static final int[][] I_CLOCKWISE = {
+            {0, 0, -2, 0, 1, 0, -2, -1, 1, 2},     // 0 -> R
+            {0, 0, -1, 0, 2, 0, -1, 2, 2, -1},     // R -> 2
+            {0, 0, 2, 0, -1, 0, 2, 1, -1, -2},     // 2 -> L
+            {0, 0, 1, 0, -2, 0, 1, -2, -2, 1}      // L -> 0
+    };
+
+    /**
+     * I型の反時計回り回転のキックテーブル（SRSの開始状態ごと、y上向き座標で (dx, dy) の順）。
+     */
+    private static final int[][] I_COUNTERCLOCKWISE = {
+            {0, 0, -1, 0, 2, 0, -1, 2, 2, -1},     // 0 -> L
+            {0, 0, 2, 0, -1, 0, 2, 1, -1, -2},     // R -> 0
+            {0, 0, 1, 0, -2, 0, 1, -2, -2, 1},     // 2 -> R
+            {0, 0, -2, 0, 1, 0, -2, -1, 1, 2}      // L -> 2
+    };
+
+    /**
+     * O型のキックテーブル（その場での回転のみ）。
+     */
+    private static final int[] NO_KICKS = {0, 0};
+
+    /**
+     * JLSTZ型の出現時（SRSの状態0）のセル（3×3の回転枠内、y軸下向き、x0, y0, x1, y1, ...）。
+     */
+    private static final int[][] JLSTZ_SPAWN_CELLS = {
+            {0, 0, 0, 1, 1, 1, 2, 1},   // J
+            {2, 0, 0, 1, 1, 1, 2, 1},   // L
+            {1, 0, 2, 0, 0, 1, 1, 1},   // S
+            {1, 0, 0, 1, 1, 1, 2, 1},   // T
+            {0, 0, 1, 0, 1, 1, 2, 1}    // Z
+    };
+
+    /**
+     * I型の出現時（SRSの状態0）のセル（4×4の回転枠内、y軸下向き）。
+     */
+    private static final int[] I_SPAWN_CELLS = {0, 1, 1, 1, 2, 1, 3, 1};
+
+    /**
+     * テトリミノ型×開始向き×回転方向（0: 時計回り、1: 反時計回り）ごとのオフセット（フィールド座標）。
+     */
+    private static final int[][][][] KICKS =
+            new int[TetrominoType.values().length][Rotation.values().length][2][];
+
+    /**
+     * テトリミノ型×向きごとのセル相対座標（x0, y0, x1, y1, ...）。
+     */
+    private static final int[][][] CELLS =
+            new int[TetrominoType.values().length][Rotation.values().length][];
+
+    /**
+     * テトリミノ型×向きごとの、SRSの回転枠の原点から見た基準位置のずれ（dx, dy）。
+     */
+    private static final int[][][] SHIFTS =
+            new int[TetrominoType.values().length][Rotation.values().length][];
+
+    static {
+        for (TetrominoType type : TetrominoType.values()) {
+            for (Rotation rotation : Rotation.values()) {
+                int t = type.ordinal();
+                int r = rotation.ordinal();
+
+                // 形状定義はTetrominoを唯一の情報源とする
+                List<Position> cells = new Tetromino(type, new Position(0, 0), rotation).getBlockPositions();
+                int[] offsets = new int[cells.size() * 2];
+                for (int i = 0; i < cells.size(); i++) {
+                    offsets[i * 2] = cells.get(i).x();
+                    offsets[i * 2 + 1] = cells.get(i).y();
+                }
+                CELLS[t][r] = offsets;
+                SHIFTS[t][r] = shift(type, rotation, offsets);
+            }
+        }
+        for (TetrominoType type : TetrominoType.values()) {
+            for (Rotation from : Rotation.values()) {
+                int t = type.ordinal();
+                int r = from.ordinal();
+                KICKS[t][r][0] = toFieldCoordinates(type, from, true);
+                KICKS[t][r][1] = toFieldCoordinates(type, from, false);
+            }
+        }
+    }
+
+    /**
+     * ユーティリティクラスのため、インスタンス化を禁止。
+     */
+    private SuperRotationSystem() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * 壁蹴りを考慮してテトリミノを回転します。
+     *
+     * @param field 衝突判定に使用するフィールド
+     * @param tetromino 回転するテトリミノ
+     * @param clockwise 時計回りの場合true、反時計回りの場合false
+     * @return 回転後のテトリミノ（すべてのオフセットで配置できない場合はnull）
+     * @throws NullPointerException fieldまたはtetrominoがnullの場合
+     */
+    public static Tetromino rotate(GameField field, Tetromino tetromino, boolean clockwise) {
+        Rotation from = tetromino.rotation();
+        Rotation to = clockwise ? from.clockwise() : from.counterclockwise();
+        int type = tetromino.type().ordinal();
+        int[] kicks = KICKS[type][from.ordinal()][clockwise ? 0 : 1];
+        int[] cells = CELLS[type][to.ordinal()];
+        int x = tetromino.position().x();
+        int y = tetromino.position().y();
+        int[] rows = field.rowMasks();
+
+        for (int i = 0; i < kicks.length; i += 2) {
+            int kx = x + kicks[i];
+            int ky = y + kicks[i + 1];
+            if (fits(rows, cells, kx, ky)) {
+                return new Tetromino(tetromino.type(), new Position(kx, ky), to);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 回転の遷移で試すオフセット（フィールド座標、y軸下向き）を返します。
+     *
+     * <p>オフセットは{@link Tetromino#position()}に加える量で、SRSのキックに回転前後の向きの
+     * 基準位置のずれの差を加えたものです（先頭はその場での回転に相当し、(0, 0)とは限りません）。</p>
+     *
+     * @param type テトリミノ型
+     * @param from 回転前の向き
+     * @param clockwise 時計回りの場合true、反時計回りの場合false
+     * @return 試す順に並んだオフセット（x0, y0, x1, y1, ...）のコピー
+     * @throws NullPointerException typeまたはfromがnullの場合
+     */
+    public static int[] kickOffsets(TetrominoType type, Rotation from, boolean clockwise) {
+        return KICKS[type.ordinal()][from.ordinal()][clockwise ? 0 : 1].clone();
+    }
+
+    /**
+     * SRSの状態（0: 出現時、1: R、2: 180度、3: L）を返します。
+     *
+     * <p>型ごとに{@link Rotation#DEG_0}に対応する状態から時計回りに数えます。</p>
+     *
+     * @param type テトリミノ型
+     * @param rotation 向き
+     * @return SRSの状態
+     */
+    private static int srsState(TetrominoType type, Rotation rotation) {
+        // T型のDEG_0は突起が下向き（SRSの状態2）、他の型のDEG_0はSRSの出現時の向き
+        int base = (type == TetrominoType.T) ? 2 : 0;
+        return (base + rotation.ordinal()) & 3;
+    }
+
+    /**
+     * 行ごとの占有マスクに対して、セル相対座標のテトリミノを指定位置に配置できるかを判定します。
+     */
+    private static boolean fits(int[] rows, int[] cells, int x, int y) {
+        for (int i = 0; i < cells.length; i += 2) {
+            int cx = x + cells[i];
+            int cy = y + cells[i + 1];
+            if (cx < 0 || cx >= GameField.WIDTH || cy < 0 || cy >= GameField.HEIGHT || (rows[cy] & (1 << cx)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * SRSの回転枠の原点から見た基準位置のずれを求めます。
+     *
+     * <p>SRSの出現形状を回転枠の中心で状態の数だけ時計回りに回転させたセルを平行移動し、
+     * {@link Tetromino}のセルと一致させる移動量を返します。O型はキックを持たないため(0, 0)です。</p>
+     *
+     * @throws IllegalStateException 形状がSRSの向きと平行移動で一致しない場合
+     */
+    private static int[] shift(TetrominoType type, Rotation rotation, int[] cells) {
+        int[] srs = srsCells(type, srsState(type, rotation));
+        if (srs == null) {
+            return new int[] {0, 0};
+        }
+        int dx = min(cells, 0) - min(srs, 0);
+        int dy = min(cells, 1) - min(srs, 1);
+        for (int i = 0; i < srs.length; i += 2) {
+            if (!contains(cells, srs[i] + dx, srs[i + 1] + dy)) {
+                throw new IllegalStateException("Shape is not an SRS orientation: " + type + " " + rotation);
+            }
+        }
+        return new int[] {dx, dy};
+    }
+
+    /**
+     * SRSの状態のセルを回転枠内の座標（y軸下向き）で返します。
+     *
+     * @return セル（x0, y0, x1, y1, ...）、O型の場合はnull
+     */
+    private static int[] srsCells(TetrominoType type, int state) {
+        int[] cells;
+        int size;
+        switch (type) {
+            case I -> {
+                cells = I_SPAWN_CELLS.clone();
+                size = 4;
+            }
+            case O -> {
+                return null;
+            }
+            case J -> {
+                cells = JLSTZ_SPAWN_CELLS[0].clone();
+                size = 3;
+            }
+            case L -> {
+                cells = JLSTZ_SPAWN_CELLS[1].clone();
+                size = 3;
+            }
+            case S -> {
+                cells = JLSTZ_SPAWN_CELLS[2].clone();
+                size = 3;
+            }
+            case T -> {
+                cells = JLSTZ_SPAWN_CELLS[3].clone();
+                size = 3;
+            }
+            case Z -> {
+                cells = JLSTZ_SPAWN_CELLS[4].clone();
+                size = 3;
+            }
+            default -> throw new AssertionError(type);
+        }
+        for (int turn = 0; turn < state; turn++) {
+            // y軸下向きの時計回り: (x, y) -> (size - 1 - y, x)
+            for (int i = 0; i < cells.length; i += 2) {
+                int x = cells[i];
+                cells[i] = size - 1 - cells[i + 1];
+                cells[i + 1] = x;
+            }
+        }
+        return cells;
+    }
+
+    private static int min(int[] cells, int axis) {
+        int min = Integer.MAX_VALUE;
+        for (int i = axis; i < cells.length; i += 2) {
+            min = Math.min(min, cells[i]);
+        }
+        return min;
+    }
+
+    private static boolean contains(int[] cells, int x, int y) {
+        for (int i = 0; i < cells.length; i += 2) {
+            if (cells[i] == x && cells[i + 1] == y) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * テトリミノ型と回転方向に対応するキックテーブルを返します。
+     */
+    private static int[][] kickTable(TetrominoType type, boolean clockwise) {
+        return switch (type) {
+            case I -> clockwise ? I_CLOCKWISE : I_COUNTERCLOCKWISE;
+            case O -> null;
+            case J, L, S, T, Z -> clockwise ? JLSTZ_CLOCKWISE : JLSTZ_COUNTERCLOCKWISE;
+        };
+    }
+
+    /**
+     * 回転の遷移のSRSのキック（y上向き）を、基準位置に加えるフィールド座標（y軸下向き）のオフセットに変換します。
+     */
+    private static int[] toFieldCoordinates(TetrominoType type, Rotation from, boolean clockwise) {
+        int[][] table = kickTable(type, clockwise);
+        if (table == null) {
+            return NO_KICKS;
+        }
+        Rotation to = clockwise ? from.clockwise() : from.counterclockwise();
+        int[] before = SHIFTS[type.ordinal()][from.ordinal()];
+        int[] after = SHIFTS[type.ordinal()][to.ordinal()];
+        int[] kicks = table[srsState(type, from)].clone();
+        for (int i = 0; i < kicks.length; i += 2) {
+            kicks[i] += before[0] - after[0];
+            kicks[i + 1] = -kicks[i + 1] + before[1] - after[1];
+        }
+        return kicks;
+    }
+}
@@ -75,6 +75,15 @@ public record Tetromino(TetrominoType type, Position position, Rotation rotation
         return new Tetromino(type, position, rotation.clockwise());
     }
 
+    /**
+     * テトリミノを反時計回りに90度回転します。
+     *
+     * @return 反時計回りに90度回転した新しいTetrominoインスタンス
+     */
+    public Tetromino rotateCounterclockwise() {
+        return new Tetromino(type, position, rotation.counterclockwise());
+    }
+
     /**
      * テトリミノを構成する4つのブロックの絶対座標を取得します。
      *
@@ -168,11 +177,13 @@ public record Tetromino(TetrominoType type, Position position, Rotation rotation
      *
      * <pre>
      * 0度:     90度:    180度:   270度:
-     * □■□     □        □       □
-     *  □      □■      ■□□    ■□
-     *         □               □
+     * □■□      □       □       □
+     *  □      ■□      ■□□     □■
+     *          □               □
      * </pre>
      *
+     * <p>回転状態は時計回りの順（突起が下・左・上・右）に並びます。</p>
+     *
      * @param rotation 回転状態
      * @return T型の相対座標リスト
      */
@@ -186,8 +197,8 @@ public record Tetromino(TetrominoType type, Position position, Rotation rotation
             );
             case DEG_90 -> List.of(
                     new Position(0, -1),
+                    new Position(-1, 0),
                     new Position(0, 0),
-                    new Position(1, 0),
                     new Position(0, 1)
             );
             case DEG_180 -> List.of(
@@ -198,8 +209,8 @@ public record Tetromino(TetrominoType type, Position position, Rotation rotation
             );
             case DEG_270 -> List.of(
                     new Position(0, -1),
-                    new Position(-1, 0),
                     new Position(0, 0),
+                    new Position(1, 0),
                     new Position(0, 1)
             );
         };
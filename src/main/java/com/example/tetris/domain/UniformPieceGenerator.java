@@ -0,0 +1,42 @@
+package com.example.tetris.domain;
+
+/**
+ * 7種類のテトリミノから一様ランダムに選択するピースジェネレーター。
+ *
+ * <p>各選択は独立しており、同じ種類が連続して出現することもあります。
+ * 乱数はSplitMix64で生成され、状態はこのレコードの{@code state}のみです。</p>
+ *
+ * @param state 乱数生成器の状態
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public record UniformPieceGenerator(long state) implements PieceGenerator {
+
+    /**
+     * テトリミノの種類の一覧（values()の配列コピーを避けるためキャッシュ）。
+     */
+    private static final TetrominoType[] TYPES = TetrominoType.values();
+
+    /**
+     * 次のテトリミノの種類を一様ランダムに選択します。
+     *
+     * @return 選択された種類と次の状態のジェネレーター
+     */
+    @Override
+    public PieceDraw next() {
+        long nextState = SplitMix64.nextState(state);
+        TetrominoType type = TYPES[SplitMix64.bounded(SplitMix64.mix(nextState), TYPES.length)];
+        return new PieceDraw(type, new UniformPieceGenerator(nextState));
+    }
+
+    /**
+     * 独立した出現順序を持つ子ジェネレーターを派生させます。
+     *
+     * @return 派生した一様ランダムなジェネレーター
+     */
+    @Override
+    public PieceGenerator split() {
+        return new UniformPieceGenerator(SplitMix64.mix(~state));
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.tetris.domain;
+
+/**
+ * 盤面・テトリミノのZobristハッシュ値を生成するPure Functionクラス。
+ *
+ * <p>フィールドの各セルに固定の64ビット乱数キーを割り当て、占有されたセルのキーの
+ * 排他的論理和をフィールドのハッシュ値とします。セルの追加・削除はキーの排他的論理和
+ * 1回で反映できるため、{@link GameField#place(Tetromino)}と{@link GameField#clearLines()}は
+ * ハッシュ値を再計算せず差分で更新します。</p>
+ *
+ * <h3>キーの決定性：</h3>
+ * <p>キーは固定シードのSplitMix64で生成されるため、JVMやサーバーノードが異なっても
+ * 同じ盤面は同じハッシュ値になります。</p>
+ *
+ * <p>ハッシュ値はセルの占有状態のみを表し、ブロックの種類（色）は含みません。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class Zobrist {
+
+    /**
+     * キー生成の固定シード。
+     */
+    private static final long KEY_SEED = 0x5A0B_2157_7E7B_15F1L;
+
+    /**
+     * 現在のテトリミノのキーを生成する際のソルト。
+     */
+    private static final long PIECE_SALT = 0x3C6E_F372_FE94_F82BL;
+
+    /**
+     * 次のテトリミノのキーを生成する際のソルト。
+     */
+    private static final long NEXT_PIECE_SALT = 0xA54F_F53A_5F1D_36F1L;
+
+    /**
+     * セルごとのキー（インデックスは y * WIDTH + x）。
+     */
+    private static final long[] CELL_KEYS = new long[GameField.WIDTH * GameField.HEIGHT];
+
+    static {
+        long state = KEY_SEED;
+        for (int i = 0; i < CELL_KEYS.length; i++) {
+            state = SplitMix64.nextState(state);
+            CELL_KEYS[i] = SplitMix64.mix(state);
+        }
+    }
+
+    /**
+     * ユーティリティクラスのため、インスタンス化を禁止。
+     */
+    private Zobrist() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * セルのキーを返します。
+     *
+     * @param x x座標（0-9）
+     * @param y y座標（0-19）
+     * @return セルのキー
+     */
+    public static long cellKey(int x, int y) {
+        return CELL_KEYS[y * GameField.WIDTH + x];
+    }
+
+    /**
+     * 現在のテトリミノ（種類・位置・回転状態）のキーを返します。
+     *
+     * @param tetromino テトリミノ
+     * @return テトリミノのキー
+     */
+    public static long pieceKey(Tetromino tetromino) {
+        long packed = ((long) tetromino.type().ordinal() << 48)
+                | ((long) tetromino.rotation().ordinal() << 40)
+                | ((tetromino.position().x() & 0xFFFFL) << 16)
+                | (tetromino.position().y() & 0xFFFFL);
+        return SplitMix64.mix(PIECE_SALT ^ packed);
+    }
+
+    /**
+     * 次のテトリミノの種類のキーを返します。
+     *
+     * @param type テトリミノの種類
+     * @return 次のテトリミノのキー
+     */
+    public static long nextPieceKey(TetrominoType type) {
+        return SplitMix64.mix(NEXT_PIECE_SALT + type.ordinal());
+    }
+
+    /**
+     * 指定行に置かれた1行分のセルのハッシュ値を求めます。
+     *
+     * @param occupancy 1行分の占有マスク（ビットxが1の場合x列が占有）
+     * @param y 行番号（0-19）
+     * @return 行のハッシュ値
+     */
+    static long row(int occupancy, int y) {
+        long hash = 0L;
+        int base = y * GameField.WIDTH;
+        for (int bits = occupancy; bits != 0; bits &= bits - 1) {
+            hash ^= CELL_KEYS[base + Integer.numberOfTrailingZeros(bits)];
+        }
+        return hash;
+    }
+}
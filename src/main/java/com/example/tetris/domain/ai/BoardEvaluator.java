@@ -0,0 +1,93 @@
+package com.example.tetris.domain.ai;
+
+import com.example.tetris.domain.GameField;
+
+/**
+ * 盤面評価ヒューリスティックを表すRecord。
+ *
+ * <p>評価値は次の4特徴量の線形結合で、値が大きいほど良い盤面です。</p>
+ * <ul>
+ *   <li>aggregateHeight: 全列の高さの合計</li>
+ *   <li>completeLines: 配置によって消去されたライン数</li>
+ *   <li>holes: 上にブロックがある空きセルの数</li>
+ *   <li>bumpiness: 隣接する列の高さの差の絶対値の合計</li>
+ * </ul>
+ *
+ * @param aggregateHeightWeight 高さの合計の重み
+ * @param completeLinesWeight 消去ライン数の重み
+ * @param holesWeight 穴の数の重み
+ * @param bumpinessWeight 凹凸の重み
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public record BoardEvaluator(
+        double aggregateHeightWeight,
+        double completeLinesWeight,
+        double holesWeight,
+        double bumpinessWeight
+) {
+    /**
+     * 遺伝的アルゴリズムで調整された一般的な重み。
+     */
+    public static final BoardEvaluator DEFAULT = new BoardEvaluator(-0.510066, 0.760666, -0.35663, -0.184483);
+
+    /**
+     * GameFieldを評価します。
+     *
+     * @param field 評価する盤面
+     * @param completeLines 配置によって消去されたライン数
+     * @return 評価値
+     */
+    public double evaluate(GameField field, int completeLines) {
+        FieldMask mask = FieldMask.of(field);
+        return evaluate(mask) + completeLinesWeight * completeLines;
+    }
+
+    /**
+     * FieldMaskを評価します（消去ライン数はFieldMaskに累積された値を使用）。
+     *
+     * @param mask 評価する盤面
+     * @return 評価値
+     */
+    double evaluateWithLines(FieldMask mask) {
+        return evaluate(mask) + completeLinesWeight * mask.linesCleared();
+    }
+
+    /**
+     * 消去ライン数を除く特徴量で盤面を評価します。
+     *
+     * @param mask 評価する盤面
+     * @return 評価値
+     */
+    private double evaluate(FieldMask mask) {
+        int[] heights = new int[GameField.WIDTH];
+        int covered = 0;  // 上にブロックがある列
+        int holes = 0;
+        for (int y = 0; y < GameField.HEIGHT; y++) {
+            int row = mask.row(y);
+            holes += Integer.bitCount(covered & ~row);
+            int newlyCovered = row & ~covered;
+            while (newlyCovered != 0) {
+                int x = Integer.numberOfTrailingZeros(newlyCovered);
+                heights[x] = GameField.HEIGHT - y;
+                newlyCovered &= newlyCovered - 1;
+            }
+            covered |= row;
+        }
+
+        int aggregateHeight = 0;
+        int bumpiness = 0;
+        for (int x = 0; x < GameField.WIDTH; x++) {
+            aggregateHeight += heights[x];
+            if (x > 0) {
+                bumpiness += Math.abs(heights[x] - heights[x - 1]);
+            }
+        }
+
+        return aggregateHeightWeight * aggregateHeight
+                + holesWeight * holes
+                + bumpinessWeight * bumpiness;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.tetris.domain.ai;
+
+/**
+ * {@link TranspositionCache}の統計情報を表すRecord。
+ *
+ * @param hits 検索でエントリが見つかった回数
+ * @param misses 検索でエントリが見つからなかった回数
+ * @param stores 格納回数
+ * @param replacements 異なる局面のエントリを置き換えた回数
+ * @param capacity 最大エントリ数
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public record CacheStats(long hits, long misses, long stores, long replacements, int capacity) {
+
+    /**
+     * ヒット率を返します。
+     *
+     * @return ヒット率（0.0-1.0、検索が0回の場合は0.0）
+     */
+    public double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+}
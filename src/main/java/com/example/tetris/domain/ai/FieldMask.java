@@ -0,0 +1,180 @@
+package com.example.tetris.domain.ai;
+
+import com.example.tetris.domain.GameField;
+import com.example.tetris.domain.Position;
+import com.example.tetris.domain.Rotation;
+import com.example.tetris.domain.Tetromino;
+import com.example.tetris.domain.TetrominoType;
+
+import java.util.List;
+
+/**
+ * 探索用のビットマスク形式のフィールド。
+ *
+ * <p>FieldMaskは各行の占有状態を10ビットのマスクで保持し、{@link GameField#canPlace(Tetromino)}と
+ * 同一の衝突判定をBlockオブジェクトの生成なしに行います。配置探索と先読みでは
+ * 数千回の衝突判定と固定を行うため、GameFieldを直接使用せずにこの形式に変換します。</p>
+ *
+ * <h3>不変性（Immutability）：</h3>
+ * <p>FieldMaskは不変オブジェクトです。{@link #lock(int, int, int, int)}は新しいインスタンスを返します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+final class FieldMask {
+
+    /**
+     * 1行がすべて埋まった状態のマスク。
+     */
+    static final int FULL_ROW = (1 << GameField.WIDTH) - 1;
+
+    /**
+     * 回転状態の数。
+     */
+    static final int ROTATIONS = Rotation.values().length;
+
+    /**
+     * テトリミノ型・回転状態ごとのブロック相対座標（[type][rotation][x0, y0, x1, y1, ...]）。
+     */
+    private static final int[][][] SHAPES = new int[TetrominoType.values().length][ROTATIONS][];
+
+    static {
+        // 形状定義はTetrominoを唯一の情報源とする
+        for (TetrominoType type : TetrominoType.values()) {
+            for (Rotation rotation : Rotation.values()) {
+                List<Position> cells = new Tetromino(type, new Position(0, 0), rotation).getBlockPositions();
+                int[] offsets = new int[cells.size() * 2];
+                for (int i = 0; i < cells.size(); i++) {
+                    offsets[i * 2] = cells.get(i).x();
+                    offsets[i * 2 + 1] = cells.get(i).y();
+                }
+                SHAPES[type.ordinal()][rotation.ordinal()] = offsets;
+            }
+        }
+    }
+
+    /**
+     * 各行の占有マスク（ビットxが1の場合、x列が占有）。
+     */
+    private final int[] rows;
+
+    /**
+     * この状態に至るまでに消去されたライン数。
+     */
+    private final int linesCleared;
+
+    private FieldMask(int[] rows, int linesCleared) {
+        this.rows = rows;
+        this.linesCleared = linesCleared;
+    }
+
+    /**
+     * GameFieldからFieldMaskを生成します。
+     *
+     * @param field 変換元のGameField
+     * @return FieldMask
+     */
+    static FieldMask of(GameField field) {
+        return new FieldMask(field.rowMasks(), 0);
+    }
+
+    /**
+     * テトリミノ型・回転状態のブロック相対座標を返します。
+     *
+     * @param type テトリミノ型のordinal
+     * @param rotation 回転状態のordinal
+     * @return [x0, y0, x1, y1, ...]形式の相対座標（変更禁止）
+     */
+    static int[] shape(int type, int rotation) {
+        return SHAPES[type][rotation];
+    }
+
+    /**
+     * テトリミノを指定位置に配置可能かを確認します。
+     *
+     * <p>判定規則は{@link GameField#canPlace(Tetromino)}と同一です。</p>
+     *
+     * @param type テトリミノ型のordinal
+     * @param rotation 回転状態のordinal
+     * @param x 基準位置のx座標
+     * @param y 基準位置のy座標
+     * @return 配置可能な場合true
+     */
+    boolean fits(int type, int rotation, int x, int y) {
+        int[] offsets = SHAPES[type][rotation];
+        for (int i = 0; i < offsets.length; i += 2) {
+            int cx = x + offsets[i];
+            int cy = y + offsets[i + 1];
+            if (cx < 0 || cx >= GameField.WIDTH || cy < 0 || cy >= GameField.HEIGHT) {
+                return false;
+            }
+            if ((rows[cy] & (1 << cx)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 指定位置からハードドロップした場合の着地位置のy座標を求めます。
+     *
+     * @param type テトリミノ型のordinal
+     * @param rotation 回転状態のordinal
+     * @param x 基準位置のx座標
+     * @param y 基準位置のy座標（配置可能であること）
+     * @return 着地位置のy座標
+     */
+    int dropY(int type, int rotation, int x, int y) {
+        while (fits(type, rotation, x, y + 1)) {
+            y++;
+        }
+        return y;
+    }
+
+    /**
+     * テトリミノを固定し、埋まった行を消去した新しいFieldMaskを返します。
+     *
+     * @param type テトリミノ型のordinal
+     * @param rotation 回転状態のordinal
+     * @param x 基準位置のx座標
+     * @param y 基準位置のy座標（配置可能であること）
+     * @return 固定・ライン消去後のFieldMask
+     */
+    FieldMask lock(int type, int rotation, int x, int y) {
+        int[] placed = rows.clone();
+        int[] offsets = SHAPES[type][rotation];
+        for (int i = 0; i < offsets.length; i += 2) {
+            placed[y + offsets[i + 1]] |= 1 << (x + offsets[i]);
+        }
+
+        // 埋まった行を除いて下に詰める
+        int[] cleared = new int[GameField.HEIGHT];
+        int write = GameField.HEIGHT - 1;
+        for (int read = GameField.HEIGHT - 1; read >= 0; read--) {
+            if (placed[read] != FULL_ROW) {
+                cleared[write--] = placed[read];
+            }
+        }
+        return new FieldMask(cleared, linesCleared + write + 1);
+    }
+
+    /**
+     * この状態に至るまでに消去されたライン数を返します。
+     *
+     * @return 消去ライン数
+     */
+    int linesCleared() {
+        return linesCleared;
+    }
+
+    /**
+     * 指定行の占有マスクを返します。
+     *
+     * @param y 行（0-19）
+     * @return 占有マスク
+     */
+    int row(int y) {
+        return rows[y];
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.tetris.domain.ai;
+
+import com.example.tetris.domain.GameCommand;
+import com.example.tetris.domain.Tetromino;
+
+import java.util.List;
+
+/**
+ * テトリミノの最終配置と、そこに到達するための操作列を表すRecord。
+ *
+ * @param tetromino 着地位置のテトリミノ
+ * @param commands 探索開始位置から着地・固定までの操作列（末尾は{@link GameCommand#HARD_DROP}）
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public record Placement(Tetromino tetromino, List<GameCommand> commands) {
+
+    /**
+     * コンパクトコンストラクタ。
+     *
+     * @throws NullPointerException tetrominoまたはcommandsがnullの場合
+     */
+    public Placement {
+        if (tetromino == null) {
+            throw new NullPointerException("tetromino must not be null");
+        }
+        commands = List.copyOf(commands);
+    }
+}
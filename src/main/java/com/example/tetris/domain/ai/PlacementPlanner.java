@@ -0,0 +1,189 @@
+package com.example.tetris.domain.ai;
+
+import com.example.tetris.domain.GameState;
+import com.example.tetris.domain.GameStatus;
+import com.example.tetris.domain.Tetromino;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 盤面評価と1手先読みで現在のテトリミノの配置を決定するAI。
+ *
+ * <p>PlacementPlannerは、現在のテトリミノの到達可能な配置をすべて列挙して評価した後、
+ * 評価値の高い順に次のテトリミノ（{@link GameState#nextTetromino()}）の最善配置まで
+ * 先読みして評価し直します。</p>
+ *
+ * <h3>時間予算：</h3>
+ * <p>先読みは時間予算の範囲内でのみ行われます。予算を使い切った時点で先読み済みの
+ * 候補の中から最善の配置を選択し、1候補も先読みできなかった場合は先読みなしの
+ * 評価値で選択します。評価値の高い候補から先読みするため、予算が不足しても
+ * 有望な候補は先読みされます。</p>
+ *
+ * <h3>トランスポジションキャッシュ：</h3>
+ * <p>{@link TranspositionCache}を指定した場合、すべての候補を先読みできた局面の結果を
+ * キャッシュし、同じ局面（フィールド・現在のテトリミノ・次のテトリミノが同一）では
+ * 探索を省略します。キャッシュは同じ評価関数を使うプランナー間でのみ共有してください。</p>
+ *
+ * <h3>スレッドセーフ性：</h3>
+ * <p>探索バッファを再利用するため、インスタンスはスレッドセーフではありません。
+ * ボットごとにインスタンスを生成してください。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class PlacementPlanner {
+
+    /**
+     * デフォルトの1手あたりの時間予算。
+     */
+    public static final Duration DEFAULT_TIME_BUDGET = Duration.ofMillis(5);
+
+    private final BoardEvaluator evaluator;
+    private final long timeBudgetNanos;
+    private final TranspositionCache<Placement> cache;
+    private final PlacementSearch currentSearch = new PlacementSearch();
+    private final PlacementSearch nextSearch = new PlacementSearch();
+
+    /**
+     * デフォルトの評価関数と時間予算でPlacementPlannerを生成します。
+     */
+    public PlacementPlanner() {
+        this(BoardEvaluator.DEFAULT, DEFAULT_TIME_BUDGET);
+    }
+
+    /**
+     * コンストラクタ。
+     *
+     * @param evaluator 盤面評価関数
+     * @param timeBudget 1手あたりの先読みの時間予算
+     * @throws NullPointerException evaluatorまたはtimeBudgetがnullの場合
+     * @throws IllegalArgumentException timeBudgetが負の場合
+     */
+    public PlacementPlanner(BoardEvaluator evaluator, Duration timeBudget) {
+        this(evaluator, timeBudget, null);
+    }
+
+    /**
+     * トランスポジションキャッシュを使用するコンストラクタ。
+     *
+     * @param evaluator 盤面評価関数
+     * @param timeBudget 1手あたりの先読みの時間予算
+     * @param cache 探索結果のキャッシュ（nullの場合はキャッシュしない）
+     * @throws NullPointerException evaluatorまたはtimeBudgetがnullの場合
+     * @throws IllegalArgumentException timeBudgetが負の場合
+     */
+    public PlacementPlanner(BoardEvaluator evaluator, Duration timeBudget, TranspositionCache<Placement> cache) {
+        this.cache = cache;
+        this.evaluator = Objects.requireNonNull(evaluator, "evaluator must not be null");
+        Objects.requireNonNull(timeBudget, "timeBudget must not be null");
+        if (timeBudget.isNegative()) {
+            throw new IllegalArgumentException("timeBudget must not be negative");
+        }
+        this.timeBudgetNanos = timeBudget.toNanos();
+    }
+
+    /**
+     * 現在のテトリミノの最善の配置を決定します。
+     *
+     * @param state 現在のGameState
+     * @return 最善の配置（ゲームオーバー、または配置が存在しない場合は空）
+     */
+    public Optional<Placement> plan(GameState state) {
+        if (state.status() != GameStatus.PLAYING) {
+            return Optional.empty();
+        }
+        long deadline = System.nanoTime() + timeBudgetNanos;
+        Tetromino current = state.currentTetromino();
+        Tetromino next = state.nextTetromino();
+
+        // 0. 同じ局面の探索結果がキャッシュされていれば再利用
+        long key = 0L;
+        if (cache != null) {
+            key = TranspositionCache.key(state.field(), current, next.type());
+            Optional<Placement> cached = cache.get(key);
+            if (cached.isPresent()) {
+                return cached;
+            }
+        }
+
+        // 1. 現在のテトリミノの配置を列挙し、先読みなしで評価
+        FieldMask root = FieldMask.of(state.field());
+        int type = current.type().ordinal();
+        int count = currentSearch.search(
+                root, type, current.rotation().ordinal(), current.position().x(), current.position().y());
+        if (count == 0) {
+            return Optional.empty();
+        }
+
+        FieldMask[] after = new FieldMask[count];
+        double[] shallowScores = new double[count];
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) {
+            after[i] = root.lock(type, currentSearch.rotation(i), currentSearch.x(i), currentSearch.y(i));
+            shallowScores[i] = evaluator.evaluateWithLines(after[i]);
+            order[i] = i;
+        }
+        sortByScoreDescending(order, shallowScores);
+
+        // 2. 評価値の高い順に、時間予算の範囲で次のテトリミノまで先読み
+        int best = -1;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        int evaluated = 0;
+        for (; evaluated < count && System.nanoTime() - deadline < 0; evaluated++) {
+            int candidate = order[evaluated];
+            double score = bestNextScore(after[candidate], next);
+            if (best < 0 || score > bestScore) {
+                best = candidate;
+                bestScore = score;
+            }
+        }
+        if (best < 0) {
+            best = order[0];
+        }
+
+        Placement placement = currentSearch.placement(best);
+        // 時間予算で打ち切った結果は最善とは限らないため、キャッシュしない
+        if (cache != null && evaluated == count) {
+            cache.put(key, placement);
+        }
+        return Optional.of(placement);
+    }
+
+    /**
+     * 次のテトリミノの最善配置の評価値を求めます。
+     *
+     * @param field 現在のテトリミノを固定した後の盤面
+     * @param next 次のテトリミノ（出現位置）
+     * @return 最善の評価値（次のテトリミノが出現できない場合は負の無限大）
+     */
+    private double bestNextScore(FieldMask field, Tetromino next) {
+        int type = next.type().ordinal();
+        int count = nextSearch.search(
+                field, type, next.rotation().ordinal(), next.position().x(), next.position().y());
+
+        double best = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            FieldMask locked = field.lock(type, nextSearch.rotation(i), nextSearch.x(i), nextSearch.y(i));
+            best = Math.max(best, evaluator.evaluateWithLines(locked));
+        }
+        return best;
+    }
+
+    /**
+     * インデックス配列を評価値の降順に並べ替えます（候補数は高々数十のため挿入ソート）。
+     */
+    private static void sortByScoreDescending(int[] order, double[] scores) {
+        for (int i = 1; i < order.length; i++) {
+            int value = order[i];
+            int j = i - 1;
+            while (j >= 0 && scores[order[j]] < scores[value]) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = value;
+        }
+    }
+}
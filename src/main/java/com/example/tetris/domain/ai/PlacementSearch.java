@@ -0,0 +1,313 @@
+package com.example.tetris.domain.ai;
+
+import com.example.tetris.domain.GameCommand;
+import com.example.tetris.domain.GameField;
+import com.example.tetris.domain.Position;
+import com.example.tetris.domain.Rotation;
+import com.example.tetris.domain.SuperRotationSystem;
+import com.example.tetris.domain.Tetromino;
+import com.example.tetris.domain.TetrominoType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * テトリミノの到達可能な最終配置をすべて列挙する探索クラス。
+ *
+ * <p>PlacementSearchは、位置×回転状態を頂点とし、{@link com.example.tetris.domain.GameState}と同じ
+ * 操作（左右移動・下移動・壁蹴り付きの時計回り/反時計回り回転）を辺とするグラフを幅優先探索します。
+ * 訪問した各状態からハードドロップした着地位置を最終配置とし、占有セルが同一の配置
+ * （O型の回転違いなど）は最短の操作列のものだけを残します。</p>
+ *
+ * <h3>操作列：</h3>
+ * <p>幅優先探索のため、各配置の操作列は到達可能な中で最短です。下移動を含む操作列は
+ * 段差の下に差し込む配置（タック）の場合にのみ現れます。</p>
+ *
+ * <h3>スレッドセーフ性：</h3>
+ * <p>探索用のバッファを再利用するため、インスタンスはスレッドセーフではありません。
+ * スレッドまたはボットごとにインスタンスを生成してください。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class PlacementSearch {
+
+    /**
+     * 探索するx座標の最小値（ブロック相対座標の最小値 -2 を考慮）。
+     */
+    private static final int X_MIN = -2;
+
+    /**
+     * 探索するx座標の範囲。
+     */
+    private static final int X_SLOTS = GameField.WIDTH + 6;
+
+    /**
+     * 探索するy座標の最小値。
+     */
+    private static final int Y_MIN = -2;
+
+    /**
+     * 探索するy座標の範囲。
+     */
+    private static final int Y_SLOTS = GameField.HEIGHT + 4;
+
+    /**
+     * 状態数（位置×回転状態）。
+     */
+    private static final int STATES = X_SLOTS * Y_SLOTS * FieldMask.ROTATIONS;
+
+    /**
+     * 1回の探索で列挙される配置数の上限。段差の下への差し込みにより同じ位置×回転状態から
+     * 複数の高さに着地できるため、配置は訪問した状態ごとに最大1つとして状態数で上限を取る。
+     */
+    private static final int MAX_PLACEMENTS = STATES;
+
+    /**
+     * 下移動を表す操作のordinal。
+     */
+    private static final byte MOVE_DOWN = (byte) GameCommand.MOVE_DOWN.ordinal();
+
+    /**
+     * 回転状態ごとの時計回り回転後の回転状態。
+     */
+    private static final int[] CLOCKWISE = new int[FieldMask.ROTATIONS];
+
+    /**
+     * 回転状態ごとの反時計回り回転後の回転状態。
+     */
+    private static final int[] COUNTERCLOCKWISE = new int[FieldMask.ROTATIONS];
+
+    /**
+     * テトリミノ型×回転前の回転状態×回転方向（0: 時計回り、1: 反時計回り）ごとの壁蹴りオフセット。
+     */
+    private static final int[][][][] KICKS =
+            new int[TetrominoType.values().length][FieldMask.ROTATIONS][2][];
+
+    static {
+        for (Rotation rotation : Rotation.values()) {
+            CLOCKWISE[rotation.ordinal()] = rotation.clockwise().ordinal();
+            COUNTERCLOCKWISE[rotation.ordinal()] = rotation.counterclockwise().ordinal();
+            for (TetrominoType type : TetrominoType.values()) {
+                KICKS[type.ordinal()][rotation.ordinal()][0] = SuperRotationSystem.kickOffsets(type, rotation, true);
+                KICKS[type.ordinal()][rotation.ordinal()][1] = SuperRotationSystem.kickOffsets(type, rotation, false);
+            }
+        }
+    }
+
+    // 探索用バッファ（世代番号で訪問済みを管理し、探索ごとのクリアを不要にする）
+    private final int[] visitedGeneration = new int[STATES];
+    private final int[] parent = new int[STATES];
+    private final byte[] via = new byte[STATES];
+    private final int[] queue = new int[STATES];
+    private int generation;
+
+    // 列挙された配置
+    private final int[] placementState = new int[MAX_PLACEMENTS];
+    private final int[] placementY = new int[MAX_PLACEMENTS];
+    private final int[] placementCells = new int[MAX_PLACEMENTS];
+    private int placementCount;
+    private int searchedType;
+
+    /**
+     * フィールド上のテトリミノの到達可能な最終配置をすべて列挙します。
+     *
+     * @param field 探索するフィールド
+     * @param piece 操作するテトリミノ（現在位置から探索）
+     * @return 最終配置のリスト（テトリミノが現在位置に配置できない場合は空）
+     */
+    public List<Placement> reachablePlacements(GameField field, Tetromino piece) {
+        int count = search(
+                FieldMask.of(field),
+                piece.type().ordinal(),
+                piece.rotation().ordinal(),
+                piece.position().x(),
+                piece.position().y()
+        );
+        List<Placement> placements = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            placements.add(placement(i));
+        }
+        return placements;
+    }
+
+    /**
+     * 幅優先探索で最終配置を列挙します。
+     *
+     * @param mask 探索するフィールド
+     * @param type テトリミノ型のordinal
+     * @param rotation 開始回転状態のordinal
+     * @param x 開始位置のx座標
+     * @param y 開始位置のy座標
+     * @return 列挙された配置数
+     */
+    int search(FieldMask mask, int type, int rotation, int x, int y) {
+        placementCount = 0;
+        searchedType = type;
+        if (!mask.fits(type, rotation, x, y)) {
+            return 0;
+        }
+        generation++;
+
+        int head = 0;
+        int tail = 0;
+        int start = key(rotation, x, y);
+        visitedGeneration[start] = generation;
+        parent[start] = -1;
+        queue[tail++] = start;
+
+        while (head < tail) {
+            int state = queue[head++];
+            int r = rotationOf(state);
+            int sx = xOf(state);
+            int sy = yOf(state);
+
+            // 下移動で到達した状態の着地位置は移動元と同一のため、登録済み
+            if (parent[state] < 0 || via[state] != MOVE_DOWN) {
+                addPlacement(state, r, sx, mask.dropY(type, r, sx, sy));
+            }
+
+            tail = visit(mask, type, state, r, sx - 1, sy, GameCommand.MOVE_LEFT, tail);
+            tail = visit(mask, type, state, r, sx + 1, sy, GameCommand.MOVE_RIGHT, tail);
+            tail = visitRotation(mask, type, state, r, 0, sx, sy, GameCommand.ROTATE, tail);
+            tail = visitRotation(mask, type, state, r, 1, sx, sy, GameCommand.ROTATE_CCW, tail);
+            tail = visit(mask, type, state, r, sx, sy + 1, GameCommand.MOVE_DOWN, tail);
+        }
+        return placementCount;
+    }
+
+    /**
+     * 列挙されたi番目の配置の回転状態を返します。
+     */
+    int rotation(int i) {
+        return rotationOf(placementState[i]);
+    }
+
+    /**
+     * 列挙されたi番目の配置のx座標を返します。
+     */
+    int x(int i) {
+        return xOf(placementState[i]);
+    }
+
+    /**
+     * 列挙されたi番目の配置の着地位置のy座標を返します。
+     */
+    int y(int i) {
+        return placementY[i];
+    }
+
+    /**
+     * 列挙されたi番目の配置の操作列を復元します。
+     *
+     * @param i 配置のインデックス
+     * @return 配置
+     */
+    Placement placement(int i) {
+        List<GameCommand> commands = new ArrayList<>();
+        for (int state = placementState[i]; parent[state] >= 0; state = parent[state]) {
+            commands.add(GameCommand.values()[via[state]]);
+        }
+        Collections.reverse(commands);
+        commands.add(GameCommand.HARD_DROP);
+
+        Tetromino tetromino = new Tetromino(
+                TetrominoType.values()[searchedType],
+                new Position(x(i), y(i)),
+                Rotation.values()[rotation(i)]
+        );
+        return new Placement(tetromino, commands);
+    }
+
+    /**
+     * 未訪問かつ配置可能な状態をキューに追加します。
+     *
+     * @return 更新後のキュー末尾
+     */
+    private int visit(FieldMask mask, int type, int from, int r, int x, int y, GameCommand command, int tail) {
+        if (!mask.fits(type, r, x, y)) {
+            return tail;
+        }
+        int state = key(r, x, y);
+        if (visitedGeneration[state] == generation) {
+            return tail;
+        }
+        visitedGeneration[state] = generation;
+        parent[state] = from;
+        via[state] = (byte) command.ordinal();
+        queue[tail] = state;
+        return tail + 1;
+    }
+
+    /**
+     * 壁蹴りを考慮した回転先の状態をキューに追加します（最初に配置可能なオフセットのみ）。
+     *
+     * @return 更新後のキュー末尾
+     */
+    private int visitRotation(FieldMask mask, int type, int from, int r, int direction, int x, int y,
+                              GameCommand command, int tail) {
+        int to = (direction == 0) ? CLOCKWISE[r] : COUNTERCLOCKWISE[r];
+        int[] kicks = KICKS[type][r][direction];
+        for (int i = 0; i < kicks.length; i += 2) {
+            int kx = x + kicks[i];
+            int ky = y + kicks[i + 1];
+            if (mask.fits(type, to, kx, ky)) {
+                return visit(mask, type, from, to, kx, ky, command, tail);
+            }
+        }
+        return tail;
+    }
+
+    /**
+     * 着地位置を配置として登録します（占有セルが同一の配置が登録済みの場合は無視）。
+     */
+    private void addPlacement(int state, int r, int x, int landingY) {
+        int cells = cellsKey(r, x, landingY);
+        for (int i = 0; i < placementCount; i++) {
+            if (placementCells[i] == cells) {
+                return;
+            }
+        }
+        placementState[placementCount] = state;
+        placementY[placementCount] = landingY;
+        placementCells[placementCount] = cells;
+        placementCount++;
+    }
+
+    /**
+     * 占有セルの集合を表すキーを求めます（4セルのインデックスを昇順に8ビットずつ詰める）。
+     */
+    private int cellsKey(int r, int x, int y) {
+        int[] offsets = FieldMask.shape(searchedType, r);
+        int c0 = (y + offsets[1]) * GameField.WIDTH + x + offsets[0];
+        int c1 = (y + offsets[3]) * GameField.WIDTH + x + offsets[2];
+        int c2 = (y + offsets[5]) * GameField.WIDTH + x + offsets[4];
+        int c3 = (y + offsets[7]) * GameField.WIDTH + x + offsets[6];
+        // 4要素のソーティングネットワーク
+        int t;
+        if (c0 > c1) { t = c0; c0 = c1; c1 = t; }
+        if (c2 > c3) { t = c2; c2 = c3; c3 = t; }
+        if (c0 > c2) { t = c0; c0 = c2; c2 = t; }
+        if (c1 > c3) { t = c1; c1 = c3; c3 = t; }
+        if (c1 > c2) { t = c1; c1 = c2; c2 = t; }
+        return c0 << 24 | c1 << 16 | c2 << 8 | c3;
+    }
+
+    private static int key(int rotation, int x, int y) {
+        return (rotation * Y_SLOTS + (y - Y_MIN)) * X_SLOTS + (x - X_MIN);
+    }
+
+    private static int rotationOf(int state) {
+        return state / (X_SLOTS * Y_SLOTS);
+    }
+
+    private static int xOf(int state) {
+        return state % X_SLOTS + X_MIN;
+    }
+
+    private static int yOf(int state) {
+        return (state / X_SLOTS) % Y_SLOTS + Y_MIN;
+    }
+}
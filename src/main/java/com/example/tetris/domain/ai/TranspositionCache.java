@@ -0,0 +1,126 @@
+package com.example.tetris.domain.ai;
+
+import com.example.tetris.domain.GameField;
+import com.example.tetris.domain.Tetromino;
+import com.example.tetris.domain.TetrominoType;
+import com.example.tetris.domain.Zobrist;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 探索・評価結果を局面ごとに保持する有界のトランスポジションキャッシュ。
+ *
+ * <p>局面のキーは（フィールドのZobristハッシュ値、現在のテトリミノ、次のテトリミノの種類）の
+ * Zobristキーの排他的論理和です。同じ局面を繰り返し評価するAI・ヒントの処理で、
+ * 探索をやり直さずに前回の結果を再利用します。</p>
+ *
+ * <h3>容量と置換：</h3>
+ * <p>キャッシュは2のべき乗個のスロットを持つダイレクトマップ方式で、キーの下位ビットで
+ * スロットを決め、同じスロットに新しい局面を格納すると古い局面を置き換えます。
+ * メモリ使用量は容量で固定され、エントリ数が容量を超えることはありません。</p>
+ *
+ * <h3>スレッドセーフ性：</h3>
+ * <p>スロットは{@link AtomicReferenceArray}で管理され、ロックなしで複数スレッドから
+ * 同時に読み書きできます。キーは64ビットのため、異なる局面が同じキーになる確率は
+ * 実用上無視できます。</p>
+ *
+ * @param <V> キャッシュする値の型（不変であること）
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class TranspositionCache<V> {
+
+    /**
+     * スロットに格納されるエントリ。
+     */
+    private record Entry<V>(long key, V value) {
+    }
+
+    private final AtomicReferenceArray<Entry<V>> slots;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+    private final LongAdder replacements = new LongAdder();
+
+    /**
+     * コンストラクタ。
+     *
+     * @param capacity 最大エントリ数（2のべき乗に切り上げ、1以上）
+     * @throws IllegalArgumentException capacityが1未満、または2^30を超える場合
+     */
+    public TranspositionCache(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * 局面のキーを求めます。
+     *
+     * @param field フィールド
+     * @param current 現在のテトリミノ
+     * @param next 次のテトリミノの種類
+     * @return 局面のキー
+     */
+    public static long key(GameField field, Tetromino current, TetrominoType next) {
+        return field.zobristHash() ^ Zobrist.pieceKey(current) ^ Zobrist.nextPieceKey(next);
+    }
+
+    /**
+     * キーに対応する値を取得します。
+     *
+     * @param key 局面のキー
+     * @return 格納されている値（存在しない、または置き換えられた場合は空）
+     */
+    public Optional<V> get(long key) {
+        Entry<V> entry = slots.get(index(key));
+        if (entry != null && entry.key() == key) {
+            hits.increment();
+            return Optional.of(entry.value());
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * キーに対応する値を格納します（同じスロットの既存のエントリは置き換えられます）。
+     *
+     * @param key 局面のキー
+     * @param value 格納する値
+     * @throws NullPointerException valueがnullの場合
+     */
+    public void put(long key, V value) {
+        if (value == null) {
+            throw new NullPointerException("value must not be null");
+        }
+        Entry<V> previous = slots.getAndSet(index(key), new Entry<>(key, value));
+        stores.increment();
+        if (previous != null && previous.key() != key) {
+            replacements.increment();
+        }
+    }
+
+    /**
+     * 統計情報のスナップショットを返します。
+     *
+     * @return 統計情報
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), stores.sum(), replacements.sum(), slots.length());
+    }
+
+    private int index(long key) {
+        return (int) key & mask;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.tetris.domain.replay;
+
+import com.example.tetris.domain.GameState;
+
+/**
+ * リプレイ途中のGameStateのスナップショットを表す不変レコードクラス。
+ *
+ * <p>Keyframeは、指定数の操作を適用した時点のGameStateと、その時点の入力ログ上の
+ * 読み出し位置を保持します。シーク時は目的位置の直前のKeyframeから再シミュレーションを
+ * 再開することで、先頭から再生し直す必要をなくします。</p>
+ *
+ * @param commandIndex このキーフレームまでに適用済みの操作数
+ * @param offset 次の操作の入力ログ上のバイト位置
+ * @param tick 最後に適用した操作のティック
+ * @param pieceCount このキーフレームまでに固定されたテトリミノの数
+ * @param state この時点のGameState
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public record Keyframe(int commandIndex, int offset, long tick, int pieceCount, GameState state) {
+    // Record宣言により、以下が自動生成されます：
+    // - private final int commandIndex; 等
+    // - public int commandIndex() 等
+    // - public boolean equals(Object o)
+    // - public int hashCode()
+    // - public String toString()
+}
@@ -0,0 +1,230 @@
+package com.example.tetris.domain.replay;
+
+import com.example.tetris.domain.PieceGenerator;
+import com.example.tetris.domain.SevenBagPieceGenerator;
+import com.example.tetris.domain.UniformPieceGenerator;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 1ゲーム分の入力ログを表す不変レコードクラス。
+ *
+ * <p>Replayは、ゲーム開始時のピースジェネレーターと、ティック付きの操作列から構成されます。
+ * GameStateは決定的に遷移するため、Replayから最終状態を含むすべての途中状態を
+ * {@link ReplayEngine}で再現できます。</p>
+ *
+ * <h3>サイズ：</h3>
+ * <p>操作1件あたり通常1バイトで記録されるため、数千操作のゲームでも数KB程度です。
+ * すべてのゲームのReplayを保存することを想定しています。</p>
+ *
+ * <h3>バイナリ形式（{@link #toBytes()}）：</h3>
+ * <pre>
+ * magic(2) version(1) generatorKind(1) generatorState(8) bagMask(1)
+ * commandCount(4) logLength(4) inputLog(logLength)
+ * </pre>
+ *
+ * @param initialGenerator ゲーム開始時のピースジェネレーター
+ * @param inputLog エンコード済みの入力ログ（形式は{@link ReplayRecorder}を参照）
+ * @param commandCount 入力ログに含まれる操作数
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public record Replay(PieceGenerator initialGenerator, byte[] inputLog, int commandCount) {
+
+    /**
+     * バイナリ形式の識別子（"TR"）。
+     */
+    private static final short MAGIC = 0x5452;
+
+    /**
+     * バイナリ形式のバージョン。
+     */
+    private static final byte FORMAT_VERSION = 1;
+
+    /**
+     * ピースジェネレーター種別: 一様ランダム。
+     */
+    private static final byte GENERATOR_UNIFORM = 0;
+
+    /**
+     * ピースジェネレーター種別: 7-bag。
+     */
+    private static final byte GENERATOR_SEVEN_BAG = 1;
+
+    /**
+     * 入力ログを除くヘッダーのバイト数。
+     */
+    private static final int HEADER_SIZE = 2 + 1 + 1 + 8 + 1 + 4 + 4;
+
+    /**
+     * Compact constructor: 入力値の検証と防御的コピーを行います。
+     *
+     * @throws NullPointerException initialGeneratorまたはinputLogがnullの場合
+     * @throws IllegalArgumentException commandCountが負の値の場合
+     */
+    public Replay {
+        if (initialGenerator == null) {
+            throw new NullPointerException("initialGenerator must not be null");
+        }
+        if (inputLog == null) {
+            throw new NullPointerException("inputLog must not be null");
+        }
+        if (commandCount < 0) {
+            throw new IllegalArgumentException("commandCount must be non-negative");
+        }
+        inputLog = inputLog.clone();
+    }
+
+    /**
+     * エンコード済みの入力ログのコピーを返します。
+     *
+     * @return 入力ログのコピー
+     */
+    @Override
+    public byte[] inputLog() {
+        return inputLog.clone();
+    }
+
+    /**
+     * 入力ログを先頭から読み出すカーソルを返します。
+     *
+     * @return 新しいカーソル
+     */
+    public ReplayCursor cursor() {
+        return new ReplayCursor(inputLog, commandCount, 0, 0, 0L);
+    }
+
+    /**
+     * 指定位置から入力ログを読み出すカーソルを返します。
+     *
+     * @param keyframe 読み出しを開始するキーフレーム
+     * @return キーフレーム直後の操作から読み出すカーソル
+     */
+    ReplayCursor cursorAt(Keyframe keyframe) {
+        return new ReplayCursor(inputLog, commandCount, keyframe.offset(), keyframe.commandIndex(), keyframe.tick());
+    }
+
+    /**
+     * バイナリ形式でのサイズを返します。
+     *
+     * @return バイト数
+     */
+    public int sizeInBytes() {
+        return HEADER_SIZE + inputLog.length;
+    }
+
+    /**
+     * バイナリ形式に変換します。
+     *
+     * @return バイナリ形式のReplay
+     */
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(sizeInBytes());
+        buffer.putShort(MAGIC);
+        buffer.put(FORMAT_VERSION);
+        if (initialGenerator instanceof SevenBagPieceGenerator bag) {
+            buffer.put(GENERATOR_SEVEN_BAG);
+            buffer.putLong(bag.state());
+            buffer.put((byte) bag.remainingMask());
+        } else if (initialGenerator instanceof UniformPieceGenerator uniform) {
+            buffer.put(GENERATOR_UNIFORM);
+            buffer.putLong(uniform.state());
+            buffer.put((byte) 0);
+        } else {
+            throw new IllegalStateException("Unsupported piece generator: " + initialGenerator);
+        }
+        buffer.putInt(commandCount);
+        buffer.putInt(inputLog.length);
+        buffer.put(inputLog);
+        return buffer.array();
+    }
+
+    /**
+     * バイナリ形式からReplayを復元します。
+     *
+     * @param bytes バイナリ形式のReplay
+     * @return 復元されたReplay
+     * @throws NullPointerException bytesがnullの場合
+     * @throws IllegalArgumentException 形式が不正な場合
+     */
+    public static Replay fromBytes(byte[] bytes) {
+        if (bytes == null) {
+            throw new NullPointerException("bytes must not be null");
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            if (buffer.getShort() != MAGIC) {
+                throw new IllegalArgumentException("Not a replay: invalid magic");
+            }
+            byte version = buffer.get();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported replay format version: " + version);
+            }
+            byte generatorKind = buffer.get();
+            long generatorState = buffer.getLong();
+            int bagMask = buffer.get() & 0xFF;
+            PieceGenerator generator = switch (generatorKind) {
+                case GENERATOR_UNIFORM -> new UniformPieceGenerator(generatorState);
+                case GENERATOR_SEVEN_BAG -> new SevenBagPieceGenerator(generatorState, bagMask);
+                default -> throw new IllegalArgumentException("Unknown piece generator kind: " + generatorKind);
+            };
+            int commandCount = buffer.getInt();
+            int logLength = buffer.getInt();
+            if (logLength < 0 || logLength != buffer.remaining()) {
+                throw new IllegalArgumentException("Replay input log length mismatch: " + logLength);
+            }
+            byte[] inputLog = new byte[logLength];
+            buffer.get(inputLog);
+            return new Replay(generator, inputLog, commandCount);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Replay is truncated", e);
+        }
+    }
+
+    /**
+     * 入力ログの内容も含めて等価性を判定します。
+     *
+     * @param o 比較対象
+     * @return 等価な場合true
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Replay other)) {
+            return false;
+        }
+        return commandCount == other.commandCount
+                && initialGenerator.equals(other.initialGenerator)
+                && Arrays.equals(inputLog, other.inputLog);
+    }
+
+    /**
+     * 入力ログの内容も含めてハッシュ値を計算します。
+     *
+     * @return ハッシュ値
+     */
+    @Override
+    public int hashCode() {
+        int result = initialGenerator.hashCode();
+        result = 31 * result + Arrays.hashCode(inputLog);
+        return 31 * result + commandCount;
+    }
+
+    /**
+     * 入力ログの内容を除いた文字列表現を返します。
+     *
+     * @return 文字列表現
+     */
+    @Override
+    public String toString() {
+        return "Replay[initialGenerator=" + initialGenerator
+                + ", commandCount=" + commandCount
+                + ", inputLogBytes=" + inputLog.length + "]";
+    }
+}
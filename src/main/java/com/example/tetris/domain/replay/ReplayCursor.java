@@ -0,0 +1,148 @@
+package com.example.tetris.domain.replay;
+
+import com.example.tetris.domain.GameCommand;
+
+/**
+ * Replayの入力ログを先頭から順に読み出すカーソル。
+ *
+ * <p>{@link #advance()}を呼び出すたびに次の操作をデコードし、
+ * {@link #command()}と{@link #tick()}で参照できるようにします。
+ * デコード時にオブジェクトを生成しないため、高速な再シミュレーションに使用できます。</p>
+ *
+ * <h3>使用例：</h3>
+ * <pre>{@code
+ * ReplayCursor cursor = replay.cursor();
+ * while (cursor.advance()) {
+ *     state = cursor.command().apply(state);
+ * }
+ * }</pre>
+ *
+ * <h3>スレッドセーフ性：</h3>
+ * <p>このクラスはスレッドセーフではありません。スレッドごとに別のカーソルを使用してください。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class ReplayCursor {
+
+    /**
+     * エンコード済みの入力ログ（読み取り専用として扱う）。
+     */
+    private final byte[] log;
+
+    /**
+     * 入力ログに含まれる操作数。
+     */
+    private final int commandCount;
+
+    /**
+     * 次に読み出すバイト位置。
+     */
+    private int offset;
+
+    /**
+     * 読み出し済みの操作数。
+     */
+    private int index;
+
+    /**
+     * 現在の操作のティック。
+     */
+    private long tick;
+
+    /**
+     * 現在の操作。
+     */
+    private GameCommand command;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param log エンコード済みの入力ログ
+     * @param commandCount 入力ログに含まれる操作数
+     * @param offset 読み出しを開始するバイト位置
+     * @param index 開始位置までに読み出し済みの操作数
+     * @param tick 開始位置直前の操作のティック
+     */
+    ReplayCursor(byte[] log, int commandCount, int offset, int index, long tick) {
+        this.log = log;
+        this.commandCount = commandCount;
+        this.offset = offset;
+        this.index = index;
+        this.tick = tick;
+    }
+
+    /**
+     * 次の操作を読み出します。
+     *
+     * @return 次の操作が存在した場合true、末尾に到達した場合false
+     * @throws IllegalStateException 入力ログが破損している場合
+     */
+    public boolean advance() {
+        if (index >= commandCount) {
+            return false;
+        }
+        if (offset >= log.length) {
+            throw new IllegalStateException("Replay input log is truncated at command " + index);
+        }
+
+        int first = log[offset++] & 0xFF;
+        long delta = (first >>> 3) & 0x0F;
+        if ((first & 0x80) != 0) {
+            long rest = 0;
+            int shift = 0;
+            int b;
+            do {
+                if (offset >= log.length || shift > 63) {
+                    throw new IllegalStateException("Replay input log is corrupted at command " + index);
+                }
+                b = log[offset++] & 0xFF;
+                rest |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            delta |= rest << 4;
+        }
+
+        command = GameCommand.fromCode(first & 0x07);
+        tick += delta;
+        index++;
+        return true;
+    }
+
+    /**
+     * 現在の操作を返します。
+     *
+     * @return 最後に{@link #advance()}で読み出した操作（未読み出しの場合はnull）
+     */
+    public GameCommand command() {
+        return command;
+    }
+
+    /**
+     * 現在の操作のティックを返します。
+     *
+     * @return 最後に読み出した操作のティック
+     */
+    public long tick() {
+        return tick;
+    }
+
+    /**
+     * 読み出し済みの操作数を返します。
+     *
+     * @return 読み出し済みの操作数
+     */
+    public int index() {
+        return index;
+    }
+
+    /**
+     * 次に読み出すバイト位置を返します。
+     *
+     * @return バイト位置
+     */
+    public int offset() {
+        return offset;
+    }
+}
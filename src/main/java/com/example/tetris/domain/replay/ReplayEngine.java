@@ -0,0 +1,97 @@
+package com.example.tetris.domain.replay;
+
+import com.example.tetris.domain.GameState;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replayを再シミュレーションするPure Functionクラス。
+ *
+ * <p>ReplayEngineは、Replayの初期ピースジェネレーターから{@link GameState#initialize(com.example.tetris.domain.PieceGenerator)}
+ * でゲームを開始し、入力ログの操作を順に適用してGameStateを再現します。
+ * ティックは再生速度に影響せず、すべての操作を最大速度で適用します。</p>
+ *
+ * <h3>テトリミノ固定の検出：</h3>
+ * <p>GameStateはテトリミノが固定されたときにのみピースジェネレーターを進めるため、
+ * ジェネレーターの参照が変化した操作をテトリミノ1個の固定として数えます。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class ReplayEngine {
+
+    /**
+     * ユーティリティクラスのため、インスタンス化を禁止。
+     */
+    private ReplayEngine() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Replayの初期状態を生成します。
+     *
+     * @param replay 対象のReplay
+     * @return 操作適用前のGameState
+     * @throws NullPointerException replayがnullの場合
+     */
+    public static GameState initialState(Replay replay) {
+        if (replay == null) {
+            throw new NullPointerException("replay must not be null");
+        }
+        return GameState.initialize(replay.initialGenerator());
+    }
+
+    /**
+     * Replayのすべての操作を適用した最終状態を求めます。
+     *
+     * @param replay 対象のReplay
+     * @return 最終状態のGameState
+     * @throws NullPointerException replayがnullの場合
+     * @throws IllegalStateException 入力ログが破損している場合
+     */
+    public static GameState simulate(Replay replay) {
+        GameState state = initialState(replay);
+        ReplayCursor cursor = replay.cursor();
+        while (cursor.advance()) {
+            state = cursor.command().apply(state);
+        }
+        return state;
+    }
+
+    /**
+     * Replayを再シミュレーションし、指定数のテトリミノ固定ごとにキーフレームを作成します。
+     *
+     * @param replay 対象のReplay
+     * @param piecesPerKeyframe キーフレームを作成する間隔（固定されたテトリミノ数、1以上）
+     * @return キーフレーム付きのReplay
+     * @throws NullPointerException replayがnullの場合
+     * @throws IllegalArgumentException piecesPerKeyframeが1未満の場合
+     * @throws IllegalStateException 入力ログが破損している場合
+     */
+    public static ReplayIndex index(Replay replay, int piecesPerKeyframe) {
+        if (piecesPerKeyframe < 1) {
+            throw new IllegalArgumentException("piecesPerKeyframe must be at least 1");
+        }
+
+        GameState state = initialState(replay);
+        List<Keyframe> keyframes = new ArrayList<>();
+        keyframes.add(new Keyframe(0, 0, 0L, 0, state));
+
+        ReplayCursor cursor = replay.cursor();
+        int pieceCount = 0;
+        while (cursor.advance()) {
+            GameState next = cursor.command().apply(state);
+            if (next.pieceGenerator() != state.pieceGenerator()) {
+                pieceCount++;
+                if (pieceCount % piecesPerKeyframe == 0) {
+                    keyframes.add(new Keyframe(cursor.index(), cursor.offset(), cursor.tick(), pieceCount, next));
+                }
+            }
+            state = next;
+        }
+
+        return new ReplayIndex(replay, keyframes, state, pieceCount);
+    }
+}
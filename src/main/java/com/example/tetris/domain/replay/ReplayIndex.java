@@ -0,0 +1,166 @@
+package com.example.tetris.domain.replay;
+
+import com.example.tetris.domain.GameState;
+
+import java.util.List;
+
+/**
+ * キーフレーム付きのReplayを表すクラス。
+ *
+ * <p>ReplayIndexは{@link ReplayEngine#index(Replay, int)}で生成され、
+ * 任意の操作位置・ティックのGameStateを、直前のキーフレームからの再シミュレーションで
+ * 高速に求めます。</p>
+ *
+ * <h3>不変性（Immutability）：</h3>
+ * <p>ReplayIndexは不変オブジェクトであり、複数スレッドから同時にシークできます。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class ReplayIndex {
+
+    /**
+     * 対象のReplay。
+     */
+    private final Replay replay;
+
+    /**
+     * 操作位置の昇順に並んだキーフレーム（先頭は操作適用前の初期状態）。
+     */
+    private final List<Keyframe> keyframes;
+
+    /**
+     * すべての操作を適用した後のGameState。
+     */
+    private final GameState finalState;
+
+    /**
+     * 固定されたテトリミノの総数。
+     */
+    private final int pieceCount;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param replay 対象のReplay
+     * @param keyframes 操作位置の昇順に並んだキーフレーム
+     * @param finalState すべての操作を適用した後のGameState
+     * @param pieceCount 固定されたテトリミノの総数
+     */
+    ReplayIndex(Replay replay, List<Keyframe> keyframes, GameState finalState, int pieceCount) {
+        this.replay = replay;
+        this.keyframes = List.copyOf(keyframes);
+        this.finalState = finalState;
+        this.pieceCount = pieceCount;
+    }
+
+    /**
+     * 対象のReplayを返します。
+     *
+     * @return Replay
+     */
+    public Replay replay() {
+        return replay;
+    }
+
+    /**
+     * キーフレームの一覧を返します。
+     *
+     * @return 操作位置の昇順に並んだ不変リスト
+     */
+    public List<Keyframe> keyframes() {
+        return keyframes;
+    }
+
+    /**
+     * すべての操作を適用した後のGameStateを返します。
+     *
+     * @return 最終状態
+     */
+    public GameState finalState() {
+        return finalState;
+    }
+
+    /**
+     * 固定されたテトリミノの総数を返します。
+     *
+     * @return テトリミノ数
+     */
+    public int pieceCount() {
+        return pieceCount;
+    }
+
+    /**
+     * 先頭から指定数の操作を適用した時点のGameStateを返します。
+     *
+     * @param commandIndex 適用する操作数（0の場合は初期状態）
+     * @return 指定位置のGameState
+     * @throws IllegalArgumentException commandIndexが範囲外の場合
+     */
+    public GameState seek(int commandIndex) {
+        if (commandIndex < 0 || commandIndex > replay.commandCount()) {
+            throw new IllegalArgumentException(
+                    "commandIndex out of range [0, " + replay.commandCount() + "]: " + commandIndex);
+        }
+
+        Keyframe keyframe = keyframes.get(floorKeyframe(commandIndex));
+        ReplayCursor cursor = replay.cursorAt(keyframe);
+        GameState state = keyframe.state();
+        while (cursor.index() < commandIndex && cursor.advance()) {
+            state = cursor.command().apply(state);
+        }
+        return state;
+    }
+
+    /**
+     * 指定ティックまでの操作をすべて適用した時点のGameStateを返します。
+     *
+     * @param tick ティック
+     * @return 指定ティック以前の操作をすべて適用したGameState
+     */
+    public GameState seekToTick(long tick) {
+        // tick以前の最後のキーフレームを探す
+        int low = 0;
+        int high = keyframes.size() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (keyframes.get(mid).tick() <= tick) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        Keyframe keyframe = keyframes.get(low);
+        ReplayCursor cursor = replay.cursorAt(keyframe);
+        GameState state = keyframe.state();
+        while (cursor.advance()) {
+            if (cursor.tick() > tick) {
+                break;
+            }
+            state = cursor.command().apply(state);
+        }
+        return state;
+    }
+
+    /**
+     * 指定操作位置以前で最も近いキーフレームのインデックスを二分探索で求めます。
+     *
+     * @param commandIndex 操作位置
+     * @return キーフレームのインデックス
+     */
+    private int floorKeyframe(int commandIndex) {
+        int low = 0;
+        int high = keyframes.size() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (keyframes.get(mid).commandIndex() <= commandIndex) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.tetris.domain.replay;
+
+import com.example.tetris.domain.GameCommand;
+import com.example.tetris.domain.PieceGenerator;
+
+import java.util.Arrays;
+
+/**
+ * 1セッション分の入力ログを記録するレコーダー。
+ *
+ * <p>ReplayRecorderは、初期ピースジェネレーターと、ティック付きの操作列を
+ * コンパクトなバイト列として追記します。記録内容は{@link #toReplay()}で
+ * 不変の{@link Replay}として取り出せます。</p>
+ *
+ * <h3>エンコード形式（1操作あたり）：</h3>
+ * <pre>
+ * 先頭バイト: [継続フラグ(1bit)][ティック差分の下位4bit][操作コード(3bit)]
+ * 継続フラグが1の場合: ティック差分の残り（差分 &gt;&gt;&gt; 4）を可変長整数（7bit単位）で後続
+ * </pre>
+ * <p>ティック差分が16未満の操作（キー連打や同一ティック内の操作）は1バイトで記録されます。</p>
+ *
+ * <h3>スレッドセーフ性：</h3>
+ * <p>このクラスはスレッドセーフではありません。1セッションにつき1つのインスタンスを使用し、
+ * 呼び出し側で排他制御を行ってください。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see Replay
+ */
+public final class ReplayRecorder {
+
+    /**
+     * バッファの初期容量（バイト）。
+     */
+    private static final int INITIAL_CAPACITY = 256;
+
+    /**
+     * ゲーム開始時のピースジェネレーター。
+     */
+    private final PieceGenerator initialGenerator;
+
+    /**
+     * エンコード済みの入力ログ。
+     */
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+
+    /**
+     * バッファ内の有効バイト数。
+     */
+    private int size;
+
+    /**
+     * 記録済みの操作数。
+     */
+    private int commandCount;
+
+    /**
+     * 最後に記録した操作のティック。
+     */
+    private long lastTick;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param initialGenerator ゲーム開始時のピースジェネレーター
+     * @throws NullPointerException initialGeneratorがnullの場合
+     */
+    public ReplayRecorder(PieceGenerator initialGenerator) {
+        if (initialGenerator == null) {
+            throw new NullPointerException("initialGenerator must not be null");
+        }
+        this.initialGenerator = initialGenerator;
+    }
+
+    /**
+     * 記録済みの入力ログから記録を再開するレコーダーを生成します。
+     *
+     * <p>入力ログを再生せずにそのまま引き継ぐため、再開したレコーダーの{@link #toReplay()}は
+     * 元のレコーダーと同一です（休止したセッションの再開に使用）。</p>
+     *
+     * @param replay 記録済みの入力ログ
+     * @param lastTick 最後に記録した操作のティック（非負）
+     * @return 記録を再開するレコーダー
+     * @throws NullPointerException replayがnullの場合
+     * @throws IllegalArgumentException lastTickが負の場合
+     */
+    public static ReplayRecorder resume(Replay replay, long lastTick) {
+        if (replay == null) {
+            throw new NullPointerException("replay must not be null");
+        }
+        if (lastTick < 0) {
+            throw new IllegalArgumentException("lastTick must not be negative: " + lastTick);
+        }
+        ReplayRecorder recorder = new ReplayRecorder(replay.initialGenerator());
+        byte[] log = replay.inputLog();
+        recorder.buffer = Arrays.copyOf(log, Math.max(INITIAL_CAPACITY, log.length));
+        recorder.size = log.length;
+        recorder.commandCount = replay.commandCount();
+        recorder.lastTick = lastTick;
+        return recorder;
+    }
+
+    /**
+     * 操作を記録します。
+     *
+     * @param tick 操作が行われたティック（ゲーム開始からの経過、非負、単調非減少）
+     * @param command 記録する操作
+     * @throws NullPointerException commandがnullの場合
+     * @throws IllegalArgumentException tickが負、または前回記録したティックより小さい場合
+     */
+    public void record(long tick, GameCommand command) {
+        if (command == null) {
+            throw new NullPointerException("command must not be null");
+        }
+        if (tick < lastTick) {
+            throw new IllegalArgumentException(
+                    "tick must be monotonically non-decreasing: " + tick + " < " + lastTick);
+        }
+
+        long delta = tick - lastTick;
+        ensureCapacity(11);  // 先頭1バイト + 可変長整数最大10バイト
+
+        int first = command.code() | (int) ((delta & 0x0F) << 3);
+        long rest = delta >>> 4;
+        if (rest == 0) {
+            buffer[size++] = (byte) first;
+        } else {
+            buffer[size++] = (byte) (first | 0x80);
+            while ((rest & ~0x7FL) != 0) {
+                buffer[size++] = (byte) ((rest & 0x7F) | 0x80);
+                rest >>>= 7;
+            }
+            buffer[size++] = (byte) rest;
+        }
+
+        lastTick = tick;
+        commandCount++;
+    }
+
+    /**
+     * 記録済みの操作数を返します。
+     *
+     * @return 操作数
+     */
+    public int commandCount() {
+        return commandCount;
+    }
+
+    /**
+     * エンコード済み入力ログのサイズを返します。
+     *
+     * @return 入力ログのバイト数
+     */
+    public int sizeInBytes() {
+        return size;
+    }
+
+    /**
+     * 指定された位置以降のエンコード済み入力ログをコピーします。
+     *
+     * <p>入力ログは追記のみで書き換えられないため、前回コピーした位置から呼び出すことで
+     * 新しく記録された操作のみを取り出せます（セッションのジャーナルへの追記に使用）。</p>
+     *
+     * @param offset コピーを開始する位置（0以上{@link #sizeInBytes()}以下）
+     * @return offsetから末尾までのバイト列
+     * @throws IndexOutOfBoundsException offsetが範囲外の場合
+     */
+    public byte[] inputLogFrom(int offset) {
+        if (offset < 0 || offset > size) {
+            throw new IndexOutOfBoundsException("offset out of range: " + offset);
+        }
+        return Arrays.copyOfRange(buffer, offset, size);
+    }
+
+    /**
+     * 最後に記録した操作のティックを返します。
+     *
+     * @return 最後のティック（未記録の場合は0）
+     */
+    public long lastTick() {
+        return lastTick;
+    }
+
+    /**
+     * 現在までの記録内容をReplayとして取り出します。
+     *
+     * <p>返されたReplayはこのレコーダーのその後の記録の影響を受けません。</p>
+     *
+     * @return 記録内容のReplay
+     */
+    public Replay toReplay() {
+        return new Replay(initialGenerator, Arrays.copyOf(buffer, size), commandCount);
+    }
+
+    /**
+     * バッファに指定バイト数の空きがあることを保証します。
+     *
+     * @param additional 追加で必要なバイト数
+     */
+    private void ensureCapacity(int additional) {
+        if (size + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+        }
+    }
+}
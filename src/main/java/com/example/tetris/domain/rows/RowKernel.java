@@ -0,0 +1,62 @@
+package com.example.tetris.domain.rows;
+
+/**
+ * 行ビットマスク（ビットxが1の場合、x列が占有）に対する盤面計算カーネル。
+ *
+ * <p>盤面は行ビットマスクの配列として受け取り、開始位置と長さで範囲を指定します。
+ * 複数の盤面を連続して格納した配列（例：{@code SessionTickEngine}の行マスク）に対しても、
+ * コピーせずに盤面単位または範囲全体で計算できます。</p>
+ *
+ * <p>実装はスカラー版（{@link ScalarRowKernel}）と、Vector API（{@code jdk.incubator.vector}）を
+ * 使用するベクトル版があり、{@link RowKernels#get()}で選択されます。
+ * どちらの実装も同じ入力に対して同じ結果を返します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public interface RowKernel {
+
+    /**
+     * 2つの行マスク範囲に重なる（両方で占有された）セルがあるかを判定します。
+     *
+     * <p>テトリミノを行マスクに変換した範囲を渡すと、フィールドとの衝突判定になります。</p>
+     *
+     * @param rows 盤面の行マスク
+     * @param offset 盤面の開始位置
+     * @param piece テトリミノの行マスク
+     * @param pieceOffset テトリミノの開始位置
+     * @param length 比較する行数
+     * @return 重なるセルがある場合true
+     * @throws IndexOutOfBoundsException 範囲が配列外の場合
+     */
+    boolean overlaps(int[] rows, int offset, int[] piece, int pieceOffset, int length);
+
+    /**
+     * 範囲内で埋まっている行の数を数えます。
+     *
+     * @param rows 行マスク
+     * @param offset 開始位置
+     * @param length 行数
+     * @param fullRow 埋まった行の行マスク（例：幅10の場合0x3FF）
+     * @return fullRowと一致する行の数
+     * @throws IndexOutOfBoundsException 範囲が配列外の場合
+     */
+    int countFullRows(int[] rows, int offset, int length, int fullRow);
+
+    /**
+     * 盤面の各列の高さ（最上段の占有セルから床までの行数）を求めます。
+     *
+     * <p>盤面の先頭の行を最上段として扱います。</p>
+     *
+     * @param rows 行マスク
+     * @param offset 盤面の開始位置
+     * @param height 盤面の行数
+     * @param width 盤面の列数（1-32）
+     * @param heights 列ごとの高さの格納先（空の列は0）
+     * @param heightsOffset 格納先の開始位置
+     * @throws IllegalArgumentException widthが1-32の範囲外の場合
+     * @throws IndexOutOfBoundsException 範囲が配列外の場合
+     */
+    void columnHeights(int[] rows, int offset, int height, int width, int[] heights, int heightsOffset);
+}
@@ -0,0 +1,99 @@
+package com.example.tetris.domain.rows;
+
+import java.util.Optional;
+
+/**
+ * {@link RowKernel}の実装を選択するユーティリティクラス。
+ *
+ * <p>ベクトル版はシステムプロパティ{@value #VECTOR_PROPERTY}が{@code true}の場合のみ使用します。
+ * {@code jdk.incubator.vector}モジュールが読み込まれていない（{@code --add-modules}なしで起動した）
+ * 場合は、フラグに関係なくスカラー版にフォールバックします。</p>
+ *
+ * <pre>{@code
+ * java --add-modules jdk.incubator.vector -Dtetris.vector=true ...
+ * }</pre>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class RowKernels {
+
+    /**
+     * ベクトル版を有効にするシステムプロパティ名。
+     */
+    public static final String VECTOR_PROPERTY = "tetris.vector";
+
+    /**
+     * ベクトル版の実装クラス名（{@code src/vector/java}で別にコンパイルされ、モジュールがない環境で
+     * リンクしないよう文字列で参照）。
+     */
+    private static final String VECTOR_KERNEL_CLASS = "com.example.tetris.domain.rows.VectorRowKernel";
+
+    /**
+     * 利用可能な場合のベクトル版の実装。
+     */
+    private static final Optional<RowKernel> VECTOR = loadVector();
+
+    /**
+     * フラグに従って選択された実装。
+     */
+    private static final RowKernel SELECTED = Boolean.getBoolean(VECTOR_PROPERTY)
+            ? VECTOR.orElse(ScalarRowKernel.INSTANCE)
+            : ScalarRowKernel.INSTANCE;
+
+    /**
+     * ユーティリティクラスのため、インスタンス化を禁止。
+     */
+    private RowKernels() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * フラグに従って選択された実装を返します。
+     *
+     * @return ベクトル版が有効かつ利用可能な場合はベクトル版、それ以外はスカラー版
+     */
+    public static RowKernel get() {
+        return SELECTED;
+    }
+
+    /**
+     * フラグに関係なく、ベクトル版の実装を返します。
+     *
+     * <p>スカラー版との比較（テスト・ベンチマーク）に使用します。</p>
+     *
+     * @return ベクトル版の実装（モジュールが読み込まれていない場合は空）
+     */
+    public static Optional<RowKernel> vector() {
+        return VECTOR;
+    }
+
+    /**
+     * 列数に対応する全列のビットマスクを返します。
+     *
+     * @param width 列数（1-32）
+     * @return 下位width個のビットが1のマスク
+     * @throws IllegalArgumentException widthが1-32の範囲外の場合
+     */
+    static int columnsMask(int width) {
+        if (width < 1 || width > Integer.SIZE) {
+            throw new IllegalArgumentException("width must be between 1 and 32");
+        }
+        return width == Integer.SIZE ? -1 : (1 << width) - 1;
+    }
+
+    /**
+     * ベクトル版の実装を反射的に読み込みます。
+     *
+     * @return ベクトル版の実装（読み込めない場合は空）
+     */
+    private static Optional<RowKernel> loadVector() {
+        try {
+            Class<?> type = Class.forName(VECTOR_KERNEL_CLASS);
+            return Optional.of((RowKernel) type.getDeclaredConstructor().newInstance());
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.tetris.domain.rows;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 通常のJavaコードによる{@link RowKernel}の実装。
+ *
+ * <p>Vector APIが利用できない環境での既定の実装です。列の高さは行を上から走査し、
+ * 初めて占有された列のビットだけを取り出して求めます。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class ScalarRowKernel implements RowKernel {
+
+    /**
+     * 共有インスタンス（状態を持たないためスレッドセーフ）。
+     */
+    public static final ScalarRowKernel INSTANCE = new ScalarRowKernel();
+
+    private ScalarRowKernel() {
+    }
+
+    @Override
+    public boolean overlaps(int[] rows, int offset, int[] piece, int pieceOffset, int length) {
+        Objects.checkFromIndexSize(offset, length, rows.length);
+        Objects.checkFromIndexSize(pieceOffset, length, piece.length);
+        for (int i = 0; i < length; i++) {
+            if ((rows[offset + i] & piece[pieceOffset + i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int countFullRows(int[] rows, int offset, int length, int fullRow) {
+        Objects.checkFromIndexSize(offset, length, rows.length);
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (rows[offset + i] == fullRow) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void columnHeights(int[] rows, int offset, int height, int width, int[] heights, int heightsOffset) {
+        int columns = RowKernels.columnsMask(width);
+        Objects.checkFromIndexSize(offset, height, rows.length);
+        Objects.checkFromIndexSize(heightsOffset, width, heights.length);
+
+        Arrays.fill(heights, heightsOffset, heightsOffset + width, 0);
+        int covered = 0;
+        for (int y = 0; y < height && covered != columns; y++) {
+            int newlyCovered = rows[offset + y] & columns & ~covered;
+            covered |= newlyCovered;
+            while (newlyCovered != 0) {
+                heights[heightsOffset + Integer.numberOfTrailingZeros(newlyCovered)] = height - y;
+                newlyCovered &= newlyCovered - 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.tetris.presentation.config;
+
+import com.example.tetris.adapter.inbound.ClusterSecretFilter;
+import com.example.tetris.adapter.outbound.HttpSessionForwardingAdapter;
+import com.example.tetris.application.cluster.ClusterNode;
+import com.example.tetris.application.cluster.ConsistentHashRing;
+import com.example.tetris.application.cluster.SessionMigrator;
+import com.example.tetris.application.cluster.SessionRouter;
+import com.example.tetris.application.cluster.ShardedApplyCommandsUseCase;
+import com.example.tetris.application.port.SessionForwardingPort;
+import com.example.tetris.application.session.OffHeapSessionStore;
+import com.example.tetris.application.usecase.ApplyCommandsUseCaseImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * 複数のゲームノードでセッションを分担するクラスタの設定クラス。
+ *
+ * <h3>設定プロパティ：</h3>
+ * <ul>
+ *   <li>{@code tetris.cluster.nodes}：クラスタのノード（{@code id=ベースURI}のカンマ区切り、未指定の場合はクラスタを無効化）</li>
+ *   <li>{@code tetris.cluster.self}：自ノードのノードID（{@code nodes}に含まれること）</li>
+ *   <li>{@code tetris.cluster.secret}：内部APIを認証する共有シークレット（必須、16文字以上、すべてのノードで同じ値）</li>
+ *   <li>{@code tetris.cluster.virtual-nodes}：ノードあたりの仮想ノード数（既定値 160）</li>
+ *   <li>{@code tetris.cluster.connect-timeout}：所有ノードへの接続のタイムアウト（既定値 1秒）</li>
+ *   <li>{@code tetris.cluster.forward-timeout}：所有ノードの応答を待つ時間（既定値 2秒）</li>
+ *   <li>{@code tetris.cluster.rebalance-timeout}：ノードの参加・離脱の通知の応答を待つ時間（既定値 30秒）</li>
+ * </ul>
+ *
+ * <p>すべてのノードに同じ{@code nodes}を設定します。セッションはセッションIDのコンシステントハッシュで
+ * 1つのノードに割り当てられ、他のノードが受け付けたREST・WebSocketの操作は所有ノードの内部API
+ * （{@code /internal/cluster/**}）に転送されます。コントローラーには{@link ShardedApplyCommandsUseCase}が注入され、
+ * 内部APIは自ノードの{@link ApplyCommandsUseCaseImpl}を直接呼び出します。</p>
+ *
+ * <p>内部APIは公開APIと同じポートで受け付けるため、{@code /internal/**}への要求は{@link ClusterSecretFilter}で
+ * 共有シークレットを検証し、一致しない要求（クライアントが細工した入力ログの引き渡しなど）を拒否します。</p>
+ *
+ * <h3>ノードの追加と取り外し：</h3>
+ * <ul>
+ *   <li>取り外すノードに{@code POST /internal/cluster/drain}を送ると、セッションを稼働中のまま残りのノードに
+ *       移動し、他のノードに離脱を通知する（応答の{@code failed}が0になるまで繰り返す）</li>
+ *   <li>追加するノードは{@code nodes}に自ノードを含めて起動し、{@code POST /internal/cluster/join}を送ると、
+ *       他のノードが自ノードの担当分のセッションを移動させる</li>
+ * </ul>
+ * <p>ノードの構成の変更は設定ファイルに反映されないため、再起動するノードの{@code nodes}は現在の構成に合わせます。</p>
+ *
+ * <p>例（同じマシンの2ノード）：</p>
+ * <pre>
+ * server.port=8081
+ * tetris.cluster.self=node-1
+ * tetris.cluster.secret=${CLUSTER_SECRET}
+ * tetris.cluster.nodes=node-1=http://127.0.0.1:8081,node-2=http://127.0.0.1:8082
+ * </pre>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+@Configuration
+@ConditionalOnProperty(name = "tetris.cluster.nodes")
+public class ClusterConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterConfig.class);
+
+    /**
+     * セッションの所有ノードを求めるルーターを登録します。
+     *
+     * @param self 自ノードのノードID
+     * @param nodes クラスタのノード
+     * @param virtualNodes ノードあたりの仮想ノード数
+     * @return ルーター
+     */
+    @Bean
+    public SessionRouter sessionRouter(@Value("${tetris.cluster.self}") String self,
+                                       @Value("${tetris.cluster.nodes}") String nodes,
+                                       @Value("${tetris.cluster.virtual-nodes:160}") int virtualNodes) {
+        ConsistentHashRing ring = new ConsistentHashRing(ClusterNode.parseList(nodes), virtualNodes);
+        SessionRouter router = new SessionRouter(self, ring);
+        logger.info("Joined cluster as {} ({} nodes)", self, ring.nodes().size());
+        return router;
+    }
+
+    /**
+     * 内部APIへの要求を共有シークレットで認証するフィルターを登録します。
+     *
+     * @param secret クラスタの共有シークレット
+     * @return フィルターの登録
+     */
+    @Bean
+    public FilterRegistrationBean<ClusterSecretFilter> clusterSecretFilter(
+            @Value("${tetris.cluster.secret}") String secret) {
+        FilterRegistrationBean<ClusterSecretFilter> registration =
+                new FilterRegistrationBean<>(new ClusterSecretFilter(secret));
+        registration.addUrlPatterns("/internal/*");
+        return registration;
+    }
+
+    /**
+     * 所有ノードにHTTPで転送するアダプターを登録します。
+     *
+     * @param objectMapper JSON変換に使用するObjectMapper
+     * @param secret クラスタの共有シークレット
+     * @param connectTimeout 接続のタイムアウト
+     * @param forwardTimeout 応答を待つ時間
+     * @param rebalanceTimeout ノードの参加・離脱の通知の応答を待つ時間
+     * @return 転送アダプター
+     */
+    @Bean
+    public HttpSessionForwardingAdapter sessionForwardingAdapter(
+            ObjectMapper objectMapper,
+            @Value("${tetris.cluster.secret}") String secret,
+            @Value("${tetris.cluster.connect-timeout:1s}") Duration connectTimeout,
+            @Value("${tetris.cluster.forward-timeout:2s}") Duration forwardTimeout,
+            @Value("${tetris.cluster.rebalance-timeout:30s}") Duration rebalanceTimeout) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .build();
+        return new HttpSessionForwardingAdapter(httpClient, objectMapper, secret, forwardTimeout, rebalanceTimeout);
+    }
+
+    /**
+     * 自ノードのセッションを他のノードに移動させるサービスを登録します。
+     *
+     * @param applyCommandsUseCase 自ノードのセッションを処理するユースケース
+     * @param sessionStore 自ノードのセッションを保持するストア（移動するセッションの列挙に使用）
+     * @param sessionRouter ルーター
+     * @param sessionForwardingPort 転送ポート
+     * @return 移動サービス
+     */
+    @Bean
+    public SessionMigrator sessionMigrator(ApplyCommandsUseCaseImpl applyCommandsUseCase,
+                                           OffHeapSessionStore sessionStore,
+                                           SessionRouter sessionRouter,
+                                           SessionForwardingPort sessionForwardingPort) {
+        return new SessionMigrator(applyCommandsUseCase, sessionStore::sessionIds, sessionRouter, sessionForwardingPort);
+    }
+
+    /**
+     * セッションを所有ノードで処理するユースケースを登録します（コントローラーに優先して注入）。
+     *
+     * @param applyCommandsUseCase 自ノードのセッションを処理するユースケース
+     * @param sessionRouter ルーター
+     * @param sessionForwardingPort 転送ポート
+     * @return 所有ノードで処理するユースケース
+     */
+    @Bean
+    @Primary
+    public ShardedApplyCommandsUseCase shardedApplyCommandsUseCase(ApplyCommandsUseCaseImpl applyCommandsUseCase,
+                                                                   SessionRouter sessionRouter,
+                                                                   SessionForwardingPort sessionForwardingPort) {
+        return new ShardedApplyCommandsUseCase(applyCommandsUseCase, sessionRouter, sessionForwardingPort);
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.tetris.presentation.config;
+
+import com.example.tetris.application.session.AdmissionPolicy;
+import com.example.tetris.application.session.AdmittingSessionStore;
+import com.example.tetris.application.session.JournalingSessionStore;
+import com.example.tetris.application.session.MailboxSessionStore;
+import com.example.tetris.application.session.OffHeapSessionStore;
+import com.example.tetris.application.session.SessionAdmission;
+import com.example.tetris.application.session.SessionHibernator;
+import com.example.tetris.application.session.SessionSnapshotter;
+import com.example.tetris.application.session.SessionStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * セッションストアとスナップショットの設定クラス。
+ *
+ * <h3>設定プロパティ：</h3>
+ * <ul>
+ *   <li>{@code tetris.sessions.capacity}：セッションストアの容量（既定値 10000）</li>
+ *   <li>{@code tetris.sessions.mailbox.capacity}：セッションあたりの待機中の操作数の上限（既定値 128）</li>
+ *   <li>{@code tetris.sessions.admission.heap-reserve}：セッション以外の処理のために残すヒープ（既定値 64MB）</li>
+ *   <li>{@code tetris.sessions.admission.commands-per-second}：1セッションあたりの毎秒の操作数の想定値（既定値 10）</li>
+ *   <li>{@code tetris.sessions.admission.max-tick-lag}：操作の平均待ち時間の上限（既定値 50ミリ秒）</li>
+ *   <li>{@code tetris.sessions.admission.lobby-capacity}：待機ロビーの最大人数（既定値 1000）</li>
+ *   <li>{@code tetris.sessions.hibernation.enabled}：操作のないセッションの休止（既定値 true）</li>
+ *   <li>{@code tetris.sessions.hibernation.idle-after}：休止させるまでの操作のない時間（既定値 5分）</li>
+ *   <li>{@code tetris.sessions.hibernation.sweep-interval}：休止させるセッションの走査間隔（既定値 10秒）</li>
+ *   <li>{@code tetris.sessions.hibernation.max-sessions}：休止中を含むセッションの最大数（既定値 40000）</li>
+ *   <li>{@code tetris.sessions.snapshot.path}：スナップショットファイルのパス（未指定の場合はスナップショットを無効化）</li>
+ *   <li>{@code tetris.sessions.snapshot.interval}：スナップショットの間隔（既定値 1秒）</li>
+ *   <li>{@code tetris.sessions.journal.path}：ジャーナルのディレクトリ（未指定の場合はジャーナルを無効化）</li>
+ *   <li>{@code tetris.sessions.journal.segment-size}：ジャーナルのセグメントを切り替えるサイズ（既定値 64MB）</li>
+ *   <li>{@code tetris.sessions.journal.checkpoint-interval}：ジャーナルのチェックポイントの間隔（既定値 1分）</li>
+ * </ul>
+ *
+ * <p>ユースケースには{@link AdmittingSessionStore}が注入されます。新しいセッションは
+ * {@link SessionAdmission}がヒープの空きと操作の実行コスト・待ち時間から受け入れを判定し、
+ * 同一セッションへの操作はセッションごとのメールボックスで直列に実行されます。</p>
+ *
+ * <p>休止を有効にすると、操作のないセッションはスロットを空けてコンパクトなバイト列としてヒープに保持され、
+ * 受け入れるセッション数の上限はスロット数ではなく{@code max-sessions}（とヒープ・CPUの推定）になります。
+ * 空きスロットがない場合は、最も長く操作のないセッションを休止させてスロットを空けます。
+ * 休止中のセッションはスナップショットの対象外のため、スナップショットが有効な場合は休止を無効化します。</p>
+ *
+ * <p>スナップショットを有効にすると、起動時にファイルからすべてのセッションを復元し、
+ * 終了時に最後のスナップショットを書き込みます。復元したセッションはゲーム開始からの入力ログを持たないため、
+ * スコアの提出（リプレイによる検証）と他のノードへの移動はできません。</p>
+ *
+ * <p>ジャーナルを有効にすると、メールボックスは{@link JournalingSessionStore}を経由して操作を実行し、
+ * 応答前に入力ログの差分を永続化します。起動時はジャーナルの入力ログを再生してセッションを復旧するため、
+ * スナップショットとは同時に有効にできません（ジャーナルが優先され、スナップショットは無効化されます）。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+@Configuration
+public class SessionStoreConfig {
+
+    /**
+     * セッションをダイレクトメモリ上に保持するセッションストアを登録します。
+     *
+     * @param capacity セッションの最大数
+     * @return セッションストア
+     */
+    @Bean
+    public OffHeapSessionStore sessionStore(@Value("${tetris.sessions.capacity:10000}") int capacity) {
+        return new OffHeapSessionStore(capacity);
+    }
+
+    /**
+     * セッションへの操作をジャーナルに記録するセッションストアを登録します。
+     *
+     * @param sessionStore 操作を実行するセッションストア
+     * @param path ジャーナルのディレクトリ
+     * @param segmentSize セグメントを切り替えるサイズ
+     * @param checkpointInterval チェックポイントの間隔
+     * @return ジャーナルを記録するセッションストア
+     * @throws IOException ジャーナルを開けない場合
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "tetris.sessions.journal.path")
+    public JournalingSessionStore journalingSessionStore(
+            OffHeapSessionStore sessionStore,
+            @Value("${tetris.sessions.journal.path}") Path path,
+            @Value("${tetris.sessions.journal.segment-size:64MB}") DataSize segmentSize,
+            @Value("${tetris.sessions.journal.checkpoint-interval:1m}") Duration checkpointInterval)
+            throws IOException {
+        return new JournalingSessionStore(sessionStore, path, segmentSize.toBytes(), checkpointInterval);
+    }
+
+    /**
+     * セッションごとのメールボックスで操作を直列に実行するセッションストアを登録します。
+     *
+     * @param sessionStore 操作を実行するセッションストア
+     * @param journalingSessionStore ジャーナルを記録するセッションストア（ジャーナルが有効な場合）
+     * @param mailboxCapacity セッションあたりの待機中の操作数の上限
+     * @return メールボックスを経由するセッションストア
+     */
+    @Bean(destroyMethod = "close")
+    public MailboxSessionStore mailboxSessionStore(OffHeapSessionStore sessionStore,
+                                                   ObjectProvider<JournalingSessionStore> journalingSessionStore,
+                                                   @Value("${tetris.sessions.mailbox.capacity:128}") int mailboxCapacity) {
+        SessionStore target = journalingSessionStore.getIfAvailable();
+        return new MailboxSessionStore((target != null) ? target : sessionStore, mailboxCapacity);
+    }
+
+    /**
+     * 新しいセッションの受け入れ制御を登録します。
+     *
+     * @param sessionStore セッションを保持するセッションストア
+     * @param mailboxSessionStore 操作を実行するメールボックス
+     * @param heapReserve セッション以外の処理のために残すヒープ
+     * @param commandsPerSecond 1セッションあたりの毎秒の操作数の想定値
+     * @param maxTickLag 操作の平均待ち時間の上限
+     * @param lobbyCapacity 待機ロビーの最大人数
+     * @param sessionHibernator 操作のないセッションの休止（休止が有効な場合）
+     * @param maxSessions 休止中を含むセッションの最大数（休止が有効な場合）
+     * @return 受け入れ制御
+     */
+    @Bean
+    public SessionAdmission sessionAdmission(
+            OffHeapSessionStore sessionStore,
+            MailboxSessionStore mailboxSessionStore,
+            @Value("${tetris.sessions.admission.heap-reserve:64MB}") DataSize heapReserve,
+            @Value("${tetris.sessions.admission.commands-per-second:10}") double commandsPerSecond,
+            @Value("${tetris.sessions.admission.max-tick-lag:50ms}") Duration maxTickLag,
+            @Value("${tetris.sessions.admission.lobby-capacity:1000}") int lobbyCapacity,
+            ObjectProvider<SessionHibernator> sessionHibernator,
+            @Value("${tetris.sessions.hibernation.max-sessions:40000}") int maxSessions) {
+        AdmissionPolicy defaults = AdmissionPolicy.DEFAULT;
+        AdmissionPolicy policy = new AdmissionPolicy(heapReserve.toBytes(), defaults.minBytesPerSession(),
+                commandsPerSecond, defaults.targetUtilization(), maxTickLag, lobbyCapacity,
+                defaults.lobbyTimeout(), defaults.sampleInterval());
+        int storeLimit = (sessionHibernator.getIfAvailable() != null) ? maxSessions : sessionStore.capacity();
+        return new SessionAdmission(sessionStore, storeLimit, policy,
+                SessionAdmission.probe(sessionStore, mailboxSessionStore));
+    }
+
+    /**
+     * 新しいセッションの受け入れを判定してからメールボックスで操作を実行するセッションストアを登録します。
+     *
+     * @param mailboxSessionStore 操作を実行するメールボックス
+     * @param sessionAdmission 受け入れ制御
+     * @return ユースケースに注入するセッションストア
+     */
+    @Bean
+    @Primary
+    public AdmittingSessionStore admittingSessionStore(MailboxSessionStore mailboxSessionStore,
+                                                       SessionAdmission sessionAdmission) {
+        return new AdmittingSessionStore(mailboxSessionStore, sessionAdmission);
+    }
+
+    /**
+     * 操作のないセッションの休止を登録します。
+     *
+     * @param sessionStore セッションストア
+     * @param idleAfter 休止させるまでの操作のない時間
+     * @param sweepInterval 休止させるセッションの走査間隔
+     * @return 操作のないセッションを定期的に休止させるSessionHibernator
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "tetris.sessions.hibernation.enabled", havingValue = "true", matchIfMissing = true)
+    @ConditionalOnExpression("'${tetris.sessions.snapshot.path:}'.isEmpty() or !'${tetris.sessions.journal.path:}'.isEmpty()")
+    public SessionHibernator sessionHibernator(OffHeapSessionStore sessionStore,
+                                               @Value("${tetris.sessions.hibernation.idle-after:5m}") Duration idleAfter,
+                                               @Value("${tetris.sessions.hibernation.sweep-interval:10s}") Duration sweepInterval) {
+        return new SessionHibernator(sessionStore, idleAfter, sweepInterval);
+    }
+
+    /**
+     * セッションストアのスナップショットを登録します。
+     *
+     * @param sessionStore セッションストア
+     * @param path スナップショットファイルのパス
+     * @param interval スナップショットの間隔
+     * @return スナップショットを定期的に書き込むSessionSnapshotter
+     * @throws IOException スナップショットファイルを開けない場合
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "tetris.sessions.snapshot.path")
+    @ConditionalOnExpression("'${tetris.sessions.journal.path:}'.isEmpty()")
+    public SessionSnapshotter sessionSnapshotter(OffHeapSessionStore sessionStore,
+                                                 @Value("${tetris.sessions.snapshot.path}") Path path,
+                                                 @Value("${tetris.sessions.snapshot.interval:1s}") Duration interval)
+            throws IOException {
+        return new SessionSnapshotter(sessionStore, path, interval);
+    }
+}
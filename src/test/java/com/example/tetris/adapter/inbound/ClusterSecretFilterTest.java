@@ -0,0 +1,71 @@
+package com.example.tetris.adapter.inbound;
+
+import com.example.tetris.adapter.outbound.HttpSessionForwardingAdapter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link ClusterSecretFilter}の単体テスト。
+ *
+ * <p>共有シークレットが一致する要求だけがコントローラーに渡されることを検証します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class ClusterSecretFilterTest {
+
+    private static final String SECRET = "test-cluster-secret";
+
+    private final ClusterSecretFilter filter = new ClusterSecretFilter(SECRET);
+
+    @Test
+    @DisplayName("共有シークレットが一致する要求はコントローラーに渡される")
+    void testMatchingSecretPasses() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/internal/cluster/handoffs/s-1");
+        request.addHeader(HttpSessionForwardingAdapter.SECRET_HEADER, SECRET);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertSame(request, chain.getRequest());
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("共有シークレットがない、または一致しない要求は401で拒否される")
+    void testMissingOrWrongSecretIsRejected() throws Exception {
+        for (String presented : new String[] {null, "", "wrong-cluster-secret", SECRET + "x"}) {
+            // Arrange
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/internal/cluster/drain");
+            if (presented != null) {
+                request.addHeader(HttpSessionForwardingAdapter.SECRET_HEADER, presented);
+            }
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+
+            // Act
+            filter.doFilter(request, response, chain);
+
+            // Assert
+            assertEquals(401, response.getStatus(), "presented=" + presented);
+            assertNull(chain.getRequest(), "拒否した要求はコントローラーに渡さないべき");
+        }
+    }
+
+    @Test
+    @DisplayName("短すぎる共有シークレットでは起動できない")
+    void testShortSecretIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ClusterSecretFilter("short"));
+        assertThrows(NullPointerException.class, () -> new ClusterSecretFilter(null));
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.tetris.application.cluster;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link ConsistentHashRing}と{@link SessionRouter}の単体テスト。
+ *
+ * <p>所有ノードの決定性と偏り、ノードの追加で移動するセッションの割合、ノード一覧の解析を検証します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class ConsistentHashRingTest {
+
+    private static final int SESSIONS = 30_000;
+
+    private static List<ClusterNode> nodes(int count) {
+        List<ClusterNode> nodes = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            nodes.add(new ClusterNode("node-" + i, URI.create("http://127.0.0.1:" + (8080 + i))));
+        }
+        return nodes;
+    }
+
+    @Test
+    @DisplayName("同じノード構成のリングは、ノードの記述順によらず同じ所有ノードを返す")
+    void testOwnerOf_Deterministic() {
+        // Arrange
+        List<ClusterNode> nodes = nodes(3);
+        ConsistentHashRing ring = ConsistentHashRing.of(nodes);
+        ConsistentHashRing reversed = ConsistentHashRing.of(List.of(nodes.get(2), nodes.get(1), nodes.get(0)));
+
+        // Act & Assert
+        for (int i = 0; i < 1000; i++) {
+            String sessionId = "session-" + i;
+            assertEquals(ring.ownerOf(sessionId), reversed.ownerOf(sessionId));
+            assertEquals(ring.ownerOf(sessionId), ring.ownerOf(sessionId));
+        }
+    }
+
+    @Test
+    @DisplayName("セッションは各ノードにほぼ均等に割り当てられる")
+    void testOwnerOf_Balanced() {
+        // Arrange
+        ConsistentHashRing ring = ConsistentHashRing.of(nodes(4));
+
+        // Act
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < SESSIONS; i++) {
+            counts.merge(ring.ownerOf("session-" + i).id(), 1, Integer::sum);
+        }
+
+        // Assert: 平均7500に対して±20%以内
+        assertEquals(4, counts.size());
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            assertTrue(Math.abs(entry.getValue() - SESSIONS / 4) < SESSIONS / 4 / 5,
+                    entry.getKey() + "の割り当てが偏っている: " + entry.getValue());
+        }
+    }
+
+    @Test
+    @DisplayName("ノードを追加すると、追加したノードに移るセッションだけが所有ノードを変える")
+    void testOwnerOf_MinimalMovement() {
+        // Arrange
+        ConsistentHashRing before = ConsistentHashRing.of(nodes(4));
+        ConsistentHashRing after = ConsistentHashRing.of(nodes(5));
+
+        // Act
+        int moved = 0;
+        for (int i = 0; i < SESSIONS; i++) {
+            String sessionId = "session-" + i;
+            ClusterNode owner = after.ownerOf(sessionId);
+            if (!owner.equals(before.ownerOf(sessionId))) {
+                assertEquals("node-5", owner.id(), "既存のノード間でセッションが移動してはならない");
+                moved++;
+            }
+        }
+
+        // Assert: 理想は1/5（6000）
+        assertTrue(moved > SESSIONS / 5 * 0.7 && moved < SESSIONS / 5 * 1.3, "移動したセッション数: " + moved);
+    }
+
+    @Test
+    @DisplayName("ルーターは他のノードが所有するセッションのみ転送先を返す")
+    void testSessionRouter() {
+        // Arrange
+        ConsistentHashRing ring = ConsistentHashRing.of(nodes(3));
+        SessionRouter router = new SessionRouter("node-2", ring);
+
+        // Act & Assert
+        for (int i = 0; i < 100; i++) {
+            String sessionId = "session-" + i;
+            ClusterNode owner = ring.ownerOf(sessionId);
+            assertEquals(owner.id().equals("node-2"), router.remoteOwner(sessionId).isEmpty());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new SessionRouter("node-9", ring));
+    }
+
+    @Test
+    @DisplayName("ノード一覧の文字列を解析し、不正な記述を拒否する")
+    void testParseList() {
+        // Act
+        List<ClusterNode> nodes = ClusterNode.parseList("a=http://127.0.0.1:8081, b=http://127.0.0.1:8082/");
+
+        // Assert
+        assertEquals(List.of(new ClusterNode("a", URI.create("http://127.0.0.1:8081")),
+                new ClusterNode("b", URI.create("http://127.0.0.1:8082/"))), nodes);
+        assertThrows(IllegalArgumentException.class, () -> ClusterNode.parseList("a=http://x,a=http://y"));
+        assertThrows(IllegalArgumentException.class, () -> ClusterNode.parseList("http://x"));
+        assertThrows(IllegalArgumentException.class, () -> ClusterNode.parseList("a=relative/path"));
+        assertThrows(IllegalArgumentException.class, () -> ClusterNode.parseList(" , "));
+    }
+}
@@ -0,0 +1,481 @@
+package com.example.tetris.application.cluster;
+
+import com.example.tetris.application.dto.CommandBatchResultDTO;
+import com.example.tetris.application.port.SessionForwardingPort;
+import com.example.tetris.application.session.GameSession;
+import com.example.tetris.application.session.HeapSessionStore;
+import com.example.tetris.application.session.MailboxSessionStore;
+import com.example.tetris.application.session.SessionExpiredException;
+import com.example.tetris.application.session.SessionMovedException;
+import com.example.tetris.application.session.SessionStore;
+import com.example.tetris.application.session.SessionToken;
+import com.example.tetris.application.usecase.ApplyCommandsUseCaseImpl;
+import com.example.tetris.domain.GameCommand;
+import com.example.tetris.domain.replay.Replay;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link SessionMigrator}の単体テスト。
+ *
+ * <p>3ノードのクラスタを1つのJVM内に構成し（転送はノードのローカルなユースケースを直接呼び出し、
+ * 内部APIと同じく割り当て外のセッションへの操作を拒否する）、稼働中のセッションが入力ログを保ったまま
+ * 移動し、移動中に投入された操作も移動先に適用されることを検証します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class SessionMigratorTest {
+
+    private static final List<GameCommand> DROP = List.of(GameCommand.HARD_DROP);
+
+    /**
+     * セッションを止めてよい時間の上限（ナノ秒）。
+     */
+    private static final long MAX_PAUSE_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final Map<String, HeapSessionStore> stores = new HashMap<>();
+    private final Map<String, MailboxSessionStore> mailboxes = new HashMap<>();
+    private final Map<String, ApplyCommandsUseCaseImpl> locals = new HashMap<>();
+    private final Map<String, SessionRouter> routers = new HashMap<>();
+    private final Map<String, SessionMigrator> migrators = new HashMap<>();
+    private final Map<String, ShardedApplyCommandsUseCase> entries = new LinkedHashMap<>();
+    private ConsistentHashRing ring;
+
+    /**
+     * 入力ログを持たないものとして扱うセッション（スナップショットから復元したセッションに相当）。
+     */
+    private final Set<String> withoutReplay = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 入力ログを移動先に送る直前に実行する処理（nullの場合は何もしない）。
+     */
+    private volatile Runnable beforeTransfer;
+
+    /**
+     * 移動先が受け入れた直後に実行する処理（nullの場合は何もしない）。
+     */
+    private volatile Runnable afterTransfer;
+
+    /**
+     * 転送先ノードのローカルなユースケースを呼び出す転送ポート（内部APIに相当）。
+     */
+    private final SessionForwardingPort forwarding = new SessionForwardingPort() {
+        @Override
+        public CommandBatchResultDTO execute(ClusterNode owner, String sessionId, List<GameCommand> commands) {
+            checkRouted(owner, sessionId);
+            return locals.get(owner.id()).execute(sessionId, commands);
+        }
+
+        @Override
+        public SessionToken openSession(ClusterNode owner, String sessionId) {
+            checkRouted(owner, sessionId);
+            return locals.get(owner.id()).openSession(sessionId);
+        }
+
+        @Override
+        public CommandBatchResultDTO executeWithToken(ClusterNode owner, String sessionId, SessionToken token,
+                                                      List<GameCommand> commands) {
+            checkRouted(owner, sessionId);
+            return locals.get(owner.id()).executeWithToken(sessionId, token, commands);
+        }
+
+        @Override
+        public Optional<Replay> findReplay(ClusterNode owner, String sessionId) {
+            checkRouted(owner, sessionId);
+            return locals.get(owner.id()).findReplay(sessionId);
+        }
+
+        @Override
+        public void removeSession(ClusterNode owner, String sessionId) {
+            checkRouted(owner, sessionId);
+            locals.get(owner.id()).removeSession(sessionId);
+        }
+
+        @Override
+        public void transfer(ClusterNode target, String sessionId, Replay replay) {
+            Runnable hook = beforeTransfer;
+            if (hook != null) {
+                hook.run();
+            }
+            locals.get(target.id()).adopt(sessionId, replay);
+            Runnable after = afterTransfer;
+            if (after != null) {
+                after.run();
+            }
+        }
+
+        @Override
+        public void place(ClusterNode node, String sessionId, String ownerId) {
+            routers.get(node.id()).place(sessionId, ownerId);
+        }
+
+        @Override
+        public void join(ClusterNode node, ClusterNode joining) {
+            migrators.get(node.id()).onJoin(joining);
+        }
+
+        @Override
+        public void leave(ClusterNode node, String leavingId) {
+            migrators.get(node.id()).onLeave(leavingId);
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        mailboxes.values().forEach(MailboxSessionStore::close);
+    }
+
+    @Test
+    @DisplayName("移動したセッションは入力ログを保ち、どのノードからの操作も移動先で続けて適用される")
+    void testMigrate_SessionContinuesOnTarget() {
+        // Arrange
+        startCluster(3, 3);
+        String sessionId = firstSessionOwnedBy("node-1");
+        SessionToken token = entry(1).openSession(sessionId);
+        entry(1).execute(sessionId, DROP);
+        entry(2).execute(sessionId, DROP);
+
+        // Act
+        MigrationResult result = migrators.get("node-1").migrate(sessionId, "node-2");
+
+        // Assert
+        assertTrue(result.migrated());
+        assertTrue(result.pauseNanos() < MAX_PAUSE_NANOS, "停止時間: " + result.pauseNanos() + "ns");
+        assertFalse(stores.get("node-1").contains(sessionId));
+        assertTrue(stores.get("node-2").contains(sessionId));
+
+        for (ShardedApplyCommandsUseCase entry : entries.values()) {
+            entry.execute(sessionId, DROP);
+        }
+        assertThrows(SessionExpiredException.class, () -> entry(1).executeWithToken(sessionId, token, DROP),
+                "移動前のトークンはセッションIDで黙って適用せず、ハンドシェイクのやり直しを求めるべき");
+        SessionToken reopened = entry(1).openSession(sessionId);
+        entry(1).executeWithToken(sessionId, reopened, DROP);
+        assertEquals(6, entry(3).findReplay(sessionId).orElseThrow().commandCount(),
+                "移動前の2件と移動後の4件の操作が1つのセッションに適用されるべき");
+        assertFalse(stores.get("node-1").contains(sessionId), "移動元にセッションが再作成されないべき");
+        assertThrows(IllegalArgumentException.class, () -> migrators.get("node-1").migrate(sessionId, "node-9"));
+    }
+
+    @Test
+    @DisplayName("移動先が受け入れた後に応答が失われても、移動先への照会で移動を完了し両方のノードには残らない")
+    void testMigrate_LostResponseAfterAdoptCompletes() {
+        // Arrange
+        startCluster(3, 3);
+        String sessionId = firstSessionOwnedBy("node-1");
+        entry(1).execute(sessionId, DROP);
+        afterTransfer = () -> {
+            throw new IllegalStateException("Timed out waiting for node-2");
+        };
+
+        // Act
+        MigrationResult result = migrators.get("node-1").migrate(sessionId, "node-2");
+
+        // Assert
+        assertTrue(result.migrated());
+        assertFalse(stores.get("node-1").contains(sessionId), "移動元はセッションを取り消さないべき");
+        assertTrue(stores.get("node-2").contains(sessionId));
+
+        afterTransfer = null;
+        locals.get("node-2").adopt(sessionId, stores.get("node-2").findReplay(sessionId).orElseThrow());
+        assertEquals(1, stores.get("node-2").size(), "同じ入力ログの再送は冪等に受け入れられるべき");
+        entry(3).execute(sessionId, DROP);
+        assertEquals(2, entry(1).findReplay(sessionId).orElseThrow().commandCount());
+    }
+
+    @Test
+    @DisplayName("移動中にメールボックスで待機していた操作は、移動先に送り直されて適用される")
+    void testMigrate_QueuedCommandsFollowSession() throws InterruptedException {
+        // Arrange
+        startCluster(3, 3);
+        String sessionId = firstSessionOwnedBy("node-1");
+        entry(1).execute(sessionId, DROP);
+        AtomicReference<CommandBatchResultDTO> queued = new AtomicReference<>();
+        Thread client = new Thread(() -> queued.set(entry(1).execute(sessionId, DROP)));
+        beforeTransfer = () -> {
+            // セッションを止めている間に、同じセッションへの操作を投入させる
+            beforeTransfer = null;
+            client.start();
+            while (mailboxes.get("node-1").stats().queued() < 1) {
+                Thread.onSpinWait();
+            }
+        };
+
+        // Act
+        MigrationResult result = migrators.get("node-1").migrate(sessionId, "node-2");
+        client.join(5_000);
+
+        // Assert
+        assertTrue(result.migrated());
+        assertNotNull(queued.get(), "待機していた操作は移動先で完了するべき");
+        assertEquals(2, locals.get("node-2").findReplay(sessionId).orElseThrow().commandCount());
+        assertThrows(SessionMovedException.class, () -> locals.get("node-1").execute(sessionId, DROP),
+                "移動元のノードで直接実行した操作は移動先を示すべき");
+    }
+
+    @Test
+    @DisplayName("ドレインしたノードのセッションはすべて残りのノードに移動し、他のノードのリングから外れる")
+    void testDrain_MovesAllSessionsAndLeaves() {
+        // Arrange
+        startCluster(3, 3);
+        Map<String, Integer> counts = createSessions(30, 3);
+        int ownedByNode1 = stores.get("node-1").size();
+
+        // Act
+        RebalanceResult result = migrators.get("node-1").drain();
+
+        // Assert
+        assertEquals(ownedByNode1, result.migrated());
+        assertEquals(0, result.failed());
+        assertTrue(result.maxPauseNanos() < MAX_PAUSE_NANOS, "最大停止時間: " + result.maxPauseNanos() + "ns");
+        assertEquals(0, stores.get("node-1").size());
+        assertNull(routers.get("node-2").ring().node("node-1"));
+        assertNull(routers.get("node-3").ring().node("node-1"));
+        assertContinues(counts);
+        assertEquals(0, stores.get("node-1").size(), "ドレインしたノードにセッションが作成されないべき");
+    }
+
+    @Test
+    @DisplayName("参加したノードには、新しいリングで割り当てられたセッションが移動してくる")
+    void testJoin_NewNodeTakesItsShare() {
+        // Arrange: node-3はまだnode-1とnode-2のリングに含まれない
+        startCluster(3, 2);
+        Map<String, Integer> counts = createSessions(30, 2);
+        assertEquals(0, stores.get("node-3").size());
+
+        // Act
+        migrators.get("node-3").join();
+
+        // Assert
+        assertNotNull(routers.get("node-1").ring().node("node-3"));
+        assertNotNull(routers.get("node-2").ring().node("node-3"));
+        assertTrue(stores.get("node-3").size() > 0);
+        for (String sessionId : counts.keySet()) {
+            assertTrue(stores.get(ring.ownerOf(sessionId).id()).contains(sessionId),
+                    sessionId + "は新しいリングの所有ノードに存在するべき");
+        }
+        assertContinues(counts);
+    }
+
+    @Test
+    @DisplayName("移動先が受け入れられないセッションは自ノードに留まり、再度のドレインで移動する")
+    void testDrain_FailedTransferKeepsSession() {
+        // Arrange
+        startCluster(3, 3);
+        Map<String, Integer> counts = createSessions(12, 3);
+        int ownedByNode1 = stores.get("node-1").size();
+        beforeTransfer = () -> {
+            throw new IllegalStateException("Owner node unavailable");
+        };
+
+        // Act
+        RebalanceResult failed = migrators.get("node-1").drain();
+
+        // Assert: セッションは残り、離脱は通知されない
+        assertEquals(ownedByNode1, failed.failed());
+        assertEquals(ownedByNode1, stores.get("node-1").size());
+        assertNotNull(routers.get("node-2").ring().node("node-1"));
+        for (String sessionId : counts.keySet()) {
+            for (ShardedApplyCommandsUseCase entry : entries.values()) {
+                entry.execute(sessionId, DROP);
+            }
+            counts.merge(sessionId, 3, Integer::sum);
+        }
+
+        // Act & Assert: 移動先が回復した後のドレイン
+        beforeTransfer = null;
+        RebalanceResult retried = migrators.get("node-1").drain();
+        assertEquals(ownedByNode1, retried.migrated());
+        assertEquals(0, retried.failed());
+        assertEquals(0, stores.get("node-1").size());
+        assertContinues(counts);
+    }
+
+    @Test
+    @DisplayName("入力ログのないセッションは移動できずに失敗として数えられ、ドレインは離脱を通知しない")
+    void testDrain_SessionWithoutReplayIsFailure() {
+        // Arrange
+        startCluster(3, 3);
+        Map<String, Integer> counts = createSessions(12, 3);
+        int ownedByNode1 = stores.get("node-1").size();
+        String restored = counts.keySet().stream()
+                .filter(sessionId -> stores.get("node-1").contains(sessionId))
+                .findFirst()
+                .orElseThrow();
+        withoutReplay.add(restored);
+
+        // Act
+        RebalanceResult result = migrators.get("node-1").drain();
+
+        // Assert: 他のセッションは移動し、入力ログのないセッションは自ノードに留まる
+        assertEquals(ownedByNode1 - 1, result.migrated());
+        assertEquals(1, result.failed());
+        assertTrue(stores.get("node-1").contains(restored));
+        assertNotNull(routers.get("node-2").ring().node("node-1"), "移動できないセッションがある間は離脱しないべき");
+        assertNotNull(routers.get("node-3").ring().node("node-1"));
+        for (ShardedApplyCommandsUseCase entry : entries.values()) {
+            entry.execute(restored, DROP);
+        }
+        assertEquals(counts.get(restored) + entries.size(), stores.get("node-1").findReplay(restored)
+                .orElseThrow().commandCount(), "留まったセッションへの操作は自ノードで適用されるべき");
+    }
+
+    /**
+     * ノード数{@code nodes}のクラスタを構成します。{@code members}番目より後のノードは
+     * 自ノードを含むリングで起動し、他のノードのリングには含まれません（参加前）。
+     */
+    private void startCluster(int nodes, int members) {
+        List<ClusterNode> all = new ArrayList<>();
+        for (int i = 1; i <= nodes; i++) {
+            all.add(new ClusterNode("node-" + i, URI.create("http://127.0.0.1:" + (8080 + i))));
+        }
+        ring = ConsistentHashRing.of(all);
+        ConsistentHashRing initial = ConsistentHashRing.of(all.subList(0, members));
+        for (int i = 0; i < nodes; i++) {
+            String id = all.get(i).id();
+            HeapSessionStore store = new HeapSessionStore(100);
+            MailboxSessionStore mailbox = new MailboxSessionStore(withoutReplay(store), 64);
+            ApplyCommandsUseCaseImpl local = new ApplyCommandsUseCaseImpl(mailbox);
+            SessionRouter router = new SessionRouter(id, (i < members) ? initial : ring);
+            stores.put(id, store);
+            mailboxes.put(id, mailbox);
+            locals.put(id, local);
+            routers.put(id, router);
+            migrators.put(id, new SessionMigrator(local, store::sessionIds, router, forwarding));
+            entries.put(id, new ShardedApplyCommandsUseCase(local, router, forwarding));
+        }
+    }
+
+    /**
+     * 最初の{@code via}ノードから、セッションごとに異なる数の操作を適用してセッションを作成します。
+     *
+     * @return セッションIDから適用した操作数
+     */
+    private Map<String, Integer> createSessions(int sessions, int via) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (int s = 0; s < sessions; s++) {
+            String sessionId = "session-" + s;
+            int commands = 1 + s % 3;
+            for (int c = 0; c < commands; c++) {
+                entry(1 + (s + c) % via).execute(sessionId, DROP);
+            }
+            counts.put(sessionId, commands);
+        }
+        return counts;
+    }
+
+    /**
+     * すべてのノードから各セッションに操作を1件ずつ適用し、入力ログが途切れずに続くことを検証します。
+     */
+    private void assertContinues(Map<String, Integer> counts) {
+        for (Map.Entry<String, Integer> session : counts.entrySet()) {
+            for (ShardedApplyCommandsUseCase entry : entries.values()) {
+                entry.execute(session.getKey(), DROP);
+            }
+            assertEquals(session.getValue() + entries.size(),
+                    entry(1).findReplay(session.getKey()).orElseThrow().commandCount(),
+                    session.getKey() + "の入力ログは移動の前後で続いているべき");
+        }
+    }
+
+    /**
+     * 内部APIと同じく、自ノードに存在せず自ノードの割り当てでもないセッションへの操作を拒否します。
+     */
+    private void checkRouted(ClusterNode node, String sessionId) {
+        SessionRouter router = routers.get(node.id());
+        if (router.inTransition() || locals.get(node.id()).hasSession(sessionId)) {
+            return;
+        }
+        ClusterNode owner = router.assignedOwner(sessionId);
+        if (!owner.equals(node)) {
+            throw new SessionMovedException(sessionId, owner.id());
+        }
+    }
+
+    /**
+     * {@link #withoutReplay}のセッションの入力ログを返さないストア。
+     */
+    private SessionStore withoutReplay(HeapSessionStore store) {
+        return new SessionStore() {
+            @Override
+            public long open(String sessionId) {
+                return store.open(sessionId);
+            }
+
+            @Override
+            public OptionalLong keyOf(String sessionId) {
+                return store.keyOf(sessionId);
+            }
+
+            @Override
+            public <R> R execute(long key, Function<GameSession, R> command) {
+                return store.execute(key, command);
+            }
+
+            @Override
+            public boolean contains(String sessionId) {
+                return store.contains(sessionId);
+            }
+
+            @Override
+            public Optional<Replay> findReplay(String sessionId) {
+                return withoutReplay.contains(sessionId) ? Optional.empty() : store.findReplay(sessionId);
+            }
+
+            @Override
+            public void remove(String sessionId) {
+                store.remove(sessionId);
+            }
+
+            @Override
+            public int size() {
+                return store.size();
+            }
+
+            @Override
+            public boolean handOff(String sessionId, String target, Consumer<Replay> transfer) {
+                if (withoutReplay.contains(sessionId) && store.contains(sessionId)) {
+                    throw new IllegalStateException("Session has no input log to hand off: " + sessionId);
+                }
+                return store.handOff(sessionId, target, transfer);
+            }
+
+            @Override
+            public void adopt(String sessionId, Replay replay) {
+                store.adopt(sessionId, replay);
+            }
+        };
+    }
+
+    private ShardedApplyCommandsUseCase entry(int node) {
+        return entries.get("node-" + node);
+    }
+
+    private String firstSessionOwnedBy(String nodeId) {
+        for (int s = 0; ; s++) {
+            if (ring.ownerOf("session-" + s).id().equals(nodeId)) {
+                return "session-" + s;
+            }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.tetris.application.cluster;
+
+import com.example.tetris.application.dto.CommandBatchResultDTO;
+import com.example.tetris.application.port.SessionForwardingPort;
+import com.example.tetris.application.session.HeapSessionStore;
+import com.example.tetris.application.session.SessionToken;
+import com.example.tetris.application.usecase.ApplyCommandsUseCaseImpl;
+import com.example.tetris.domain.GameCommand;
+import com.example.tetris.domain.replay.Replay;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link ShardedApplyCommandsUseCase}の単体テスト。
+ *
+ * <p>3ノードのクラスタを1つのJVM内に構成し（転送はノードのローカルなユースケースを直接呼び出す）、
+ * どのノードで受け付けた操作も所有ノードのセッションに適用されることを検証します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class ShardedApplyCommandsUseCaseTest {
+
+    private static final List<GameCommand> DROP = List.of(GameCommand.HARD_DROP);
+
+    private ConsistentHashRing ring;
+    private Map<String, HeapSessionStore> stores;
+    private Map<String, ApplyCommandsUseCaseImpl> locals;
+    private List<ShardedApplyCommandsUseCase> entries;
+    private int forwarded;
+
+    /**
+     * 転送先ノードのローカルなユースケースを呼び出す転送ポート（内部APIに相当）。
+     */
+    private final SessionForwardingPort forwarding = new SessionForwardingPort() {
+        @Override
+        public CommandBatchResultDTO execute(ClusterNode owner, String sessionId, List<GameCommand> commands) {
+            forwarded++;
+            return locals.get(owner.id()).execute(sessionId, commands);
+        }
+
+        @Override
+        public SessionToken openSession(ClusterNode owner, String sessionId) {
+            forwarded++;
+            return locals.get(owner.id()).openSession(sessionId);
+        }
+
+        @Override
+        public CommandBatchResultDTO executeWithToken(ClusterNode owner, String sessionId, SessionToken token,
+                                                      List<GameCommand> commands) {
+            forwarded++;
+            return locals.get(owner.id()).executeWithToken(sessionId, token, commands);
+        }
+
+        @Override
+        public Optional<Replay> findReplay(ClusterNode owner, String sessionId) {
+            forwarded++;
+            return locals.get(owner.id()).findReplay(sessionId);
+        }
+
+        @Override
+        public void removeSession(ClusterNode owner, String sessionId) {
+            forwarded++;
+            locals.get(owner.id()).removeSession(sessionId);
+        }
+
+        @Override
+        public void transfer(ClusterNode target, String sessionId, Replay replay) {
+            locals.get(target.id()).adopt(sessionId, replay);
+        }
+
+        @Override
+        public void place(ClusterNode node, String sessionId, String ownerId) {
+            throw new UnsupportedOperationException("not used");
+        }
+
+        @Override
+        public void join(ClusterNode node, ClusterNode joining) {
+            throw new UnsupportedOperationException("not used");
+        }
+
+        @Override
+        public void leave(ClusterNode node, String leavingId) {
+            throw new UnsupportedOperationException("not used");
+        }
+    };
+
+    @BeforeEach
+    void setUp() {
+        List<ClusterNode> nodes = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            nodes.add(new ClusterNode("node-" + i, URI.create("http://127.0.0.1:" + (8080 + i))));
+        }
+        ring = ConsistentHashRing.of(nodes);
+        stores = new HashMap<>();
+        locals = new HashMap<>();
+        entries = new ArrayList<>();
+        for (ClusterNode node : nodes) {
+            HeapSessionStore store = new HeapSessionStore(100);
+            ApplyCommandsUseCaseImpl local = new ApplyCommandsUseCaseImpl(store);
+            stores.put(node.id(), store);
+            locals.put(node.id(), local);
+            entries.add(new ShardedApplyCommandsUseCase(local, new SessionRouter(node.id(), ring), forwarding));
+        }
+        forwarded = 0;
+    }
+
+    @Test
+    @DisplayName("どのノードで受け付けた操作も所有ノードの同じセッションに適用される")
+    void testExecute_StickyToOwner() {
+        for (int s = 0; s < 20; s++) {
+            // Arrange
+            String sessionId = "session-" + s;
+            String owner = ring.ownerOf(sessionId).id();
+
+            // Act: 3つのノードから順に操作を送る
+            for (ShardedApplyCommandsUseCase entry : entries) {
+                entry.execute(sessionId, DROP);
+            }
+
+            // Assert
+            for (Map.Entry<String, HeapSessionStore> store : stores.entrySet()) {
+                assertEquals(store.getKey().equals(owner), store.getValue().contains(sessionId),
+                        sessionId + "は所有ノード" + owner + "にのみ存在するべき");
+            }
+            assertEquals(3, entries.get(0).findReplay(sessionId).orElseThrow().commandCount());
+        }
+        assertEquals(20 * 2 + 20 - countOwnedBy("node-1", 20), forwarded,
+                "他のノードが所有するセッションへの操作のみ転送されるべき");
+    }
+
+    @Test
+    @DisplayName("所有ノードが発行したトークンは、セッションIDを添えればどのノードからでも使用できる")
+    void testExecuteWithToken_RoutedBySessionId() {
+        // Arrange: node-1以外が所有するセッション
+        String sessionId = firstSessionNotOwnedBy("node-1");
+        SessionToken token = entries.get(0).openSession(sessionId);
+
+        // Act
+        for (ShardedApplyCommandsUseCase entry : entries) {
+            entry.executeWithToken(sessionId, token, DROP);
+        }
+
+        // Assert
+        assertEquals(3, locals.get(ring.ownerOf(sessionId).id()).findReplay(sessionId).orElseThrow().commandCount());
+        assertThrows(IllegalArgumentException.class, () -> entries.get(0).executeWithToken(token, DROP),
+                "セッションIDがない場合は自ノードで処理するため、他のノードのトークンは無効");
+    }
+
+    @Test
+    @DisplayName("セッションの削除は所有ノードに転送される")
+    void testRemoveSession_Forwarded() {
+        // Arrange
+        String sessionId = firstSessionNotOwnedBy("node-1");
+        entries.get(1).execute(sessionId, DROP);
+
+        // Act
+        entries.get(0).removeSession(sessionId);
+
+        // Assert
+        assertFalse(stores.get(ring.ownerOf(sessionId).id()).contains(sessionId));
+        assertTrue(entries.get(2).findReplay(sessionId).isEmpty());
+        assertThrows(NullPointerException.class, () -> entries.get(0).execute(null, DROP));
+    }
+
+    private int countOwnedBy(String nodeId, int sessions) {
+        int count = 0;
+        for (int s = 0; s < sessions; s++) {
+            if (ring.ownerOf("session-" + s).id().equals(nodeId)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private String firstSessionNotOwnedBy(String nodeId) {
+        for (int s = 0; ; s++) {
+            if (!ring.ownerOf("session-" + s).id().equals(nodeId)) {
+                return "session-" + s;
+            }
+        }
+    }
+}
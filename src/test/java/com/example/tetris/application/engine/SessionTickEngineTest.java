@@ -0,0 +1,188 @@
+package com.example.tetris.application.engine;
+
+import com.example.tetris.domain.Direction;
+import com.example.tetris.domain.GameCommand;
+import com.example.tetris.domain.GameState;
+import com.example.tetris.domain.GameStatus;
+import com.example.tetris.domain.LevelManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link SessionTickEngine}クラスの単体テスト。
+ *
+ * <p>配列に保持した状態のティックが{@link GameState#processAutoDropTick()}と一致すること、
+ * GameStateへの生成・書き戻し、スロット管理、並列走査、走査と並行する操作を検証します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class SessionTickEngineTest {
+
+    @Test
+    @DisplayName("追加したGameStateはview()で同じ状態として取得できる")
+    void testAddAndView_RoundTrip() {
+        // Arrange
+        SessionTickEngine engine = new SessionTickEngine(4);
+        GameState state = GameState.initialize(1L).moveTetromino(Direction.LEFT).hardDrop().rotateTetromino();
+
+        // Act
+        int slot = engine.add(state, 0L);
+        GameState view = engine.view(slot);
+
+        // Assert
+        assertEquals(state.currentTetromino(), view.currentTetromino());
+        assertEquals(state.nextTetromino(), view.nextTetromino());
+        assertEquals(state.field(), view.field());
+        assertEquals(state.pieceGenerator(), view.pieceGenerator());
+        assertEquals(state.score(), view.score());
+        assertEquals(1, engine.size());
+    }
+
+    @Test
+    @DisplayName("走査による自動落下はprocessAutoDropTick()を期限ごとに適用した結果と一致する")
+    void testSweep_EquivalentToProcessAutoDropTick() {
+        // Arrange: シードの異なる複数のセッション
+        int sessions = 20;
+        SessionTickEngine engine = new SessionTickEngine(sessions);
+        GameState[] expected = new GameState[sessions];
+        long[] due = new long[sessions];
+        int[] slots = new int[sessions];
+        for (int i = 0; i < sessions; i++) {
+            expected[i] = GameState.initialize(100L + i);
+            slots[i] = engine.add(expected[i], 0L);
+            due[i] = LevelManager.calculateDropInterval(expected[i].level());
+        }
+
+        // Act & Assert: 時刻を進めながら走査し、入力も混在させる
+        for (long now = 0; now <= 120_000; now += 350) {
+            engine.sweep(now);
+            for (int i = 0; i < sessions; i++) {
+                while (due[i] <= now && expected[i].status() == GameStatus.PLAYING) {
+                    expected[i] = expected[i].processAutoDropTick();
+                    due[i] += LevelManager.calculateDropInterval(expected[i].level());
+                }
+                if (now % 2450 == 0 && expected[i].status() == GameStatus.PLAYING) {
+                    GameCommand command = (i % 2 == 0) ? GameCommand.MOVE_LEFT : GameCommand.ROTATE;
+                    expected[i] = command.apply(expected[i]);
+                    engine.apply(slots[i], command);
+                }
+            }
+        }
+        for (int i = 0; i < sessions; i++) {
+            GameState view = engine.view(slots[i]);
+            assertEquals(expected[i].status(), view.status(), "session " + i);
+            assertEquals(expected[i].currentTetromino(), view.currentTetromino(), "session " + i);
+            assertEquals(expected[i].field(), view.field(), "session " + i);
+            assertEquals(expected[i].score(), view.score(), "session " + i);
+            assertEquals(expected[i].totalLinesCleared(), view.totalLinesCleared(), "session " + i);
+            assertEquals(expected[i].pieceGenerator(), view.pieceGenerator(), "session " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("並列走査は逐次走査と同じ結果になる")
+    void testSweep_ParallelMatchesSequential() {
+        // Arrange: 走査タスクが複数に分割される数のセッション
+        int sessions = SessionTickEngine.SLOTS_PER_TASK * 3 + 7;
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            SessionTickEngine parallel = new SessionTickEngine(sessions, pool);
+            SessionTickEngine sequential = new SessionTickEngine(sessions, new ForkJoinPool(1));
+            for (int i = 0; i < sessions; i++) {
+                parallel.add(GameState.initialize(i), 0L);
+                sequential.add(GameState.initialize(i), 0L);
+            }
+
+            // Act
+            long parallelTicks = 0;
+            long sequentialTicks = 0;
+            for (long now = 0; now <= 30_000; now += 1000) {
+                parallelTicks += parallel.sweep(now);
+                sequentialTicks += sequential.sweep(now);
+            }
+
+            // Assert
+            assertEquals(sequentialTicks, parallelTicks);
+            assertTrue(parallelTicks >= (long) sessions * 30, "各セッションは期限ごとにティックされるべき");
+            for (int slot = 0; slot < sessions; slot++) {
+                assertEquals(sequential.view(slot).field(), parallel.view(slot).field());
+                assertEquals(sequential.view(slot).currentTetromino(), parallel.view(slot).currentTetromino());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("走査と並行して複数のパーティションで追加・操作・削除しても、スロットは重複せず状態は壊れない")
+    void testConcurrentOperationsDuringSweep() throws InterruptedException {
+        // Arrange: 複数のパーティションにまたがる容量
+        ForkJoinPool pool = new ForkJoinPool(4);
+        SessionTickEngine engine = new SessionTickEngine(SessionTickEngine.SLOTS_PER_TASK * 4, pool);
+        for (int i = 0; i < SessionTickEngine.SLOTS_PER_TASK * 2; i++) {
+            engine.add(GameState.initialize(i), 0L);
+        }
+        AtomicInteger failures = new AtomicInteger();
+        Runnable client = () -> {
+            for (int i = 0; i < 500; i++) {
+                try {
+                    // 期限が来ないセッション（走査で状態が変わらないため、操作の結果と比較できる）
+                    int slot = engine.add(GameState.initialize(i), Long.MAX_VALUE / 2);
+                    GameState moved = engine.apply(slot, GameCommand.MOVE_LEFT);
+                    if (!engine.view(slot).field().equals(moved.field())) {
+                        failures.incrementAndGet();
+                    }
+                    engine.remove(slot);
+                } catch (RuntimeException e) {
+                    failures.incrementAndGet();
+                }
+            }
+        };
+
+        try {
+            // Act
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                Thread thread = new Thread(client);
+                threads.add(thread);
+                thread.start();
+            }
+            for (long now = 0; threads.stream().anyMatch(Thread::isAlive); now += 100) {
+                engine.sweep(now);
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            // Assert
+            assertEquals(0, failures.get(), "他のスレッドのスロットと重複したり、状態が壊れたりしないべき");
+            assertEquals(SessionTickEngine.SLOTS_PER_TASK * 2, engine.size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("空きスロットがない場合は例外をスローし、削除したスロットは再利用される")
+    void testCapacity() {
+        SessionTickEngine engine = new SessionTickEngine(2);
+        int first = engine.add(GameState.initialize(1L), 0L);
+        engine.add(GameState.initialize(2L), 0L);
+
+        assertThrows(IllegalStateException.class, () -> engine.add(GameState.initialize(3L), 0L));
+
+        engine.remove(first);
+        assertThrows(IllegalArgumentException.class, () -> engine.view(first));
+        assertEquals(first, engine.add(GameState.initialize(3L), 0L));
+        assertThrows(IllegalArgumentException.class, () -> new SessionTickEngine(0));
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.tetris.application.session;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link ConcurrentLongMap}の単体テスト。
+ *
+ * <p>基本操作、拡張と墓標の除去、走査、並行な更新と検索を検証します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class ConcurrentLongMapTest {
+
+    @Test
+    @DisplayName("追加・検索・置換・削除がMapと同じ結果を返す")
+    void testBasicOperations() {
+        // Arrange
+        ConcurrentLongMap<String> map = new ConcurrentLongMap<>(4);
+
+        // Act & Assert
+        assertNull(map.put(0L, "zero"), "キー0も通常のキーとして扱うべき");
+        assertNull(map.put(-1L, "minus"));
+        assertEquals("zero", map.put(0L, "ZERO"));
+        assertEquals("ZERO", map.putIfAbsent(0L, "other"));
+        assertEquals("ZERO", map.get(0L));
+        assertEquals("minus", map.computeIfAbsent(-1L, key -> "unused"));
+        assertEquals("computed-7", map.computeIfAbsent(7L, key -> "computed-" + key));
+        assertEquals(3, map.size());
+
+        assertFalse(map.remove(7L, "other"));
+        assertTrue(map.remove(7L, "computed-7"));
+        assertEquals("minus", map.remove(-1L));
+        assertNull(map.remove(-1L));
+        assertNull(map.get(-1L));
+        assertFalse(map.containsKey(7L));
+        assertEquals(1, map.size());
+        assertThrows(NullPointerException.class, () -> map.put(1L, null));
+    }
+
+    @Test
+    @DisplayName("追加と削除を繰り返しても拡張後にすべてのエントリが検索できる")
+    void testResizeAndTombstones() {
+        // Arrange
+        ConcurrentLongMap<Long> map = new ConcurrentLongMap<>(2);
+        Map<Long, Long> expected = new HashMap<>();
+
+        // Act: 削除と再追加で墓標を蓄積させながら拡張させる
+        for (long i = 0; i < 20_000; i++) {
+            long key = i * 0x9E3779B97F4A7C15L;
+            map.put(key, i);
+            expected.put(key, i);
+            if (i % 3 == 0) {
+                long removed = (i / 3) * 0x9E3779B97F4A7C15L;
+                assertEquals(expected.remove(removed), map.remove(removed));
+            }
+        }
+
+        // Assert
+        assertEquals(expected.size(), map.size());
+        for (Map.Entry<Long, Long> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+        Map<Long, Long> iterated = new HashMap<>();
+        map.forEach((key, value) -> assertNull(iterated.put(key, value), "同じキーを2回走査してはいけない"));
+        assertEquals(expected, iterated);
+    }
+
+    @Test
+    @DisplayName("並行な追加・削除中もロックなしの検索は他のキーの値を返さない")
+    void testConcurrentAccess() throws InterruptedException {
+        // Arrange
+        ConcurrentLongMap<Long> map = new ConcurrentLongMap<>(4);
+        int writers = 4;
+        int keysPerWriter = 20_000;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Map<Long, Boolean> removedKeys = new ConcurrentHashMap<>();
+
+        Thread[] threads = new Thread[writers + 1];
+        for (int w = 0; w < writers; w++) {
+            final long base = (long) w << 32;
+            threads[w] = new Thread(() -> {
+                try {
+                    start.await();
+                    for (long i = 0; i < keysPerWriter; i++) {
+                        map.put(base + i, base + i);
+                        if (i % 2 == 1) {
+                            map.remove(base + i - 1);
+                            removedKeys.put(base + i - 1, Boolean.TRUE);
+                        }
+                    }
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                }
+            });
+        }
+        threads[writers] = new Thread(() -> {
+            try {
+                start.await();
+                for (int round = 0; round < 50; round++) {
+                    for (long i = 0; i < keysPerWriter; i += 97) {
+                        long key = ((long) (round % writers) << 32) + i;
+                        Long value = map.get(key);
+                        if (value != null && value != key) {
+                            throw new AssertionError("key " + key + " returned " + value);
+                        }
+                    }
+                }
+            } catch (Throwable t) {
+                failure.compareAndSet(null, t);
+            }
+        });
+
+        // Act
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Assert
+        assertNull(failure.get(), "並行アクセス中に不正な値が返されてはいけない");
+        assertEquals(writers * keysPerWriter / 2, map.size());
+        for (int w = 0; w < writers; w++) {
+            long base = (long) w << 32;
+            for (long i = 0; i < keysPerWriter; i++) {
+                assertEquals(removedKeys.containsKey(base + i) ? null : Long.valueOf(base + i), map.get(base + i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("ストライプ数は2の累乗に切り上げられ、範囲外は拒否される")
+    void testConstructor_Stripes() {
+        assertDoesNotThrow(() -> new ConcurrentLongMap<String>(3).put(1L, "a"));
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentLongMap<String>(0));
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentLongMap<String>(1 << 17));
+    }
+}
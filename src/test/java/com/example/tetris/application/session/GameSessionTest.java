@@ -0,0 +1,125 @@
+package com.example.tetris.application.session;
+
+import com.example.tetris.domain.CommandBatchResult;
+import com.example.tetris.domain.GameCommand;
+import com.example.tetris.domain.GameState;
+import com.example.tetris.domain.GravityModel;
+import com.example.tetris.domain.PieceGenerator;
+import com.example.tetris.domain.replay.Replay;
+import com.example.tetris.domain.replay.ReplayCursor;
+import com.example.tetris.domain.replay.ReplayEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link GameSession}クラスの単体テスト。
+ *
+ * <p>操作の適用と入力ログへの記録、Replayによる状態の再現を検証します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class GameSessionTest {
+
+    @Test
+    @DisplayName("適用した操作は順にティック付きで記録される")
+    void testApply_RecordsCommands() {
+        // Arrange
+        PieceGenerator generator = PieceGenerator.sevenBag(11L);
+        GameSession session = GameSession.start(generator);
+
+        // Act
+        session.apply(GameCommand.MOVE_LEFT);
+        session.apply(GameCommand.ROTATE);
+        session.apply(GameCommand.HARD_DROP);
+
+        // Assert
+        Replay replay = session.replay();
+        assertEquals(generator, replay.initialGenerator(), "初期ジェネレーターが記録されるべき");
+        ReplayCursor cursor = replay.cursor();
+        long previousTick = 0;
+        for (GameCommand expected : new GameCommand[]{GameCommand.MOVE_LEFT, GameCommand.ROTATE, GameCommand.HARD_DROP}) {
+            assertTrue(cursor.advance());
+            assertEquals(expected, cursor.command(), "操作は適用順に記録されるべき");
+            assertTrue(cursor.tick() >= previousTick, "ティックは単調非減少であるべき");
+            previousTick = cursor.tick();
+        }
+        assertFalse(cursor.advance());
+    }
+
+    @Test
+    @DisplayName("Replayの再シミュレーションはセッションの現在状態と一致する")
+    void testReplay_ReproducesState() {
+        // Arrange
+        GameSession session = GameSession.start();
+        for (int i = 0; i < 50; i++) {
+            session.apply(GameCommand.values()[i % GameCommand.values().length]);
+        }
+
+        // Act
+        GameState replayed = ReplayEngine.simulate(session.replay());
+
+        // Assert
+        GameState current = session.state();
+        assertEquals(current.currentTetromino(), replayed.currentTetromino());
+        assertEquals(current.nextTetromino(), replayed.nextTetromino());
+        assertEquals(current.pieceGenerator(), replayed.pieceGenerator());
+        assertEquals(current.score(), replayed.score());
+    }
+
+    @Test
+    @DisplayName("nullの操作は例外をスローする")
+    void testApply_NullCommand() {
+        GameSession session = GameSession.start();
+
+        assertThrows(NullPointerException.class, () -> session.apply(null));
+        assertThrows(NullPointerException.class, () -> GameSession.start(null));
+    }
+
+    @Test
+    @DisplayName("一括適用では受理された操作のみが記録され、Replayは最終状態を再現する")
+    void testApplyAll_RecordsAcceptedCommands() {
+        // Arrange
+        GameSession session = GameSession.start(PieceGenerator.sevenBag(5L));
+        List<GameCommand> commands = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            commands.add(GameCommand.MOVE_LEFT);
+        }
+        commands.add(GameCommand.HARD_DROP);
+
+        // Act
+        CommandBatchResult result = session.applyAll(commands);
+
+        // Assert
+        assertEquals(result.acceptedCount(), session.replay().commandCount(), "受理された操作のみ記録されるべき");
+        GameState replayed = ReplayEngine.simulate(session.replay());
+        assertEquals(session.state().currentTetromino(), replayed.currentTetromino());
+        assertEquals(session.state().field(), replayed.field());
+        assertEquals(session.state().pieceGenerator(), replayed.pieceGenerator());
+    }
+
+    @Test
+    @DisplayName("重力の適用はAUTO_DROPとして記録され、Replayは最終状態を再現する")
+    void testAdvanceGravity_RecordsAutoDrops() throws InterruptedException {
+        // Arrange: 固定猶予0msの重力モデル
+        GameSession session = GameSession.start(PieceGenerator.sevenBag(6L), new GravityModel(0, 15));
+        session.apply(GameCommand.MOVE_RIGHT);
+        Thread.sleep(30);
+
+        // Act
+        GameState state = session.advanceGravity();
+
+        // Assert
+        GameState replayed = ReplayEngine.simulate(session.replay());
+        assertEquals(state.currentTetromino(), replayed.currentTetromino());
+        assertEquals(state.field(), replayed.field());
+        assertEquals(state.pieceGenerator(), replayed.pieceGenerator());
+        assertThrows(NullPointerException.class, () -> GameSession.start(PieceGenerator.sevenBag(6L), null));
+    }
+}
@@ -0,0 +1,304 @@
+package com.example.tetris.application.session;
+
+import com.example.tetris.domain.GameCommand;
+import com.example.tetris.domain.GameState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link MailboxSessionStore}クラスの単体テスト。
+ *
+ * <p>同一セッションの操作が直列に到着順で実行されること、メールボックスの上限による背圧と
+ * 統計情報を検証します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class MailboxSessionStoreTest {
+
+    /**
+     * 投入されたタスクを{@link #runAll()}まで保留するExecutor。
+     */
+    private static final class ManualExecutor implements Executor {
+
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        int runAll() {
+            int count = 0;
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+                count++;
+            }
+            return count;
+        }
+    }
+
+    @Test
+    @DisplayName("同一セッションへの操作は複数スレッドから投入されても同時に実行されない")
+    void testExecute_SerialPerSession() throws InterruptedException {
+        // Arrange
+        HeapSessionStore delegate = new HeapSessionStore(4);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        try (MailboxSessionStore store = new MailboxSessionStore(delegate, 1024)) {
+            Runnable client = () -> {
+                for (int i = 0; i < 500; i++) {
+                    store.execute("session-1", session -> {
+                        if (inFlight.incrementAndGet() > 1) {
+                            overlaps.incrementAndGet();
+                        }
+                        GameState state = session.apply(GameCommand.MOVE_LEFT);
+                        inFlight.decrementAndGet();
+                        return state;
+                    });
+                }
+            };
+
+            // Act
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                Thread thread = new Thread(client);
+                threads.add(thread);
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            // Assert
+            assertEquals(0, overlaps.get(), "同一セッションの操作は直列に実行されるべき");
+            assertEquals(2000, store.findReplay("session-1").orElseThrow().commandCount());
+            assertEquals(2000, store.stats().processed());
+        }
+    }
+
+    @Test
+    @DisplayName("空になったメールボックスの破棄と次の処理が重なっても、同一セッションの操作は同時に実行されない")
+    void testExecute_SerialWhileMailboxRetires() throws InterruptedException {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        MailboxSessionStore store = new MailboxSessionStore(new HeapSessionStore(4), 1024, executor);
+        Runnable client = () -> {
+            for (int i = 0; i < 2000; i++) {
+                // 1件ずつ完了を待つため、メールボックスは操作のたびに空になり破棄される
+                store.execute("session-1", session -> {
+                    if (inFlight.incrementAndGet() > 1) {
+                        overlaps.incrementAndGet();
+                    }
+                    for (int spin = 0; spin < 200; spin++) {
+                        Thread.onSpinWait();
+                    }
+                    inFlight.decrementAndGet();
+                    return null;
+                });
+            }
+        };
+
+        // Act
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread(client);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Assert
+        assertEquals(0, overlaps.get(), "破棄と処理が重なっても同一セッションの操作は直列に実行されるべき");
+        assertEquals(16000, store.stats().processed());
+        assertEquals(0, store.stats().mailboxes());
+    }
+
+    @Test
+    @DisplayName("操作は到着順に実行され、1回の処理で実行しきれない操作は再スケジュールされる")
+    void testSubmit_FifoOrder() {
+        // Arrange
+        ManualExecutor executor = new ManualExecutor();
+        MailboxSessionStore store = new MailboxSessionStore(new HeapSessionStore(1), 1000, executor);
+        List<Integer> order = new ArrayList<>();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 200; i++) {
+            int n = i;
+            futures.add(store.submit("session-1", session -> {
+                order.add(n);
+                return n;
+            }));
+        }
+        int drains = executor.runAll();
+
+        // Assert
+        assertTrue(drains > 1, "大量の操作は複数回に分けて処理されるべき");
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i, order.get(i).intValue());
+            assertEquals(i, futures.get(i).join().intValue());
+        }
+        assertEquals(0, store.stats().mailboxes(), "空になったメールボックスは破棄されるべき");
+    }
+
+    @Test
+    @DisplayName("メールボックスが満杯の場合は拒否され、統計情報に待機数が反映される")
+    void testSubmit_Backpressure() {
+        // Arrange
+        ManualExecutor executor = new ManualExecutor();
+        MailboxSessionStore store = new MailboxSessionStore(new HeapSessionStore(2), 2, executor);
+
+        // Act
+        CompletableFuture<GameState> first = store.submit("a", session -> session.apply(GameCommand.MOVE_LEFT));
+        CompletableFuture<GameState> second = store.submit("a", session -> session.apply(GameCommand.MOVE_LEFT));
+        CompletableFuture<GameState> third = store.submit("a", session -> session.apply(GameCommand.MOVE_LEFT));
+        store.submit("b", GameSession::state);
+
+        // Assert
+        CompletionException rejected = assertThrows(CompletionException.class, third::join);
+        assertTrue(rejected.getCause() instanceof RejectedExecutionException);
+
+        MailboxStats pending = store.stats();
+        assertEquals(2, pending.mailboxes());
+        assertEquals(3, pending.queued());
+        assertEquals(2, pending.maxDepth());
+        assertEquals(1, pending.rejected());
+        assertEquals(2, pending.mailboxCapacity());
+
+        executor.runAll();
+        assertNotNull(first.join());
+        assertNotNull(second.join());
+        MailboxStats drained = store.stats();
+        assertEquals(0, drained.queued());
+        assertEquals(3, drained.processed());
+        assertEquals(2, store.findReplay("a").orElseThrow().commandCount(),
+                "拒否された操作は実行されないべき");
+    }
+
+    @Test
+    @DisplayName("操作の中から同じセッションへの操作を実行しても待機しない")
+    void testExecute_Reentrant() {
+        // Arrange
+        try (MailboxSessionStore store = new MailboxSessionStore(new HeapSessionStore(1), 4)) {
+            // Act
+            GameState state = store.execute("session-1",
+                    outer -> store.execute("session-1", inner -> inner.apply(GameCommand.HARD_DROP)));
+
+            // Assert
+            assertEquals(state, store.execute("session-1", GameSession::state));
+        }
+    }
+
+    @Test
+    @DisplayName("破棄は先に投入された操作の後に実行される")
+    void testRemove_OrderedAfterPendingCommands() throws InterruptedException {
+        // Arrange
+        ManualExecutor executor = new ManualExecutor();
+        HeapSessionStore delegate = new HeapSessionStore(1);
+        MailboxSessionStore store = new MailboxSessionStore(delegate, 4, executor);
+        CompletableFuture<GameState> pending = store.submit("a", session -> session.apply(GameCommand.HARD_DROP));
+
+        // Act
+        Thread remover = new Thread(() -> store.remove("a"));
+        remover.start();
+        while (store.stats().queued() < 2) {
+            Thread.onSpinWait();
+        }
+        while (remover.isAlive()) {
+            executor.runAll();
+            remover.join(10);
+        }
+
+        // Assert
+        assertNotNull(pending.join());
+        assertEquals(0, store.size(), "破棄は投入済みの操作の後に実行されるべき");
+    }
+
+    @Test
+    @DisplayName("委譲先の例外はそのまま再送出される")
+    void testExecute_PropagatesException() {
+        try (MailboxSessionStore store = new MailboxSessionStore(new HeapSessionStore(1), 4)) {
+            store.execute("a", GameSession::state);
+            assertThrows(IllegalStateException.class, () -> store.execute("b", GameSession::state));
+        }
+    }
+
+    @Test
+    @DisplayName("引き渡し中に投入された操作は、引き渡し後に移動先を示す例外で完了する")
+    void testHandOff_PendingCommandsSeeMovedSession() throws InterruptedException {
+        // Arrange
+        ManualExecutor executor = new ManualExecutor();
+        MailboxSessionStore store = new MailboxSessionStore(new HeapSessionStore(2), 8, executor);
+        store.submit("a", session -> session.apply(GameCommand.HARD_DROP));
+        executor.runAll();
+        List<Integer> transferred = new ArrayList<>();
+        List<CompletableFuture<GameState>> during = new ArrayList<>();
+
+        // Act: 引き渡しの実行中に同じセッションへ操作を投入する
+        Thread handOff = new Thread(() -> store.handOff("a", "node-2", replay -> {
+            transferred.add(replay.commandCount());
+            during.add(store.submit("a", session -> session.apply(GameCommand.MOVE_LEFT)));
+        }));
+        handOff.start();
+        while (handOff.isAlive()) {
+            executor.runAll();
+            handOff.join(10);
+        }
+        executor.runAll();
+
+        // Assert
+        assertEquals(List.of(1), transferred, "先に投入された操作の後の入力ログが引き渡されるべき");
+        CompletionException moved = assertThrows(CompletionException.class, during.get(0)::join);
+        SessionMovedException cause = assertInstanceOf(SessionMovedException.class, moved.getCause());
+        assertEquals("node-2", cause.target());
+        assertFalse(store.contains("a"));
+        assertThrows(SessionMovedException.class, () -> store.findReplay("a"));
+    }
+
+    @Test
+    @DisplayName("引き渡しに失敗したセッションは残り、受け入れたセッションは移動の記録が消える")
+    void testHandOff_FailureKeepsSessionAndAdoptClearsMoved() {
+        try (MailboxSessionStore store = new MailboxSessionStore(new HeapSessionStore(2), 8);
+             MailboxSessionStore other = new MailboxSessionStore(new HeapSessionStore(2), 8)) {
+            // Arrange
+            store.execute("a", session -> session.apply(GameCommand.HARD_DROP));
+
+            // Act & Assert: 移動先が受け入れられない場合
+            assertThrows(IllegalStateException.class, () -> store.handOff("a", "node-2", replay -> {
+                throw new IllegalStateException("unreachable");
+            }));
+            assertEquals(1, store.findReplay("a").orElseThrow().commandCount());
+
+            // Act & Assert: 移動して戻ってくる場合
+            assertTrue(store.handOff("a", "node-2", replay -> other.adopt("a", replay)));
+            assertFalse(store.handOff("b", "node-2", replay -> fail("存在しないセッションは引き渡さないべき")));
+            assertTrue(other.handOff("a", "node-1", replay -> store.adopt("a", replay)));
+            store.execute("a", session -> session.apply(GameCommand.HARD_DROP));
+            assertEquals(2, store.findReplay("a").orElseThrow().commandCount());
+        }
+    }
+}
@@ -0,0 +1,438 @@
+package com.example.tetris.application.session;
+
+import com.example.tetris.domain.GameCommand;
+import com.example.tetris.domain.GameField;
+import com.example.tetris.domain.GameState;
+import com.example.tetris.domain.GameStatus;
+import com.example.tetris.domain.GravityTimer;
+import com.example.tetris.domain.replay.Replay;
+import com.example.tetris.domain.replay.ReplayEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link OffHeapSessionStore}クラスの単体テスト。
+ *
+ * <p>スロットへの書き戻しと復元で状態が失われないこと、容量と破棄の扱い、
+ * スナップショットファイルからの復元を検証します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class OffHeapSessionStoreTest {
+
+    private Path snapshotPath;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (snapshotPath != null) {
+            Files.deleteIfExists(snapshotPath);
+        }
+    }
+
+    @Test
+    @DisplayName("スロットから復元した状態は入力ログの再シミュレーション結果と一致する")
+    void testExecute_StateSurvivesSlotRoundTrip() {
+        // Arrange
+        OffHeapSessionStore store = new OffHeapSessionStore(4);
+        GameCommand[] commands = GameCommand.values();
+        Random random = new Random(7);
+
+        // Act: 1操作ごとにスロットへ書き戻し、次の操作で復元する
+        GameState last = null;
+        for (int i = 0; i < 2000; i++) {
+            GameCommand command = commands[random.nextInt(commands.length)];
+            last = store.execute("session-1", session -> session.apply(command));
+            if (last.status() == GameStatus.GAME_OVER) {
+                break;
+            }
+        }
+
+        // Assert
+        GameState stored = store.execute("session-1", GameSession::state);
+        assertEquals(last, stored, "書き戻した状態が復元されるべき");
+        assertEquals(stored, ReplayEngine.simulate(store.findReplay("session-1").orElseThrow()),
+                "復元した状態はリプレイと一致するべき");
+    }
+
+    @Test
+    @DisplayName("重力の進行状況もスロットに保持される")
+    void testExecute_GravitySurvivesSlotRoundTrip() {
+        // Arrange
+        OffHeapSessionStore store = new OffHeapSessionStore(1);
+
+        // Act
+        store.execute("session-1", GameSession::advanceGravity);
+        store.execute("session-1", session -> session.apply(GameCommand.MOVE_LEFT));
+        GameState state = store.execute("session-1", GameSession::advanceGravity);
+        GravityTimer written = store.execute("session-1", GameSession::gravityTimer);
+        GameSession restored = store.execute("session-1", session -> session);
+
+        // Assert
+        GravityTimer read = restored.gravityTimer();
+        assertEquals(written.lastMillis(), read.lastMillis());
+        assertEquals(written.fallProgressMillis(), read.fallProgressMillis());
+        assertEquals(written.groundedSinceMillis(), read.groundedSinceMillis());
+        assertEquals(written.lockResets(), read.lockResets());
+        assertSame(restored.state().pieceGenerator(), read.piece(),
+                "同じテトリミノに対する進行状況は、復元後も同じジェネレーターを参照するべき");
+        assertEquals(state, ReplayEngine.simulate(store.findReplay("session-1").orElseThrow()),
+                "重力の適用もAUTO_DROPとして記録され、リプレイと一致するべき");
+    }
+
+    @Test
+    @DisplayName("セッションは互いに独立したスロットに保持される")
+    void testExecute_SessionsAreIndependent() {
+        // Arrange
+        OffHeapSessionStore store = new OffHeapSessionStore(2);
+
+        // Act
+        GameState first = store.execute("a", session -> session.apply(GameCommand.HARD_DROP));
+        GameState second = store.execute("b", GameSession::state);
+
+        // Assert
+        assertEquals(2, store.size());
+        assertEquals(first, store.execute("a", GameSession::state));
+        assertEquals(second, store.execute("b", GameSession::state));
+        assertEquals(GameField.createEmpty(), second.field(),
+                "他のセッションの操作は影響しないべき");
+    }
+
+    @Test
+    @DisplayName("容量を超えるセッションは開始できず、破棄したスロットは再利用される")
+    void testCapacityAndRemove() {
+        // Arrange
+        OffHeapSessionStore store = new OffHeapSessionStore(1);
+        store.execute("a", session -> session.apply(GameCommand.HARD_DROP));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> store.execute("b", GameSession::state));
+
+        store.remove("a");
+        assertEquals(0, store.size());
+        assertTrue(store.findReplay("a").isEmpty(), "破棄したセッションの入力ログは取得できないべき");
+
+        GameState reused = store.execute("b", GameSession::state);
+        assertEquals(0, reused.score());
+        assertEquals(0, store.findReplay("b").orElseThrow().commandCount(), "再利用したスロットは新しいセッションであるべき");
+    }
+
+    @Test
+    @DisplayName("破棄したセッションのキーはスロットが再利用されても別のセッションを指さない")
+    void testExecute_StaleKey() {
+        // Arrange
+        OffHeapSessionStore store = new OffHeapSessionStore(1);
+        long stale = store.open("a");
+        store.remove("a");
+
+        // Act
+        long reopened = store.open("a");
+
+        // Assert
+        assertNotEquals(stale, reopened, "作り直したセッションには新しいキーが割り当てられるべき");
+        assertThrows(SessionExpiredException.class, () -> store.execute(stale, GameSession::state));
+        assertEquals(reopened, store.keyOf("a").getAsLong());
+        assertEquals(0, store.execute(reopened, GameSession::state).score());
+    }
+
+    @Test
+    @DisplayName("存在しないセッションの入力ログは空")
+    void testFindReplay_Unknown() {
+        assertTrue(new OffHeapSessionStore(1).findReplay("unknown").isEmpty());
+    }
+
+    @Test
+    @DisplayName("スナップショットから復元したストアは同じ状態で操作を再開できる")
+    void testSnapshotAndRestore_RoundTrip() throws IOException {
+        // Arrange
+        snapshotPath = Files.createTempFile("sessions", ".snapshot");
+        Files.delete(snapshotPath);
+        OffHeapSessionStore store = new OffHeapSessionStore(8);
+        GameState first = store.execute("a", session -> session.apply(GameCommand.HARD_DROP));
+        store.execute("b", session -> session.apply(GameCommand.MOVE_LEFT));
+        GameState second = store.execute("b", GameSession::advanceGravity);
+        GravityTimer timer = store.execute("b", GameSession::gravityTimer);
+
+        // Act
+        try (SessionSnapshotFile file = SessionSnapshotFile.open(snapshotPath, 8)) {
+            assertEquals(2, store.snapshotTo(file));
+        }
+        OffHeapSessionStore restored = new OffHeapSessionStore(8);
+        int count;
+        try (SessionSnapshotFile file = SessionSnapshotFile.open(snapshotPath, 8)) {
+            count = restored.restoreFrom(file);
+        }
+
+        // Assert
+        assertEquals(2, count);
+        assertEquals(2, restored.size());
+        assertEquals(first, restored.execute("a", GameSession::state));
+        assertEquals(second, restored.execute("b", GameSession::state));
+        GravityTimer read = restored.execute("b", GameSession::gravityTimer);
+        assertEquals(timer.fallProgressMillis(), read.fallProgressMillis());
+        assertEquals(timer.lockResets(), read.lockResets());
+        assertTrue(read.lastMillis() >= timer.lastMillis(), "重力の経過時間はスナップショット時点から再開するべき");
+        assertTrue(restored.findReplay("a").isEmpty(), "途中から再開したセッションの入力ログは提供されないべき");
+
+        GameState next = restored.execute("a", session -> session.apply(GameCommand.HARD_DROP));
+        assertNotEquals(first, next, "復元したセッションは操作を続けられるべき");
+        restored.execute("c", GameSession::state);
+        assertEquals(3, restored.size(), "復元されていないスロットは新しいセッションに割り当てられるべき");
+    }
+
+    @Test
+    @DisplayName("スナップショットは変更されたスロットのみを書き込み、破棄したセッションは復元されない")
+    void testSnapshotTo_WritesOnlyDirtySlots() throws IOException {
+        // Arrange
+        snapshotPath = Files.createTempFile("sessions", ".snapshot");
+        Files.delete(snapshotPath);
+        OffHeapSessionStore store = new OffHeapSessionStore(4);
+        store.execute("a", GameSession::state);
+        store.execute("b", GameSession::state);
+        store.execute("c", GameSession::state);
+
+        try (SessionSnapshotFile file = SessionSnapshotFile.open(snapshotPath, 4)) {
+            assertEquals(3, store.snapshotTo(file));
+            assertEquals(0, store.snapshotTo(file), "変更がない場合は何も書き込まないべき");
+
+            // Act
+            store.execute("a", session -> session.apply(GameCommand.HARD_DROP));
+            store.remove("b");
+
+            // Assert
+            assertEquals(2, store.snapshotTo(file), "変更したスロットと破棄したスロットのみを書き込むべき");
+        }
+
+        OffHeapSessionStore restored = new OffHeapSessionStore(4);
+        try (SessionSnapshotFile file = SessionSnapshotFile.open(snapshotPath, 4)) {
+            assertEquals(2, restored.restoreFrom(file));
+        }
+        assertEquals(store.execute("a", GameSession::state), restored.execute("a", GameSession::state));
+        assertEquals(store.execute("c", GameSession::state), restored.execute("c", GameSession::state));
+        assertEquals(2, restored.size(), "破棄したセッションは復元されないべき");
+    }
+
+    @Test
+    @DisplayName("セッションが存在するストアや容量の異なるファイルには復元できない")
+    void testRestoreFrom_Rejected() throws IOException {
+        // Arrange
+        snapshotPath = Files.createTempFile("sessions", ".snapshot");
+        Files.delete(snapshotPath);
+        OffHeapSessionStore store = new OffHeapSessionStore(2);
+        store.execute("a", GameSession::state);
+
+        // Act & Assert
+        try (SessionSnapshotFile file = SessionSnapshotFile.open(snapshotPath, 2)) {
+            assertThrows(IllegalStateException.class, () -> store.restoreFrom(file));
+            assertThrows(IllegalArgumentException.class, () -> new OffHeapSessionStore(3).restoreFrom(file));
+        }
+    }
+
+    @Test
+    @DisplayName("操作のないセッションは休止してスロットを空け、次の操作で同じ状態に復元される")
+    void testHibernateIdle_RoundTrip() {
+        // Arrange: 重力と操作を混ぜて入力ログを伸ばす
+        OffHeapSessionStore store = new OffHeapSessionStore(1);
+        GameCommand[] commands = GameCommand.values();
+        Random random = new Random(11);
+        for (int i = 0; i < 500; i++) {
+            GameCommand command = commands[random.nextInt(commands.length)];
+            if (store.execute("a", session -> session.apply(command)).status() == GameStatus.GAME_OVER) {
+                break;
+            }
+        }
+        for (int i = 0; i < 200; i++) {
+            GameCommand command = (i % 2 == 0) ? GameCommand.MOVE_LEFT : GameCommand.ROTATE;
+            store.execute("a", session -> session.apply(command));
+        }
+        store.execute("a", GameSession::advanceGravity);
+        GameSession before = store.execute("a", session -> session);
+        assertTrue(before.replay().inputLog().length >= 200, "圧縮される長さの入力ログであるべき");
+
+        // Act
+        assertEquals(1, store.hibernateIdle(Duration.ZERO));
+
+        // Assert: 休止中もセッションは存在し、入力ログを取得でき、空いたスロットは他のセッションが使える
+        assertEquals(1, store.size());
+        assertTrue(store.contains("a"));
+        assertEquals(before.replay(), store.findReplay("a").orElseThrow());
+        HibernationStats stats = store.hibernationStats();
+        assertEquals(1, stats.hibernated());
+        assertEquals(0, stats.resident());
+        assertTrue(stats.hibernatedBytes() < OffHeapSessionStore.SLOT_SIZE + before.replay().inputLog().length,
+                "休止形式はスロットと入力ログの合計より小さいべき: " + stats.hibernatedBytes());
+
+        store.execute("b", GameSession::state);
+        assertThrows(IllegalStateException.class, () -> store.execute("a", GameSession::state),
+                "空きスロットがない場合は復元できないべき");
+        assertTrue(store.contains("a"), "復元できなかったセッションは休止中のまま残るべき");
+        store.remove("b");
+
+        // Act & Assert: 次の操作で透過的に復元される
+        GameSession after = store.execute("a", session -> session);
+        assertEquals(before.state(), after.state());
+        assertEquals(before.gravityTimer().lastMillis(), after.gravityTimer().lastMillis());
+        assertEquals(before.gravityTimer().fallProgressMillis(), after.gravityTimer().fallProgressMillis());
+        assertEquals(before.gravityTimer().lockResets(), after.gravityTimer().lockResets());
+        assertEquals(before.startNanos(), after.startNanos());
+        assertEquals(before.replay(), after.replay());
+        stats = store.hibernationStats();
+        assertEquals(0, stats.hibernated());
+        assertEquals(1, stats.rehydrations());
+        assertTrue(stats.meanRehydrationNanos() > 0);
+
+        GameState next = store.execute("a", session -> session.apply(GameCommand.MOVE_LEFT));
+        assertEquals(next, ReplayEngine.simulate(store.findReplay("a").orElseThrow()),
+                "復元後の操作も入力ログに続けて記録されるべき");
+    }
+
+    @Test
+    @DisplayName("最近操作されたセッションは休止せず、休止中のセッションも破棄できる")
+    void testHibernateIdle_SkipsRecentAndRemoves() {
+        // Arrange
+        OffHeapSessionStore store = new OffHeapSessionStore(2);
+        store.execute("a", GameSession::state);
+
+        // Act & Assert
+        assertEquals(0, store.hibernateIdle(Duration.ofHours(1)));
+        assertEquals(1, store.hibernateIdle(Duration.ZERO));
+
+        store.remove("a");
+        assertFalse(store.contains("a"));
+        assertEquals(0, store.size());
+        assertEquals(0, store.execute("a", GameSession::state).score(), "破棄後は新しいセッションであるべき");
+    }
+
+    @Test
+    @DisplayName("空きスロットがない場合は最も長く操作のないセッションを休止させ、スロット数を超えるセッションを保持できる")
+    void testHibernateWhenFull_EvictsLeastRecent() throws InterruptedException {
+        // Arrange
+        OffHeapSessionStore store = new OffHeapSessionStore(2);
+        store.hibernateWhenFull();
+        GameState a = store.execute("a", session -> session.apply(GameCommand.MOVE_LEFT));
+        Thread.sleep(2);
+        store.execute("b", GameSession::state);
+        Thread.sleep(2);
+
+        // Act: スロット数を超える3つ目のセッション
+        store.execute("c", GameSession::state);
+
+        // Assert: 最も長く操作のない"a"が休止し、3つとも保持される
+        assertEquals(3, store.size());
+        HibernationStats stats = store.hibernationStats();
+        assertEquals(1, stats.hibernated());
+        assertEquals(2, stats.resident());
+        assertEquals(1, stats.hibernations());
+
+        // Act & Assert: 休止中の"a"は次に古い"b"を休止させて復元される
+        assertEquals(a, store.execute("a", GameSession::state));
+        assertEquals(3, store.size());
+        assertEquals(1, store.hibernationStats().hibernated());
+        assertTrue(store.contains("b"));
+        assertEquals(1, store.hibernationStats().rehydrations());
+    }
+
+    @Test
+    @DisplayName("引き渡したセッションは入力ログを送ってから破棄され、休止中のセッションも引き渡せる")
+    void testHandOff_TransfersReplayAndRemoves() {
+        // Arrange
+        OffHeapSessionStore store = new OffHeapSessionStore(2);
+        store.execute("a", session -> session.apply(GameCommand.HARD_DROP));
+        store.execute("b", session -> session.apply(GameCommand.MOVE_LEFT));
+        Replay a = store.findReplay("a").orElseThrow();
+        Replay b = store.findReplay("b").orElseThrow();
+        store.hibernateIdle(Duration.ZERO);
+        store.execute("a", GameSession::state);
+        List<Replay> transferred = new ArrayList<>();
+
+        // Act & Assert: 送信に失敗した場合はセッションが残る
+        assertThrows(IllegalStateException.class, () -> store.handOff("a", "node-2", replay -> {
+            throw new IllegalStateException("unreachable");
+        }));
+        assertTrue(store.contains("a"));
+
+        assertTrue(store.handOff("a", "node-2", transferred::add));
+        assertTrue(store.handOff("b", "node-2", transferred::add), "休止中のセッションも引き渡せるべき");
+        assertFalse(store.handOff("c", "node-2", transferred::add));
+
+        assertEquals(List.of(a, b), transferred);
+        assertEquals(0, store.size());
+        assertEquals(0, store.hibernationStats().hibernated());
+    }
+
+    @Test
+    @DisplayName("入力ログの送信中はスロットのロックを保持せず、他のスレッドからセッションを参照できる")
+    void testHandOff_TransfersOutsideSlotLock() {
+        // Arrange
+        OffHeapSessionStore store = new OffHeapSessionStore(1);
+        store.execute("a", session -> session.apply(GameCommand.HARD_DROP));
+        List<Replay> seen = new ArrayList<>();
+
+        // Act: 送信中に別のスレッドから同じスロットの入力ログを取得する
+        boolean handedOff = store.handOff("a", "node-2", replay -> {
+            CompletableFuture<Optional<Replay>> other = CompletableFuture.supplyAsync(() -> store.findReplay("a"));
+            seen.add(other.orTimeout(5, TimeUnit.SECONDS).join().orElseThrow());
+        });
+
+        // Assert
+        assertTrue(handedOff);
+        assertEquals(1, seen.size(), "送信中もスロットのロックを待たずに参照できるべき");
+        assertFalse(store.contains("a"));
+    }
+
+    @Test
+    @DisplayName("同じ入力ログの引き渡しを再度受け入れても何もせず、異なる入力ログは拒否される")
+    void testAdopt_Idempotent() {
+        // Arrange
+        OffHeapSessionStore source = new OffHeapSessionStore(1);
+        source.execute("a", session -> session.apply(GameCommand.HARD_DROP));
+        Replay replay = source.findReplay("a").orElseThrow();
+        OffHeapSessionStore target = new OffHeapSessionStore(2);
+        target.adopt("a", replay);
+        long key = target.keyOf("a").getAsLong();
+
+        // Act
+        target.adopt("a", replay);
+
+        // Assert
+        assertEquals(1, target.size());
+        assertEquals(key, target.keyOf("a").getAsLong(), "受け入れ済みのセッションは作り直さないべき");
+        source.execute("a", session -> session.apply(GameCommand.HARD_DROP));
+        Replay advanced = source.findReplay("a").orElseThrow();
+        assertThrows(IllegalStateException.class, () -> target.adopt("a", advanced));
+    }
+
+    @Test
+    @DisplayName("スナップショットから復元したセッションは入力ログがないため引き渡せない")
+    void testHandOff_RestoredSessionIsRejected() throws IOException {
+        // Arrange
+        snapshotPath = Files.createTempFile("sessions", ".snapshot");
+        Files.delete(snapshotPath);
+        OffHeapSessionStore store = new OffHeapSessionStore(2);
+        store.execute("a", session -> session.apply(GameCommand.HARD_DROP));
+        OffHeapSessionStore restored = new OffHeapSessionStore(2);
+        try (SessionSnapshotFile file = SessionSnapshotFile.open(snapshotPath, 2)) {
+            store.snapshotTo(file);
+            restored.restoreFrom(file);
+        }
+
+        // Act & Assert
+        assertThrows(ReplayUnavailableException.class, () -> restored.handOff("a", "node-2", replay -> fail("送信されないべき")));
+        assertTrue(restored.contains("a"), "引き渡せなかったセッションは残るべき");
+    }
+}
@@ -0,0 +1,233 @@
+package com.example.tetris.application.session;
+
+import com.example.tetris.domain.GameStatus;
+import com.example.tetris.domain.replay.Replay;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link SessionAdmission}と{@link AdmittingSessionStore}の単体テスト。
+ *
+ * <p>計測値を差し替えて、ヒープ・CPU・待ち時間による上限の推定、待機ロビーの順序と退出、
+ * セッションストアでの受け入れ判定を検証します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class SessionAdmissionTest {
+
+    private static final long KIB = 1024;
+
+    /**
+     * ヒープの予備は0、1セッションあたり最低1KiB、毎秒10操作、CPU使用率100%、待ち時間の上限10ミリ秒、
+     * ロビーは2人・5秒、毎回再計測する条件。
+     */
+    private static final AdmissionPolicy POLICY = new AdmissionPolicy(0, KIB, 10.0, 1.0,
+            Duration.ofMillis(10), 2, Duration.ofSeconds(5), Duration.ZERO);
+
+    private HeapSessionStore store;
+    private AtomicLong clock;
+    private long headroom;
+    private long processed;
+    private long queueNanos;
+    private long serviceNanos;
+
+    @BeforeEach
+    void setUp() {
+        store = new HeapSessionStore(100);
+        clock = new AtomicLong();
+        headroom = 1000 * KIB;
+        processed = 0;
+        queueNanos = 0;
+        serviceNanos = 0;
+    }
+
+    private SessionAdmission admission(int storeLimit) {
+        return new SessionAdmission(store, storeLimit, POLICY,
+                () -> new SessionAdmission.LoadSample(headroom, store.size() * 2 * KIB,
+                        processed, queueNanos, serviceNanos),
+                clock::get, 1);
+    }
+
+    private void admitAndCreate(SessionAdmission admission, String sessionId) {
+        assertTrue(admission.tryAdmit(sessionId).admitted(), sessionId + "は受け入れられるべき");
+        store.execute(sessionId, GameSession::state);
+        admission.settle();
+    }
+
+    @Test
+    @DisplayName("ヒープの空きと1セッションあたりの使用量から上限を推定する")
+    void testEstimate_MemoryLimit() {
+        // Arrange
+        SessionAdmission admission = admission(100);
+        admitAndCreate(admission, "session-1");
+        admitAndCreate(admission, "session-2");
+
+        // Act: 1セッションあたり2KiB、空き10KiB → 2 + 5 = 7セッション
+        headroom = 10 * KIB;
+        CapacityEstimate estimate = admission.estimate();
+
+        // Assert
+        assertEquals(2, estimate.sessions());
+        assertEquals(2 * KIB, estimate.bytesPerSession());
+        assertEquals(7, estimate.memoryLimit());
+        assertEquals(7, estimate.capacity());
+        assertEquals(5, estimate.available());
+        assertEquals(100, estimate.storeLimit());
+    }
+
+    @Test
+    @DisplayName("操作あたりの実行時間からCPUによる上限を推定し、待ち時間が上限を超えると受け入れを停止する")
+    void testEstimate_CpuLimitAndLag() {
+        // Arrange
+        SessionAdmission admission = admission(100_000);
+        admission.estimate();
+
+        // Act: 1000操作で合計10ミリ秒（1操作10マイクロ秒）→ 1コア / (10µs × 毎秒10操作) = 10000セッション
+        processed += 1000;
+        serviceNanos += 10_000_000;
+        queueNanos += 1_000_000;
+        CapacityEstimate estimate = admission.estimate();
+
+        // Assert
+        assertEquals(10_000, estimate.tickCostNanos());
+        assertEquals(1_000, estimate.tickLagNanos());
+        assertEquals(10_000, estimate.cpuLimit());
+        assertFalse(estimate.saturated());
+
+        // Act: 平均待ち時間20ミリ秒（上限10ミリ秒）
+        processed += 10;
+        serviceNanos += 100_000;
+        queueNanos += 200_000_000;
+        estimate = admission.estimate();
+
+        // Assert
+        assertTrue(estimate.saturated());
+        assertEquals(0, estimate.available());
+        processed += 10;
+        queueNanos += 200_000_000;
+        assertEquals(SessionAdmission.Status.QUEUED, admission.tryAdmit("session-1").status(),
+                "遅れている間は待機ロビーに入るべき");
+    }
+
+    @Test
+    @DisplayName("空きがない場合は待機ロビーに入り、空いた順に先着順で受け入れられる")
+    void testTryAdmit_Lobby() {
+        // Arrange
+        SessionAdmission admission = admission(1);
+        admitAndCreate(admission, "session-1");
+
+        // Act & Assert: 空きがないため待機
+        SessionAdmission.Admission second = admission.tryAdmit("session-2");
+        SessionAdmission.Admission third = admission.tryAdmit("session-3");
+        assertEquals(new SessionAdmission.Admission(SessionAdmission.Status.QUEUED, 1), second);
+        assertEquals(new SessionAdmission.Admission(SessionAdmission.Status.QUEUED, 2), third);
+        assertEquals(SessionAdmission.Status.REJECTED, admission.tryAdmit("session-4").status(),
+                "ロビーが満員の場合は拒否されるべき");
+        assertEquals(2, admission.estimate().lobby());
+
+        // Act & Assert: 空きができても、待機順位が2の場合は先頭が受け入れられるまで待機
+        store.remove("session-1");
+        assertEquals(2, admission.tryAdmit("session-3").lobbyPosition());
+        assertTrue(admission.tryAdmit("session-2").admitted());
+        assertEquals(1, admission.tryAdmit("session-3").lobbyPosition());
+    }
+
+    @Test
+    @DisplayName("再確認のないプレイヤーは待機ロビーから退出させる")
+    void testTryAdmit_LobbyTimeout() {
+        // Arrange
+        SessionAdmission admission = admission(1);
+        admitAndCreate(admission, "session-1");
+        admission.tryAdmit("session-2");
+        admission.tryAdmit("session-3");
+
+        // Act: session-3のみ再確認し、session-2はタイムアウト
+        clock.addAndGet(Duration.ofSeconds(3).toNanos());
+        admission.tryAdmit("session-3");
+        clock.addAndGet(Duration.ofSeconds(3).toNanos());
+
+        // Assert
+        assertEquals(1, admission.tryAdmit("session-3").lobbyPosition());
+        assertEquals(1, admission.estimate().lobby());
+
+        admission.leave("session-3");
+        assertEquals(0, admission.estimate().lobby());
+    }
+
+    @Test
+    @DisplayName("受け入れ済みで未作成のセッションも上限の計算に含める")
+    void testTryAdmit_InFlight() {
+        // Arrange
+        SessionAdmission admission = admission(2);
+
+        // Act
+        assertTrue(admission.tryAdmit("session-1").admitted());
+        assertTrue(admission.tryAdmit("session-2").admitted());
+
+        // Assert
+        assertFalse(admission.tryAdmit("session-3").admitted(), "作成前の2セッションで上限に達しているべき");
+        admission.settle();
+        admission.settle();
+        assertEquals(0, admission.estimate().sessions());
+    }
+
+    @Test
+    @DisplayName("セッションストアは新しいセッションの作成前にのみ受け入れを判定する")
+    void testAdmittingSessionStore() {
+        // Arrange
+        SessionAdmission admission = admission(1);
+        AdmittingSessionStore sessions = new AdmittingSessionStore(store, admission);
+        sessions.execute("session-1", GameSession::state);
+
+        // Act & Assert: 既存のセッションは判定しない
+        assertEquals(GameStatus.PLAYING, sessions.execute("session-1", session -> session.state().status()));
+
+        // Act & Assert: 新しいセッションは作成せずに待機順位付きの例外を送出する
+        SessionNotAdmittedException e = assertThrows(SessionNotAdmittedException.class,
+                () -> sessions.execute("session-2", GameSession::state));
+        assertEquals(1, e.admission().lobbyPosition());
+        assertFalse(store.contains("session-2"));
+
+        // Act & Assert: 破棄すると待機中のセッションが受け入れられる
+        sessions.remove("session-1");
+        sessions.execute("session-2", GameSession::state);
+        assertTrue(store.contains("session-2"));
+        assertEquals(1, admission.estimate().sessions());
+    }
+
+    @Test
+    @DisplayName("他のノードから引き渡されたセッションも受け入れを判定し、既存のセッションの再送は判定しない")
+    void testAdmittingSessionStore_Adopt() {
+        // Arrange
+        SessionAdmission admission = admission(1);
+        AdmittingSessionStore sessions = new AdmittingSessionStore(store, admission);
+        sessions.execute("session-1", GameSession::state);
+        Replay existing = store.findReplay("session-1").orElseThrow();
+        HeapSessionStore source = new HeapSessionStore(10);
+        source.execute("session-2", GameSession::state);
+        Replay migrating = source.findReplay("session-2").orElseThrow();
+
+        // Act & Assert: 既存のセッションの再送は冪等に受け入れる
+        sessions.adopt("session-1", existing);
+        assertEquals(1, store.size());
+
+        // Act & Assert: 空きがなければ作成せず、待機ロビーにも入れない
+        assertThrows(SessionNotAdmittedException.class, () -> sessions.adopt("session-2", migrating));
+        assertFalse(store.contains("session-2"));
+        assertEquals(0, admission.estimate().lobby());
+
+        // Act & Assert: 空きができれば受け入れる
+        sessions.remove("session-1");
+        sessions.adopt("session-2", migrating);
+        assertEquals(migrating, store.findReplay("session-2").orElseThrow());
+        assertEquals(1, admission.estimate().sessions());
+    }
+}
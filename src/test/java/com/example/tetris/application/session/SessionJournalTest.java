@@ -0,0 +1,310 @@
+package com.example.tetris.application.session;
+
+import com.example.tetris.domain.GameCommand;
+import com.example.tetris.domain.PieceGenerator;
+import com.example.tetris.domain.replay.Replay;
+import com.example.tetris.domain.replay.ReplayRecorder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link SessionJournal}と{@link JournalingSessionStore}の単体テスト。
+ *
+ * <p>入力ログの再生による復旧、途切れた末尾・世代・欠落の扱い、チェックポイントによる
+ * コンパクション、グループコミットを検証します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class SessionJournalTest {
+
+    private static final long SEGMENT_BYTES = 1024 * 1024;
+
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("journal");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private JournalingSessionStore open(OffHeapSessionStore store) throws IOException {
+        return new JournalingSessionStore(store, directory, SEGMENT_BYTES, Duration.ofHours(1));
+    }
+
+    private static Replay replayOf(GameCommand... commands) {
+        ReplayRecorder recorder = new ReplayRecorder(PieceGenerator.sevenBag(42));
+        for (int i = 0; i < commands.length; i++) {
+            recorder.record(i * 10L, commands[i]);
+        }
+        return recorder.toReplay();
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    @Test
+    @DisplayName("操作と破棄を記録し、再起動時に入力ログを再生してセッションを復旧する")
+    void testRecover_ReplaysJournal() throws IOException {
+        // Arrange
+        OffHeapSessionStore store = new OffHeapSessionStore(4);
+        Replay expected;
+        try (JournalingSessionStore sessions = open(store)) {
+            sessions.execute("a", session -> session.apply(GameCommand.MOVE_LEFT));
+            sessions.execute("a", session -> session.apply(GameCommand.HARD_DROP));
+            sessions.execute("b", session -> session.apply(GameCommand.HARD_DROP));
+            sessions.execute("a", session -> session.apply(GameCommand.ROTATE));
+            sessions.remove("b");
+            expected = sessions.findReplay("a").orElseThrow();
+        }
+
+        // Act
+        OffHeapSessionStore restored = new OffHeapSessionStore(4);
+        try (JournalingSessionStore sessions = open(restored)) {
+            // Assert
+            assertEquals(1, sessions.recovered());
+            assertFalse(restored.contains("b"), "破棄したセッションは復旧されないべき");
+            assertEquals(expected, restored.findReplay("a").orElseThrow());
+            assertEquals(store.execute("a", GameSession::state), restored.execute("a", GameSession::state));
+
+            // 復旧したセッションへの操作も記録される
+            sessions.execute("a", session -> session.apply(GameCommand.HARD_DROP));
+            expected = sessions.findReplay("a").orElseThrow();
+        }
+        OffHeapSessionStore again = new OffHeapSessionStore(4);
+        try (JournalingSessionStore sessions = open(again)) {
+            assertEquals(expected, again.findReplay("a").orElseThrow());
+        }
+    }
+
+    @Test
+    @DisplayName("最大長のセッションID（マルチバイト文字を含む）を記録・復旧し、記録できないIDはセッションを作成せずに拒否する")
+    void testExecute_LongSessionIds() throws IOException {
+        // Arrange: 256文字（ASCII）と、UTF-8で255バイトを超える256文字（3バイト文字）
+        String ascii = "a".repeat(256);
+        String multibyte = "テ".repeat(256);
+        String tooLong = "テ".repeat(257);
+        OffHeapSessionStore store = new OffHeapSessionStore(4);
+        try (JournalingSessionStore sessions = open(store)) {
+            // Act
+            sessions.execute(ascii, session -> session.apply(GameCommand.HARD_DROP));
+            sessions.execute(multibyte, session -> session.apply(GameCommand.MOVE_LEFT));
+
+            // Assert
+            assertThrows(IllegalArgumentException.class,
+                    () -> sessions.execute(tooLong, session -> session.apply(GameCommand.MOVE_LEFT)));
+            assertFalse(store.contains(tooLong), "記録できないセッションはスロットを確保しないべき");
+            assertEquals(2, store.size());
+        }
+
+        OffHeapSessionStore restored = new OffHeapSessionStore(4);
+        try (JournalingSessionStore sessions = open(restored)) {
+            assertEquals(2, sessions.recovered());
+            assertEquals(store.findReplay(ascii), restored.findReplay(ascii));
+            assertEquals(store.findReplay(multibyte), restored.findReplay(multibyte));
+        }
+    }
+
+    @Test
+    @DisplayName("書き込み途中で途切れた末尾のレコードは読み飛ばす")
+    void testRecover_TornTail() throws IOException {
+        // Arrange
+        Replay start = replayOf(GameCommand.MOVE_LEFT);
+        Replay full = replayOf(GameCommand.MOVE_LEFT, GameCommand.HARD_DROP);
+        byte[] delta = new byte[full.inputLog().length - start.inputLog().length];
+        System.arraycopy(full.inputLog(), start.inputLog().length, delta, 0, delta.length);
+        try (SessionJournal journal = SessionJournal.open(directory, SEGMENT_BYTES)) {
+            journal.appendStart("a", 1, start);
+            journal.awaitDurable(journal.appendCommands("a", 1, start.inputLog().length, 2, delta));
+        }
+
+        // Act: 最後のレコードの末尾1バイトを切り詰める
+        Path segment = segments().get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 1);
+        }
+
+        // Assert
+        try (SessionJournal journal = SessionJournal.open(directory, SEGMENT_BYTES)) {
+            assertEquals(start, journal.recovered().get("a").replay());
+            assertEquals(2, journal.nextIncarnation(), "世代は既存のレコードより大きいべき");
+        }
+    }
+
+    @Test
+    @DisplayName("古い世代のレコードと重複した差分は無視し、欠落以降の差分は適用しない")
+    void testRecover_IncarnationsAndGaps() throws IOException {
+        // Arrange
+        Replay full = replayOf(GameCommand.MOVE_LEFT, GameCommand.MOVE_RIGHT, GameCommand.HARD_DROP);
+        Replay prefix = replayOf(GameCommand.MOVE_LEFT);
+        byte[] log = full.inputLog();
+        int cut = prefix.inputLog().length;
+        byte[] rest = new byte[log.length - cut];
+        System.arraycopy(log, cut, rest, 0, rest.length);
+
+        try (SessionJournal journal = SessionJournal.open(directory, SEGMENT_BYTES)) {
+            // aは作り直されたセッション（世代1は破棄済み）
+            journal.appendStart("a", 1, full);
+            journal.appendEnd("a", 1);
+            journal.appendStart("a", 2, prefix);
+            journal.appendCommands("a", 2, cut, 3, rest);
+            journal.appendCommands("a", 2, cut, 3, rest);
+            journal.appendCommands("a", 1, 0, 3, log);
+            // bは途中の差分が欠落している
+            journal.appendStart("b", 3, prefix);
+            journal.awaitDurable(journal.appendCommands("b", 3, cut + 1, 3, rest));
+        }
+
+        // Act
+        try (SessionJournal journal = SessionJournal.open(directory, SEGMENT_BYTES)) {
+            // Assert
+            assertEquals(new SessionJournal.Entry(2, full), journal.recovered().get("a"));
+            assertEquals(new SessionJournal.Entry(3, prefix), journal.recovered().get("b"));
+        }
+    }
+
+    @Test
+    @DisplayName("チェックポイントはスナップショットを書き込んでから古いセグメントを削除する")
+    void testCheckpoint_Compacts() throws IOException {
+        // Arrange
+        OffHeapSessionStore store = new OffHeapSessionStore(4);
+        Replay expected;
+        try (JournalingSessionStore sessions = open(store)) {
+            for (int i = 0; i < 20; i++) {
+                sessions.execute("a", session -> session.apply(GameCommand.HARD_DROP));
+            }
+            sessions.execute("b", session -> session.apply(GameCommand.MOVE_LEFT));
+            sessions.remove("b");
+            List<Path> before = segments();
+
+            // Act
+            assertEquals(1, sessions.checkpoint());
+            sessions.execute("a", session -> session.apply(GameCommand.MOVE_RIGHT));
+            expected = sessions.findReplay("a").orElseThrow();
+
+            // Assert
+            for (Path segment : before) {
+                assertFalse(Files.exists(segment), "チェックポイント前のセグメントは削除されるべき: " + segment);
+            }
+        }
+        OffHeapSessionStore restored = new OffHeapSessionStore(4);
+        try (JournalingSessionStore sessions = open(restored)) {
+            assertEquals(1, sessions.recovered());
+            assertEquals(expected, restored.findReplay("a").orElseThrow());
+        }
+    }
+
+    @Test
+    @DisplayName("最初の操作と並行したチェックポイントでも、新しいセッションのSTARTは失われない")
+    void testCheckpoint_ConcurrentFirstCommands() throws Exception {
+        // Arrange
+        int sessionCount = 400;
+        OffHeapSessionStore store = new OffHeapSessionStore(sessionCount);
+        try (JournalingSessionStore sessions = open(store)) {
+            AtomicBoolean done = new AtomicBoolean();
+            Thread checkpoints = new Thread(() -> {
+                while (!done.get()) {
+                    try {
+                        sessions.checkpoint();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            });
+            checkpoints.start();
+
+            // Act: チェックポイントの間に新しいセッションの最初の操作を実行
+            try {
+                for (int i = 0; i < sessionCount; i++) {
+                    sessions.execute("s" + i, session -> session.apply(GameCommand.HARD_DROP));
+                    if (i % 8 == 0) {
+                        Thread.yield();
+                    }
+                }
+            } finally {
+                done.set(true);
+                checkpoints.join();
+            }
+        }
+
+        // Assert
+        OffHeapSessionStore restored = new OffHeapSessionStore(sessionCount);
+        try (JournalingSessionStore sessions = open(restored)) {
+            assertEquals(sessionCount, sessions.recovered());
+            for (int i = 0; i < sessionCount; i++) {
+                assertEquals(store.findReplay("s" + i).orElseThrow(), restored.findReplay("s" + i).orElseThrow(),
+                        "セッション s" + i + " が復旧されるべき");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("追記したレコードはまとめてfsyncされる")
+    void testGroupCommit() throws IOException {
+        // Arrange
+        Replay replay = replayOf(GameCommand.HARD_DROP);
+        try (SessionJournal journal = SessionJournal.open(directory, SEGMENT_BYTES)) {
+            // Act
+            long last = 0;
+            for (int i = 0; i < 1000; i++) {
+                last = journal.appendStart("session-" + i, journal.nextIncarnation(), replay);
+            }
+            journal.awaitDurable(last);
+
+            // Assert
+            assertEquals(1000, journal.records());
+            assertTrue(journal.syncs() < journal.records(),
+                    "複数のレコードが1回のfsyncにまとめられるべき: " + journal.syncs());
+        }
+        try (SessionJournal journal = SessionJournal.open(directory, SEGMENT_BYTES)) {
+            assertEquals(1000, journal.recovered().size());
+        }
+    }
+
+    @Test
+    @DisplayName("セグメントが上限を超えると次のセグメントに切り替える")
+    void testSegmentRolling() throws IOException {
+        // Arrange
+        Replay replay = replayOf(GameCommand.HARD_DROP);
+        try (SessionJournal journal = SessionJournal.open(directory, 256)) {
+            // Act
+            for (int i = 0; i < 20; i++) {
+                journal.awaitDurable(journal.appendStart("session-" + i, i + 1, replay));
+            }
+        }
+
+        // Assert
+        assertTrue(segments().size() > 1, "複数のセグメントに分割されるべき");
+        try (SessionJournal journal = SessionJournal.open(directory, 256)) {
+            assertEquals(20, journal.recovered().size());
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.tetris.application.session;
+
+import com.example.tetris.domain.GameCommand;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link SessionSnapshotFile}クラスの単体テスト。
+ *
+ * <p>ファイルの形式の検証と、破損したレコードの読み飛ばしを検証します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class SessionSnapshotFileTest {
+
+    private Path path;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        path = Files.createTempFile("sessions", ".snapshot");
+        Files.delete(path);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Test
+    @DisplayName("新しいファイルはヘッダーと全レコード分の長さで作成され、すべて未使用")
+    void testOpen_CreatesEmptyFile() throws IOException {
+        // Act
+        try (SessionSnapshotFile file = SessionSnapshotFile.open(path, 3)) {
+            // Assert
+            assertEquals(3, file.capacity());
+            for (int record = 0; record < 3; record++) {
+                assertNull(file.sessionId(record));
+            }
+        }
+        assertEquals(SessionSnapshotFile.HEADER_SIZE + 3L * SessionSnapshotFile.RECORD_SIZE, Files.size(path));
+    }
+
+    @Test
+    @DisplayName("レコード数や形式が一致しないファイルは開けない")
+    void testOpen_Incompatible() throws IOException {
+        // Arrange
+        SessionSnapshotFile.open(path, 3).close();
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> SessionSnapshotFile.open(path, 4));
+
+        try (RandomAccessFile raw = new RandomAccessFile(path.toFile(), "rw")) {
+            raw.writeInt(0);
+        }
+        assertThrows(IOException.class, () -> SessionSnapshotFile.open(path, 3),
+                "マジックナンバーが一致しないファイルは開けないべき");
+    }
+
+    @Test
+    @DisplayName("チェックサムが一致しないレコードは読み飛ばされる")
+    void testCorruptedRecordIsSkipped() throws IOException {
+        // Arrange
+        OffHeapSessionStore store = new OffHeapSessionStore(2);
+        store.execute("a", session -> session.apply(GameCommand.HARD_DROP));
+        store.execute("b", session -> session.apply(GameCommand.HARD_DROP));
+        int corrupted;
+        try (SessionSnapshotFile file = SessionSnapshotFile.open(path, 2)) {
+            store.snapshotTo(file);
+            corrupted = "a".equals(file.sessionId(0)) ? 0 : 1;
+        }
+
+        // Act: スロットのバイト列の途中を書き換える
+        try (RandomAccessFile raw = new RandomAccessFile(path.toFile(), "rw")) {
+            long position = SessionSnapshotFile.HEADER_SIZE + (long) corrupted * SessionSnapshotFile.RECORD_SIZE + 40;
+            raw.seek(position);
+            int value = raw.read();
+            raw.seek(position);
+            raw.write(value ^ 0xFF);
+        }
+
+        // Assert
+        OffHeapSessionStore restored = new OffHeapSessionStore(2);
+        try (SessionSnapshotFile file = SessionSnapshotFile.open(path, 2)) {
+            assertNull(file.sessionId(corrupted), "破損したレコードは無効として扱われるべき");
+            assertEquals(1, restored.restoreFrom(file));
+        }
+        assertEquals(store.execute("b", GameSession::state), restored.execute("b", GameSession::state));
+    }
+
+    @Test
+    @DisplayName("最大長のセッションID（マルチバイト文字を含む）は書き込まれ、長すぎるセッションIDは書き込まれずに計上される")
+    void testWrite_SessionIdLength() throws IOException {
+        // Arrange: 256文字の3バイト文字（768バイト）と、それを超えるID
+        OffHeapSessionStore store = new OffHeapSessionStore(2);
+        String longest = "テ".repeat(256);
+        String tooLong = "x".repeat(SessionSnapshotFile.MAX_SESSION_ID_BYTES + 1);
+        store.execute(longest, GameSession::state);
+        store.execute(tooLong, GameSession::state);
+
+        // Act & Assert
+        try (SessionSnapshotFile file = SessionSnapshotFile.open(path, 2)) {
+            store.snapshotTo(file);
+            assertEquals(1, file.skipped());
+            assertEquals(longest, file.sessionId(0));
+            assertNull(file.sessionId(1));
+        }
+    }
+}
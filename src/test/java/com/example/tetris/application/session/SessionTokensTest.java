@@ -0,0 +1,119 @@
+package com.example.tetris.application.session;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link SessionTokens}と{@link SessionToken}の単体テスト。
+ *
+ * <p>トークンの発行・解決・失効と、検査値による偽造トークンの拒否、文字列表現を検証します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class SessionTokensTest {
+
+    @Test
+    @DisplayName("発行したトークンは発行時のセッションIDとセッションキーに解決される")
+    void testIssueAndResolve() {
+        // Arrange
+        SessionTokens tokens = new SessionTokens(4);
+        String sessionId = "session-1";
+
+        // Act
+        SessionToken token = tokens.issue(sessionId, 7L);
+
+        // Assert
+        assertEquals(new SessionTokens.Binding(sessionId, 7L), tokens.resolve(token));
+        assertSame(sessionId, tokens.resolve(token).sessionId());
+        assertEquals(token, tokens.issue(sessionId, 7L), "同じセッションキーには同じトークンを返すべき");
+        assertEquals(1, tokens.size());
+    }
+
+    @Test
+    @DisplayName("セッションキーが変わったセッションには新しいトークンを発行し、以前のトークンは失効する")
+    void testIssue_NewKeyRevokesPreviousToken() {
+        // Arrange
+        SessionTokens tokens = new SessionTokens(1);
+        SessionToken first = tokens.issue("session-1", 1L);
+
+        // Act
+        SessionToken second = tokens.issue("session-1", 2L);
+
+        // Assert
+        assertNotEquals(first, second);
+        assertThrows(IllegalArgumentException.class, () -> tokens.resolve(first));
+        assertEquals(2L, tokens.resolve(second).key());
+        assertEquals(1, tokens.size());
+    }
+
+    @Test
+    @DisplayName("検査値の異なるトークンや範囲外のスロットは拒否される")
+    void testResolve_ForgedToken() {
+        // Arrange
+        SessionTokens tokens = new SessionTokens(4);
+        SessionToken token = tokens.issue("session-1", 1L);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> tokens.resolve(SessionToken.of(token.slot(), token.check() ^ 1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> tokens.resolve(SessionToken.of(3, token.check())), "未発行のスロットは拒否されるべき");
+        assertThrows(IllegalArgumentException.class,
+                () -> tokens.resolve(SessionToken.of(100, token.check())), "範囲外のスロットは拒否されるべき");
+    }
+
+    @Test
+    @DisplayName("失効したトークンは拒否され、再発行では新しい検査値が使われる")
+    void testRevoke() {
+        // Arrange
+        SessionTokens tokens = new SessionTokens(1);
+        SessionToken first = tokens.issue("session-1", 1L);
+
+        // Act
+        tokens.revoke("session-1");
+        SessionToken second = tokens.issue("session-2", 2L);
+
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> tokens.resolve(first));
+        assertEquals(first.slot(), second.slot(), "空いたスロットは再利用されるべき");
+        assertNotEquals(first, second);
+        assertEquals("session-2", tokens.resolve(second).sessionId());
+    }
+
+    @Test
+    @DisplayName("セッションIDはハンドシェイク時に検証され、上限を超える発行は拒否される")
+    void testIssue_Validation() {
+        SessionTokens tokens = new SessionTokens(1);
+        assertThrows(NullPointerException.class, () -> tokens.issue(null, 1L));
+        assertThrows(IllegalArgumentException.class, () -> tokens.issue(" ", 1L));
+        assertThrows(IllegalArgumentException.class,
+                () -> tokens.issue("x".repeat(SessionTokens.MAX_SESSION_ID_LENGTH + 1), 1L));
+
+        tokens.issue("session-1", 1L);
+        assertThrows(IllegalStateException.class, () -> tokens.issue("session-2", 2L));
+    }
+
+    @Test
+    @DisplayName("トークンは16桁の16進数で表現され、解析で復元される")
+    void testToken_TextRoundTrip() {
+        // Arrange
+        SessionToken token = SessionToken.of(12345, 0xABCDEF0123L);
+
+        // Act
+        String text = token.toString();
+
+        // Assert
+        assertEquals(SessionToken.TEXT_LENGTH, text.length());
+        assertEquals(token, SessionToken.parse(text));
+        assertEquals(12345, token.slot());
+        assertEquals(0xABCDEF0123L, token.check());
+        assertEquals(new SessionToken(-1L), SessionToken.parse("ffffffffffffffff"));
+        assertThrows(IllegalArgumentException.class, () -> SessionToken.parse("123"));
+        assertThrows(IllegalArgumentException.class, () -> SessionToken.parse("zzzzzzzzzzzzzzzz"));
+        assertThrows(IllegalArgumentException.class, () -> SessionToken.of(SessionToken.MAX_SLOTS, 1L));
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.tetris.application.simulation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link HeadlessSimulator}の単体テスト。
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class HeadlessSimulatorTest {
+
+    private final HeadlessSimulator simulator = new HeadlessSimulator(RandomSimulationBot::new);
+
+    @Test
+    @DisplayName("CSVにはヘッダーとゲーム数分の行が書き出される")
+    void testRun_WritesCsvRows() {
+        StringWriter csv = new StringWriter();
+
+        SimulationReport report = simulator.run(new SimulationConfig(50, 1L, 10_000, 2, 8), csv);
+
+        List<String> lines = Arrays.asList(csv.toString().split("\n"));
+        assertEquals(SimulatedGame.CSV_HEADER, lines.get(0));
+        assertEquals(51, lines.size());
+        assertEquals(50, report.games());
+        assertEquals(50, report.gameOvers(), "ランダムボットは上限までにゲームオーバーになるべき");
+        assertTrue(report.totalTicks() > 0);
+    }
+
+    @Test
+    @DisplayName("集計結果は並列度に依存せず同じシードで再現できる")
+    void testRun_ReproducibleAcrossParallelism() {
+        SimulationReport sequential = simulator.run(new SimulationConfig(40, 99L, 10_000, 1, 40), null);
+        SimulationReport parallel = simulator.run(new SimulationConfig(40, 99L, 10_000, 4, 3), null);
+
+        assertEquals(sequential.totalPieces(), parallel.totalPieces());
+        assertEquals(sequential.totalTicks(), parallel.totalTicks());
+        assertEquals(sequential.totalSimulatedMillis(), parallel.totalSimulatedMillis());
+    }
+
+    @Test
+    @DisplayName("最大テトリミノ数に達したゲームは打ち切られる")
+    void testSimulateGame_StopsAtMaxPieces() {
+        SimulatedGame game = simulator.simulateGame(new SimulationConfig(1, 5L, 3, 1, 1), 0);
+
+        assertEquals(3, game.pieces());
+        assertFalse(game.gameOver());
+        assertTrue(game.simulatedMillis() >= game.ticks() * 100L, "各ティックは最小落下間隔以上");
+    }
+
+    @Test
+    @DisplayName("不正な設定値はIllegalArgumentExceptionになる")
+    void testConfig_RejectsInvalidValues() {
+        assertThrows(IllegalArgumentException.class, () -> new SimulationConfig(0, 1L, 1, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SimulationConfig(1, 1L, 1, 0, 1));
+    }
+}
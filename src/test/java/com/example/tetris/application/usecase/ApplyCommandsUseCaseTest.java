@@ -0,0 +1,163 @@
+package com.example.tetris.application.usecase;
+
+import com.example.tetris.application.dto.CommandBatchResultDTO;
+import com.example.tetris.application.session.SessionExpiredException;
+import com.example.tetris.application.session.SessionToken;
+import com.example.tetris.domain.GameCommand;
+import com.example.tetris.domain.GameStatus;
+import com.example.tetris.domain.replay.Replay;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ApplyCommandsUseCaseのテストクラス。
+ *
+ * <h3>テストケース:</h3>
+ * <ul>
+ *   <li>操作列の一括適用と受理フラグ</li>
+ *   <li>入力ログへの記録</li>
+ *   <li>バリデーション（セッションID、操作数）</li>
+ *   <li>セッショントークンによる操作の適用と失効</li>
+ *   <li>発行元でないトークンによるハンドシェイクのやり直し</li>
+ * </ul>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class ApplyCommandsUseCaseTest {
+
+    private ApplyCommandsUseCase applyCommandsUseCase;
+    private String testSessionId;
+
+    @BeforeEach
+    void setUp() {
+        applyCommandsUseCase = new ApplyCommandsUseCaseImpl();
+        testSessionId = "test-session-001";
+    }
+
+    @Test
+    @DisplayName("操作列を一括適用し、最終状態と操作ごとの受理フラグを返す")
+    void testExecute_AppliesAllCommands() {
+        // Act: 初期位置(x=4)から左に2マス移動
+        CommandBatchResultDTO result = applyCommandsUseCase.execute(
+                testSessionId, List.of(GameCommand.MOVE_LEFT, GameCommand.MOVE_LEFT));
+
+        // Assert
+        assertEquals(GameStatus.PLAYING, result.state().status());
+        assertEquals(2, result.state().currentTetromino().x(), "x座標は2であるべき");
+        assertEquals(List.of(true, true), result.accepted());
+    }
+
+    @Test
+    @DisplayName("受理された操作はセッションの入力ログに記録される")
+    void testExecute_RecordsReplay() {
+        // Arrange: 左端を超える移動を含む操作列
+        List<GameCommand> commands = Collections.nCopies(10, GameCommand.MOVE_LEFT);
+
+        // Act
+        CommandBatchResultDTO result = applyCommandsUseCase.execute(testSessionId, commands);
+
+        // Assert
+        long accepted = result.accepted().stream().filter(Boolean::booleanValue).count();
+        Replay replay = applyCommandsUseCase.findReplay(testSessionId).orElseThrow();
+        assertTrue(accepted < commands.size(), "左端を超える移動は拒否されるべき");
+        assertEquals(accepted, replay.commandCount(), "受理された操作のみ記録されるべき");
+    }
+
+    @Test
+    @DisplayName("不正な入力は例外をスローする")
+    void testExecute_Validation() {
+        assertThrows(NullPointerException.class,
+                () -> applyCommandsUseCase.execute(null, List.of(GameCommand.MOVE_LEFT)));
+        assertThrows(IllegalArgumentException.class,
+                () -> applyCommandsUseCase.execute(" ", List.of(GameCommand.MOVE_LEFT)));
+        assertThrows(NullPointerException.class,
+                () -> applyCommandsUseCase.execute(testSessionId, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> applyCommandsUseCase.execute(testSessionId, List.of()));
+        assertThrows(IllegalArgumentException.class,
+                () -> applyCommandsUseCase.execute(testSessionId, Collections.nCopies(65, GameCommand.MOVE_LEFT)));
+    }
+
+    @Test
+    @DisplayName("removeSession()でセッションが削除される")
+    void testRemoveSession() {
+        applyCommandsUseCase.execute(testSessionId, List.of(GameCommand.ROTATE));
+
+        applyCommandsUseCase.removeSession(testSessionId);
+
+        assertTrue(applyCommandsUseCase.findReplay(testSessionId).isEmpty());
+    }
+
+    @Test
+    @DisplayName("発行したセッショントークンで操作列を適用できる")
+    void testExecute_WithToken() {
+        // Arrange
+        SessionToken token = applyCommandsUseCase.openSession(testSessionId);
+
+        // Act
+        CommandBatchResultDTO result = applyCommandsUseCase.executeWithToken(token, List.of(GameCommand.MOVE_LEFT));
+
+        // Assert
+        assertEquals(3, result.state().currentTetromino().x(), "x座標は3であるべき");
+        assertEquals(1, applyCommandsUseCase.findReplay(testSessionId).orElseThrow().commandCount(),
+                "トークンとセッションIDは同じセッションを指すべき");
+        assertEquals(token, applyCommandsUseCase.openSession(testSessionId));
+    }
+
+    @Test
+    @DisplayName("無効なトークンや削除したセッションのトークンは拒否される")
+    void testExecute_InvalidToken() {
+        // Arrange
+        SessionToken token = applyCommandsUseCase.openSession(testSessionId);
+        applyCommandsUseCase.removeSession(testSessionId);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> applyCommandsUseCase.executeWithToken(token, List.of(GameCommand.MOVE_LEFT)));
+        assertThrows(IllegalArgumentException.class,
+                () -> applyCommandsUseCase.openSession(" "));
+        assertThrows(NullPointerException.class,
+                () -> applyCommandsUseCase.executeWithToken(null, List.of(GameCommand.MOVE_LEFT)));
+    }
+
+    @Test
+    @DisplayName("他のノードで発行されたトークンはセッションIDで黙って適用せず、ハンドシェイクのやり直しを求める")
+    void testExecuteWithToken_ForeignTokenRequiresReopen() {
+        // Arrange: 移動元のノードで発行されたトークンと、このノードに存在する同じセッション
+        SessionToken foreign = new ApplyCommandsUseCaseImpl().openSession(testSessionId);
+        applyCommandsUseCase.execute(testSessionId, List.of(GameCommand.ROTATE));
+
+        // Act & Assert
+        assertThrows(SessionExpiredException.class, () -> applyCommandsUseCase.executeWithToken(
+                testSessionId, foreign, List.of(GameCommand.MOVE_LEFT)));
+        assertEquals(1, applyCommandsUseCase.findReplay(testSessionId).orElseThrow().commandCount(),
+                "やり直しを求めた操作は適用されないべき");
+
+        SessionToken reopened = applyCommandsUseCase.openSession(testSessionId);
+        applyCommandsUseCase.executeWithToken(testSessionId, reopened, List.of(GameCommand.MOVE_LEFT));
+        assertEquals(2, applyCommandsUseCase.findReplay(testSessionId).orElseThrow().commandCount());
+    }
+
+    @Test
+    @DisplayName("トークンと異なるセッションIDを指定した操作列は拒否される")
+    void testExecuteWithToken_SessionIdMismatch() {
+        // Arrange
+        SessionToken token = applyCommandsUseCase.openSession(testSessionId);
+        applyCommandsUseCase.openSession("other-session");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> applyCommandsUseCase.executeWithToken(
+                "other-session", token, List.of(GameCommand.MOVE_LEFT)));
+        assertThrows(IllegalArgumentException.class, () -> applyCommandsUseCase.executeWithToken(
+                "unknown-session", SessionToken.of(0, 1L), List.of(GameCommand.MOVE_LEFT)),
+                "セッションが存在しない場合は不正なトークンとして拒否されるべき");
+    }
+}
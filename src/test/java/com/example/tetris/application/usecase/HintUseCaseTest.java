@@ -0,0 +1,170 @@
+package com.example.tetris.application.usecase;
+
+import com.example.tetris.application.dto.HintDTO;
+import com.example.tetris.application.session.OffHeapSessionStore;
+import com.example.tetris.application.session.SessionExpiredException;
+import com.example.tetris.domain.GameCommand;
+import com.example.tetris.domain.GameStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HintUseCaseの単体テストクラス。
+ *
+ * <p>このテストは、ヒントのメモ化と取り消しの動作を検証します。</p>
+ *
+ * <h3>テスト対象:</h3>
+ * <ul>
+ *   <li>同じ局面の2回目以降のヒントがキャッシュから応答されること</li>
+ *   <li>同じ要求元が局面を進めた場合に未完了のヒントが取り消されること</li>
+ *   <li>ゲームオーバー・存在しないセッションの扱い</li>
+ * </ul>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class HintUseCaseTest {
+
+    private OffHeapSessionStore sessions;
+    private HintUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        sessions = new OffHeapSessionStore(16);
+        useCase = new HintUseCaseImpl(sessions, 1, 16, 1024);
+    }
+
+    @AfterEach
+    void tearDown() {
+        useCase.close();
+    }
+
+    /**
+     * 同じ局面の2回目のヒントはキャッシュから同じ配置で応答されることを確認。
+     */
+    @Test
+    void testRequestHint_SecondRequestIsCached() throws Exception {
+        // Given
+        sessions.open("game-1");
+
+        // When
+        HintDTO first = useCase.requestHint("player-1", "game-1").get(5, TimeUnit.SECONDS).orElseThrow();
+        CompletableFuture<Optional<HintDTO>> second = useCase.requestHint("player-2", "game-1");
+
+        // Then
+        assertFalse(first.cached());
+        assertTrue(second.isDone(), "キャッシュされた局面は即座に応答されるべき");
+        HintDTO cached = second.get().orElseThrow();
+        assertTrue(cached.cached());
+        assertEquals(first.landing(), cached.landing());
+        assertEquals(first.commands(), cached.commands());
+        assertEquals(GameCommand.HARD_DROP.name(), cached.commands().get(cached.commands().size() - 1));
+        assertEquals(1, useCase.metrics().cacheHits());
+        assertEquals(1, useCase.metrics().computed());
+    }
+
+    /**
+     * 同じ要求元が別の局面のヒントを要求すると、未完了のヒントが取り消されることを確認。
+     */
+    @Test
+    void testRequestHint_NewStateCancelsPendingHint() throws Exception {
+        // Given: ワーカーをブロックして探索を開始させない
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(16));
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        useCase.close();
+        useCase = new HintUseCaseImpl(sessions, executor, 1024);
+        sessions.open("game-1");
+
+        // When
+        CompletableFuture<Optional<HintDTO>> stale = useCase.requestHint("player", "game-1");
+        CompletableFuture<Optional<HintDTO>> sameState = useCase.requestHint("player", "game-1");
+        sessions.execute("game-1", session -> session.apply(GameCommand.HARD_DROP));
+        CompletableFuture<Optional<HintDTO>> latest = useCase.requestHint("player", "game-1");
+        release.countDown();
+
+        // Then
+        assertSame(stale, sameState, "同じ局面の要求は探索を共有するべき");
+        assertTrue(stale.isCancelled(), "古い局面のヒントは取り消されるべき");
+        assertTrue(latest.get(5, TimeUnit.SECONDS).isPresent());
+        assertEquals(1, useCase.metrics().cancelled());
+        assertEquals(1, useCase.metrics().computed(), "取り消されたヒントは探索されないべき");
+    }
+
+    /**
+     * cancel()で要求元の未完了のヒントが取り消されることを確認。
+     */
+    @Test
+    void testCancel_CancelsPendingHint() {
+        // Given
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(16));
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        useCase.close();
+        useCase = new HintUseCaseImpl(sessions, executor, 1024);
+        sessions.open("game-1");
+
+        // When
+        CompletableFuture<Optional<HintDTO>> hint = useCase.requestHint("player", "game-1");
+        useCase.cancel("player");
+        release.countDown();
+
+        // Then
+        assertTrue(hint.isCancelled());
+        assertEquals(0, useCase.metrics().pending());
+    }
+
+    /**
+     * ゲームオーバーの状態ではヒントが空になることを確認。
+     */
+    @Test
+    void testRequestHint_GameOverReturnsEmpty() throws Exception {
+        // Given: 積み上げてゲームオーバーにする
+        sessions.open("game-1");
+        for (int i = 0; i < 100; i++) {
+            if (sessions.execute("game-1", session -> session.apply(GameCommand.HARD_DROP)).status()
+                    == GameStatus.GAME_OVER) {
+                break;
+            }
+        }
+
+        // When & Then
+        assertEquals(Optional.empty(), useCase.requestHint("player", "game-1").get(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * 存在しないセッションのヒントはSessionExpiredExceptionになり、セッションを開始しないことを確認。
+     */
+    @Test
+    void testRequestHint_UnknownSessionThrows() {
+        // When & Then
+        assertThrows(SessionExpiredException.class, () -> useCase.requestHint("player", "unknown"));
+        assertFalse(sessions.contains("unknown"), "ヒントの要求でセッションを開始しないべき");
+        assertEquals(0, useCase.metrics().requests());
+    }
+}
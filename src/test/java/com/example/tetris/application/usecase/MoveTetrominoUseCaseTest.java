@@ -2,7 +2,10 @@ package com.example.tetris.application.usecase;
 
 import com.example.tetris.application.dto.GameStateDTO;
 import com.example.tetris.domain.Direction;
+import com.example.tetris.domain.GameState;
 import com.example.tetris.domain.GameStatus;
+import com.example.tetris.domain.replay.Replay;
+import com.example.tetris.domain.replay.ReplayEngine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -170,4 +173,30 @@ class MoveTetrominoUseCaseTest {
             moveTetrominoUseCase.execute(testSessionId, null);
         }, "nullのDirectionではNullPointerExceptionがスローされるべき");
     }
+
+    @Test
+    @DisplayName("セッションの入力ログを再シミュレーションすると現在の状態が再現される")
+    void testFindReplay_ReproducesState() {
+        // Arrange
+        moveTetrominoUseCase.execute(testSessionId, Direction.LEFT);
+        moveTetrominoUseCase.execute(testSessionId, Direction.DOWN);
+        GameStateDTO current = moveTetrominoUseCase.execute(testSessionId, Direction.LEFT);
+
+        // Act
+        Replay replay = moveTetrominoUseCase.findReplay(testSessionId).orElseThrow();
+        GameState replayed = ReplayEngine.simulate(replay);
+
+        // Assert
+        assertEquals(3, replay.commandCount(), "3回の操作が記録されるべき");
+        assertEquals(current.currentTetromino().x(), replayed.currentTetromino().position().x());
+        assertEquals(current.currentTetromino().y(), replayed.currentTetromino().position().y());
+        assertEquals(current.currentTetromino().type(), replayed.currentTetromino().type().name());
+    }
+
+    @Test
+    @DisplayName("存在しないセッションの入力ログは空で返される")
+    void testFindReplay_UnknownSession() {
+        assertTrue(moveTetrominoUseCase.findReplay("unknown-session").isEmpty(),
+                "存在しないセッションではOptional.empty()が返されるべき");
+    }
 }
@@ -1,7 +1,10 @@
 package com.example.tetris.application.usecase;
 
 import com.example.tetris.application.dto.GameStateDTO;
+import com.example.tetris.domain.GameState;
 import com.example.tetris.domain.GameStatus;
+import com.example.tetris.domain.replay.Replay;
+import com.example.tetris.domain.replay.ReplayEngine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -260,4 +263,26 @@ class ProcessAutoDropUseCaseTest {
             processAutoDropUseCase.execute("session-10001");
         }, "最大セッション数到達時にはIllegalStateExceptionがスローされるべき");
     }
+
+    @Test
+    @DisplayName("溜まったティックをまとめて適用でき、入力ログから同じ状態を再現できる")
+    void testExecuteTicks_CatchUp() {
+        // Act: 複数のテトリミノが固定されるだけのティックをまとめて適用
+        GameStateDTO result = processAutoDropUseCase.execute(testSessionId, 70);
+
+        // Assert
+        Replay replay = processAutoDropUseCase.findReplay(testSessionId).orElseThrow();
+        GameState replayed = ReplayEngine.simulate(replay);
+        assertEquals(70, replay.commandCount(), "ティック数分の自動落下が記録されるべき");
+        assertEquals(replayed.currentTetromino().position().y(), result.currentTetromino().y());
+        assertEquals(replayed.currentTetromino().type().name(), result.currentTetromino().type());
+        assertEquals(replayed.status(), result.status());
+    }
+
+    @Test
+    @DisplayName("ティック数が範囲外の場合は例外をスローする")
+    void testExecuteTicks_InvalidTicks() {
+        assertThrows(IllegalArgumentException.class, () -> processAutoDropUseCase.execute(testSessionId, 0));
+        assertThrows(IllegalArgumentException.class, () -> processAutoDropUseCase.execute(testSessionId, 10001));
+    }
 }
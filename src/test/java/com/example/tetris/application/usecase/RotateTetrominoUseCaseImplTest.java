@@ -183,4 +183,22 @@ class RotateTetrominoUseCaseImplTest {
         assertNotNull(secondRotation.nextTetromino(), "Next tetromino should not be null in second rotation");
         assertNotNull(thirdRotation.nextTetromino(), "Next tetromino should not be null in third rotation");
     }
+
+    @Test
+    @DisplayName("反時計回り回転: 時計回り回転の後に反時計回り回転すると元の向きに戻り、両方が記録される")
+    void shouldRotateCounterclockwise() {
+        // Given
+        String sessionId = "test-session-ccw";
+        GameStateDTO initial = useCase.execute(sessionId);
+
+        // When: 時計回り → 反時計回り
+        useCase.execute(sessionId);
+        GameStateDTO result = useCase.executeCounterclockwise(sessionId);
+
+        // Then
+        assertEquals(initial.currentTetromino(), result.currentTetromino(),
+                "Counterclockwise rotation should undo clockwise rotation");
+        assertEquals(3, useCase.findReplay(sessionId).orElseThrow().commandCount());
+        assertThrows(NullPointerException.class, () -> useCase.executeCounterclockwise(null));
+    }
 }
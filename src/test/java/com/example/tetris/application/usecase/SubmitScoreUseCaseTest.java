@@ -0,0 +1,378 @@
+package com.example.tetris.application.usecase;
+
+import com.example.tetris.application.dto.ScoreSubmissionDTO;
+import com.example.tetris.application.dto.ScoreVerificationMetricsDTO;
+import com.example.tetris.application.dto.ScoreVerificationResultDTO;
+import com.example.tetris.application.port.ScoreRepositoryPort;
+import com.example.tetris.application.session.HeapSessionStore;
+import com.example.tetris.application.session.OffHeapSessionStore;
+import com.example.tetris.application.session.SessionSnapshotFile;
+import com.example.tetris.application.verification.ScoreRejectionReason;
+import com.example.tetris.domain.GameCommand;
+import com.example.tetris.domain.GameState;
+import com.example.tetris.domain.GameStatus;
+import com.example.tetris.domain.PieceGenerator;
+import com.example.tetris.domain.Score;
+import com.example.tetris.domain.replay.Replay;
+import com.example.tetris.domain.replay.ReplayEngine;
+import com.example.tetris.domain.replay.ReplayRecorder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * SubmitScoreUseCaseの単体テストクラス。
+ *
+ * <p>このテストは、リプレイ検証付きスコア提出ユースケースの動作を検証します。</p>
+ *
+ * <h3>テスト対象:</h3>
+ * <ul>
+ *   <li>申告値が一致する提出の保存</li>
+ *   <li>申告値が一致しない・リプレイが不正な提出の拒否</li>
+ *   <li>サーバーが記録していないセッション・記録と異なるリプレイの拒否</li>
+ *   <li>入力ログのない（スナップショットから復元した）セッションの拒否</li>
+ *   <li>同じゲームの再提出・同時提出の拒否</li>
+ *   <li>検証キュー満杯時の即時拒否</li>
+ *   <li>統計情報の集計</li>
+ * </ul>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class SubmitScoreUseCaseTest {
+
+    private SubmitScoreUseCaseImpl useCase;
+    private ScoreRepositoryPort scoreRepositoryPort;
+    private ApplyCommandsUseCaseImpl sessions;
+    private GameState finalState;
+    private String encodedReplay;
+
+    @BeforeEach
+    void setUp() {
+        scoreRepositoryPort = mock(ScoreRepositoryPort.class);
+        sessions = new ApplyCommandsUseCaseImpl(new HeapSessionStore(16));
+        useCase = new SubmitScoreUseCaseImpl(scoreRepositoryPort, sessions, 2, 16);
+
+        // サーバーのセッションでハードドロップを繰り返してゲームオーバーまでプレイ
+        Replay replay = playUntilGameOver("session-1");
+        finalState = ReplayEngine.simulate(replay);
+        encodedReplay = Base64.getEncoder().encodeToString(replay.toBytes());
+    }
+
+    @AfterEach
+    void tearDown() {
+        useCase.close();
+    }
+
+    /**
+     * 申告値が再シミュレーション結果と一致する提出は保存されることを確認。
+     */
+    @Test
+    void testSubmit_AcceptedAndSaved() throws Exception {
+        // Given
+        when(scoreRepositoryPort.save(any(Score.class)))
+                .thenAnswer(invocation -> {
+                    Score score = invocation.getArgument(0);
+                    return new Score(1L, score.score(), score.level(), score.totalLinesCleared(), score.timestamp());
+                });
+
+        // When
+        ScoreVerificationResultDTO result = useCase.submit(validSubmission()).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertTrue(result.accepted());
+        assertNull(result.rejectionReason());
+        assertEquals(1L, result.score().id());
+        assertEquals(finalState.score(), result.score().score());
+        verify(scoreRepositoryPort, times(1)).save(any(Score.class));
+    }
+
+    /**
+     * 申告スコアが一致しない提出は保存されずに拒否されることを確認。
+     */
+    @Test
+    void testSubmit_ScoreMismatchRejected() throws Exception {
+        // When
+        ScoreSubmissionDTO submission = new ScoreSubmissionDTO(
+                "session-1",
+                finalState.score() + 1000,
+                finalState.level(),
+                finalState.totalLinesCleared(),
+                encodedReplay
+        );
+        ScoreVerificationResultDTO result = useCase.submit(submission).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertFalse(result.accepted());
+        assertEquals(ScoreRejectionReason.SCORE_MISMATCH, result.rejectionReason());
+        verify(scoreRepositoryPort, never()).save(any(Score.class));
+    }
+
+    /**
+     * Base64として不正なリプレイはMALFORMED_REPLAYで拒否されることを確認。
+     */
+    @Test
+    void testSubmit_MalformedReplayRejected() throws Exception {
+        // When
+        ScoreSubmissionDTO submission = new ScoreSubmissionDTO("session-1", 0, 1, 0, "not a replay!");
+        ScoreVerificationResultDTO result = useCase.submit(submission).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(ScoreRejectionReason.MALFORMED_REPLAY, result.rejectionReason());
+        verify(scoreRepositoryPort, never()).save(any(Score.class));
+    }
+
+    /**
+     * 検証キューが満杯の場合、呼び出し元をブロックせずQUEUE_FULLで拒否されることを確認。
+     */
+    @Test
+    void testSubmit_QueueFullRejectedImmediately() throws Exception {
+        // Given: ワーカー1・キュー容量1で、保存処理をブロックする
+        useCase.close();
+        useCase = new SubmitScoreUseCaseImpl(scoreRepositoryPort, sessions, 1, 1);
+        playUntilGameOver("session-2");
+        playUntilGameOver("session-3");
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch saving = new CountDownLatch(1);
+        when(scoreRepositoryPort.save(any(Score.class)))
+                .thenAnswer(invocation -> {
+                    saving.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return invocation.getArgument(0);
+                });
+
+        // When
+        CompletableFuture<ScoreVerificationResultDTO> running = useCase.submit(validSubmission());
+        assertTrue(saving.await(5, TimeUnit.SECONDS));
+        CompletableFuture<ScoreVerificationResultDTO> queued = useCase.submit(submissionFor("session-2"));
+        CompletableFuture<ScoreVerificationResultDTO> overflow = useCase.submit(submissionFor("session-3"));
+
+        // Then
+        assertTrue(overflow.isDone(), "満杯時は即座に完了すべき");
+        assertEquals(ScoreRejectionReason.QUEUE_FULL, overflow.get().rejectionReason());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS).accepted());
+        assertTrue(queued.get(5, TimeUnit.SECONDS).accepted());
+    }
+
+    /**
+     * サーバーが記録していないセッションの提出は、クライアントのリプレイが正しくてもUNKNOWN_SESSIONで拒否されることを確認。
+     */
+    @Test
+    void testSubmit_UnknownSessionRejected() throws Exception {
+        // When: オフラインでプレイしたリプレイを、存在しないセッションとして提出
+        PieceGenerator generator = PieceGenerator.sevenBag(7L);
+        ReplayRecorder recorder = new ReplayRecorder(generator);
+        GameState state = GameState.initialize(generator);
+        long tick = 0;
+        while (state.status() != GameStatus.GAME_OVER) {
+            state = GameCommand.HARD_DROP.apply(state);
+            recorder.record(tick += 100, GameCommand.HARD_DROP);
+        }
+        ScoreSubmissionDTO submission = new ScoreSubmissionDTO(
+                "offline",
+                state.score(),
+                state.level(),
+                state.totalLinesCleared(),
+                Base64.getEncoder().encodeToString(recorder.toReplay().toBytes())
+        );
+        ScoreVerificationResultDTO result = useCase.submit(submission).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(ScoreRejectionReason.UNKNOWN_SESSION, result.rejectionReason());
+        verify(scoreRepositoryPort, never()).save(any(Score.class));
+    }
+
+    /**
+     * スナップショットから復元したセッションの提出は、検証せずにREPLAY_UNAVAILABLEで拒否されることを確認。
+     */
+    @Test
+    void testSubmit_RestoredSessionRejected() throws Exception {
+        // Given: スナップショットから復元したセッション（入力ログは途中からのため提供されない）
+        Path snapshotPath = Files.createTempFile("sessions", ".snapshot");
+        Files.delete(snapshotPath);
+        OffHeapSessionStore store = new OffHeapSessionStore(2);
+        store.execute("restored", session -> session.apply(GameCommand.HARD_DROP));
+        OffHeapSessionStore restored = new OffHeapSessionStore(2);
+        try (SessionSnapshotFile file = SessionSnapshotFile.open(snapshotPath, 2)) {
+            store.snapshotTo(file);
+            restored.restoreFrom(file);
+        } finally {
+            Files.deleteIfExists(snapshotPath);
+        }
+        ApplyCommandsUseCaseImpl restoredSessions = new ApplyCommandsUseCaseImpl(restored);
+
+        // When
+        ScoreVerificationResultDTO result;
+        try (SubmitScoreUseCaseImpl restoredUseCase =
+                     new SubmitScoreUseCaseImpl(scoreRepositoryPort, restoredSessions, 1, 1)) {
+            result = restoredUseCase.submit(new ScoreSubmissionDTO("restored", 0, 1, 0, null))
+                    .get(5, TimeUnit.SECONDS);
+        }
+
+        // Then
+        assertEquals(ScoreRejectionReason.REPLAY_UNAVAILABLE, result.rejectionReason());
+        assertTrue(restoredSessions.hasSession("restored"), "拒否したセッションは残るべき");
+        verify(scoreRepositoryPort, never()).save(any(Score.class));
+    }
+
+    /**
+     * サーバーが記録した入力ログと異なるリプレイはREPLAY_MISMATCHで拒否されることを確認。
+     */
+    @Test
+    void testSubmit_ReplayMismatchRejected() throws Exception {
+        // Given: 別のセッションの入力ログ
+        Replay other = playUntilGameOver("session-2");
+        GameState otherState = ReplayEngine.simulate(other);
+
+        // When: session-1として別のゲームのリプレイと申告値を提出
+        ScoreSubmissionDTO submission = new ScoreSubmissionDTO(
+                "session-1",
+                otherState.score(),
+                otherState.level(),
+                otherState.totalLinesCleared(),
+                Base64.getEncoder().encodeToString(other.toBytes())
+        );
+        ScoreVerificationResultDTO result = useCase.submit(submission).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(ScoreRejectionReason.REPLAY_MISMATCH, result.rejectionReason());
+        verify(scoreRepositoryPort, never()).save(any(Score.class));
+    }
+
+    /**
+     * リプレイを省略した提出も、サーバーが記録した入力ログで検証されて保存されることを確認。
+     */
+    @Test
+    void testSubmit_WithoutReplayVerifiedAgainstServerLog() throws Exception {
+        // Given
+        when(scoreRepositoryPort.save(any(Score.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        ScoreSubmissionDTO submission = new ScoreSubmissionDTO(
+                "session-1",
+                finalState.score(),
+                finalState.level(),
+                finalState.totalLinesCleared(),
+                null
+        );
+        ScoreVerificationResultDTO result = useCase.submit(submission).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertTrue(result.accepted());
+        verify(scoreRepositoryPort, times(1)).save(any(Score.class));
+    }
+
+    /**
+     * 受理されたゲームを再提出するとUNKNOWN_SESSIONで拒否されることを確認。
+     */
+    @Test
+    void testSubmit_ResubmissionRejected() throws Exception {
+        // Given
+        when(scoreRepositoryPort.save(any(Score.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        assertTrue(useCase.submit(validSubmission()).get(5, TimeUnit.SECONDS).accepted());
+
+        // When
+        ScoreVerificationResultDTO result = useCase.submit(validSubmission()).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(ScoreRejectionReason.UNKNOWN_SESSION, result.rejectionReason());
+        assertFalse(sessions.hasSession("session-1"));
+        verify(scoreRepositoryPort, times(1)).save(any(Score.class));
+    }
+
+    /**
+     * 同じセッションの提出が検証中の場合、DUPLICATE_SUBMISSIONで即座に拒否されることを確認。
+     */
+    @Test
+    void testSubmit_ConcurrentDuplicateRejected() throws Exception {
+        // Given: 保存処理をブロックする
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch saving = new CountDownLatch(1);
+        when(scoreRepositoryPort.save(any(Score.class)))
+                .thenAnswer(invocation -> {
+                    saving.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return invocation.getArgument(0);
+                });
+
+        // When
+        CompletableFuture<ScoreVerificationResultDTO> first = useCase.submit(validSubmission());
+        assertTrue(saving.await(5, TimeUnit.SECONDS));
+        CompletableFuture<ScoreVerificationResultDTO> duplicate = useCase.submit(validSubmission());
+
+        // Then
+        assertTrue(duplicate.isDone(), "検証中の重複提出は即座に完了すべき");
+        assertEquals(ScoreRejectionReason.DUPLICATE_SUBMISSION, duplicate.get().rejectionReason());
+
+        release.countDown();
+        assertTrue(first.get(5, TimeUnit.SECONDS).accepted());
+        verify(scoreRepositoryPort, times(1)).save(any(Score.class));
+    }
+
+    /**
+     * 統計情報が提出・受理・拒否の件数を集計することを確認。
+     */
+    @Test
+    void testMetrics_CountsOutcomes() throws Exception {
+        // Given
+        when(scoreRepositoryPort.save(any(Score.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        useCase.submit(validSubmission()).get(5, TimeUnit.SECONDS);
+        useCase.submit(new ScoreSubmissionDTO("missing", 0, 1, 0, null)).get(5, TimeUnit.SECONDS);
+        ScoreVerificationMetricsDTO metrics = useCase.metrics();
+
+        // Then
+        assertEquals(2L, metrics.submitted());
+        assertEquals(1L, metrics.accepted());
+        assertEquals(1L, metrics.rejected());
+        assertEquals(1L, metrics.rejectionsByReason().get(ScoreRejectionReason.UNKNOWN_SESSION.name()));
+        assertEquals(2, metrics.workers());
+    }
+
+    private ScoreSubmissionDTO validSubmission() {
+        return new ScoreSubmissionDTO(
+                "session-1",
+                finalState.score(),
+                finalState.level(),
+                finalState.totalLinesCleared(),
+                encodedReplay
+        );
+    }
+
+    /**
+     * サーバーが記録した入力ログで申告値を求めた提出を作成します（リプレイは省略）。
+     */
+    private ScoreSubmissionDTO submissionFor(String sessionId) {
+        GameState state = ReplayEngine.simulate(sessions.findReplay(sessionId).orElseThrow());
+        return new ScoreSubmissionDTO(sessionId, state.score(), state.level(), state.totalLinesCleared(), null);
+    }
+
+    /**
+     * サーバーのセッションでゲームオーバーまでハードドロップを繰り返し、記録された入力ログを返します。
+     */
+    private Replay playUntilGameOver(String sessionId) {
+        while (sessions.execute(sessionId, List.of(GameCommand.HARD_DROP)).state().status() != GameStatus.GAME_OVER) {
+            // ゲームオーバーまで繰り返す
+        }
+        return sessions.findReplay(sessionId).orElseThrow();
+    }
+}
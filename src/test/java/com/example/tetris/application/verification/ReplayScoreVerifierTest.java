@@ -0,0 +1,127 @@
+package com.example.tetris.application.verification;
+
+import com.example.tetris.domain.GameCommand;
+import com.example.tetris.domain.GameState;
+import com.example.tetris.domain.GameStatus;
+import com.example.tetris.domain.PieceGenerator;
+import com.example.tetris.domain.replay.Replay;
+import com.example.tetris.domain.replay.ReplayCursor;
+import com.example.tetris.domain.replay.ReplayEngine;
+import com.example.tetris.domain.replay.ReplayRecorder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link ReplayScoreVerifier}の単体テスト。
+ *
+ * <p>ゲームオーバーまで記録したリプレイを使用して、申告値との照合結果を検証します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class ReplayScoreVerifierTest {
+
+    private ReplayScoreVerifier verifier;
+    private Replay replay;
+    private GameState finalState;
+
+    @BeforeEach
+    void setUp() {
+        verifier = new ReplayScoreVerifier(10_000);
+
+        // ハードドロップを繰り返してゲームオーバーまでのリプレイを記録
+        PieceGenerator generator = PieceGenerator.sevenBag(77L);
+        ReplayRecorder recorder = new ReplayRecorder(generator);
+        GameState state = GameState.initialize(generator);
+        long tick = 0;
+        while (state.status() != GameStatus.GAME_OVER) {
+            state = GameCommand.HARD_DROP.apply(state);
+            recorder.record(tick += 100, GameCommand.HARD_DROP);
+        }
+        replay = recorder.toReplay();
+        finalState = state;
+    }
+
+    @Test
+    @DisplayName("申告値が再シミュレーション結果と一致する場合は受理される")
+    void testVerify_Accepted() {
+        Optional<ScoreRejectionReason> result = verifier.verify(
+                replay, finalState.score(), finalState.level(), finalState.totalLinesCleared());
+
+        assertTrue(result.isEmpty(), "一致する申告値は受理されるべき");
+    }
+
+    @Test
+    @DisplayName("申告スコアが一致しない場合はSCORE_MISMATCHで拒否される")
+    void testVerify_ScoreMismatch() {
+        Optional<ScoreRejectionReason> result = verifier.verify(
+                replay, finalState.score() + 100, finalState.level(), finalState.totalLinesCleared());
+
+        assertEquals(Optional.of(ScoreRejectionReason.SCORE_MISMATCH), result);
+    }
+
+    @Test
+    @DisplayName("申告レベル・ライン数が一致しない場合はそれぞれの理由で拒否される")
+    void testVerify_LevelAndLinesMismatch() {
+        assertEquals(Optional.of(ScoreRejectionReason.LEVEL_MISMATCH), verifier.verify(
+                replay, finalState.score(), finalState.level() + 1, finalState.totalLinesCleared()));
+        assertEquals(Optional.of(ScoreRejectionReason.LINES_MISMATCH), verifier.verify(
+                replay, finalState.score(), finalState.level(), finalState.totalLinesCleared() + 1));
+    }
+
+    @Test
+    @DisplayName("ゲームオーバーに到達しないリプレイはGAME_NOT_OVERで拒否される")
+    void testVerify_GameNotOver() {
+        ReplayRecorder recorder = new ReplayRecorder(PieceGenerator.sevenBag(1L));
+        recorder.record(0, GameCommand.MOVE_LEFT);
+
+        assertEquals(Optional.of(ScoreRejectionReason.GAME_NOT_OVER), verifier.verify(recorder.toReplay(), 0, 1, 0));
+    }
+
+    @Test
+    @DisplayName("操作数が上限を超えるリプレイはREPLAY_TOO_LARGEで拒否される")
+    void testVerify_TooLarge() {
+        ReplayScoreVerifier strict = new ReplayScoreVerifier(1);
+
+        assertEquals(Optional.of(ScoreRejectionReason.REPLAY_TOO_LARGE), strict.verify(
+                replay, finalState.score(), finalState.level(), finalState.totalLinesCleared()));
+    }
+
+    @Test
+    @DisplayName("破損した入力ログはMALFORMED_REPLAYで拒否される")
+    void testVerify_Malformed() {
+        // 操作数に対して入力ログが不足しているリプレイ
+        Replay truncated = new Replay(replay.initialGenerator(), new byte[0], 5);
+
+        assertEquals(Optional.of(ScoreRejectionReason.MALFORMED_REPLAY), verifier.verify(truncated, 0, 1, 0));
+    }
+
+    @Test
+    @DisplayName("ゲームオーバー後に記録された操作を含むリプレイも同じ最終状態として受理される")
+    void testVerify_CommandsAfterGameOver() {
+        // Arrange: ゲームオーバー後もセッションが記録した操作を追加する
+        ReplayRecorder recorder = new ReplayRecorder(replay.initialGenerator());
+        ReplayCursor cursor = replay.cursor();
+        while (cursor.advance()) {
+            recorder.record(cursor.tick(), cursor.command());
+        }
+        long tick = recorder.lastTick();
+        for (GameCommand command : GameCommand.values()) {
+            recorder.record(tick += 100, command);
+        }
+
+        // Act
+        Optional<ScoreRejectionReason> result = verifier.verify(recorder.toReplay(),
+                finalState.score(), finalState.level(), finalState.totalLinesCleared());
+
+        // Assert
+        assertTrue(result.isEmpty(), "ゲームオーバー後の操作は最終状態を変えないべき");
+        assertEquals(finalState, ReplayEngine.simulate(recorder.toReplay()));
+    }
+}
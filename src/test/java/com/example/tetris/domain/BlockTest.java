@@ -92,4 +92,19 @@ class BlockTest {
             assertEquals(type, block.type(), type + "型のBlockのtypeは正しく取得できるべき");
         }
     }
+
+    /**
+     * of()が型ごとに同じ共有インスタンスを返すことを検証します。
+     */
+    @Test
+    void testOf_ReturnsSharedInstance() {
+        for (TetrominoType type : TetrominoType.values()) {
+            // Act
+            Block block = Block.of(type);
+
+            // Assert
+            assertSame(block, Block.of(type), type + "型のBlockは共有されるべき");
+            assertEquals(new Block(type), block, "共有インスタンスは同じ型のBlockと等価であるべき");
+        }
+    }
 }
@@ -0,0 +1,63 @@
+package com.example.tetris.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link GameCommand}列挙型の単体テスト。
+ *
+ * <p>このテストクラスは、コード値の一意性と往復変換、
+ * 各操作がGameStateの対応するメソッドに委譲されることを検証します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class GameCommandTest {
+
+    @Test
+    @DisplayName("すべての操作はコード値から往復変換できる")
+    void testFromCode_RoundTrip() {
+        for (GameCommand command : GameCommand.values()) {
+            assertTrue(command.code() >= 0 && command.code() < 8, "コード値は3ビットに収まるべき");
+            assertEquals(command, GameCommand.fromCode(command.code()), "コード値から同じ操作に戻るべき");
+        }
+    }
+
+    @Test
+    @DisplayName("未定義のコード値は例外をスローする")
+    void testFromCode_Unknown() {
+        assertThrows(IllegalArgumentException.class, () -> GameCommand.fromCode(7));
+        assertThrows(IllegalArgumentException.class, () -> GameCommand.fromCode(-1));
+    }
+
+    @Test
+    @DisplayName("移動方向は対応する移動操作に変換される")
+    void testMove() {
+        assertEquals(GameCommand.MOVE_LEFT, GameCommand.move(Direction.LEFT));
+        assertEquals(GameCommand.MOVE_RIGHT, GameCommand.move(Direction.RIGHT));
+        assertEquals(GameCommand.MOVE_DOWN, GameCommand.move(Direction.DOWN));
+        assertThrows(NullPointerException.class, () -> GameCommand.move(null));
+    }
+
+    @Test
+    @DisplayName("apply()はGameStateの対応するメソッドと同じ結果を返す")
+    void testApply_DelegatesToGameState() {
+        GameState state = GameState.initialize(1L);
+
+        assertEquals(state.moveTetromino(Direction.LEFT), GameCommand.MOVE_LEFT.apply(state));
+        assertEquals(state.moveTetromino(Direction.RIGHT), GameCommand.MOVE_RIGHT.apply(state));
+        assertEquals(state.moveTetromino(Direction.DOWN), GameCommand.MOVE_DOWN.apply(state));
+        assertEquals(state.rotateTetromino(), GameCommand.ROTATE.apply(state));
+        assertEquals(state.processAutoDropTick(), GameCommand.AUTO_DROP.apply(state));
+
+        // hardDrop()は新しいGameFieldを生成するため、フィールド以外の状態を比較する
+        GameState expected = state.hardDrop();
+        GameState actual = GameCommand.HARD_DROP.apply(state);
+        assertEquals(expected.currentTetromino(), actual.currentTetromino());
+        assertEquals(expected.nextTetromino(), actual.nextTetromino());
+        assertEquals(expected.pieceGenerator(), actual.pieceGenerator());
+    }
+}
@@ -2,7 +2,9 @@ package com.example.tetris.domain;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -316,4 +318,241 @@ class GameFieldTest {
         assertNotSame(externalGrid, field.grid(),
                 "GameFieldは防御的コピーを保持するべき（同じ配列インスタンスではない）");
     }
+
+    /**
+     * セルが型コードとして保持され、grid()とblockAt()が型ごとの共有Blockを返すことを検証します。
+     */
+    @Test
+    void testCompactCells_SharedBlocks() {
+        // Arrange
+        GameField field = GameField.createEmpty()
+                .place(new Tetromino(TetrominoType.I, new Position(1, 19), Rotation.DEG_0))
+                .place(new Tetromino(TetrominoType.T, new Position(6, 18), Rotation.DEG_0));
+
+        // Act
+        Block[][] grid = field.grid();
+
+        // Assert
+        assertSame(Block.of(TetrominoType.I), grid[19][0]);
+        assertSame(grid[19][0], grid[19][3], "同じ型のセルは同じBlockを共有するべき");
+        assertSame(Block.of(TetrominoType.T), field.blockAt(7, 18));
+        assertNull(field.blockAt(9, 19));
+        assertNotSame(grid, field.grid(), "grid()は呼び出しごとに新しい配列を返すべき");
+    }
+
+    /**
+     * encodedRows()とfromEncodedRows()で同じGameFieldに戻ることを検証します。
+     */
+    @Test
+    void testEncodedRows_RoundTrip() {
+        // Arrange
+        GameField field = GameField.createEmpty()
+                .place(new Tetromino(TetrominoType.S, new Position(4, 18), Rotation.DEG_0))
+                .place(new Tetromino(TetrominoType.L, new Position(8, 17), Rotation.DEG_90));
+
+        // Act
+        int[] rows = field.encodedRows();
+        GameField restored = GameField.fromEncodedRows(rows);
+
+        // Assert
+        assertEquals(field, restored);
+        assertEquals(field.zobristHash(), restored.zobristHash());
+        assertEquals(TetrominoType.Z,
+                GameField.fromEncodedRows(encodedCell(TetrominoType.Z, 2, 5)).blockAt(2, 5).type(),
+                "セルxの型コードはビット3x〜3x+2（ordinal+1）であるべき");
+    }
+
+    /**
+     * fromEncodedRows()が不正な行数とフィールド外のビットを拒否することを検証します。
+     */
+    @Test
+    void testFromEncodedRows_Invalid() {
+        assertThrows(IllegalArgumentException.class, () -> GameField.fromEncodedRows(new int[GameField.HEIGHT - 1]));
+
+        int[] outsideField = new int[GameField.HEIGHT];
+        outsideField[0] = 1 << 30;
+        assertThrows(IllegalArgumentException.class, () -> GameField.fromEncodedRows(outsideField));
+    }
+
+    /**
+     * 1セルのみを占有した型コードの行を生成します。
+     */
+    private static int[] encodedCell(TetrominoType type, int x, int y) {
+        int[] rows = new int[GameField.HEIGHT];
+        rows[y] = (type.ordinal() + 1) << (3 * x);
+        return rows;
+    }
+
+    /**
+     * place() と clearLines() で差分更新したハッシュ値が、グリッドから再計算した値と一致することを検証します。
+     */
+    @Test
+    void testZobristHash_IncrementalMatchesRecomputed() {
+        // Arrange - 最下2行をx=0..8まで埋める
+        GameField field = GameField.createEmpty();
+        Block[][] grid = field.grid();
+        for (int y = 18; y <= 19; y++) {
+            for (int x = 0; x < GameField.WIDTH - 1; x++) {
+                grid[y][x] = new Block(TetrominoType.O);
+            }
+        }
+        grid[17][3] = new Block(TetrominoType.T);
+        GameField before = new GameField(grid);
+
+        // Act - x=9に縦のIを置いて2ライン消去
+        GameField placed = before.place(new Tetromino(TetrominoType.I, new Position(9, 17), Rotation.DEG_90));
+        ClearResult result = placed.clearLines();
+
+        // Assert
+        assertEquals(2, result.clearedLineCount());
+        assertEquals(new GameField(placed.grid()).zobristHash(), placed.zobristHash(),
+                "place()の差分更新は再計算と一致するべき");
+        assertEquals(new GameField(result.updatedField().grid()).zobristHash(), result.updatedField().zobristHash(),
+                "clearLines()の差分更新は再計算と一致するべき");
+        assertNotEquals(before.zobristHash(), placed.zobristHash());
+    }
+
+    /**
+     * 同じセル配置のGameFieldは等価で、異なるセル配置のGameFieldは等価でないことを検証します。
+     */
+    @Test
+    void testEquals_ComparesContent() {
+        // Arrange
+        Tetromino tetromino = new Tetromino(TetrominoType.T, new Position(4, 18), Rotation.DEG_0);
+        GameField first = GameField.createEmpty().place(tetromino);
+        GameField second = GameField.createEmpty().place(tetromino);
+        GameField other = GameField.createEmpty().place(tetromino.moveLeft());
+
+        // Assert
+        assertEquals(first, second, "同じセル配置のGameFieldは等価であるべき");
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(first, other, "異なるセル配置のGameFieldは等価でないべき");
+        assertEquals(0L, GameField.createEmpty().zobristHash(), "空のフィールドのハッシュ値は0であるべき");
+    }
+
+    /**
+     * dropDistance()が1行ずつcanPlace()で判定した落下距離と一致することを検証します。
+     */
+    @Test
+    void testDropDistance_MatchesStepwiseCanPlace() {
+        // Arrange: 凹凸のあるフィールド
+        GameField field = GameField.createEmpty()
+                .place(new Tetromino(TetrominoType.I, new Position(2, 19), Rotation.DEG_0))
+                .place(new Tetromino(TetrominoType.O, new Position(6, 16), Rotation.DEG_0))
+                .place(new Tetromino(TetrominoType.T, new Position(3, 12), Rotation.DEG_180));
+
+        for (TetrominoType type : TetrominoType.values()) {
+            for (Rotation rotation : Rotation.values()) {
+                for (int x = -2; x < GameField.WIDTH + 2; x++) {
+                    Tetromino tetromino = new Tetromino(type, new Position(x, 0), rotation);
+                    if (!field.canPlace(tetromino)) {
+                        continue;
+                    }
+                    int expected = 0;
+                    for (Tetromino moved = tetromino.moveDown(); field.canPlace(moved); moved = moved.moveDown()) {
+                        expected++;
+                    }
+
+                    // Act & Assert
+                    assertEquals(expected, field.dropDistance(tetromino), tetromino.toString());
+                }
+            }
+        }
+    }
+
+    /**
+     * columnHeights()が各列の最上段の占有セルから床までの行数を返すことを検証します。
+     */
+    @Test
+    void testColumnHeights() {
+        // Arrange: x=0..3の最下段にIミノ（横向き）、x=9に縦向きのIミノ
+        GameField field = GameField.createEmpty()
+                .place(new Tetromino(TetrominoType.I, new Position(1, 19), Rotation.DEG_0))
+                .place(new Tetromino(TetrominoType.I, new Position(9, 16), Rotation.DEG_90));
+
+        // Act
+        int[] heights = field.columnHeights();
+
+        // Assert
+        assertArrayEquals(new int[]{1, 1, 1, 1, 0, 0, 0, 0, 0, 5}, heights);
+    }
+
+    /**
+     * rowMasks()が各行の占有セルをビットとして返すことを検証します。
+     */
+    @Test
+    void testRowMasks() {
+        // Arrange: x=0..3の最下段にIミノ（横向き）、x=9に縦向きのIミノ
+        GameField field = GameField.createEmpty()
+                .place(new Tetromino(TetrominoType.I, new Position(1, 19), Rotation.DEG_0))
+                .place(new Tetromino(TetrominoType.I, new Position(9, 16), Rotation.DEG_90));
+
+        // Act
+        int[] rows = field.rowMasks();
+
+        // Assert
+        assertEquals(GameField.HEIGHT, rows.length);
+        assertEquals(0, rows[14]);
+        assertEquals(1 << 9, rows[15]);
+        assertEquals(1 << 9, rows[18]);
+        assertEquals(0b1111, rows[19]);
+    }
+
+    /**
+     * landingPlacements()が、上端から1マスずつ落下させた着地位置と一致することを検証します。
+     */
+    @Test
+    void testLandingPlacements_MatchesStepwiseDrop() {
+        // Arrange: 凹凸と張り出しのあるフィールド
+        GameField field = GameField.createEmpty()
+                .place(new Tetromino(TetrominoType.I, new Position(2, 19), Rotation.DEG_0))
+                .place(new Tetromino(TetrominoType.O, new Position(6, 16), Rotation.DEG_0))
+                .place(new Tetromino(TetrominoType.T, new Position(3, 12), Rotation.DEG_180))
+                .place(new Tetromino(TetrominoType.I, new Position(9, 2), Rotation.DEG_90));
+
+        for (TetrominoType type : TetrominoType.values()) {
+            // Act
+            List<Tetromino> placements = field.landingPlacements(type);
+
+            // Assert: 各着地位置は配置可能で、それ以上落下できない
+            for (Tetromino placement : placements) {
+                assertTrue(field.canPlace(placement), placement.toString());
+                assertEquals(0, field.dropDistance(placement), placement.toString());
+            }
+
+            // Assert: 上端から落とせるすべての位置が（重複する向きを除いて）列挙される
+            Set<Set<Position>> expected = new HashSet<>();
+            for (Rotation rotation : Rotation.values()) {
+                for (int x = -2; x < GameField.WIDTH + 2; x++) {
+                    Tetromino top = new Tetromino(type, new Position(x, 0), rotation);
+                    int minY = top.getBlockPositions().stream().mapToInt(Position::y).min().orElseThrow();
+                    top = new Tetromino(type, new Position(x, -minY), rotation);
+                    if (field.canPlace(top)) {
+                        Tetromino landed = new Tetromino(type,
+                                new Position(x, -minY + field.dropDistance(top)), rotation);
+                        expected.add(new HashSet<>(landed.getBlockPositions()));
+                    }
+                }
+            }
+            Set<Set<Position>> actual = new HashSet<>();
+            for (Tetromino placement : placements) {
+                actual.add(new HashSet<>(placement.getBlockPositions()));
+            }
+            assertEquals(expected, actual, type.name());
+            assertEquals(actual.size(), placements.size(), "占有セルが同一の配置は1つにまとめられるべき");
+        }
+    }
+
+    /**
+     * O型は向きの違いがまとめられ、空のフィールドでは9通りの着地位置になることを検証します。
+     */
+    @Test
+    void testLandingPlacements_EmptyField() {
+        GameField field = GameField.createEmpty();
+
+        assertEquals(9, field.landingPlacements(TetrominoType.O).size());
+        assertEquals(7 + 10, field.landingPlacements(TetrominoType.I).size());
+        assertEquals(8 + 9 + 8 + 9, field.landingPlacements(TetrominoType.T).size());
+        assertThrows(NullPointerException.class, () -> field.landingPlacements(null));
+    }
 }
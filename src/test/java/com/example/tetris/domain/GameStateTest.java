@@ -2,6 +2,10 @@ package com.example.tetris.domain;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -342,10 +346,12 @@ class GameStateTest {
     @Test
     void testRotateTetromino_Collision() {
         // Arrange - フィールドにブロックを配置して回転をブロック
-        // I型テトリミノがPosition(5,5)でDEG_0→DEG_90に回転すると、x=5の列（y=4,5,6,7）を占有
-        // そのため、x=5の列にブロックを配置すれば回転をブロックできる
+        // I型テトリミノがPosition(5,5)（x=4〜7）でSRSの状態0→Rにその場で回転すると、x=6の列（y=4,5,6,7）を占有
+        // SRSの壁蹴りオフセット (0,0), (-2,0), (+1,0), (-2,-1), (+1,+2) のすべてを塞ぐ
         Block[][] grid = new Block[GameField.HEIGHT][GameField.WIDTH];
-        grid[6][5] = new Block(TetrominoType.T);  // y=6, x=5 の位置にブロック（回転先と衝突）
+        grid[6][6] = new Block(TetrominoType.T);  // y=6, x=6 の位置にブロック（その場での回転先と衝突）
+        grid[6][4] = new Block(TetrominoType.T);  // x=4 の列へのキックと衝突
+        grid[4][7] = new Block(TetrominoType.T);  // x=7 の列へのキックと衝突
         GameField fieldWithBlock = new GameField(grid);
 
         GameState gameState = new GameState(
@@ -528,6 +534,28 @@ class GameStateTest {
                 "ゲームオーバーでも次のテトリミノはcurrentTetrominoに昇格するべき");
     }
 
+    /**
+     * ゲームオーバー後の操作が状態を変えないことを検証します。
+     *
+     * <p>入力ログにはゲームオーバー後の操作も記録されるため、どの操作も元のGameStateを
+     * そのまま返し、リプレイの再シミュレーションが特別扱いなしに同じ結果になることを確認します。</p>
+     */
+    @Test
+    void testCommands_NoOpAfterGameOver() {
+        // Arrange
+        GameState state = GameState.initialize(PieceGenerator.sevenBag(77L));
+        while (state.status() != GameStatus.GAME_OVER) {
+            state = state.hardDrop();
+        }
+
+        // Act & Assert
+        for (GameCommand command : GameCommand.values()) {
+            assertSame(state, command.apply(state), command + "はゲームオーバー後に何もしないべき");
+        }
+        assertSame(state, state.processAutoDropTick());
+        assertSame(state, state.processAutoDropTicks(100));
+    }
+
     /**
      * ライン消去後にレベルが正しく更新されることを検証します。
      *
@@ -589,4 +617,268 @@ class GameStateTest {
         // スコアも正しく加算されることを確認（1行消去 = 100点）
         assertEquals(100, result.score(), "1行消去で100点獲得するべき");
     }
+
+    /**
+     * 同じシードで初期化したゲームが、同じ操作で同じ状態に到達することを検証します。
+     */
+    @Test
+    void testInitialize_WithSeed_IsReproducible() {
+        // Arrange
+        GameState first = GameState.initialize(12345L);
+        GameState second = GameState.initialize(12345L);
+
+        // Act: 同じ操作列を適用
+        for (int i = 0; i < 30; i++) {
+            first = first.moveTetromino(Direction.LEFT).rotateTetromino().hardDrop();
+            second = second.moveTetromino(Direction.LEFT).rotateTetromino().hardDrop();
+        }
+
+        // Assert
+        assertEquals(first.currentTetromino(), second.currentTetromino(), "currentTetrominoは一致するべき");
+        assertEquals(first.nextTetromino(), second.nextTetromino(), "nextTetrominoは一致するべき");
+        assertEquals(first.pieceGenerator(), second.pieceGenerator(), "ピースジェネレーターの状態は一致するべき");
+        assertEquals(first.score(), second.score(), "スコアは一致するべき");
+        assertEquals(first.status(), second.status(), "ステータスは一致するべき");
+    }
+
+    /**
+     * hardDrop()がセッションのピースジェネレーターから次のテトリミノを取り出すことを検証します。
+     */
+    @Test
+    void testHardDrop_DrawsFromPieceGenerator() {
+        // Arrange
+        PieceGenerator generator = PieceGenerator.sevenBag(7L);
+        GameState gameState = new GameState(
+                GameStatus.PLAYING,
+                new Tetromino(TetrominoType.I, new Position(4, 0), Rotation.DEG_0),
+                new Tetromino(TetrominoType.O, new Position(4, 0), Rotation.DEG_0),
+                GameField.createEmpty(),
+                0,
+                1,
+                0,
+                generator
+        );
+        PieceDraw expected = generator.next();
+
+        // Act
+        GameState droppedState = gameState.hardDrop();
+
+        // Assert
+        assertEquals(expected.type(), droppedState.nextTetromino().type(),
+                "新しいnextTetrominoはジェネレーターから取り出されるべき");
+        assertEquals(expected.generator(), droppedState.pieceGenerator(),
+                "ジェネレーターは次の状態に進むべき");
+    }
+
+    /**
+     * pieceGeneratorがnullの場合に例外がスローされることを検証します。
+     */
+    @Test
+    void testConstructor_NullPieceGenerator() {
+        assertThrows(NullPointerException.class, () -> new GameState(
+                GameStatus.PLAYING,
+                new Tetromino(TetrominoType.I, new Position(4, 0), Rotation.DEG_0),
+                new Tetromino(TetrominoType.O, new Position(4, 0), Rotation.DEG_0),
+                GameField.createEmpty(),
+                0,
+                1,
+                0,
+                null
+        ));
+    }
+
+    /**
+     * applyAll()が各操作を順に適用した場合と同じ状態に到達することを検証します。
+     */
+    @Test
+    void testApplyAll_EquivalentToSequentialApply() {
+        // Arrange: 移動・回転・ドロップを混在させた操作列
+        GameCommand[] values = GameCommand.values();
+        List<GameCommand> commands = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            commands.add(values[(i * 7 + i / 3) % values.length]);
+        }
+        GameState sequential = GameState.initialize(2024L);
+
+        // Act
+        CommandBatchResult batch = GameState.initialize(2024L).applyAll(commands);
+        for (GameCommand command : commands) {
+            if (sequential.status() == GameStatus.GAME_OVER) {
+                break;  // applyAll()はゲームオーバー以降の操作を適用しない
+            }
+            sequential = command.apply(sequential);
+        }
+
+        // Assert
+        GameState result = batch.state();
+        assertEquals(sequential.status(), result.status(), "ステータスは一致するべき");
+        assertEquals(sequential.currentTetromino(), result.currentTetromino(), "currentTetrominoは一致するべき");
+        assertEquals(sequential.nextTetromino(), result.nextTetromino(), "nextTetrominoは一致するべき");
+        assertEquals(sequential.field(), result.field(), "フィールドは一致するべき");
+        assertEquals(sequential.score(), result.score(), "スコアは一致するべき");
+        assertEquals(sequential.totalLinesCleared(), result.totalLinesCleared(), "消去ライン数は一致するべき");
+        assertEquals(sequential.pieceGenerator(), result.pieceGenerator(), "ピースジェネレーターは一致するべき");
+        assertEquals(commands.size(), batch.accepted().size(), "受理フラグは操作ごとに1つ返されるべき");
+    }
+
+    /**
+     * applyAll()が配置できない移動を拒否し、受理フラグで通知することを検証します。
+     */
+    @Test
+    void testApplyAll_AcceptedFlags() {
+        // Arrange: 左端のIミノ（横向き）
+        GameState gameState = new GameState(
+                GameStatus.PLAYING,
+                new Tetromino(TetrominoType.I, new Position(0, 0), Rotation.DEG_0),
+                new Tetromino(TetrominoType.O, new Position(4, 0), Rotation.DEG_0),
+                GameField.createEmpty(),
+                0,
+                1,
+                0,
+                PieceGenerator.sevenBag(1L)
+        );
+
+        // Act
+        CommandBatchResult result = gameState.applyAll(List.of(
+                GameCommand.MOVE_LEFT, GameCommand.MOVE_RIGHT, GameCommand.MOVE_DOWN));
+
+        // Assert
+        assertEquals(List.of(false, true, true), result.accepted());
+        assertEquals(2, result.acceptedCount());
+        assertEquals(new Position(1, 1), result.state().currentTetromino().position());
+    }
+
+    /**
+     * applyAll()がゲームオーバー以降の操作を適用しないことを検証します。
+     */
+    @Test
+    void testApplyAll_RejectsCommandsAfterGameOver() {
+        // Arrange: 最初のハードドロップで次のテトリミノが配置できなくなるまで積み上げたフィールド
+        GameState gameState = GameState.initialize(99L);
+        List<GameCommand> commands = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            commands.add(GameCommand.HARD_DROP);
+        }
+        commands.add(GameCommand.MOVE_LEFT);
+
+        // Act
+        CommandBatchResult result = gameState.applyAll(commands);
+
+        // Assert
+        assertEquals(GameStatus.GAME_OVER, result.state().status(), "ゲームオーバーに到達するべき");
+        assertFalse(result.accepted().get(commands.size() - 1), "ゲームオーバー後の操作は拒否されるべき");
+        assertTrue(result.acceptedCount() < commands.size());
+    }
+
+    /**
+     * applyAll()にnullが渡された場合に例外がスローされることを検証します。
+     */
+    @Test
+    void testApplyAll_Null() {
+        GameState gameState = GameState.initialize(1L);
+
+        assertThrows(NullPointerException.class, () -> gameState.applyAll(null));
+        assertThrows(NullPointerException.class,
+                () -> gameState.applyAll(Arrays.asList(GameCommand.MOVE_LEFT, null)));
+    }
+
+    /**
+     * processAutoDropTicks(n)がprocessAutoDropTick()をn回呼び出した場合と同じ状態に到達することを検証します。
+     */
+    @Test
+    void testProcessAutoDropTicks_EquivalentToRepeatedTicks() {
+        for (int ticks : new int[]{0, 1, 5, 19, 20, 21, 57, 300}) {
+            // Arrange
+            GameState sequential = GameState.initialize(31L).moveTetromino(Direction.LEFT);
+            GameState start = sequential;
+
+            // Act
+            GameState batched = start.processAutoDropTicks(ticks);
+            for (int i = 0; i < ticks && sequential.status() == GameStatus.PLAYING; i++) {
+                sequential = sequential.processAutoDropTick();
+            }
+
+            // Assert
+            assertEquals(sequential.status(), batched.status(), "ticks=" + ticks);
+            assertEquals(sequential.currentTetromino(), batched.currentTetromino(), "ticks=" + ticks);
+            assertEquals(sequential.field(), batched.field(), "ticks=" + ticks);
+            assertEquals(sequential.score(), batched.score(), "ticks=" + ticks);
+            assertEquals(sequential.pieceGenerator(), batched.pieceGenerator(), "ticks=" + ticks);
+        }
+    }
+
+    /**
+     * processAutoDropTicks()に負のティック数が渡された場合に例外がスローされることを検証します。
+     */
+    @Test
+    void testProcessAutoDropTicks_Negative() {
+        GameState gameState = GameState.initialize(1L);
+
+        assertThrows(IllegalArgumentException.class, () -> gameState.processAutoDropTicks(-1));
+        assertSame(gameState, gameState.processAutoDropTicks(0), "0ティックでは状態は変化しないべき");
+    }
+
+    /**
+     * その場で回転できない場合にSRSの壁蹴りで回転することを検証します。
+     */
+    @Test
+    void testRotateTetromino_WallKick() {
+        // Arrange: x=6の列が塞がれているため、その場での回転（SRSの状態R、回転枠の3列目）は不可能
+        Block[][] grid = new Block[GameField.HEIGHT][GameField.WIDTH];
+        grid[6][6] = new Block(TetrominoType.T);
+        GameState gameState = new GameState(
+                GameStatus.PLAYING,
+                new Tetromino(TetrominoType.I, new Position(5, 5), Rotation.DEG_0),
+                new Tetromino(TetrominoType.O, new Position(4, 0), Rotation.DEG_0),
+                new GameField(grid),
+                0,
+                1,
+                0
+        );
+
+        // Act
+        GameState rotatedState = gameState.rotateTetromino();
+
+        // Assert: 2番目のオフセット (-2, 0) で回転（x=4の列、y=4〜7）
+        assertEquals(new Tetromino(TetrominoType.I, new Position(4, 5), Rotation.DEG_90),
+                rotatedState.currentTetromino());
+    }
+
+    /**
+     * 左壁に接したテトリミノが壁蹴りで反時計回りに回転できることを検証します。
+     */
+    @Test
+    void testRotateTetrominoCounterclockwise_WallKick() {
+        // Arrange: 左壁に接した縦向きのIミノ（DEG_90）
+        GameState gameState = new GameState(
+                GameStatus.PLAYING,
+                new Tetromino(TetrominoType.I, new Position(0, 5), Rotation.DEG_90),
+                new Tetromino(TetrominoType.O, new Position(4, 0), Rotation.DEG_0),
+                GameField.createEmpty(),
+                0,
+                1,
+                0
+        );
+
+        // Act
+        GameState rotatedState = gameState.rotateTetrominoCounterclockwise();
+
+        // Assert: その場ではx=-2にはみ出すため、オフセット (+2, 0) で回転（x=0〜3）
+        Tetromino rotated = rotatedState.currentTetromino();
+        assertEquals(Rotation.DEG_0, rotated.rotation());
+        assertEquals(new Position(1, 5), rotated.position());
+        assertTrue(gameState.field().canPlace(rotated));
+    }
+
+    /**
+     * 反時計回り回転と時計回り回転が互いに逆操作であることを検証します。
+     */
+    @Test
+    void testRotateTetrominoCounterclockwise_InverseOfClockwise() {
+        GameState gameState = GameState.initialize(8L).moveTetromino(Direction.DOWN).moveTetromino(Direction.DOWN);
+
+        GameState roundTrip = gameState.rotateTetromino().rotateTetrominoCounterclockwise();
+
+        assertEquals(gameState.currentTetromino(), roundTrip.currentTetromino());
+    }
 }
@@ -0,0 +1,134 @@
+package com.example.tetris.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link GravityModel}クラスの単体テスト。
+ *
+ * <p>経過時間による落下、固定猶予（ロックディレイ）、固定猶予のリセット上限、
+ * 自動落下との等価性を検証します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class GravityModelTest {
+
+    /**
+     * 落下間隔（レベル1: 1000ms）ごとに1マス落下し、端数の経過時間が持ち越されることを検証します。
+     */
+    @Test
+    void testAdvance_FallsByElapsedTime() {
+        // Arrange
+        GravityModel model = GravityModel.DEFAULT;
+        GameState state = GameState.initialize(1L);
+        GravityTimer timer = GravityTimer.start(state, 0L);
+
+        // Act
+        GravityStep first = model.advance(state, timer, 2500L);
+        GravityStep second = model.advance(first.state(), first.timer(), 3000L);
+
+        // Assert
+        assertEquals(2, first.autoDropTicks(), "2.5秒で2マス落下するべき");
+        assertEquals(500L, first.timer().fallProgressMillis(), "端数の経過時間は持ち越されるべき");
+        assertEquals(3, second.autoDropTicks() + first.autoDropTicks(), "持ち越した端数で3マス目が落下するべき");
+        assertEquals(state.currentTetromino().position().y() + 3,
+                second.state().currentTetromino().position().y());
+    }
+
+    /**
+     * 接地したテトリミノが固定猶予の満了まで固定されないことを検証します。
+     */
+    @Test
+    void testAdvance_LockDelay() {
+        // Arrange: 接地済みのテトリミノ
+        GravityModel model = new GravityModel(500, 15);
+        GameState state = GameState.initialize(2L);
+        state = state.processAutoDropTicks(state.field().dropDistance(state.currentTetromino()));
+        GravityTimer timer = GravityTimer.start(state, 0L);
+
+        // Act
+        GravityStep waiting = model.advance(state, timer, 499L);
+        GravityStep locked = model.advance(waiting.state(), waiting.timer(), 500L);
+
+        // Assert
+        assertSame(state, waiting.state(), "固定猶予中は状態が変化しないべき");
+        assertTrue(waiting.timer().grounded());
+        assertNotSame(state.pieceGenerator(), locked.state().pieceGenerator(), "固定猶予の満了で固定されるべき");
+        assertEquals(1, locked.autoDropTicks());
+        assertFalse(locked.timer().grounded(), "次のテトリミノは接地していないべき");
+    }
+
+    /**
+     * 接地中の移動で固定猶予がリセットされ、リセット回数の上限に達した後はリセットされないことを検証します。
+     */
+    @Test
+    void testOnInput_ResetLimit() {
+        // Arrange: 接地済みのテトリミノ、リセットは最大1回
+        GravityModel model = new GravityModel(500, 1);
+        GameState state = GameState.initialize(3L);
+        state = state.processAutoDropTicks(state.field().dropDistance(state.currentTetromino()));
+        GravityTimer timer = model.advance(state, GravityTimer.start(state, 0L), 400L).timer();
+
+        // Act: 400msで左移動（リセット）、800msで右移動（上限のためリセットされない）
+        GameState left = state.moveTetromino(Direction.LEFT);
+        GravityTimer afterLeft = model.onInput(state, left, timer, 400L);
+        GameState right = left.moveTetromino(Direction.RIGHT);
+        GravityTimer afterRight = model.onInput(left, right, afterLeft, 800L);
+
+        // Assert
+        assertEquals(400L, afterLeft.groundedSinceMillis(), "1回目の移動で固定猶予がリセットされるべき");
+        assertEquals(1, afterLeft.lockResets());
+        assertEquals(400L, afterRight.groundedSinceMillis(), "上限に達した後はリセットされないべき");
+        assertSame(right, model.advance(right, afterRight, 899L).state(), "900ms未満では固定されないべき");
+        assertNotSame(right.pieceGenerator(), model.advance(right, afterRight, 900L).state().pieceGenerator(),
+                "リセットされた固定猶予の満了時に固定されるべき");
+    }
+
+    /**
+     * 重力を進めた結果が、同じ回数の自動落下を適用した結果と一致することを検証します。
+     */
+    @Test
+    void testAdvance_EquivalentToAutoDropTicks() {
+        // Arrange
+        GravityModel model = new GravityModel(300, 15);
+        SplittableRandom random = new SplittableRandom(42L);
+        GameState state = GameState.initialize(4L);
+        GravityTimer timer = GravityTimer.start(state, 0L);
+        long now = 0L;
+
+        for (int i = 0; i < 200 && state.status() == GameStatus.PLAYING; i++) {
+            now += random.nextLong(5_000L);
+
+            // Act
+            GravityStep step = model.advance(state, timer, now);
+
+            // Assert
+            GameState expected = state.processAutoDropTicks(step.autoDropTicks());
+            assertEquals(expected.currentTetromino(), step.state().currentTetromino());
+            assertEquals(expected.field(), step.state().field());
+            assertEquals(expected.pieceGenerator(), step.state().pieceGenerator());
+            state = step.state();
+            timer = step.timer();
+        }
+    }
+
+    /**
+     * 不正な引数が渡された場合に例外がスローされることを検証します。
+     */
+    @Test
+    void testValidation() {
+        GameState state = GameState.initialize(5L);
+        GravityTimer timer = GravityTimer.start(state, 100L);
+
+        assertThrows(IllegalArgumentException.class, () -> new GravityModel(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new GravityModel(0, -1));
+        assertThrows(IllegalArgumentException.class, () -> GravityModel.DEFAULT.advance(state, timer, 99L));
+        assertThrows(NullPointerException.class, () -> GravityModel.DEFAULT.advance(null, timer, 100L));
+        assertEquals(0.5, GravityModel.DEFAULT.cellsPerTick(1, 500L), 1e-9);
+    }
+}
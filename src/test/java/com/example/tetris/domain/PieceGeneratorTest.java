@@ -0,0 +1,131 @@
+package com.example.tetris.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link PieceGenerator}と実装クラスの単体テスト。
+ *
+ * <p>このテストクラスは、シードによる再現性、7-bag方式の出現保証、
+ * 派生ジェネレーターの独立性を検証します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class PieceGeneratorTest {
+
+    /**
+     * ジェネレーターから指定数の種類を順に取り出します。
+     */
+    private static List<TetrominoType> draw(PieceGenerator generator, int count) {
+        List<TetrominoType> result = new ArrayList<>();
+        PieceGenerator current = generator;
+        for (int i = 0; i < count; i++) {
+            PieceDraw draw = current.next();
+            result.add(draw.type());
+            current = draw.generator();
+        }
+        return result;
+    }
+
+    @Test
+    @DisplayName("同じシードの一様ジェネレーターは同じ出現順序を返す")
+    void testUniform_SameSeedSameSequence() {
+        assertEquals(draw(PieceGenerator.uniform(42L), 100), draw(PieceGenerator.uniform(42L), 100),
+                "同じシードからは同じ出現順序が得られるべき");
+    }
+
+    @Test
+    @DisplayName("異なるシードの一様ジェネレーターは異なる出現順序を返す")
+    void testUniform_DifferentSeedDifferentSequence() {
+        assertNotEquals(draw(PieceGenerator.uniform(1L), 100), draw(PieceGenerator.uniform(2L), 100),
+                "異なるシードからは異なる出現順序が得られるべき");
+    }
+
+    @Test
+    @DisplayName("一様ジェネレーターは全種類を出現させる")
+    void testUniform_ProducesAllTypes() {
+        Set<TetrominoType> seen = EnumSet.noneOf(TetrominoType.class);
+        seen.addAll(draw(PieceGenerator.uniform(7L), 1000));
+
+        assertEquals(EnumSet.allOf(TetrominoType.class), seen, "1000回の選択で全種類が出現するべき");
+    }
+
+    @Test
+    @DisplayName("7-bagジェネレーターは7個ごとに全種類を1回ずつ出現させる")
+    void testSevenBag_EachBagContainsAllTypes() {
+        List<TetrominoType> sequence = draw(PieceGenerator.sevenBag(123L), 7 * 20);
+
+        for (int bag = 0; bag < 20; bag++) {
+            Set<TetrominoType> types = EnumSet.copyOf(sequence.subList(bag * 7, bag * 7 + 7));
+            assertEquals(7, types.size(), "バッグ" + bag + "には7種類すべてが含まれるべき");
+        }
+    }
+
+    @Test
+    @DisplayName("7-bagジェネレーターは同じ種類を3回以上連続させず、同じ種類の間隔は他の種類12個以内")
+    void testSevenBag_RepeatAndGapBounds() {
+        for (long seed = 0; seed < 50; seed++) {
+            List<TetrominoType> sequence = draw(PieceGenerator.sevenBag(seed), 7 * 100);
+
+            int run = 1;
+            int[] last = new int[TetrominoType.values().length];
+            Arrays.fill(last, -1);
+            for (int i = 0; i < sequence.size(); i++) {
+                TetrominoType type = sequence.get(i);
+                run = (i > 0 && sequence.get(i - 1) == type) ? run + 1 : 1;
+                assertTrue(run <= 2, "同じ種類の連続は最大2回であるべき: seed=" + seed + ", index=" + i);
+                if (last[type.ordinal()] >= 0) {
+                    int between = i - last[type.ordinal()] - 1;
+                    assertTrue(between <= 12, "同じ種類の間の他の種類は最大12個であるべき: seed=" + seed + ", index=" + i);
+                }
+                last[type.ordinal()] = i;
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("同じシードの7-bagジェネレーターは同じ出現順序を返す")
+    void testSevenBag_SameSeedSameSequence() {
+        assertEquals(draw(PieceGenerator.sevenBag(99L), 70), draw(PieceGenerator.sevenBag(99L), 70),
+                "同じシードからは同じ出現順序が得られるべき");
+    }
+
+    @Test
+    @DisplayName("next()は元のジェネレーターの状態を変更しない")
+    void testNext_DoesNotMutate() {
+        PieceGenerator generator = PieceGenerator.sevenBag(5L);
+
+        PieceDraw first = generator.next();
+        PieceDraw second = generator.next();
+
+        assertEquals(first, second, "同じジェネレーターから何度取り出しても同じ結果になるべき");
+    }
+
+    @Test
+    @DisplayName("split()は独立した出現順序を持つ同種のジェネレーターを返す")
+    void testSplit_Independent() {
+        PieceGenerator parent = PieceGenerator.sevenBag(2024L);
+        PieceGenerator child = parent.split();
+
+        assertInstanceOf(SevenBagPieceGenerator.class, child, "派生ジェネレーターは同じ実装種別であるべき");
+        assertNotEquals(draw(parent, 70), draw(child, 70), "派生ジェネレーターは異なる出現順序を持つべき");
+        assertEquals(child, parent.split(), "split()は決定的であるべき");
+    }
+
+    @Test
+    @DisplayName("7-bagジェネレーターは不正なビットマスクを拒否する")
+    void testSevenBag_InvalidMask() {
+        assertThrows(IllegalArgumentException.class, () -> new SevenBagPieceGenerator(0L, 1 << 7),
+                "存在しない種類のビットを含むマスクは拒否されるべき");
+    }
+}
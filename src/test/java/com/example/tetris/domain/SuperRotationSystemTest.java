@@ -0,0 +1,250 @@
+package com.example.tetris.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link SuperRotationSystem}クラスの単体テスト。
+ *
+ * <p>キックテーブルの構成と、壁蹴りによる回転の結果を検証します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class SuperRotationSystemTest {
+
+    /**
+     * すべての遷移でオフセットが最大5個で、空のフィールドでは回転が逆回転で元に戻り、
+     * 4回の回転で元の位置に戻ることを検証します。
+     */
+    @Test
+    void testKickOffsets_Shape() {
+        GameField empty = GameField.createEmpty();
+        for (TetrominoType type : TetrominoType.values()) {
+            for (Rotation from : Rotation.values()) {
+                for (boolean clockwise : new boolean[]{true, false}) {
+                    int[] kicks = SuperRotationSystem.kickOffsets(type, from, clockwise);
+                    int expected = (type == TetrominoType.O) ? 1 : SuperRotationSystem.MAX_KICK_TESTS;
+
+                    assertEquals(expected * 2, kicks.length, type + " " + from);
+
+                    Tetromino start = new Tetromino(type, new Position(4, 8), from);
+                    Tetromino turned = SuperRotationSystem.rotate(empty, start, clockwise);
+                    assertEquals(start, SuperRotationSystem.rotate(empty, turned, !clockwise), type + " " + from);
+                    for (int turn = 1; turn < 4; turn++) {
+                        turned = SuperRotationSystem.rotate(empty, turned, clockwise);
+                    }
+                    assertEquals(start, turned, type + " " + from);
+                }
+            }
+        }
+    }
+
+    /**
+     * SRSのy上向きのオフセットがフィールド座標（y軸下向き）に変換されていることを検証します。
+     */
+    @Test
+    void testKickOffsets_FieldCoordinates() {
+        // SRS: T型 0 -> R の3番目のオフセットは (-1, +1)（上に1マス）。T型のDEG_180がSRSの状態0（突起が上）
+        int[] kicks = SuperRotationSystem.kickOffsets(TetrominoType.T, Rotation.DEG_180, true);
+
+        assertEquals(-1, kicks[4]);
+        assertEquals(-1, kicks[5], "上方向へのキックはy座標の減少になるべき");
+    }
+
+    /**
+     * 空のフィールドでの回転がSRSの回転枠の中心まわりの回転と一致することを検証します。
+     */
+    @Test
+    void testRotate_InPlaceMatchesSrs() {
+        GameField empty = GameField.createEmpty();
+
+        // T型は突起の向きだけが変わり、中心のセルは動かない（突起が下 -> 左 -> 上 -> 右）
+        Tetromino t = new Tetromino(TetrominoType.T, new Position(4, 8), Rotation.DEG_0);
+        Tetromino tLeft = SuperRotationSystem.rotate(empty, t, true);
+        assertEquals(cells(3, 8, 4, 7, 4, 8, 4, 9), cells(tLeft));
+
+        // I型: SRSの状態0（回転枠の2行目）-> R（3列目）-> 2（3行目）-> L（2列目）
+        Tetromino i0 = new Tetromino(TetrominoType.I, new Position(4, 8), Rotation.DEG_0);
+        Tetromino iR = SuperRotationSystem.rotate(empty, i0, true);
+        Tetromino i2 = SuperRotationSystem.rotate(empty, iR, true);
+        Tetromino iL = SuperRotationSystem.rotate(empty, i2, true);
+        assertEquals(cells(3, 8, 4, 8, 5, 8, 6, 8), cells(i0));
+        assertEquals(cells(5, 7, 5, 8, 5, 9, 5, 10), cells(iR));
+        assertEquals(cells(3, 9, 4, 9, 5, 9, 6, 9), cells(i2), "0度と180度は1行ずれるべき");
+        assertEquals(cells(4, 7, 4, 8, 4, 9, 4, 10), cells(iL));
+    }
+
+    /**
+     * 右壁に接した縦向きのI型がSRSのR -> 2の2番目のオフセット(-1, 0)で回転することを検証します。
+     */
+    @Test
+    void testRotate_IWallKickRight() {
+        // Arrange: x=9の列の縦向き（SRSの状態R）
+        Tetromino vertical = new Tetromino(TetrominoType.I, new Position(9, 10), Rotation.DEG_90);
+        assertEquals(cells(9, 9, 9, 10, 9, 11, 9, 12), cells(vertical));
+
+        // Act
+        Tetromino rotated = SuperRotationSystem.rotate(GameField.createEmpty(), vertical, true);
+
+        // Assert: その場ではx=10にはみ出すため、左に1マス
+        assertEquals(Rotation.DEG_180, rotated.rotation());
+        assertEquals(cells(6, 11, 7, 11, 8, 11, 9, 11), cells(rotated));
+    }
+
+    /**
+     * 左壁に接した縦向きのI型がSRSのR -> 0の2番目のオフセット(+2, 0)で回転することを検証します。
+     */
+    @Test
+    void testRotate_IWallKickLeft() {
+        // Arrange: x=0の列の縦向き（SRSの状態R）
+        Tetromino vertical = new Tetromino(TetrominoType.I, new Position(0, 10), Rotation.DEG_90);
+
+        // Act
+        Tetromino rotated = SuperRotationSystem.rotate(GameField.createEmpty(), vertical, false);
+
+        // Assert: その場ではx=-2にはみ出すため、右に2マス
+        assertEquals(Rotation.DEG_0, rotated.rotation());
+        assertEquals(cells(0, 10, 1, 10, 2, 10, 3, 10), cells(rotated));
+    }
+
+    /**
+     * 床に接した横向きのI型がSRSの0 -> Rの5番目のオフセット(+1, +2)で回転することを検証します。
+     */
+    @Test
+    void testRotate_IFloorKick() {
+        // Arrange: 最下段の横向き（SRSの状態0）
+        Tetromino flat = new Tetromino(TetrominoType.I, new Position(4, 19), Rotation.DEG_0);
+        assertEquals(cells(3, 19, 4, 19, 5, 19, 6, 19), cells(flat));
+
+        // Act
+        Tetromino rotated = SuperRotationSystem.rotate(GameField.createEmpty(), flat, true);
+
+        // Assert: (0,0)・(-2,0)・(+1,0)・(-2,-1)は床にはみ出し、右に1マス・上に2マス
+        assertEquals(Rotation.DEG_90, rotated.rotation());
+        assertEquals(cells(6, 16, 6, 17, 6, 18, 6, 19), cells(rotated));
+    }
+
+    /**
+     * T-Spin Tripleの形で、T型がSRSの0 -> Rの5番目のオフセット(-1, -2)で穴に入ることを検証します。
+     */
+    @Test
+    void testRotate_TSpinTriple() {
+        // Arrange: 突起が上のT型（SRSの状態0）を、3列目の穴の右上の張り出しの下に置く
+        GameField field = field(
+                "...X......",
+                "..........",
+                "XXX.XXXXXX",
+                "XXX..XXXXX",
+                "XXX.XXXXXX");
+        Tetromino t = new Tetromino(TetrominoType.T, new Position(4, 16), Rotation.DEG_180);
+        assertEquals(cells(4, 15, 3, 16, 4, 16, 5, 16), cells(t));
+        assertTrue(field.canPlace(t));
+
+        // Act
+        Tetromino rotated = SuperRotationSystem.rotate(field, t, true);
+
+        // Assert: 突起が右（SRSの状態R）で穴に入り、3ラインを消去する
+        assertEquals(Rotation.DEG_270, rotated.rotation());
+        assertEquals(cells(3, 17, 3, 18, 4, 18, 3, 19), cells(rotated));
+        assertEquals(3, field.place(rotated).clearLines().clearedLineCount());
+    }
+
+    /**
+     * 左右反転したT-Spin Tripleの形で、T型がSRSの0 -> Lの5番目のオフセット(+1, -2)で穴に入ることを検証します。
+     */
+    @Test
+    void testRotate_TSpinTripleMirrored() {
+        // Arrange
+        GameField field = field(
+                "......X...",
+                "..........",
+                "XXXXXX.XXX",
+                "XXXXX..XXX",
+                "XXXXXX.XXX");
+        Tetromino t = new Tetromino(TetrominoType.T, new Position(5, 16), Rotation.DEG_180);
+
+        // Act
+        Tetromino rotated = SuperRotationSystem.rotate(field, t, false);
+
+        // Assert: 突起が左（SRSの状態L）で穴に入り、3ラインを消去する
+        assertEquals(Rotation.DEG_90, rotated.rotation());
+        assertEquals(cells(6, 17, 5, 18, 6, 18, 6, 19), cells(rotated));
+        assertEquals(3, field.place(rotated).clearLines().clearedLineCount());
+    }
+
+    /**
+     * 回転結果が常に配置可能な位置であり、すべて塞がれている場合はnullになることを検証します。
+     */
+    @Test
+    void testRotate_ResultAlwaysFits() {
+        // Arrange: 床に近い凹凸のあるフィールド
+        GameField field = GameField.createEmpty()
+                .place(new Tetromino(TetrominoType.I, new Position(2, 19), Rotation.DEG_0))
+                .place(new Tetromino(TetrominoType.O, new Position(7, 18), Rotation.DEG_0));
+
+        for (TetrominoType type : TetrominoType.values()) {
+            for (Rotation rotation : Rotation.values()) {
+                for (int x = 0; x < GameField.WIDTH; x++) {
+                    for (int y = 14; y < GameField.HEIGHT; y++) {
+                        Tetromino tetromino = new Tetromino(type, new Position(x, y), rotation);
+                        if (!field.canPlace(tetromino)) {
+                            continue;
+                        }
+
+                        // Act
+                        Tetromino rotated = SuperRotationSystem.rotate(field, tetromino, (x + y) % 2 == 0);
+
+                        // Assert
+                        if (rotated != null) {
+                            assertTrue(field.canPlace(rotated), rotated.toString());
+                        }
+                    }
+                }
+            }
+        }
+
+        // すべてのセルが埋まったフィールドでは回転できない
+        Block[][] grid = new Block[GameField.HEIGHT][GameField.WIDTH];
+        for (int y = 1; y < GameField.HEIGHT; y++) {
+            for (int x = 0; x < GameField.WIDTH; x++) {
+                grid[y][x] = new Block(TetrominoType.Z);
+            }
+        }
+        Tetromino flat = new Tetromino(TetrominoType.I, new Position(4, 0), Rotation.DEG_0);
+        assertNull(SuperRotationSystem.rotate(new GameField(grid), flat, true));
+    }
+
+    /**
+     * フィールドの下端の行を文字列（X: 占有）から生成します。
+     */
+    private static GameField field(String... bottomRows) {
+        Block[][] grid = new Block[GameField.HEIGHT][GameField.WIDTH];
+        for (int row = 0; row < bottomRows.length; row++) {
+            int y = GameField.HEIGHT - bottomRows.length + row;
+            for (int x = 0; x < GameField.WIDTH; x++) {
+                if (bottomRows[row].charAt(x) == 'X') {
+                    grid[y][x] = new Block(TetrominoType.Z);
+                }
+            }
+        }
+        return new GameField(grid);
+    }
+
+    private static Set<Position> cells(Tetromino tetromino) {
+        return new HashSet<>(tetromino.getBlockPositions());
+    }
+
+    private static Set<Position> cells(int... xy) {
+        Set<Position> cells = new HashSet<>();
+        for (int i = 0; i < xy.length; i += 2) {
+            cells.add(new Position(xy[i], xy[i + 1]));
+        }
+        return cells;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.tetris.domain.ai;
+
+import com.example.tetris.domain.GameCommand;
+import com.example.tetris.domain.GameField;
+import com.example.tetris.domain.GameState;
+import com.example.tetris.domain.GameStatus;
+import com.example.tetris.domain.TetrominoType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link PlacementPlanner}と{@link BoardEvaluator}の単体テスト。
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class PlacementPlannerTest {
+
+    @Test
+    @DisplayName("縦穴にI型を入れて4ラインを消去する配置を選択する")
+    void testPlan_PrefersLineClear() {
+        // 行16-19をx=0..8まで埋め、x=9を縦穴として空ける
+        List<int[]> cells = new ArrayList<>();
+        for (int y = 16; y < GameField.HEIGHT; y++) {
+            for (int x = 0; x < GameField.WIDTH - 1; x++) {
+                cells.add(new int[]{x, y});
+            }
+        }
+        GameState state = PlacementSearchTest.stateWith(
+                PlacementSearchTest.fieldWith(cells.toArray(new int[0][])),
+                PlacementSearchTest.spawn(TetrominoType.I)
+        );
+
+        Placement placement = new PlacementPlanner().plan(state).orElseThrow();
+        for (GameCommand command : placement.commands()) {
+            state = command.apply(state);
+        }
+
+        assertEquals(4, state.totalLinesCleared());
+    }
+
+    @Test
+    @DisplayName("時間予算が0でも先読みなしの評価で配置を返す")
+    void testPlan_ZeroBudgetFallsBackToShallowEvaluation() {
+        PlacementPlanner planner = new PlacementPlanner(BoardEvaluator.DEFAULT, Duration.ZERO);
+
+        Optional<Placement> placement = planner.plan(GameState.initialize(3L));
+
+        assertTrue(placement.isPresent());
+    }
+
+    @Test
+    @DisplayName("ゲームオーバーのGameStateでは配置を返さない")
+    void testPlan_GameOver() {
+        GameState initial = GameState.initialize(3L);
+        GameState gameOver = new GameState(
+                GameStatus.GAME_OVER,
+                initial.currentTetromino(),
+                initial.nextTetromino(),
+                initial.field(),
+                0,
+                1,
+                0,
+                initial.pieceGenerator()
+        );
+
+        assertTrue(new PlacementPlanner().plan(gameOver).isEmpty());
+    }
+
+    @Test
+    @DisplayName("先読み付きのAIは数百個のテトリミノを置いてもゲームオーバーにならない")
+    void testPlan_SurvivesLongGame() {
+        PlacementPlanner planner = new PlacementPlanner(BoardEvaluator.DEFAULT, Duration.ofSeconds(1));
+        GameState state = GameState.initialize(2026L);
+
+        for (int piece = 0; piece < 300; piece++) {
+            for (GameCommand command : planner.plan(state).orElseThrow().commands()) {
+                state = command.apply(state);
+            }
+        }
+
+        assertEquals(GameStatus.PLAYING, state.status());
+        assertTrue(state.totalLinesCleared() > 100);
+    }
+
+    @Test
+    @DisplayName("盤面評価は高さ・穴・凹凸に重みを掛けた合計になる")
+    void testEvaluate_Features() {
+        // x=0の高さ2（y=18に穴あり）、x=1の高さ1
+        GameField field = PlacementSearchTest.fieldWith(new int[][]{{0, 18}, {1, 19}});
+        BoardEvaluator evaluator = new BoardEvaluator(-1.0, 10.0, -100.0, -1000.0);
+
+        // aggregateHeight=3, holes=1, bumpiness=|2-1|+|1-0|=2, lines=1
+        assertEquals(-3.0 + 10.0 - 100.0 - 2000.0, evaluator.evaluate(field, 1), 1e-9);
+        assertEquals(0.0, evaluator.evaluate(GameField.createEmpty(), 0), 1e-9);
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.tetris.domain.ai;
+
+import com.example.tetris.domain.Block;
+import com.example.tetris.domain.Direction;
+import com.example.tetris.domain.GameCommand;
+import com.example.tetris.domain.GameField;
+import com.example.tetris.domain.GameState;
+import com.example.tetris.domain.GameStatus;
+import com.example.tetris.domain.PieceGenerator;
+import com.example.tetris.domain.Position;
+import com.example.tetris.domain.Rotation;
+import com.example.tetris.domain.Tetromino;
+import com.example.tetris.domain.TetrominoType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link PlacementSearch}の単体テスト。
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class PlacementSearchTest {
+
+    private final PlacementSearch search = new PlacementSearch();
+
+    @Test
+    @DisplayName("空のフィールドでは占有セルが異なる配置がすべて列挙される")
+    void testReachablePlacements_EmptyField() {
+        GameField field = GameField.createEmpty();
+
+        assertEquals(17, search.reachablePlacements(field, spawn(TetrominoType.I)).size());
+        assertEquals(9, search.reachablePlacements(field, spawn(TetrominoType.O)).size());
+        assertEquals(34, search.reachablePlacements(field, spawn(TetrominoType.T)).size());
+        assertEquals(17, search.reachablePlacements(field, spawn(TetrominoType.S)).size());
+        assertEquals(17, search.reachablePlacements(field, spawn(TetrominoType.Z)).size());
+        assertEquals(34, search.reachablePlacements(field, spawn(TetrominoType.J)).size());
+        assertEquals(34, search.reachablePlacements(field, spawn(TetrominoType.L)).size());
+    }
+
+    @Test
+    @DisplayName("各配置の操作列をGameStateに適用すると同じ位置に着地する")
+    void testReachablePlacements_CommandsReachPlacement() {
+        GameField field = fieldWith(
+                new int[][]{{0, 19}, {1, 19}, {2, 19}, {5, 19}, {6, 19}, {9, 19}, {0, 18}, {6, 18}, {7, 17}}
+        );
+
+        for (TetrominoType type : TetrominoType.values()) {
+            assertCommandsReachPlacements(field, type);
+        }
+    }
+
+    @Test
+    @DisplayName("段差の下への差し込み（下移動を含む配置）も列挙される")
+    void testReachablePlacements_IncludesTuck() {
+        // 行17のx=0..2に棚があり、その下の行18-19は空
+        GameField field = fieldWith(new int[][]{{0, 17}, {1, 17}, {2, 17}});
+
+        Placement tuck = search.reachablePlacements(field, spawn(TetrominoType.O)).stream()
+                .filter(p -> p.tetromino().position().equals(new Position(0, 18)))
+                .findFirst()
+                .orElseThrow();
+
+        assertTrue(tuck.commands().contains(GameCommand.MOVE_DOWN));
+        assertTrue(tuck.commands().contains(GameCommand.MOVE_LEFT));
+    }
+
+    @Test
+    @DisplayName("段差が多いフィールドでは同じ位置×回転状態から複数の高さに着地する配置がすべて列挙される")
+    void testReachablePlacements_MultiShelfField() {
+        // 行5・8・11・14・17のx=2..7に棚があり、両端の列から各棚の下に差し込める
+        int[][] cells = new int[30][];
+        for (int shelf = 0; shelf < 5; shelf++) {
+            for (int x = 2; x <= 7; x++) {
+                cells[shelf * 6 + (x - 2)] = new int[]{x, 5 + shelf * 3};
+            }
+        }
+        GameField field = fieldWith(cells);
+
+        for (TetrominoType type : TetrominoType.values()) {
+            assertCommandsReachPlacements(field, type);
+        }
+        // 位置×回転状態の数（64）を超える配置が列挙される
+        assertTrue(search.reachablePlacements(field, spawn(TetrominoType.T)).size() > 64);
+        assertTrue(search.reachablePlacements(field, spawn(TetrominoType.S)).size() > 64);
+    }
+
+    @Test
+    @DisplayName("テトリミノが現在位置に配置できない場合は空")
+    void testReachablePlacements_BlockedSpawn() {
+        GameField field = fieldWith(new int[][]{{4, 0}, {5, 0}});
+
+        assertTrue(search.reachablePlacements(field, spawn(TetrominoType.O)).isEmpty());
+    }
+
+    private void assertCommandsReachPlacements(GameField field, TetrominoType type) {
+        for (Placement placement : search.reachablePlacements(field, spawn(type))) {
+            GameState state = stateWith(field, spawn(type));
+            List<GameCommand> commands = placement.commands();
+            assertEquals(GameCommand.HARD_DROP, commands.get(commands.size() - 1));
+            for (GameCommand command : commands.subList(0, commands.size() - 1)) {
+                GameState next = command.apply(state);
+                assertNotSame(state, next, "操作列の各操作は実行可能であるべき: " + placement);
+                state = next;
+            }
+            GameState landed = state;
+            while (landed.moveTetromino(Direction.DOWN) != landed) {
+                landed = landed.moveTetromino(Direction.DOWN);
+            }
+            assertEquals(
+                    new HashSet<>(placement.tetromino().getBlockPositions()),
+                    new HashSet<>(landed.currentTetromino().getBlockPositions()),
+                    "着地位置が一致するべき: " + placement
+            );
+        }
+    }
+
+    static Tetromino spawn(TetrominoType type) {
+        return new Tetromino(type, new Position(4, 0), Rotation.DEG_0);
+    }
+
+    static GameField fieldWith(int[][] cells) {
+        Block[][] grid = new Block[GameField.HEIGHT][GameField.WIDTH];
+        for (int[] cell : cells) {
+            grid[cell[1]][cell[0]] = new Block(TetrominoType.O);
+        }
+        return new GameField(grid);
+    }
+
+    static GameState stateWith(GameField field, Tetromino current) {
+        return new GameState(
+                GameStatus.PLAYING,
+                current,
+                spawn(TetrominoType.T),
+                field,
+                0,
+                1,
+                0,
+                PieceGenerator.sevenBag(1L)
+        );
+    }
+}
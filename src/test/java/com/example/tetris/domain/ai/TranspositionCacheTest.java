@@ -0,0 +1,85 @@
+package com.example.tetris.domain.ai;
+
+import com.example.tetris.domain.GameField;
+import com.example.tetris.domain.GameState;
+import com.example.tetris.domain.TetrominoType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link TranspositionCache}の単体テスト。
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class TranspositionCacheTest {
+
+    @Test
+    @DisplayName("格納した値はキーで取得でき、ヒット・ミスが集計される")
+    void testGetAndPut_CountsHitsAndMisses() {
+        TranspositionCache<String> cache = new TranspositionCache<>(16);
+
+        assertEquals(Optional.empty(), cache.get(42L));
+        cache.put(42L, "value");
+        assertEquals(Optional.of("value"), cache.get(42L));
+
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(1, stats.stores());
+        assertEquals(0.5, stats.hitRate(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("同じスロットに異なる局面を格納すると古いエントリが置き換えられる")
+    void testPut_ReplacesCollidingEntry() {
+        TranspositionCache<String> cache = new TranspositionCache<>(4);
+
+        cache.put(1L, "first");
+        cache.put(1L + 4, "second");
+
+        assertTrue(cache.get(1L).isEmpty());
+        assertEquals(Optional.of("second"), cache.get(5L));
+        assertEquals(1, cache.stats().replacements());
+    }
+
+    @Test
+    @DisplayName("容量は2のべき乗に切り上げられ、不正な容量は拒否される")
+    void testCapacity() {
+        assertEquals(8, new TranspositionCache<String>(5).stats().capacity());
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionCache<String>(0));
+    }
+
+    @Test
+    @DisplayName("局面のキーはフィールド・現在のテトリミノ・次のテトリミノで決まる")
+    void testKey() {
+        GameState state = GameState.initialize(1L);
+        GameField field = state.field();
+        long key = TranspositionCache.key(field, state.currentTetromino(), TetrominoType.I);
+
+        assertEquals(key, TranspositionCache.key(GameField.createEmpty(), state.currentTetromino(), TetrominoType.I));
+        assertNotEquals(key, TranspositionCache.key(field, state.currentTetromino(), TetrominoType.O));
+        assertNotEquals(key, TranspositionCache.key(field, state.currentTetromino().moveLeft(), TetrominoType.I));
+    }
+
+    @Test
+    @DisplayName("プランナーは同じ局面で2回目以降キャッシュされた配置を返す")
+    void testPlanner_ReusesCachedPlacement() {
+        TranspositionCache<Placement> cache = new TranspositionCache<>(1024);
+        PlacementPlanner planner = new PlacementPlanner(BoardEvaluator.DEFAULT, Duration.ofSeconds(1), cache);
+        GameState state = GameState.initialize(9L);
+
+        Placement first = planner.plan(state).orElseThrow();
+        Placement second = planner.plan(state).orElseThrow();
+
+        assertSame(first, second);
+        assertEquals(1, cache.stats().hits());
+        assertEquals(1, cache.stats().stores());
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.tetris.domain.replay;
+
+import com.example.tetris.domain.GameCommand;
+import com.example.tetris.domain.GameState;
+import com.example.tetris.domain.PieceGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link ReplayRecorder}、{@link ReplayEngine}、{@link ReplayIndex}のテストクラス。
+ *
+ * <p>記録した操作列の再シミュレーションが元のゲームと一致すること、
+ * キーフレームを使ったシークが先頭からの再生と一致することを検証します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class ReplayEngineTest {
+
+    private static final GameCommand[] COMMANDS = GameCommand.values();
+
+    private PieceGenerator generator;
+    private ReplayRecorder recorder;
+
+    /**
+     * 記録と同時に適用した各操作後のGameState（添字 = 適用済み操作数）。
+     */
+    private List<GameState> history;
+
+    @BeforeEach
+    void setUp() {
+        generator = PieceGenerator.sevenBag(2025L);
+        recorder = new ReplayRecorder(generator);
+        history = new ArrayList<>();
+
+        // ランダムな操作列を記録しながら適用する
+        Random random = new Random(7L);
+        GameState state = GameState.initialize(generator);
+        history.add(state);
+        long tick = 0;
+        for (int i = 0; i < 2000; i++) {
+            tick += random.nextInt(40) == 0 ? 5000 : random.nextInt(20);
+            GameCommand command = COMMANDS[random.nextInt(COMMANDS.length)];
+            state = command.apply(state);
+            recorder.record(tick, command);
+            history.add(state);
+        }
+    }
+
+    private static void assertSameGame(GameState expected, GameState actual) {
+        assertEquals(expected.status(), actual.status(), "statusは一致するべき");
+        assertEquals(expected.currentTetromino(), actual.currentTetromino(), "currentTetrominoは一致するべき");
+        assertEquals(expected.nextTetromino(), actual.nextTetromino(), "nextTetrominoは一致するべき");
+        assertEquals(expected.pieceGenerator(), actual.pieceGenerator(), "pieceGeneratorは一致するべき");
+        assertEquals(expected.score(), actual.score(), "scoreは一致するべき");
+        assertEquals(expected.totalLinesCleared(), actual.totalLinesCleared(), "totalLinesClearedは一致するべき");
+        assertTrue(Arrays.deepEquals(expected.field().grid(), actual.field().grid()), "fieldは一致するべき");
+    }
+
+    @Test
+    @DisplayName("再シミュレーションの最終状態は記録時の最終状態と一致する")
+    void testSimulate_ReproducesFinalState() {
+        Replay replay = recorder.toReplay();
+
+        assertEquals(2000, replay.commandCount());
+        assertSameGame(history.get(2000), ReplayEngine.simulate(replay));
+    }
+
+    @Test
+    @DisplayName("入力ログは1操作あたりおおむね1バイトに収まる")
+    void testRecorder_IsCompact() {
+        Replay replay = recorder.toReplay();
+
+        assertTrue(replay.inputLog().length < 2000 * 2, "入力ログは操作数の2倍未満のバイト数に収まるべき");
+    }
+
+    @Test
+    @DisplayName("カーソルは記録されたティックと操作を順に返す")
+    void testCursor_DecodesTicks() {
+        ReplayRecorder small = new ReplayRecorder(generator);
+        small.record(0, GameCommand.MOVE_LEFT);
+        small.record(15, GameCommand.ROTATE);
+        small.record(16, GameCommand.AUTO_DROP);
+        small.record(1_000_000_000_000L, GameCommand.HARD_DROP);
+
+        ReplayCursor cursor = small.toReplay().cursor();
+        assertTrue(cursor.advance());
+        assertEquals(GameCommand.MOVE_LEFT, cursor.command());
+        assertEquals(0, cursor.tick());
+        assertTrue(cursor.advance());
+        assertEquals(GameCommand.ROTATE, cursor.command());
+        assertEquals(15, cursor.tick());
+        assertTrue(cursor.advance());
+        assertEquals(GameCommand.AUTO_DROP, cursor.command());
+        assertEquals(16, cursor.tick());
+        assertTrue(cursor.advance());
+        assertEquals(GameCommand.HARD_DROP, cursor.command());
+        assertEquals(1_000_000_000_000L, cursor.tick());
+        assertFalse(cursor.advance(), "末尾ではfalseを返すべき");
+    }
+
+    @Test
+    @DisplayName("ティックが逆行する記録は拒否される")
+    void testRecorder_RejectsDecreasingTick() {
+        ReplayRecorder small = new ReplayRecorder(generator);
+        small.record(10, GameCommand.MOVE_LEFT);
+
+        assertThrows(IllegalArgumentException.class, () -> small.record(9, GameCommand.MOVE_RIGHT));
+    }
+
+    @Test
+    @DisplayName("キーフレームは指定数のテトリミノ固定ごとに作成される")
+    void testIndex_CreatesKeyframes() {
+        ReplayIndex index = ReplayEngine.index(recorder.toReplay(), 5);
+
+        List<Keyframe> keyframes = index.keyframes();
+        assertEquals(0, keyframes.get(0).commandIndex(), "先頭は初期状態のキーフレームであるべき");
+        assertEquals(index.pieceCount() / 5 + 1, keyframes.size(), "5個固定ごとにキーフレームが作成されるべき");
+        for (Keyframe keyframe : keyframes) {
+            assertEquals(0, keyframe.pieceCount() % 5);
+            assertSameGame(history.get(keyframe.commandIndex()), keyframe.state());
+        }
+        assertSameGame(history.get(2000), index.finalState());
+    }
+
+    @Test
+    @DisplayName("キーフレームからのシークは先頭からの再生と一致する")
+    void testSeek_MatchesHistory() {
+        ReplayIndex index = ReplayEngine.index(recorder.toReplay(), 3);
+
+        for (int commandIndex = 0; commandIndex <= 2000; commandIndex += 37) {
+            assertSameGame(history.get(commandIndex), index.seek(commandIndex));
+        }
+        assertSameGame(history.get(2000), index.seek(2000));
+        assertThrows(IllegalArgumentException.class, () -> index.seek(2001));
+    }
+
+    @Test
+    @DisplayName("ティック指定のシークは指定ティック以前の操作をすべて適用する")
+    void testSeekToTick() {
+        Replay replay = recorder.toReplay();
+        ReplayIndex index = ReplayEngine.index(replay, 4);
+
+        // 各操作のティックを取得し、その時点の状態と比較する
+        ReplayCursor cursor = replay.cursor();
+        long[] ticks = new long[replay.commandCount()];
+        while (cursor.advance()) {
+            ticks[cursor.index() - 1] = cursor.tick();
+        }
+        for (int i = 0; i < ticks.length; i += 53) {
+            // 同じティックの後続操作もすべて適用される
+            int applied = i + 1;
+            while (applied < ticks.length && ticks[applied] == ticks[i]) {
+                applied++;
+            }
+            assertSameGame(history.get(applied), index.seekToTick(ticks[i]));
+        }
+    }
+
+    @Test
+    @DisplayName("piecesPerKeyframeが1未満の場合は例外をスローする")
+    void testIndex_InvalidInterval() {
+        Replay replay = recorder.toReplay();
+
+        assertThrows(IllegalArgumentException.class, () -> ReplayEngine.index(replay, 0));
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.tetris.domain.replay;
+
+import com.example.tetris.domain.GameCommand;
+import com.example.tetris.domain.PieceGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link Replay}レコードクラスの単体テスト。
+ *
+ * <p>バイナリ形式への変換と復元、不正な入力の拒否、防御的コピーを検証します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class ReplayTest {
+
+    private static Replay sampleReplay(PieceGenerator generator) {
+        ReplayRecorder recorder = new ReplayRecorder(generator);
+        recorder.record(0, GameCommand.MOVE_LEFT);
+        recorder.record(3, GameCommand.ROTATE);
+        recorder.record(1000, GameCommand.AUTO_DROP);
+        recorder.record(1000, GameCommand.HARD_DROP);
+        return recorder.toReplay();
+    }
+
+    @Test
+    @DisplayName("7-bagジェネレーターのReplayはバイナリ形式から復元できる")
+    void testBytesRoundTrip_SevenBag() {
+        PieceGenerator generator = PieceGenerator.sevenBag(42L).next().generator();
+        Replay replay = sampleReplay(generator);
+
+        Replay restored = Replay.fromBytes(replay.toBytes());
+
+        assertEquals(replay, restored, "復元したReplayは元のReplayと等価であるべき");
+        assertEquals(generator, restored.initialGenerator(), "バッグの残り状態も復元されるべき");
+        assertEquals(replay.sizeInBytes(), replay.toBytes().length);
+    }
+
+    @Test
+    @DisplayName("一様ジェネレーターのReplayはバイナリ形式から復元できる")
+    void testBytesRoundTrip_Uniform() {
+        Replay replay = sampleReplay(PieceGenerator.uniform(-5L));
+
+        assertEquals(replay, Replay.fromBytes(replay.toBytes()));
+    }
+
+    @Test
+    @DisplayName("不正なバイナリ形式は例外をスローする")
+    void testFromBytes_Invalid() {
+        byte[] bytes = sampleReplay(PieceGenerator.sevenBag(1L)).toBytes();
+
+        assertThrows(IllegalArgumentException.class, () -> Replay.fromBytes(new byte[]{1, 2, 3}));
+        assertThrows(IllegalArgumentException.class, () -> Replay.fromBytes(Arrays.copyOf(bytes, bytes.length - 1)));
+        assertThrows(NullPointerException.class, () -> Replay.fromBytes(null));
+    }
+
+    @Test
+    @DisplayName("入力ログは防御的にコピーされる")
+    void testInputLog_DefensiveCopy() {
+        byte[] log = {0, 1, 2};
+        Replay replay = new Replay(PieceGenerator.sevenBag(1L), log, 3);
+
+        log[0] = 7;
+        replay.inputLog()[1] = 7;
+
+        assertArrayEquals(new byte[]{0, 1, 2}, replay.inputLog(), "外部からの変更は内部状態に影響しないべき");
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.tetris.domain.rows;
+
+import com.example.tetris.domain.GameField;
+import com.example.tetris.domain.Position;
+import com.example.tetris.domain.Rotation;
+import com.example.tetris.domain.Tetromino;
+import com.example.tetris.domain.TetrominoType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link RowKernel}の実装の単体テスト。
+ *
+ * <p>スカラー版の結果をGameFieldの判定と照合し、ベクトル版が利用可能な場合は
+ * ランダムな盤面でスカラー版と結果が一致することを検証します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class RowKernelTest {
+
+    private static final int FULL_ROW = (1 << GameField.WIDTH) - 1;
+
+    /**
+     * スカラー版の列の高さがGameField.columnHeights()と一致することを検証します。
+     */
+    @Test
+    void testColumnHeights_MatchesGameField() {
+        // Arrange
+        GameField field = GameField.createEmpty()
+                .place(new Tetromino(TetrominoType.I, new Position(1, 19), Rotation.DEG_0))
+                .place(new Tetromino(TetrominoType.T, new Position(5, 18), Rotation.DEG_180))
+                .place(new Tetromino(TetrominoType.I, new Position(9, 16), Rotation.DEG_90));
+        int[] heights = new int[GameField.WIDTH];
+
+        // Act
+        ScalarRowKernel.INSTANCE.columnHeights(field.rowMasks(), 0, GameField.HEIGHT, GameField.WIDTH, heights, 0);
+
+        // Assert
+        assertArrayEquals(field.columnHeights(), heights);
+    }
+
+    /**
+     * スカラー版の衝突判定がGameField.canPlace()と一致することを検証します。
+     */
+    @Test
+    void testOverlaps_MatchesCanPlace() {
+        // Arrange
+        GameField field = GameField.createEmpty()
+                .place(new Tetromino(TetrominoType.O, new Position(4, 18), Rotation.DEG_0));
+        int[] rows = field.rowMasks();
+
+        for (int x = 1; x < GameField.WIDTH - 2; x++) {
+            Tetromino tetromino = new Tetromino(TetrominoType.T, new Position(x, 17), Rotation.DEG_0);
+            int[] piece = new int[GameField.HEIGHT];
+            for (Position block : tetromino.getBlockPositions()) {
+                piece[block.y()] |= 1 << block.x();
+            }
+
+            // Act & Assert
+            assertEquals(!field.canPlace(tetromino),
+                    ScalarRowKernel.INSTANCE.overlaps(rows, 0, piece, 0, GameField.HEIGHT));
+        }
+    }
+
+    /**
+     * 埋まった行の数を範囲内で数えることを検証します。
+     */
+    @Test
+    void testCountFullRows() {
+        // Arrange
+        int[] rows = {FULL_ROW, 0x1FF, FULL_ROW, FULL_ROW, 0};
+
+        // Act & Assert
+        assertEquals(3, ScalarRowKernel.INSTANCE.countFullRows(rows, 0, rows.length, FULL_ROW));
+        assertEquals(2, ScalarRowKernel.INSTANCE.countFullRows(rows, 1, 3, FULL_ROW));
+    }
+
+    /**
+     * 列数が範囲外の場合に例外がスローされることを検証します。
+     */
+    @Test
+    void testColumnHeights_InvalidWidth() {
+        int[] heights = new int[64];
+        assertThrows(IllegalArgumentException.class,
+                () -> ScalarRowKernel.INSTANCE.columnHeights(new int[20], 0, 20, 0, heights, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> ScalarRowKernel.INSTANCE.columnHeights(new int[20], 0, 20, 33, heights, 0));
+    }
+
+    /**
+     * 範囲が配列外の場合に例外がスローされることを検証します。
+     */
+    @Test
+    void testOutOfRange() {
+        int[] rows = new int[20];
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> ScalarRowKernel.INSTANCE.countFullRows(rows, 10, 11, FULL_ROW));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> ScalarRowKernel.INSTANCE.overlaps(rows, 0, new int[4], 0, 5));
+    }
+
+    /**
+     * フラグが無効な場合はスカラー版が選択されることを検証します。
+     */
+    @Test
+    void testGet_DefaultsToScalar() {
+        if (!Boolean.getBoolean(RowKernels.VECTOR_PROPERTY)) {
+            assertSame(ScalarRowKernel.INSTANCE, RowKernels.get());
+        }
+    }
+
+    /**
+     * ベクトル版が利用可能な場合、ランダムな盤面でスカラー版と同じ結果を返すことを検証します。
+     */
+    @Test
+    void testVectorKernel_MatchesScalar() {
+        Optional<RowKernel> vector = RowKernels.vector();
+        if (vector.isEmpty()) {
+            return;  // jdk.incubator.vectorが読み込まれていない環境
+        }
+        RowKernel scalar = ScalarRowKernel.INSTANCE;
+        RowKernel simd = vector.get();
+        Random random = new Random(42);
+
+        for (int trial = 0; trial < 500; trial++) {
+            // Arrange: 複数盤面を連続して格納し、行数・列数・開始位置を変える
+            int width = 1 + random.nextInt(Integer.SIZE);
+            int height = random.nextInt(40);
+            int offset = random.nextInt(8);
+            int[] rows = new int[offset + height + 8];
+            int[] piece = new int[rows.length];
+            for (int i = 0; i < rows.length; i++) {
+                int density = random.nextInt(4);
+                rows[i] = density == 0 ? 0 : density == 1 ? -1 : random.nextInt();
+                piece[i] = random.nextInt(16) == 0 ? 1 << random.nextInt(Integer.SIZE) : 0;
+            }
+
+            // Act & Assert
+            assertEquals(scalar.overlaps(rows, offset, piece, 0, height),
+                    simd.overlaps(rows, offset, piece, 0, height));
+            assertEquals(scalar.countFullRows(rows, offset, height, -1),
+                    simd.countFullRows(rows, offset, height, -1));
+
+            List<int[]> results = new ArrayList<>();
+            for (RowKernel kernel : List.of(scalar, simd)) {
+                int[] heights = new int[width + 4];
+                heights[width + 2] = -7;  // 範囲外は変更されない
+                kernel.columnHeights(rows, offset, height, width, heights, 2);
+                results.add(heights);
+            }
+            assertArrayEquals(results.get(0), results.get(1));
+        }
+    }
+}
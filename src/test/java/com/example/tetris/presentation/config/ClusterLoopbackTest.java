@@ -0,0 +1,417 @@
+package com.example.tetris.presentation.config;
+
+import com.example.tetris.TetrisApplication;
+import com.example.tetris.adapter.outbound.HttpSessionForwardingAdapter;
+import com.example.tetris.application.cluster.ConsistentHashRing;
+import com.example.tetris.application.cluster.SessionRouter;
+import com.example.tetris.application.dto.CommandBatchRequestDTO;
+import com.example.tetris.application.dto.CommandBatchResultDTO;
+import com.example.tetris.application.session.OffHeapSessionStore;
+import com.example.tetris.domain.GameCommand;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 複数ノードのクラスタの統合テストクラス。
+ *
+ * <p>1つのJVM内でループバックアドレスの異なるポートに3つのノードを起動し、
+ * どのノードで受け付けたREST・WebSocketの操作も所有ノードに転送されること、
+ * セッションが稼働中のままノード間を移動できることを検証します。</p>
+ *
+ * <h3>テスト対象：</h3>
+ * <ul>
+ *   <li>{@link ClusterConfig}によるノードの構成</li>
+ *   <li>POST /api/game/commands の所有ノードへの転送とセッションのスティッキー性</li>
+ *   <li>ハンドシェイクで発行したトークンの、他のノードからの使用</li>
+ *   <li>移動したセッションのトークンの失効と、ハンドシェイクのやり直し（409 Conflict）</li>
+ *   <li>STOMP（/app/game/commands）の所有ノードへの転送</li>
+ *   <li>セッションの移動（/internal/cluster/migrations）と、ノードのドレイン・再参加（/internal/cluster/drain・join）</li>
+ *   <li>共有シークレットのない内部APIへの要求の拒否</li>
+ * </ul>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see ClusterConfig
+ */
+class ClusterLoopbackTest {
+
+    private static final int NODES = 3;
+
+    /**
+     * 内部APIを認証するクラスタの共有シークレット。
+     */
+    private static final String SECRET = "loopback-cluster-secret";
+
+    /**
+     * セッションを止めてよい時間の上限（ナノ秒）。
+     */
+    private static final long MAX_PAUSE_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private static final List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+    private static final List<String> baseUrls = new ArrayList<>();
+    private static ConsistentHashRing ring;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * ハンドシェイクで発行されたトークン（セッションIDから）。
+     */
+    private final Map<String, String> tokens = new ConcurrentHashMap<>();
+
+    /**
+     * ループバックアドレスの空きポートで3つのノードを起動します。
+     *
+     * @throws IOException 空きポートを取得できない場合
+     */
+    @BeforeAll
+    static void startNodes() throws IOException {
+        int[] ports = new int[NODES];
+        for (int i = 0; i < NODES; i++) {
+            try (ServerSocket socket = new ServerSocket(0)) {
+                ports[i] = socket.getLocalPort();
+            }
+        }
+        StringJoiner nodes = new StringJoiner(",");
+        for (int i = 0; i < NODES; i++) {
+            baseUrls.add("http://127.0.0.1:" + ports[i]);
+            nodes.add("node-" + i + "=" + baseUrls.get(i));
+        }
+        for (int i = 0; i < NODES; i++) {
+            contexts.add(new SpringApplicationBuilder(TetrisApplication.class).run(
+                    "--spring.profiles.active=test",
+                    "--server.address=127.0.0.1",
+                    "--server.port=" + ports[i],
+                    "--spring.datasource.url=jdbc:h2:mem:cluster-node-" + i,
+                    "--tetris.cluster.self=node-" + i,
+                    "--tetris.cluster.secret=" + SECRET,
+                    "--tetris.cluster.nodes=" + nodes));
+        }
+        ring = contexts.get(0).getBean(SessionRouter.class).ring();
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        contexts.forEach(ConfigurableApplicationContext::close);
+        contexts.clear();
+        baseUrls.clear();
+    }
+
+    private static int ownerIndex(String sessionId) {
+        return Integer.parseInt(ring.ownerOf(sessionId).id().substring("node-".length()));
+    }
+
+    private static OffHeapSessionStore store(int node) {
+        return contexts.get(node).getBean(OffHeapSessionStore.class);
+    }
+
+    private HttpResponse<String> post(int node, String path, Object body) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrls.get(node) + path));
+        if (path.startsWith("/internal/")) {
+            request.header(HttpSessionForwardingAdapter.SECRET_HEADER, SECRET);
+        }
+        if (body == null) {
+            request.POST(HttpRequest.BodyPublishers.noBody());
+        } else {
+            request.header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * セッションを開始してトークンを保持します。
+     */
+    private HttpResponse<String> open(int node, String sessionId) throws Exception {
+        HttpResponse<String> opened = post(node, "/api/game/sessions/" + sessionId, null);
+        if (opened.statusCode() == 200) {
+            tokens.put(sessionId, objectMapper.readTree(opened.body()).get("token").asText());
+        }
+        return opened;
+    }
+
+    /**
+     * 保持しているトークンで操作を送ります（トークンがない場合、または409 Conflictの場合はハンドシェイクからやり直します）。
+     */
+    private HttpResponse<String> command(int node, String sessionId, GameCommand command) throws Exception {
+        for (int attempt = 0; ; attempt++) {
+            String token = tokens.get(sessionId);
+            if (token == null) {
+                HttpResponse<String> opened = open(node, sessionId);
+                if (opened.statusCode() != 200) {
+                    return opened;
+                }
+                token = tokens.get(sessionId);
+            }
+            HttpResponse<String> response = post(node, "/api/game/commands",
+                    new CommandBatchRequestDTO(sessionId, List.of(command), token));
+            if (response.statusCode() != 409 || attempt > 0) {
+                return response;
+            }
+            tokens.remove(sessionId, token);
+        }
+    }
+
+    @Test
+    @DisplayName("どのノードに送った操作も、所有ノードの同じセッションに適用される")
+    void testCommands_StickyToOwner() throws Exception {
+        for (int s = 0; s < 30; s++) {
+            // Arrange
+            String sessionId = "rest-" + s;
+            int owner = ownerIndex(sessionId);
+
+            // Act: 異なる2つのノードに操作を送る
+            HttpResponse<String> first = command(s % NODES, sessionId, GameCommand.MOVE_LEFT);
+            HttpResponse<String> second = command((s + 1) % NODES, sessionId, GameCommand.HARD_DROP);
+
+            // Assert
+            assertThat(first.statusCode()).isEqualTo(200);
+            assertThat(second.statusCode()).isEqualTo(200);
+            for (int node = 0; node < NODES; node++) {
+                assertThat(store(node).contains(sessionId)).as("node-%d: %s", node, sessionId).isEqualTo(node == owner);
+            }
+            assertThat(store(owner).findReplay(sessionId).orElseThrow().commandCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("ハンドシェイクで発行されたトークンは、セッションIDを添えれば他のノードでも使用できる")
+    void testToken_RoutedBySessionId() throws Exception {
+        // Arrange: 所有ノード以外の2つのノード
+        String sessionId = "token-session";
+        int owner = ownerIndex(sessionId);
+        int handshake = (owner + 1) % NODES;
+        int other = (owner + 2) % NODES;
+
+        // Act
+        HttpResponse<String> opened = post(handshake, "/api/game/sessions/" + sessionId, null);
+        String token = objectMapper.readTree(opened.body()).get("token").asText();
+        HttpResponse<String> withSessionId = post(other, "/api/game/commands",
+                new CommandBatchRequestDTO(sessionId, List.of(GameCommand.HARD_DROP), token));
+        HttpResponse<String> withoutSessionId = post(other, "/api/game/commands",
+                new CommandBatchRequestDTO(null, List.of(GameCommand.HARD_DROP), token));
+        HttpResponse<String> withoutToken = post(owner, "/api/game/commands",
+                new CommandBatchRequestDTO(sessionId, List.of(GameCommand.HARD_DROP)));
+
+        // Assert
+        assertThat(opened.statusCode()).isEqualTo(200);
+        assertThat(withSessionId.statusCode()).isEqualTo(200);
+        JsonNode accepted = objectMapper.readTree(withSessionId.body()).get("accepted");
+        assertThat(accepted.get(0).asBoolean()).isTrue();
+        assertThat(withoutSessionId.statusCode()).as("トークンは発行したノードでのみ有効").isEqualTo(400);
+        assertThat(withoutToken.statusCode()).as("公開APIはトークンのない操作を受け付けない").isEqualTo(400);
+        assertThat(store(owner).contains(sessionId)).isTrue();
+        assertThat(store(handshake).contains(sessionId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("WebSocketで送った操作は所有ノードに転送され、接続中のノードから応答される")
+    void testWebSocket_ForwardedToOwner() throws Exception {
+        // Arrange: 所有ノード以外のノードに接続
+        String sessionId = "ws-session";
+        int owner = ownerIndex(sessionId);
+        int connected = (owner + 1) % NODES;
+        assertThat(open(connected, sessionId).statusCode()).isEqualTo(200);
+        WebSocketStompClient stompClient = new WebSocketStompClient(
+                new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        StompSession session = stompClient.connectAsync(baseUrls.get(connected).replace("http", "ws") + "/ws/game",
+                new StompSessionHandlerAdapter() {}).get(5, TimeUnit.SECONDS);
+
+        CompletableFuture<CommandBatchResultDTO> result = new CompletableFuture<>();
+        session.subscribe("/topic/game/commands/*", new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return CommandBatchResultDTO.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                result.complete((CommandBatchResultDTO) payload);
+            }
+        });
+
+        try {
+            // Act: 購読の登録を待ってから送信する
+            Thread.sleep(200);
+            session.send("/app/game/commands",
+                    new CommandBatchRequestDTO(sessionId, List.of(GameCommand.HARD_DROP), tokens.get(sessionId)));
+
+            // Assert
+            assertThat(result.get(5, TimeUnit.SECONDS).accepted()).containsExactly(true);
+            assertThat(store(owner).contains(sessionId)).isTrue();
+            assertThat(store(connected).contains(sessionId)).isFalse();
+        } finally {
+            session.disconnect();
+            stompClient.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("移動したセッションは入力ログを保ち、どのノードからの操作も移動先に適用される")
+    void testMigration_SessionContinuesOnTarget() throws Exception {
+        // Arrange
+        String sessionId = "migrate-session";
+        int owner = ownerIndex(sessionId);
+        int target = (owner + 1) % NODES;
+        assertThat(command(owner, sessionId, GameCommand.HARD_DROP).statusCode()).isEqualTo(200);
+        String token = tokens.get(sessionId);
+
+        // Act
+        HttpResponse<String> migrated = post(owner,
+                "/internal/cluster/migrations/" + sessionId + "?target=node-" + target, null);
+
+        // Assert
+        assertThat(migrated.statusCode()).isEqualTo(200);
+        JsonNode result = objectMapper.readTree(migrated.body());
+        assertThat(result.get("migrated").asBoolean()).isTrue();
+        assertThat(result.get("pauseNanos").asLong()).isLessThan(MAX_PAUSE_NANOS);
+        HttpResponse<String> stale = post(target, "/api/game/commands",
+                new CommandBatchRequestDTO(sessionId, List.of(GameCommand.HARD_DROP), token));
+        assertThat(stale.statusCode()).as("移動前のトークンはハンドシェイクのやり直しを求めるべき").isEqualTo(409);
+        assertThat(stale.headers().firstValue("X-Session-Owner")).isEmpty();
+        tokens.remove(sessionId);
+        for (int node = 0; node < NODES; node++) {
+            assertThat(command(node, sessionId, GameCommand.HARD_DROP).statusCode()).isEqualTo(200);
+        }
+        assertThat(store(owner).contains(sessionId)).isFalse();
+        assertThat(store(target).findReplay(sessionId).orElseThrow().commandCount()).isEqualTo(1 + NODES);
+    }
+
+    @Test
+    @DisplayName("共有シークレットのない内部APIへの要求は、入力ログの引き渡しを含めて拒否される")
+    void testInternalApi_RequiresClusterSecret() throws Exception {
+        // Arrange: 細工した入力ログの引き渡し
+        String sessionId = "forged-session";
+        int owner = ownerIndex(sessionId);
+        byte[] forged = new byte[16];
+
+        // Act
+        HttpResponse<String> handOff = httpClient.send(HttpRequest.newBuilder(
+                        URI.create(baseUrls.get(owner) + "/internal/cluster/handoffs/" + sessionId))
+                .header("Content-Type", "application/octet-stream")
+                .header(HttpSessionForwardingAdapter.SECRET_HEADER, "wrong-cluster-secret")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(forged)).build(), HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> drain = httpClient.send(HttpRequest.newBuilder(
+                        URI.create(baseUrls.get(owner) + "/internal/cluster/drain"))
+                .POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.ofString());
+
+        // Assert
+        assertThat(handOff.statusCode()).isEqualTo(401);
+        assertThat(drain.statusCode()).isEqualTo(401);
+        assertThat(store(owner).contains(sessionId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("ドレインしたノードのセッションは操作を受け付けたまま移動し、再参加で戻る")
+    void testDrainAndJoin_SessionsKeepRunning() throws Exception {
+        // Arrange: ドレインするノードが所有するセッション
+        int drained = NODES - 1;
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (int s = 0; counts.size() < 10; s++) {
+            String sessionId = "drain-" + s;
+            if (ownerIndex(sessionId) == drained) {
+                assertThat(command(s % NODES, sessionId, GameCommand.HARD_DROP).statusCode()).isEqualTo(200);
+                counts.put(sessionId, 1);
+            }
+        }
+        // ドレイン中も他のノードから操作を送り続ける
+        List<String> sessionIds = List.copyOf(counts.keySet());
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger sent = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        Thread client = new Thread(() -> {
+            for (int i = 0; running.get(); i++) {
+                String sessionId = sessionIds.get(i % sessionIds.size());
+                try {
+                    int status = command(i % (NODES - 1), sessionId, GameCommand.MOVE_LEFT).statusCode();
+                    if (status == 200) {
+                        synchronized (counts) {
+                            counts.merge(sessionId, 1, Integer::sum);
+                        }
+                        sent.incrementAndGet();
+                    } else {
+                        failures.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                }
+            }
+        });
+        client.start();
+
+        try {
+            // Act
+            Thread.sleep(100);
+            HttpResponse<String> drain = post(drained, "/internal/cluster/drain", null);
+            Thread.sleep(100);
+            running.set(false);
+            client.join(5_000);
+
+            // Assert
+            assertThat(drain.statusCode()).isEqualTo(200);
+            JsonNode result = objectMapper.readTree(drain.body());
+            assertThat(result.get("failed").asInt()).isZero();
+            assertThat(result.get("migrated").asInt()).isGreaterThanOrEqualTo(sessionIds.size());
+            assertThat(result.get("maxPauseNanos").asLong()).isLessThan(MAX_PAUSE_NANOS);
+            assertThat(failures.get()).as("ドレイン中の操作はすべて受け付けられるべき（移動したセッションはハンドシェイクをやり直す）").isZero();
+            assertThat(sent.get()).isPositive();
+            assertThat(store(drained).size()).isZero();
+            for (String sessionId : sessionIds) {
+                String ownerId = contexts.get(0).getBean(SessionRouter.class).ownerOf(sessionId).id();
+                int owner = Integer.parseInt(ownerId.substring("node-".length()));
+                assertThat(owner).isNotEqualTo(drained);
+                assertThat(store(owner).findReplay(sessionId).orElseThrow().commandCount())
+                        .as(sessionId).isEqualTo(counts.get(sessionId));
+            }
+        } finally {
+            running.set(false);
+            // Act: 再参加してリングを元に戻す
+            assertThat(post(drained, "/internal/cluster/join", null).statusCode()).isEqualTo(204);
+        }
+
+        // Assert: セッションは元の所有ノードに戻り、どのノードからも続けて操作できる
+        for (String sessionId : sessionIds) {
+            assertThat(store(drained).contains(sessionId)).as(sessionId).isTrue();
+            assertThat(command(0, sessionId, GameCommand.HARD_DROP).statusCode()).isEqualTo(200);
+            assertThat(store(drained).findReplay(sessionId).orElseThrow().commandCount())
+                    .isEqualTo(counts.get(sessionId) + 1);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.tetris.domain.rows;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.Objects;
+
+/**
+ * Vector API（{@code jdk.incubator.vector}）による{@link RowKernel}の実装。
+ *
+ * <p>衝突判定と埋まった行の計数は行をレーンに割り当て、複数行を1命令で比較します。
+ * 列の高さは列をレーンに割り当て、各行を全レーンにブロードキャストして列のビットを判定します。</p>
+ *
+ * <p>このクラスはコンパイル時・実行時に{@code --add-modules jdk.incubator.vector}が必要なため、
+ * 専用のソースセット（{@code src/vector/java}）でコンパイルし、直接参照せず{@link RowKernels#get()}を
+ * 経由して使用します。</p>
+ *
+ * @author AI-DLC Development Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+final class VectorRowKernel implements RowKernel {
+
+    /**
+     * 実行環境で最適なベクトル長。
+     */
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    /**
+     * 列xのビット（1 << x）。末尾のチャンクで範囲外を読まないようにベクトル長分の余白を持ちます。
+     */
+    private static final int[] COLUMN_BITS = new int[Integer.SIZE + SPECIES.length()];
+
+    static {
+        for (int x = 0; x < Integer.SIZE; x++) {
+            COLUMN_BITS[x] = 1 << x;
+        }
+    }
+
+    /**
+     * {@link RowKernels}から反射的に生成されます。
+     */
+    VectorRowKernel() {
+    }
+
+    @Override
+    public boolean overlaps(int[] rows, int offset, int[] piece, int pieceOffset, int length) {
+        Objects.checkFromIndexSize(offset, length, rows.length);
+        Objects.checkFromIndexSize(pieceOffset, length, piece.length);
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            IntVector field = IntVector.fromArray(SPECIES, rows, offset + i);
+            IntVector cells = IntVector.fromArray(SPECIES, piece, pieceOffset + i);
+            if (field.and(cells).compare(VectorOperators.NE, 0).anyTrue()) {
+                return true;
+            }
+        }
+        for (; i < length; i++) {
+            if ((rows[offset + i] & piece[pieceOffset + i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int countFullRows(int[] rows, int offset, int length, int fullRow) {
+        Objects.checkFromIndexSize(offset, length, rows.length);
+        int count = 0;
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            count += IntVector.fromArray(SPECIES, rows, offset + i)
+                    .compare(VectorOperators.EQ, fullRow)
+                    .trueCount();
+        }
+        for (; i < length; i++) {
+            if (rows[offset + i] == fullRow) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void columnHeights(int[] rows, int offset, int height, int width, int[] heights, int heightsOffset) {
+        RowKernels.columnsMask(width);
+        Objects.checkFromIndexSize(offset, height, rows.length);
+        Objects.checkFromIndexSize(heightsOffset, width, heights.length);
+
+        for (int column = 0; column < width; column += SPECIES.length()) {
+            VectorMask<Integer> inRange = SPECIES.indexInRange(column, width);
+            IntVector bits = IntVector.fromArray(SPECIES, COLUMN_BITS, column);
+            IntVector result = IntVector.zero(SPECIES);
+            VectorMask<Integer> found = inRange.not();
+            for (int y = 0; y < height && !found.allTrue(); y++) {
+                VectorMask<Integer> hit = bits.and(rows[offset + y])
+                        .compare(VectorOperators.NE, 0)
+                        .andNot(found);
+                result = result.blend(height - y, hit);
+                found = found.or(hit);
+            }
+            result.intoArray(heights, heightsOffset + column, inRange);
+        }
+    }
+}